@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.annotations.beans;
+
+import java.lang.annotation.*;
+
+/**
+ * <h2 class="en-US">Binary Field Tag Annotation</h2>
+ * <span class="en-US">
+ *     <p>Annotation the stable tag number of field in binary format of BeanObject</p>
+ *     <p>Tag number must between 1 and 268435455 and unique in class hierarchy,
+ *     fields without annotation using tag number calculated by field name.
+ *     Fields which tag number not found will be skipped when decoding, so the bean class can add/remove fields.</p>
+ * </span>
+ * <h2 class="zh-CN">二进制属性标签注解</h2>
+ * <span class="zh-CN">
+ *     <p>标注BeanObject二进制格式中属性的固定标签编号</p>
+ *     <p>标签编号必须在1到268435455之间，并且在类继承体系中唯一，未标注的属性使用根据属性名计算的标签编号。
+ *     解码时会跳过标签编号未找到的属性，所以JavaBean类可以增加/删除属性。</p>
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 00:41:17 $
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD})
+public @interface BinaryTag {
+	/**
+	 * <h3 class="en-US">Tag number of field</h3>
+	 * <h3 class="zh-CN">属性的标签编号</h3>
+	 *
+	 * @return	<span class="en-US">Tag number</span>
+	 * 			<span class="zh-CN">标签编号</span>
+	 */
+	int value();
+}
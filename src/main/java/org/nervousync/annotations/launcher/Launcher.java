@@ -16,6 +16,7 @@
  */
 package org.nervousync.annotations.launcher;
 
+import org.nervousync.commons.Globals;
 import org.nervousync.enumerations.launcher.StartupType;
 
 import java.lang.annotation.*;
@@ -25,7 +26,7 @@ import java.lang.annotation.*;
  * <h3 class="zh-CN">启动器类的标注</h3>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Jun 28, 2022 15:25:33 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:46:25 $
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
@@ -39,4 +40,22 @@ public @interface Launcher {
 	 * <span class="zh-CN">启动类型枚举值</span>
 	 */
 	StartupType value() default StartupType.MANUAL;
+
+	/**
+	 * <span class="en-US">Launcher classes which must be started before current launcher</span>
+	 * <span class="zh-CN">必须在当前启动器之前启动的启动器类</span>
+	 *
+	 * @return <span class="en-US">Dependency launcher classes</span>
+	 * <span class="zh-CN">依赖的启动器类</span>
+	 */
+	Class<?>[] dependencies() default {};
+
+	/**
+	 * <span class="en-US">Startup timeout (Unit: milliseconds), zero or negative value means no limit</span>
+	 * <span class="zh-CN">启动超时时间（单位：毫秒），零或负数表示不限制</span>
+	 *
+	 * @return <span class="en-US">Startup timeout</span>
+	 * <span class="zh-CN">启动超时时间</span>
+	 */
+	long timeout() default Globals.DEFAULT_VALUE_LONG;
 }
@@ -21,6 +21,7 @@ import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlTransient;
 import org.nervousync.annotations.beans.OutputConfig;
 import org.nervousync.commons.Globals;
+import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.utils.*;
 
 import java.io.*;
@@ -45,7 +46,7 @@ import java.util.Optional;
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Jan 6, 2021 17:10:23 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 01:12:08 $
  */
 @XmlTransient
 @XmlAccessorType(XmlAccessType.NONE)
@@ -177,6 +178,36 @@ public abstract class BeanObject implements Serializable {
         return StringUtils.objectToString(this, StringUtils.StringType.XML, formattedOutput, outputFragment, encoding);
     }
 
+    /**
+     * <h3 class="en-US">Convert current object to compact binary data</h3>
+     * <h3 class="zh-CN">转换当前实例对象为紧凑的二进制数据</h3>
+     *
+     * @return <span class="en-US">Binary data bytes</span>
+     * <span class="zh-CN">二进制字节数组</span>
+     * @throws DataInvalidException <span class="en-US">If current class not supported by binary codec or field value cannot serialize</span>
+     *                              <span class="zh-CN">如果当前类不被二进制编解码器支持或属性值无法序列化</span>
+     * @see BinaryCodec
+     */
+    public final byte[] toBinary() throws DataInvalidException {
+        return BinaryCodec.encode(this);
+    }
+
+    /**
+     * <h3 class="en-US">Write compact binary data of current object to given output stream</h3>
+     * <h3 class="zh-CN">将当前实例对象的紧凑二进制数据写入给定的输出流</h3>
+     *
+     * @param outputStream <span class="en-US">Output stream instance</span>
+     *                     <span class="zh-CN">输出流实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If current class not supported by binary codec or field value cannot serialize</span>
+     *                              <span class="zh-CN">如果当前类不被二进制编解码器支持或属性值无法序列化</span>
+     * @throws IOException          <span class="en-US">If an I/O error occurs</span>
+     *                              <span class="zh-CN">如果出现I/O错误</span>
+     * @see BinaryCodec
+     */
+    public final void writeBinary(final OutputStream outputStream) throws DataInvalidException, IOException {
+        BinaryCodec.encode(this, outputStream);
+    }
+
     /**
      * (non-javadoc)
      *
@@ -0,0 +1,1383 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.beans.core;
+
+import org.nervousync.annotations.beans.BinaryTag;
+import org.nervousync.commons.Globals;
+import org.nervousync.exceptions.utils.DataInvalidException;
+import org.nervousync.utils.*;
+
+import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <h2 class="en-US">Binary codec of BeanObject</h2>
+ * <span class="en-US">
+ *     <p>Compact binary format generated by field metadata of BeanObject, codec of each class was precomputed and cached.</p>
+ *     <p>Data format: magic bytes "NB", format version, varint length of bean data and bean data.
+ *     Bean data was sequence of fields, each field contains varint key (tag number and wire type) and field value,
+ *     null value and primitive default value were not written.
+ *     Integer values were written as ZigZag varint, float values were written as fixed length bytes,
+ *     string, nested bean, collection, array and map were written as length-delimited data,
+ *     collection, array and map using null bitmap to mark null elements.
+ *     Values which type not supported or runtime class was not the declared class,
+ *     were written as length-delimited Java serialization data.</p>
+ *     <p>Fields were identified by tag number, unknown fields and fields which wire type changed will be skipped
+ *     when decoding, missing fields keep the default value.</p>
+ * </span>
+ * <h2 class="zh-CN">BeanObject的二进制编解码器</h2>
+ * <span class="zh-CN">
+ *     <p>根据BeanObject的属性元数据生成的紧凑二进制格式，每个类的编解码器被预先计算并缓存。</p>
+ *     <p>数据格式：魔数"NB"、格式版本、JavaBean数据的变长长度和JavaBean数据。
+ *     JavaBean数据为属性序列，每个属性包含变长键值（标签编号和传输类型）和属性值，空值和基本类型的默认值不写入。
+ *     整数使用ZigZag变长整数写入，浮点数使用固定长度写入，字符串、嵌套JavaBean、集合、数组和映射表使用带长度前缀的数据写入，
+ *     集合、数组和映射表使用空值位图标记空元素。不支持的数据类型以及运行时类不是声明类的数据，使用带长度前缀的Java序列化数据写入。</p>
+ *     <p>属性通过标签编号识别，解码时将跳过未知的属性和传输类型改变的属性，缺失的属性保留默认值。</p>
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 00:52:36 $
+ */
+public final class BinaryCodec {
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(BinaryCodec.class);
+    /**
+     * <span class="en-US">Magic bytes of binary data</span>
+     * <span class="zh-CN">二进制数据的魔数</span>
+     */
+    private static final byte[] MAGIC_BYTES = {'N', 'B'};
+    /**
+     * <span class="en-US">Current format version</span>
+     * <span class="zh-CN">当前的格式版本</span>
+     */
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * <span class="en-US">Header length, include magic bytes and format version</span>
+     * <span class="zh-CN">头部长度，包括魔数和格式版本</span>
+     */
+    private static final int HEADER_LENGTH = MAGIC_BYTES.length + 1;
+    /**
+     * <span class="en-US">Wire type: varint</span>
+     * <span class="zh-CN">传输类型：变长整数</span>
+     */
+    private static final int WIRE_VARINT = 0;
+    /**
+     * <span class="en-US">Wire type: fixed 64 bits</span>
+     * <span class="zh-CN">传输类型：固定64位</span>
+     */
+    private static final int WIRE_FIXED64 = 1;
+    /**
+     * <span class="en-US">Wire type: length-delimited</span>
+     * <span class="zh-CN">传输类型：带长度前缀</span>
+     */
+    private static final int WIRE_LENGTH = 2;
+    /**
+     * <span class="en-US">Wire type: length-delimited Java serialization data</span>
+     * <span class="zh-CN">传输类型：带长度前缀的Java序列化数据</span>
+     */
+    private static final int WIRE_SERIALIZED = 3;
+    /**
+     * <span class="en-US">Wire type: fixed 32 bits</span>
+     * <span class="zh-CN">传输类型：固定32位</span>
+     */
+    private static final int WIRE_FIXED32 = 5;
+    /**
+     * <span class="en-US">Bit count of wire type in field key</span>
+     * <span class="zh-CN">属性键值中传输类型的位数</span>
+     */
+    private static final int WIRE_TYPE_BITS = 3;
+    /**
+     * <span class="en-US">Mask of wire type in field key</span>
+     * <span class="zh-CN">属性键值中传输类型的掩码</span>
+     */
+    private static final int WIRE_TYPE_MASK = (1 << WIRE_TYPE_BITS) - 1;
+    /**
+     * <span class="en-US">Maximum tag number</span>
+     * <span class="zh-CN">最大标签编号</span>
+     */
+    private static final int MAX_TAG = (1 << (Integer.SIZE - WIRE_TYPE_BITS - 1)) - 1;
+    /**
+     * <span class="en-US">Precomputed codec of each class</span>
+     * <span class="zh-CN">每个类预先计算的编解码器</span>
+     */
+    private static final ClassValue<ClassCodec> CLASS_CODECS = new ClassValue<>() {
+        @Override
+        protected ClassCodec computeValue(final Class<?> type) {
+            return new ClassCodec(type);
+        }
+    };
+
+    /**
+     * <h3 class="en-US">Private constructor for BinaryCodec</h3>
+     * <h3 class="zh-CN">二进制编解码器的私有构造方法</h3>
+     */
+    private BinaryCodec() {
+    }
+
+    /**
+     * <h3 class="en-US">Check given class is supported by binary codec</h3>
+     * <span class="en-US">Class must extends BeanObject, not abstract and has non-args constructor</span>
+     * <h3 class="zh-CN">检查给定的类是否被二进制编解码器支持</h3>
+     * <span class="zh-CN">类必须继承BeanObject，不能是抽象类，并且包含无参构造方法</span>
+     *
+     * @param clazz <span class="en-US">Bean class</span>
+     *              <span class="zh-CN">JavaBean类</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    public static boolean supported(final Class<?> clazz) {
+        return clazz != null && CLASS_CODECS.get(clazz).supported;
+    }
+
+    /**
+     * <h3 class="en-US">Check given data bytes is binary data of BeanObject</h3>
+     * <h3 class="zh-CN">检查给定的字节数组是否为BeanObject的二进制数据</h3>
+     *
+     * @param dataBytes <span class="en-US">Data bytes</span>
+     *                  <span class="zh-CN">字节数组</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    public static boolean encoded(final byte[] dataBytes) {
+        return dataBytes != null && dataBytes.length > HEADER_LENGTH
+                && dataBytes[0] == MAGIC_BYTES[0] && dataBytes[1] == MAGIC_BYTES[1]
+                && dataBytes[MAGIC_BYTES.length] == FORMAT_VERSION;
+    }
+
+    /**
+     * <h3 class="en-US">Encode given bean instance to binary data</h3>
+     * <h3 class="zh-CN">编码给定的JavaBean实例对象为二进制数据</h3>
+     *
+     * @param object <span class="en-US">Bean instance</span>
+     *               <span class="zh-CN">JavaBean实例对象</span>
+     * @return <span class="en-US">Binary data bytes</span>
+     * <span class="zh-CN">二进制字节数组</span>
+     * @throws DataInvalidException <span class="en-US">If bean class not supported or field value cannot serialize</span>
+     *                              <span class="zh-CN">如果JavaBean类不被支持或属性值无法序列化</span>
+     */
+    public static byte[] encode(final Object object) throws DataInvalidException {
+        return write(object).toByteArray();
+    }
+
+    /**
+     * <h3 class="en-US">Encode given bean instance and write binary data to given output stream</h3>
+     * <span class="en-US">Binary data contains length, so multiple beans can be written to the same output stream</span>
+     * <h3 class="zh-CN">编码给定的JavaBean实例对象并将二进制数据写入给定的输出流</h3>
+     * <span class="zh-CN">二进制数据包含长度，所以多个JavaBean可以写入到同一个输出流</span>
+     *
+     * @param object       <span class="en-US">Bean instance</span>
+     *                     <span class="zh-CN">JavaBean实例对象</span>
+     * @param outputStream <span class="en-US">Output stream instance</span>
+     *                     <span class="zh-CN">输出流实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If bean class not supported or field value cannot serialize</span>
+     *                              <span class="zh-CN">如果JavaBean类不被支持或属性值无法序列化</span>
+     * @throws IOException          <span class="en-US">If an I/O error occurs</span>
+     *                              <span class="zh-CN">如果出现I/O错误</span>
+     */
+    public static void encode(final Object object, final OutputStream outputStream)
+            throws DataInvalidException, IOException {
+        write(object).writeTo(outputStream);
+    }
+
+    /**
+     * <h3 class="en-US">Decode binary data to bean instance</h3>
+     * <h3 class="zh-CN">解码二进制数据为JavaBean实例对象</h3>
+     *
+     * @param <T>       <span class="en-US">Bean class</span>
+     *                  <span class="zh-CN">JavaBean类</span>
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @param beanClass <span class="en-US">Bean class</span>
+     *                  <span class="zh-CN">JavaBean类</span>
+     * @return <span class="en-US">Decoded bean instance</span>
+     * <span class="zh-CN">解码的JavaBean实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If bean class not supported or binary data is invalid</span>
+     *                              <span class="zh-CN">如果JavaBean类不被支持或二进制数据无效</span>
+     */
+    public static <T> T decode(final byte[] dataBytes, final Class<T> beanClass) throws DataInvalidException {
+        ClassCodec classCodec = classCodec(beanClass);
+        if (!encoded(dataBytes)) {
+            throw new DataInvalidException(0x000000FF0004L, beanClass.getName());
+        }
+        try {
+            RawUtils.Reader reader = RawUtils.reader(dataBytes, HEADER_LENGTH, dataBytes.length - HEADER_LENGTH,
+                    ByteOrder.BIG_ENDIAN);
+            int length = reader.readVarInt();
+            if (length != reader.remaining()) {
+                throw new IllegalArgumentException("Length mismatch: " + length);
+            }
+            return beanClass.cast(readBean(reader, length, classCodec));
+        } catch (IOException | RuntimeException e) {
+            throw new DataInvalidException(0x000000FF0004L, e, beanClass.getName());
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read binary data from given input stream and decode to bean instance</h3>
+     * <h3 class="zh-CN">从给定的输入流读取二进制数据并解码为JavaBean实例对象</h3>
+     *
+     * @param <T>         <span class="en-US">Bean class</span>
+     *                    <span class="zh-CN">JavaBean类</span>
+     * @param inputStream <span class="en-US">Input stream instance</span>
+     *                    <span class="zh-CN">输入流实例对象</span>
+     * @param beanClass   <span class="en-US">Bean class</span>
+     *                    <span class="zh-CN">JavaBean类</span>
+     * @return <span class="en-US">Decoded bean instance, or <code>null</code> if input stream is end</span>
+     * <span class="zh-CN">解码的JavaBean实例对象，如果输入流已结束则返回<code>null</code></span>
+     * @throws DataInvalidException <span class="en-US">If bean class not supported or binary data is invalid</span>
+     *                              <span class="zh-CN">如果JavaBean类不被支持或二进制数据无效</span>
+     * @throws IOException          <span class="en-US">If an I/O error occurs</span>
+     *                              <span class="zh-CN">如果出现I/O错误</span>
+     */
+    public static <T> T decode(final InputStream inputStream, final Class<T> beanClass)
+            throws DataInvalidException, IOException {
+        classCodec(beanClass);
+        byte[] headerBytes = inputStream.readNBytes(HEADER_LENGTH);
+        if (headerBytes.length == 0) {
+            return null;
+        }
+        RawUtils.Writer writer = RawUtils.writer();
+        writer.writeBytes(headerBytes);
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            int current = inputStream.read();
+            //  The 5th byte can carry 3 value bits only, higher bits overflow the non-negative int length
+            if (current == Globals.DEFAULT_VALUE_INT || shift >= Integer.SIZE
+                    || (shift == 28 && (current & 0x78) != 0)) {
+                throw new DataInvalidException(0x000000FF0004L, beanClass.getName());
+            }
+            writer.writeByte(current);
+            length |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                break;
+            }
+        }
+        if (length < 0) {
+            throw new DataInvalidException(0x000000FF0004L, beanClass.getName());
+        }
+        byte[] dataBytes = inputStream.readNBytes(length);
+        if (dataBytes.length != length) {
+            throw new DataInvalidException(0x000000FF0004L, beanClass.getName());
+        }
+        return decode(writer.writeBytes(dataBytes).toByteArray(), beanClass);
+    }
+
+    /**
+     * <h3 class="en-US">Encode given bean instance to writer, include header and length</h3>
+     * <h3 class="zh-CN">编码给定的JavaBean实例对象到写入器，包括头部和长度</h3>
+     *
+     * @param object <span class="en-US">Bean instance</span>
+     *               <span class="zh-CN">JavaBean实例对象</span>
+     * @return <span class="en-US">Writer instance</span>
+     * <span class="zh-CN">写入器实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If bean class not supported or field value cannot serialize</span>
+     *                              <span class="zh-CN">如果JavaBean类不被支持或属性值无法序列化</span>
+     */
+    private static RawUtils.Writer write(final Object object) throws DataInvalidException {
+        if (object == null) {
+            throw new DataInvalidException(0x000000FF0005L, "null");
+        }
+        ClassCodec classCodec = classCodec(object.getClass());
+        Encoder encoder = new Encoder();
+        try {
+            RawUtils.Writer content = encoder.acquire();
+            writeBean(encoder, content, classCodec, object);
+            RawUtils.Writer writer = RawUtils.writer(content.size() + HEADER_LENGTH + Integer.BYTES + 1,
+                    ByteOrder.BIG_ENDIAN);
+            writer.writeBytes(MAGIC_BYTES).writeByte(FORMAT_VERSION).writeVarInt(content.size());
+            content.writeTo(writer);
+            return writer;
+        } catch (IOException e) {
+            throw new DataInvalidException(0x000000FF0004L, e, object.getClass().getName());
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve supported codec of given class</h3>
+     * <h3 class="zh-CN">获取给定类的被支持的编解码器</h3>
+     *
+     * @param clazz <span class="en-US">Bean class</span>
+     *              <span class="zh-CN">JavaBean类</span>
+     * @return <span class="en-US">Class codec instance</span>
+     * <span class="zh-CN">类编解码器实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If bean class not supported</span>
+     *                              <span class="zh-CN">如果JavaBean类不被支持</span>
+     */
+    private static ClassCodec classCodec(final Class<?> clazz) throws DataInvalidException {
+        if (clazz == null || !CLASS_CODECS.get(clazz).supported) {
+            throw new DataInvalidException(0x000000FF0005L, (clazz == null) ? "null" : clazz.getName());
+        }
+        return CLASS_CODECS.get(clazz);
+    }
+
+    /**
+     * <h3 class="en-US">Write fields of bean instance</h3>
+     * <h3 class="zh-CN">写入JavaBean实例对象的属性</h3>
+     *
+     * @param encoder    <span class="en-US">Encoder instance</span>
+     *                   <span class="zh-CN">编码器实例对象</span>
+     * @param writer     <span class="en-US">Writer instance</span>
+     *                   <span class="zh-CN">写入器实例对象</span>
+     * @param classCodec <span class="en-US">Class codec instance</span>
+     *                   <span class="zh-CN">类编解码器实例对象</span>
+     * @param bean       <span class="en-US">Bean instance</span>
+     *                   <span class="zh-CN">JavaBean实例对象</span>
+     * @throws IOException <span class="en-US">If field value cannot serialize</span>
+     *                     <span class="zh-CN">如果属性值无法序列化</span>
+     */
+    private static void writeBean(final Encoder encoder, final RawUtils.Writer writer,
+                                  final ClassCodec classCodec, final Object bean) throws IOException {
+        for (FieldCodec fieldCodec : classCodec.fieldCodecs) {
+            Object value = fieldCodec.get(bean);
+            if (value == null || fieldCodec.defaultValue(value)) {
+                continue;
+            }
+            ValueType valueType = fieldCodec.valueType;
+            if (valueType.wireType != WIRE_LENGTH && valueType.wireType != WIRE_SERIALIZED
+                    && valueType.matches(value)) {
+                writer.writeVarInt(fieldCodec.key(valueType.wireType));
+                writeScalar(writer, valueType, value);
+                continue;
+            }
+            RawUtils.Writer content = encoder.acquire();
+            try {
+                int wireType = WIRE_SERIALIZED;
+                if (valueType.wireType == WIRE_LENGTH && valueType.matches(value)) {
+                    try {
+                        writeContent(encoder, content, valueType, value);
+                        wireType = WIRE_LENGTH;
+                    } catch (TypeMismatchException e) {
+                        content.reset();
+                    }
+                }
+                if (wireType == WIRE_SERIALIZED) {
+                    content.writeBytes(serialize(value));
+                }
+                writer.writeVarInt(fieldCodec.key(wireType)).writeVarInt(content.size());
+                content.writeTo(writer);
+            } finally {
+                encoder.release();
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write value of given type</h3>
+     * <h3 class="zh-CN">写入给定类型的数据</h3>
+     *
+     * @param encoder   <span class="en-US">Encoder instance</span>
+     *                  <span class="zh-CN">编码器实例对象</span>
+     * @param writer    <span class="en-US">Writer instance</span>
+     *                  <span class="zh-CN">写入器实例对象</span>
+     * @param valueType <span class="en-US">Value type</span>
+     *                  <span class="zh-CN">数据类型</span>
+     * @param value     <span class="en-US">Value instance, not null</span>
+     *                  <span class="zh-CN">数据实例对象，不为空</span>
+     * @throws IOException <span class="en-US">If value cannot serialize</span>
+     *                     <span class="zh-CN">如果数据无法序列化</span>
+     */
+    private static void writeValue(final Encoder encoder, final RawUtils.Writer writer,
+                                   final ValueType valueType, final Object value) throws IOException {
+        if (!valueType.matches(value)) {
+            throw TypeMismatchException.INSTANCE;
+        }
+        switch (valueType.wireType) {
+            case WIRE_LENGTH:
+                RawUtils.Writer content = encoder.acquire();
+                try {
+                    writeContent(encoder, content, valueType, value);
+                    writer.writeVarInt(content.size());
+                    content.writeTo(writer);
+                } finally {
+                    encoder.release();
+                }
+                break;
+            case WIRE_SERIALIZED:
+                byte[] dataBytes = serialize(value);
+                writer.writeVarInt(dataBytes.length).writeBytes(dataBytes);
+                break;
+            default:
+                writeScalar(writer, valueType, value);
+                break;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write scalar value, wire type is varint, fixed 32 bits or fixed 64 bits</h3>
+     * <h3 class="zh-CN">写入标量数据，传输类型为变长整数、固定32位或固定64位</h3>
+     *
+     * @param writer    <span class="en-US">Writer instance</span>
+     *                  <span class="zh-CN">写入器实例对象</span>
+     * @param valueType <span class="en-US">Value type</span>
+     *                  <span class="zh-CN">数据类型</span>
+     * @param value     <span class="en-US">Value instance, not null</span>
+     *                  <span class="zh-CN">数据实例对象，不为空</span>
+     */
+    private static void writeScalar(final RawUtils.Writer writer, final ValueType valueType, final Object value) {
+        switch (valueType.kind) {
+            case BOOLEAN:
+                writer.writeByte(((Boolean) value) ? 1 : 0);
+                break;
+            case BYTE:
+            case SHORT:
+            case INT:
+                writer.writeZigZagInt(((Number) value).intValue());
+                break;
+            case CHAR:
+                writer.writeVarInt((Character) value);
+                break;
+            case LONG:
+                writer.writeZigZagLong((Long) value);
+                break;
+            case DATE:
+                writer.writeZigZagLong(((Date) value).getTime());
+                break;
+            case FLOAT:
+                writer.writeInt(Float.floatToIntBits((Float) value));
+                break;
+            default:
+                writer.writeLong(Double.doubleToLongBits((Double) value));
+                break;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write content of length-delimited value, length was not written</h3>
+     * <h3 class="zh-CN">写入带长度前缀数据的内容，不写入长度</h3>
+     *
+     * @param encoder   <span class="en-US">Encoder instance</span>
+     *                  <span class="zh-CN">编码器实例对象</span>
+     * @param writer    <span class="en-US">Writer instance</span>
+     *                  <span class="zh-CN">写入器实例对象</span>
+     * @param valueType <span class="en-US">Value type</span>
+     *                  <span class="zh-CN">数据类型</span>
+     * @param value     <span class="en-US">Value instance, not null</span>
+     *                  <span class="zh-CN">数据实例对象，不为空</span>
+     * @throws IOException <span class="en-US">If element value cannot serialize</span>
+     *                     <span class="zh-CN">如果元素数据无法序列化</span>
+     */
+    private static void writeContent(final Encoder encoder, final RawUtils.Writer writer,
+                                     final ValueType valueType, final Object value) throws IOException {
+        switch (valueType.kind) {
+            case STRING:
+                writer.writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case ENUM:
+                writer.writeBytes(((Enum<?>) value).name().getBytes(StandardCharsets.UTF_8));
+                break;
+            case BIG_INTEGER:
+            case BIG_DECIMAL:
+                writer.writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                writer.writeBytes((byte[]) value);
+                break;
+            case BEAN:
+                writeBean(encoder, writer, CLASS_CODECS.get(valueType.rawClass), value);
+                break;
+            case ARRAY:
+                int length = Array.getLength(value);
+                byte[] bitmap = new byte[(length + 7) >>> 3];
+                for (int i = 0; i < length; i++) {
+                    if (Array.get(value, i) != null) {
+                        bitmap[i >>> 3] |= (byte) (1 << (i & 7));
+                    }
+                }
+                writer.writeVarInt(length).writeBytes(bitmap);
+                for (int i = 0; i < length; i++) {
+                    Object element = Array.get(value, i);
+                    if (element != null) {
+                        writeValue(encoder, writer, valueType.elementType, element);
+                    }
+                }
+                break;
+            case COLLECTION:
+                Collection<?> collection = (Collection<?>) value;
+                bitmap = new byte[(collection.size() + 7) >>> 3];
+                int index = 0;
+                for (Object element : collection) {
+                    if (element != null) {
+                        bitmap[index >>> 3] |= (byte) (1 << (index & 7));
+                    }
+                    index++;
+                }
+                writer.writeVarInt(collection.size()).writeBytes(bitmap);
+                for (Object element : collection) {
+                    if (element != null) {
+                        writeValue(encoder, writer, valueType.elementType, element);
+                    }
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                bitmap = new byte[(map.size() + 3) >>> 2];
+                index = 0;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (entry.getKey() != null) {
+                        bitmap[index >>> 3] |= (byte) (1 << (index & 7));
+                    }
+                    if (entry.getValue() != null) {
+                        bitmap[(index + 1) >>> 3] |= (byte) (1 << ((index + 1) & 7));
+                    }
+                    index += 2;
+                }
+                writer.writeVarInt(map.size()).writeBytes(bitmap);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (entry.getKey() != null) {
+                        writeValue(encoder, writer, valueType.keyType, entry.getKey());
+                    }
+                    if (entry.getValue() != null) {
+                        writeValue(encoder, writer, valueType.elementType, entry.getValue());
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("Not length-delimited type: " + valueType.kind);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read fields to new bean instance</h3>
+     * <h3 class="zh-CN">读取属性到新的JavaBean实例对象</h3>
+     *
+     * @param reader     <span class="en-US">Reader instance</span>
+     *                   <span class="zh-CN">读取器实例对象</span>
+     * @param length     <span class="en-US">Data length of bean</span>
+     *                   <span class="zh-CN">JavaBean的数据长度</span>
+     * @param classCodec <span class="en-US">Class codec instance</span>
+     *                   <span class="zh-CN">类编解码器实例对象</span>
+     * @return <span class="en-US">Bean instance</span>
+     * <span class="zh-CN">JavaBean实例对象</span>
+     * @throws IOException <span class="en-US">If bean cannot create or field value cannot deserialize</span>
+     *                     <span class="zh-CN">如果JavaBean无法创建或属性值无法反序列化</span>
+     */
+    private static Object readBean(final RawUtils.Reader reader, final int length, final ClassCodec classCodec)
+            throws IOException {
+        Object bean = ObjectUtils.newInstance(classCodec.beanClass);
+        if (bean == null) {
+            throw new InvalidClassException(classCodec.beanClass.getName(), "Create instance failed");
+        }
+        int end = reader.position() + length;
+        int cursor = 0;
+        while (reader.position() < end) {
+            int key = reader.readVarInt();
+            int tag = key >>> WIRE_TYPE_BITS;
+            int wireType = key & WIRE_TYPE_MASK;
+            int index = classCodec.indexOf(tag, cursor);
+            FieldCodec fieldCodec = (index < 0) ? null : classCodec.fieldCodecs[index];
+            if (fieldCodec == null
+                    || (wireType != fieldCodec.valueType.wireType && wireType != WIRE_SERIALIZED)) {
+                skip(reader, wireType);
+                continue;
+            }
+            cursor = index + 1;
+            Object value;
+            if (wireType == WIRE_SERIALIZED) {
+                value = deserialize(reader.readBytes(reader.readVarInt()));
+                if (!ClassUtils.isAssignableValue(fieldCodec.field.getType(), value)) {
+                    continue;
+                }
+            } else {
+                value = readValue(reader, fieldCodec.valueType);
+            }
+            fieldCodec.set(bean, value);
+        }
+        if (reader.position() != end) {
+            throw new StreamCorruptedException("Bean data overflow at position: " + reader.position());
+        }
+        return bean;
+    }
+
+    /**
+     * <h3 class="en-US">Read value of given type</h3>
+     * <h3 class="zh-CN">读取给定类型的数据</h3>
+     *
+     * @param reader    <span class="en-US">Reader instance</span>
+     *                  <span class="zh-CN">读取器实例对象</span>
+     * @param valueType <span class="en-US">Value type</span>
+     *                  <span class="zh-CN">数据类型</span>
+     * @return <span class="en-US">Read value</span>
+     * <span class="zh-CN">读取的数据</span>
+     * @throws IOException <span class="en-US">If value cannot deserialize</span>
+     *                     <span class="zh-CN">如果数据无法反序列化</span>
+     */
+    private static Object readValue(final RawUtils.Reader reader, final ValueType valueType) throws IOException {
+        switch (valueType.kind) {
+            case BOOLEAN:
+                return reader.readVarInt() != 0;
+            case BYTE:
+                return (byte) reader.readZigZagInt();
+            case SHORT:
+                return (short) reader.readZigZagInt();
+            case INT:
+                return reader.readZigZagInt();
+            case CHAR:
+                return (char) reader.readVarInt();
+            case LONG:
+                return reader.readZigZagLong();
+            case DATE:
+                return new Date(reader.readZigZagLong());
+            case FLOAT:
+                return Float.intBitsToFloat(reader.readInt());
+            case DOUBLE:
+                return Double.longBitsToDouble(reader.readLong());
+            case SERIALIZED:
+                return deserialize(reader.readBytes(reader.readVarInt()));
+            default:
+                break;
+        }
+        int length = reader.readVarInt();
+        switch (valueType.kind) {
+            case STRING:
+                return reader.readString(length, StandardCharsets.UTF_8);
+            case ENUM:
+                return enumValue(valueType.rawClass, reader.readString(length, StandardCharsets.UTF_8));
+            case BIG_INTEGER:
+                return new BigInteger(reader.readString(length, StandardCharsets.UTF_8));
+            case BIG_DECIMAL:
+                return new BigDecimal(reader.readString(length, StandardCharsets.UTF_8));
+            case BYTES:
+                return reader.readBytes(length);
+            case BEAN:
+                return readBean(reader, length, CLASS_CODECS.get(valueType.rawClass));
+            case ARRAY:
+                int count = reader.readVarInt();
+                byte[] bitmap = reader.readBytes((count + 7) >>> 3);
+                Object array = Array.newInstance(valueType.elementType.rawClass, count);
+                for (int i = 0; i < count; i++) {
+                    if ((bitmap[i >>> 3] & (1 << (i & 7))) != 0) {
+                        Array.set(array, i, readValue(reader, valueType.elementType));
+                    }
+                }
+                return array;
+            case COLLECTION:
+                count = reader.readVarInt();
+                bitmap = reader.readBytes((count + 7) >>> 3);
+                Collection<Object> collection = newCollection(valueType.rawClass, count);
+                for (int i = 0; i < count; i++) {
+                    collection.add(((bitmap[i >>> 3] & (1 << (i & 7))) != 0)
+                            ? readValue(reader, valueType.elementType)
+                            : null);
+                }
+                return collection;
+            case MAP:
+                count = reader.readVarInt();
+                bitmap = reader.readBytes((count + 3) >>> 2);
+                Map<Object, Object> map = newMap(valueType.rawClass, count);
+                for (int i = 0; i < count * 2; i += 2) {
+                    Object mapKey = ((bitmap[i >>> 3] & (1 << (i & 7))) != 0)
+                            ? readValue(reader, valueType.keyType)
+                            : null;
+                    Object mapValue = ((bitmap[(i + 1) >>> 3] & (1 << ((i + 1) & 7))) != 0)
+                            ? readValue(reader, valueType.elementType)
+                            : null;
+                    map.put(mapKey, mapValue);
+                }
+                return map;
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + valueType.kind);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Skip field value of given wire type</h3>
+     * <h3 class="zh-CN">跳过给定传输类型的属性值</h3>
+     *
+     * @param reader   <span class="en-US">Reader instance</span>
+     *                 <span class="zh-CN">读取器实例对象</span>
+     * @param wireType <span class="en-US">Wire type</span>
+     *                 <span class="zh-CN">传输类型</span>
+     * @throws StreamCorruptedException <span class="en-US">If wire type is unknown</span>
+     *                                  <span class="zh-CN">如果传输类型未知</span>
+     */
+    private static void skip(final RawUtils.Reader reader, final int wireType) throws StreamCorruptedException {
+        switch (wireType) {
+            case WIRE_VARINT:
+                reader.readVarLong();
+                break;
+            case WIRE_FIXED64:
+                reader.skip(Long.BYTES);
+                break;
+            case WIRE_LENGTH:
+            case WIRE_SERIALIZED:
+                reader.skip(reader.readVarInt());
+                break;
+            case WIRE_FIXED32:
+                reader.skip(Integer.BYTES);
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown wire type: " + wireType);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Convert enum name to enum constant, unknown name returns null</h3>
+     * <h3 class="zh-CN">转换枚举名称为枚举常量，未知的名称返回空值</h3>
+     *
+     * @param enumClass <span class="en-US">Enum class</span>
+     *                  <span class="zh-CN">枚举类</span>
+     * @param name      <span class="en-US">Enum name</span>
+     *                  <span class="zh-CN">枚举名称</span>
+     * @return <span class="en-US">Enum constant</span>
+     * <span class="zh-CN">枚举常量</span>
+     */
+    private static Object enumValue(final Class<?> enumClass, final String name) {
+        for (Object constant : enumClass.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <h3 class="en-US">Create collection instance of given declared class</h3>
+     * <h3 class="zh-CN">创建给定声明类的集合实例对象</h3>
+     *
+     * @param declaredClass <span class="en-US">Declared class</span>
+     *                      <span class="zh-CN">声明类</span>
+     * @param size          <span class="en-US">Element count</span>
+     *                      <span class="zh-CN">元素数量</span>
+     * @return <span class="en-US">Collection instance</span>
+     * <span class="zh-CN">集合实例对象</span>
+     * @throws InvalidClassException <span class="en-US">If collection instance cannot create</span>
+     *                               <span class="zh-CN">如果集合实例对象无法创建</span>
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> newCollection(final Class<?> declaredClass, final int size)
+            throws InvalidClassException {
+        if (!declaredClass.isInterface() && !Modifier.isAbstract(declaredClass.getModifiers())) {
+            return (Collection<Object>) Optional.ofNullable(ObjectUtils.newInstance(declaredClass))
+                    .orElseThrow(() -> new InvalidClassException(declaredClass.getName(), "Create instance failed"));
+        }
+        if (SortedSet.class.isAssignableFrom(declaredClass)) {
+            return new TreeSet<>();
+        }
+        if (Set.class.isAssignableFrom(declaredClass)) {
+            return new LinkedHashSet<>(Math.max(size * 4 / 3 + 1, 16));
+        }
+        if (Queue.class.isAssignableFrom(declaredClass)) {
+            return new LinkedList<>();
+        }
+        return new ArrayList<>(size);
+    }
+
+    /**
+     * <h3 class="en-US">Create map instance of given declared class</h3>
+     * <h3 class="zh-CN">创建给定声明类的映射表实例对象</h3>
+     *
+     * @param declaredClass <span class="en-US">Declared class</span>
+     *                      <span class="zh-CN">声明类</span>
+     * @param size          <span class="en-US">Entry count</span>
+     *                      <span class="zh-CN">键值对数量</span>
+     * @return <span class="en-US">Map instance</span>
+     * <span class="zh-CN">映射表实例对象</span>
+     * @throws InvalidClassException <span class="en-US">If map instance cannot create</span>
+     *                               <span class="zh-CN">如果映射表实例对象无法创建</span>
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> newMap(final Class<?> declaredClass, final int size)
+            throws InvalidClassException {
+        if (!declaredClass.isInterface() && !Modifier.isAbstract(declaredClass.getModifiers())) {
+            return (Map<Object, Object>) Optional.ofNullable(ObjectUtils.newInstance(declaredClass))
+                    .orElseThrow(() -> new InvalidClassException(declaredClass.getName(), "Create instance failed"));
+        }
+        if (SortedMap.class.isAssignableFrom(declaredClass)) {
+            return new TreeMap<>();
+        }
+        if (ConcurrentMap.class.isAssignableFrom(declaredClass)) {
+            return new ConcurrentHashMap<>(size);
+        }
+        return new LinkedHashMap<>(Math.max(size * 4 / 3 + 1, 16));
+    }
+
+    /**
+     * <h3 class="en-US">Serialize value using Java serialization</h3>
+     * <h3 class="zh-CN">使用Java序列化来序列化数据</h3>
+     *
+     * @param value <span class="en-US">Value instance</span>
+     *              <span class="zh-CN">数据实例对象</span>
+     * @return <span class="en-US">Serialized data bytes</span>
+     * <span class="zh-CN">序列化的字节数组</span>
+     * @throws IOException <span class="en-US">If value cannot serialize</span>
+     *                     <span class="zh-CN">如果数据无法序列化</span>
+     */
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(value);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * <h3 class="en-US">Deserialize value using Java serialization</h3>
+     * <h3 class="zh-CN">使用Java序列化来反序列化数据</h3>
+     *
+     * @param dataBytes <span class="en-US">Serialized data bytes</span>
+     *                  <span class="zh-CN">序列化的字节数组</span>
+     * @return <span class="en-US">Value instance</span>
+     * <span class="zh-CN">数据实例对象</span>
+     * @throws IOException <span class="en-US">If value cannot deserialize</span>
+     *                     <span class="zh-CN">如果数据无法反序列化</span>
+     */
+    private static Object deserialize(final byte[] dataBytes) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(dataBytes))) {
+            return objectInputStream.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Value kind</h2>
+     * <h2 class="zh-CN">数据种类</h2>
+     */
+    private enum ValueKind {
+        BOOLEAN, BYTE, SHORT, CHAR, INT, LONG, FLOAT, DOUBLE, DATE,
+        STRING, ENUM, BIG_INTEGER, BIG_DECIMAL, BYTES, BEAN, ARRAY, COLLECTION, MAP, SERIALIZED
+    }
+
+    /**
+     * <h2 class="en-US">Value type</h2>
+     * <span class="en-US">Value kind, wire type and element types resolved from declared type</span>
+     * <h2 class="zh-CN">数据类型</h2>
+     * <span class="zh-CN">根据声明类型解析的数据种类、传输类型和元素类型</span>
+     */
+    private static final class ValueType {
+        /**
+         * <span class="en-US">Value kind</span>
+         * <span class="zh-CN">数据种类</span>
+         */
+        private final ValueKind kind;
+        /**
+         * <span class="en-US">Declared raw class</span>
+         * <span class="zh-CN">声明的原始类</span>
+         */
+        private final Class<?> rawClass;
+        /**
+         * <span class="en-US">Wire type</span>
+         * <span class="zh-CN">传输类型</span>
+         */
+        private final int wireType;
+        /**
+         * <span class="en-US">Key type of map</span>
+         * <span class="zh-CN">映射表的键类型</span>
+         */
+        private final ValueType keyType;
+        /**
+         * <span class="en-US">Element type of array/collection, value type of map</span>
+         * <span class="zh-CN">数组/集合的元素类型，映射表的值类型</span>
+         */
+        private final ValueType elementType;
+
+        /**
+         * <h3 class="en-US">Private constructor for ValueType</h3>
+         * <h3 class="zh-CN">数据类型的私有构造方法</h3>
+         *
+         * @param declaredType <span class="en-US">Declared type</span>
+         *                     <span class="zh-CN">声明类型</span>
+         */
+        private ValueType(final Type declaredType) {
+            this.rawClass = rawClass(declaredType);
+            Class<?> wrapperClass = this.rawClass.isPrimitive() ? ClassUtils.primitiveWrapper(this.rawClass) : this.rawClass;
+            ValueType keyType = null, elementType = null;
+            if (Boolean.class.equals(wrapperClass)) {
+                this.kind = ValueKind.BOOLEAN;
+            } else if (Byte.class.equals(wrapperClass)) {
+                this.kind = ValueKind.BYTE;
+            } else if (Short.class.equals(wrapperClass)) {
+                this.kind = ValueKind.SHORT;
+            } else if (Character.class.equals(wrapperClass)) {
+                this.kind = ValueKind.CHAR;
+            } else if (Integer.class.equals(wrapperClass)) {
+                this.kind = ValueKind.INT;
+            } else if (Long.class.equals(wrapperClass)) {
+                this.kind = ValueKind.LONG;
+            } else if (Float.class.equals(wrapperClass)) {
+                this.kind = ValueKind.FLOAT;
+            } else if (Double.class.equals(wrapperClass)) {
+                this.kind = ValueKind.DOUBLE;
+            } else if (Date.class.equals(wrapperClass)) {
+                this.kind = ValueKind.DATE;
+            } else if (String.class.equals(wrapperClass)) {
+                this.kind = ValueKind.STRING;
+            } else if (wrapperClass.isEnum()) {
+                this.kind = ValueKind.ENUM;
+            } else if (BigInteger.class.equals(wrapperClass)) {
+                this.kind = ValueKind.BIG_INTEGER;
+            } else if (BigDecimal.class.equals(wrapperClass)) {
+                this.kind = ValueKind.BIG_DECIMAL;
+            } else if (byte[].class.equals(wrapperClass)) {
+                this.kind = ValueKind.BYTES;
+            } else if (BeanObject.class.isAssignableFrom(wrapperClass)
+                    && !Modifier.isAbstract(wrapperClass.getModifiers())) {
+                this.kind = ValueKind.BEAN;
+            } else if (wrapperClass.isArray()) {
+                this.kind = ValueKind.ARRAY;
+                elementType = new ValueType((declaredType instanceof GenericArrayType)
+                        ? ((GenericArrayType) declaredType).getGenericComponentType()
+                        : wrapperClass.getComponentType());
+            } else if (Collection.class.isAssignableFrom(wrapperClass)) {
+                this.kind = ValueKind.COLLECTION;
+                elementType = new ValueType(typeArgument(declaredType, 0));
+            } else if (Map.class.isAssignableFrom(wrapperClass)) {
+                this.kind = ValueKind.MAP;
+                keyType = new ValueType(typeArgument(declaredType, 0));
+                elementType = new ValueType(typeArgument(declaredType, 1));
+            } else {
+                this.kind = ValueKind.SERIALIZED;
+            }
+            this.keyType = keyType;
+            this.elementType = elementType;
+            switch (this.kind) {
+                case BOOLEAN:
+                case BYTE:
+                case SHORT:
+                case CHAR:
+                case INT:
+                case LONG:
+                case DATE:
+                    this.wireType = WIRE_VARINT;
+                    break;
+                case FLOAT:
+                    this.wireType = WIRE_FIXED32;
+                    break;
+                case DOUBLE:
+                    this.wireType = WIRE_FIXED64;
+                    break;
+                case SERIALIZED:
+                    this.wireType = WIRE_SERIALIZED;
+                    break;
+                default:
+                    this.wireType = WIRE_LENGTH;
+                    break;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Check given value can be written as current type</h3>
+         * <span class="en-US">
+         *     Runtime class of bean and date must be the declared class, or the subclass data will lose,
+         *     bean class must be supported by binary codec.
+         * </span>
+         * <h3 class="zh-CN">检查给定的数据是否可以作为当前类型写入</h3>
+         * <span class="zh-CN">JavaBean和日期的运行时类必须是声明类，否则子类的数据将会丢失，JavaBean类必须被二进制编解码器支持。</span>
+         *
+         * @param value <span class="en-US">Value instance, not null</span>
+         *              <span class="zh-CN">数据实例对象，不为空</span>
+         * @return <span class="en-US">Check result</span>
+         * <span class="zh-CN">检查结果</span>
+         */
+        private boolean matches(final Object value) {
+            switch (this.kind) {
+                case BEAN:
+                    return value.getClass().equals(this.rawClass) && CLASS_CODECS.get(this.rawClass).supported;
+                case DATE:
+                    return value.getClass().equals(this.rawClass);
+                case ARRAY:
+                    return this.rawClass.isInstance(value);
+                default:
+                    return Boolean.TRUE;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Resolve raw class of given type</h3>
+         * <h3 class="zh-CN">解析给定类型的原始类</h3>
+         *
+         * @param type <span class="en-US">Declared type</span>
+         *             <span class="zh-CN">声明类型</span>
+         * @return <span class="en-US">Raw class</span>
+         * <span class="zh-CN">原始类</span>
+         */
+        private static Class<?> rawClass(final Type type) {
+            if (type instanceof Class) {
+                return (Class<?>) type;
+            }
+            if (type instanceof ParameterizedType) {
+                return rawClass(((ParameterizedType) type).getRawType());
+            }
+            if (type instanceof GenericArrayType) {
+                return Array.newInstance(rawClass(((GenericArrayType) type).getGenericComponentType()), 0)
+                        .getClass();
+            }
+            if (type instanceof WildcardType) {
+                return rawClass(((WildcardType) type).getUpperBounds()[0]);
+            }
+            if (type instanceof TypeVariable) {
+                return rawClass(((TypeVariable<?>) type).getBounds()[0]);
+            }
+            return Object.class;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve type argument of given parameterized type</h3>
+         * <h3 class="zh-CN">获取给定参数化类型的类型参数</h3>
+         *
+         * @param type  <span class="en-US">Declared type</span>
+         *              <span class="zh-CN">声明类型</span>
+         * @param index <span class="en-US">Type argument index</span>
+         *              <span class="zh-CN">类型参数索引</span>
+         * @return <span class="en-US">Type argument, or Object class if raw type</span>
+         * <span class="zh-CN">类型参数，如果是原始类型则返回Object类</span>
+         */
+        private static Type typeArgument(final Type type, final int index) {
+            if (type instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+                if (index < arguments.length) {
+                    return arguments[index];
+                }
+            }
+            return Object.class;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Field codec</h2>
+     * <h2 class="zh-CN">属性编解码器</h2>
+     */
+    private static final class FieldCodec {
+        /**
+         * <span class="en-US">Field instance</span>
+         * <span class="zh-CN">属性实例对象</span>
+         */
+        private final Field field;
+        /**
+         * <span class="en-US">Tag number</span>
+         * <span class="zh-CN">标签编号</span>
+         */
+        private final int tag;
+        /**
+         * <span class="en-US">Value type</span>
+         * <span class="zh-CN">数据类型</span>
+         */
+        private final ValueType valueType;
+        /**
+         * <span class="en-US">Getter method handle, type is (Object)Object</span>
+         * <span class="zh-CN">读取方法句柄，类型为(Object)Object</span>
+         */
+        private final MethodHandle getter;
+        /**
+         * <span class="en-US">Setter method handle, type is (Object, Object)void</span>
+         * <span class="zh-CN">写入方法句柄，类型为(Object, Object)void</span>
+         */
+        private final MethodHandle setter;
+
+        /**
+         * <h3 class="en-US">Private constructor for FieldCodec</h3>
+         * <h3 class="zh-CN">属性编解码器的私有构造方法</h3>
+         *
+         * @param field <span class="en-US">Field instance</span>
+         *              <span class="zh-CN">属性实例对象</span>
+         * @param tag   <span class="en-US">Tag number</span>
+         *              <span class="zh-CN">标签编号</span>
+         * @throws IllegalAccessException <span class="en-US">If field not accessible</span>
+         *                                <span class="zh-CN">如果属性无法访问</span>
+         */
+        private FieldCodec(final Field field, final int tag) throws IllegalAccessException {
+            this.field = field;
+            this.tag = tag;
+            this.valueType = new ValueType(field.getGenericType());
+            ReflectionUtils.makeAccessible(field);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            this.getter = lookup.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = lookup.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+
+        /**
+         * <h3 class="en-US">Calculate field key of given wire type</h3>
+         * <h3 class="zh-CN">计算给定传输类型的属性键值</h3>
+         *
+         * @param wireType <span class="en-US">Wire type</span>
+         *                 <span class="zh-CN">传输类型</span>
+         * @return <span class="en-US">Field key</span>
+         * <span class="zh-CN">属性键值</span>
+         */
+        private int key(final int wireType) {
+            return (this.tag << WIRE_TYPE_BITS) | wireType;
+        }
+
+        /**
+         * <h3 class="en-US">Check given value is the default value of primitive field</h3>
+         * <h3 class="zh-CN">检查给定的数据是否为基本类型属性的默认值</h3>
+         *
+         * @param value <span class="en-US">Field value, not null</span>
+         *              <span class="zh-CN">属性值，不为空</span>
+         * @return <span class="en-US">Check result</span>
+         * <span class="zh-CN">检查结果</span>
+         */
+        private boolean defaultValue(final Object value) {
+            if (!this.field.getType().isPrimitive()) {
+                return Boolean.FALSE;
+            }
+            switch (this.valueType.kind) {
+                case BOOLEAN:
+                    return !((Boolean) value);
+                case CHAR:
+                    return (Character) value == Character.MIN_VALUE;
+                case FLOAT:
+                    return Float.floatToRawIntBits((Float) value) == 0;
+                case DOUBLE:
+                    return Double.doubleToRawLongBits((Double) value) == 0L;
+                default:
+                    return ((Number) value).longValue() == 0L;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Read field value of given bean</h3>
+         * <h3 class="zh-CN">读取给定JavaBean的属性值</h3>
+         *
+         * @param bean <span class="en-US">Bean instance</span>
+         *             <span class="zh-CN">JavaBean实例对象</span>
+         * @return <span class="en-US">Field value</span>
+         * <span class="zh-CN">属性值</span>
+         */
+        private Object get(final Object bean) {
+            try {
+                return (Object) this.getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Write field value to given bean</h3>
+         * <h3 class="zh-CN">写入属性值到给定的JavaBean</h3>
+         *
+         * @param bean  <span class="en-US">Bean instance</span>
+         *              <span class="zh-CN">JavaBean实例对象</span>
+         * @param value <span class="en-US">Field value</span>
+         *              <span class="zh-CN">属性值</span>
+         */
+        private void set(final Object bean, final Object value) {
+            if (value == null && this.field.getType().isPrimitive()) {
+                return;
+            }
+            try {
+                this.setter.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Class codec</h2>
+     * <span class="en-US">Field codecs of class hierarchy, sorted by tag number</span>
+     * <h2 class="zh-CN">类编解码器</h2>
+     * <span class="zh-CN">类继承体系的属性编解码器，按照标签编号排序</span>
+     */
+    private static final class ClassCodec {
+        /**
+         * <span class="en-US">Bean class</span>
+         * <span class="zh-CN">JavaBean类</span>
+         */
+        private final Class<?> beanClass;
+        /**
+         * <span class="en-US">Supported status</span>
+         * <span class="zh-CN">支持状态</span>
+         */
+        private final boolean supported;
+        /**
+         * <span class="en-US">Field codecs, sorted by tag number</span>
+         * <span class="zh-CN">属性编解码器，按照标签编号排序</span>
+         */
+        private final FieldCodec[] fieldCodecs;
+        /**
+         * <span class="en-US">Tag numbers, sorted</span>
+         * <span class="zh-CN">排序的标签编号</span>
+         */
+        private final int[] tags;
+
+        /**
+         * <h3 class="en-US">Private constructor for ClassCodec</h3>
+         * <h3 class="zh-CN">类编解码器的私有构造方法</h3>
+         *
+         * @param beanClass <span class="en-US">Bean class</span>
+         *                  <span class="zh-CN">JavaBean类</span>
+         */
+        private ClassCodec(final Class<?> beanClass) {
+            this.beanClass = beanClass;
+            List<FieldCodec> fieldList = new ArrayList<>();
+            boolean supported = BeanObject.class.isAssignableFrom(beanClass) && !beanClass.isInterface()
+                    && !Modifier.isAbstract(beanClass.getModifiers());
+            if (supported) {
+                try {
+                    beanClass.getDeclaredConstructor();
+                    Class<?> currentClass = beanClass;
+                    while (currentClass != null && !BeanObject.class.equals(currentClass)) {
+                        for (Field field : currentClass.getDeclaredFields()) {
+                            int modifiers = field.getModifiers();
+                            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                                continue;
+                            }
+                            fieldList.add(new FieldCodec(field, tag(field)));
+                        }
+                        currentClass = currentClass.getSuperclass();
+                    }
+                    fieldList.sort(Comparator.comparingInt(fieldCodec -> fieldCodec.tag));
+                    for (int i = 1; i < fieldList.size(); i++) {
+                        if (fieldList.get(i).tag == fieldList.get(i - 1).tag) {
+                            LOGGER.error("Tag_Invalid_Binary_Error", beanClass.getName(),
+                                    fieldList.get(i).field.getName(), fieldList.get(i).tag);
+                            supported = Boolean.FALSE;
+                        }
+                    }
+                } catch (NoSuchMethodException | IllegalAccessException | IllegalArgumentException e) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Stack_Message_Error", e);
+                    }
+                    supported = Boolean.FALSE;
+                }
+            }
+            this.supported = supported;
+            this.fieldCodecs = supported ? fieldList.toArray(new FieldCodec[0]) : new FieldCodec[0];
+            this.tags = Arrays.stream(this.fieldCodecs).mapToInt(fieldCodec -> fieldCodec.tag).toArray();
+        }
+
+        /**
+         * <h3 class="en-US">Find index of field codec by given tag number</h3>
+         * <span class="en-US">Fields were written in tag order, so check the expected index first</span>
+         * <h3 class="zh-CN">根据给定的标签编号查找属性编解码器的索引</h3>
+         * <span class="zh-CN">属性按照标签顺序写入，所以优先检查预期的索引</span>
+         *
+         * @param tag    <span class="en-US">Tag number</span>
+         *               <span class="zh-CN">标签编号</span>
+         * @param cursor <span class="en-US">Expected index</span>
+         *               <span class="zh-CN">预期的索引</span>
+         * @return <span class="en-US">Field codec index, or negative value if not found</span>
+         * <span class="zh-CN">属性编解码器索引，未找到则返回负数</span>
+         */
+        private int indexOf(final int tag, final int cursor) {
+            if (cursor < this.tags.length && this.tags[cursor] == tag) {
+                return cursor;
+            }
+            return Arrays.binarySearch(this.tags, tag);
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve tag number of given field</h3>
+         * <span class="en-US">Using annotation value if field annotated by BinaryTag, otherwise calculate by field name</span>
+         * <h3 class="zh-CN">获取给定属性的标签编号</h3>
+         * <span class="zh-CN">如果属性使用BinaryTag注解则使用注解值，否则根据属性名计算</span>
+         *
+         * @param field <span class="en-US">Field instance</span>
+         *              <span class="zh-CN">属性实例对象</span>
+         * @return <span class="en-US">Tag number</span>
+         * <span class="zh-CN">标签编号</span>
+         */
+        private static int tag(final Field field) {
+            BinaryTag binaryTag = field.getAnnotation(BinaryTag.class);
+            if (binaryTag == null) {
+                return Math.max(field.getName().hashCode() & MAX_TAG, 1);
+            }
+            if (binaryTag.value() < 1 || binaryTag.value() > MAX_TAG) {
+                throw new IllegalArgumentException("Invalid tag number: " + binaryTag.value());
+            }
+            return binaryTag.value();
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Encoder</h2>
+     * <span class="en-US">Reusable writers for length-delimited content of each nested level</span>
+     * <h2 class="zh-CN">编码器</h2>
+     * <span class="zh-CN">每个嵌套层级带长度前缀内容使用的可重用写入器</span>
+     */
+    private static final class Encoder {
+        /**
+         * <span class="en-US">Writers of each nested level</span>
+         * <span class="zh-CN">每个嵌套层级的写入器</span>
+         */
+        private final List<RawUtils.Writer> writers = new ArrayList<>();
+        /**
+         * <span class="en-US">Current nested level</span>
+         * <span class="zh-CN">当前的嵌套层级</span>
+         */
+        private int depth = 0;
+
+        /**
+         * <h3 class="en-US">Acquire empty writer of next nested level</h3>
+         * <h3 class="zh-CN">获取下一嵌套层级的空写入器</h3>
+         *
+         * @return <span class="en-US">Writer instance</span>
+         * <span class="zh-CN">写入器实例对象</span>
+         */
+        private RawUtils.Writer acquire() {
+            if (this.depth == this.writers.size()) {
+                this.writers.add(RawUtils.writer());
+            }
+            return this.writers.get(this.depth++).reset();
+        }
+
+        /**
+         * <h3 class="en-US">Release writer of current nested level</h3>
+         * <h3 class="zh-CN">释放当前嵌套层级的写入器</h3>
+         */
+        private void release() {
+            this.depth--;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Type mismatch exception</h2>
+     * <span class="en-US">Thrown when runtime class of element is not the declared class, field will be serialized</span>
+     * <h2 class="zh-CN">类型不匹配异常</h2>
+     * <span class="zh-CN">元素的运行时类不是声明类时抛出，属性将被序列化</span>
+     */
+    private static final class TypeMismatchException extends RuntimeException {
+        /**
+         * <span class="en-US">Serial version UID</span>
+         * <span class="zh-CN">序列化UID</span>
+         */
+        private static final long serialVersionUID = -1730584286379152830L;
+        /**
+         * <span class="en-US">Shared instance without stack trace</span>
+         * <span class="zh-CN">不包含堆栈信息的共享实例</span>
+         */
+        private static final TypeMismatchException INSTANCE = new TypeMismatchException();
+
+        /**
+         * <h3 class="en-US">Private constructor for TypeMismatchException</h3>
+         * <h3 class="zh-CN">类型不匹配异常的私有构造方法</h3>
+         */
+        private TypeMismatchException() {
+            super(null, null, Boolean.FALSE, Boolean.FALSE);
+        }
+    }
+}
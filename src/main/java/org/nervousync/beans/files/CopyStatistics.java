@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.beans.files;
+
+/**
+ * <h2 class="en-US">Directory copy statistics information</h2>
+ * <span class="en-US">Immutable record of the file count, copied bytes and time cost of directory copy</span>
+ * <h2 class="zh-CN">文件夹复制统计信息</h2>
+ * <span class="zh-CN">文件夹复制的文件数量、复制字节数和耗时的不可变记录</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 15:02:37 $
+ */
+public final class CopyStatistics {
+
+    /**
+     * <span class="en-US">Number of copied files</span>
+     * <span class="zh-CN">已复制的文件数量</span>
+     */
+    private final long copiedFiles;
+    /**
+     * <span class="en-US">Number of skipped files, the target file exists and override was not enabled</span>
+     * <span class="zh-CN">跳过的文件数量，目标文件已存在且未启用覆盖</span>
+     */
+    private final long skippedFiles;
+    /**
+     * <span class="en-US">Number of failed files</span>
+     * <span class="zh-CN">复制失败的文件数量</span>
+     */
+    private final long failedFiles;
+    /**
+     * <span class="en-US">Total bytes of copied files</span>
+     * <span class="zh-CN">已复制文件的总字节数</span>
+     */
+    private final long copiedBytes;
+    /**
+     * <span class="en-US">Time cost of directory copy (Unit: milliseconds)</span>
+     * <span class="zh-CN">文件夹复制的耗时（单位：毫秒）</span>
+     */
+    private final long usedTime;
+
+    /**
+     * <h3 class="en-US">Constructor method for CopyStatistics</h3>
+     * <h3 class="zh-CN">文件夹复制统计信息的构造方法</h3>
+     *
+     * @param copiedFiles  <span class="en-US">Number of copied files</span>
+     *                     <span class="zh-CN">已复制的文件数量</span>
+     * @param skippedFiles <span class="en-US">Number of skipped files</span>
+     *                     <span class="zh-CN">跳过的文件数量</span>
+     * @param failedFiles  <span class="en-US">Number of failed files</span>
+     *                     <span class="zh-CN">复制失败的文件数量</span>
+     * @param copiedBytes  <span class="en-US">Total bytes of copied files</span>
+     *                     <span class="zh-CN">已复制文件的总字节数</span>
+     * @param usedTime     <span class="en-US">Time cost of directory copy (Unit: milliseconds)</span>
+     *                     <span class="zh-CN">文件夹复制的耗时（单位：毫秒）</span>
+     */
+    public CopyStatistics(final long copiedFiles, final long skippedFiles, final long failedFiles,
+                          final long copiedBytes, final long usedTime) {
+        this.copiedFiles = copiedFiles;
+        this.skippedFiles = skippedFiles;
+        this.failedFiles = failedFiles;
+        this.copiedBytes = copiedBytes;
+        this.usedTime = usedTime;
+    }
+
+    /**
+     * <h3 class="en-US">Check all files were copied</h3>
+     * <h3 class="zh-CN">检查是否所有文件均已复制</h3>
+     *
+     * @return <span class="en-US"><code>Boolean.TRUE</code> if no file was skipped or failed</span>
+     * <span class="zh-CN">如果没有文件被跳过或失败则返回<code>Boolean.TRUE</code></span>
+     */
+    public boolean isSuccess() {
+        return this.skippedFiles == 0L && this.failedFiles == 0L;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate the copy throughput</h3>
+     * <h3 class="zh-CN">计算复制吞吐量</h3>
+     *
+     * @return <span class="en-US">Copied bytes per second</span>
+     * <span class="zh-CN">每秒复制的字节数</span>
+     */
+    public long getThroughput() {
+        return this.copiedBytes * 1000L / Math.max(this.usedTime, 1L);
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for number of copied files</h3>
+     * <h3 class="zh-CN">已复制的文件数量的Getter方法</h3>
+     *
+     * @return <span class="en-US">Number of copied files</span>
+     * <span class="zh-CN">已复制的文件数量</span>
+     */
+    public long getCopiedFiles() {
+        return copiedFiles;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for number of skipped files</h3>
+     * <h3 class="zh-CN">跳过的文件数量的Getter方法</h3>
+     *
+     * @return <span class="en-US">Number of skipped files</span>
+     * <span class="zh-CN">跳过的文件数量</span>
+     */
+    public long getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for number of failed files</h3>
+     * <h3 class="zh-CN">复制失败的文件数量的Getter方法</h3>
+     *
+     * @return <span class="en-US">Number of failed files</span>
+     * <span class="zh-CN">复制失败的文件数量</span>
+     */
+    public long getFailedFiles() {
+        return failedFiles;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for total bytes of copied files</h3>
+     * <h3 class="zh-CN">已复制文件的总字节数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Total bytes of copied files</span>
+     * <span class="zh-CN">已复制文件的总字节数</span>
+     */
+    public long getCopiedBytes() {
+        return copiedBytes;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for time cost of directory copy</h3>
+     * <h3 class="zh-CN">文件夹复制的耗时的Getter方法</h3>
+     *
+     * @return <span class="en-US">Time cost of directory copy (Unit: milliseconds)</span>
+     * <span class="zh-CN">文件夹复制的耗时（单位：毫秒）</span>
+     */
+    public long getUsedTime() {
+        return usedTime;
+    }
+}
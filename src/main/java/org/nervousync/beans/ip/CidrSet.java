@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.beans.ip;
+
+import org.nervousync.commons.Globals;
+import org.nervousync.enumerations.ip.IPType;
+import org.nervousync.utils.IPUtils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * <h2 class="en-US">CIDR set</h2>
+ * <span class="en-US">
+ *     Binary radix trie of IPv4 and IPv6 network prefixes. Each node is an index into a pair of child slots,
+ *     so the trie is stored in a single int array and a bit set of prefix terminals.
+ *     Checking an address walks at most prefix-length nodes and the int/long overloads allocate nothing.
+ *     Adding prefixes is not thread safe, a fully built instance can be shared by concurrent readers.
+ * </span>
+ * <h2 class="zh-CN">CIDR集合</h2>
+ * <span class="zh-CN">
+ *     保存IPv4和IPv6网络前缀的二叉基数树。每个节点是子节点槽位对的索引，整个树保存在一个int数组和一个前缀终止位集合中。
+ *     检查地址最多遍历前缀长度个节点，int/long参数的重载方法不会创建任何对象。
+ *     添加前缀的操作不是线程安全的，构建完成的实例可以被多个线程并发读取。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 11:05:27 $
+ */
+public final class CidrSet {
+	/**
+	 * <span class="en-US">Node index of IPv4 root</span>
+	 * <span class="zh-CN">IPv4根节点索引</span>
+	 */
+	private static final int IPV4_ROOT = 0;
+	/**
+	 * <span class="en-US">Node index of IPv6 root</span>
+	 * <span class="zh-CN">IPv6根节点索引</span>
+	 */
+	private static final int IPV6_ROOT = 1;
+	/**
+	 * <span class="en-US">Default node capacity</span>
+	 * <span class="zh-CN">默认节点容量</span>
+	 */
+	private static final int DEFAULT_CAPACITY = 256;
+	/**
+	 * <span class="en-US">Bits 32-63 of IPv4-mapped IPv6 address (::ffff:0:0/96)</span>
+	 * <span class="zh-CN">IPv4映射IPv6地址（::ffff:0:0/96）的第32-63位</span>
+	 */
+	private static final long IPV4_MAPPED_PREFIX = 0xFFFFL;
+	/**
+	 * <span class="en-US">Child node indexes, two slots for each node, 0 means no child because roots are never children</span>
+	 * <span class="zh-CN">子节点索引，每个节点占用两个槽位，由于根节点不会是子节点，0表示没有子节点</span>
+	 */
+	private int[] children;
+	/**
+	 * <span class="en-US">Node indexes which terminate an added prefix</span>
+	 * <span class="zh-CN">作为已添加前缀终点的节点索引</span>
+	 */
+	private final BitSet terminals;
+	/**
+	 * <span class="en-US">Count of allocated nodes</span>
+	 * <span class="zh-CN">已分配的节点数量</span>
+	 */
+	private int nodeCount;
+	/**
+	 * <span class="en-US">Count of added prefixes</span>
+	 * <span class="zh-CN">已添加的前缀数量</span>
+	 */
+	private int size;
+
+	/**
+	 * <h3 class="en-US">Constructor for CidrSet</h3>
+	 * <h3 class="zh-CN">CidrSet的构造方法</h3>
+	 */
+	public CidrSet() {
+		this.children = new int[DEFAULT_CAPACITY * 2];
+		this.terminals = new BitSet(DEFAULT_CAPACITY);
+		this.nodeCount = 2;
+		this.size = Globals.INITIALIZE_INT_VALUE;
+	}
+
+	/**
+	 * <h3 class="en-US">Add CIDR string to current set</h3>
+	 * <span class="en-US">A single address without "/" is added as a host prefix (/32 or /128)</span>
+	 * <h3 class="zh-CN">添加CIDR字符串到当前集合</h3>
+	 * <span class="zh-CN">不包含"/"的单个地址按主机前缀（/32或/128）添加</span>
+	 *
+	 * @param cidr <span class="en-US">CIDR string, e.g. "10.0.0.0/8" or "2001:db8::/32"</span>
+	 *             <span class="zh-CN">CIDR字符串，例如"10.0.0.0/8"或"2001:db8::/32"</span>
+	 * @return <span class="en-US"><code>true</code> if the set changed, <code>false</code> if the prefix was already covered</span>
+	 * <span class="zh-CN">集合发生变化返回<code>true</code>，前缀已被覆盖返回<code>false</code></span>
+	 * @throws IllegalArgumentException <span class="en-US">If the CIDR string is invalid</span>
+	 *                                  <span class="zh-CN">如果CIDR字符串非法</span>
+	 */
+	public boolean add(final String cidr) {
+		if (cidr == null) {
+			throw new IllegalArgumentException("CIDR is null");
+		}
+		int index = cidr.indexOf('/');
+		IPAddress address = IPUtils.IPToAddress(index == Globals.DEFAULT_VALUE_INT ? cidr : cidr.substring(0, index));
+		if (address == null) {
+			throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+		}
+		int prefixLength;
+		if (index == Globals.DEFAULT_VALUE_INT) {
+			prefixLength = address.bitLength();
+		} else {
+			try {
+				prefixLength = Integer.parseInt(cidr.substring(index + 1).trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid CIDR: " + cidr, e);
+			}
+		}
+		return this.add(address, prefixLength);
+	}
+
+	/**
+	 * <h3 class="en-US">Add network prefix to current set</h3>
+	 * <h3 class="zh-CN">添加网络前缀到当前集合</h3>
+	 *
+	 * @param address      <span class="en-US">IPAddress instance</span>
+	 *                     <span class="zh-CN">IPAddress实例对象</span>
+	 * @param prefixLength <span class="en-US">Prefix length (CIDR value)</span>
+	 *                     <span class="zh-CN">前缀长度（CIDR值）</span>
+	 * @return <span class="en-US"><code>true</code> if the set changed, <code>false</code> if the prefix was already covered</span>
+	 * <span class="zh-CN">集合发生变化返回<code>true</code>，前缀已被覆盖返回<code>false</code></span>
+	 * @throws IllegalArgumentException <span class="en-US">If the prefix length is invalid</span>
+	 *                                  <span class="zh-CN">如果前缀长度非法</span>
+	 */
+	public boolean add(final IPAddress address, final int prefixLength) {
+		if (address == null || prefixLength < 0 || prefixLength > address.bitLength()) {
+			throw new IllegalArgumentException("Invalid prefix: " + address + "/" + prefixLength);
+		}
+		int node = IPType.IPv4.equals(address.getIpType()) ? IPV4_ROOT : IPV6_ROOT;
+		for (int i = 0; i < prefixLength; i++) {
+			if (this.terminals.get(node)) {
+				return Boolean.FALSE;
+			}
+			int slot = node * 2 + address.bit(i);
+			node = this.children[slot];
+			if (node == 0) {
+				//	Allocate first, the children array may be replaced while growing
+				node = this.allocate();
+				this.children[slot] = node;
+			}
+		}
+		if (this.terminals.get(node)) {
+			return Boolean.FALSE;
+		}
+		this.terminals.set(node);
+		this.size++;
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given address string is covered by any prefix in current set</h3>
+	 * <span class="en-US">The value returned by RequestUtils.getClientIP can be passed directly</span>
+	 * <h3 class="zh-CN">检查给定的地址字符串是否被当前集合中的任一前缀覆盖</h3>
+	 * <span class="zh-CN">可以直接传入RequestUtils.getClientIP的返回值</span>
+	 *
+	 * @param ipAddress <span class="en-US">IP address string</span>
+	 *                  <span class="zh-CN">IP地址字符串</span>
+	 * @return <span class="en-US">Check result, <code>false</code> for invalid address</span>
+	 * <span class="zh-CN">检查结果，非法地址返回<code>false</code></span>
+	 */
+	public boolean contains(final CharSequence ipAddress) {
+		return this.contains(IPUtils.IPToAddress(ipAddress));
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given address is covered by any prefix in current set</h3>
+	 * <h3 class="zh-CN">检查给定的地址是否被当前集合中的任一前缀覆盖</h3>
+	 *
+	 * @param address <span class="en-US">IPAddress instance</span>
+	 *                <span class="zh-CN">IPAddress实例对象</span>
+	 * @return <span class="en-US">Check result, <code>false</code> for <code>null</code></span>
+	 * <span class="zh-CN">检查结果，<code>null</code>返回<code>false</code></span>
+	 */
+	public boolean contains(final IPAddress address) {
+		if (address == null) {
+			return Boolean.FALSE;
+		}
+		if (IPType.IPv4.equals(address.getIpType())) {
+			return this.contains(address.intValue());
+		}
+		return this.contains(address.getHighBits(), address.getLowBits());
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given IPv4 address value is covered by any prefix in current set</h3>
+	 * <h3 class="zh-CN">检查给定的IPv4地址数值是否被当前集合中的任一前缀覆盖</h3>
+	 *
+	 * @param address <span class="en-US">IPv4 address value, see IPUtils.IPv4ToInt</span>
+	 *                <span class="zh-CN">IPv4地址数值，参见IPUtils.IPv4ToInt</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean contains(final int address) {
+		int node = IPV4_ROOT;
+		for (int i = IPAddress.IPV4_BIT_LENGTH - 1; i >= 0; i--) {
+			if (this.terminals.get(node)) {
+				return Boolean.TRUE;
+			}
+			node = this.children[node * 2 + ((address >>> i) & 1)];
+			if (node == 0) {
+				return Boolean.FALSE;
+			}
+		}
+		return this.terminals.get(node);
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given IPv6 address value is covered by any prefix in current set</h3>
+	 * <span class="en-US">IPv4-mapped address (::ffff:a.b.c.d) is also checked against the IPv4 prefixes</span>
+	 * <h3 class="zh-CN">检查给定的IPv6地址数值是否被当前集合中的任一前缀覆盖</h3>
+	 * <span class="zh-CN">IPv4映射地址（::ffff:a.b.c.d）同时使用IPv4前缀进行检查</span>
+	 *
+	 * @param highBits <span class="en-US">High 64 bits of IPv6 address</span>
+	 *                 <span class="zh-CN">IPv6地址的高64位</span>
+	 * @param lowBits  <span class="en-US">Low 64 bits of IPv6 address</span>
+	 *                 <span class="zh-CN">IPv6地址的低64位</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean contains(final long highBits, final long lowBits) {
+		if (this.matchIPv6(highBits, lowBits)) {
+			return Boolean.TRUE;
+		}
+		return highBits == 0L && (lowBits >>> Integer.SIZE) == IPV4_MAPPED_PREFIX && this.contains((int) lowBits);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve count of added prefixes</h3>
+	 * <h3 class="zh-CN">获取已添加的前缀数量</h3>
+	 *
+	 * @return <span class="en-US">Count of added prefixes</span>
+	 * <span class="zh-CN">已添加的前缀数量</span>
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * <h3 class="en-US">Check current set is empty</h3>
+	 * <h3 class="zh-CN">检查当前集合是否为空</h3>
+	 *
+	 * @return <span class="en-US"><code>true</code> if no prefix was added</span>
+	 * <span class="zh-CN">没有添加任何前缀时返回<code>true</code></span>
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * <h3 class="en-US">Walk the IPv6 trie by given address value</h3>
+	 * <h3 class="zh-CN">使用给定的地址数值遍历IPv6树</h3>
+	 *
+	 * @param highBits <span class="en-US">High 64 bits of IPv6 address</span>
+	 *                 <span class="zh-CN">IPv6地址的高64位</span>
+	 * @param lowBits  <span class="en-US">Low 64 bits of IPv6 address</span>
+	 *                 <span class="zh-CN">IPv6地址的低64位</span>
+	 * @return <span class="en-US">Match result</span>
+	 * <span class="zh-CN">匹配结果</span>
+	 */
+	private boolean matchIPv6(final long highBits, final long lowBits) {
+		int node = IPV6_ROOT;
+		for (int i = 0; i < IPAddress.IPV6_BIT_LENGTH; i++) {
+			if (this.terminals.get(node)) {
+				return Boolean.TRUE;
+			}
+			long bits = i < Long.SIZE ? highBits : lowBits;
+			node = this.children[node * 2 + (int) ((bits >>> (Long.SIZE - 1 - (i & (Long.SIZE - 1)))) & 1L)];
+			if (node == 0) {
+				return Boolean.FALSE;
+			}
+		}
+		return this.terminals.get(node);
+	}
+
+	/**
+	 * <h3 class="en-US">Allocate new node index, the child slots array grows on demand</h3>
+	 * <h3 class="zh-CN">分配新的节点索引，子节点槽位数组按需扩容</h3>
+	 *
+	 * @return <span class="en-US">Allocated node index</span>
+	 * <span class="zh-CN">分配的节点索引</span>
+	 */
+	private int allocate() {
+		if (this.nodeCount * 2 == this.children.length) {
+			this.children = Arrays.copyOf(this.children, this.children.length * 2);
+		}
+		return this.nodeCount++;
+	}
+}
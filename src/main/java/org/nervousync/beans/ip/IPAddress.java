@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.beans.ip;
+
+import org.nervousync.enumerations.ip.IPType;
+import org.nervousync.utils.IPUtils;
+
+import java.io.Serializable;
+
+/**
+ * <h2 class="en-US">Numeric IP address</h2>
+ * <span class="en-US">
+ *     Immutable numeric form of an IPv4 or IPv6 address. IPv4 addresses are kept in the low 32 bits of
+ *     <code>lowBits</code>, IPv6 addresses use <code>highBits</code> for the first 64 bits and
+ *     <code>lowBits</code> for the last 64 bits, so comparing and masking never need BigInteger or strings.
+ * </span>
+ * <h2 class="zh-CN">数值型IP地址</h2>
+ * <span class="zh-CN">
+ *     IPv4或IPv6地址的不可变数值形式。IPv4地址保存在<code>lowBits</code>的低32位，IPv6地址的前64位保存在
+ *     <code>highBits</code>，后64位保存在<code>lowBits</code>，比较和掩码运算无需使用BigInteger或字符串。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:12:36 $
+ */
+public final class IPAddress implements Serializable, Comparable<IPAddress> {
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	private static final long serialVersionUID = -3126740412391765281L;
+	/**
+	 * <span class="en-US">Bit length of IPv4 address</span>
+	 * <span class="zh-CN">IPv4地址的位长度</span>
+	 */
+	public static final int IPV4_BIT_LENGTH = 32;
+	/**
+	 * <span class="en-US">Bit length of IPv6 address</span>
+	 * <span class="zh-CN">IPv6地址的位长度</span>
+	 */
+	public static final int IPV6_BIT_LENGTH = 128;
+	/**
+	 * <span class="en-US">Enumeration value of IPType</span>
+	 * <span class="zh-CN">地址类型枚举值</span>
+	 */
+	private final IPType ipType;
+	/**
+	 * <span class="en-US">High 64 bits of IPv6 address, always 0 for IPv4 address</span>
+	 * <span class="zh-CN">IPv6地址的高64位，IPv4地址始终为0</span>
+	 */
+	private final long highBits;
+	/**
+	 * <span class="en-US">Low 64 bits of IPv6 address, or the unsigned 32 bits value of IPv4 address</span>
+	 * <span class="zh-CN">IPv6地址的低64位，或IPv4地址的无符号32位数值</span>
+	 */
+	private final long lowBits;
+
+	/**
+	 * <h3 class="en-US">Private constructor for IPAddress</h3>
+	 * <h3 class="zh-CN">IPAddress的私有构造方法</h3>
+	 *
+	 * @param ipType   <span class="en-US">Enumeration value of IPType</span>
+	 *                 <span class="zh-CN">地址类型枚举值</span>
+	 * @param highBits <span class="en-US">High 64 bits</span>
+	 *                 <span class="zh-CN">高64位</span>
+	 * @param lowBits  <span class="en-US">Low 64 bits</span>
+	 *                 <span class="zh-CN">低64位</span>
+	 */
+	private IPAddress(final IPType ipType, final long highBits, final long lowBits) {
+		this.ipType = ipType;
+		this.highBits = highBits;
+		this.lowBits = lowBits;
+	}
+
+	/**
+	 * <h3 class="en-US">Create IPv4 address instance by given numeric value</h3>
+	 * <h3 class="zh-CN">根据给定的数值创建IPv4地址实例对象</h3>
+	 *
+	 * @param address <span class="en-US">IPv4 address value</span>
+	 *                <span class="zh-CN">IPv4地址数值</span>
+	 * @return <span class="en-US">Generated IPAddress instance</span>
+	 * <span class="zh-CN">生成的IPAddress实例对象</span>
+	 */
+	public static IPAddress ipv4(final int address) {
+		return new IPAddress(IPType.IPv4, 0L, address & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * <h3 class="en-US">Create IPv6 address instance by given numeric value</h3>
+	 * <h3 class="zh-CN">根据给定的数值创建IPv6地址实例对象</h3>
+	 *
+	 * @param highBits <span class="en-US">High 64 bits</span>
+	 *                 <span class="zh-CN">高64位</span>
+	 * @param lowBits  <span class="en-US">Low 64 bits</span>
+	 *                 <span class="zh-CN">低64位</span>
+	 * @return <span class="en-US">Generated IPAddress instance</span>
+	 * <span class="zh-CN">生成的IPAddress实例对象</span>
+	 */
+	public static IPAddress ipv6(final long highBits, final long lowBits) {
+		return new IPAddress(IPType.IPv6, highBits, lowBits);
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for IP type</h3>
+	 * <h3 class="zh-CN">地址类型的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Value of IPType</span>
+	 * <span class="zh-CN">地址类型枚举值</span>
+	 */
+	public IPType getIpType() {
+		return ipType;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for high 64 bits</h3>
+	 * <h3 class="zh-CN">高64位的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">High 64 bits, always 0 for IPv4 address</span>
+	 * <span class="zh-CN">高64位，IPv4地址始终为0</span>
+	 */
+	public long getHighBits() {
+		return highBits;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for low 64 bits</h3>
+	 * <h3 class="zh-CN">低64位的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Low 64 bits</span>
+	 * <span class="zh-CN">低64位</span>
+	 */
+	public long getLowBits() {
+		return lowBits;
+	}
+
+	/**
+	 * <h3 class="en-US">Read IPv4 address as int value</h3>
+	 * <h3 class="zh-CN">以int数值读取IPv4地址</h3>
+	 *
+	 * @return <span class="en-US">IPv4 address value</span>
+	 * <span class="zh-CN">IPv4地址数值</span>
+	 * @throws IllegalStateException <span class="en-US">If current address is not IPv4 address</span>
+	 *                               <span class="zh-CN">如果当前地址不是IPv4地址</span>
+	 */
+	public int intValue() {
+		if (!IPType.IPv4.equals(this.ipType)) {
+			throw new IllegalStateException("Not an IPv4 address");
+		}
+		return (int) this.lowBits;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve bit length of current address</h3>
+	 * <h3 class="zh-CN">获取当前地址的位长度</h3>
+	 *
+	 * @return <span class="en-US">32 for IPv4 address, 128 for IPv6 address</span>
+	 * <span class="zh-CN">IPv4地址返回32，IPv6地址返回128</span>
+	 */
+	public int bitLength() {
+		return IPType.IPv4.equals(this.ipType) ? IPV4_BIT_LENGTH : IPV6_BIT_LENGTH;
+	}
+
+	/**
+	 * <h3 class="en-US">Read the bit value at given index, counted from the most significant bit</h3>
+	 * <h3 class="zh-CN">读取给定索引的位值，索引从最高位开始计算</h3>
+	 *
+	 * @param index <span class="en-US">Bit index</span>
+	 *              <span class="zh-CN">位索引</span>
+	 * @return <span class="en-US">Bit value, 0 or 1</span>
+	 * <span class="zh-CN">位值，0或1</span>
+	 */
+	public int bit(final int index) {
+		int bitLength = this.bitLength();
+		if (index < 0 || index >= bitLength) {
+			throw new IndexOutOfBoundsException("Bit index " + index + " out of bounds for length " + bitLength);
+		}
+		if (bitLength == IPV4_BIT_LENGTH) {
+			return (int) (this.lowBits >>> (IPV4_BIT_LENGTH - 1 - index)) & 1;
+		}
+		return index < Long.SIZE
+				? (int) (this.highBits >>> (Long.SIZE - 1 - index)) & 1
+				: (int) (this.lowBits >>> (IPV6_BIT_LENGTH - 1 - index)) & 1;
+	}
+
+	/**
+	 * <h3 class="en-US">Generate the network address of given prefix length</h3>
+	 * <h3 class="zh-CN">生成给定前缀长度的网络地址</h3>
+	 *
+	 * @param prefixLength <span class="en-US">Prefix length (CIDR value)</span>
+	 *                     <span class="zh-CN">前缀长度（CIDR值）</span>
+	 * @return <span class="en-US">Network address instance</span>
+	 * <span class="zh-CN">网络地址实例对象</span>
+	 */
+	public IPAddress network(final int prefixLength) {
+		this.checkPrefix(prefixLength);
+		if (IPType.IPv4.equals(this.ipType)) {
+			return ipv4((int) this.lowBits & IPUtils.IPv4Mask(prefixLength));
+		}
+		return ipv6(this.highBits & highMask(prefixLength), this.lowBits & lowMask(prefixLength));
+	}
+
+	/**
+	 * <h3 class="en-US">Generate the last address of given prefix length</h3>
+	 * <h3 class="zh-CN">生成给定前缀长度的最后一个地址</h3>
+	 *
+	 * @param prefixLength <span class="en-US">Prefix length (CIDR value)</span>
+	 *                     <span class="zh-CN">前缀长度（CIDR值）</span>
+	 * @return <span class="en-US">Last address instance</span>
+	 * <span class="zh-CN">最后一个地址的实例对象</span>
+	 */
+	public IPAddress broadcast(final int prefixLength) {
+		this.checkPrefix(prefixLength);
+		if (IPType.IPv4.equals(this.ipType)) {
+			return ipv4((int) this.lowBits | ~IPUtils.IPv4Mask(prefixLength));
+		}
+		return ipv6(this.highBits | ~highMask(prefixLength), this.lowBits | ~lowMask(prefixLength));
+	}
+
+	@Override
+	public int compareTo(final IPAddress other) {
+		int result = this.ipType.compareTo(other.ipType);
+		if (result == 0) {
+			result = Long.compareUnsigned(this.highBits, other.highBits);
+		}
+		if (result == 0) {
+			result = Long.compareUnsigned(this.lowBits, other.lowBits);
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return Boolean.TRUE;
+		}
+		if (!(obj instanceof IPAddress)) {
+			return Boolean.FALSE;
+		}
+		IPAddress other = (IPAddress) obj;
+		return this.ipType == other.ipType && this.highBits == other.highBits && this.lowBits == other.lowBits;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * this.ipType.hashCode() + Long.hashCode(this.highBits)) + Long.hashCode(this.lowBits);
+	}
+
+	@Override
+	public String toString() {
+		return IPUtils.AddressToIP(this);
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given prefix length is valid for current address</h3>
+	 * <h3 class="zh-CN">检查给定的前缀长度对当前地址是否合法</h3>
+	 *
+	 * @param prefixLength <span class="en-US">Prefix length (CIDR value)</span>
+	 *                     <span class="zh-CN">前缀长度（CIDR值）</span>
+	 */
+	private void checkPrefix(final int prefixLength) {
+		if (prefixLength < 0 || prefixLength > this.bitLength()) {
+			throw new IllegalArgumentException("Invalid prefix length: " + prefixLength);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Calculate the mask of high 64 bits by given prefix length</h3>
+	 * <h3 class="zh-CN">根据给定的前缀长度计算高64位掩码</h3>
+	 *
+	 * @param prefixLength <span class="en-US">Prefix length (CIDR value)</span>
+	 *                     <span class="zh-CN">前缀长度（CIDR值）</span>
+	 * @return <span class="en-US">Mask value</span>
+	 * <span class="zh-CN">掩码值</span>
+	 */
+	private static long highMask(final int prefixLength) {
+		if (prefixLength >= Long.SIZE) {
+			return -1L;
+		}
+		return prefixLength == 0 ? 0L : -1L << (Long.SIZE - prefixLength);
+	}
+
+	/**
+	 * <h3 class="en-US">Calculate the mask of low 64 bits by given prefix length</h3>
+	 * <h3 class="zh-CN">根据给定的前缀长度计算低64位掩码</h3>
+	 *
+	 * @param prefixLength <span class="en-US">Prefix length (CIDR value)</span>
+	 *                     <span class="zh-CN">前缀长度（CIDR值）</span>
+	 * @return <span class="en-US">Mask value</span>
+	 * <span class="zh-CN">掩码值</span>
+	 */
+	private static long lowMask(final int prefixLength) {
+		if (prefixLength <= Long.SIZE) {
+			return 0L;
+		}
+		return highMask(prefixLength - Long.SIZE);
+	}
+}
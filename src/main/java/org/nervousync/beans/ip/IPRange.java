@@ -18,15 +18,18 @@ package org.nervousync.beans.ip;
 
 import org.nervousync.enumerations.ip.IPType;
 import org.nervousync.commons.Globals;
+import org.nervousync.utils.IPUtils;
 
 import java.io.Serializable;
 
 /**
  * <h2 class="en-US">IP address range define</h2>
+ * <span class="en-US">Range bounds are kept as numeric IPAddress, address strings are only used for display</span>
  * <h2 class="zh-CN">IP地址范围定义</h2>
+ * <span class="zh-CN">范围边界以数值型IPAddress保存，地址字符串仅用于显示</span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.1.3 $Date: Dec 10, 2021 18:25:52 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:48:19 $
  */
 public final class IPRange implements Serializable {
 	/**
@@ -50,6 +53,16 @@ public final class IPRange implements Serializable {
 	 * <span class="zh-CN">IP范围终止地址</span>
 	 */
 	private String endAddress = Globals.DEFAULT_VALUE_STRING;
+	/**
+	 * <span class="en-US">Numeric value of IP range begin address</span>
+	 * <span class="zh-CN">IP范围起始地址的数值</span>
+	 */
+	private IPAddress beginValue;
+	/**
+	 * <span class="en-US">Numeric value of IP range end address</span>
+	 * <span class="zh-CN">IP范围终止地址的数值</span>
+	 */
+	private IPAddress endValue;
 	/**
 	 * <h3 class="en-US">Constructor for IPRange</h3>
 	 * <h3 class="zh-CN">IPRange默认构造方法</h3>
@@ -97,6 +110,7 @@ public final class IPRange implements Serializable {
 	 */
 	public void setBeginAddress(String beginAddress) {
 		this.beginAddress = beginAddress;
+		this.beginValue = IPUtils.IPToAddress(beginAddress);
 	}
 	/**
 	 * <h3 class="en-US">Getter method for IP range end address</h3>
@@ -117,5 +131,80 @@ public final class IPRange implements Serializable {
 	 */
 	public void setEndAddress(String endAddress) {
 		this.endAddress = endAddress;
+		this.endValue = IPUtils.IPToAddress(endAddress);
+	}
+	/**
+	 * <h3 class="en-US">Getter method for numeric value of IP range begin address</h3>
+	 * <h3 class="zh-CN">IP范围起始地址数值的Getter方法</h3>
+	 *
+	 * @return    <span class="en-US">Numeric value of IP range begin address</span>
+	 *            <span class="zh-CN">IP范围起始地址的数值</span>
+	 */
+	public IPAddress getBeginValue() {
+		return beginValue;
+	}
+	/**
+	 * <h3 class="en-US">Setter method for numeric value of IP range begin address</h3>
+	 * <h3 class="zh-CN">IP范围起始地址数值的Setter方法</h3>
+	 *
+	 * @param beginValue 	<span class="en-US">Numeric value of IP range begin address</span>
+	 *            			<span class="zh-CN">IP范围起始地址的数值</span>
+	 */
+	public void setBeginValue(IPAddress beginValue) {
+		this.beginValue = beginValue;
+		this.beginAddress = (beginValue == null)
+				? Globals.DEFAULT_VALUE_STRING
+				: IPUtils.AddressToIP(beginValue, Boolean.FALSE);
+	}
+	/**
+	 * <h3 class="en-US">Getter method for numeric value of IP range end address</h3>
+	 * <h3 class="zh-CN">IP范围终止地址数值的Getter方法</h3>
+	 *
+	 * @return    <span class="en-US">Numeric value of IP range end address</span>
+	 *            <span class="zh-CN">IP范围终止地址的数值</span>
+	 */
+	public IPAddress getEndValue() {
+		return endValue;
+	}
+	/**
+	 * <h3 class="en-US">Setter method for numeric value of IP range end address</h3>
+	 * <h3 class="zh-CN">IP范围终止地址数值的Setter方法</h3>
+	 *
+	 * @param endValue 	<span class="en-US">Numeric value of IP range end address</span>
+	 *            		<span class="zh-CN">IP范围终止地址的数值</span>
+	 */
+	public void setEndValue(IPAddress endValue) {
+		this.endValue = endValue;
+		this.endAddress = (endValue == null)
+				? Globals.DEFAULT_VALUE_STRING
+				: IPUtils.AddressToIP(endValue, Boolean.FALSE);
+	}
+	/**
+	 * <h3 class="en-US">Check the given address is in current range</h3>
+	 * <h3 class="zh-CN">检查给定的地址是否在当前范围内</h3>
+	 *
+	 * @param ipAddress 	<span class="en-US">IP address string</span>
+	 *            			<span class="zh-CN">IP地址字符串</span>
+	 * @return    <span class="en-US">Check result. <code>true</code> for in range, <code>false</code> for not</span>
+	 *            <span class="zh-CN">检查结果。<code>true</code>在范围内，<code>false</code>不在范围内</span>
+	 */
+	public boolean contains(String ipAddress) {
+		return this.contains(IPUtils.IPToAddress(ipAddress));
+	}
+	/**
+	 * <h3 class="en-US">Check the given address is in current range</h3>
+	 * <h3 class="zh-CN">检查给定的地址是否在当前范围内</h3>
+	 *
+	 * @param address 	<span class="en-US">IPAddress instance</span>
+	 *            		<span class="zh-CN">IPAddress实例对象</span>
+	 * @return    <span class="en-US">Check result. <code>true</code> for in range, <code>false</code> for not</span>
+	 *            <span class="zh-CN">检查结果。<code>true</code>在范围内，<code>false</code>不在范围内</span>
+	 */
+	public boolean contains(IPAddress address) {
+		if (address == null || this.beginValue == null || this.endValue == null
+				|| !address.getIpType().equals(this.beginValue.getIpType())) {
+			return Boolean.FALSE;
+		}
+		return this.beginValue.compareTo(address) <= 0 && address.compareTo(this.endValue) <= 0;
 	}
 }
@@ -18,6 +18,7 @@
 package org.nervousync.beans.launcher;
 
 import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlType;
 import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -26,12 +27,15 @@ import org.nervousync.beans.transfer.basic.ClassAdapter;
 import org.nervousync.commons.Globals;
 import org.nervousync.enumerations.launcher.StartupType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <h2 class="en-US">Startup Launcher configure information</h2>
  * <h2 class="zh-CN">启动器注册信息</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Feb 27, 2024 11:07:46 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:46:25 $
  */
 @XmlType(name = "launcher_config")
 @XmlRootElement(name = "launcher_config")
@@ -62,6 +66,19 @@ public final class LauncherConfig extends BeanObject {
 	 */
 	@XmlElement(name = "startup_type")
 	private StartupType startupType = StartupType.MANUAL;
+	/**
+	 * <span class="en-US">Class names of dependency launchers</span>
+	 * <span class="zh-CN">依赖的启动器类名</span>
+	 */
+	@XmlElement(name = "dependency")
+	@XmlElementWrapper(name = "dependencies")
+	private List<String> dependencies = new ArrayList<>();
+	/**
+	 * <span class="en-US">Startup timeout (Unit: milliseconds), zero or negative value means no limit</span>
+	 * <span class="zh-CN">启动超时时间（单位：毫秒），零或负数表示不限制</span>
+	 */
+	@XmlElement(name = "timeout")
+	private long timeout = Globals.DEFAULT_VALUE_LONG;
 
 	/**
 	 * <h3 class="en-US">Constructor method for LauncherConfig</h3>
@@ -135,4 +152,48 @@ public final class LauncherConfig extends BeanObject {
 	public void setStartupType(StartupType startupType) {
 		this.startupType = startupType;
 	}
+
+	/**
+	 * <h3 class="en-US">Getter method for class names of dependency launchers</h3>
+	 * <h3 class="zh-CN">依赖的启动器类名的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Class names of dependency launchers</span>
+	 * <span class="zh-CN">依赖的启动器类名</span>
+	 */
+	public List<String> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * <h3 class="en-US">Setter method for class names of dependency launchers</h3>
+	 * <h3 class="zh-CN">依赖的启动器类名的Setter方法</h3>
+	 *
+	 * @param dependencies <span class="en-US">Class names of dependency launchers</span>
+	 *                     <span class="zh-CN">依赖的启动器类名</span>
+	 */
+	public void setDependencies(List<String> dependencies) {
+		this.dependencies = dependencies;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for startup timeout</h3>
+	 * <h3 class="zh-CN">启动超时时间的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Startup timeout (Unit: milliseconds)</span>
+	 * <span class="zh-CN">启动超时时间（单位：毫秒）</span>
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * <h3 class="en-US">Setter method for startup timeout</h3>
+	 * <h3 class="zh-CN">启动超时时间的Setter方法</h3>
+	 *
+	 * @param timeout <span class="en-US">Startup timeout (Unit: milliseconds)</span>
+	 *                <span class="zh-CN">启动超时时间（单位：毫秒）</span>
+	 */
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
 }
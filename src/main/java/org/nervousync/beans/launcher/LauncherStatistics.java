@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.beans.launcher;
+
+import org.nervousync.enumerations.launcher.LauncherState;
+
+/**
+ * <h2 class="en-US">Startup launcher statistics information</h2>
+ * <span class="en-US">Immutable record of the latest state, startup and stop time cost of launcher</span>
+ * <h2 class="zh-CN">启动器统计信息</h2>
+ * <span class="zh-CN">启动器最新状态、启动和停止耗时的不可变记录</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:46:25 $
+ */
+public final class LauncherStatistics {
+
+	/**
+	 * <span class="en-US">Implement class name of startup launcher</span>
+	 * <span class="zh-CN">启动器实现类名</span>
+	 */
+	private final String className;
+	/**
+	 * <span class="en-US">Enumeration value of launcher state</span>
+	 * <span class="zh-CN">启动器状态枚举值</span>
+	 */
+	private final LauncherState launcherState;
+	/**
+	 * <span class="en-US">Latest startup begin time (UTC milliseconds)</span>
+	 * <span class="zh-CN">最近一次启动的开始时间（UTC毫秒数）</span>
+	 */
+	private final long startTime;
+	/**
+	 * <span class="en-US">Time cost of latest startup (Unit: milliseconds), -1 if not finished</span>
+	 * <span class="zh-CN">最近一次启动的耗时（单位：毫秒），未完成时为-1</span>
+	 */
+	private final long startupCost;
+	/**
+	 * <span class="en-US">Time cost of latest stop (Unit: milliseconds), -1 if not stopped</span>
+	 * <span class="zh-CN">最近一次停止的耗时（单位：毫秒），未停止时为-1</span>
+	 */
+	private final long stopCost;
+	/**
+	 * <span class="en-US">Failure message, empty string if not failed</span>
+	 * <span class="zh-CN">失败信息，未失败时为空字符串</span>
+	 */
+	private final String message;
+
+	/**
+	 * <h3 class="en-US">Constructor method for LauncherStatistics</h3>
+	 * <h3 class="zh-CN">启动器统计信息的构造方法</h3>
+	 *
+	 * @param className     <span class="en-US">Implement class name of startup launcher</span>
+	 *                      <span class="zh-CN">启动器实现类名</span>
+	 * @param launcherState <span class="en-US">Enumeration value of launcher state</span>
+	 *                      <span class="zh-CN">启动器状态枚举值</span>
+	 * @param startTime     <span class="en-US">Latest startup begin time (UTC milliseconds)</span>
+	 *                      <span class="zh-CN">最近一次启动的开始时间（UTC毫秒数）</span>
+	 * @param startupCost   <span class="en-US">Time cost of latest startup (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">最近一次启动的耗时（单位：毫秒）</span>
+	 * @param stopCost      <span class="en-US">Time cost of latest stop (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">最近一次停止的耗时（单位：毫秒）</span>
+	 * @param message       <span class="en-US">Failure message</span>
+	 *                      <span class="zh-CN">失败信息</span>
+	 */
+	public LauncherStatistics(final String className, final LauncherState launcherState, final long startTime,
+	                          final long startupCost, final long stopCost, final String message) {
+		this.className = className;
+		this.launcherState = launcherState;
+		this.startTime = startTime;
+		this.startupCost = startupCost;
+		this.stopCost = stopCost;
+		this.message = message;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for implement class name of startup launcher</h3>
+	 * <h3 class="zh-CN">启动器实现类名的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Implement class name of startup launcher</span>
+	 * <span class="zh-CN">启动器实现类名</span>
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for enumeration value of launcher state</h3>
+	 * <h3 class="zh-CN">启动器状态枚举值的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Enumeration value of launcher state</span>
+	 * <span class="zh-CN">启动器状态枚举值</span>
+	 */
+	public LauncherState getLauncherState() {
+		return launcherState;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for latest startup begin time</h3>
+	 * <h3 class="zh-CN">最近一次启动的开始时间的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Latest startup begin time (UTC milliseconds)</span>
+	 * <span class="zh-CN">最近一次启动的开始时间（UTC毫秒数）</span>
+	 */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for time cost of latest startup</h3>
+	 * <h3 class="zh-CN">最近一次启动的耗时的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Time cost of latest startup (Unit: milliseconds)</span>
+	 * <span class="zh-CN">最近一次启动的耗时（单位：毫秒）</span>
+	 */
+	public long getStartupCost() {
+		return startupCost;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for time cost of latest stop</h3>
+	 * <h3 class="zh-CN">最近一次停止的耗时的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Time cost of latest stop (Unit: milliseconds)</span>
+	 * <span class="zh-CN">最近一次停止的耗时（单位：毫秒）</span>
+	 */
+	public long getStopCost() {
+		return stopCost;
+	}
+
+	/**
+	 * <h3 class="en-US">Getter method for failure message</h3>
+	 * <h3 class="zh-CN">失败信息的Getter方法</h3>
+	 *
+	 * @return <span class="en-US">Failure message</span>
+	 * <span class="zh-CN">失败信息</span>
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
@@ -27,15 +27,21 @@ import java.util.Date;
  * <h2 class="zh-CN">日期时间数据转换器</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.1.0 $Date: 2018-10-15 14:31
+ * @version $Revision: 1.2.1 $Date: 2026-10-18 23:58
  */
 public final class DateTimeAdapter extends AbstractAdapter<Date> {
-	private final String pattern;
+	/**
+	 * <span class="en-US">Formatter of given pattern, null for using the ISO8601 fast path</span>
+	 * <span class="zh-CN">给定格式的格式化实例对象，为null时使用ISO8601快速路径</span>
+	 */
+	private final DateTimeFormatter formatter;
 	public DateTimeAdapter() {
 		this(DateTimeUtils.DEFAULT_DATETIME_PATTERN_ISO8601);
 	}
 	public DateTimeAdapter(final String pattern) {
-		this.pattern = pattern;
+		this.formatter = DateTimeUtils.DEFAULT_DATETIME_PATTERN_ISO8601.equals(pattern)
+				? null
+				: DateTimeUtils.formatter(pattern);
 	}
     /**
      * @see jakarta.xml.bind.annotation.adapters.XmlAdapter#unmarshal(Object)
@@ -49,6 +55,9 @@ public final class DateTimeAdapter extends AbstractAdapter<Date> {
      */
 	@Override
 	public String marshal(final Date v) {
-		return DateTimeUtils.formatDate(v, DateTimeFormatter.ofPattern(this.pattern));
+		if (this.formatter == null) {
+			return DateTimeUtils.formatISO8601(v);
+		}
+		return DateTimeUtils.formatDate(v, this.formatter);
 	}
 }
@@ -429,6 +429,14 @@ public final class Globals {
 	 * The constant ENDHDR.
 	 */
 	public static final int ENDHDR = 22; // END header size
+	/**
+	 * The constant LOCHDR.
+	 */
+	public static final int LOCHDR = 30; // LOC header size
+	/**
+	 * The constant CENHDR.
+	 */
+	public static final int CENHDR = 46; // CEN header size
 
 	/**
 	 * The constant BUFFER_SIZE.
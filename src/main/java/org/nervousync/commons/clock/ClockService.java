@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.commons.clock;
+
+/**
+ * <h2 class="en-US">Interface of clock service</h2>
+ * <span class="en-US">
+ *     Clock service provides the current time in milliseconds since 1970-01-01T00:00:00Z,
+ *     DateTimeUtils and the ID generators read time through the registered clock service.
+ * </span>
+ * <h2 class="zh-CN">时钟服务接口</h2>
+ * <span class="zh-CN">时钟服务提供与1970-01-01T00:00:00Z差值的毫秒数，DateTimeUtils和ID生成器通过注册的时钟服务读取时间。</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:20:16 $
+ */
+public interface ClockService {
+    /**
+     * <h3 class="en-US">Read current time in milliseconds</h3>
+     * <h3 class="zh-CN">读取当前时间的毫秒数</h3>
+     *
+     * @return <span class="en-US">Milliseconds since 1970-01-01T00:00:00Z</span>
+     * <span class="zh-CN">与1970-01-01T00:00:00Z差值的毫秒数</span>
+     */
+    long currentTimeMillis();
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.commons.clock;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2 class="en-US">Coarse clock</h2>
+ * <span class="en-US">
+ *     A daemon thread refreshes the cached time at the configured tick, reading is a single volatile load.
+ *     The result may be late by at most one tick, so this clock fits the callers reading time at a very high rate
+ *     and accepting the precision loss. Call close() to stop the refresh thread.
+ * </span>
+ * <h2 class="zh-CN">粗粒度时钟</h2>
+ * <span class="zh-CN">
+ *     守护线程按照配置的间隔刷新缓存的时间，读取时间仅需一次volatile读取。
+ *     结果最多滞后一个间隔，适用于以极高频率读取时间并可以接受精度损失的调用者。调用close()停止刷新线程。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:25:07 $
+ */
+public final class CoarseClock implements ClockService, AutoCloseable {
+    /**
+     * <span class="en-US">Default tick in milliseconds</span>
+     * <span class="zh-CN">默认的刷新间隔毫秒数</span>
+     */
+    public static final long DEFAULT_TICK_MILLIS = 10L;
+    /**
+     * <span class="en-US">Scheduled executor of refresh thread</span>
+     * <span class="zh-CN">刷新线程的调度执行器</span>
+     */
+    private final ScheduledThreadPoolExecutor threadPoolExecutor;
+    /**
+     * <span class="en-US">Cached time in milliseconds</span>
+     * <span class="zh-CN">缓存的时间毫秒数</span>
+     */
+    private volatile long currentTime;
+
+    /**
+     * <h3 class="en-US">Constructor method for CoarseClock using default tick</h3>
+     * <h3 class="zh-CN">使用默认刷新间隔的粗粒度时钟构造方法</h3>
+     */
+    public CoarseClock() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * <h3 class="en-US">Constructor method for CoarseClock</h3>
+     * <h3 class="zh-CN">粗粒度时钟的构造方法</h3>
+     *
+     * @param tickMillis <span class="en-US">Refresh tick in milliseconds, default tick used if less than 1</span>
+     *                   <span class="zh-CN">刷新间隔毫秒数，小于1时使用默认间隔</span>
+     */
+    public CoarseClock(final long tickMillis) {
+        this.currentTime = System.currentTimeMillis();
+        this.threadPoolExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "CoarseClock");
+            thread.setDaemon(Boolean.TRUE);
+            return thread;
+        });
+        long tick = (tickMillis > 0L) ? tickMillis : DEFAULT_TICK_MILLIS;
+        this.threadPoolExecutor.scheduleAtFixedRate(() -> this.currentTime = System.currentTimeMillis(),
+                tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <h3 class="en-US">Read cached time in milliseconds</h3>
+     * <h3 class="zh-CN">读取缓存的时间毫秒数</h3>
+     *
+     * @return <span class="en-US">Milliseconds since 1970-01-01T00:00:00Z</span>
+     * <span class="zh-CN">与1970-01-01T00:00:00Z差值的毫秒数</span>
+     */
+    @Override
+    public long currentTimeMillis() {
+        return this.currentTime;
+    }
+
+    /**
+     * <h3 class="en-US">Stop the refresh thread</h3>
+     * <h3 class="zh-CN">停止刷新线程</h3>
+     */
+    @Override
+    public void close() {
+        this.threadPoolExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.commons.clock;
+
+/**
+ * <h2 class="en-US">Monotonic clock</h2>
+ * <span class="en-US">
+ *     The wall time is read once as the anchor, the following results are calculated from the elapsed
+ *     System.nanoTime(), so the result never moves backwards when the system time is adjusted.
+ *     Using for ID generators which require ordered timestamps.
+ * </span>
+ * <h2 class="zh-CN">单调时钟</h2>
+ * <span class="zh-CN">
+ *     仅读取一次系统时间作为锚点，后续结果根据System.nanoTime()的流逝时间计算，
+ *     因此调整系统时间时结果不会回退。用于需要有序时间戳的ID生成器。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:27:52 $
+ */
+public final class MonotonicClock implements ClockService {
+    /**
+     * <span class="en-US">Anchor time in milliseconds</span>
+     * <span class="zh-CN">锚点时间的毫秒数</span>
+     */
+    private final long anchorMillis;
+    /**
+     * <span class="en-US">Anchor value of System.nanoTime()</span>
+     * <span class="zh-CN">System.nanoTime()的锚点值</span>
+     */
+    private final long anchorNanos;
+
+    /**
+     * <h3 class="en-US">Constructor method for MonotonicClock</h3>
+     * <h3 class="zh-CN">单调时钟的构造方法</h3>
+     */
+    public MonotonicClock() {
+        this.anchorMillis = System.currentTimeMillis();
+        this.anchorNanos = System.nanoTime();
+    }
+
+    /**
+     * <h3 class="en-US">Read current time in milliseconds</h3>
+     * <h3 class="zh-CN">读取当前时间的毫秒数</h3>
+     *
+     * @return <span class="en-US">Milliseconds since 1970-01-01T00:00:00Z</span>
+     * <span class="zh-CN">与1970-01-01T00:00:00Z差值的毫秒数</span>
+     */
+    @Override
+    public long currentTimeMillis() {
+        return this.anchorMillis + (System.nanoTime() - this.anchorNanos) / 1_000_000L;
+    }
+}
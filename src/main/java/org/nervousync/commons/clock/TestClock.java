@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.commons.clock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Manual clock for testing</h2>
+ * <span class="en-US">The time only changes when calling setTime or advance</span>
+ * <h2 class="zh-CN">用于测试的手动时钟</h2>
+ * <span class="zh-CN">仅在调用setTime或advance时修改时间</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:30:24 $
+ */
+public final class TestClock implements ClockService {
+    /**
+     * <span class="en-US">Current time in milliseconds</span>
+     * <span class="zh-CN">当前时间的毫秒数</span>
+     */
+    private final AtomicLong currentTime;
+
+    /**
+     * <h3 class="en-US">Constructor method for TestClock</h3>
+     * <h3 class="zh-CN">测试时钟的构造方法</h3>
+     *
+     * @param currentTime <span class="en-US">Initialize time in milliseconds</span>
+     *                    <span class="zh-CN">初始时间的毫秒数</span>
+     */
+    public TestClock(final long currentTime) {
+        this.currentTime = new AtomicLong(currentTime);
+    }
+
+    /**
+     * <h3 class="en-US">Read current time in milliseconds</h3>
+     * <h3 class="zh-CN">读取当前时间的毫秒数</h3>
+     *
+     * @return <span class="en-US">Milliseconds since 1970-01-01T00:00:00Z</span>
+     * <span class="zh-CN">与1970-01-01T00:00:00Z差值的毫秒数</span>
+     */
+    @Override
+    public long currentTimeMillis() {
+        return this.currentTime.get();
+    }
+
+    /**
+     * <h3 class="en-US">Configure current time</h3>
+     * <h3 class="zh-CN">设置当前时间</h3>
+     *
+     * @param currentTime <span class="en-US">Time in milliseconds</span>
+     *                    <span class="zh-CN">时间的毫秒数</span>
+     */
+    public void setTime(final long currentTime) {
+        this.currentTime.set(currentTime);
+    }
+
+    /**
+     * <h3 class="en-US">Advance current time</h3>
+     * <h3 class="zh-CN">推进当前时间</h3>
+     *
+     * @param millis <span class="en-US">Advance milliseconds, negative value moves the time backwards</span>
+     *               <span class="zh-CN">推进的毫秒数，负数时回退时间</span>
+     * @return <span class="en-US">Current time after advance</span>
+     * <span class="zh-CN">推进后的当前时间</span>
+     */
+    public long advance(final long millis) {
+        return this.currentTime.addAndGet(millis);
+    }
+}
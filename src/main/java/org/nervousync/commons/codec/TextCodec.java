@@ -0,0 +1,721 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.commons.codec;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <h2 class="en-US">Table driven binary to text codec</h2>
+ * <p class="en-US">
+ *     Encode/decode the binary data using Base32, Base64 or hex alphabet, the characters were resolved by lookup tables
+ *     and the data was processed directly on byte array, char array and byte buffer without temporary objects.
+ *     The encoded result is compatible with the StringUtils/ConvertUtils output, including the padding rule:
+ *     Base64 result was padded to multiple of 3 characters and Base32 result was padded to multiple of 5 characters.
+ *     The trailing padding characters were ignored when decoding.
+ * </p>
+ * <h2 class="zh-CN">基于查找表的二进制文本编解码器</h2>
+ * <p class="zh-CN">
+ *     使用Base32、Base64或十六进制字符表编码/解码二进制数据，字符通过查找表解析，直接在字节数组、字符数组和字节缓冲区上处理数据，不创建临时对象。
+ *     编码结果与StringUtils/ConvertUtils的输出兼容，包括填充规则：Base64结果填充到3的整数倍长度，Base32结果填充到5的整数倍长度。
+ *     解码时忽略末尾的填充字符。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 13:26:08 $
+ */
+public final class TextCodec {
+
+    /**
+     * <span class="en-US">Padding character</span>
+     * <span class="zh-CN">填充字符</span>
+     */
+    private static final char PADDING = '=';
+    /**
+     * <span class="en-US">Buffer size of streaming encoder and decoder</span>
+     * <span class="zh-CN">流式编码器和解码器的缓冲区大小</span>
+     */
+    private static final int STREAM_BUFFER_SIZE = 4096;
+
+    /**
+     * <span class="en-US">Base32 codec, invalid characters were skipped when decoding</span>
+     * <span class="zh-CN">Base32编解码器，解码时跳过无效字符</span>
+     */
+    public static final TextCodec BASE32 = new TextCodec("ABCDEFGHIJKLMNOPQRSTUVWXYZ234567", 5, 5, Boolean.TRUE);
+    /**
+     * <span class="en-US">Base64 codec</span>
+     * <span class="zh-CN">Base64编解码器</span>
+     */
+    public static final TextCodec BASE64 =
+            new TextCodec("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/", 6, 3, Boolean.FALSE);
+    /**
+     * <span class="en-US">Hex codec using lower case characters</span>
+     * <span class="zh-CN">使用小写字符的十六进制编解码器</span>
+     */
+    public static final TextCodec HEX = new TextCodec("0123456789abcdef", 4, 1, Boolean.FALSE);
+
+    /**
+     * <span class="en-US">Encode alphabet</span>
+     * <span class="zh-CN">编码字符表</span>
+     */
+    private final char[] alphabet;
+    /**
+     * <span class="en-US">Decode table of ASCII characters, value -1 means invalid character</span>
+     * <span class="zh-CN">ASCII字符的解码表，值为-1表示无效字符</span>
+     */
+    private final byte[] values;
+    /**
+     * <span class="en-US">Bits count of each character</span>
+     * <span class="zh-CN">每个字符的位数</span>
+     */
+    private final int charBits;
+    /**
+     * <span class="en-US">Bit mask of each character</span>
+     * <span class="zh-CN">每个字符的位掩码</span>
+     */
+    private final int charMask;
+    /**
+     * <span class="en-US">Bytes count of encode block, the encoded characters of a block contain whole bits</span>
+     * <span class="zh-CN">编码块的字节数，一个编码块的编码字符包含完整的位</span>
+     */
+    private final int blockBytes;
+    /**
+     * <span class="en-US">Shift bits of the first character in encode block</span>
+     * <span class="zh-CN">编码块中第一个字符的位移数</span>
+     */
+    private final int blockShift;
+    /**
+     * <span class="en-US">Padded result length will be multiple of the block size</span>
+     * <span class="zh-CN">填充后的结果长度为块大小的整数倍</span>
+     */
+    private final int paddingBlock;
+    /**
+     * <span class="en-US">Skip invalid characters when decoding, or treat as all bits set</span>
+     * <span class="zh-CN">解码时跳过无效字符，否则视为所有位均为1</span>
+     */
+    private final boolean skipInvalid;
+
+    /**
+     * <h3 class="en-US">Private constructor for TextCodec</h3>
+     * <h3 class="zh-CN">二进制文本编解码器的私有构造方法</h3>
+     *
+     * @param alphabet     <span class="en-US">Encode alphabet</span>
+     *                     <span class="zh-CN">编码字符表</span>
+     * @param charBits     <span class="en-US">Bits count of each character</span>
+     *                     <span class="zh-CN">每个字符的位数</span>
+     * @param paddingBlock <span class="en-US">Padded result length will be multiple of the block size</span>
+     *                     <span class="zh-CN">填充后的结果长度为块大小的整数倍</span>
+     * @param skipInvalid  <span class="en-US">Skip invalid characters when decoding</span>
+     *                     <span class="zh-CN">解码时跳过无效字符</span>
+     */
+    private TextCodec(final String alphabet, final int charBits, final int paddingBlock, final boolean skipInvalid) {
+        this.alphabet = alphabet.toCharArray();
+        this.values = new byte[128];
+        Arrays.fill(this.values, (byte) -1);
+        for (int i = 0; i < this.alphabet.length; i++) {
+            this.values[this.alphabet[i]] = (byte) i;
+        }
+        this.charBits = charBits;
+        this.charMask = (1 << charBits) - 1;
+        int blockBytes = 1;
+        while ((blockBytes * 8) % charBits != 0) {
+            blockBytes++;
+        }
+        this.blockBytes = blockBytes;
+        this.blockShift = blockBytes * 8 - charBits;
+        this.paddingBlock = paddingBlock;
+        this.skipInvalid = skipInvalid;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate the encoded length of the given data length</h3>
+     * <h3 class="zh-CN">计算给定数据长度的编码结果长度</h3>
+     *
+     * @param dataLength <span class="en-US">Data length</span>
+     *                   <span class="zh-CN">数据长度</span>
+     * @param padding    <span class="en-US">Append padding characters</span>
+     *                   <span class="zh-CN">追加填充字符</span>
+     * @return <span class="en-US">Encoded length</span>
+     * <span class="zh-CN">编码结果长度</span>
+     */
+    public int encodedLength(final int dataLength, final boolean padding) {
+        long length = ((long) dataLength * 8L + this.charBits - 1) / this.charBits;
+        if (padding && length % this.paddingBlock != 0) {
+            length += this.paddingBlock - (length % this.paddingBlock);
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Data length is too large: " + dataLength);
+        }
+        return (int) length;
+    }
+
+    /**
+     * <h3 class="en-US">Encode the given byte array</h3>
+     * <h3 class="zh-CN">编码给定的字节数组</h3>
+     *
+     * @param dataBytes <span class="en-US">Data byte array</span>
+     *                  <span class="zh-CN">数据字节数组</span>
+     * @param padding   <span class="en-US">Append padding characters</span>
+     *                  <span class="zh-CN">追加填充字符</span>
+     * @return <span class="en-US">Encoded string</span>
+     * <span class="zh-CN">编码后的字符串</span>
+     */
+    public String encode(@Nonnull final byte[] dataBytes, final boolean padding) {
+        char[] charArray = new char[this.encodedLength(dataBytes.length, padding)];
+        this.encode(dataBytes, 0, dataBytes.length, charArray, 0, padding);
+        return new String(charArray);
+    }
+
+    /**
+     * <h3 class="en-US">Encode the given range of byte array to the given char array</h3>
+     * <h3 class="zh-CN">编码给定字节数组的给定范围到给定的字符数组</h3>
+     *
+     * @param dataBytes <span class="en-US">Data byte array</span>
+     *                  <span class="zh-CN">数据字节数组</span>
+     * @param offset    <span class="en-US">Data offset</span>
+     *                  <span class="zh-CN">数据起始位置</span>
+     * @param length    <span class="en-US">Data length</span>
+     *                  <span class="zh-CN">数据长度</span>
+     * @param charArray <span class="en-US">Target char array</span>
+     *                  <span class="zh-CN">目标字符数组</span>
+     * @param position  <span class="en-US">Begin position of target char array</span>
+     *                  <span class="zh-CN">目标字符数组的起始位置</span>
+     * @param padding   <span class="en-US">Append padding characters</span>
+     *                  <span class="zh-CN">追加填充字符</span>
+     * @return <span class="en-US">Written characters count</span>
+     * <span class="zh-CN">写入的字符数</span>
+     */
+    public int encode(@Nonnull final byte[] dataBytes, final int offset, final int length,
+                      @Nonnull final char[] charArray, final int position, final boolean padding) {
+        final char[] table = this.alphabet;
+        final int bits = this.charBits, mask = this.charMask;
+        final int end = offset + length, blockEnd = end - (length % this.blockBytes);
+        int index = offset, current = position;
+        //  Encode the complete blocks, each block contains the whole characters
+        switch (bits) {
+            case 4:
+                while (index < blockEnd) {
+                    int value = dataBytes[index++] & 0xFF;
+                    charArray[current++] = table[value >>> 4];
+                    charArray[current++] = table[value & 0x0F];
+                }
+                break;
+            case 6:
+                while (index < blockEnd) {
+                    int value = ((dataBytes[index] & 0xFF) << 16) | ((dataBytes[index + 1] & 0xFF) << 8)
+                            | (dataBytes[index + 2] & 0xFF);
+                    index += 3;
+                    charArray[current] = table[value >>> 18];
+                    charArray[current + 1] = table[(value >>> 12) & 0x3F];
+                    charArray[current + 2] = table[(value >>> 6) & 0x3F];
+                    charArray[current + 3] = table[value & 0x3F];
+                    current += 4;
+                }
+                break;
+            default:
+                while (index < blockEnd) {
+                    long block = 0L;
+                    for (int i = 0; i < this.blockBytes; i++) {
+                        block = (block << 8) | (dataBytes[index++] & 0xFF);
+                    }
+                    for (int shift = this.blockShift; shift >= 0; shift -= bits) {
+                        charArray[current++] = table[(int) (block >>> shift) & mask];
+                    }
+                }
+                break;
+        }
+        int buffer = 0, bufferBits = 0;
+        while (index < end) {
+            buffer = (buffer << 8) | (dataBytes[index++] & 0xFF);
+            bufferBits += 8;
+            while (bufferBits >= bits) {
+                bufferBits -= bits;
+                charArray[current++] = table[(buffer >>> bufferBits) & mask];
+            }
+        }
+        if (bufferBits > 0) {
+            charArray[current++] = this.alphabet[(buffer << (this.charBits - bufferBits)) & this.charMask];
+        }
+        if (padding) {
+            while ((current - position) % this.paddingBlock != 0) {
+                charArray[current++] = PADDING;
+            }
+        }
+        return current - position;
+    }
+
+    /**
+     * <h3 class="en-US">Encode the remaining bytes of the given byte buffer</h3>
+     * <h3 class="zh-CN">编码给定字节缓冲区中的剩余字节</h3>
+     *
+     * @param byteBuffer <span class="en-US">Data byte buffer</span>
+     *                   <span class="zh-CN">数据字节缓冲区</span>
+     * @param padding    <span class="en-US">Append padding characters</span>
+     *                   <span class="zh-CN">追加填充字符</span>
+     * @return <span class="en-US">Encoded string</span>
+     * <span class="zh-CN">编码后的字符串</span>
+     */
+    public String encode(@Nonnull final ByteBuffer byteBuffer, final boolean padding) {
+        char[] charArray = new char[this.encodedLength(byteBuffer.remaining(), padding)];
+        if (byteBuffer.hasArray()) {
+            this.encode(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                    byteBuffer.remaining(), charArray, 0, padding);
+            byteBuffer.position(byteBuffer.limit());
+        } else {
+            int current = 0, buffer = 0, bufferBits = 0;
+            while (byteBuffer.hasRemaining()) {
+                buffer = (buffer << 8) | (byteBuffer.get() & 0xFF);
+                bufferBits += 8;
+                while (bufferBits >= this.charBits) {
+                    bufferBits -= this.charBits;
+                    charArray[current++] = this.alphabet[(buffer >>> bufferBits) & this.charMask];
+                }
+            }
+            if (bufferBits > 0) {
+                charArray[current++] = this.alphabet[(buffer << (this.charBits - bufferBits)) & this.charMask];
+            }
+            while (current < charArray.length) {
+                charArray[current++] = PADDING;
+            }
+        }
+        return new String(charArray);
+    }
+
+    /**
+     * <h3 class="en-US">Calculate the decoded length of the given encoded length, trailing padding characters excluded</h3>
+     * <h3 class="zh-CN">计算给定编码长度（不包括末尾填充字符）的解码结果长度</h3>
+     *
+     * @param encodedLength <span class="en-US">Encoded length without trailing padding characters</span>
+     *                      <span class="zh-CN">不包括末尾填充字符的编码长度</span>
+     * @return <span class="en-US">Decoded length</span>
+     * <span class="zh-CN">解码结果长度</span>
+     */
+    public int decodedLength(final int encodedLength) {
+        return (int) ((long) encodedLength * this.charBits / 8L);
+    }
+
+    /**
+     * <h3 class="en-US">Decode the given encoded string</h3>
+     * <h3 class="zh-CN">解码给定的编码字符串</h3>
+     *
+     * @param encoded <span class="en-US">Encoded string</span>
+     *                <span class="zh-CN">编码字符串</span>
+     * @return <span class="en-US">Decoded byte array</span>
+     * <span class="zh-CN">解码后的字节数组</span>
+     */
+    public byte[] decode(@Nonnull final CharSequence encoded) {
+        int length = trimPadding(encoded);
+        byte[] dataBytes = new byte[this.decodedLength(length)];
+        int index = 0, current = 0;
+        if (this.charBits == 6) {
+            //  Decode the complete groups of Base64 characters until reach an invalid character
+            final byte[] table = this.values;
+            while (index + 4 <= length) {
+                char c0 = encoded.charAt(index), c1 = encoded.charAt(index + 1),
+                        c2 = encoded.charAt(index + 2), c3 = encoded.charAt(index + 3);
+                if ((c0 | c1 | c2 | c3) >= 128) {
+                    break;
+                }
+                int v0 = table[c0], v1 = table[c1], v2 = table[c2], v3 = table[c3];
+                if ((v0 | v1 | v2 | v3) < 0) {
+                    break;
+                }
+                int value = (v0 << 18) | (v1 << 12) | (v2 << 6) | v3;
+                dataBytes[current] = (byte) (value >>> 16);
+                dataBytes[current + 1] = (byte) (value >>> 8);
+                dataBytes[current + 2] = (byte) value;
+                index += 4;
+                current += 3;
+            }
+        }
+        int buffer = 0, bufferBits = 0;
+        for (int i = index; i < length && current < dataBytes.length; i++) {
+            int value = this.value(encoded.charAt(i));
+            if (value < 0) {
+                continue;
+            }
+            buffer = (buffer << this.charBits) | value;
+            bufferBits += this.charBits;
+            if (bufferBits >= 8) {
+                bufferBits -= 8;
+                dataBytes[current++] = (byte) (buffer >>> bufferBits);
+            }
+        }
+        return dataBytes;
+    }
+
+    /**
+     * <h3 class="en-US">Decode the given range of char array to the given byte array</h3>
+     * <h3 class="zh-CN">解码给定字符数组的给定范围到给定的字节数组</h3>
+     *
+     * @param charArray <span class="en-US">Encoded char array</span>
+     *                  <span class="zh-CN">编码字符数组</span>
+     * @param offset    <span class="en-US">Data offset</span>
+     *                  <span class="zh-CN">数据起始位置</span>
+     * @param length    <span class="en-US">Data length</span>
+     *                  <span class="zh-CN">数据长度</span>
+     * @param dataBytes <span class="en-US">Target byte array</span>
+     *                  <span class="zh-CN">目标字节数组</span>
+     * @param position  <span class="en-US">Begin position of target byte array</span>
+     *                  <span class="zh-CN">目标字节数组的起始位置</span>
+     * @return <span class="en-US">Written bytes count</span>
+     * <span class="zh-CN">写入的字节数</span>
+     */
+    public int decode(@Nonnull final char[] charArray, final int offset, final int length,
+                      @Nonnull final byte[] dataBytes, final int position) {
+        int end = offset + length;
+        while (end > offset && charArray[end - 1] == PADDING) {
+            end--;
+        }
+        int current = position, buffer = 0, bufferBits = 0;
+        for (int i = offset; i < end; i++) {
+            int value = this.value(charArray[i]);
+            if (value < 0) {
+                continue;
+            }
+            buffer = (buffer << this.charBits) | value;
+            bufferBits += this.charBits;
+            if (bufferBits >= 8) {
+                bufferBits -= 8;
+                dataBytes[current++] = (byte) (buffer >>> bufferBits);
+            }
+        }
+        return current - position;
+    }
+
+    /**
+     * <h3 class="en-US">Decode the given encoded string to the given byte buffer</h3>
+     * <h3 class="zh-CN">解码给定的编码字符串到给定的字节缓冲区</h3>
+     *
+     * @param encoded    <span class="en-US">Encoded string</span>
+     *                   <span class="zh-CN">编码字符串</span>
+     * @param byteBuffer <span class="en-US">Target byte buffer</span>
+     *                   <span class="zh-CN">目标字节缓冲区</span>
+     * @return <span class="en-US">Written bytes count</span>
+     * <span class="zh-CN">写入的字节数</span>
+     */
+    public int decode(@Nonnull final CharSequence encoded, @Nonnull final ByteBuffer byteBuffer) {
+        int length = trimPadding(encoded);
+        int begin = byteBuffer.position(), buffer = 0, bufferBits = 0;
+        for (int i = 0; i < length; i++) {
+            int value = this.value(encoded.charAt(i));
+            if (value < 0) {
+                continue;
+            }
+            buffer = (buffer << this.charBits) | value;
+            bufferBits += this.charBits;
+            if (bufferBits >= 8) {
+                bufferBits -= 8;
+                byteBuffer.put((byte) (buffer >>> bufferBits));
+            }
+        }
+        return byteBuffer.position() - begin;
+    }
+
+    /**
+     * <h3 class="en-US">Wrap the given output stream, the written bytes were encoded and written as ASCII characters</h3>
+     * <p class="en-US">The padding characters were written when closing the returned stream.</p>
+     * <h3 class="zh-CN">包装给定的输出流，写入的字节被编码并以ASCII字符写入</h3>
+     * <p class="zh-CN">填充字符在关闭返回的输出流时写入。</p>
+     *
+     * @param outputStream <span class="en-US">Target output stream</span>
+     *                     <span class="zh-CN">目标输出流</span>
+     * @param padding      <span class="en-US">Append padding characters</span>
+     *                     <span class="zh-CN">追加填充字符</span>
+     * @return <span class="en-US">Encoder output stream</span>
+     * <span class="zh-CN">编码输出流</span>
+     */
+    public OutputStream encoder(@Nonnull final OutputStream outputStream, final boolean padding) {
+        return new EncoderOutputStream(outputStream, padding);
+    }
+
+    /**
+     * <h3 class="en-US">Wrap the given input stream, the ASCII characters were read and decoded</h3>
+     * <p class="en-US">Padding characters, line separators and other invalid characters were skipped.</p>
+     * <h3 class="zh-CN">包装给定的输入流，读取ASCII字符并解码</h3>
+     * <p class="zh-CN">跳过填充字符、换行符和其他无效字符。</p>
+     *
+     * @param inputStream <span class="en-US">Encoded input stream</span>
+     *                    <span class="zh-CN">编码输入流</span>
+     * @return <span class="en-US">Decoder input stream</span>
+     * <span class="zh-CN">解码输入流</span>
+     */
+    public InputStream decoder(@Nonnull final InputStream inputStream) {
+        return new DecoderInputStream(inputStream);
+    }
+
+    /**
+     * <h3 class="en-US">Resolve the value of the given character</h3>
+     * <h3 class="zh-CN">解析给定字符的值</h3>
+     *
+     * @param character <span class="en-US">Encoded character</span>
+     *                  <span class="zh-CN">编码字符</span>
+     * @return <span class="en-US">Character value, -1 if the character is invalid and should be skipped</span>
+     * <span class="zh-CN">字符值，如果字符无效且需要跳过则返回-1</span>
+     */
+    private int value(final char character) {
+        int value = (character < 128) ? this.values[character] : -1;
+        if (value < 0 && !this.skipInvalid) {
+            return this.charMask;
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate the length of the given string without trailing padding characters</h3>
+     * <h3 class="zh-CN">计算给定字符串去除末尾填充字符后的长度</h3>
+     *
+     * @param encoded <span class="en-US">Encoded string</span>
+     *                <span class="zh-CN">编码字符串</span>
+     * @return <span class="en-US">Length without trailing padding characters</span>
+     * <span class="zh-CN">去除末尾填充字符后的长度</span>
+     */
+    private static int trimPadding(final CharSequence encoded) {
+        int length = encoded.length();
+        while (length > 0 && encoded.charAt(length - 1) == PADDING) {
+            length--;
+        }
+        return length;
+    }
+
+    /**
+     * <h2 class="en-US">Streaming encoder</h2>
+     * <h2 class="zh-CN">流式编码器</h2>
+     */
+    private final class EncoderOutputStream extends FilterOutputStream {
+
+        /**
+         * <span class="en-US">Append padding characters when closing</span>
+         * <span class="zh-CN">关闭时追加填充字符</span>
+         */
+        private final boolean padding;
+        /**
+         * <span class="en-US">Encoded characters buffer</span>
+         * <span class="zh-CN">编码字符缓冲区</span>
+         */
+        private final byte[] charBuffer = new byte[STREAM_BUFFER_SIZE];
+        /**
+         * <span class="en-US">Used length of characters buffer</span>
+         * <span class="zh-CN">字符缓冲区的已用长度</span>
+         */
+        private int charCount = 0;
+        /**
+         * <span class="en-US">Total written characters count</span>
+         * <span class="zh-CN">写入的字符总数</span>
+         */
+        private long totalCount = 0L;
+        /**
+         * <span class="en-US">Pending bits</span>
+         * <span class="zh-CN">待处理的位</span>
+         */
+        private int buffer = 0;
+        /**
+         * <span class="en-US">Pending bits count</span>
+         * <span class="zh-CN">待处理的位数</span>
+         */
+        private int bufferBits = 0;
+        /**
+         * <span class="en-US">Stream closed status</span>
+         * <span class="zh-CN">流已关闭状态</span>
+         */
+        private boolean closed = Boolean.FALSE;
+
+        /**
+         * <h3 class="en-US">Constructor method for streaming encoder</h3>
+         * <h3 class="zh-CN">流式编码器的构造方法</h3>
+         *
+         * @param outputStream <span class="en-US">Target output stream</span>
+         *                     <span class="zh-CN">目标输出流</span>
+         * @param padding      <span class="en-US">Append padding characters when closing</span>
+         *                     <span class="zh-CN">关闭时追加填充字符</span>
+         */
+        EncoderOutputStream(final OutputStream outputStream, final boolean padding) {
+            super(outputStream);
+            this.padding = padding;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.buffer = (this.buffer << 8) | (b & 0xFF);
+            this.bufferBits += 8;
+            while (this.bufferBits >= charBits) {
+                this.bufferBits -= charBits;
+                this.append(alphabet[(this.buffer >>> this.bufferBits) & charMask]);
+            }
+        }
+
+        @Override
+        public void write(@Nonnull final byte[] dataBytes, final int offset, final int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                this.write(dataBytes[i]);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.out.write(this.charBuffer, 0, this.charCount);
+            this.charCount = 0;
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.closed) {
+                return;
+            }
+            this.closed = Boolean.TRUE;
+            if (this.bufferBits > 0) {
+                this.append(alphabet[(this.buffer << (charBits - this.bufferBits)) & charMask]);
+                this.bufferBits = 0;
+            }
+            if (this.padding) {
+                while (this.totalCount % paddingBlock != 0) {
+                    this.append(PADDING);
+                }
+            }
+            super.close();
+        }
+
+        /**
+         * <h3 class="en-US">Append the given character to the characters buffer</h3>
+         * <h3 class="zh-CN">追加给定的字符到字符缓冲区</h3>
+         *
+         * @param character <span class="en-US">Encoded character</span>
+         *                  <span class="zh-CN">编码字符</span>
+         * @throws IOException <span class="en-US">If write to the target output stream failed</span>
+         *                     <span class="zh-CN">如果写入目标输出流失败</span>
+         */
+        private void append(final char character) throws IOException {
+            if (this.charCount == this.charBuffer.length) {
+                this.out.write(this.charBuffer, 0, this.charCount);
+                this.charCount = 0;
+            }
+            this.charBuffer[this.charCount++] = (byte) character;
+            this.totalCount++;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Streaming decoder</h2>
+     * <h2 class="zh-CN">流式解码器</h2>
+     */
+    private final class DecoderInputStream extends FilterInputStream {
+
+        /**
+         * <span class="en-US">Read characters buffer</span>
+         * <span class="zh-CN">读取的字符缓冲区</span>
+         */
+        private final byte[] charBuffer = new byte[STREAM_BUFFER_SIZE];
+        /**
+         * <span class="en-US">Read position of characters buffer</span>
+         * <span class="zh-CN">字符缓冲区的读取位置</span>
+         */
+        private int charPosition = 0;
+        /**
+         * <span class="en-US">Available length of characters buffer</span>
+         * <span class="zh-CN">字符缓冲区的可用长度</span>
+         */
+        private int charLimit = 0;
+        /**
+         * <span class="en-US">Pending bits</span>
+         * <span class="zh-CN">待处理的位</span>
+         */
+        private int buffer = 0;
+        /**
+         * <span class="en-US">Pending bits count</span>
+         * <span class="zh-CN">待处理的位数</span>
+         */
+        private int bufferBits = 0;
+
+        /**
+         * <h3 class="en-US">Constructor method for streaming decoder</h3>
+         * <h3 class="zh-CN">流式解码器的构造方法</h3>
+         *
+         * @param inputStream <span class="en-US">Encoded input stream</span>
+         *                    <span class="zh-CN">编码输入流</span>
+         */
+        DecoderInputStream(final InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (this.bufferBits < 8) {
+                if (this.charPosition == this.charLimit) {
+                    this.charLimit = this.in.read(this.charBuffer, 0, this.charBuffer.length);
+                    this.charPosition = 0;
+                    if (this.charLimit <= 0) {
+                        this.charLimit = 0;
+                        return -1;
+                    }
+                }
+                int character = this.charBuffer[this.charPosition++] & 0xFF;
+                int value = (character < 128) ? values[character] : -1;
+                if (value >= 0) {
+                    this.buffer = (this.buffer << charBits) | value;
+                    this.bufferBits += charBits;
+                }
+            }
+            this.bufferBits -= 8;
+            return (this.buffer >>> this.bufferBits) & 0xFF;
+        }
+
+        @Override
+        public int read(@Nonnull final byte[] dataBytes, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            int count = 0;
+            while (count < length) {
+                int value = this.read();
+                if (value == -1) {
+                    break;
+                }
+                dataBytes[offset + count] = (byte) value;
+                count++;
+            }
+            return (count == 0) ? -1 : count;
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            long skipped = 0L;
+            while (skipped < count && this.read() != -1) {
+                skipped++;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return Boolean.FALSE;
+        }
+    }
+}
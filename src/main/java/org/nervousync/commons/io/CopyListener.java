@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.commons.io;
+
+/**
+ * <h2 class="en-US">File copy progress listener</h2>
+ * <p class="en-US">
+ *     Listener will be called after each file was copied,
+ *     the files may be copied by several threads at the same time, so the implementation must be thread-safe.
+ * </p>
+ * <h2 class="zh-CN">文件复制进度监听器</h2>
+ * <p class="zh-CN">每个文件复制完成后调用监听器，文件可能由多个线程同时复制，因此实现类必须是线程安全的</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 15:08:52 $
+ */
+@FunctionalInterface
+public interface CopyListener {
+
+    /**
+     * <h3 class="en-US">Process file copied</h3>
+     * <h3 class="zh-CN">处理文件复制完成</h3>
+     *
+     * @param originalPath <span class="en-US">Original file path</span>
+     *                     <span class="zh-CN">原文件地址</span>
+     * @param targetPath   <span class="en-US">Target file path</span>
+     *                     <span class="zh-CN">目标文件地址</span>
+     * @param fileSize     <span class="en-US">Copied bytes of current file</span>
+     *                     <span class="zh-CN">当前文件复制的字节数</span>
+     * @param copiedFiles  <span class="en-US">Total number of copied files</span>
+     *                     <span class="zh-CN">已复制的文件总数</span>
+     * @param copiedBytes  <span class="en-US">Total bytes of copied files</span>
+     *                     <span class="zh-CN">已复制文件的总字节数</span>
+     */
+    void copied(final String originalPath, final String targetPath, final long fileSize,
+                final long copiedFiles, final long copiedBytes);
+}
@@ -18,12 +18,14 @@ package org.nervousync.commons.snmp;
 
 import org.nervousync.beans.snmp.SNMPData;
 
+import java.util.List;
+
 /**
  * <h2 class="en-US">SNMP data operator interface class</h2>
  * <h2 class="zh-CN">SNMP数据处理器接口</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Oct 25, 2017 10:28:31 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:58:14 $
  */
 public interface SNMPDataOperator {
 
@@ -35,4 +37,17 @@ public interface SNMPDataOperator {
 	 *                  <span class="zh-CN">SNMPData实例对象</span>
 	 */
 	void operateData(SNMPData snmpData);
+
+	/**
+	 * <h3 class="en-US">Process given SNMPData instance list</h3>
+	 * <span class="en-US">Invoked by asynchronous polling mode, default implementation process each data one by one</span>
+	 * <h3 class="zh-CN">处理给定的SNMPData实例对象列表</h3>
+	 * <span class="zh-CN">异步轮询模式调用此方法，默认实现逐个处理数据</span>
+	 *
+	 * @param dataList 	<span class="en-US">SNMPData instance list</span>
+	 *                  <span class="zh-CN">SNMPData实例对象列表</span>
+	 */
+	default void operateBatch(final List<SNMPData> dataList) {
+		dataList.forEach(this::operateData);
+	}
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.configs;
+
+/**
+ * <h2 class="en-US">Configure change listener</h2>
+ * <p class="en-US">
+ *     Listener will be called after the configure file was reloaded, the listeners are called one by one.
+ *     If the configure file was modified outside, the listener is called by the configure watcher thread
+ *     (or the scheduled scanning thread if the WatchService is not available);
+ *     if the configure was saved or removed by <code>ConfigureManager#saveConfigure</code> or
+ *     <code>ConfigureManager#removeConfigure</code>, the listener is called by the calling thread before the method returns.
+ *     If the configure file was modified while a snapshot was loading, the listener may be called by the reading thread.
+ *     The previous snapshot is null if the configure was not loaded before,
+ *     the current snapshot is null if the configure file was removed or cannot be parsed.
+ * </p>
+ * <h2 class="zh-CN">配置信息变更监听器</h2>
+ * <p class="zh-CN">
+ *     配置文件重新加载后依次调用监听器。如果配置文件在外部被修改，由配置监视线程（WatchService不可用时为定时扫描线程）调用监听器；
+ *     如果通过<code>ConfigureManager#saveConfigure</code>或<code>ConfigureManager#removeConfigure</code>保存或删除配置信息，
+ *     则在方法返回前由调用线程调用监听器；如果加载快照时配置文件被修改，可能由读取快照的线程调用监听器。
+ *     如果之前未加载配置信息则原快照为null，如果配置文件被删除或无法解析则当前快照为null
+ * </p>
+ *
+ * @param <T> <span class="en-US">Configuration information JavaBean class</span>
+ *            <span class="zh-CN">配置信息JavaBean类</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:52:16 $
+ */
+@FunctionalInterface
+public interface ConfigureListener<T> {
+
+    /**
+     * <h3 class="en-US">Process configure changed</h3>
+     * <h3 class="zh-CN">处理配置信息变更</h3>
+     *
+     * @param previous <span class="en-US">Previous snapshot, may be null</span>
+     *                 <span class="zh-CN">原快照，可能为null</span>
+     * @param current  <span class="en-US">Current snapshot, may be null</span>
+     *                 <span class="zh-CN">当前快照，可能为null</span>
+     */
+    void onChange(final ConfigureSnapshot<T> previous, final ConfigureSnapshot<T> current);
+}
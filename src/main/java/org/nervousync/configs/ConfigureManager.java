@@ -24,18 +24,30 @@ import org.nervousync.commons.Globals;
 import org.nervousync.security.factory.SecureFactory;
 import org.nervousync.utils.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 
 /**
  * <h2 class="en-US">Configuration Information Manager</h2>
+ * <span class="en-US">
+ *     Parsed configure instances are cached as snapshots and replaced as a whole when the configure file changed.
+ *     Configure files are watched by WatchService, events are debounced before reloading,
+ *     scheduled scanning is used if the WatchService is not available.
+ * </span>
  * <h2 class="zh-CN">配置信息管理器</h2>
+ * <span class="zh-CN">
+ *     解析的配置信息实例以快照的形式缓存，配置文件变更时整体替换。使用WatchService监视配置文件，事件合并后重新加载，
+ *     如果WatchService不可用则使用定时扫描
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Oct 09, 2023 09:48:31 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:52:16 $
  */
 public final class ConfigureManager {
     /**
@@ -48,6 +60,11 @@ public final class ConfigureManager {
      * <span class="zh-CN">单一实例对象</span>
      */
     private static ConfigureManager INSTANCE = null;
+    /**
+     * <span class="en-US">Debounce time of file watch events (Unit: milliseconds)</span>
+     * <span class="zh-CN">文件监视事件的合并时间（单位：毫秒）</span>
+     */
+    private static final long WATCH_DEBOUNCE_MILLIS = 200L;
     /**
      * <span class="en-US">Configuration information storage path</span>
      * <span class="zh-CN">配置信息存储路径</span>
@@ -57,17 +74,37 @@ public final class ConfigureManager {
      * <span class="en-US">Mapping table of scanned configuration file names and paths</span>
      * <span class="zh-CN">扫描到的配置文件名与路径的映射表</span>
      */
-    private final Hashtable<String, String> existsFiles;
+    private final Map<String, String> existsFiles;
     /**
      * <span class="en-US">The mapping table between passwords and security configuration names is saved in the configuration file.</span>
      * <span class="zh-CN">配置文件中保存密码与安全配置名称的映射表</span>
      */
     private final Hashtable<String, Map<String, String>> securityFieldsMap;
     /**
-     * <span class="en-US">Scheduled task service</span>
-     * <span class="zh-CN">定时调度任务服务</span>
+     * <span class="en-US">Cached configure snapshots, key is configure file name and class name</span>
+     * <span class="zh-CN">缓存的配置信息快照，键值为配置文件名称和类名</span>
+     */
+    private final Map<String, ConfigureSnapshot<?>> snapshots;
+    /**
+     * <span class="en-US">Registered configure change listeners, key is configure file name and class name</span>
+     * <span class="zh-CN">注册的配置信息变更监听器，键值为配置文件名称和类名</span>
      */
-    private final ScheduledExecutorService scheduledExecutorService;
+    private final Map<String, ListenerRegistration<?>> listeners;
+    /**
+     * <span class="en-US">File watch service, null if not supported</span>
+     * <span class="zh-CN">文件监视服务，不支持时为null</span>
+     */
+    private final WatchService watchService;
+    /**
+     * <span class="en-US">Watched folders</span>
+     * <span class="zh-CN">监视的文件夹</span>
+     */
+    private final Map<WatchKey, Path> watchFolders;
+    /**
+     * <span class="en-US">Watch or scheduled task service</span>
+     * <span class="zh-CN">文件监视或定时调度任务服务</span>
+     */
+    private final ExecutorService executorService;
     /**
      * <span class="en-US">Scheduled task running status</span>
      * <span class="zh-CN">定时调度任务执行状态</span>
@@ -87,12 +124,34 @@ public final class ConfigureManager {
      */
     private ConfigureManager(final String basePath) {
         this.basePath = basePath;
-        this.existsFiles = new Hashtable<>();
+        this.existsFiles = new ConcurrentHashMap<>();
         this.securityFieldsMap = new Hashtable<>();
+        this.snapshots = new ConcurrentHashMap<>();
+        this.listeners = new ConcurrentHashMap<>();
+        this.watchFolders = new ConcurrentHashMap<>();
         this.scanFiles();
-        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-        this.scheduledExecutorService.scheduleAtFixedRate(this::scanFiles, Globals.DEFAULT_SCHEDULE_DELAY,
-                Globals.DEFAULT_SCHEDULE_PERIOD, TimeUnit.MILLISECONDS);
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            this.registerFolder(watchService, Paths.get(basePath).toAbsolutePath());
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Configure_Manager_Watch_Error", basePath);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            watchService = null;
+        }
+        this.watchService = watchService;
+        if (this.watchService == null) {
+            ScheduledExecutorService scheduledExecutorService =
+                    Executors.newSingleThreadScheduledExecutor(ConfigureManager::watchThread);
+            scheduledExecutorService.scheduleAtFixedRate(this::scanFiles, Globals.DEFAULT_SCHEDULE_DELAY,
+                    Globals.DEFAULT_SCHEDULE_PERIOD, TimeUnit.MILLISECONDS);
+            this.executorService = scheduledExecutorService;
+        } else {
+            this.executorService = Executors.newSingleThreadExecutor(ConfigureManager::watchThread);
+            this.executorService.execute(this::watchFiles);
+        }
     }
 
     /**
@@ -162,9 +221,25 @@ public final class ConfigureManager {
         }
     }
 
+    /**
+     * <h3 class="en-US">Stop the watch service and clear cached data</h3>
+     * <h3 class="zh-CN">停止文件监视服务并清除缓存数据</h3>
+     */
     private void shutdown() {
-        this.scheduledExecutorService.shutdown();
+        if (this.watchService != null) {
+            try {
+                this.watchService.close();
+            } catch (IOException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+            }
+        }
+        this.executorService.shutdownNow();
         this.existsFiles.clear();
+        this.snapshots.clear();
+        this.listeners.clear();
+        this.watchFolders.clear();
     }
 
     /**
@@ -196,24 +271,126 @@ public final class ConfigureManager {
      * <span class="zh-CN">转换后的实例对象</span>
      */
     public <T> T readConfigure(final Class<T> targetClass, final String suffix) {
+        return Optional.ofNullable(this.snapshot(targetClass, suffix))
+                .map(this::parseSnapshot)
+                .orElse(null);
+    }
+
+    /**
+     * <h3 class="en-US">Read cached configuration snapshot</h3>
+     * <span class="en-US">
+     *     The snapshot is parsed and decrypted once for each configure file version and shared by all readers,
+     *     the configure instance of snapshot must not be modified.
+     * </span>
+     * <h3 class="zh-CN">读取缓存的配置信息快照</h3>
+     * <span class="zh-CN">配置文件的每个版本仅解析并解密一次，快照由所有读取者共享，不可修改快照中的配置信息实例</span>
+     *
+     * @param targetClass <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @param <T>         <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @return <span class="en-US">Configure snapshot or null if configure file not exists</span>
+     * <span class="zh-CN">配置信息快照，如果配置文件不存在则返回null</span>
+     */
+    public <T> ConfigureSnapshot<T> snapshot(final Class<T> targetClass) {
+        return this.snapshot(targetClass, Globals.DEFAULT_VALUE_STRING);
+    }
+
+    /**
+     * <h3 class="en-US">Read cached configuration snapshot</h3>
+     * <span class="en-US">
+     *     The snapshot is parsed and decrypted once for each configure file version and shared by all readers,
+     *     the configure instance of snapshot must not be modified.
+     * </span>
+     * <h3 class="zh-CN">读取缓存的配置信息快照</h3>
+     * <span class="zh-CN">配置文件的每个版本仅解析并解密一次，快照由所有读取者共享，不可修改快照中的配置信息实例</span>
+     *
+     * @param targetClass <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @param suffix      <span class="en-US">Configuration file custom suffix</span>
+     *                    <span class="zh-CN">配置文件自定义后缀</span>
+     * @param <T>         <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @return <span class="en-US">Configure snapshot or null if configure file not exists</span>
+     * <span class="zh-CN">配置信息快照，如果配置文件不存在则返回null</span>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ConfigureSnapshot<T> snapshot(final Class<T> targetClass, final String suffix) {
         if (targetClass == null) {
             return null;
         }
         String fileName = this.parseName(targetClass, suffix);
-        String schemaPath =
-                Optional.ofNullable(targetClass.getAnnotation(XmlRootElement.class))
-                        .filter(xmlRootElement ->
-                                !Globals.DEFAULT_XML_ANNOTATION_NAME.equalsIgnoreCase(xmlRootElement.namespace()))
-                        .map(XmlRootElement::namespace)
-                        .orElse(Globals.DEFAULT_VALUE_STRING);
-        if (!this.existsFiles.containsKey(fileName)) {
-            return null;
+        String cacheKey = ConfigureManager.cacheKey(fileName, targetClass);
+        ConfigureSnapshot<?> snapshot = this.snapshots.get(cacheKey);
+        if (snapshot == null) {
+            //  Loading may read other configures (e.g. secure factory), so the map is not locked while loading
+            snapshot = this.loadSnapshot(fileName, targetClass);
+            if (snapshot != null) {
+                ConfigureSnapshot<?> existSnapshot = this.snapshots.putIfAbsent(cacheKey, snapshot);
+                if (existSnapshot != null) {
+                    snapshot = existSnapshot;
+                } else if (!this.upToDate(snapshot)) {
+                    //  The configure file changed while loading, a concurrent refresh may have missed the new entry
+                    this.refreshSnapshots(Collections.singleton(fileName));
+                    snapshot = this.snapshots.get(cacheKey);
+                }
+            }
         }
-        T readConfig = StringUtils.fileToObject(this.existsFiles.get(fileName), targetClass, schemaPath);
-        if (readConfig instanceof BeanObject) {
-            this.securityFields((BeanObject) readConfig, Boolean.FALSE);
+        return (ConfigureSnapshot<T>) snapshot;
+    }
+
+    /**
+     * <h3 class="en-US">Register configure change listener</h3>
+     * <span class="en-US">
+     *     Changes of configure files are notified by the configure watcher thread,
+     *     changes made by <code>saveConfigure</code> or <code>removeConfigure</code> are notified by the calling thread.
+     * </span>
+     * <h3 class="zh-CN">注册配置信息变更监听器</h3>
+     * <span class="zh-CN">配置文件的变更由配置监视线程通知，通过<code>saveConfigure</code>或<code>removeConfigure</code>进行的变更由调用线程通知</span>
+     *
+     * @param targetClass <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @param suffix      <span class="en-US">Configuration file custom suffix</span>
+     *                    <span class="zh-CN">配置文件自定义后缀</span>
+     * @param listener    <span class="en-US">Configure change listener</span>
+     *                    <span class="zh-CN">配置信息变更监听器</span>
+     * @param <T>         <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void addListener(final Class<T> targetClass, final String suffix,
+                                final ConfigureListener<T> listener) {
+        if (targetClass == null || listener == null) {
+            return;
         }
-        return readConfig;
+        String fileName = this.parseName(targetClass, suffix);
+        ((ListenerRegistration<T>) this.listeners.computeIfAbsent(ConfigureManager.cacheKey(fileName, targetClass),
+                key -> new ListenerRegistration<>(fileName, targetClass)))
+                .getListeners()
+                .add(listener);
+    }
+
+    /**
+     * <h3 class="en-US">Remove registered configure change listener</h3>
+     * <h3 class="zh-CN">移除注册的配置信息变更监听器</h3>
+     *
+     * @param targetClass <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @param suffix      <span class="en-US">Configuration file custom suffix</span>
+     *                    <span class="zh-CN">配置文件自定义后缀</span>
+     * @param listener    <span class="en-US">Configure change listener</span>
+     *                    <span class="zh-CN">配置信息变更监听器</span>
+     * @param <T>         <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     */
+    public <T> void removeListener(final Class<T> targetClass, final String suffix,
+                                   final ConfigureListener<T> listener) {
+        if (targetClass == null || listener == null) {
+            return;
+        }
+        Optional.ofNullable(this.listeners.get(
+                        ConfigureManager.cacheKey(this.parseName(targetClass, suffix), targetClass)))
+                .ifPresent(registration -> registration.getListeners().remove(listener));
     }
 
     /**
@@ -229,7 +406,19 @@ public final class ConfigureManager {
         return this.saveConfigure(beanObject, Globals.DEFAULT_VALUE_STRING);
     }
 
-    private void securityFields(final BeanObject beanObject, final boolean encrypt) {
+    /**
+     * <h3 class="en-US">Encrypt or decrypt the security fields of given configuration information instance</h3>
+     * <h3 class="zh-CN">加密或解密给定配置信息实例对象的安全字段</h3>
+     *
+     * @param beanObject      <span class="en-US">Configuration information instance object</span>
+     *                        <span class="zh-CN">配置信息实例对象</span>
+     * @param encrypt         <span class="en-US">Encrypt fields</span>
+     *                        <span class="zh-CN">加密字段</span>
+     * @param decryptedValues <span class="en-US">Memoized decrypted values, may be null</span>
+     *                        <span class="zh-CN">缓存的解密结果，可以为null</span>
+     */
+    private void securityFields(final BeanObject beanObject, final boolean encrypt,
+                                final Map<String, String> decryptedValues) {
         this.scanFields(beanObject.getClass());
         String className = ClassUtils.originalClassName(beanObject.getClass());
         Optional.ofNullable(this.securityFieldsMap.get(className))
@@ -240,12 +429,27 @@ public final class ConfigureManager {
                             }
                             Object fieldValue = ReflectionUtils.getFieldValue(fieldName, beanObject);
                             if (fieldValue instanceof BeanObject) {
-                                this.securityFields((BeanObject) fieldValue, encrypt);
+                                this.securityFields((BeanObject) fieldValue, encrypt, decryptedValues);
                                 ReflectionUtils.setField(fieldName, beanObject, fieldValue);
-                            } else if (StringUtils.notBlank(secureName) && fieldValue instanceof String) {
-                                ReflectionUtils.setField(fieldName, beanObject, encrypt
-                                        ? SecureFactory.encrypt(secureName, (String) fieldValue)
-                                        : SecureFactory.decrypt(secureName, (String) fieldValue));
+                            } else if (fieldValue instanceof String) {
+                                String dataValue = (String) fieldValue;
+                                if (encrypt) {
+                                    ReflectionUtils.setField(fieldName, beanObject,
+                                            SecureFactory.encrypt(secureName, dataValue));
+                                } else if (decryptedValues == null) {
+                                    ReflectionUtils.setField(fieldName, beanObject,
+                                            SecureFactory.decrypt(secureName, dataValue));
+                                } else {
+                                    String memoKey = secureName + '\u0000' + dataValue;
+                                    String decryptValue = decryptedValues.get(memoKey);
+                                    if (decryptValue == null) {
+                                        decryptValue = SecureFactory.decrypt(secureName, dataValue);
+                                        if (decryptValue != null) {
+                                            decryptedValues.put(memoKey, decryptValue);
+                                        }
+                                    }
+                                    ReflectionUtils.setField(fieldName, beanObject, decryptValue);
+                                }
                             }
                         }));
     }
@@ -265,7 +469,7 @@ public final class ConfigureManager {
         if (beanObject == null) {
             return Boolean.FALSE;
         }
-        this.securityFields(beanObject, Boolean.TRUE);
+        this.securityFields(beanObject, Boolean.TRUE, null);
         String fileName = this.parseName(beanObject.getClass(), suffix);
         String filePath = this.existsFiles.getOrDefault(fileName, Globals.DEFAULT_VALUE_STRING);
         StringUtils.StringType stringType;
@@ -290,6 +494,7 @@ public final class ConfigureManager {
             if (!this.existsFiles.containsKey(fileName)) {
                 this.existsFiles.put(fileName, filePath);
             }
+            this.refreshSnapshots(Collections.singleton(fileName));
             return Boolean.TRUE;
         }
         return Boolean.FALSE;
@@ -320,14 +525,17 @@ public final class ConfigureManager {
     public void removeConfigure(final Class<?> targetClass, final String suffix) {
         String fileName = this.parseName(targetClass, suffix);
         if (StringUtils.notBlank(fileName)) {
+            Set<String> removedNames = new HashSet<>();
             Iterator<Map.Entry<String, String>> iterator = this.existsFiles.entrySet().iterator();
             while (iterator.hasNext()) {
                 Map.Entry<String, String> entry = iterator.next();
                 if (entry.getKey().equalsIgnoreCase(fileName) || entry.getKey().startsWith(fileName)) {
                     FileUtils.removeFile(entry.getValue());
+                    removedNames.add(entry.getKey());
                     iterator.remove();
                 }
             }
+            this.refreshSnapshots(removedNames);
         }
     }
 
@@ -369,21 +577,15 @@ public final class ConfigureManager {
         }
         this.running = Boolean.TRUE;
         try {
-            List<String> existsPaths = FileUtils.listFiles(this.basePath);
+            Set<String> existsPaths = new HashSet<>(FileUtils.listFiles(this.basePath));
             this.existsFiles.entrySet().removeIf(entry -> !existsPaths.contains(entry.getValue()));
 
             existsPaths.forEach(filePath -> {
-                String fileName = StringUtils.getFilename(filePath);
-                if (fileName.contains(".")) {
-                    fileName = fileName.substring(0, fileName.lastIndexOf("."));
-                }
-                if (this.existsFiles.containsKey(fileName)) {
-                    String existPath = this.existsFiles.get(fileName);
-                    if (!ObjectUtils.nullSafeEquals(existPath, filePath)) {
-                        LOGGER.warn("Configure_Manager_Override_Path", existPath, filePath);
-                    }
+                String fileName = ConfigureManager.configureName(filePath);
+                String existPath = this.existsFiles.put(fileName, filePath);
+                if (existPath != null && !ObjectUtils.nullSafeEquals(existPath, filePath)) {
+                    LOGGER.warn("Configure_Manager_Override_Path", existPath, filePath);
                 }
-                this.existsFiles.put(fileName, filePath);
             });
         } catch (FileNotFoundException e) {
             LOGGER.error("Configure_Manager_Scan_Error", this.basePath);
@@ -392,8 +594,352 @@ public final class ConfigureManager {
             }
         }
         this.running = Boolean.FALSE;
+        if (!this.snapshots.isEmpty() || !this.listeners.isEmpty()) {
+            Set<String> fileNames = new HashSet<>();
+            this.snapshots.values().forEach(snapshot -> fileNames.add(snapshot.getFileName()));
+            this.listeners.values().forEach(registration -> fileNames.add(registration.getFileName()));
+            this.refreshSnapshots(fileNames);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Watch task</h3>
+     * <span class="en-US">
+     *     Wait for file events of configuration information storage path, the events received in debounce time
+     *     are merged, then update the configure file mapping and reload the changed snapshots.
+     * </span>
+     * <h3 class="zh-CN">文件监视任务</h3>
+     * <span class="zh-CN">等待配置信息存储路径的文件事件，合并时间内收到的事件一并处理，然后更新配置文件映射表并重新加载变更的快照</span>
+     */
+    private void watchFiles() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey watchKey = this.watchService.take();
+                Set<String> changedPaths = new HashSet<>();
+                boolean rescan = Boolean.FALSE;
+                while (watchKey != null) {
+                    rescan |= this.pollEvents(watchKey, changedPaths);
+                    watchKey = this.watchService.poll(WATCH_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (rescan) {
+                    this.scanFiles();
+                } else {
+                    Set<String> fileNames = new HashSet<>();
+                    changedPaths.forEach(filePath -> {
+                        String fileName = ConfigureManager.configureName(filePath);
+                        if (FileUtils.isExists(filePath)) {
+                            this.existsFiles.put(fileName, filePath);
+                        } else {
+                            this.existsFiles.remove(fileName, filePath);
+                        }
+                        fileNames.add(fileName);
+                    });
+                    this.refreshSnapshots(fileNames);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            //  Watch service was closed by shutdown
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read the file events of given watch key</h3>
+     * <h3 class="zh-CN">读取给定监视键的文件事件</h3>
+     *
+     * @param watchKey     <span class="en-US">Signalled watch key</span>
+     *                     <span class="zh-CN">触发的监视键</span>
+     * @param changedPaths <span class="en-US">Changed file paths</span>
+     *                     <span class="zh-CN">变更的文件路径</span>
+     * @return <span class="en-US"><code>true</code> if full scanning is required</span>
+     * <span class="zh-CN">如果需要完整扫描则返回<code>true</code></span>
+     */
+    private boolean pollEvents(final WatchKey watchKey, final Set<String> changedPaths) {
+        boolean rescan = Boolean.FALSE;
+        Path folderPath = this.watchFolders.get(watchKey);
+        for (WatchEvent<?> watchEvent : watchKey.pollEvents()) {
+            if (folderPath == null || StandardWatchEventKinds.OVERFLOW.equals(watchEvent.kind())) {
+                rescan = Boolean.TRUE;
+                continue;
+            }
+            Path filePath = folderPath.resolve((Path) watchEvent.context());
+            if (Files.isDirectory(filePath)) {
+                if (StandardWatchEventKinds.ENTRY_CREATE.equals(watchEvent.kind())) {
+                    try {
+                        this.registerFolder(this.watchService, filePath);
+                    } catch (IOException e) {
+                        LOGGER.warn("Configure_Manager_Watch_Error", filePath.toString());
+                    }
+                    rescan = Boolean.TRUE;
+                }
+            } else if (this.existsFiles.containsValue(filePath.toString())
+                    || !StandardWatchEventKinds.ENTRY_DELETE.equals(watchEvent.kind())) {
+                changedPaths.add(filePath.toString());
+            } else {
+                rescan = Boolean.TRUE;
+            }
+        }
+        if (!watchKey.reset()) {
+            this.watchFolders.remove(watchKey);
+        }
+        return rescan;
+    }
+
+    /**
+     * <h3 class="en-US">Register given folder and child folders to watch service</h3>
+     * <h3 class="zh-CN">注册给定的文件夹及其子文件夹到文件监视服务</h3>
+     *
+     * @param watchService <span class="en-US">File watch service</span>
+     *                     <span class="zh-CN">文件监视服务</span>
+     * @param folderPath   <span class="en-US">Folder path</span>
+     *                     <span class="zh-CN">文件夹路径</span>
+     * @throws IOException <span class="en-US">If register failed</span>
+     *                     <span class="zh-CN">如果注册失败</span>
+     */
+    private void registerFolder(final WatchService watchService, final Path folderPath) throws IOException {
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(folderPath, Files::isDirectory)) {
+            for (Path childPath : directoryStream) {
+                this.registerFolder(watchService, childPath);
+            }
+        }
+        this.watchFolders.put(folderPath.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), folderPath);
+    }
+
+    /**
+     * <h3 class="en-US">Reload the cached snapshots of given configure file names and notify listeners</h3>
+     * <span class="en-US">Snapshot which loaded from the same file version is kept</span>
+     * <h3 class="zh-CN">重新加载给定配置文件名称的缓存快照并通知监听器</h3>
+     * <span class="zh-CN">从相同文件版本加载的快照保持不变</span>
+     *
+     * @param fileNames <span class="en-US">Configure file names</span>
+     *                  <span class="zh-CN">配置文件名称</span>
+     */
+    private synchronized void refreshSnapshots(final Set<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        Map<String, Class<?>> cacheKeys = new HashMap<>();
+        this.snapshots.forEach((cacheKey, snapshot) -> {
+            if (fileNames.contains(snapshot.getFileName())) {
+                cacheKeys.put(cacheKey, snapshot.getTargetClass());
+            }
+        });
+        this.listeners.forEach((cacheKey, registration) -> {
+            if (fileNames.contains(registration.getFileName())) {
+                cacheKeys.put(cacheKey, registration.getTargetClass());
+            }
+        });
+        cacheKeys.forEach((cacheKey, targetClass) -> {
+            ConfigureSnapshot<?> previous = this.snapshots.get(cacheKey);
+            String fileName = cacheKey.substring(0, cacheKey.indexOf('\u0000'));
+            String filePath = this.existsFiles.get(fileName);
+            if (previous != null && filePath != null) {
+                File configFile = new File(filePath);
+                if (previous.matches(filePath, configFile.lastModified(), configFile.length())) {
+                    return;
+                }
+            }
+            ConfigureSnapshot<?> current = this.loadSnapshot(fileName, targetClass);
+            if (current == null) {
+                this.snapshots.remove(cacheKey);
+            } else {
+                this.snapshots.put(cacheKey, current);
+            }
+            if (previous != null || current != null) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Configure_Manager_Reload_Debug", fileName);
+                }
+                Optional.ofNullable(this.listeners.get(cacheKey))
+                        .ifPresent(registration -> registration.notify(previous, current));
+            }
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Check the given snapshot is loaded from the current configure file version</h3>
+     * <h3 class="zh-CN">检查给定的快照是否从当前配置文件版本加载</h3>
+     *
+     * @param snapshot <span class="en-US">Configure snapshot</span>
+     *                 <span class="zh-CN">配置信息快照</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    private boolean upToDate(final ConfigureSnapshot<?> snapshot) {
+        String filePath = this.existsFiles.get(snapshot.getFileName());
+        if (filePath == null) {
+            return Boolean.FALSE;
+        }
+        File configFile = new File(filePath);
+        return snapshot.matches(filePath, configFile.lastModified(), configFile.length());
+    }
+
+    /**
+     * <h3 class="en-US">Load configure snapshot from configure file</h3>
+     * <h3 class="zh-CN">从配置文件加载配置信息快照</h3>
+     *
+     * @param fileName    <span class="en-US">Configure file name</span>
+     *                    <span class="zh-CN">配置文件名称</span>
+     * @param targetClass <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @param <T>         <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @return <span class="en-US">Loaded snapshot or null if file not exists or parse failed</span>
+     * <span class="zh-CN">加载的快照，如果文件不存在或解析失败则返回null</span>
+     */
+    private <T> ConfigureSnapshot<T> loadSnapshot(final String fileName, final Class<T> targetClass) {
+        String filePath = this.existsFiles.get(fileName);
+        if (filePath == null) {
+            return null;
+        }
+        File configFile = new File(filePath);
+        long lastModified = configFile.lastModified();
+        byte[] content;
+        try {
+            content = FileUtils.readFileBytes(filePath);
+        } catch (FileNotFoundException e) {
+            LOGGER.error("Not_Found_File_Error", filePath);
+            return null;
+        }
+        StringUtils.StringType stringType;
+        switch (StringUtils.getFilenameExtension(filePath).toLowerCase()) {
+            case "json":
+                stringType = StringUtils.StringType.JSON;
+                break;
+            case "xml":
+                stringType = StringUtils.StringType.XML;
+                break;
+            case "yml":
+            case "yaml":
+                stringType = StringUtils.StringType.YAML;
+                break;
+            default:
+                stringType = StringUtils.StringType.SERIALIZABLE;
+                break;
+        }
+        Map<String, String> decryptedValues = new ConcurrentHashMap<>();
+        T config = this.parseContent(content, stringType, targetClass, decryptedValues);
+        if (config == null) {
+            return null;
+        }
+        return new ConfigureSnapshot<>(fileName, targetClass, filePath, stringType, content, lastModified,
+                DateTimeUtils.currentUTCTimeMillis(), config, decryptedValues);
     }
 
+    /**
+     * <h3 class="en-US">Parse a new modifiable configure instance from snapshot content</h3>
+     * <h3 class="zh-CN">从快照内容中解析新的可修改配置信息实例</h3>
+     *
+     * @param snapshot <span class="en-US">Configure snapshot</span>
+     *                 <span class="zh-CN">配置信息快照</span>
+     * @param <T>      <span class="en-US">Configuration information JavaBean class</span>
+     *                 <span class="zh-CN">配置信息JavaBean类</span>
+     * @return <span class="en-US">Parsed configure instance</span>
+     * <span class="zh-CN">解析的配置信息实例</span>
+     */
+    private <T> T parseSnapshot(final ConfigureSnapshot<T> snapshot) {
+        return this.parseContent(snapshot.getContent(), snapshot.getStringType(), snapshot.getTargetClass(),
+                snapshot.getDecryptedValues());
+    }
+
+    /**
+     * <h3 class="en-US">Parse configure content and decrypt the security fields</h3>
+     * <h3 class="zh-CN">解析配置信息内容并解密安全字段</h3>
+     *
+     * @param content         <span class="en-US">Configure file content</span>
+     *                        <span class="zh-CN">配置文件内容</span>
+     * @param stringType      <span class="en-US">Configure file content type</span>
+     *                        <span class="zh-CN">配置文件内容类型</span>
+     * @param targetClass     <span class="en-US">Configuration information JavaBean class</span>
+     *                        <span class="zh-CN">配置信息JavaBean类</span>
+     * @param decryptedValues <span class="en-US">Memoized decrypted values</span>
+     *                        <span class="zh-CN">缓存的解密结果</span>
+     * @param <T>             <span class="en-US">Configuration information JavaBean class</span>
+     *                        <span class="zh-CN">配置信息JavaBean类</span>
+     * @return <span class="en-US">Parsed configure instance or null if parse failed</span>
+     * <span class="zh-CN">解析的配置信息实例，如果解析失败则返回null</span>
+     */
+    private <T> T parseContent(final byte[] content, final StringUtils.StringType stringType,
+                               final Class<T> targetClass, final Map<String, String> decryptedValues) {
+        String schemaPath = Globals.DEFAULT_VALUE_STRING;
+        if (StringUtils.StringType.XML.equals(stringType)) {
+            schemaPath = Optional.ofNullable(targetClass.getAnnotation(XmlRootElement.class))
+                    .filter(xmlRootElement ->
+                            !Globals.DEFAULT_XML_ANNOTATION_NAME.equalsIgnoreCase(xmlRootElement.namespace()))
+                    .map(XmlRootElement::namespace)
+                    .orElse(Globals.DEFAULT_VALUE_STRING);
+        }
+        T readConfig;
+        try (InputStream inputStream = new ByteArrayInputStream(content)) {
+            readConfig = StringUtils.streamToObject(inputStream, stringType, targetClass, schemaPath);
+        } catch (Exception e) {
+            LOGGER.error("Parse_File_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return null;
+        }
+        if (readConfig instanceof BeanObject) {
+            this.securityFields((BeanObject) readConfig, Boolean.FALSE, decryptedValues);
+        }
+        return readConfig;
+    }
+
+    /**
+     * <h3 class="en-US">Parse configure file name from file path, the extension name is removed</h3>
+     * <h3 class="zh-CN">从文件路径解析配置文件名称，移除扩展名</h3>
+     *
+     * @param filePath <span class="en-US">Configure file path</span>
+     *                 <span class="zh-CN">配置文件路径</span>
+     * @return <span class="en-US">Configure file name</span>
+     * <span class="zh-CN">配置文件名称</span>
+     */
+    private static String configureName(final String filePath) {
+        String fileName = StringUtils.getFilename(filePath);
+        if (fileName.contains(".")) {
+            fileName = fileName.substring(0, fileName.lastIndexOf("."));
+        }
+        return fileName;
+    }
+
+    /**
+     * <h3 class="en-US">Generate cache key of configure file name and class</h3>
+     * <h3 class="zh-CN">生成配置文件名称和类的缓存键值</h3>
+     *
+     * @param fileName    <span class="en-US">Configure file name</span>
+     *                    <span class="zh-CN">配置文件名称</span>
+     * @param targetClass <span class="en-US">Configuration information JavaBean class</span>
+     *                    <span class="zh-CN">配置信息JavaBean类</span>
+     * @return <span class="en-US">Cache key</span>
+     * <span class="zh-CN">缓存键值</span>
+     */
+    private static String cacheKey(final String fileName, final Class<?> targetClass) {
+        return fileName + '\u0000' + targetClass.getName();
+    }
+
+    /**
+     * <h3 class="en-US">Create daemon thread for watch task</h3>
+     * <h3 class="zh-CN">为文件监视任务创建守护线程</h3>
+     *
+     * @param runnable <span class="en-US">Watch task</span>
+     *                 <span class="zh-CN">文件监视任务</span>
+     * @return <span class="en-US">Created thread</span>
+     * <span class="zh-CN">创建的线程</span>
+     */
+    private static Thread watchThread(final Runnable runnable) {
+        Thread thread = new Thread(runnable, "ConfigureWatcher");
+        thread.setDaemon(Boolean.TRUE);
+        return thread;
+    }
+
+    /**
+     * <h3 class="en-US">Scan the security fields of given class, only the fields annotated by Password are kept</h3>
+     * <h3 class="zh-CN">扫描给定类的安全字段，仅保留使用Password注解的字段</h3>
+     *
+     * @param beanClass <span class="en-US">Configuration information JavaBean class</span>
+     *                  <span class="zh-CN">配置信息JavaBean类</span>
+     */
     private void scanFields(final Class<?> beanClass) {
         if (!ClassUtils.isAssignable(BeanObject.class, beanClass)) {
             return;
@@ -405,11 +951,105 @@ public final class ConfigureManager {
         Map<String, String> fieldMap = new HashMap<>();
         ReflectionUtils.getAllDeclaredFields(beanClass)
                 .forEach(field ->
-                        fieldMap.put(field.getName(),
-                                Optional.ofNullable(field.getAnnotation(Password.class))
-                                        .map(Password::value)
-                                        .filter(StringUtils::notBlank)
-                                        .orElse(Globals.DEFAULT_VALUE_STRING)));
+                        Optional.ofNullable(field.getAnnotation(Password.class))
+                                .map(Password::value)
+                                .filter(StringUtils::notBlank)
+                                .ifPresent(secureName -> fieldMap.put(field.getName(), secureName)));
         this.securityFieldsMap.put(className, fieldMap);
     }
+
+    /**
+     * <h2 class="en-US">Registered listeners of configure file and class</h2>
+     * <h2 class="zh-CN">配置文件和类的注册监听器</h2>
+     *
+     * @param <T> <span class="en-US">Configuration information JavaBean class</span>
+     *            <span class="zh-CN">配置信息JavaBean类</span>
+     */
+    private static final class ListenerRegistration<T> {
+        /**
+         * <span class="en-US">Configure file name</span>
+         * <span class="zh-CN">配置文件名称</span>
+         */
+        private final String fileName;
+        /**
+         * <span class="en-US">Configuration information JavaBean class</span>
+         * <span class="zh-CN">配置信息JavaBean类</span>
+         */
+        private final Class<T> targetClass;
+        /**
+         * <span class="en-US">Registered listeners</span>
+         * <span class="zh-CN">注册的监听器</span>
+         */
+        private final List<ConfigureListener<T>> listeners = new CopyOnWriteArrayList<>();
+
+        /**
+         * <h3 class="en-US">Constructor for ListenerRegistration</h3>
+         * <h3 class="zh-CN">监听器注册信息的构造方法</h3>
+         *
+         * @param fileName    <span class="en-US">Configure file name</span>
+         *                    <span class="zh-CN">配置文件名称</span>
+         * @param targetClass <span class="en-US">Configuration information JavaBean class</span>
+         *                    <span class="zh-CN">配置信息JavaBean类</span>
+         */
+        ListenerRegistration(final String fileName, final Class<T> targetClass) {
+            this.fileName = fileName;
+            this.targetClass = targetClass;
+        }
+
+        /**
+         * <h3 class="en-US">Notify all registered listeners</h3>
+         * <h3 class="zh-CN">通知所有注册的监听器</h3>
+         *
+         * @param previous <span class="en-US">Previous snapshot, may be null</span>
+         *                 <span class="zh-CN">原快照，可能为null</span>
+         * @param current  <span class="en-US">Current snapshot, may be null</span>
+         *                 <span class="zh-CN">当前快照，可能为null</span>
+         */
+        @SuppressWarnings("unchecked")
+        void notify(final ConfigureSnapshot<?> previous, final ConfigureSnapshot<?> current) {
+            this.listeners.forEach(listener -> {
+                try {
+                    listener.onChange((ConfigureSnapshot<T>) previous, (ConfigureSnapshot<T>) current);
+                } catch (Exception e) {
+                    LOGGER.error("Configure_Manager_Listener_Error", this.fileName);
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Stack_Message_Error", e);
+                    }
+                }
+            });
+        }
+
+        /**
+         * <h3 class="en-US">Getter method for configure file name</h3>
+         * <h3 class="zh-CN">配置文件名称的Getter方法</h3>
+         *
+         * @return <span class="en-US">Configure file name</span>
+         * <span class="zh-CN">配置文件名称</span>
+         */
+        String getFileName() {
+            return fileName;
+        }
+
+        /**
+         * <h3 class="en-US">Getter method for configuration information JavaBean class</h3>
+         * <h3 class="zh-CN">配置信息JavaBean类的Getter方法</h3>
+         *
+         * @return <span class="en-US">Configuration information JavaBean class</span>
+         * <span class="zh-CN">配置信息JavaBean类</span>
+         */
+        Class<T> getTargetClass() {
+            return targetClass;
+        }
+
+        /**
+         * <h3 class="en-US">Getter method for registered listeners</h3>
+         * <h3 class="zh-CN">注册的监听器的Getter方法</h3>
+         *
+         * @return <span class="en-US">Registered listeners</span>
+         * <span class="zh-CN">注册的监听器</span>
+         */
+        List<ConfigureListener<T>> getListeners() {
+            return listeners;
+        }
+    }
 }
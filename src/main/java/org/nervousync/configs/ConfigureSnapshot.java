@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.configs;
+
+import org.nervousync.utils.StringUtils;
+
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Configure snapshot</h2>
+ * <p class="en-US">
+ *     Parsed and decrypted configure instance of a configure file version. The snapshot is shared by all readers
+ *     and replaced as a whole when the configure file changed, the configure instance must not be modified,
+ *     use ConfigureManager.readConfigure to obtain a modifiable copy.
+ * </p>
+ * <h2 class="zh-CN">配置信息快照</h2>
+ * <p class="zh-CN">
+ *     配置文件某个版本解析并解密后的配置信息实例。快照由所有读取者共享，配置文件变更时整体替换，不可修改配置信息实例，
+ *     如需修改请使用ConfigureManager.readConfigure获取可修改的副本
+ * </p>
+ *
+ * @param <T> <span class="en-US">Configuration information JavaBean class</span>
+ *            <span class="zh-CN">配置信息JavaBean类</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:52:16 $
+ */
+public final class ConfigureSnapshot<T> {
+    /**
+     * <span class="en-US">Configure file name</span>
+     * <span class="zh-CN">配置文件名称</span>
+     */
+    private final String fileName;
+    /**
+     * <span class="en-US">Configuration information JavaBean class</span>
+     * <span class="zh-CN">配置信息JavaBean类</span>
+     */
+    private final Class<T> targetClass;
+    /**
+     * <span class="en-US">Configure file path</span>
+     * <span class="zh-CN">配置文件路径</span>
+     */
+    private final String filePath;
+    /**
+     * <span class="en-US">Configure file content type</span>
+     * <span class="zh-CN">配置文件内容类型</span>
+     */
+    private final StringUtils.StringType stringType;
+    /**
+     * <span class="en-US">Configure file content</span>
+     * <span class="zh-CN">配置文件内容</span>
+     */
+    private final byte[] content;
+    /**
+     * <span class="en-US">Configure file last modified time</span>
+     * <span class="zh-CN">配置文件最后修改时间</span>
+     */
+    private final long lastModified;
+    /**
+     * <span class="en-US">Configure file size</span>
+     * <span class="zh-CN">配置文件大小</span>
+     */
+    private final long fileSize;
+    /**
+     * <span class="en-US">Snapshot load time</span>
+     * <span class="zh-CN">快照加载时间</span>
+     */
+    private final long loadTime;
+    /**
+     * <span class="en-US">Memoized decrypted values, key is secure name and encrypted value</span>
+     * <span class="zh-CN">缓存的解密结果，键值为安全名称和加密值</span>
+     */
+    private final Map<String, String> decryptedValues;
+    /**
+     * <span class="en-US">Parsed configure instance</span>
+     * <span class="zh-CN">解析的配置信息实例</span>
+     */
+    private final T config;
+
+    /**
+     * <h3 class="en-US">Constructor for ConfigureSnapshot</h3>
+     * <h3 class="zh-CN">配置信息快照的构造方法</h3>
+     *
+     * @param fileName        <span class="en-US">Configure file name</span>
+     *                        <span class="zh-CN">配置文件名称</span>
+     * @param targetClass     <span class="en-US">Configuration information JavaBean class</span>
+     *                        <span class="zh-CN">配置信息JavaBean类</span>
+     * @param filePath        <span class="en-US">Configure file path</span>
+     *                        <span class="zh-CN">配置文件路径</span>
+     * @param stringType      <span class="en-US">Configure file content type</span>
+     *                        <span class="zh-CN">配置文件内容类型</span>
+     * @param content         <span class="en-US">Configure file content</span>
+     *                        <span class="zh-CN">配置文件内容</span>
+     * @param lastModified    <span class="en-US">Configure file last modified time</span>
+     *                        <span class="zh-CN">配置文件最后修改时间</span>
+     * @param loadTime        <span class="en-US">Snapshot load time</span>
+     *                        <span class="zh-CN">快照加载时间</span>
+     * @param config          <span class="en-US">Parsed configure instance</span>
+     *                        <span class="zh-CN">解析的配置信息实例</span>
+     * @param decryptedValues <span class="en-US">Memoized decrypted values</span>
+     *                        <span class="zh-CN">缓存的解密结果</span>
+     */
+    ConfigureSnapshot(final String fileName, final Class<T> targetClass, final String filePath, final StringUtils.StringType stringType,
+                      final byte[] content, final long lastModified, final long loadTime, final T config,
+                      final Map<String, String> decryptedValues) {
+        this.fileName = fileName;
+        this.targetClass = targetClass;
+        this.filePath = filePath;
+        this.stringType = stringType;
+        this.content = content;
+        this.lastModified = lastModified;
+        this.fileSize = content.length;
+        this.loadTime = loadTime;
+        this.config = config;
+        this.decryptedValues = decryptedValues;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for configure file name</h3>
+     * <h3 class="zh-CN">配置文件名称的Getter方法</h3>
+     *
+     * @return <span class="en-US">Configure file name</span>
+     * <span class="zh-CN">配置文件名称</span>
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for configuration information JavaBean class</h3>
+     * <h3 class="zh-CN">配置信息JavaBean类的Getter方法</h3>
+     *
+     * @return <span class="en-US">Configuration information JavaBean class</span>
+     * <span class="zh-CN">配置信息JavaBean类</span>
+     */
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for configure file path</h3>
+     * <h3 class="zh-CN">配置文件路径的Getter方法</h3>
+     *
+     * @return <span class="en-US">Configure file path</span>
+     * <span class="zh-CN">配置文件路径</span>
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for configure file last modified time</h3>
+     * <h3 class="zh-CN">配置文件最后修改时间的Getter方法</h3>
+     *
+     * @return <span class="en-US">Configure file last modified time</span>
+     * <span class="zh-CN">配置文件最后修改时间</span>
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for snapshot load time</h3>
+     * <h3 class="zh-CN">快照加载时间的Getter方法</h3>
+     *
+     * @return <span class="en-US">Snapshot load time</span>
+     * <span class="zh-CN">快照加载时间</span>
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for parsed configure instance</h3>
+     * <span class="en-US">The instance is shared, do not modify it</span>
+     * <h3 class="zh-CN">解析的配置信息实例的Getter方法</h3>
+     * <span class="zh-CN">实例为共享对象，请勿修改</span>
+     *
+     * @return <span class="en-US">Parsed configure instance</span>
+     * <span class="zh-CN">解析的配置信息实例</span>
+     */
+    public T getConfig() {
+        return config;
+    }
+
+    /**
+     * <h3 class="en-US">Check the snapshot is loaded from given file version</h3>
+     * <h3 class="zh-CN">检查快照是否从给定的文件版本加载</h3>
+     *
+     * @param filePath     <span class="en-US">Configure file path</span>
+     *                     <span class="zh-CN">配置文件路径</span>
+     * @param lastModified <span class="en-US">Configure file last modified time</span>
+     *                     <span class="zh-CN">配置文件最后修改时间</span>
+     * @param fileSize     <span class="en-US">Configure file size</span>
+     *                     <span class="zh-CN">配置文件大小</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    boolean matches(final String filePath, final long lastModified, final long fileSize) {
+        return this.filePath.equals(filePath) && this.lastModified == lastModified && this.fileSize == fileSize;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for configure file content type</h3>
+     * <h3 class="zh-CN">配置文件内容类型的Getter方法</h3>
+     *
+     * @return <span class="en-US">Configure file content type</span>
+     * <span class="zh-CN">配置文件内容类型</span>
+     */
+    StringUtils.StringType getStringType() {
+        return stringType;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for configure file content</h3>
+     * <h3 class="zh-CN">配置文件内容的Getter方法</h3>
+     *
+     * @return <span class="en-US">Configure file content</span>
+     * <span class="zh-CN">配置文件内容</span>
+     */
+    byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for memoized decrypted values</h3>
+     * <h3 class="zh-CN">缓存的解密结果的Getter方法</h3>
+     *
+     * @return <span class="en-US">Memoized decrypted values</span>
+     * <span class="zh-CN">缓存的解密结果</span>
+     */
+    Map<String, String> getDecryptedValues() {
+        return decryptedValues;
+    }
+}
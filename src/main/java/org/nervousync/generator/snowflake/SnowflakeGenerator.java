@@ -18,17 +18,20 @@ package org.nervousync.generator.snowflake;
 
 import org.nervousync.annotations.provider.Provider;
 import org.nervousync.commons.Globals;
+import org.nervousync.commons.clock.ClockService;
+import org.nervousync.commons.clock.MonotonicClock;
 import org.nervousync.generator.IGenerator;
-import org.nervousync.utils.DateTimeUtils;
 import org.nervousync.utils.IDUtils;
 import org.nervousync.utils.LoggerUtils;
 
+import java.util.TimeZone;
+
 /**
  * <h2 class="en-US">SnowflakeID generator</h2>
  * <h2 class="zh-CN">雪花ID生成器</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Jul 06, 2022 12:44:27 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:41:38 $
  */
 @Provider(name = IDUtils.SNOWFLAKE, titleKey = "snowflake.id.generator.name")
 public final class SnowflakeGenerator implements IGenerator<Long> {
@@ -72,6 +75,19 @@ public final class SnowflakeGenerator implements IGenerator<Long> {
      * <span class="zh-CN">上次生成ID的时间</span>
      */
     private long lastTime = Globals.DEFAULT_VALUE_LONG;
+    /**
+     * <span class="en-US">Monotonic clock, the timestamp never moves backwards when the system time is adjusted</span>
+     * <span class="zh-CN">单调时钟，调整系统时间时时间戳不会回退</span>
+     */
+    private final ClockService clockService = new MonotonicClock();
+    /**
+     * <span class="en-US">
+     *     Fixed zone offset, keep the timestamp base same as the previous versions
+     *     and never changes at the DST transitions
+     * </span>
+     * <span class="zh-CN">固定的时区偏移量，保持与之前版本相同的时间戳基准，并且不会在夏令时切换时变化</span>
+     */
+    private final long zoneOffset = TimeZone.getDefault().getRawOffset();
     /**
 	 * <h3 class="en-US">Configure current generator</h3>
 	 * <h3 class="zh-CN">修改当前生成器的配置</h3>
@@ -102,7 +118,7 @@ public final class SnowflakeGenerator implements IGenerator<Long> {
      */
     @Override
     public Long generate() {
-        long currentTime = DateTimeUtils.currentUTCTimeMillis();
+        long currentTime = this.currentTime();
         if (currentTime < this.lastTime) {
             throw new RuntimeException(
                     String.format("System clock moved backwards. Refusing to generate id for %d milliseconds",
@@ -113,7 +129,7 @@ public final class SnowflakeGenerator implements IGenerator<Long> {
             this.sequenceIndex = (this.sequenceIndex + 1) & SEQUENCE_MASK;
             if (this.sequenceIndex == 0) {
                 while (true) {
-                    if ((currentTime = DateTimeUtils.currentUTCTimeMillis()) > this.lastTime) {
+                    if ((currentTime = this.currentTime()) > this.lastTime) {
                         break;
                     }
                 }
@@ -152,4 +168,14 @@ public final class SnowflakeGenerator implements IGenerator<Long> {
     @Override
     public void destroy() {
     }
+	/**
+	 * <h3 class="en-US">Read current timestamp from monotonic clock</h3>
+	 * <h3 class="zh-CN">从单调时钟读取当前时间戳</h3>
+	 *
+	 * @return  <span class="en-US">Current timestamp</span>
+	 *          <span class="zh-CN">当前时间戳</span>
+	 */
+    private long currentTime() {
+        return this.clockService.currentTimeMillis() - this.zoneOffset;
+    }
 }
@@ -44,25 +44,10 @@ public final class MessageResource {
      */
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     /**
-     * <span class="en-US">Mapping table of error codes and resource keys</span>
-     * <span class="zh-CN">错误代码与资源索引的映射表</span>
+     * <span class="en-US">Current message catalog, replaced as a whole when updating resources</span>
+     * <span class="zh-CN">当前的信息目录，更新资源时整体替换</span>
      */
-    private final Map<Long, String> codeKeysMap = new HashMap<>();
-    /**
-     * <span class="en-US">Resource information map</span>
-     * <span class="zh-CN">资源信息映射表</span>
-     */
-    private final Map<String, String> resourcesMap = new HashMap<>();
-    /**
-     * <span class="en-US">Cached resource formatter map</span>
-     * <span class="zh-CN">缓存的资源信息格式化器实例映射表</span>
-     */
-    private final Map<String, MessageFormat> cachedFormaterMap = new HashMap<>();
-    /**
-     * <span class="en-US">Registered language code information</span>
-     * <span class="zh-CN">注册的语言代码信息</span>
-     */
-    private final Map<String, String> registeredLanguages = new HashMap<>();
+    private volatile Catalog catalog = Catalog.EMPTY;
 
     /**
      * <h3 class="en-US">Constructor for Resource</h3>
@@ -73,16 +58,28 @@ public final class MessageResource {
 
     /**
      * <h3 class="en-US">Update resource messages</h3>
+     * <p class="en-US">
+     *     A new immutable catalog was built from the current catalog and the given definitions,
+     *     and replaced the current catalog atomically, the reading threads were not blocked.
+     * </p>
      * <h3 class="zh-CN">更新国际化信息内容</h3>
+     * <p class="zh-CN">根据当前的信息目录和给定的定义构建新的不可变信息目录，并原子地替换当前的信息目录，读取线程不会被阻塞。</p>
      *
      * @param errors    <span class="en-US">Definition list of error codes and message identification codes</span>
      *                  <span class="zh-CN">错误代码与信息识别代码的定义列表</span>
      * @param languages <span class="en-US">List of definitions of message language, identification codes and message content</span>
      *                  <span class="zh-CN">信息语言、识别代码与信息内容的定义列表</span>
      */
-    public void updateResource(@Nonnull final List<BundleError> errors, @Nonnull final List<BundleLanguage> languages) {
+    public synchronized void updateResource(@Nonnull final List<BundleError> errors,
+                                            @Nonnull final List<BundleLanguage> languages) {
+        final Catalog current = this.catalog;
+        final Map<Long, String> codeKeysMap = new HashMap<>(current.codeKeys);
+        final Map<String, Map<String, CompiledMessage>> messagesMap = new HashMap<>();
+        current.messages.forEach((messageKey, messages) -> messagesMap.put(messageKey, new HashMap<>(messages)));
+        final Map<String, String> registeredLanguages = new HashMap<>(current.languages);
         errors.stream()
-                .filter(bundleError -> StringUtils.notBlank(bundleError.getErrorCode()))
+                .filter(bundleError -> StringUtils.notBlank(bundleError.getErrorCode())
+                        && StringUtils.notBlank(bundleError.getMessageKey()))
                 .forEach(bundleError -> {
                     int radix;
                     if (bundleError.getErrorCode().length() > 2) {
@@ -106,35 +103,36 @@ public final class MessageResource {
                     String errorString =
                             (radix == 10) ? bundleError.getErrorCode() : bundleError.getErrorCode().substring(2);
                     long errorCode = Long.valueOf(errorString, radix);
-                    if (this.codeKeysMap.containsKey(errorCode)) {
+                    if (codeKeysMap.containsKey(errorCode)) {
                         this.logger.warn("Override error code: {}, original message key: {}, new message key: {}",
-                                errorCode, this.codeKeysMap.get(errorCode), bundleError.getMessageKey());
+                                errorCode, codeKeysMap.get(errorCode), bundleError.getMessageKey());
                     }
-                    this.codeKeysMap.put(errorCode, bundleError.getMessageKey());
+                    codeKeysMap.put(errorCode, bundleError.getMessageKey().intern());
                 });
         languages.stream()
                 .filter(bundleLanguage -> StringUtils.notBlank(bundleLanguage.getLanguageCode()))
                 .forEach(bundleLanguage -> {
-                    String languageCode = bundleLanguage.getLanguageCode();
+                    String languageCode = bundleLanguage.getLanguageCode().intern();
                     bundleLanguage.getBundleMessages()
                             .stream()
                             .filter(bundleMessage -> StringUtils.notBlank(bundleMessage.getMessageKey())
                                     && StringUtils.notBlank(bundleMessage.getMessageContent()))
                             .forEach(bundleMessage -> {
-                                String messageKey = bundleMessage.getMessageKey();
-                                String identifyKey = MultilingualUtils.identifyKey(messageKey, languageCode);
-                                if (this.resourcesMap.containsKey(identifyKey)) {
-                                    this.cachedFormaterMap.remove(identifyKey);
+                                String messageKey = bundleMessage.getMessageKey().intern();
+                                Map<String, CompiledMessage> messages =
+                                        messagesMap.computeIfAbsent(messageKey, key -> new HashMap<>());
+                                if (messages.containsKey(languageCode)) {
                                     this.logger.warn("Override resource key: {}, language code: {}, original value: {}, new value: {}",
-                                            messageKey, languageCode, this.resourcesMap.get(identifyKey),
+                                            messageKey, languageCode, messages.get(languageCode).content,
                                             bundleMessage.getMessageContent());
                                 }
-                                this.resourcesMap.put(identifyKey, bundleMessage.getMessageContent());
+                                messages.put(languageCode, new CompiledMessage(bundleMessage.getMessageContent()));
                             });
-                    if (!this.registeredLanguages.containsKey(languageCode)) {
-                        this.registeredLanguages.put(languageCode, bundleLanguage.getLanguageName());
+                    if (!registeredLanguages.containsKey(languageCode)) {
+                        registeredLanguages.put(languageCode, bundleLanguage.getLanguageName());
                     }
                 });
+        this.catalog = new Catalog(codeKeysMap, messagesMap, registeredLanguages);
     }
 
     /**
@@ -154,10 +152,13 @@ public final class MessageResource {
      */
     public String findMessage(final long errorCode, final String languageCode,
                               final String defaultLanguage, final Object... collections) {
-        return Optional.ofNullable(this.codeKeysMap.get(errorCode))
-                .map(messageKey -> this.findMessage(messageKey, languageCode, defaultLanguage, collections))
-                .filter(StringUtils::notBlank)
-                .orElse(MultilingualUtils.identifyKey(Long.toString(errorCode), languageCode));
+        String messageKey = this.catalog.codeKeys.get(errorCode);
+        String message = (messageKey == null)
+                ? null
+                : this.findMessage(messageKey, languageCode, defaultLanguage, collections);
+        return StringUtils.notBlank(message)
+                ? message
+                : MultilingualUtils.identifyKey(Long.toString(errorCode), languageCode);
     }
 
     /**
@@ -180,13 +181,17 @@ public final class MessageResource {
         if (StringUtils.isEmpty(languageCode)) {
             return Globals.DEFAULT_VALUE_STRING;
         }
-        String identifyKey = MultilingualUtils.identifyKey(messageKey, languageCode);
-        if (!this.resourcesMap.containsKey(identifyKey)) {
-            identifyKey = MultilingualUtils.identifyKey(messageKey, defaultLanguage);
+        Map<String, CompiledMessage> messages = (messageKey == null) ? null : this.catalog.messages.get(messageKey);
+        if (messages != null) {
+            CompiledMessage compiledMessage = messages.get(languageCode);
+            if (compiledMessage == null && defaultLanguage != null) {
+                compiledMessage = messages.get(defaultLanguage);
+            }
+            if (compiledMessage != null) {
+                return compiledMessage.format(collections);
+            }
         }
-        return Optional.ofNullable(this.retrieveFormatter(identifyKey))
-                .map(messageFormat -> messageFormat.format(collections))
-                .orElse(MultilingualUtils.identifyKey(messageKey, languageCode));
+        return MultilingualUtils.identifyKey(messageKey, languageCode);
     }
 
     /**
@@ -198,31 +203,113 @@ public final class MessageResource {
      * <span class="zh-CN">注册的语言代码信息</span>
      */
     public Map<String, String> getRegisteredLanguages() {
-        return registeredLanguages;
+        return this.catalog.languages;
     }
 
     /**
-     * <h3 class="en-US">Retrieve message formatter instance</h3>
-     * <h3 class="zh-CN">读取信息格式化器实例对象</h3>
-     *
-     * @param identifyKey <span class="en-US">Message identify key</span>
-     *                    <span class="zh-CN">信息识别键值</span>
-     * @return <span class="en-US">Retrieved message formatter instance or <code>null</code> if argument messageKey is <code>null</code> or empty string</span>
-     * <span class="zh-CN">读取的信息格式化器实例对象，如果参数 messageKey 未找到或为空字符串，则返回 <code>null</code></span>
+     * <h2 class="en-US">Immutable message catalog</h2>
+     * <h2 class="zh-CN">不可变的信息目录</h2>
      */
-    private MessageFormat retrieveFormatter(final String identifyKey) {
-        if (StringUtils.isEmpty(identifyKey)) {
-            return null;
+    private static final class Catalog {
+
+        /**
+         * <span class="en-US">Empty catalog instance</span>
+         * <span class="zh-CN">空的信息目录实例</span>
+         */
+        private static final Catalog EMPTY = new Catalog(Map.of(), Map.of(), Map.of());
+
+        /**
+         * <span class="en-US">Mapping table of error codes and resource keys</span>
+         * <span class="zh-CN">错误代码与资源索引的映射表</span>
+         */
+        private final Map<Long, String> codeKeys;
+        /**
+         * <span class="en-US">Compiled messages map, key is message key and value is the messages map of language code</span>
+         * <span class="zh-CN">编译的信息映射表，键值为信息识别键值，值为语言代码的信息映射表</span>
+         */
+        private final Map<String, Map<String, CompiledMessage>> messages;
+        /**
+         * <span class="en-US">Registered language code information</span>
+         * <span class="zh-CN">注册的语言代码信息</span>
+         */
+        private final Map<String, String> languages;
+
+        /**
+         * <h3 class="en-US">Constructor method for immutable message catalog</h3>
+         * <h3 class="zh-CN">不可变信息目录的构造方法</h3>
+         *
+         * @param codeKeys  <span class="en-US">Mapping table of error codes and resource keys</span>
+         *                  <span class="zh-CN">错误代码与资源索引的映射表</span>
+         * @param messages  <span class="en-US">Compiled messages map</span>
+         *                  <span class="zh-CN">编译的信息映射表</span>
+         * @param languages <span class="en-US">Registered language code information</span>
+         *                  <span class="zh-CN">注册的语言代码信息</span>
+         */
+        private Catalog(final Map<Long, String> codeKeys, final Map<String, Map<String, CompiledMessage>> messages,
+                        final Map<String, String> languages) {
+            this.codeKeys = Map.copyOf(codeKeys);
+            Map<String, Map<String, CompiledMessage>> messagesMap = new HashMap<>();
+            messages.forEach((messageKey, languageMessages) -> messagesMap.put(messageKey, Map.copyOf(languageMessages)));
+            this.messages = Map.copyOf(messagesMap);
+            this.languages = Collections.unmodifiableMap(new HashMap<>(languages));
         }
-        MessageFormat messageFormat = null;
-        if (this.resourcesMap.containsKey(identifyKey)) {
-            if (this.cachedFormaterMap.containsKey(identifyKey)) {
-                messageFormat = this.cachedFormaterMap.get(identifyKey);
-            } else {
-                messageFormat = new MessageFormat(this.resourcesMap.get(identifyKey));
-                this.cachedFormaterMap.put(identifyKey, messageFormat);
+    }
+
+    /**
+     * <h2 class="en-US">Compiled message</h2>
+     * <p class="en-US">
+     *     The message pattern was parsed once, messages without format arguments were formatted in advance,
+     *     other messages were formatted by a copy of the parsed formatter because the formatter is not thread-safe.
+     * </p>
+     * <h2 class="zh-CN">编译的信息</h2>
+     * <p class="zh-CN">信息模板仅解析一次，不包含格式化参数的信息提前完成格式化，其他信息使用已解析格式化器的副本进行格式化，因为格式化器不是线程安全的。</p>
+     */
+    private static final class CompiledMessage {
+
+        /**
+         * <span class="en-US">Message content</span>
+         * <span class="zh-CN">信息内容</span>
+         */
+        private final String content;
+        /**
+         * <span class="en-US">Formatted message without arguments</span>
+         * <span class="zh-CN">不使用参数的格式化信息</span>
+         */
+        private final String formatted;
+        /**
+         * <span class="en-US">Parsed formatter, <code>null</code> if the message does not contain format arguments</span>
+         * <span class="zh-CN">已解析的格式化器，如果信息不包含格式化参数则为<code>null</code></span>
+         */
+        private final MessageFormat messageFormat;
+
+        /**
+         * <h3 class="en-US">Constructor method for compiled message</h3>
+         * <h3 class="zh-CN">编译的信息的构造方法</h3>
+         *
+         * @param content <span class="en-US">Message content</span>
+         *                <span class="zh-CN">信息内容</span>
+         */
+        private CompiledMessage(final String content) {
+            MessageFormat messageFormat = new MessageFormat(content);
+            this.content = content;
+            this.formatted = messageFormat.format(new Object[0]);
+            this.messageFormat = (messageFormat.getFormatsByArgumentIndex().length == 0) ? null : messageFormat;
+        }
+
+        /**
+         * <h3 class="en-US">Format message by given collections</h3>
+         * <h3 class="zh-CN">使用给定的参数集合格式化信息</h3>
+         *
+         * @param collections <span class="en-US">given parameters of information formatter</span>
+         *                    <span class="zh-CN">用于资源信息格式化的参数</span>
+         * @return <span class="en-US">Formatted message</span>
+         * <span class="zh-CN">格式化的信息</span>
+         */
+        private String format(final Object... collections) {
+            if (this.messageFormat == null || collections == null || collections.length == 0) {
+                return this.formatted;
             }
+            return ((MessageFormat) this.messageFormat.clone()).format(collections);
         }
-        return messageFormat;
     }
 }
@@ -20,58 +20,80 @@ import jakarta.annotation.Nonnull;
 import org.nervousync.annotations.launcher.Launcher;
 import org.nervousync.annotations.provider.Provider;
 import org.nervousync.beans.launcher.LauncherConfig;
+import org.nervousync.beans.launcher.LauncherStatistics;
 import org.nervousync.beans.launcher.StartupConfig;
 import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
+import org.nervousync.enumerations.launcher.LauncherState;
 import org.nervousync.enumerations.launcher.StartupType;
 import org.nervousync.utils.DateTimeUtils;
+import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.ObjectUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">Startup Manager</h2>
- * <span class="en-US">Running in singleton mode</span>
+ * <span class="en-US">
+ *     Running in singleton mode. Launchers are started by dependency order, the launchers which dependencies
+ *     were started are executed concurrently on a bounded thread pool, and stopped by reverse order.
+ * </span>
  * <h2 class="zh-CN">启动管理器</h2>
- * <span class="en-US">使用单例模式运行</span>
+ * <span class="zh-CN">
+ *     使用单例模式运行。启动器按照依赖顺序启动，依赖已启动的启动器在有界线程池中并发执行，停止时按照相反顺序执行。
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Jun 28, 2022 15:25:33 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:46:25 $
  */
 public final class StartupManager {
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(StartupManager.class);
 	private static final long SCHEDULE_PERIOD = 30 * 1000L;
+	/**
+	 * <span class="en-US">Maximum thread count of startup thread pool</span>
+	 * <span class="zh-CN">启动线程池的最大线程数</span>
+	 */
+	private static final int MAX_STARTUP_THREADS = 16;
 	/**
 	 * <span class="en-US">Singleton instance of StartupManager</span>
-	 * <span class="en-US">StartupManager的单例对象实例</span>
+	 * <span class="zh-CN">StartupManager的单例对象实例</span>
 	 */
 	private static StartupManager INSTANCE = null;
 	/**
 	 * <span class="en-US">Startup manager configure instance</span>
-	 * <span class="en-US">启动器配置信息实例对象</span>
+	 * <span class="zh-CN">启动器配置信息实例对象</span>
 	 */
 	private final StartupConfig startupConfig;
 	/**
-	 * <span class="en-US">Registered startup launcher instance</span>
-	 * <span class="en-US">已注册的启动器实例</span>
+	 * <span class="en-US">Registered startup launcher instance, sorted by startup finished order</span>
+	 * <span class="zh-CN">已注册的启动器实例，按照启动完成顺序排列</span>
 	 */
 	private final List<StartupLauncher> runningLaunchers;
+	/**
+	 * <span class="en-US">Launcher statistics information, key is launcher class name</span>
+	 * <span class="zh-CN">启动器统计信息，键值为启动器类名</span>
+	 */
+	private final Map<String, LauncherStatistics> statistics;
 	/**
 	 * <span class="en-US">Schedule executor for update startup launcher configure</span>
-	 * <span class="en-US">启动器配置信息更新调度程序</span>
+	 * <span class="zh-CN">启动器配置信息更新调度程序</span>
 	 */
 	private final ScheduledExecutorService scheduledExecutorService;
 	/**
-	 * <span class="en-US">Schedule task running status</span>
-	 * <span class="en-US">调度任务执行状态</span>
+	 * <span class="en-US">Lock of launcher configure modification</span>
+	 * <span class="zh-CN">启动器配置信息修改锁</span>
 	 */
-	private boolean running = Boolean.FALSE;
+	private final Lock configLock = new ReentrantLock();
 
 	/**
 	 * <h3 class="en-US">Private constructor method for StartupManager</h3>
@@ -81,9 +103,19 @@ public final class StartupManager {
 	 */
 	private StartupManager(final StartupConfig startupConfig) {
 		this.startupConfig = (startupConfig == null) ? new StartupConfig() : startupConfig;
-		this.runningLaunchers = new ArrayList<>();
-		this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-		this.scheduledExecutorService.scheduleWithFixedDelay(this::scanConfig, Globals.DEFAULT_SCHEDULE_DELAY,
+		this.runningLaunchers = new CopyOnWriteArrayList<>();
+		this.statistics = new ConcurrentHashMap<>();
+		this.scanConfig();
+		this.startLaunchers(this.startupConfig.getRegisteredLaunchers()
+				.stream()
+				.filter(launcherConfig -> StartupType.AUTO.equals(launcherConfig.getStartupType()))
+				.collect(Collectors.toList()));
+		this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "StartupScanner");
+			thread.setDaemon(Boolean.TRUE);
+			return thread;
+		});
+		this.scheduledExecutorService.scheduleWithFixedDelay(this::scanConfig, SCHEDULE_PERIOD,
 				SCHEDULE_PERIOD, TimeUnit.MILLISECONDS);
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
 			if (StartupManager.INSTANCE != null) {
@@ -91,10 +123,6 @@ public final class StartupManager {
 				StartupManager.INSTANCE = null;
 			}
 		}));
-		this.startupConfig.getRegisteredLaunchers()
-				.stream()
-				.filter(launcherConfig -> StartupType.AUTO.equals(launcherConfig.getStartupType()))
-				.forEach(this::startLauncher);
 	}
 
 	/**
@@ -116,7 +144,7 @@ public final class StartupManager {
 	 * <h3 class="zh-CN">获取启动管理器实例对象</h3>
 	 *
 	 * @return <span class="en-US">Startup manager instance</span>
-	 * <span class="en-US">启动管理器实例对象</span>
+	 * <span class="zh-CN">启动管理器实例对象</span>
 	 */
 	public static StartupManager getInstance() {
 		if (StartupManager.INSTANCE == null) {
@@ -130,86 +158,105 @@ public final class StartupManager {
 	 * <h3 class="zh-CN">获取已注册的启动器配置信息列表</h3>
 	 *
 	 * @return <span class="en-US">Launcher configure information list</span>
-	 * <span class="en-US">启动器配置信息列表</span>
+	 * <span class="zh-CN">启动器配置信息列表</span>
 	 */
 	public List<LauncherConfig> registeredLaunchers() {
 		return this.startupConfig.getRegisteredLaunchers();
 	}
 
+	/**
+	 * <h3 class="en-US">Obtain launcher statistics information list</h3>
+	 * <span class="en-US">Contains the state, startup and stop time cost of each launcher, used for diagnosis</span>
+	 * <h3 class="zh-CN">获取启动器统计信息列表</h3>
+	 * <span class="zh-CN">包含每个启动器的状态、启动和停止耗时，用于诊断</span>
+	 *
+	 * @return <span class="en-US">Launcher statistics information list, sorted by startup begin time</span>
+	 * <span class="zh-CN">启动器统计信息列表，按照启动开始时间排序</span>
+	 */
+	public List<LauncherStatistics> statistics() {
+		return this.statistics.values()
+				.stream()
+				.sorted(Comparator.comparingLong(LauncherStatistics::getStartTime))
+				.collect(Collectors.toList());
+	}
+
 	public void config(final String className, final StartupType startupType) {
 		final AtomicBoolean modified = new AtomicBoolean(Boolean.FALSE);
-		long startTime = DateTimeUtils.currentUTCTimeMillis();
-
-		while (true) {
-			if (!this.running) {
-				this.running = Boolean.TRUE;
-				break;
-			}
-			if (1000L < (DateTimeUtils.currentUTCTimeMillis() - startTime)) {
+		try {
+			if (!this.configLock.tryLock(1000L, TimeUnit.MILLISECONDS)) {
 				return;
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
 		}
-		List<LauncherConfig> registeredLaunchers = this.startupConfig.getRegisteredLaunchers();
-		registeredLaunchers.replaceAll(launcherConfig -> {
-			if (ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName())
-					&& !ObjectUtils.nullSafeEquals(launcherConfig.getStartupType(), startupType)) {
-				launcherConfig.setStartupType(startupType);
-				modified.set(Boolean.TRUE);
-			}
-			return launcherConfig;
-		});
+		try {
+			List<LauncherConfig> registeredLaunchers = this.startupConfig.getRegisteredLaunchers();
+			registeredLaunchers.replaceAll(launcherConfig -> {
+				if (ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName())
+						&& !ObjectUtils.nullSafeEquals(launcherConfig.getStartupType(), startupType)) {
+					launcherConfig.setStartupType(startupType);
+					modified.set(Boolean.TRUE);
+				}
+				return launcherConfig;
+			});
 
-		if (modified.get()) {
-			this.startupConfig.setRegisteredLaunchers(registeredLaunchers);
-			this.saveConfig();
+			if (modified.get()) {
+				this.startupConfig.setRegisteredLaunchers(registeredLaunchers);
+				this.saveConfig();
+			}
+		} finally {
+			this.configLock.unlock();
 		}
-
-		this.running = Boolean.FALSE;
 	}
 
 	/**
 	 * <h3 class="en-US">Start registered launcher</h3>
+	 * <span class="en-US">The dependency launchers which not running will be started first</span>
 	 * <h3 class="zh-CN">启动注册的启动器</h3>
+	 * <span class="zh-CN">未运行的依赖启动器会被首先启动</span>
 	 *
 	 * @param className <span class="en-US">Launcher class name</span>
-	 *                  <span class="en-US">启动器类名</span>
+	 *                  <span class="zh-CN">启动器类名</span>
 	 */
 	public void startup(final String className) {
 		if (this.runningLauncher(className)) {
 			return;
 		}
-		this.startupConfig.getRegisteredLaunchers()
+		this.startLaunchers(this.startupConfig.getRegisteredLaunchers()
 				.stream()
 				.filter(launcherConfig ->
 						ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName()))
 				.filter(launcherConfig -> !StartupType.DISABLE.equals(launcherConfig.getStartupType()))
-				.forEach(this::startLauncher);
+				.collect(Collectors.toList()));
 	}
 
 	/**
 	 * <h3 class="en-US">Stop registered launcher</h3>
+	 * <span class="en-US">The running launchers which depend on given launcher will be stopped first</span>
 	 * <h3 class="zh-CN">停止注册的启动器</h3>
+	 * <span class="zh-CN">依赖给定启动器的运行中启动器会被首先停止</span>
 	 *
 	 * @param className <span class="en-US">Launcher class name</span>
-	 *                  <span class="en-US">启动器类名</span>
+	 *                  <span class="zh-CN">启动器类名</span>
 	 */
 	public void stop(final String className) {
-		if (this.runningLauncher(className)) {
-			this.startupConfig.getRegisteredLaunchers()
-					.stream()
-					.filter(launcherConfig ->
-							ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName()))
-					.filter(launcherConfig -> !StartupType.DISABLE.equals(launcherConfig.getStartupType()))
-					.forEach(launcherConfig ->
-							this.runningLaunchers.removeIf(startupLauncher -> {
-								if (ObjectUtils.nullSafeEquals(launcherConfig.getLauncherClass(),
-										startupLauncher.getClass())) {
-									startupLauncher.stop();
-									return Boolean.TRUE;
-								}
-								return Boolean.FALSE;
-							}));
+		if (!this.runningLauncher(className)) {
+			return;
 		}
+		Set<String> stopClasses = new HashSet<>();
+		stopClasses.add(className);
+		//  Dependents always finish startup after their dependencies, so one pass in startup order is enough
+		this.runningLaunchers.forEach(startupLauncher -> {
+			if (this.dependencies(startupLauncher.getClass().getName()).stream().anyMatch(stopClasses::contains)) {
+				stopClasses.add(startupLauncher.getClass().getName());
+			}
+		});
+		List<StartupLauncher> stopLaunchers = this.runningLaunchers.stream()
+				.filter(startupLauncher -> stopClasses.contains(startupLauncher.getClass().getName()))
+				.collect(Collectors.toList());
+		Collections.reverse(stopLaunchers);
+		stopLaunchers.forEach(startupLauncher -> this.stopLauncher(startupLauncher, Boolean.FALSE));
 	}
 
 	/**
@@ -217,7 +264,7 @@ public final class StartupManager {
 	 * <h3 class="zh-CN">重启注册的启动器</h3>
 	 *
 	 * @param className <span class="en-US">Launcher class name</span>
-	 *                  <span class="en-US">启动器类名</span>
+	 *                  <span class="zh-CN">启动器类名</span>
 	 */
 	public void restart(final String className) {
 		this.startupConfig.getRegisteredLaunchers()
@@ -232,11 +279,19 @@ public final class StartupManager {
 										ObjectUtils.nullSafeEquals(launcherConfig.getLauncherClass(),
 												startupLauncher.getClass()))
 								.forEach(startupLauncher -> {
+									long beginTime = System.nanoTime();
 									startupLauncher.stop();
+									long stopCost = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginTime);
+									long startTime = DateTimeUtils.currentUTCTimeMillis();
+									beginTime = System.nanoTime();
 									startupLauncher.startup();
+									this.statistics.put(className, new LauncherStatistics(className,
+											LauncherState.RUNNING, startTime,
+											TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginTime),
+											stopCost, Globals.DEFAULT_VALUE_STRING));
 								});
 					} else {
-						this.startLauncher(launcherConfig);
+						this.startLaunchers(Collections.singletonList(launcherConfig));
 					}
 				});
 	}
@@ -247,20 +302,287 @@ public final class StartupManager {
 	}
 
 	/**
-	 * <h3 class="en-US">Start registered launcher</h3>
-	 * <h3 class="zh-CN">启动注册的启动器</h3>
+	 * <h3 class="en-US">Read dependency launcher class names of given launcher</h3>
+	 * <h3 class="zh-CN">读取给定启动器依赖的启动器类名</h3>
 	 *
-	 * @param launcherConfig <span class="en-US">Launcher configure information instance</span>
-	 *                       <span class="en-US">启动器配置信息实例对象</span>
+	 * @param className <span class="en-US">Launcher class name</span>
+	 *                  <span class="zh-CN">启动器类名</span>
+	 * @return <span class="en-US">Dependency launcher class names</span>
+	 * <span class="zh-CN">依赖的启动器类名</span>
+	 */
+	private List<String> dependencies(final String className) {
+		return this.startupConfig.getRegisteredLaunchers()
+				.stream()
+				.filter(launcherConfig ->
+						ObjectUtils.nullSafeEquals(className, launcherConfig.getLauncherClass().getName()))
+				.findFirst()
+				.map(LauncherConfig::getDependencies)
+				.orElse(Collections.emptyList());
+	}
+
+	/**
+	 * <h3 class="en-US">Start given launchers and the dependency launchers which not running</h3>
+	 * <span class="en-US">
+	 *     Build the dependency graph, the launcher is submitted to the startup thread pool after all its dependencies
+	 *     were started. Launchers with missing, disabled, failed or circular dependencies are not started.
+	 *     The method returns after all launchers were finished, failed or timed out.
+	 * </span>
+	 * <h3 class="zh-CN">启动给定的启动器以及未运行的依赖启动器</h3>
+	 * <span class="zh-CN">
+	 *     构建依赖关系图，启动器的所有依赖都启动后才会被提交到启动线程池。依赖缺失、禁用、失败或循环依赖的启动器不会被启动。
+	 *     所有启动器完成、失败或超时后方法返回。
+	 * </span>
+	 *
+	 * @param launcherConfigs <span class="en-US">Launcher configure information list</span>
+	 *                        <span class="zh-CN">启动器配置信息列表</span>
 	 */
-	private void startLauncher(@Nonnull final LauncherConfig launcherConfig) {
-		if (this.runningLaunchers.stream().noneMatch(startupLauncher ->
-				ObjectUtils.nullSafeEquals(launcherConfig.getLauncherClass(), startupLauncher.getClass()))) {
+	private void startLaunchers(@Nonnull final List<LauncherConfig> launcherConfigs) {
+		Map<String, LauncherConfig> registeredConfigs = new HashMap<>();
+		this.startupConfig.getRegisteredLaunchers()
+				.stream()
+				.filter(launcherConfig -> launcherConfig.getLauncherClass() != null)
+				.filter(launcherConfig -> !StartupType.DISABLE.equals(launcherConfig.getStartupType()))
+				.forEach(launcherConfig ->
+						registeredConfigs.put(launcherConfig.getLauncherClass().getName(), launcherConfig));
+
+		//  Collect given launchers and the dependencies which not running, sort code is used by descending order
+		Map<String, LauncherConfig> launcherNodes = new LinkedHashMap<>();
+		Deque<LauncherConfig> pendingConfigs = launcherConfigs.stream()
+				.filter(launcherConfig -> launcherConfig.getLauncherClass() != null)
+				.sorted((config1, config2) -> Integer.compare(config2.getSortCode(), config1.getSortCode()))
+				.collect(Collectors.toCollection(ArrayDeque::new));
+		while (!pendingConfigs.isEmpty()) {
+			LauncherConfig launcherConfig = pendingConfigs.poll();
+			String className = launcherConfig.getLauncherClass().getName();
+			if (launcherNodes.containsKey(className) || this.runningLauncher(className)) {
+				continue;
+			}
+			launcherNodes.put(className, launcherConfig);
+			launcherConfig.getDependencies()
+					.stream()
+					.map(registeredConfigs::get)
+					.filter(Objects::nonNull)
+					.forEach(pendingConfigs::add);
+		}
+		if (launcherNodes.isEmpty()) {
+			return;
+		}
+
+		//  Topological sort, the launchers left in the graph are in dependency cycle
+		Map<String, Integer> inDegrees = new HashMap<>();
+		Map<String, List<String>> dependents = new HashMap<>();
+		launcherNodes.forEach((className, launcherConfig) -> {
+			inDegrees.putIfAbsent(className, Globals.INITIALIZE_INT_VALUE);
+			launcherConfig.getDependencies()
+					.stream()
+					.filter(launcherNodes::containsKey)
+					.distinct()
+					.forEach(dependency -> {
+						inDegrees.merge(className, 1, Integer::sum);
+						dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(className);
+					});
+		});
+		List<String> sortedNodes = new ArrayList<>();
+		Deque<String> readyNodes = launcherNodes.keySet()
+				.stream()
+				.filter(className -> inDegrees.get(className) == Globals.INITIALIZE_INT_VALUE)
+				.collect(Collectors.toCollection(ArrayDeque::new));
+		while (!readyNodes.isEmpty()) {
+			String className = readyNodes.poll();
+			sortedNodes.add(className);
+			dependents.getOrDefault(className, Collections.emptyList())
+					.forEach(dependent -> {
+						if (inDegrees.merge(dependent, -1, Integer::sum) == Globals.INITIALIZE_INT_VALUE) {
+							readyNodes.add(dependent);
+						}
+					});
+		}
+		launcherNodes.keySet()
+				.stream()
+				.filter(className -> !sortedNodes.contains(className))
+				.forEach(className -> {
+					LOGGER.error("Startup_Launcher_Cycle_Error", className);
+					this.failed(className, LauncherState.FAILED, "Circular dependency");
+				});
+
+		if (sortedNodes.isEmpty()) {
+			return;
+		}
+		int threadCount = Math.min(sortedNodes.size(), MAX_STARTUP_THREADS);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount, runnable -> {
+			Thread thread = new Thread(runnable, "StartupLauncher");
+			thread.setDaemon(Boolean.TRUE);
+			return thread;
+		});
+		Map<String, CompletableFuture<Void>> startupFutures = new HashMap<>();
+		try {
+			sortedNodes.forEach(className -> {
+				LauncherConfig launcherConfig = launcherNodes.get(className);
+				Map<String, CompletableFuture<Void>> dependencyFutures = new LinkedHashMap<>();
+				String missingDependency = Globals.DEFAULT_VALUE_STRING;
+				for (String dependency : launcherConfig.getDependencies()) {
+					if (this.runningLauncher(dependency)) {
+						continue;
+					}
+					CompletableFuture<Void> dependencyFuture = startupFutures.get(dependency);
+					if (dependencyFuture == null) {
+						missingDependency = dependency;
+						break;
+					}
+					dependencyFutures.put(dependency, dependencyFuture);
+				}
+				CompletableFuture<Void> startupFuture;
+				if (missingDependency.isEmpty()) {
+					startupFuture = CompletableFuture.allOf(
+									dependencyFutures.values().toArray(new CompletableFuture<?>[0]))
+							.handle((ignore, throwable) -> throwable)
+							.thenCompose(throwable -> {
+								if (throwable == null) {
+									return this.startLauncher(launcherConfig, executorService);
+								}
+								String failedDependency = dependencyFutures.entrySet()
+										.stream()
+										.filter(entry -> entry.getValue().isCompletedExceptionally())
+										.map(Map.Entry::getKey)
+										.findFirst()
+										.orElse(Globals.DEFAULT_VALUE_STRING);
+								LOGGER.error("Startup_Launcher_Dependency_Error", className, failedDependency);
+								this.failed(className, LauncherState.FAILED, "Dependency failed: " + failedDependency);
+								return CompletableFuture.failedFuture(new IllegalStateException(failedDependency));
+							});
+				} else {
+					LOGGER.error("Startup_Launcher_Dependency_Error", className, missingDependency);
+					this.failed(className, LauncherState.FAILED, "Dependency not available: " + missingDependency);
+					startupFuture = new CompletableFuture<>();
+					startupFuture.completeExceptionally(new IllegalStateException(missingDependency));
+				}
+				startupFutures.put(className, startupFuture);
+			});
+			CompletableFuture.allOf(startupFutures.values().toArray(new CompletableFuture<?>[0]))
+					.exceptionally(throwable -> null)
+					.join();
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Start registered launcher on given thread pool</h3>
+	 * <span class="en-US">
+	 *     If the launcher startup is timed out, the launcher will be stopped after the startup method returned.
+	 * </span>
+	 * <h3 class="zh-CN">在给定的线程池中启动注册的启动器</h3>
+	 * <span class="zh-CN">如果启动器启动超时，启动器会在启动方法返回后被停止</span>
+	 *
+	 * @param launcherConfig  <span class="en-US">Launcher configure information instance</span>
+	 *                        <span class="zh-CN">启动器配置信息实例对象</span>
+	 * @param executorService <span class="en-US">Startup thread pool</span>
+	 *                        <span class="zh-CN">启动线程池</span>
+	 * @return <span class="en-US">Future of launcher startup</span>
+	 * <span class="zh-CN">启动器启动的异步结果</span>
+	 */
+	private CompletableFuture<Void> startLauncher(@Nonnull final LauncherConfig launcherConfig,
+	                                              @Nonnull final ExecutorService executorService) {
+		String className = launcherConfig.getLauncherClass().getName();
+		long startTime = DateTimeUtils.currentUTCTimeMillis();
+		AtomicReference<LauncherState> launcherState = new AtomicReference<>(LauncherState.STARTING);
+		this.statistics.put(className, new LauncherStatistics(className, LauncherState.STARTING, startTime,
+				Globals.DEFAULT_VALUE_LONG, Globals.DEFAULT_VALUE_LONG, Globals.DEFAULT_VALUE_STRING));
+		CompletableFuture<Void> startupFuture = CompletableFuture.runAsync(() -> {
+			long beginTime = System.nanoTime();
 			StartupLauncher startupLauncher =
 					(StartupLauncher) ObjectUtils.newInstance(launcherConfig.getLauncherClass());
 			startupLauncher.startup();
-			this.runningLaunchers.add(startupLauncher);
+			long startupCost = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginTime);
+			if (launcherState.compareAndSet(LauncherState.STARTING, LauncherState.RUNNING)) {
+				this.runningLaunchers.add(startupLauncher);
+				this.statistics.put(className, new LauncherStatistics(className, LauncherState.RUNNING, startTime,
+						startupCost, Globals.DEFAULT_VALUE_LONG, Globals.DEFAULT_VALUE_STRING));
+			} else {
+				//  Startup timed out, the instance is not registered
+				startupLauncher.stop();
+			}
+		}, executorService);
+		if (launcherConfig.getTimeout() > 0L) {
+			startupFuture = startupFuture.orTimeout(launcherConfig.getTimeout(), TimeUnit.MILLISECONDS);
 		}
+		return startupFuture.handle((ignore, throwable) -> {
+			if (throwable == null) {
+				return null;
+			}
+			Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null)
+					? throwable.getCause()
+					: throwable;
+			if (cause instanceof TimeoutException) {
+				if (launcherState.compareAndSet(LauncherState.STARTING, LauncherState.TIMEOUT)) {
+					LOGGER.error("Startup_Launcher_Timeout_Error", className, launcherConfig.getTimeout());
+					this.failed(className, LauncherState.TIMEOUT, "Startup timeout");
+				} else if (launcherState.get() == LauncherState.RUNNING) {
+					//  Startup finished just before the timeout fired, the launcher was registered as running
+					return null;
+				}
+			} else {
+				launcherState.set(LauncherState.FAILED);
+				LOGGER.error("Startup_Launcher_Error", className);
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", cause);
+				}
+				this.failed(className, LauncherState.FAILED, cause.getMessage());
+			}
+			throw new CompletionException(cause);
+		});
+	}
+
+	/**
+	 * <h3 class="en-US">Stop or destroy given running launcher and record the time cost</h3>
+	 * <h3 class="zh-CN">停止或销毁给定的运行中启动器并记录耗时</h3>
+	 *
+	 * @param startupLauncher <span class="en-US">Running launcher instance</span>
+	 *                        <span class="zh-CN">运行中的启动器实例</span>
+	 * @param destroy         <span class="en-US">Invoke destroy method instead of stop method</span>
+	 *                        <span class="zh-CN">调用destroy方法替代stop方法</span>
+	 */
+	private void stopLauncher(@Nonnull final StartupLauncher startupLauncher, final boolean destroy) {
+		String className = startupLauncher.getClass().getName();
+		long beginTime = System.nanoTime();
+		try {
+			if (destroy) {
+				startupLauncher.destroy();
+			} else {
+				startupLauncher.stop();
+			}
+		} catch (Exception e) {
+			LOGGER.error("Startup_Launcher_Stop_Error", className);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+		long stopCost = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginTime);
+		this.runningLaunchers.remove(startupLauncher);
+		LauncherStatistics launcherStatistics = this.statistics.get(className);
+		this.statistics.put(className, new LauncherStatistics(className, LauncherState.STOPPED,
+				(launcherStatistics == null) ? Globals.DEFAULT_VALUE_LONG : launcherStatistics.getStartTime(),
+				(launcherStatistics == null) ? Globals.DEFAULT_VALUE_LONG : launcherStatistics.getStartupCost(),
+				stopCost, Globals.DEFAULT_VALUE_STRING));
+	}
+
+	/**
+	 * <h3 class="en-US">Record failed statistics information of given launcher</h3>
+	 * <h3 class="zh-CN">记录给定启动器的失败统计信息</h3>
+	 *
+	 * @param className     <span class="en-US">Launcher class name</span>
+	 *                      <span class="zh-CN">启动器类名</span>
+	 * @param launcherState <span class="en-US">Enumeration value of launcher state</span>
+	 *                      <span class="zh-CN">启动器状态枚举值</span>
+	 * @param message       <span class="en-US">Failure message</span>
+	 *                      <span class="zh-CN">失败信息</span>
+	 */
+	private void failed(final String className, final LauncherState launcherState, final String message) {
+		LauncherStatistics launcherStatistics = this.statistics.get(className);
+		this.statistics.put(className, new LauncherStatistics(className, launcherState,
+				(launcherStatistics == null) ? DateTimeUtils.currentUTCTimeMillis() : launcherStatistics.getStartTime(),
+				Globals.DEFAULT_VALUE_LONG, Globals.DEFAULT_VALUE_LONG,
+				(message == null) ? Globals.DEFAULT_VALUE_STRING : message));
 	}
 
 	/**
@@ -268,12 +590,21 @@ public final class StartupManager {
 	 * <h3 class="zh-CN">调度任务，用于扫描系统中启动器的修改</h3>
 	 */
 	private void scanConfig() {
-		if (this.running) {
+		if (!this.configLock.tryLock()) {
 			return;
 		}
+		try {
+			this.scanLaunchers();
+		} finally {
+			this.configLock.unlock();
+		}
+	}
 
-		this.running = Boolean.TRUE;
-
+	/**
+	 * <h3 class="en-US">Scan launchers by Java SPI and update launcher configure</h3>
+	 * <h3 class="zh-CN">使用Java SPI扫描启动器并更新启动器配置信息</h3>
+	 */
+	private void scanLaunchers() {
 		List<Class<?>> scannedClasses = new ArrayList<>();
 		AtomicBoolean modified = new AtomicBoolean(Boolean.FALSE);
 		List<LauncherConfig> registeredLaunchers = this.startupConfig.getRegisteredLaunchers();
@@ -285,10 +616,14 @@ public final class StartupManager {
 				if (registeredLaunchers.stream().anyMatch(launcherConfig ->
 						ObjectUtils.nullSafeEquals(launcherClass, launcherConfig.getLauncherClass()))) {
 					registeredLaunchers.replaceAll(launcherConfig -> {
-						if (ObjectUtils.nullSafeEquals(launcherClass, launcherConfig.getLauncherClass())
-								&& !ObjectUtils.nullSafeEquals(launcher.value(), launcherConfig.getStartupType())) {
-							launcherConfig.setStartupType(launcher.value());
-							modified.set(Boolean.TRUE);
+						if (ObjectUtils.nullSafeEquals(launcherClass, launcherConfig.getLauncherClass())) {
+							if (!ObjectUtils.nullSafeEquals(launcher.value(), launcherConfig.getStartupType())) {
+								launcherConfig.setStartupType(launcher.value());
+								modified.set(Boolean.TRUE);
+							}
+							if (StartupManager.updateDependencies(launcherConfig, launcher)) {
+								modified.set(Boolean.TRUE);
+							}
 						}
 						return launcherConfig;
 					});
@@ -297,6 +632,7 @@ public final class StartupManager {
 
 					launcherConfig.setLauncherClass(launcherClass);
 					launcherConfig.setStartupType(launcher.value());
+					StartupManager.updateDependencies(launcherConfig, launcher);
 
 					registeredLaunchers.add(launcherConfig);
 
@@ -313,8 +649,34 @@ public final class StartupManager {
 			this.startupConfig.setRegisteredLaunchers(registeredLaunchers);
 			this.saveConfig();
 		}
+	}
 
-		this.running = Boolean.FALSE;
+	/**
+	 * <h3 class="en-US">Update dependencies and timeout of launcher configure by annotation</h3>
+	 * <h3 class="zh-CN">根据注解更新启动器配置信息的依赖和超时时间</h3>
+	 *
+	 * @param launcherConfig <span class="en-US">Launcher configure information instance</span>
+	 *                       <span class="zh-CN">启动器配置信息实例对象</span>
+	 * @param launcher       <span class="en-US">Launcher annotation instance</span>
+	 *                       <span class="zh-CN">启动器注解实例对象</span>
+	 * @return <span class="en-US">Configure modified</span>
+	 * <span class="zh-CN">配置信息是否修改</span>
+	 */
+	private static boolean updateDependencies(final LauncherConfig launcherConfig, final Launcher launcher) {
+		boolean modified = Boolean.FALSE;
+		List<String> dependencies = Arrays.stream(launcher.dependencies())
+				.map(Class::getName)
+				.distinct()
+				.collect(Collectors.toList());
+		if (!ObjectUtils.nullSafeEquals(dependencies, launcherConfig.getDependencies())) {
+			launcherConfig.setDependencies(dependencies);
+			modified = Boolean.TRUE;
+		}
+		if (launcher.timeout() != launcherConfig.getTimeout()) {
+			launcherConfig.setTimeout(launcher.timeout());
+			modified = Boolean.TRUE;
+		}
+		return modified;
 	}
 
 	private void saveConfig() {
@@ -324,11 +686,13 @@ public final class StartupManager {
 	}
 
 	/**
-	 * <h3 class="en-US">Destroy all registered launcher instance</h3>
-	 * <h3 class="zh-CN">销毁所有已注册的启动器实例</h3>
+	 * <h3 class="en-US">Destroy all registered launcher instance by reverse startup order</h3>
+	 * <h3 class="zh-CN">按照启动的相反顺序销毁所有已注册的启动器实例</h3>
 	 */
 	private void destroy() {
-		this.runningLaunchers.forEach(StartupLauncher::destroy);
+		List<StartupLauncher> destroyLaunchers = new ArrayList<>(this.runningLaunchers);
+		Collections.reverse(destroyLaunchers);
+		destroyLaunchers.forEach(startupLauncher -> this.stopLauncher(startupLauncher, Boolean.TRUE));
 		this.runningLaunchers.clear();
 		this.scheduledExecutorService.shutdown();
 	}
@@ -84,7 +84,7 @@ public abstract class AbstractMailConfigBuilder<T> extends AbstractBuilder<T> {
      */
     public AbstractMailConfigBuilder<T> authentication(final String userName, final String password)
             throws BuilderException {
-        if (!StringUtils.matches(userName, RegexGlobals.EMAIL_ADDRESS)) {
+        if (!StringUtils.matches(userName, RegexGlobals.EMAIL_ADDRESS_PATTERN)) {
             throw new BuilderException(0x0000000E0001L, "Username_Invalid_Mail_Error");
         }
         this.mailConfig.setUserName(userName);
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.office.excel;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.nervousync.commons.Globals;
+
+import java.util.Date;
+
+/**
+ * <h2 class="en-US">Typed cell value</h2>
+ * <h2 class="zh-CN">带类型的单元格数据</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 09:16:43 $
+ */
+public final class CellValue {
+
+    /**
+     * <span class="en-US">Column index, begin with 0</span>
+     * <span class="zh-CN">列索引，从0开始</span>
+     */
+    private final int columnIndex;
+    /**
+     * <span class="en-US">Cell type</span>
+     * <span class="zh-CN">单元格类型</span>
+     */
+    private final CellType cellType;
+    /**
+     * <span class="en-US">Typed cell value, numeric cell was <code>Double</code> or <code>Date</code> if the cell was date formatted</span>
+     * <span class="zh-CN">带类型的单元格数据，数字单元格为<code>Double</code>，如果单元格为日期格式则为<code>Date</code></span>
+     */
+    private final Object value;
+    /**
+     * <span class="en-US">Formatted text of cell value</span>
+     * <span class="zh-CN">单元格数据的格式化文本</span>
+     */
+    private final String text;
+
+    /**
+     * <h3 class="en-US">Constructor method for typed cell value</h3>
+     * <h3 class="zh-CN">带类型的单元格数据构造方法</h3>
+     *
+     * @param columnIndex <span class="en-US">Column index, begin with 0</span>
+     *                    <span class="zh-CN">列索引，从0开始</span>
+     * @param cellType    <span class="en-US">Cell type</span>
+     *                    <span class="zh-CN">单元格类型</span>
+     * @param value       <span class="en-US">Typed cell value</span>
+     *                    <span class="zh-CN">带类型的单元格数据</span>
+     * @param text        <span class="en-US">Formatted text of cell value</span>
+     *                    <span class="zh-CN">单元格数据的格式化文本</span>
+     */
+    public CellValue(final int columnIndex, final CellType cellType, final Object value, final String text) {
+        this.columnIndex = columnIndex;
+        this.cellType = cellType;
+        this.value = value;
+        this.text = (text == null) ? Globals.DEFAULT_VALUE_STRING : text;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for column index</h3>
+     * <h3 class="zh-CN">列索引的Getter方法</h3>
+     *
+     * @return <span class="en-US">Column index, begin with 0</span>
+     * <span class="zh-CN">列索引，从0开始</span>
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for cell type</h3>
+     * <h3 class="zh-CN">单元格类型的Getter方法</h3>
+     *
+     * @return <span class="en-US">Cell type</span>
+     * <span class="zh-CN">单元格类型</span>
+     */
+    public CellType getCellType() {
+        return cellType;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for typed cell value</h3>
+     * <h3 class="zh-CN">带类型的单元格数据的Getter方法</h3>
+     *
+     * @return <span class="en-US">Typed cell value</span>
+     * <span class="zh-CN">带类型的单元格数据</span>
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for formatted text of cell value</h3>
+     * <h3 class="zh-CN">单元格数据的格式化文本的Getter方法</h3>
+     *
+     * @return <span class="en-US">Formatted text of cell value</span>
+     * <span class="zh-CN">单元格数据的格式化文本</span>
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * <h3 class="en-US">Read cell value as number</h3>
+     * <h3 class="zh-CN">读取单元格数据为数字</h3>
+     *
+     * @return <span class="en-US">Number value or <code>null</code> if cell value is not a number</span>
+     * <span class="zh-CN">数字值，如果单元格数据不是数字则返回<code>null</code></span>
+     */
+    public Number numberValue() {
+        if (this.value instanceof Number) {
+            return (Number) this.value;
+        }
+        if (this.value instanceof Date) {
+            return ((Date) this.value).getTime();
+        }
+        return null;
+    }
+
+    /**
+     * <h3 class="en-US">Read cell value as boolean</h3>
+     * <h3 class="zh-CN">读取单元格数据为布尔值</h3>
+     *
+     * @return <span class="en-US">Boolean value or <code>null</code> if cell value is not a boolean</span>
+     * <span class="zh-CN">布尔值，如果单元格数据不是布尔值则返回<code>null</code></span>
+     */
+    public Boolean booleanValue() {
+        return (this.value instanceof Boolean) ? (Boolean) this.value : null;
+    }
+
+    /**
+     * <h3 class="en-US">Read cell value as date</h3>
+     * <h3 class="zh-CN">读取单元格数据为日期</h3>
+     *
+     * @return <span class="en-US">Date value or <code>null</code> if cell value is not date formatted</span>
+     * <span class="zh-CN">日期值，如果单元格数据不是日期格式则返回<code>null</code></span>
+     */
+    public Date dateValue() {
+        return (this.value instanceof Date) ? (Date) this.value : null;
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+}
@@ -20,15 +20,17 @@ package org.nervousync.office.excel;
 import org.nervousync.commons.Globals;
 
 import java.io.Closeable;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <h2 class="en-US">Excel file reader interface</h2>
  * <h2 class="zh-CN">Excel文件读取器接口</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Nov 13, 2023 10:28:15 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 14:18:42 $
  */
 public interface ExcelReader extends Closeable {
 
@@ -115,4 +117,80 @@ public interface ExcelReader extends Closeable {
      */
     List<List<String>> read(final String sheetName, final int beginRow, final int endRow);
 
+    /**
+     * <h3 class="en-US">Generate row iterator based on the given data sheet name</h3>
+     * <p class="en-US">
+     *     The rows were parsed when iterating, the resources were released when the iteration finished.
+     *     If the iteration was not finished, the iterator must be closed if it implements Closeable.
+     * </p>
+     * <h3 class="zh-CN">根据给定的数据表名称生成数据行迭代器</h3>
+     * <p class="zh-CN">数据行在迭代时解析，迭代结束时释放资源。如果迭代未结束且迭代器实现了Closeable接口，则必须关闭迭代器。</p>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @return <span class="en-US">Row iterator, empty iterator if data sheet not exists</span>
+     * <span class="zh-CN">数据行迭代器，如果数据表不存在则返回空迭代器</span>
+     */
+    Iterator<SheetRow> iterator(final String sheetName);
+
+    /**
+     * <h3 class="en-US">Generate row stream based on the given data sheet name</h3>
+     * <p class="en-US">The stream should be closed when processing was not finished, using try-with-resources statement</p>
+     * <h3 class="zh-CN">根据给定的数据表名称生成数据行流</h3>
+     * <p class="zh-CN">如果处理未完成，应该使用try-with-resources语句关闭数据流</p>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @return <span class="en-US">Row stream</span>
+     * <span class="zh-CN">数据行流</span>
+     */
+    default Stream<SheetRow> stream(final String sheetName) {
+        Iterator<SheetRow> iterator = this.iterator(sheetName);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        Boolean.FALSE)
+                .onClose(() -> {
+                    if (iterator instanceof Closeable) {
+                        try {
+                            ((Closeable) iterator).close();
+                        } catch (IOException ignored) {
+                        }
+                    }
+                });
+    }
+
+    /**
+     * <h3 class="en-US">Process each row of given data sheet name by given row handler</h3>
+     * <h3 class="zh-CN">使用给定的行处理器处理给定数据表的每一个数据行</h3>
+     *
+     * @param sheetName  <span class="en-US">Data sheet name</span>
+     *                   <span class="zh-CN">数据表名称</span>
+     * @param rowHandler <span class="en-US">Row handler instance</span>
+     *                   <span class="zh-CN">数据行处理器实例对象</span>
+     */
+    default void stream(final String sheetName, final RowHandler rowHandler) {
+        try (Stream<SheetRow> rowStream = this.stream(sheetName)) {
+            rowStream.forEach(rowHandler::handle);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Process each row of given data sheets by the mapped row handlers</h3>
+     * <p class="en-US">
+     *     The rows of the same data sheet were processed in order by its row handler,
+     *     implementations may process different data sheets in parallel, up to the given parallelism.
+     *     The default implementation processes the data sheets one after another.
+     * </p>
+     * <h3 class="zh-CN">使用映射的行处理器处理给定数据表的每一个数据行</h3>
+     * <p class="zh-CN">同一数据表的数据行由其行处理器按顺序处理，实现类可以按给定的并行度并行处理不同的数据表。默认实现逐个处理数据表。</p>
+     *
+     * @param rowHandlers <span class="en-US">Mapping table of data sheet name and row handler instance</span>
+     *                    <span class="zh-CN">数据表名称与数据行处理器实例对象的映射表</span>
+     * @param parallelism <span class="en-US">Maximum number of data sheets processed at the same time</span>
+     *                    <span class="zh-CN">同时处理的最大数据表数量</span>
+     */
+    default void stream(final Map<String, RowHandler> rowHandlers, final int parallelism) {
+        rowHandlers.forEach(this::stream);
+    }
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.office.excel;
+
+/**
+ * <h2 class="en-US">Sheet row handler</h2>
+ * <p class="en-US">Row handler will be called for each row when the row was parsed, the row data does not cached by reader</p>
+ * <h2 class="zh-CN">数据表数据行处理器</h2>
+ * <p class="zh-CN">每个数据行解析完成后立即调用行处理器，读取器不会缓存数据行信息</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 09:12:27 $
+ */
+@FunctionalInterface
+public interface RowHandler {
+
+    /**
+     * <h3 class="en-US">Process the parsed row data</h3>
+     * <h3 class="zh-CN">处理解析的数据行信息</h3>
+     *
+     * @param sheetRow <span class="en-US">Parsed row data</span>
+     *                 <span class="zh-CN">解析的数据行信息</span>
+     */
+    void handle(final SheetRow sheetRow);
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.office.excel;
+
+import org.nervousync.commons.Globals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <h2 class="en-US">Parsed sheet row</h2>
+ * <h2 class="zh-CN">解析的数据表数据行</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 09:21:05 $
+ */
+public final class SheetRow {
+
+    /**
+     * <span class="en-US">Row index, begin with 0</span>
+     * <span class="zh-CN">行索引，从0开始</span>
+     */
+    private final int rowIndex;
+    /**
+     * <span class="en-US">Cell value list, order by column index, empty cells were not included</span>
+     * <span class="zh-CN">单元格数据列表，按照列索引排序，不包含空单元格</span>
+     */
+    private final List<CellValue> cellValues;
+
+    /**
+     * <h3 class="en-US">Constructor method for parsed sheet row</h3>
+     * <h3 class="zh-CN">解析的数据表数据行构造方法</h3>
+     *
+     * @param rowIndex   <span class="en-US">Row index, begin with 0</span>
+     *                   <span class="zh-CN">行索引，从0开始</span>
+     * @param cellValues <span class="en-US">Cell value list, order by column index</span>
+     *                   <span class="zh-CN">单元格数据列表，按照列索引排序</span>
+     */
+    public SheetRow(final int rowIndex, final List<CellValue> cellValues) {
+        this.rowIndex = rowIndex;
+        this.cellValues = Collections.unmodifiableList(cellValues);
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for row index</h3>
+     * <h3 class="zh-CN">行索引的Getter方法</h3>
+     *
+     * @return <span class="en-US">Row index, begin with 0</span>
+     * <span class="zh-CN">行索引，从0开始</span>
+     */
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for cell value list</h3>
+     * <h3 class="zh-CN">单元格数据列表的Getter方法</h3>
+     *
+     * @return <span class="en-US">Cell value list, order by column index</span>
+     * <span class="zh-CN">单元格数据列表，按照列索引排序</span>
+     */
+    public List<CellValue> getCellValues() {
+        return cellValues;
+    }
+
+    /**
+     * <h3 class="en-US">Find cell value by given column index</h3>
+     * <h3 class="zh-CN">根据给定的列索引查找单元格数据</h3>
+     *
+     * @param columnIndex <span class="en-US">Column index, begin with 0</span>
+     *                    <span class="zh-CN">列索引，从0开始</span>
+     * @return <span class="en-US">Optional cell value</span>
+     * <span class="zh-CN">可选的单元格数据</span>
+     */
+    public Optional<CellValue> cellValue(final int columnIndex) {
+        int low = 0, high = this.cellValues.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            CellValue cellValue = this.cellValues.get(middle);
+            if (cellValue.getColumnIndex() < columnIndex) {
+                low = middle + 1;
+            } else if (cellValue.getColumnIndex() > columnIndex) {
+                high = middle - 1;
+            } else {
+                return Optional.of(cellValue);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * <h3 class="en-US">Convert current row to formatted text list, empty cells were filled with empty string</h3>
+     * <h3 class="zh-CN">转换当前数据行为格式化文本列表，空单元格使用空字符串填充</h3>
+     *
+     * @return <span class="en-US">Formatted text list</span>
+     * <span class="zh-CN">格式化文本列表</span>
+     */
+    public List<String> textValues() {
+        List<String> textValues = new ArrayList<>();
+        for (CellValue cellValue : this.cellValues) {
+            while (textValues.size() < cellValue.getColumnIndex()) {
+                textValues.add(Globals.DEFAULT_VALUE_STRING);
+            }
+            textValues.add(cellValue.getText());
+        }
+        return textValues;
+    }
+}
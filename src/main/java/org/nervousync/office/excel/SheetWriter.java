@@ -47,4 +47,18 @@ public interface SheetWriter {
      *                 <span class="zh-CN">写入的数据信息</span>
      */
     void appendData(final List<Object> rowDatas);
+
+    /**
+     * <h3 class="en-US">Write the given rows to the end of the current data sheet</h3>
+     * <p class="en-US">
+     *     The cell writer of each column was resolved by the value type of the first row and reused for following rows,
+     *     the array instance can be reused by caller after this method returned.
+     * </p>
+     * <h3 class="zh-CN">写入给定的多行数据到当前数据表末尾</h3>
+     * <p class="zh-CN">每一列的单元格写入器根据首行数据的类型解析，并在后续行中复用，调用者可以在方法返回后复用数组实例。</p>
+     *
+     * @param rows <span class="en-US">Written rows data</span>
+     *             <span class="zh-CN">写入的多行数据</span>
+     */
+    void appendRows(final Iterable<Object[]> rows);
 }
@@ -18,6 +18,7 @@
 package org.nervousync.office.excel.core;
 
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.nervousync.office.excel.ExcelWriter;
 import org.nervousync.utils.IOUtils;
 import org.nervousync.utils.LoggerUtils;
@@ -76,6 +77,10 @@ public abstract class AbstractExcelWriter implements ExcelWriter {
      */
     @Override
     public final void close() {
+        if (this.workbook instanceof SXSSFWorkbook) {
+            //  Remove the temporary files of streaming workbook
+            ((SXSSFWorkbook) this.workbook).dispose();
+        }
         IOUtils.closeStream(this.workbook);
     }
 }
@@ -20,45 +20,87 @@ package org.nervousync.office.excel.impl;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
 import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
-import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFRichTextString;
 import org.nervousync.commons.Globals;
+import org.nervousync.office.excel.CellValue;
+import org.nervousync.office.excel.RowHandler;
+import org.nervousync.office.excel.SheetRow;
 import org.nervousync.office.excel.core.AbstractExcelReader;
 import org.nervousync.utils.IOUtils;
-import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.XMLReader;
 import org.xml.sax.helpers.DefaultHandler;
 
-import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <h2 class="en-US">SAX event-driven Excel file reader</h2>
  * <h2 class="zh-CN">SAX事件驱动的Excel文件读取器</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Nov 13, 2023 10:45:33 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 14:06:21 $
  */
 public final class EventModelReaderImpl extends AbstractExcelReader {
 
+    /**
+     * <span class="en-US">StAX input factory, using for parse sheet data in pull mode</span>
+     * <span class="zh-CN">StAX输入工厂，用于拉模式解析数据表</span>
+     */
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLHelper.newXMLInputFactory();
+
     /**
      * <span class="en-US">Excel document package</span>
      * <span class="zh-CN">Excel文档数据包</span>
      */
     private final OPCPackage opcPackage;
+    /**
+     * <span class="en-US">Excel document reader</span>
+     * <span class="zh-CN">Excel文档读取器</span>
+     */
+    private final XSSFReader xssfReader;
+    /**
+     * <span class="en-US">Mapping table of data sheet name and package part</span>
+     * <span class="zh-CN">数据表名称与数据包部件的映射表</span>
+     */
+    private final Map<String, PackagePart> sheetParts = new HashMap<>();
+    /**
+     * <span class="en-US">Cached data formats of cell styles</span>
+     * <span class="zh-CN">缓存的单元格样式数据格式</span>
+     */
+    private volatile CellFormats cellFormats = null;
+    /**
+     * <span class="en-US">Cached shared strings, indexed by the shared string index</span>
+     * <span class="zh-CN">缓存的共享字符串，按共享字符串索引存储</span>
+     */
+    private volatile String[] sharedStrings = null;
 
     /**
      * <h3 class="en-US">Constructor method for event model reader</h3>
@@ -72,6 +114,15 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
     public EventModelReaderImpl(final String filePath) throws InvalidFormatException {
         super(filePath);
         this.opcPackage = OPCPackage.open(filePath, PackageAccess.READ);
+        XSSFReader xssfReader = null;
+        try {
+            xssfReader = new XSSFReader(this.opcPackage);
+        } catch (Exception e) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Stack_Message_Error", e);
+            }
+        }
+        this.xssfReader = xssfReader;
         this.parseSheetNames();
     }
 
@@ -80,12 +131,15 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
      * <h3 class="zh-CN">读取当前文档中所有数据表的名称</h3>
      */
     private void parseSheetNames() {
+        if (this.xssfReader == null) {
+            return;
+        }
         try {
-            XSSFReader xssfReader = new XSSFReader(this.opcPackage);
-            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) this.xssfReader.getSheetsData();
             while (iterator.hasNext()) {
                 try (InputStream ignored = iterator.next()) {
                     this.sheetNames.add(iterator.getSheetName());
+                    this.sheetParts.put(iterator.getSheetName(), iterator.getSheetPart());
                 }
             }
         } catch (Exception e) {
@@ -95,9 +149,149 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         }
     }
 
+    /**
+     * <h3 class="en-US">Read and cache the data formats of cell styles</h3>
+     * <h3 class="zh-CN">读取并缓存单元格样式的数据格式</h3>
+     *
+     * @return <span class="en-US">Cached data formats of cell styles</span>
+     * <span class="zh-CN">缓存的单元格样式数据格式</span>
+     * @throws IOException            <span class="en-US">If an exception occurs while reading the styles table</span>
+     *                                <span class="zh-CN">如果读取样式表时出现异常</span>
+     * @throws InvalidFormatException <span class="en-US">If the file format is incorrect</span>
+     *                                <span class="zh-CN">如果文件格式不正确</span>
+     */
+    private CellFormats cellFormats() throws IOException, InvalidFormatException {
+        CellFormats formats = this.cellFormats;
+        if (formats == null) {
+            synchronized (this) {
+                formats = this.cellFormats;
+                if (formats == null) {
+                    formats = new CellFormats(this.xssfReader.getStylesTable());
+                    this.cellFormats = formats;
+                }
+            }
+        }
+        return formats;
+    }
+
+    /**
+     * <h3 class="en-US">Read and cache the shared strings table</h3>
+     * <p class="en-US">The table was parsed once, only the plain string values were kept and shared by all data sheets.</p>
+     * <h3 class="zh-CN">读取并缓存共享字符串表</h3>
+     * <p class="zh-CN">共享字符串表仅解析一次，只保留纯文本值并由所有数据表共享</p>
+     *
+     * @return <span class="en-US">Cached shared strings</span>
+     * <span class="zh-CN">缓存的共享字符串</span>
+     * @throws IOException        <span class="en-US">If an exception occurs while reading the shared strings table</span>
+     *                            <span class="zh-CN">如果读取共享字符串表时出现异常</span>
+     * @throws XMLStreamException <span class="en-US">If the shared strings table format is incorrect</span>
+     *                            <span class="zh-CN">如果共享字符串表格式不正确</span>
+     */
+    private String[] sharedStrings() throws IOException, XMLStreamException {
+        String[] strings = this.sharedStrings;
+        if (strings == null) {
+            synchronized (this) {
+                strings = this.sharedStrings;
+                if (strings == null) {
+                    strings = this.parseSharedStrings();
+                    this.sharedStrings = strings;
+                }
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * <h3 class="en-US">Parse the plain string values of the shared strings table using StAX</h3>
+     * <p class="en-US">The text of rich text runs was concatenated, the phonetic runs were ignored</p>
+     * <h3 class="zh-CN">使用StAX解析共享字符串表的纯文本值</h3>
+     * <p class="zh-CN">富文本片段的文本将被拼接，注音信息将被忽略</p>
+     *
+     * @return <span class="en-US">Shared string values, empty array if the document does not contain shared strings</span>
+     * <span class="zh-CN">共享字符串值，如果文档不包含共享字符串则返回空数组</span>
+     * @throws IOException        <span class="en-US">If an exception occurs while reading the shared strings table</span>
+     *                            <span class="zh-CN">如果读取共享字符串表时出现异常</span>
+     * @throws XMLStreamException <span class="en-US">If the shared strings table format is incorrect</span>
+     *                            <span class="zh-CN">如果共享字符串表格式不正确</span>
+     */
+    private String[] parseSharedStrings() throws IOException, XMLStreamException {
+        List<PackagePart> packageParts =
+                this.opcPackage.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        if (packageParts.isEmpty()) {
+            return new String[0];
+        }
+        //  Not pre-sized by the uniqueCount attribute, the attribute value is untrusted
+        List<String> stringList = new ArrayList<>();
+        StringBuilder textBuilder = new StringBuilder();
+        XMLStreamReader streamReader = null;
+        try (InputStream inputStream = packageParts.get(0).getInputStream()) {
+            streamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            boolean inText = Boolean.FALSE;
+            int phoneticDepth = Globals.INITIALIZE_INT_VALUE;
+            while (streamReader.hasNext()) {
+                switch (streamReader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        switch (streamReader.getLocalName()) {
+                            case "si":
+                                textBuilder.setLength(0);
+                                break;
+                            case "rPh":
+                                phoneticDepth++;
+                                break;
+                            case "t":
+                                inText = (phoneticDepth == 0);
+                                break;
+                            default:
+                                break;
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (inText) {
+                            textBuilder.append(streamReader.getText());
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        switch (streamReader.getLocalName()) {
+                            case "si":
+                                String sharedString = textBuilder.toString();
+                                // Decode the escaped characters like "_x000D_" as same as the rich text string
+                                if (sharedString.contains("_x")) {
+                                    sharedString = new XSSFRichTextString(sharedString).getString();
+                                }
+                                stringList.add(sharedString);
+                                break;
+                            case "rPh":
+                                phoneticDepth--;
+                                break;
+                            case "t":
+                                inText = Boolean.FALSE;
+                                break;
+                            default:
+                                break;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            if (streamReader != null) {
+                streamReader.close();
+            }
+        }
+        return stringList.toArray(new String[0]);
+    }
+
     /**
      * <h3 class="en-US">Get the maximum number of records based on the given data table name</h3>
+     * <p class="en-US">
+     *     Read the last row number from the dimension element of the sheet,
+     *     count the rows if the dimension element was not found or only contains one cell.
+     * </p>
      * <h3 class="zh-CN">根据给定的数据表名称获取最大记录数</h3>
+     * <p class="zh-CN">从数据表的dimension元素中读取最后的行号，如果dimension元素不存在或仅包含一个单元格，则统计数据行数</p>
      *
      * @param sheetName <span class="en-US">Data sheet name</span>
      *                  <span class="zh-CN">数据表名称</span>
@@ -106,27 +300,49 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
      */
     @Override
     public int maxRow(final String sheetName) {
-        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName)) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetParts.containsKey(sheetName)) {
             return Globals.DEFAULT_VALUE_INT;
         }
-        try {
-            XSSFReader xssfReader = new XSSFReader(this.opcPackage);
-            XMLReader xmlReader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
-            MaxRowHandler maxRowHandler = new MaxRowHandler();
-            xmlReader.setContentHandler(maxRowHandler);
-            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
-            while (iterator.hasNext()) {
-                try (InputStream inputStream = iterator.next()) {
-                    if (ObjectUtils.nullSafeEquals(iterator.getSheetName(), sheetName)) {
-                        xmlReader.parse(new InputSource(inputStream));
-                        return maxRowHandler.getMaxRow();
+        XMLStreamReader streamReader = null;
+        try (InputStream inputStream = this.sheetParts.get(sheetName).getInputStream()) {
+            streamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            int rowCount = Globals.INITIALIZE_INT_VALUE;
+            boolean countRows = Boolean.FALSE;
+            while (streamReader.hasNext()) {
+                if (streamReader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String localName = streamReader.getLocalName();
+                if (countRows) {
+                    if ("row".equals(localName)) {
+                        rowCount++;
+                    }
+                } else if ("dimension".equals(localName)) {
+                    String dimensionRef = streamReader.getAttributeValue(null, "ref");
+                    int splitIndex = (dimensionRef == null) ? Globals.DEFAULT_VALUE_INT : dimensionRef.indexOf(':');
+                    if (splitIndex != Globals.DEFAULT_VALUE_INT) {
+                        int rowNumber = rowNumber(dimensionRef.substring(splitIndex + 1));
+                        if (rowNumber != Globals.DEFAULT_VALUE_INT) {
+                            return rowNumber;
+                        }
                     }
+                    countRows = Boolean.TRUE;
+                } else if ("sheetData".equals(localName)) {
+                    countRows = Boolean.TRUE;
                 }
             }
+            return rowCount;
         } catch (Exception e) {
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug("Stack_Message_Error", e);
             }
+        } finally {
+            if (streamReader != null) {
+                try {
+                    streamReader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
         }
         return Globals.DEFAULT_VALUE_INT;
     }
@@ -146,69 +362,165 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
      */
     @Override
     public List<List<String>> read(final String sheetName, final int beginRow, final int endRow) {
-        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName)) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetParts.containsKey(sheetName)) {
             return new ArrayList<>();
         }
-        InputStream inputStream = null;
-        try {
-            XSSFReader xssfReader = new XSSFReader(this.opcPackage);
-            XMLReader xmlReader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
-            SheetHandler sheetHandler =
-                    new SheetHandler(xssfReader.getStylesTable(), xssfReader.getSharedStringsTable(), beginRow, endRow);
+        try (InputStream inputStream = this.sheetParts.get(sheetName).getInputStream()) {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            SheetHandler sheetHandler = new SheetHandler(this.cellFormats(), this.sharedStrings(), beginRow, endRow);
             xmlReader.setContentHandler(sheetHandler);
-            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
-            while (iterator.hasNext()) {
-                inputStream = iterator.next();
-                if (ObjectUtils.nullSafeEquals(iterator.getSheetName(), sheetName)) {
-                    xmlReader.parse(new InputSource(inputStream));
-                    return sheetHandler.getDataList();
-                }
-            }
+            xmlReader.parse(new InputSource(inputStream));
+            return sheetHandler.getDataList();
         } catch (Exception e) {
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug("Stack_Message_Error", e);
             }
-        } finally {
-            IOUtils.closeStream(inputStream);
         }
         return new ArrayList<>();
     }
 
     /**
-     * <h3 class="en-US">Close current data reader</h3>
-     * <h3 class="zh-CN">关闭当前数据读取器</h3>
+     * <h3 class="en-US">Generate row iterator based on the given data sheet name</h3>
+     * <p class="en-US">
+     *     Each row was parsed when the iterator moving to the next row, the merged regions were not applied.
+     * </p>
+     * <h3 class="zh-CN">根据给定的数据表名称生成数据行迭代器</h3>
+     * <p class="zh-CN">每个数据行在迭代器移动到下一行时解析，不处理合并的单元格区域</p>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @return <span class="en-US">Row iterator, empty iterator if data sheet not exists</span>
+     * <span class="zh-CN">数据行迭代器，如果数据表不存在则返回空迭代器</span>
      */
     @Override
-    public void close() {
-        this.opcPackage.revert();
+    public Iterator<SheetRow> iterator(final String sheetName) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetParts.containsKey(sheetName)) {
+            return Collections.emptyIterator();
+        }
+        InputStream inputStream = null;
+        try {
+            inputStream = this.sheetParts.get(sheetName).getInputStream();
+            return new SheetRowIterator(inputStream, this.cellFormats(), this.sharedStrings());
+        } catch (Exception e) {
+            IOUtils.closeStream(inputStream);
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Stack_Message_Error", e);
+            }
+        }
+        return Collections.emptyIterator();
     }
 
     /**
-     * <h2 class="en-US">Data processor to read maximum number of rows</h2>
-     * <h2 class="zh-CN">读取最大行数的数据处理器</h2>
+     * <h3 class="en-US">Process each row of given data sheets by the mapped row handlers</h3>
+     * <p class="en-US">
+     *     The document package, styles table and shared strings table were read once and shared by all data sheets,
+     *     the data sheets were parsed in parallel by a bounded thread pool.
+     *     If any row handler failed, the remaining data sheets were cancelled and the first failure was thrown.
+     *     The method returns after all worker threads were terminated, no row handler is running after the method returns.
+     * </p>
+     * <h3 class="zh-CN">使用映射的行处理器处理给定数据表的每一个数据行</h3>
+     * <p class="zh-CN">
+     *     文档数据包、样式表和共享字符串表仅读取一次并由所有数据表共享，数据表由有界线程池并行解析。
+     *     如果任意行处理器执行失败，则取消剩余的数据表并抛出第一个异常。
+     *     方法在所有工作线程结束后返回，方法返回后不会有行处理器在运行。
+     * </p>
      *
-     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
-     * @version $Revision: 1.2.0 $ $Date: Nov 13, 2023 10:53:16 $
+     * @param rowHandlers <span class="en-US">Mapping table of data sheet name and row handler instance</span>
+     *                    <span class="zh-CN">数据表名称与数据行处理器实例对象的映射表</span>
+     * @param parallelism <span class="en-US">Maximum number of data sheets processed at the same time</span>
+     *                    <span class="zh-CN">同时处理的最大数据表数量</span>
      */
-    private static final class MaxRowHandler extends DefaultHandler {
-
-        private int maxRow = Globals.INITIALIZE_INT_VALUE;
-
-        @Override
-        public void startElement(final String uri, final String localName, final String name,
-                                 final Attributes attributes) {
-            if ("c".equals(name)) {
-                if (Pattern.compile("^A([0-9]+)$").matcher(attributes.getValue("r")).find()) {
-                    this.maxRow++;
+    @Override
+    public void stream(final Map<String, RowHandler> rowHandlers, final int parallelism) {
+        List<String> sheetNames = new ArrayList<>();
+        rowHandlers.keySet().stream().filter(this.sheetParts::containsKey).forEach(sheetNames::add);
+        int threadCount = Math.min(parallelism, sheetNames.size());
+        if (threadCount <= 1) {
+            sheetNames.forEach(sheetName -> this.stream(sheetName, rowHandlers.get(sheetName)));
+            return;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "SheetReader");
+            thread.setDaemon(Boolean.TRUE);
+            return thread;
+        });
+        // Worker threads must not be interrupted, interruption closes the file channel shared by the package
+        AtomicBoolean cancelled = new AtomicBoolean(Boolean.FALSE);
+        List<Future<Void>> futures = new ArrayList<>(sheetNames.size());
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(executorService);
+        try {
+            for (String sheetName : sheetNames) {
+                RowHandler rowHandler = rowHandlers.get(sheetName);
+                futures.add(completionService.submit(() -> this.process(sheetName, rowHandler, cancelled), null));
+            }
+            //  Wait in completion order, so the first failed data sheet cancels the others immediately
+            for (int i = 0; i < futures.size(); i++) {
+                completionService.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            cancelled.set(Boolean.TRUE);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            cancelled.set(Boolean.TRUE);
+            futures.forEach(future -> future.cancel(Boolean.FALSE));
+            executorService.shutdown();
+            boolean interrupted = Thread.interrupted();
+            while (!executorService.isTerminated()) {
+                try {
+                    executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = Boolean.TRUE;
                 }
             }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
+    }
 
-        public int getMaxRow() {
-            return this.maxRow;
+    /**
+     * <h3 class="en-US">Process each row of given data sheet name until finished or the processing was cancelled</h3>
+     * <h3 class="zh-CN">处理给定数据表的每一个数据行，直到处理完成或处理被取消</h3>
+     *
+     * @param sheetName  <span class="en-US">Data sheet name</span>
+     *                   <span class="zh-CN">数据表名称</span>
+     * @param rowHandler <span class="en-US">Row handler instance</span>
+     *                   <span class="zh-CN">数据行处理器实例对象</span>
+     * @param cancelled  <span class="en-US">Cancelled flag of the parallel processing</span>
+     *                   <span class="zh-CN">并行处理的取消标识</span>
+     */
+    private void process(final String sheetName, final RowHandler rowHandler, final AtomicBoolean cancelled) {
+        Iterator<SheetRow> iterator = this.iterator(sheetName);
+        try {
+            while (!cancelled.get() && iterator.hasNext()) {
+                rowHandler.handle(iterator.next());
+            }
+        } finally {
+            if (iterator instanceof Closeable) {
+                IOUtils.closeStream((Closeable) iterator);
+            }
         }
     }
 
+    /**
+     * <h3 class="en-US">Close current data reader</h3>
+     * <h3 class="zh-CN">关闭当前数据读取器</h3>
+     */
+    @Override
+    public void close() {
+        this.opcPackage.revert();
+    }
+
     /**
      * <h2 class="en-US">Data processor to read detailed information</h2>
      * <h2 class="zh-CN">读取详细信息的数据处理器</h2>
@@ -218,8 +530,8 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
      */
     private static final class SheetHandler extends DefaultHandler {
 
-        private final StylesTable stylesTable;
-        private final SharedStrings sharedStrings;
+        private final CellFormats cellFormats;
+        private final String[] sharedStrings;
         private final DataFormatter dataFormatter;
         private final int beginRow;
         private final int endRow;
@@ -232,9 +544,9 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
         private int currentCol = Globals.INITIALIZE_INT_VALUE;
         private int currentRow = Globals.INITIALIZE_INT_VALUE;
 
-        private SheetHandler(final StylesTable stylesTable, final SharedStrings sharedStrings,
+        private SheetHandler(final CellFormats cellFormats, final String[] sharedStrings,
                              final int beginRow, final int endRow) {
-            this.stylesTable = stylesTable;
+            this.cellFormats = cellFormats;
             this.sharedStrings = sharedStrings;
             this.beginRow = beginRow;
             this.endRow = endRow;
@@ -260,22 +572,6 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
             return dataList;
         }
 
-        private String parseRow(final String string) {
-            Matcher matcher = Pattern.compile("\\d+").matcher(string);
-            if (matcher.find()) {
-                return matcher.group();
-            }
-            return Globals.DEFAULT_VALUE_STRING;
-        }
-
-        private String parseColumn(final String string) {
-            Matcher matcher = Pattern.compile("[a-zA-Z]+").matcher(string);
-            if (matcher.find()) {
-                return matcher.group();
-            }
-            return Globals.DEFAULT_VALUE_STRING;
-        }
-
         @Override
         public void startElement(final String uri, final String localName, final String name,
                                  final Attributes attributes) {
@@ -290,10 +586,12 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
             } else if (name.equalsIgnoreCase("mergeCell")) {
                 String mergeRef = attributes.getValue("ref");
                 String[] itemRef = StringUtils.tokenizeToStringArray(mergeRef, ":");
-                int beginRow = Integer.parseInt(this.parseRow(itemRef[0])) - 1;
-                int endRow = Integer.parseInt(this.parseRow(itemRef[1]));
-                int beginColumn = CellReference.convertColStringToIndex(this.parseColumn(itemRef[0]));
-                int endColumn = CellReference.convertColStringToIndex(this.parseColumn(itemRef[1]));
+                CellReference beginReference = new CellReference(itemRef[0]);
+                CellReference endReference = new CellReference(itemRef[1]);
+                int beginRow = beginReference.getRow();
+                int endRow = endReference.getRow() + 1;
+                int beginColumn = beginReference.getCol();
+                int endColumn = endReference.getCol();
                 String mergeData = this.dataList.get(beginRow).get(beginColumn);
                 for (int i = beginRow; i < endRow; i++) {
                     List<String> rowData = this.dataList.get(i);
@@ -340,9 +638,7 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
                             break;
                         case SSTINDEX:
                             try {
-                                int index = Integer.parseInt(this.lastContents);
-                                xssfRichTextString = (XSSFRichTextString) this.sharedStrings.getItemAt(index);
-                                this.lastContents = xssfRichTextString.toString();
+                                this.lastContents = this.sharedStrings[Integer.parseInt(this.lastContents)];
                             } catch (NumberFormatException ignored) {
                             }
                             break;
@@ -413,17 +709,289 @@ public final class EventModelReaderImpl extends AbstractExcelReader {
 
                     if (cellStyle != null) {
                         int styleIndex = Integer.parseInt(cellStyle);
-                        XSSFCellStyle xssfCellStyle = this.stylesTable.getStyleAt(styleIndex);
-                        this.formatIndex = xssfCellStyle.getDataFormat();
-                        this.formatInfo = xssfCellStyle.getDataFormatString();
+                        this.formatIndex = this.cellFormats.formatIndex(styleIndex);
+                        this.formatInfo = this.cellFormats.formatString(styleIndex);
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Cached data formats of cell styles</h2>
+     * <p class="en-US">Data format of each cell style was read once when the reader loaded the styles table</p>
+     * <h2 class="zh-CN">缓存的单元格样式数据格式</h2>
+     * <p class="zh-CN">每个单元格样式的数据格式在读取器加载样式表时一次性读取</p>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:06:37 $
+     */
+    private static final class CellFormats {
+
+        private final short[] formatIndexes;
+        private final String[] formatStrings;
+
+        private CellFormats(final StylesTable stylesTable) {
+            int styleCount = (stylesTable == null) ? 0 : stylesTable.getNumCellStyles();
+            this.formatIndexes = new short[styleCount];
+            this.formatStrings = new String[styleCount];
+            for (int i = 0; i < styleCount; i++) {
+                XSSFCellStyle xssfCellStyle = stylesTable.getStyleAt(i);
+                if (xssfCellStyle == null) {
+                    continue;
+                }
+                this.formatIndexes[i] = xssfCellStyle.getDataFormat();
+                this.formatStrings[i] = xssfCellStyle.getDataFormatString();
+                if (this.formatStrings[i] == null) {
+                    this.formatStrings[i] = BuiltinFormats.getBuiltinFormat(this.formatIndexes[i]);
+                }
+            }
+        }
+
+        short formatIndex(final int styleIndex) {
+            return (styleIndex >= 0 && styleIndex < this.formatIndexes.length)
+                    ? this.formatIndexes[styleIndex]
+                    : Globals.DEFAULT_VALUE_SHORT;
+        }
+
+        String formatString(final int styleIndex) {
+            return (styleIndex >= 0 && styleIndex < this.formatStrings.length)
+                    ? this.formatStrings[styleIndex]
+                    : null;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Pull model row iterator</h2>
+     * <p class="en-US">Parse the sheet data using StAX, each row was parsed when the iterator moving to the next row</p>
+     * <h2 class="zh-CN">拉模式的数据行迭代器</h2>
+     * <p class="zh-CN">使用StAX解析数据表，每个数据行在迭代器移动到下一行时解析</p>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:14:52 $
+     */
+    private static final class SheetRowIterator implements Iterator<SheetRow>, Closeable {
+
+        private final InputStream inputStream;
+        private final XMLStreamReader streamReader;
+        private final CellFormats cellFormats;
+        private final String[] sharedStrings;
+        private final DataFormatter dataFormatter;
+        private final StringBuilder textBuilder = new StringBuilder();
+        private SheetRow nextRow = null;
+        private boolean finished = Boolean.FALSE;
+        private int rowIndex = Globals.DEFAULT_VALUE_INT;
+
+        private SheetRowIterator(final InputStream inputStream, final CellFormats cellFormats,
+                                 final String[] sharedStrings) throws XMLStreamException {
+            this.inputStream = inputStream;
+            this.streamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            this.cellFormats = cellFormats;
+            this.sharedStrings = sharedStrings;
+            this.dataFormatter = new DataFormatter();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.nextRow == null && !this.finished) {
+                try {
+                    this.nextRow = this.parseRow();
+                } catch (XMLStreamException e) {
+                    this.close();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return this.nextRow != null;
+        }
+
+        @Override
+        public SheetRow next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SheetRow sheetRow = this.nextRow;
+            this.nextRow = null;
+            return sheetRow;
+        }
+
+        @Override
+        public void close() {
+            if (this.finished) {
+                return;
+            }
+            this.finished = Boolean.TRUE;
+            try {
+                this.streamReader.close();
+            } catch (XMLStreamException ignored) {
+            }
+            IOUtils.closeStream(this.inputStream);
+        }
+
+        private SheetRow parseRow() throws XMLStreamException {
+            while (this.streamReader.hasNext()) {
+                int event = this.streamReader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(this.streamReader.getLocalName())) {
+                    return this.readRow();
+                } else if (event == XMLStreamConstants.END_ELEMENT
+                        && "sheetData".equals(this.streamReader.getLocalName())) {
+                    break;
+                }
+            }
+            this.close();
+            return null;
+        }
+
+        private SheetRow readRow() throws XMLStreamException {
+            String rowRef = this.streamReader.getAttributeValue(null, "r");
+            this.rowIndex = (rowRef == null) ? this.rowIndex + 1 : Integer.parseInt(rowRef) - 1;
+            List<CellValue> cellValues = new ArrayList<>();
+            int columnIndex = Globals.DEFAULT_VALUE_INT;
+            while (this.streamReader.hasNext()) {
+                int event = this.streamReader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "c".equals(this.streamReader.getLocalName())) {
+                    String cellRef = this.streamReader.getAttributeValue(null, "r");
+                    columnIndex = (cellRef == null) ? columnIndex + 1 : columnIndex(cellRef);
+                    Optional.ofNullable(this.readCell(columnIndex)).ifPresent(cellValues::add);
+                } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(this.streamReader.getLocalName())) {
+                    break;
+                }
+            }
+            return new SheetRow(this.rowIndex, cellValues);
+        }
 
-                        if (this.formatInfo == null) {
-                            this.formatInfo = BuiltinFormats.getBuiltinFormat(this.formatIndex);
+        private CellValue readCell(final int columnIndex) throws XMLStreamException {
+            String cellType = this.streamReader.getAttributeValue(null, "t");
+            String cellStyle = this.streamReader.getAttributeValue(null, "s");
+            String rawValue = null;
+            boolean formula = Boolean.FALSE, phonetic = Boolean.FALSE, inlineString = Boolean.FALSE;
+            this.textBuilder.setLength(0);
+            while (this.streamReader.hasNext()) {
+                int event = this.streamReader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (this.streamReader.getLocalName()) {
+                        case "v":
+                            rawValue = this.streamReader.getElementText();
+                            break;
+                        case "f":
+                            formula = Boolean.TRUE;
+                            break;
+                        case "rPh":
+                            phonetic = Boolean.TRUE;
+                            break;
+                        case "t":
+                            String text = this.streamReader.getElementText();
+                            if (!phonetic) {
+                                inlineString = Boolean.TRUE;
+                                this.textBuilder.append(text);
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String localName = this.streamReader.getLocalName();
+                    if ("rPh".equals(localName)) {
+                        phonetic = Boolean.FALSE;
+                    } else if ("c".equals(localName)) {
+                        break;
+                    }
+                }
+            }
+            if (inlineString) {
+                String text = this.textBuilder.toString();
+                return new CellValue(columnIndex, formula ? CellType.FORMULA : CellType.STRING, text, text);
+            }
+            if (rawValue == null) {
+                return null;
+            }
+            CellType resultType = formula ? CellType.FORMULA : null;
+            switch ((cellType == null) ? Globals.DEFAULT_VALUE_STRING : cellType) {
+                case "b":
+                    Boolean boolValue = !"0".equals(rawValue);
+                    return new CellValue(columnIndex, Optional.ofNullable(resultType).orElse(CellType.BOOLEAN),
+                            boolValue, boolValue.toString());
+                case "e":
+                    return new CellValue(columnIndex, Optional.ofNullable(resultType).orElse(CellType.ERROR),
+                            rawValue, rawValue);
+                case "s":
+                    String sharedString = this.sharedStrings[Integer.parseInt(rawValue)];
+                    return new CellValue(columnIndex, Optional.ofNullable(resultType).orElse(CellType.STRING),
+                            sharedString, sharedString);
+                case "str":
+                case "inlineStr":
+                case "d":
+                    return new CellValue(columnIndex, Optional.ofNullable(resultType).orElse(CellType.STRING),
+                            rawValue, rawValue);
+                default:
+                    double numericValue;
+                    try {
+                        numericValue = Double.parseDouble(rawValue);
+                    } catch (NumberFormatException e) {
+                        return new CellValue(columnIndex, Optional.ofNullable(resultType).orElse(CellType.STRING),
+                                rawValue, rawValue);
+                    }
+                    int styleIndex = (cellStyle == null) ? Globals.DEFAULT_VALUE_INT : Integer.parseInt(cellStyle);
+                    short formatIndex = this.cellFormats.formatIndex(styleIndex);
+                    String formatString = this.cellFormats.formatString(styleIndex);
+                    Object value = numericValue;
+                    String text = rawValue;
+                    if (formatString != null) {
+                        if (DateUtil.isADateFormat(formatIndex, formatString)
+                                && DateUtil.isValidExcelDate(numericValue)) {
+                            value = DateUtil.getJavaDate(numericValue);
                         }
+                        text = this.dataFormatter.formatRawCellContents(numericValue, formatIndex, formatString);
                     }
-                    break;
+                    return new CellValue(columnIndex, Optional.ofNullable(resultType).orElse(CellType.NUMERIC),
+                            value, text);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Parse column index from cell reference, e.g. "AB12" was 27</h3>
+     * <h3 class="zh-CN">从单元格引用中解析列索引，例如"AB12"为27</h3>
+     *
+     * @param cellRef <span class="en-US">Cell reference</span>
+     *                <span class="zh-CN">单元格引用</span>
+     * @return <span class="en-US">Column index, begin with 0</span>
+     * <span class="zh-CN">列索引，从0开始</span>
+     */
+    private static int columnIndex(final String cellRef) {
+        int columnIndex = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char character = cellRef.charAt(i);
+            if (character >= 'A' && character <= 'Z') {
+                columnIndex = columnIndex * 26 + (character - 'A' + 1);
+            } else if (character >= 'a' && character <= 'z') {
+                columnIndex = columnIndex * 26 + (character - 'a' + 1);
+            } else {
+                break;
+            }
+        }
+        return columnIndex - 1;
+    }
+
+    /**
+     * <h3 class="en-US">Parse row number from cell reference, e.g. "AB12" was 12</h3>
+     * <h3 class="zh-CN">从单元格引用中解析行号，例如"AB12"为12</h3>
+     *
+     * @param cellRef <span class="en-US">Cell reference</span>
+     *                <span class="zh-CN">单元格引用</span>
+     * @return <span class="en-US">Row number, begin with 1, or <code>Globals.DEFAULT_VALUE_INT</code> if not found</span>
+     * <span class="zh-CN">行号，从1开始，如果未找到则返回<code>Globals.DEFAULT_VALUE_INT</code></span>
+     */
+    private static int rowNumber(final String cellRef) {
+        int rowNumber = 0;
+        boolean found = Boolean.FALSE;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char character = cellRef.charAt(i);
+            if (character >= '0' && character <= '9') {
+                rowNumber = rowNumber * 10 + (character - '0');
+                found = Boolean.TRUE;
             }
         }
+        return found ? rowNumber : Globals.DEFAULT_VALUE_INT;
     }
 
     private enum CellDataType {
@@ -25,6 +25,8 @@ import org.nervousync.utils.OfficeUtils;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * <h2 class="en-US">Excel file writer abstract class</h2>
@@ -40,6 +42,11 @@ public final class ExcelWriterImpl extends AbstractExcelWriter {
      * <span class="zh-CN">文件存储路径</span>
      */
     private final String filePath;
+    /**
+     * <span class="en-US">Sheet writers mapping, key is sheet name</span>
+     * <span class="zh-CN">数据写入器映射表，键值为数据表名称</span>
+     */
+    private final Map<String, SheetWriter> sheetWriters = new HashMap<>();
 
     /**
      * <h3 class="en-US">Constructor method for excel writer</h3>
@@ -55,6 +62,27 @@ public final class ExcelWriterImpl extends AbstractExcelWriter {
         this.filePath = filePath;
     }
 
+    /**
+     * <h3 class="en-US">Constructor method for excel writer</h3>
+     * <h3 class="zh-CN">写入器构造方法</h3>
+     *
+     * @param filePath            <span class="en-US">File storage path</span>
+     *                            <span class="zh-CN">文件存储路径</span>
+     * @param rowAccessWindowSize <span class="en-US">Number of rows kept in memory when creating Excel 2007 file</span>
+     *                            <span class="zh-CN">创建Excel 2007文件时在内存中保留的行数</span>
+     * @param compressTempFiles   <span class="en-US">Compress the temporary files when creating Excel 2007 file</span>
+     *                            <span class="zh-CN">创建Excel 2007文件时压缩临时文件</span>
+     * @throws DataInvalidException <span class="en-US">If there is an error reading the file</span>
+     *                              <span class="zh-CN">如果读取文件出错</span>
+     */
+    public ExcelWriterImpl(final String filePath, final int rowAccessWindowSize, final boolean compressTempFiles)
+            throws DataInvalidException {
+        super(FileUtils.isExists(filePath)
+                ? OfficeUtils.openWorkbook(filePath)
+                : OfficeUtils.createWorkbook(filePath, rowAccessWindowSize, compressTempFiles));
+        this.filePath = filePath;
+    }
+
     /**
      * <h3 class="en-US">Write data to disk</h3>
      * <h3 class="zh-CN">将数据写入到磁盘</h3>
@@ -86,6 +114,6 @@ public final class ExcelWriterImpl extends AbstractExcelWriter {
      */
     @Override
     public SheetWriter sheetWriter(final String sheetName) {
-        return new SheetWriterImpl(sheetName, this.workbook);
+        return this.sheetWriters.computeIfAbsent(sheetName, key -> new SheetWriterImpl(key, this.workbook));
     }
 }
@@ -22,6 +22,7 @@ import org.apache.poi.ss.usermodel.*;
 import org.nervousync.commons.Globals;
 import org.nervousync.office.excel.SheetWriter;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -34,13 +35,47 @@ import java.util.List;
  */
 public final class SheetWriterImpl implements SheetWriter {
 
+    /**
+     * <span class="en-US">Cell writer of boolean value</span>
+     * <span class="zh-CN">布尔值的单元格写入器</span>
+     */
+    private static final CellWriter BOOLEAN_WRITER = (cell, value) -> cell.setCellValue((Boolean) value);
+    /**
+     * <span class="en-US">Cell writer of string value</span>
+     * <span class="zh-CN">字符串值的单元格写入器</span>
+     */
+    private static final CellWriter STRING_WRITER = (cell, value) -> cell.setCellValue(value.toString());
+
     /**
      * <span class="en-US">Data sheet instance object</span>
      * <span class="zh-CN">数据表实例对象</span>
      */
     private final Sheet sheet;
-    private final CellStyle dtStyle;
-    private final CellStyle doubleStyle;
+    /**
+     * <span class="en-US">Cell writer of date value</span>
+     * <span class="zh-CN">日期值的单元格写入器</span>
+     */
+    private final CellWriter dateWriter;
+    /**
+     * <span class="en-US">Cell writer of double value</span>
+     * <span class="zh-CN">双精度值的单元格写入器</span>
+     */
+    private final CellWriter doubleWriter;
+    /**
+     * <span class="en-US">Next row number when append data</span>
+     * <span class="zh-CN">追加数据时的下一行行号</span>
+     */
+    private int nextRow;
+    /**
+     * <span class="en-US">Resolved value type of each column</span>
+     * <span class="zh-CN">每一列已解析的数据类型</span>
+     */
+    private Class<?>[] columnTypes = new Class<?>[0];
+    /**
+     * <span class="en-US">Resolved cell writer of each column</span>
+     * <span class="zh-CN">每一列已解析的单元格写入器</span>
+     */
+    private CellWriter[] columnWriters = new CellWriter[0];
 
     /**
      * <h3 class="en-US">Constructor method of data table data writer implementation class</h3>
@@ -57,10 +92,19 @@ public final class SheetWriterImpl implements SheetWriter {
             sheet = workbook.createSheet(sheetName);
         }
         this.sheet = sheet;
-        this.dtStyle = workbook.createCellStyle();
-        this.dtStyle.setDataFormat((short) 14);
-        this.doubleStyle = workbook.createCellStyle();
-        this.doubleStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+        this.nextRow = Math.max(this.sheet.getLastRowNum() + 1, Globals.INITIALIZE_INT_VALUE);
+        final CellStyle dtStyle = workbook.createCellStyle();
+        dtStyle.setDataFormat((short) 14);
+        this.dateWriter = (cell, value) -> {
+            cell.setCellStyle(dtStyle);
+            cell.setCellValue((Date) value);
+        };
+        final CellStyle doubleStyle = workbook.createCellStyle();
+        doubleStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+        this.doubleWriter = (cell, value) -> {
+            cell.setCellStyle(doubleStyle);
+            cell.setCellValue((Double) value);
+        };
     }
 
     /**
@@ -74,36 +118,18 @@ public final class SheetWriterImpl implements SheetWriter {
      */
     @Override
     public void writeData(final int rowNum, final List<Object> rowDatas) {
-        Row row;
-        if (rowNum < this.sheet.getLastRowNum()) {
-            row = this.sheet.getRow(rowNum);
-        } else {
+        Row row = this.sheet.getRow(rowNum);
+        if (row == null) {
             row = this.sheet.createRow(rowNum);
         }
         for (int i = 0; i < rowDatas.size(); i++) {
-            Cell cell;
-            if (i < row.getLastCellNum()) {
-                cell = row.getCell(i);
-            } else {
+            Cell cell = row.getCell(i);
+            if (cell == null) {
                 cell = row.createCell(i);
             }
-            Object object = rowDatas.get(i);
-            if (object != null) {
-                if (object instanceof Date) {
-                    cell.setCellStyle(this.dtStyle);
-                    cell.setCellValue((Date) object);
-                } else if (object instanceof Double) {
-                    cell.setCellStyle(this.doubleStyle);
-                    cell.setCellValue((double) object);
-                } else if (object instanceof Boolean) {
-                    cell.setCellValue((boolean) object);
-                } else {
-                    cell.setCellValue(object.toString());
-                }
-            } else {
-                cell.setCellValue(Globals.DEFAULT_VALUE_STRING);
-            }
+            this.writeCell(cell, i, rowDatas.get(i));
         }
+        this.nextRow = Math.max(this.nextRow, rowNum + 1);
     }
 
     /**
@@ -115,6 +141,91 @@ public final class SheetWriterImpl implements SheetWriter {
      */
     @Override
     public void appendData(final List<Object> rowDatas) {
-        this.writeData(this.sheet.getLastRowNum() + 1, rowDatas);
+        this.writeData(this.nextRow, rowDatas);
+    }
+
+    /**
+     * <h3 class="en-US">Write the given rows to the end of the current data sheet</h3>
+     * <h3 class="zh-CN">写入给定的多行数据到当前数据表末尾</h3>
+     *
+     * @param rows <span class="en-US">Written rows data</span>
+     *             <span class="zh-CN">写入的多行数据</span>
+     */
+    @Override
+    public void appendRows(final Iterable<Object[]> rows) {
+        for (Object[] rowData : rows) {
+            Row row = this.sheet.createRow(this.nextRow++);
+            for (int i = 0; i < rowData.length; i++) {
+                this.writeCell(row.createCell(i), i, rowData[i]);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write the given value to the given cell using the resolved cell writer of the column</h3>
+     * <h3 class="zh-CN">使用列的已解析单元格写入器写入给定的数据到给定的单元格</h3>
+     *
+     * @param cell        <span class="en-US">Cell instance object</span>
+     *                    <span class="zh-CN">单元格实例对象</span>
+     * @param columnIndex <span class="en-US">Column index</span>
+     *                    <span class="zh-CN">列索引</span>
+     * @param value       <span class="en-US">Written value</span>
+     *                    <span class="zh-CN">写入的数据</span>
+     */
+    private void writeCell(final Cell cell, final int columnIndex, final Object value) {
+        if (value == null) {
+            cell.setCellValue(Globals.DEFAULT_VALUE_STRING);
+            return;
+        }
+        if (columnIndex >= this.columnTypes.length) {
+            int length = Math.max(columnIndex + 1, this.columnTypes.length * 2);
+            this.columnTypes = Arrays.copyOf(this.columnTypes, length);
+            this.columnWriters = Arrays.copyOf(this.columnWriters, length);
+        }
+        Class<?> valueType = value.getClass();
+        if (this.columnTypes[columnIndex] != valueType) {
+            this.columnTypes[columnIndex] = valueType;
+            this.columnWriters[columnIndex] = this.resolveWriter(valueType);
+        }
+        this.columnWriters[columnIndex].write(cell, value);
+    }
+
+    /**
+     * <h3 class="en-US">Resolve cell writer by given value type</h3>
+     * <h3 class="zh-CN">根据给定的数据类型解析单元格写入器</h3>
+     *
+     * @param valueType <span class="en-US">Value type</span>
+     *                  <span class="zh-CN">数据类型</span>
+     * @return <span class="en-US">Resolved cell writer</span>
+     * <span class="zh-CN">解析的单元格写入器</span>
+     */
+    private CellWriter resolveWriter(final Class<?> valueType) {
+        if (Date.class.isAssignableFrom(valueType)) {
+            return this.dateWriter;
+        } else if (Double.class.equals(valueType)) {
+            return this.doubleWriter;
+        } else if (Boolean.class.equals(valueType)) {
+            return BOOLEAN_WRITER;
+        }
+        return STRING_WRITER;
+    }
+
+    /**
+     * <h2 class="en-US">Cell value writer</h2>
+     * <h2 class="zh-CN">单元格数据写入器</h2>
+     */
+    @FunctionalInterface
+    private interface CellWriter {
+
+        /**
+         * <h3 class="en-US">Write the given value to the given cell</h3>
+         * <h3 class="zh-CN">写入给定的数据到给定的单元格</h3>
+         *
+         * @param cell  <span class="en-US">Cell instance object</span>
+         *              <span class="zh-CN">单元格实例对象</span>
+         * @param value <span class="en-US">Written value, not null</span>
+         *              <span class="zh-CN">写入的数据，不为空</span>
+         */
+        void write(final Cell cell, final Object value);
     }
 }
@@ -19,6 +19,8 @@ package org.nervousync.office.excel.impl;
 
 import org.apache.poi.ss.usermodel.*;
 import org.nervousync.commons.Globals;
+import org.nervousync.office.excel.CellValue;
+import org.nervousync.office.excel.SheetRow;
 import org.nervousync.office.excel.core.AbstractExcelReader;
 import org.nervousync.utils.DateTimeUtils;
 import org.nervousync.utils.FileUtils;
@@ -28,9 +30,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * <h2 class="en-US">Excel file reader for reading files in XLS format</h2>
@@ -134,6 +134,41 @@ public final class UserModelReaderImpl extends AbstractExcelReader {
         return sheetList;
     }
 
+    /**
+     * <h3 class="en-US">Generate row iterator based on the given data sheet name</h3>
+     * <p class="en-US">The XLS document was loaded when reader initialized, the rows were converted when iterating</p>
+     * <h3 class="zh-CN">根据给定的数据表名称生成数据行迭代器</h3>
+     * <p class="zh-CN">XLS文档在读取器初始化时已加载，数据行在迭代时转换</p>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @return <span class="en-US">Row iterator, empty iterator if data sheet not exists</span>
+     * <span class="zh-CN">数据行迭代器，如果数据表不存在则返回空迭代器</span>
+     */
+    @Override
+    public Iterator<SheetRow> iterator(final String sheetName) {
+        if (StringUtils.isEmpty(sheetName) || !this.sheetNames.contains(sheetName)) {
+            return Collections.emptyIterator();
+        }
+        final Iterator<Row> rowIterator = this.workbook.getSheet(sheetName).rowIterator();
+        final DataFormatter dataFormatter = new DataFormatter();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rowIterator.hasNext();
+            }
+
+            @Override
+            public SheetRow next() {
+                Row row = rowIterator.next();
+                List<CellValue> cellValues = new ArrayList<>();
+                row.cellIterator().forEachRemaining(cell ->
+                        Optional.ofNullable(cellValue(dataFormatter, cell)).ifPresent(cellValues::add));
+                return new SheetRow(row.getRowNum(), cellValues);
+            }
+        };
+    }
+
     /**
      * <h3 class="en-US">Close current data reader</h3>
      * <h3 class="zh-CN">关闭当前数据读取器</h3>
@@ -210,6 +245,38 @@ public final class UserModelReaderImpl extends AbstractExcelReader {
         return rowList;
     }
 
+    private static CellValue cellValue(final DataFormatter dataFormatter, final Cell cell) {
+        CellType cellType = cell.getCellType();
+        CellType valueType = CellType.FORMULA.equals(cellType) ? cell.getCachedFormulaResultType() : cellType;
+        Object value;
+        switch (valueType) {
+            case NUMERIC:
+                value = DateUtil.isCellDateFormatted(cell) ? cell.getDateCellValue() : cell.getNumericCellValue();
+                break;
+            case BOOLEAN:
+                value = cell.getBooleanCellValue();
+                break;
+            case STRING:
+                value = cell.getRichStringCellValue().getString();
+                break;
+            case ERROR:
+                value = FormulaError.forInt(cell.getErrorCellValue()).getString();
+                break;
+            default:
+                return null;
+        }
+        String text;
+        if (!CellType.FORMULA.equals(cellType)) {
+            text = dataFormatter.formatCellValue(cell);
+        } else if (CellType.NUMERIC.equals(valueType)) {
+            text = dataFormatter.formatRawCellContents(cell.getNumericCellValue(),
+                    cell.getCellStyle().getDataFormat(), cell.getCellStyle().getDataFormatString());
+        } else {
+            text = String.valueOf(value);
+        }
+        return new CellValue(cell.getColumnIndex(), cellType, value, text);
+    }
+
     private static String cellData(final Cell cell) {
         CellType cellType = cell.getCellType();
         switch (cellType) {
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.office.excel.impl;
+
+import org.nervousync.office.excel.ExcelWriter;
+import org.nervousync.office.excel.SheetWriter;
+import org.nervousync.utils.IOUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * <h2 class="en-US">Excel file writer implementation class which emits the sheet XML directly</h2>
+ * <p class="en-US">
+ *     The writer does not build any workbook object model, the rows of each sheet were written to a temporary file
+ *     as sheet XML and assembled as an xlsx package when calling the write method.
+ *     Only support the Excel 2007 file format, using for very large exports.
+ * </p>
+ * <h2 class="zh-CN">直接输出数据表XML的Excel文件写入器实现类</h2>
+ * <p class="zh-CN">
+ *     写入器不构建工作簿对象模型，每个数据表的数据行以数据表XML格式写入到临时文件，在调用写入方法时组装为xlsx文件。
+ *     仅支持Excel 2007文件格式，用于超大数据量的导出。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:42:17 $
+ */
+public final class XmlExcelWriterImpl implements ExcelWriter {
+
+    /**
+     * <span class="en-US">XML declaration</span>
+     * <span class="zh-CN">XML声明</span>
+     */
+    static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    /**
+     * <span class="en-US">Namespace of spreadsheet main schema</span>
+     * <span class="zh-CN">电子表格主架构的命名空间</span>
+     */
+    static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    /**
+     * <span class="en-US">Namespace of relationship schema</span>
+     * <span class="zh-CN">关系架构的命名空间</span>
+     */
+    private static final String RELATIONSHIP_NAMESPACE =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    /**
+     * <span class="en-US">Name of the empty sheet written when no sheet was created</span>
+     * <span class="zh-CN">未创建任何数据表时写入的空数据表名称</span>
+     */
+    private static final String DEFAULT_SHEET_NAME = "Sheet1";
+    /**
+     * <span class="en-US">Content of the package relationships</span>
+     * <span class="zh-CN">包关系的内容</span>
+     */
+    private static final String PACKAGE_RELATIONSHIPS = XML_DECLARATION
+            + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+            + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIP_NAMESPACE + "/officeDocument\" "
+            + "Target=\"xl/workbook.xml\"/></Relationships>";
+    /**
+     * <span class="en-US">Content of the styles, style index 1 is the date format and style index 2 is the double format</span>
+     * <span class="zh-CN">样式的内容，样式索引1为日期格式，样式索引2为双精度格式</span>
+     */
+    private static final String STYLES = XML_DECLARATION
+            + "<styleSheet xmlns=\"" + MAIN_NAMESPACE + "\">"
+            + "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font></fonts>"
+            + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill></fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"3\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"14\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"4\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "</cellXfs></styleSheet>";
+
+    /**
+     * <span class="en-US">File storage path</span>
+     * <span class="zh-CN">文件存储路径</span>
+     */
+    private final String filePath;
+    /**
+     * <span class="en-US">Compress the temporary files</span>
+     * <span class="zh-CN">压缩临时文件</span>
+     */
+    private final boolean compressTempFiles;
+    /**
+     * <span class="en-US">Sheet writers mapping, key is sheet name</span>
+     * <span class="zh-CN">数据写入器映射表，键值为数据表名称</span>
+     */
+    private final Map<String, XmlSheetWriterImpl> sheetWriters = new LinkedHashMap<>();
+
+    /**
+     * <h3 class="en-US">Constructor method for excel writer</h3>
+     * <h3 class="zh-CN">写入器构造方法</h3>
+     *
+     * @param filePath          <span class="en-US">File storage path</span>
+     *                          <span class="zh-CN">文件存储路径</span>
+     * @param compressTempFiles <span class="en-US">Compress the temporary files</span>
+     *                          <span class="zh-CN">压缩临时文件</span>
+     */
+    public XmlExcelWriterImpl(final String filePath, final boolean compressTempFiles) {
+        this.filePath = filePath;
+        this.compressTempFiles = compressTempFiles;
+    }
+
+    /**
+     * <h3 class="en-US">Write data to disk</h3>
+     * <h3 class="zh-CN">将数据写入到磁盘</h3>
+     *
+     * @throws IOException <span class="en-US">An error occurred while writing data to disk</span>
+     *                     <span class="zh-CN">写入数据到磁盘时出错</span>
+     */
+    @Override
+    public void write() throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(this.filePath))) {
+            this.write(outputStream);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write data to the given output stream</h3>
+     * <h3 class="zh-CN">将数据写入到给定的输出流中</h3>
+     *
+     * @param outputStream <span class="en-US">Data output stream instance object</span>
+     *                     <span class="zh-CN">数据输出流实例对象</span>
+     * @throws IOException <span class="en-US">An error occurred while writing data to the output stream</span>
+     *                     <span class="zh-CN">写入数据到输出流时出错</span>
+     */
+    @Override
+    public void write(final OutputStream outputStream) throws IOException {
+        if (this.sheetWriters.isEmpty()) {
+            //  The workbook must contain at least one sheet
+            this.sheetWriter(DEFAULT_SHEET_NAME);
+        }
+        List<String> sheetNames = new ArrayList<>(this.sheetWriters.keySet());
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        writeEntry(zipOutputStream, "[Content_Types].xml", contentTypes(sheetNames.size()));
+        writeEntry(zipOutputStream, "_rels/.rels", PACKAGE_RELATIONSHIPS);
+        writeEntry(zipOutputStream, "xl/workbook.xml", workbook(sheetNames));
+        writeEntry(zipOutputStream, "xl/_rels/workbook.xml.rels", workbookRelationships(sheetNames.size()));
+        writeEntry(zipOutputStream, "xl/styles.xml", STYLES);
+        int index = 1;
+        for (XmlSheetWriterImpl sheetWriter : this.sheetWriters.values()) {
+            zipOutputStream.putNextEntry(new ZipEntry("xl/worksheets/sheet" + index + ".xml"));
+            sheetWriter.transfer(zipOutputStream);
+            zipOutputStream.closeEntry();
+            index++;
+        }
+        zipOutputStream.finish();
+        outputStream.flush();
+    }
+
+    /**
+     * <h3 class="en-US">Get the sheet writer instance object of the given data table name</h3>
+     * <h3 class="zh-CN">获取给定数据表名的数据写入器实例对象</h3>
+     *
+     * @param sheetName <span class="en-US">Data sheet name</span>
+     *                  <span class="zh-CN">数据表名称</span>
+     * @return <span class="en-US">Sheet writer instance object</span>
+     * <span class="zh-CN">数据写入器实例对象</span>
+     */
+    @Override
+    public SheetWriter sheetWriter(final String sheetName) {
+        return this.sheetWriters.computeIfAbsent(sheetName, key -> {
+            try {
+                return new XmlSheetWriterImpl(this.compressTempFiles);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Close current data writer and remove the temporary files</h3>
+     * <h3 class="zh-CN">关闭当前数据写入器并删除临时文件</h3>
+     */
+    @Override
+    public void close() {
+        this.sheetWriters.values().forEach(IOUtils::closeStream);
+        this.sheetWriters.clear();
+    }
+
+    /**
+     * <h3 class="en-US">Escape the given text for XML content</h3>
+     * <h3 class="zh-CN">转义给定文本用于XML内容</h3>
+     *
+     * @param appendable <span class="en-US">Output appendable instance</span>
+     *                   <span class="zh-CN">输出实例</span>
+     * @param text       <span class="en-US">Text value</span>
+     *                   <span class="zh-CN">文本值</span>
+     * @throws IOException <span class="en-US">An error occurred while writing data</span>
+     *                     <span class="zh-CN">写入数据时出错</span>
+     */
+    static void escape(final Appendable appendable, final String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            switch (character) {
+                case '&':
+                    appendable.append("&amp;");
+                    break;
+                case '<':
+                    appendable.append("&lt;");
+                    break;
+                case '>':
+                    appendable.append("&gt;");
+                    break;
+                case '"':
+                    appendable.append("&quot;");
+                    break;
+                default:
+                    if (character >= 0x20 || character == '\t' || character == '\n' || character == '\r') {
+                        appendable.append(character);
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write the given content as a zip entry</h3>
+     * <h3 class="zh-CN">将给定的内容写入为压缩包条目</h3>
+     *
+     * @param zipOutputStream <span class="en-US">Zip output stream instance object</span>
+     *                        <span class="zh-CN">压缩输出流实例对象</span>
+     * @param entryName       <span class="en-US">Entry name</span>
+     *                        <span class="zh-CN">条目名称</span>
+     * @param content         <span class="en-US">Entry content</span>
+     *                        <span class="zh-CN">条目内容</span>
+     * @throws IOException <span class="en-US">An error occurred while writing data</span>
+     *                     <span class="zh-CN">写入数据时出错</span>
+     */
+    private static void writeEntry(final ZipOutputStream zipOutputStream, final String entryName,
+                                   final String content) throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.closeEntry();
+    }
+
+    /**
+     * <h3 class="en-US">Generate the content types of the package</h3>
+     * <h3 class="zh-CN">生成包的内容类型</h3>
+     *
+     * @param sheetCount <span class="en-US">Sheet count</span>
+     *                   <span class="zh-CN">数据表数量</span>
+     * @return <span class="en-US">Generated content</span>
+     * <span class="zh-CN">生成的内容</span>
+     */
+    private static String contentTypes(final int sheetCount) {
+        StringBuilder stringBuilder = new StringBuilder(XML_DECLARATION)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ")
+                .append("ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"")
+                .append("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"")
+                .append("application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int i = 1; i <= sheetCount; i++) {
+            stringBuilder.append("<Override PartName=\"/xl/worksheets/sheet").append(i).append(".xml\" ContentType=\"")
+                    .append("application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return stringBuilder.append("</Types>").toString();
+    }
+
+    /**
+     * <h3 class="en-US">Generate the workbook content</h3>
+     * <h3 class="zh-CN">生成工作簿内容</h3>
+     *
+     * @param sheetNames <span class="en-US">Sheet names list</span>
+     *                   <span class="zh-CN">数据表名称列表</span>
+     * @return <span class="en-US">Generated content</span>
+     * <span class="zh-CN">生成的内容</span>
+     * @throws IOException <span class="en-US">An error occurred while generating data</span>
+     *                     <span class="zh-CN">生成数据时出错</span>
+     */
+    private static String workbook(final List<String> sheetNames) throws IOException {
+        StringBuilder stringBuilder = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(MAIN_NAMESPACE)
+                .append("\" xmlns:r=\"").append(RELATIONSHIP_NAMESPACE).append("\"><sheets>");
+        for (int i = 0; i < sheetNames.size(); i++) {
+            stringBuilder.append("<sheet name=\"");
+            escape(stringBuilder, sheetNames.get(i));
+            stringBuilder.append("\" sheetId=\"").append(i + 1).append("\" r:id=\"rId").append(i + 1).append("\"/>");
+        }
+        return stringBuilder.append("</sheets></workbook>").toString();
+    }
+
+    /**
+     * <h3 class="en-US">Generate the workbook relationships content</h3>
+     * <h3 class="zh-CN">生成工作簿关系内容</h3>
+     *
+     * @param sheetCount <span class="en-US">Sheet count</span>
+     *                   <span class="zh-CN">数据表数量</span>
+     * @return <span class="en-US">Generated content</span>
+     * <span class="zh-CN">生成的内容</span>
+     */
+    private static String workbookRelationships(final int sheetCount) {
+        StringBuilder stringBuilder = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        for (int i = 1; i <= sheetCount; i++) {
+            stringBuilder.append("<Relationship Id=\"rId").append(i).append("\" Type=\"")
+                    .append(RELATIONSHIP_NAMESPACE).append("/worksheet\" Target=\"worksheets/sheet")
+                    .append(i).append(".xml\"/>");
+        }
+        return stringBuilder.append("<Relationship Id=\"rId").append(sheetCount + 1).append("\" Type=\"")
+                .append(RELATIONSHIP_NAMESPACE).append("/styles\" Target=\"styles.xml\"/></Relationships>")
+                .toString();
+    }
+}
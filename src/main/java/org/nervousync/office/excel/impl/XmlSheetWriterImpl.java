@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.office.excel.impl;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.nervousync.office.excel.SheetWriter;
+import org.nervousync.utils.IOUtils;
+import org.nervousync.utils.LoggerUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <h2 class="en-US">Sheet data writer implementation class which emits the sheet XML directly</h2>
+ * <p class="en-US">
+ *     Rows must be written in ascending order, the written rows were stored in a temporary file
+ *     and the temporary file will be removed when closing the writer.
+ * </p>
+ * <h2 class="zh-CN">直接输出数据表XML的数据表数据写入器实现类</h2>
+ * <p class="zh-CN">数据行必须按照升序写入，已写入的数据行存储在临时文件中，临时文件在关闭写入器时删除。</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 11:05:36 $
+ */
+final class XmlSheetWriterImpl implements SheetWriter, Closeable {
+
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(XmlSheetWriterImpl.class);
+    /**
+     * <span class="en-US">Begin content of sheet XML</span>
+     * <span class="zh-CN">数据表XML的起始内容</span>
+     */
+    private static final String SHEET_BEGIN = XmlExcelWriterImpl.XML_DECLARATION
+            + "<worksheet xmlns=\"" + XmlExcelWriterImpl.MAIN_NAMESPACE + "\"><sheetData>";
+    /**
+     * <span class="en-US">End content of sheet XML</span>
+     * <span class="zh-CN">数据表XML的结束内容</span>
+     */
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    /**
+     * <span class="en-US">Temporary file path</span>
+     * <span class="zh-CN">临时文件路径</span>
+     */
+    private final Path tempFile;
+    /**
+     * <span class="en-US">Compress the temporary file</span>
+     * <span class="zh-CN">压缩临时文件</span>
+     */
+    private final boolean compressTempFile;
+    /**
+     * <span class="en-US">Temporary file writer, opened when writing rows</span>
+     * <span class="zh-CN">临时文件写入器，在写入数据行时打开</span>
+     */
+    private Writer writer = null;
+    /**
+     * <span class="en-US">Next row number when append data</span>
+     * <span class="zh-CN">追加数据时的下一行行号</span>
+     */
+    private int nextRow = 0;
+    /**
+     * <span class="en-US">Cached column names</span>
+     * <span class="zh-CN">缓存的列名称</span>
+     */
+    private String[] columnNames = new String[0];
+
+    /**
+     * <h3 class="en-US">Constructor method of sheet data writer</h3>
+     * <h3 class="zh-CN">数据表数据写入器的构造方法</h3>
+     *
+     * @param compressTempFile <span class="en-US">Compress the temporary file</span>
+     *                         <span class="zh-CN">压缩临时文件</span>
+     * @throws IOException <span class="en-US">If create the temporary file failed</span>
+     *                     <span class="zh-CN">如果创建临时文件失败</span>
+     */
+    XmlSheetWriterImpl(final boolean compressTempFile) throws IOException {
+        this.tempFile = Files.createTempFile("sheet", compressTempFile ? ".xml.gz" : ".xml");
+        this.compressTempFile = compressTempFile;
+    }
+
+    /**
+     * <h3 class="en-US">Write the given data to the given line number</h3>
+     * <h3 class="zh-CN">写入给定数据到给定行号</h3>
+     *
+     * @param rowNum   <span class="en-US">Row number</span>
+     *                 <span class="zh-CN">写入的行号</span>
+     * @param rowDatas <span class="en-US">Written data information</span>
+     *                 <span class="zh-CN">写入的数据信息</span>
+     * @throws IllegalArgumentException <span class="en-US">If the row number is not after the last written row</span>
+     *                                  <span class="zh-CN">如果行号不在最后写入的行之后</span>
+     */
+    @Override
+    public void writeData(final int rowNum, final List<Object> rowDatas) {
+        if (rowNum < this.nextRow) {
+            throw new IllegalArgumentException("Row number " + rowNum
+                    + " is out of order, rows must be written from row number " + this.nextRow);
+        }
+        this.writeRow(rowNum, rowDatas.toArray());
+    }
+
+    /**
+     * <h3 class="en-US">Write the given data to the end of the current data sheet</h3>
+     * <h3 class="zh-CN">写入给定数据到当前数据表末尾</h3>
+     *
+     * @param rowDatas <span class="en-US">Written data information</span>
+     *                 <span class="zh-CN">写入的数据信息</span>
+     */
+    @Override
+    public void appendData(final List<Object> rowDatas) {
+        this.writeRow(this.nextRow, rowDatas.toArray());
+    }
+
+    /**
+     * <h3 class="en-US">Write the given rows to the end of the current data sheet</h3>
+     * <h3 class="zh-CN">写入给定的多行数据到当前数据表末尾</h3>
+     *
+     * @param rows <span class="en-US">Written rows data</span>
+     *             <span class="zh-CN">写入的多行数据</span>
+     */
+    @Override
+    public void appendRows(final Iterable<Object[]> rows) {
+        for (Object[] rowData : rows) {
+            this.writeRow(this.nextRow, rowData);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Close the temporary file writer and remove the temporary file</h3>
+     * <h3 class="zh-CN">关闭临时文件写入器并删除临时文件</h3>
+     */
+    @Override
+    public void close() {
+        IOUtils.closeStream(this.writer);
+        this.writer = null;
+        try {
+            Files.deleteIfExists(this.tempFile);
+        } catch (IOException e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Transfer the sheet XML to the given output stream</h3>
+     * <p class="en-US">
+     *     The temporary file writer was closed before transfer, and will be opened in append mode when writing new rows.
+     * </p>
+     * <h3 class="zh-CN">传输数据表XML到给定的输出流</h3>
+     * <p class="zh-CN">传输前关闭临时文件写入器，写入新的数据行时将以追加模式打开。</p>
+     *
+     * @param outputStream <span class="en-US">Data output stream instance object</span>
+     *                     <span class="zh-CN">数据输出流实例对象</span>
+     * @throws IOException <span class="en-US">An error occurred while writing data to the output stream</span>
+     *                     <span class="zh-CN">写入数据到输出流时出错</span>
+     */
+    void transfer(final OutputStream outputStream) throws IOException {
+        if (this.writer != null) {
+            this.writer.close();
+            this.writer = null;
+        }
+        outputStream.write(SHEET_BEGIN.getBytes(StandardCharsets.UTF_8));
+        if (Files.size(this.tempFile) > 0L) {
+            try (InputStream inputStream = this.compressTempFile
+                    ? new GZIPInputStream(Files.newInputStream(this.tempFile))
+                    : Files.newInputStream(this.tempFile)) {
+                inputStream.transferTo(outputStream);
+            }
+        }
+        outputStream.write(SHEET_END.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <h3 class="en-US">Write the given row data as sheet XML</h3>
+     * <h3 class="zh-CN">将给定的行数据写入为数据表XML</h3>
+     *
+     * @param rowNum  <span class="en-US">Row number</span>
+     *                <span class="zh-CN">写入的行号</span>
+     * @param rowData <span class="en-US">Written data information</span>
+     *                <span class="zh-CN">写入的数据信息</span>
+     */
+    private void writeRow(final int rowNum, final Object[] rowData) {
+        String rowReference = Integer.toString(rowNum + 1);
+        try {
+            Writer currentWriter = this.openWriter();
+            currentWriter.write("<row r=\"");
+            currentWriter.write(rowReference);
+            currentWriter.write("\">");
+            for (int i = 0; i < rowData.length; i++) {
+                Object value = rowData[i];
+                currentWriter.write("<c r=\"");
+                currentWriter.write(this.columnName(i));
+                currentWriter.write(rowReference);
+                if (value == null) {
+                    //  Same as SheetWriterImpl, null value was written as empty string
+                    currentWriter.write("\" t=\"inlineStr\"><is><t></t></is></c>");
+                } else if (value instanceof Date) {
+                    currentWriter.write("\" s=\"1\"><v>");
+                    currentWriter.write(Double.toString(DateUtil.getExcelDate((Date) value)));
+                    currentWriter.write("</v></c>");
+                } else if (value instanceof Double && Double.isFinite((Double) value)) {
+                    currentWriter.write("\" s=\"2\"><v>");
+                    currentWriter.write(value.toString());
+                    currentWriter.write("</v></c>");
+                } else if (value instanceof Boolean) {
+                    currentWriter.write("\" t=\"b\"><v>");
+                    currentWriter.write((Boolean) value ? "1" : "0");
+                    currentWriter.write("</v></c>");
+                } else {
+                    currentWriter.write("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                    XmlExcelWriterImpl.escape(currentWriter, value.toString());
+                    currentWriter.write("</t></is></c>");
+                }
+            }
+            currentWriter.write("</row>");
+            this.nextRow = rowNum + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Open the temporary file writer in append mode if not opened</h3>
+     * <h3 class="zh-CN">如果未打开，以追加模式打开临时文件写入器</h3>
+     *
+     * @return <span class="en-US">Temporary file writer</span>
+     * <span class="zh-CN">临时文件写入器</span>
+     * @throws IOException <span class="en-US">If open the temporary file failed</span>
+     *                     <span class="zh-CN">如果打开临时文件失败</span>
+     */
+    private Writer openWriter() throws IOException {
+        if (this.writer == null) {
+            OutputStream outputStream = new FileOutputStream(this.tempFile.toFile(), Boolean.TRUE);
+            if (this.compressTempFile) {
+                //  Each opening appends a new gzip member, GZIPInputStream reads the concatenated members
+                outputStream = new GZIPOutputStream(outputStream, 8192);
+            }
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 65536);
+        }
+        return this.writer;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve the column name of the given column index</h3>
+     * <h3 class="zh-CN">获取给定列索引的列名称</h3>
+     *
+     * @param columnIndex <span class="en-US">Column index</span>
+     *                    <span class="zh-CN">列索引</span>
+     * @return <span class="en-US">Column name</span>
+     * <span class="zh-CN">列名称</span>
+     */
+    private String columnName(final int columnIndex) {
+        if (columnIndex >= this.columnNames.length) {
+            this.columnNames = Arrays.copyOf(this.columnNames, Math.max(columnIndex + 1, this.columnNames.length * 2));
+        }
+        String columnName = this.columnNames[columnIndex];
+        if (columnName == null) {
+            columnName = CellReference.convertNumToColString(columnIndex);
+            this.columnNames[columnIndex] = columnName;
+        }
+        return columnName;
+    }
+}
@@ -0,0 +1,875 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.security.cert;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemReader;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.*;
+
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.cert.CertificateExpiredException;
+import java.security.cert.CertificateNotYetValidException;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Certificate registry</h2>
+ * <span class="en-US">
+ *     Keystore/PKCS12 files and PEM bundles are loaded once and reloaded only when the file modified time or
+ *     size changed. Certificates and private keys are cached per alias, PEM bundles are indexed by the
+ *     subject alternative names and common names, signature verify results are cached per certificate and
+ *     verify key. Certificate validity is always checked at lookup time.
+ * </span>
+ * <h2 class="zh-CN">证书注册表</h2>
+ * <span class="zh-CN">
+ *     Keystore/PKCS12文件和PEM证书包仅加载一次，仅当文件修改时间或大小变化时重新加载。证书和私钥按别名缓存，
+ *     PEM证书包按照主题备用名称和通用名称建立索引，数字签名验证结果按证书和验证公钥缓存。证书有效期总是在查找时检查。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:36:12 $
+ */
+public final class CertificateRegistry {
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(CertificateRegistry.class);
+    /**
+     * <span class="en-US">Maximum count of cached stores loaded from data bytes</span>
+     * <span class="zh-CN">从二进制数据加载的缓存密钥库最大数量</span>
+     */
+    private static final int MAX_CACHED_DATA_STORES = 64;
+    /**
+     * <span class="en-US">Maximum count of cached verify results</span>
+     * <span class="zh-CN">缓存的验证结果最大数量</span>
+     */
+    private static final int MAX_CACHED_VERIFY_RESULTS = 4096;
+    /**
+     * <span class="en-US">Subject alternative name type: dNSName, see RFC 5280 section 4.2.1.6</span>
+     * <span class="zh-CN">主题备用名称类型：dNSName，参见RFC 5280第4.2.1.6节</span>
+     */
+    private static final int SAN_DNS_NAME = 2;
+    /**
+     * <span class="en-US">Subject alternative name type: iPAddress, see RFC 5280 section 4.2.1.6</span>
+     * <span class="zh-CN">主题备用名称类型：iPAddress，参见RFC 5280第4.2.1.6节</span>
+     */
+    private static final int SAN_IP_ADDRESS = 7;
+    /**
+     * <span class="en-US">Cached Keystore/PKCS12 stores</span>
+     * <span class="zh-CN">缓存的Keystore/PKCS12密钥库</span>
+     */
+    private final Map<String, StoreEntry> stores = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Cached PEM bundles</span>
+     * <span class="zh-CN">缓存的PEM证书包</span>
+     */
+    private final Map<String, BundleEntry> bundles = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Cached signature verify results</span>
+     * <span class="zh-CN">缓存的数字签名验证结果</span>
+     */
+    private final Map<VerifyKey, Boolean> verifyResults = new ConcurrentHashMap<>();
+
+    static {
+        /* Add Bouncy Castle Provider */
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    /**
+     * <h3 class="en-US">Read X.509 certificate from Keystore/PKCS12 file</h3>
+     * <h3 class="zh-CN">从Keystore/PKCS12文件中读取X.509证书</h3>
+     *
+     * @param storePath <span class="en-US">Keystore/PKCS12 file path</span>
+     *                  <span class="zh-CN">Keystore/PKCS12文件路径</span>
+     * @param certAlias <span class="en-US">Certificate alias name</span>
+     *                  <span class="zh-CN">证书别名</span>
+     * @param password  <span class="en-US">Password of Keystore/PKCS12</span>
+     *                  <span class="zh-CN">Keystore/PKCS12的密码</span>
+     * @return <span class="en-US">Read X.509 certificate or null if not found</span>
+     * <span class="zh-CN">读取的X.509证书，如果未找到则返回null</span>
+     */
+    public X509Certificate x509(final String storePath, final String certAlias, final String password) {
+        return Optional.ofNullable(this.store(storePath, password))
+                .map(storeEntry -> storeEntry.x509(certAlias))
+                .orElse(null);
+    }
+
+    /**
+     * <h3 class="en-US">Read X.509 certificate from Keystore/PKCS12 data bytes</h3>
+     * <h3 class="zh-CN">从Keystore/PKCS12的二进制数据中读取X.509证书</h3>
+     *
+     * @param storeBytes <span class="en-US">Keystore/PKCS12 data bytes</span>
+     *                   <span class="zh-CN">Keystore/PKCS12的二进制数据</span>
+     * @param certAlias  <span class="en-US">Certificate alias name</span>
+     *                   <span class="zh-CN">证书别名</span>
+     * @param password   <span class="en-US">Password of Keystore/PKCS12</span>
+     *                   <span class="zh-CN">Keystore/PKCS12的密码</span>
+     * @return <span class="en-US">Read X.509 certificate or null if not found</span>
+     * <span class="zh-CN">读取的X.509证书，如果未找到则返回null</span>
+     */
+    public X509Certificate x509(final byte[] storeBytes, final String certAlias, final String password) {
+        return Optional.ofNullable(this.store(storeBytes, password))
+                .map(storeEntry -> storeEntry.x509(certAlias))
+                .orElse(null);
+    }
+
+    /**
+     * <h3 class="en-US">Read PrivateKey from Keystore/PKCS12 file</h3>
+     * <h3 class="zh-CN">从Keystore/PKCS12文件中读取私钥</h3>
+     *
+     * @param storePath <span class="en-US">Keystore/PKCS12 file path</span>
+     *                  <span class="zh-CN">Keystore/PKCS12文件路径</span>
+     * @param certAlias <span class="en-US">Certificate alias name</span>
+     *                  <span class="zh-CN">证书别名</span>
+     * @param password  <span class="en-US">Password of Keystore/PKCS12</span>
+     *                  <span class="zh-CN">Keystore/PKCS12的密码</span>
+     * @return <span class="en-US">Read PrivateKey or null if not found</span>
+     * <span class="zh-CN">读取的私钥，如果未找到则返回null</span>
+     */
+    public PrivateKey privateKey(final String storePath, final String certAlias, final String password) {
+        return Optional.ofNullable(this.store(storePath, password))
+                .map(storeEntry -> storeEntry.privateKey(certAlias, password))
+                .orElse(null);
+    }
+
+    /**
+     * <h3 class="en-US">Read PrivateKey from Keystore/PKCS12 data bytes</h3>
+     * <h3 class="zh-CN">从Keystore/PKCS12的二进制数据中读取私钥</h3>
+     *
+     * @param storeBytes <span class="en-US">Keystore/PKCS12 data bytes</span>
+     *                   <span class="zh-CN">Keystore/PKCS12的二进制数据</span>
+     * @param certAlias  <span class="en-US">Certificate alias name</span>
+     *                   <span class="zh-CN">证书别名</span>
+     * @param password   <span class="en-US">Password of Keystore/PKCS12</span>
+     *                   <span class="zh-CN">Keystore/PKCS12的密码</span>
+     * @return <span class="en-US">Read PrivateKey or null if not found</span>
+     * <span class="zh-CN">读取的私钥，如果未找到则返回null</span>
+     */
+    public PrivateKey privateKey(final byte[] storeBytes, final String certAlias, final String password) {
+        return Optional.ofNullable(this.store(storeBytes, password))
+                .map(storeEntry -> storeEntry.privateKey(certAlias, password))
+                .orElse(null);
+    }
+
+    /**
+     * <h3 class="en-US">Read X.509 certificate from PEM bundle file by given domain name</h3>
+     * <span class="en-US">Returns the first valid certificate in file order which matches the domain name</span>
+     * <h3 class="zh-CN">根据给定的域名从PEM证书包文件中读取X.509证书</h3>
+     * <span class="zh-CN">返回文件中第一个匹配域名的有效证书</span>
+     *
+     * @param pemPath    <span class="en-US">PEM bundle file path</span>
+     *                   <span class="zh-CN">PEM证书包文件路径</span>
+     * @param domainName <span class="en-US">Domain name or IP address</span>
+     *                   <span class="zh-CN">域名或IP地址</span>
+     * @return <span class="en-US">Matched X.509 certificate or null if not found</span>
+     * <span class="zh-CN">匹配的X.509证书，如果未找到则返回null</span>
+     */
+    public X509Certificate x509(final String pemPath, final String domainName) {
+        if (StringUtils.isEmpty(pemPath) || StringUtils.isEmpty(domainName)) {
+            return null;
+        }
+        File pemFile = new File(pemPath);
+        if (!pemFile.isFile()) {
+            return null;
+        }
+        String cacheKey = pemFile.getAbsolutePath();
+        long lastModified = pemFile.lastModified();
+        long fileSize = pemFile.length();
+        BundleEntry bundleEntry = this.bundles.get(cacheKey);
+        if (bundleEntry == null || bundleEntry.lastModified != lastModified || bundleEntry.fileSize != fileSize) {
+            bundleEntry = this.bundles.compute(cacheKey, (key, current) ->
+                    (current != null && current.lastModified == lastModified && current.fileSize == fileSize)
+                            ? current
+                            : CertificateRegistry.loadBundle(pemFile, lastModified, fileSize));
+        }
+        return (bundleEntry == null) ? null : bundleEntry.domainIndex.lookup(domainName);
+    }
+
+    /**
+     * <h3 class="en-US">Verify signature of given certificate by given public key</h3>
+     * <span class="en-US">The signature result is cached, certificate validity is checked on every call if required</span>
+     * <h3 class="zh-CN">使用给定的公钥验证给定证书的数字签名</h3>
+     * <span class="zh-CN">数字签名的验证结果会被缓存，如有需要每次调用都会检查证书有效期</span>
+     *
+     * @param x509Certificate <span class="en-US">X.509 certificate</span>
+     *                        <span class="zh-CN">X.509证书</span>
+     * @param verifyKey       <span class="en-US">Public key of issuer, certificate's public key used if null</span>
+     *                        <span class="zh-CN">签发者的公钥，为null时使用证书本身的公钥</span>
+     * @param checkValidity   <span class="en-US">Check certificate validity</span>
+     *                        <span class="zh-CN">检查证书有效期</span>
+     * @return <span class="en-US">Verify result</span>
+     * <span class="zh-CN">验证结果</span>
+     */
+    public boolean verify(final X509Certificate x509Certificate, final PublicKey verifyKey,
+                          final boolean checkValidity) {
+        if (x509Certificate == null) {
+            return Boolean.FALSE;
+        }
+        if (checkValidity && !CertificateRegistry.valid(x509Certificate)) {
+            LOGGER.error("Certificate_Invalid_Error");
+            return Boolean.FALSE;
+        }
+        PublicKey publicKey = (verifyKey == null) ? x509Certificate.getPublicKey() : verifyKey;
+        VerifyKey cacheKey = new VerifyKey(x509Certificate, publicKey);
+        Boolean result = this.verifyResults.get(cacheKey);
+        if (result == null) {
+            try {
+                x509Certificate.verify(publicKey, "BC");
+                result = Boolean.TRUE;
+            } catch (Exception e) {
+                LOGGER.error("Certificate_Invalid_Error");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+                result = Boolean.FALSE;
+            }
+            if (this.verifyResults.size() < MAX_CACHED_VERIFY_RESULTS) {
+                this.verifyResults.put(cacheKey, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <h3 class="en-US">Remove cached store or PEM bundle of given file path</h3>
+     * <h3 class="zh-CN">移除给定文件路径的缓存密钥库或PEM证书包</h3>
+     *
+     * @param filePath <span class="en-US">Keystore/PKCS12 or PEM bundle file path</span>
+     *                 <span class="zh-CN">Keystore/PKCS12或PEM证书包文件路径</span>
+     */
+    public void invalidate(final String filePath) {
+        if (StringUtils.isEmpty(filePath)) {
+            return;
+        }
+        File file = CertificateRegistry.resolveFile(filePath);
+        if (file == null) {
+            return;
+        }
+        String absolutePath = file.getAbsolutePath();
+        this.bundles.remove(absolutePath);
+        String prefix = absolutePath + '\u0000';
+        this.stores.keySet().removeIf(cacheKey -> cacheKey.startsWith(prefix));
+    }
+
+    /**
+     * <h3 class="en-US">Remove all cached data</h3>
+     * <h3 class="zh-CN">移除所有缓存数据</h3>
+     */
+    public void clear() {
+        this.stores.clear();
+        this.bundles.clear();
+        this.verifyResults.clear();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cached store entry of given file path</h3>
+     * <h3 class="zh-CN">读取给定文件路径的缓存密钥库</h3>
+     *
+     * @param storePath <span class="en-US">Keystore/PKCS12 file path</span>
+     *                  <span class="zh-CN">Keystore/PKCS12文件路径</span>
+     * @param password  <span class="en-US">Password of Keystore/PKCS12</span>
+     *                  <span class="zh-CN">Keystore/PKCS12的密码</span>
+     * @return <span class="en-US">Store entry or null if load failed</span>
+     * <span class="zh-CN">密钥库缓存，如果加载失败则返回null</span>
+     */
+    private StoreEntry store(final String storePath, final String password) {
+        if (StringUtils.isEmpty(storePath)) {
+            return null;
+        }
+        File storeFile = CertificateRegistry.resolveFile(storePath);
+        if (storeFile == null) {
+            //  Location is not a plain file, e.g. a jar entry or remote URL, read data bytes without file cache
+            try {
+                return this.store(FileUtils.readFileBytes(storePath), password);
+            } catch (FileNotFoundException e) {
+                return null;
+            }
+        }
+        String filePath = storeFile.getAbsolutePath();
+        String cacheKey = filePath + '\u0000' + CertificateRegistry.digest(null, password);
+        long lastModified = storeFile.lastModified();
+        long fileSize = storeFile.length();
+        StoreEntry storeEntry = this.stores.get(cacheKey);
+        if (storeEntry == null || storeEntry.lastModified != lastModified || storeEntry.fileSize != fileSize) {
+            storeEntry = this.stores.compute(cacheKey, (key, current) ->
+                    (current != null && current.lastModified == lastModified && current.fileSize == fileSize)
+                            ? current
+                            : Optional.ofNullable(CertificateUtils.loadKeyStore(filePath, password))
+                            .map(keyStore -> new StoreEntry(keyStore, lastModified, fileSize))
+                            .orElse(null));
+        }
+        return storeEntry;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cached store entry of given data bytes</h3>
+     * <span class="en-US">Cache key is the SHA-256 digest of data bytes and password, the password is not kept</span>
+     * <h3 class="zh-CN">读取给定二进制数据的缓存密钥库</h3>
+     * <span class="zh-CN">缓存键值为二进制数据和密码的SHA-256摘要，不保留密码</span>
+     *
+     * @param storeBytes <span class="en-US">Keystore/PKCS12 data bytes</span>
+     *                   <span class="zh-CN">Keystore/PKCS12的二进制数据</span>
+     * @param password   <span class="en-US">Password of Keystore/PKCS12</span>
+     *                   <span class="zh-CN">Keystore/PKCS12的密码</span>
+     * @return <span class="en-US">Store entry or null if load failed</span>
+     * <span class="zh-CN">密钥库缓存，如果加载失败则返回null</span>
+     */
+    private StoreEntry store(final byte[] storeBytes, final String password) {
+        if (storeBytes == null || storeBytes.length == 0) {
+            return null;
+        }
+        String cacheKey = CertificateRegistry.digest(storeBytes, password);
+        StoreEntry storeEntry = this.stores.get(cacheKey);
+        if (storeEntry == null) {
+            storeEntry = Optional.ofNullable(CertificateUtils.loadKeyStore(storeBytes, password))
+                    .map(keyStore -> new StoreEntry(keyStore, Globals.DEFAULT_VALUE_LONG, storeBytes.length))
+                    .orElse(null);
+            if (storeEntry != null && this.stores.size() < MAX_CACHED_DATA_STORES) {
+                StoreEntry existEntry = this.stores.putIfAbsent(cacheKey, storeEntry);
+                if (existEntry != null) {
+                    storeEntry = existEntry;
+                }
+            }
+        }
+        return storeEntry;
+    }
+
+    /**
+     * <h3 class="en-US">Load PEM bundle file and build domain index</h3>
+     * <h3 class="zh-CN">加载PEM证书包文件并建立域名索引</h3>
+     *
+     * @param pemFile      <span class="en-US">PEM bundle file</span>
+     *                     <span class="zh-CN">PEM证书包文件</span>
+     * @param lastModified <span class="en-US">File last modified time</span>
+     *                     <span class="zh-CN">文件最后修改时间</span>
+     * @param fileSize     <span class="en-US">File size</span>
+     *                     <span class="zh-CN">文件大小</span>
+     * @return <span class="en-US">Bundle entry or null if load failed</span>
+     * <span class="zh-CN">证书包缓存，如果加载失败则返回null</span>
+     */
+    private static BundleEntry loadBundle(final File pemFile, final long lastModified, final long fileSize) {
+        List<X509Certificate> certificates = new ArrayList<>();
+        try (PemReader pemReader = new PemReader(new FileReader(pemFile, StandardCharsets.UTF_8))) {
+            PemObject pemObject;
+            while ((pemObject = pemReader.readPemObject()) != null) {
+                Optional.ofNullable(CertificateUtils.x509(pemObject.getContent())).ifPresent(certificates::add);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Data_Read_Key_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return null;
+        }
+        return new BundleEntry(new DomainIndex(certificates), lastModified, fileSize);
+    }
+
+    /**
+     * <h3 class="en-US">Check given certificate is valid now</h3>
+     * <h3 class="zh-CN">检查给定的证书当前是否有效</h3>
+     *
+     * @param x509Certificate <span class="en-US">X.509 certificate</span>
+     *                        <span class="zh-CN">X.509证书</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    private static boolean valid(final X509Certificate x509Certificate) {
+        try {
+            x509Certificate.checkValidity();
+            return Boolean.TRUE;
+        } catch (CertificateExpiredException | CertificateNotYetValidException e) {
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Resolve given resource location to a plain file</h3>
+     * <span class="en-US">Supports "classpath:" pseudo URL, "file:" URL and plain file path</span>
+     * <h3 class="zh-CN">将给定的资源位置解析为文件系统中的文件</h3>
+     * <span class="zh-CN">支持“classpath:”伪URL、“file:”URL和纯文件路径</span>
+     *
+     * @param resourceLocation <span class="en-US">Resource location</span>
+     *                         <span class="zh-CN">资源位置</span>
+     * @return <span class="en-US">Resolved file or null if location is not a plain file</span>
+     * <span class="zh-CN">解析的文件，如果资源位置不是文件系统中的文件则返回null</span>
+     */
+    private static File resolveFile(final String resourceLocation) {
+        try {
+            File file = FileUtils.getFile(resourceLocation);
+            return file.isFile() ? file : null;
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Calculate SHA-256 digest of given data bytes and password</h3>
+     * <h3 class="zh-CN">计算给定二进制数据和密码的SHA-256摘要</h3>
+     *
+     * @param dataBytes <span class="en-US">Data bytes, may be null</span>
+     *                  <span class="zh-CN">二进制数据，可以为null</span>
+     * @param password  <span class="en-US">Password, may be null</span>
+     *                  <span class="zh-CN">密码，可以为null</span>
+     * @return <span class="en-US">Hex string of digest</span>
+     * <span class="zh-CN">摘要的十六进制字符串</span>
+     */
+    private static String digest(final byte[] dataBytes, final String password) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            if (dataBytes != null) {
+                messageDigest.update(dataBytes);
+            }
+            messageDigest.update((byte) 0);
+            if (password != null) {
+                messageDigest.update(password.getBytes(StandardCharsets.UTF_8));
+            }
+            return ConvertUtils.toHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Cached Keystore/PKCS12 store</h2>
+     * <h2 class="zh-CN">缓存的Keystore/PKCS12密钥库</h2>
+     */
+    private static final class StoreEntry {
+        /**
+         * <span class="en-US">Loaded key store</span>
+         * <span class="zh-CN">加载的密钥库</span>
+         */
+        private final KeyStore keyStore;
+        /**
+         * <span class="en-US">File last modified time, -1 for data bytes</span>
+         * <span class="zh-CN">文件最后修改时间，二进制数据为-1</span>
+         */
+        private final long lastModified;
+        /**
+         * <span class="en-US">File size</span>
+         * <span class="zh-CN">文件大小</span>
+         */
+        private final long fileSize;
+        /**
+         * <span class="en-US">Cached certificates, key is alias</span>
+         * <span class="zh-CN">缓存的证书，键值为别名</span>
+         */
+        private final Map<String, Optional<X509Certificate>> certificates = new ConcurrentHashMap<>();
+        /**
+         * <span class="en-US">Cached private keys, key is alias</span>
+         * <span class="zh-CN">缓存的私钥，键值为别名</span>
+         */
+        private final Map<String, Optional<PrivateKey>> privateKeys = new ConcurrentHashMap<>();
+
+        /**
+         * <h3 class="en-US">Constructor for StoreEntry</h3>
+         * <h3 class="zh-CN">密钥库缓存的构造方法</h3>
+         *
+         * @param keyStore     <span class="en-US">Loaded key store</span>
+         *                     <span class="zh-CN">加载的密钥库</span>
+         * @param lastModified <span class="en-US">File last modified time</span>
+         *                     <span class="zh-CN">文件最后修改时间</span>
+         * @param fileSize     <span class="en-US">File size</span>
+         *                     <span class="zh-CN">文件大小</span>
+         */
+        StoreEntry(final KeyStore keyStore, final long lastModified, final long fileSize) {
+            this.keyStore = keyStore;
+            this.lastModified = lastModified;
+            this.fileSize = fileSize;
+        }
+
+        /**
+         * <h3 class="en-US">Read cached certificate of given alias</h3>
+         * <h3 class="zh-CN">读取给定别名的缓存证书</h3>
+         *
+         * @param certAlias <span class="en-US">Certificate alias name</span>
+         *                  <span class="zh-CN">证书别名</span>
+         * @return <span class="en-US">X.509 certificate or null if not found</span>
+         * <span class="zh-CN">X.509证书，如果未找到则返回null</span>
+         */
+        X509Certificate x509(final String certAlias) {
+            if (certAlias == null) {
+                return null;
+            }
+            return this.certificates.computeIfAbsent(certAlias, alias ->
+                            CertificateUtils.checkKey(this.keyStore, alias)
+                                    ? Optional.ofNullable(CertificateUtils.x509(this.keyStore, alias))
+                                    : Optional.empty())
+                    .orElse(null);
+        }
+
+        /**
+         * <h3 class="en-US">Read cached private key of given alias</h3>
+         * <h3 class="zh-CN">读取给定别名的缓存私钥</h3>
+         *
+         * @param certAlias <span class="en-US">Certificate alias name</span>
+         *                  <span class="zh-CN">证书别名</span>
+         * @param password  <span class="en-US">Password of private key</span>
+         *                  <span class="zh-CN">私钥的密码</span>
+         * @return <span class="en-US">Private key or null if not found</span>
+         * <span class="zh-CN">私钥，如果未找到则返回null</span>
+         */
+        PrivateKey privateKey(final String certAlias, final String password) {
+            if (certAlias == null) {
+                return null;
+            }
+            return this.privateKeys.computeIfAbsent(certAlias, alias ->
+                            CertificateUtils.checkKey(this.keyStore, alias)
+                                    ? Optional.ofNullable(CertificateUtils.privateKey(this.keyStore, alias, password))
+                                    : Optional.empty())
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Cached PEM bundle</h2>
+     * <h2 class="zh-CN">缓存的PEM证书包</h2>
+     */
+    private static final class BundleEntry {
+        /**
+         * <span class="en-US">Domain index of certificates</span>
+         * <span class="zh-CN">证书的域名索引</span>
+         */
+        private final DomainIndex domainIndex;
+        /**
+         * <span class="en-US">File last modified time</span>
+         * <span class="zh-CN">文件最后修改时间</span>
+         */
+        private final long lastModified;
+        /**
+         * <span class="en-US">File size</span>
+         * <span class="zh-CN">文件大小</span>
+         */
+        private final long fileSize;
+
+        /**
+         * <h3 class="en-US">Constructor for BundleEntry</h3>
+         * <h3 class="zh-CN">证书包缓存的构造方法</h3>
+         *
+         * @param domainIndex  <span class="en-US">Domain index of certificates</span>
+         *                     <span class="zh-CN">证书的域名索引</span>
+         * @param lastModified <span class="en-US">File last modified time</span>
+         *                     <span class="zh-CN">文件最后修改时间</span>
+         * @param fileSize     <span class="en-US">File size</span>
+         *                     <span class="zh-CN">文件大小</span>
+         */
+        BundleEntry(final DomainIndex domainIndex, final long lastModified, final long fileSize) {
+            this.domainIndex = domainIndex;
+            this.lastModified = lastModified;
+            this.fileSize = fileSize;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Domain index of certificates</h2>
+     * <span class="en-US">
+     *     Exact names and wildcard suffixes are kept in hash maps, the value is the certificate indexes in file
+     *     order. Wildcard pattern "*.example.com" is stored by suffix ".example.com", the lookup only tries the
+     *     suffixes starting at each dot of the host name. The rare patterns not starting with "*." are scanned.
+     *     Names of subject alternative names are matched before the common name, same as the previous rules.
+     * </span>
+     * <h2 class="zh-CN">证书的域名索引</h2>
+     * <span class="zh-CN">
+     *     精确名称和通配符后缀保存在哈希表中，值为按文件顺序排列的证书索引。通配符格式"*.example.com"按后缀".example.com"保存，
+     *     查找时仅尝试从主机名每个点号开始的后缀。极少数不以"*."开头的格式使用扫描匹配。
+     *     与之前的规则相同，先匹配主题备用名称，再匹配通用名称。
+     * </span>
+     */
+    private static final class DomainIndex {
+        /**
+         * <span class="en-US">Indexed certificates in file order</span>
+         * <span class="zh-CN">按文件顺序排列的已索引证书</span>
+         */
+        private final List<X509Certificate> certificates;
+        /**
+         * <span class="en-US">Exact names of subject alternative names, lower case</span>
+         * <span class="zh-CN">主题备用名称中的精确名称，小写</span>
+         */
+        private final Map<String, int[]> exactNames = new HashMap<>();
+        /**
+         * <span class="en-US">Wildcard suffixes of subject alternative names, lower case</span>
+         * <span class="zh-CN">主题备用名称中的通配符后缀，小写</span>
+         */
+        private final Map<String, int[]> wildcardNames = new HashMap<>();
+        /**
+         * <span class="en-US">IP addresses of subject alternative names, lower case</span>
+         * <span class="zh-CN">主题备用名称中的IP地址，小写</span>
+         */
+        private final Map<String, int[]> ipAddresses = new HashMap<>();
+        /**
+         * <span class="en-US">Exact common names, lower case</span>
+         * <span class="zh-CN">精确的通用名称，小写</span>
+         */
+        private final Map<String, int[]> exactCommonNames = new HashMap<>();
+        /**
+         * <span class="en-US">Wildcard suffixes of common names, lower case</span>
+         * <span class="zh-CN">通用名称中的通配符后缀，小写</span>
+         */
+        private final Map<String, int[]> wildcardCommonNames = new HashMap<>();
+        /**
+         * <span class="en-US">Irregular wildcard patterns, element is {suffix, certificate index, is common name}</span>
+         * <span class="zh-CN">不规则的通配符格式，元素为{后缀, 证书索引, 是否为通用名称}</span>
+         */
+        private final List<Object[]> irregularNames = new ArrayList<>();
+
+        /**
+         * <h3 class="en-US">Constructor for DomainIndex</h3>
+         * <h3 class="zh-CN">域名索引的构造方法</h3>
+         *
+         * @param certificates <span class="en-US">Certificates in file order</span>
+         *                     <span class="zh-CN">按文件顺序排列的证书</span>
+         */
+        DomainIndex(final List<X509Certificate> certificates) {
+            this.certificates = certificates;
+            for (int i = 0; i < certificates.size(); i++) {
+                final int index = i;
+                X509Certificate x509Certificate = certificates.get(i);
+                try {
+                    if (x509Certificate.getVersion() == 3) {
+                        Collection<List<?>> collection = x509Certificate.getSubjectAlternativeNames();
+                        if (collection != null) {
+                            for (List<?> dataList : collection) {
+                                int nameType = (Integer) dataList.get(0);
+                                if (nameType == SAN_IP_ADDRESS) {
+                                    DomainIndex.append(this.ipAddresses,
+                                            ((String) dataList.get(1)).toLowerCase(Locale.ROOT), i);
+                                } else if (nameType == SAN_DNS_NAME) {
+                                    this.addName((String) dataList.get(1), i,
+                                            this.exactNames, this.wildcardNames, Boolean.FALSE);
+                                }
+                            }
+                        }
+                    }
+                } catch (CertificateParsingException e) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Stack_Message_Error", e);
+                    }
+                }
+                try {
+                    LdapName ldapName = new LdapName(x509Certificate.getSubjectX500Principal().getName());
+                    ldapName.getRdns().stream()
+                            .filter(rdn -> rdn.getType().equalsIgnoreCase("CN"))
+                            .findFirst()
+                            .map(Rdn::getValue)
+                            .map(String::valueOf)
+                            .ifPresent(commonName -> this.addName(commonName, index,
+                                    this.exactCommonNames, this.wildcardCommonNames, Boolean.TRUE));
+                } catch (InvalidNameException e) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Stack_Message_Error", e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Find the first valid certificate in file order which matches given domain name</h3>
+         * <h3 class="zh-CN">查找文件顺序中第一个匹配给定域名的有效证书</h3>
+         *
+         * @param domainName <span class="en-US">Domain name or IP address</span>
+         *                   <span class="zh-CN">域名或IP地址</span>
+         * @return <span class="en-US">Matched certificate or null if not found</span>
+         * <span class="zh-CN">匹配的证书，如果未找到则返回null</span>
+         */
+        X509Certificate lookup(final String domainName) {
+            String hostName = domainName.toLowerCase(Locale.ROOT);
+            boolean ipAddress = IPUtils.isIPv4Address(domainName) || IPUtils.isIPv6Address(domainName);
+            int matchIndex = Integer.MAX_VALUE;
+            if (ipAddress) {
+                matchIndex = this.firstValid(this.ipAddresses.get(hostName), matchIndex);
+            } else {
+                matchIndex = this.matchNames(hostName, this.exactNames, this.wildcardNames, Boolean.FALSE, matchIndex);
+            }
+            matchIndex = this.matchNames(hostName, this.exactCommonNames, this.wildcardCommonNames,
+                    Boolean.TRUE, matchIndex);
+            return (matchIndex == Integer.MAX_VALUE) ? null : this.certificates.get(matchIndex);
+        }
+
+        /**
+         * <h3 class="en-US">Match host name with given exact and wildcard maps</h3>
+         * <h3 class="zh-CN">使用给定的精确名称和通配符映射匹配主机名</h3>
+         *
+         * @param hostName      <span class="en-US">Host name, lower case</span>
+         *                      <span class="zh-CN">主机名，小写</span>
+         * @param exactMap      <span class="en-US">Exact name map</span>
+         *                      <span class="zh-CN">精确名称映射</span>
+         * @param wildcardMap   <span class="en-US">Wildcard suffix map</span>
+         *                      <span class="zh-CN">通配符后缀映射</span>
+         * @param commonName    <span class="en-US">Matching common names</span>
+         *                      <span class="zh-CN">是否匹配通用名称</span>
+         * @param matchIndex    <span class="en-US">Current minimum matched index</span>
+         *                      <span class="zh-CN">当前最小的匹配索引</span>
+         * @return <span class="en-US">Minimum matched index</span>
+         * <span class="zh-CN">最小的匹配索引</span>
+         */
+        private int matchNames(final String hostName, final Map<String, int[]> exactMap,
+                               final Map<String, int[]> wildcardMap, final boolean commonName, final int matchIndex) {
+            int currentIndex = this.firstValid(exactMap.get(hostName), matchIndex);
+            if (!wildcardMap.isEmpty()) {
+                int dotIndex = hostName.indexOf('.');
+                while (dotIndex >= 0) {
+                    currentIndex = this.firstValid(wildcardMap.get(hostName.substring(dotIndex)), currentIndex);
+                    dotIndex = hostName.indexOf('.', dotIndex + 1);
+                }
+            }
+            for (Object[] irregularName : this.irregularNames) {
+                int index = (Integer) irregularName[1];
+                if ((Boolean) irregularName[2] == commonName && index < currentIndex
+                        && hostName.endsWith((String) irregularName[0])
+                        && CertificateRegistry.valid(this.certificates.get(index))) {
+                    currentIndex = index;
+                }
+            }
+            return currentIndex;
+        }
+
+        /**
+         * <h3 class="en-US">Find the first valid certificate index less than given index</h3>
+         * <h3 class="zh-CN">查找小于给定索引的第一个有效证书索引</h3>
+         *
+         * @param indexes    <span class="en-US">Certificate indexes in file order, may be null</span>
+         *                   <span class="zh-CN">按文件顺序排列的证书索引，可以为null</span>
+         * @param matchIndex <span class="en-US">Current minimum matched index</span>
+         *                   <span class="zh-CN">当前最小的匹配索引</span>
+         * @return <span class="en-US">Minimum matched index</span>
+         * <span class="zh-CN">最小的匹配索引</span>
+         */
+        private int firstValid(final int[] indexes, final int matchIndex) {
+            if (indexes != null) {
+                for (int index : indexes) {
+                    if (index >= matchIndex) {
+                        break;
+                    }
+                    if (CertificateRegistry.valid(this.certificates.get(index))) {
+                        return index;
+                    }
+                }
+            }
+            return matchIndex;
+        }
+
+        /**
+         * <h3 class="en-US">Add name pattern to index</h3>
+         * <h3 class="zh-CN">添加名称格式到索引</h3>
+         *
+         * @param pattern     <span class="en-US">Name pattern</span>
+         *                    <span class="zh-CN">名称格式</span>
+         * @param index       <span class="en-US">Certificate index</span>
+         *                    <span class="zh-CN">证书索引</span>
+         * @param exactMap    <span class="en-US">Exact name map</span>
+         *                    <span class="zh-CN">精确名称映射</span>
+         * @param wildcardMap <span class="en-US">Wildcard suffix map</span>
+         *                    <span class="zh-CN">通配符后缀映射</span>
+         * @param commonName  <span class="en-US">Pattern is common name</span>
+         *                    <span class="zh-CN">格式是否为通用名称</span>
+         */
+        private void addName(final String pattern, final int index, final Map<String, int[]> exactMap,
+                             final Map<String, int[]> wildcardMap, final boolean commonName) {
+            String lowerPattern = pattern.toLowerCase(Locale.ROOT);
+            if (!lowerPattern.startsWith("*")) {
+                DomainIndex.append(exactMap, lowerPattern, index);
+            } else if (lowerPattern.startsWith("*.")) {
+                DomainIndex.append(wildcardMap, lowerPattern.substring(1), index);
+            } else {
+                this.irregularNames.add(new Object[]{lowerPattern.substring(1), index, commonName});
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Append certificate index to given map</h3>
+         * <h3 class="zh-CN">添加证书索引到给定的映射</h3>
+         *
+         * @param indexMap <span class="en-US">Index map</span>
+         *                 <span class="zh-CN">索引映射</span>
+         * @param name     <span class="en-US">Name</span>
+         *                 <span class="zh-CN">名称</span>
+         * @param index    <span class="en-US">Certificate index</span>
+         *                 <span class="zh-CN">证书索引</span>
+         */
+        private static void append(final Map<String, int[]> indexMap, final String name, final int index) {
+            int[] indexes = indexMap.get(name);
+            if (indexes == null) {
+                indexMap.put(name, new int[]{index});
+            } else if (indexes[indexes.length - 1] != index) {
+                int[] newIndexes = Arrays.copyOf(indexes, indexes.length + 1);
+                newIndexes[indexes.length] = index;
+                indexMap.put(name, newIndexes);
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Cache key of verify result</h2>
+     * <h2 class="zh-CN">验证结果的缓存键值</h2>
+     */
+    private static final class VerifyKey {
+        /**
+         * <span class="en-US">X.509 certificate</span>
+         * <span class="zh-CN">X.509证书</span>
+         */
+        private final X509Certificate x509Certificate;
+        /**
+         * <span class="en-US">Verify public key</span>
+         * <span class="zh-CN">验证公钥</span>
+         */
+        private final PublicKey publicKey;
+
+        /**
+         * <h3 class="en-US">Constructor for VerifyKey</h3>
+         * <h3 class="zh-CN">验证结果缓存键值的构造方法</h3>
+         *
+         * @param x509Certificate <span class="en-US">X.509 certificate</span>
+         *                        <span class="zh-CN">X.509证书</span>
+         * @param publicKey       <span class="en-US">Verify public key</span>
+         *                        <span class="zh-CN">验证公钥</span>
+         */
+        VerifyKey(final X509Certificate x509Certificate, final PublicKey publicKey) {
+            this.x509Certificate = x509Certificate;
+            this.publicKey = publicKey;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return Boolean.TRUE;
+            }
+            if (!(o instanceof VerifyKey)) {
+                return Boolean.FALSE;
+            }
+            VerifyKey verifyKey = (VerifyKey) o;
+            return this.x509Certificate.equals(verifyKey.x509Certificate)
+                    && this.publicKey.equals(verifyKey.publicKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.x509Certificate.hashCode() + this.publicKey.hashCode();
+        }
+    }
+}
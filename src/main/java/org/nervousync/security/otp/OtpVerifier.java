@@ -0,0 +1,513 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.security.otp;
+
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.DateTimeUtils;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.OTPUtils;
+import org.nervousync.utils.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">OTP(One-time Password Algorithm) verifier</h2>
+ * <span class="en-US">
+ *     The secret is decoded once when the verifier is created. Every thread keeps one Mac instance per algorithm,
+ *     the Mac is keyed again only when it was used by another verifier, so validating a whole window costs one
+ *     key setup at most. All slots of the window are calculated from a single time sample.
+ * </span>
+ * <h2 class="zh-CN">一次性密码验证器</h2>
+ * <span class="zh-CN">
+ *     密钥在创建验证器时仅解码一次。每个线程为每种算法保留一个Mac实例，仅当Mac被其他验证器使用过时才重新设置密钥，
+ *     因此验证整个窗口最多只需一次密钥设置。窗口中的所有时间槽都根据同一个时间采样计算。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:48:05 $
+ */
+public final class OtpVerifier {
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(OtpVerifier.class);
+    /**
+     * <span class="en-US">Default time step, Unit: Second</span>
+     * <span class="zh-CN">默认的时间步长，单位：秒</span>
+     */
+    public static final int DEFAULT_SYNC_COUNT = 30;
+    /**
+     * <span class="en-US">Default window size</span>
+     * <span class="zh-CN">默认的最多可偏移时间</span>
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 3;
+    /**
+     * <span class="en-US">Digits of generated code</span>
+     * <span class="zh-CN">生成的密码位数</span>
+     */
+    private static final int CODE_DIGITS = 6;
+    /**
+     * <span class="en-US">Modulus of generated code</span>
+     * <span class="zh-CN">生成的密码模数</span>
+     */
+    private static final int CODE_MODULUS = 1_000_000;
+    /**
+     * <span class="en-US">Fixed time range for clock drift probing, Unit: Hour</span>
+     * <span class="zh-CN">时钟偏移探测的修正时间范围，单位：小时</span>
+     */
+    private static final int FIXED_HOUR_RANGE = 12;
+    /**
+     * <span class="en-US">Thread confined Mac instances</span>
+     * <span class="zh-CN">线程独占的Mac实例</span>
+     */
+    private static final ThreadLocal<Map<OTPUtils.CalcType, MacHolder>> MAC_HOLDERS =
+            ThreadLocal.withInitial(() -> new EnumMap<>(OTPUtils.CalcType.class));
+    /**
+     * <span class="en-US">Identify generator of verifier instances</span>
+     * <span class="zh-CN">验证器实例的识别代码生成器</span>
+     */
+    private static final AtomicLong VERIFIER_IDENTIFY = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+    /**
+     * <span class="en-US">Identify of current verifier, the thread confined Mac keeps the identify instead of the verifier</span>
+     * <span class="zh-CN">当前验证器的识别代码，线程独占的Mac保存识别代码而不是验证器实例</span>
+     */
+    private final long verifierIdentify = VERIFIER_IDENTIFY.incrementAndGet();
+    /**
+     * <span class="en-US">Calculate type</span>
+     * <span class="zh-CN">密码算法类型</span>
+     */
+    private final OTPUtils.CalcType calcType;
+    /**
+     * <span class="en-US">Decoded secret key</span>
+     * <span class="zh-CN">解码后的密钥</span>
+     */
+    private final SecretKeySpec secretKey;
+    /**
+     * <span class="en-US">Time step, Unit: Second</span>
+     * <span class="zh-CN">时间步长，单位：秒</span>
+     */
+    private final int syncCount;
+    /**
+     * <span class="en-US">Window size</span>
+     * <span class="zh-CN">最多可偏移时间</span>
+     */
+    private final int windowSize;
+
+    /**
+     * <h3 class="en-US">Constructor for OtpVerifier using HmacSHA1, default time step and default window size</h3>
+     * <h3 class="zh-CN">使用HmacSHA1、默认时间步长和默认窗口大小的一次性密码验证器构造方法</h3>
+     *
+     * @param secret <span class="en-US">Secret key string</span>
+     *               <span class="zh-CN">随机密钥字符串</span>
+     */
+    public OtpVerifier(final String secret) {
+        this(OTPUtils.CalcType.HmacSHA1, secret, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT);
+    }
+
+    /**
+     * <h3 class="en-US">Constructor for OtpVerifier</h3>
+     * <h3 class="zh-CN">一次性密码验证器的构造方法</h3>
+     *
+     * @param calcType   <span class="en-US">Calculate type</span>
+     *                   <span class="zh-CN">密码算法类型</span>
+     * @param secret     <span class="en-US">Secret key string</span>
+     *                   <span class="zh-CN">随机密钥字符串</span>
+     * @param syncCount  <span class="en-US">Time Step, Unit: Second, default value used if not positive</span>
+     *                   <span class="zh-CN">时间步长，单位：秒，非正数时使用默认值</span>
+     * @param windowSize <span class="en-US">Window size, default value used if negative</span>
+     *                   <span class="zh-CN">最多可偏移时间，负数时使用默认值</span>
+     */
+    public OtpVerifier(final OTPUtils.CalcType calcType, final String secret,
+                       final int syncCount, final int windowSize) {
+        if (calcType == null || StringUtils.isEmpty(secret)) {
+            throw new IllegalArgumentException("Calculate type and secret are required");
+        }
+        byte[] secretBytes = StringUtils.base32Decode(secret);
+        if (secretBytes.length == 0) {
+            throw new IllegalArgumentException("Invalid secret");
+        }
+        this.calcType = calcType;
+        this.secretKey = new SecretKeySpec(secretBytes, calcType.name());
+        this.syncCount = (syncCount > 0) ? syncCount : DEFAULT_SYNC_COUNT;
+        this.windowSize = (windowSize < 0) ? DEFAULT_WINDOW_SIZE : windowSize;
+    }
+
+    /**
+     * <h3 class="en-US">Generate HOTP code</h3>
+     * <h3 class="zh-CN">生成基于HMAC算法的一次性密码</h3>
+     *
+     * @param counter <span class="en-US">Counter value</span>
+     *                <span class="zh-CN">计数值</span>
+     * @return <span class="en-US">Generated code, -1 if the Mac cannot be initialized</span>
+     * <span class="zh-CN">生成的一次性密码，如果无法初始化Mac则返回-1</span>
+     */
+    public int generateHOTP(final long counter) {
+        Mac mac = this.mac();
+        if (mac == null) {
+            return Globals.DEFAULT_VALUE_INT;
+        }
+        try {
+            return OtpVerifier.calculate(mac, counter);
+        } finally {
+            mac.reset();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Validate HOTP code</h3>
+     * <h3 class="zh-CN">验证基于HMAC算法的一次性密码</h3>
+     *
+     * @param authCode <span class="en-US">Client generated authenticate code</span>
+     *                 <span class="zh-CN">客户端生成的验证码</span>
+     * @param counter  <span class="en-US">Counter value</span>
+     *                 <span class="zh-CN">计数值</span>
+     * @return <span class="en-US">Validate result</span>
+     * <span class="zh-CN">验证结果</span>
+     */
+    public boolean validateHOTP(final int authCode, final long counter) {
+        if (authCode < Globals.INITIALIZE_INT_VALUE) {
+            return Boolean.FALSE;
+        }
+        int generateCode = this.generateHOTP(counter);
+        return generateCode != Globals.DEFAULT_VALUE_INT && OtpVerifier.codeEquals(generateCode, authCode);
+    }
+
+    /**
+     * <h3 class="en-US">Generate TOTP code of current time</h3>
+     * <h3 class="zh-CN">生成当前时间的基于时间的一次性密码</h3>
+     *
+     * @param fixedTime <span class="en-US">Client fixed time</span>
+     *                  <span class="zh-CN">客户端的修正时间</span>
+     * @return <span class="en-US">Generated code, -1 if the Mac cannot be initialized</span>
+     * <span class="zh-CN">生成的一次性密码，如果无法初始化Mac则返回-1</span>
+     */
+    public int generateTOTP(final long fixedTime) {
+        return this.generateHOTP(this.timeCounter(DateTimeUtils.currentTimeMillis(), fixedTime));
+    }
+
+    /**
+     * <h3 class="en-US">Validate TOTP code</h3>
+     * <h3 class="zh-CN">验证基于时间的一次性密码</h3>
+     *
+     * @param authCode  <span class="en-US">Client generated authenticate code</span>
+     *                  <span class="zh-CN">客户端生成的验证码</span>
+     * @param fixedTime <span class="en-US">Client fixed time</span>
+     *                  <span class="zh-CN">客户端的修正时间</span>
+     * @return <span class="en-US">Validate result</span>
+     * <span class="zh-CN">验证结果</span>
+     */
+    public boolean validateTOTP(final int authCode, final long fixedTime) {
+        return this.validateTOTP(authCode, fixedTime, DateTimeUtils.currentTimeMillis());
+    }
+
+    /**
+     * <h3 class="en-US">Validate TOTP code string</h3>
+     * <span class="en-US">The code string must be 6 digits, the digits are compared by MessageDigest.isEqual</span>
+     * <h3 class="zh-CN">验证基于时间的一次性密码字符串</h3>
+     * <span class="zh-CN">密码字符串必须为6位数字，数字使用MessageDigest.isEqual进行比较</span>
+     *
+     * @param authCode  <span class="en-US">Client generated authenticate code string</span>
+     *                  <span class="zh-CN">客户端生成的验证码字符串</span>
+     * @param fixedTime <span class="en-US">Client fixed time</span>
+     *                  <span class="zh-CN">客户端的修正时间</span>
+     * @return <span class="en-US">Validate result</span>
+     * <span class="zh-CN">验证结果</span>
+     */
+    public boolean validateTOTP(final String authCode, final long fixedTime) {
+        if (authCode == null || authCode.length() != CODE_DIGITS) {
+            return Boolean.FALSE;
+        }
+        byte[] codeBytes = new byte[CODE_DIGITS];
+        for (int i = 0; i < CODE_DIGITS; i++) {
+            char digit = authCode.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return Boolean.FALSE;
+            }
+            codeBytes[i] = (byte) digit;
+        }
+        Mac mac = this.mac();
+        if (mac == null) {
+            return Boolean.FALSE;
+        }
+        long counter = this.timeCounter(DateTimeUtils.currentTimeMillis(), fixedTime);
+        byte[] generateBytes = new byte[CODE_DIGITS];
+        try {
+            for (int i = 0; i <= 2 * this.windowSize; i++) {
+                OtpVerifier.digits(OtpVerifier.calculate(mac, counter + OtpVerifier.windowOffset(i)), generateBytes);
+                if (MessageDigest.isEqual(generateBytes, codeBytes)) {
+                    return Boolean.TRUE;
+                }
+            }
+        } finally {
+            mac.reset();
+        }
+        return Boolean.FALSE;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate fixed time by given authenticate code</h3>
+     * <span class="en-US">Probing the whole hours between -12 and 12 from a single time sample</span>
+     * <h3 class="zh-CN">根据给定的验证码计算修正时间</h3>
+     * <span class="zh-CN">根据同一个时间采样探测-12到12之间的整小时</span>
+     *
+     * @param authCode <span class="en-US">Client generated authenticate code</span>
+     *                 <span class="zh-CN">客户端生成的验证码</span>
+     * @return <span class="en-US">Calculated fixed time, -1 if not found</span>
+     * <span class="zh-CN">计算出的修正时间，未找到时返回-1</span>
+     */
+    public long calculateFixedTime(final int authCode) {
+        Mac mac = this.mac();
+        if (mac == null || authCode < Globals.INITIALIZE_INT_VALUE) {
+            return Globals.DEFAULT_VALUE_INT;
+        }
+        long currentTime = DateTimeUtils.currentTimeMillis();
+        try {
+            for (int i = -FIXED_HOUR_RANGE; i <= FIXED_HOUR_RANGE; i++) {
+                long fixedTime = i * 60 * 60 * 1000L;
+                if (OtpVerifier.codeEquals(OtpVerifier.calculate(mac, this.timeCounter(currentTime, fixedTime)),
+                        authCode)) {
+                    return fixedTime;
+                }
+            }
+        } finally {
+            mac.reset();
+        }
+        return Globals.DEFAULT_VALUE_INT;
+    }
+
+    /**
+     * <h3 class="en-US">Validate TOTP codes of many verifiers</h3>
+     * <span class="en-US">All codes are validated by using a single time sample, each element of result array is the validate result of the verifier at the same index</span>
+     * <h3 class="zh-CN">验证多个验证器的基于时间的一次性密码</h3>
+     * <span class="zh-CN">使用同一个时间采样验证所有密码，结果数组中的每个元素为相同索引验证器的验证结果</span>
+     *
+     * @param verifiers  <span class="en-US">Verifier list</span>
+     *                   <span class="zh-CN">验证器列表</span>
+     * @param authCodes  <span class="en-US">Client generated authenticate codes</span>
+     *                   <span class="zh-CN">客户端生成的验证码数组</span>
+     * @param fixedTimes <span class="en-US">Client fixed times, all fixed times are 0 if null</span>
+     *                   <span class="zh-CN">客户端的修正时间数组，为null时所有修正时间为0</span>
+     * @return <span class="en-US">Validate results</span>
+     * <span class="zh-CN">验证结果数组</span>
+     */
+    public static boolean[] validateTOTP(final List<OtpVerifier> verifiers, final int[] authCodes,
+                                         final long[] fixedTimes) {
+        if (verifiers.size() != authCodes.length || (fixedTimes != null && fixedTimes.length != authCodes.length)) {
+            throw new IllegalArgumentException("Length of verifiers, codes and fixed times not match");
+        }
+        long currentTime = DateTimeUtils.currentTimeMillis();
+        boolean[] results = new boolean[authCodes.length];
+        for (int i = 0; i < authCodes.length; i++) {
+            results[i] = verifiers.get(i).validateTOTP(authCodes[i],
+                    (fixedTimes == null) ? 0L : fixedTimes[i], currentTime);
+        }
+        return results;
+    }
+
+    /**
+     * <h3 class="en-US">Validate TOTP code at given time</h3>
+     * <span class="en-US">Slots are evaluated from the center of window, return at the first matched slot</span>
+     * <h3 class="zh-CN">在给定的时间验证基于时间的一次性密码</h3>
+     * <span class="zh-CN">从窗口中心开始计算时间槽，在第一个匹配的时间槽返回</span>
+     *
+     * @param authCode    <span class="en-US">Client generated authenticate code</span>
+     *                    <span class="zh-CN">客户端生成的验证码</span>
+     * @param fixedTime   <span class="en-US">Client fixed time</span>
+     *                    <span class="zh-CN">客户端的修正时间</span>
+     * @param currentTime <span class="en-US">Time sample</span>
+     *                    <span class="zh-CN">时间采样</span>
+     * @return <span class="en-US">Validate result</span>
+     * <span class="zh-CN">验证结果</span>
+     */
+    private boolean validateTOTP(final int authCode, final long fixedTime, final long currentTime) {
+        if (authCode < Globals.INITIALIZE_INT_VALUE || authCode >= CODE_MODULUS) {
+            return Boolean.FALSE;
+        }
+        Mac mac = this.mac();
+        if (mac == null) {
+            return Boolean.FALSE;
+        }
+        long counter = this.timeCounter(currentTime, fixedTime);
+        try {
+            for (int i = 0; i <= 2 * this.windowSize; i++) {
+                if (OtpVerifier.codeEquals(OtpVerifier.calculate(mac, counter + OtpVerifier.windowOffset(i)),
+                        authCode)) {
+                    return Boolean.TRUE;
+                }
+            }
+        } finally {
+            mac.reset();
+        }
+        return Boolean.FALSE;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate time counter</h3>
+     * <h3 class="zh-CN">计算时间计数值</h3>
+     *
+     * @param currentTime <span class="en-US">Time sample</span>
+     *                    <span class="zh-CN">时间采样</span>
+     * @param fixedTime   <span class="en-US">Client fixed time</span>
+     *                    <span class="zh-CN">客户端的修正时间</span>
+     * @return <span class="en-US">Time counter</span>
+     * <span class="zh-CN">时间计数值</span>
+     */
+    private long timeCounter(final long currentTime, final long fixedTime) {
+        return (currentTime + fixedTime) / 1000L / this.syncCount;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve thread confined Mac keyed by current secret</h3>
+     * <h3 class="zh-CN">读取使用当前密钥初始化的线程独占Mac</h3>
+     *
+     * @return <span class="en-US">Mac instance, null if the Mac cannot be initialized</span>
+     * <span class="zh-CN">Mac实例对象，如果无法初始化Mac则返回null</span>
+     */
+    private Mac mac() {
+        MacHolder macHolder = MAC_HOLDERS.get().get(this.calcType);
+        try {
+            if (macHolder == null) {
+                macHolder = new MacHolder(Mac.getInstance(this.calcType.name()));
+                MAC_HOLDERS.get().put(this.calcType, macHolder);
+            }
+            if (macHolder.ownerIdentify != this.verifierIdentify) {
+                macHolder.mac.init(this.secretKey);
+                macHolder.ownerIdentify = this.verifierIdentify;
+            }
+            return macHolder.mac;
+        } catch (GeneralSecurityException e) {
+            LOGGER.error("Initialize_Mac_OTP_Error", this.calcType);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            if (macHolder != null) {
+                macHolder.ownerIdentify = Globals.INITIALIZE_INT_VALUE;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Calculate code by given Mac and counter</h3>
+     * <h3 class="zh-CN">使用给定的Mac和计数值计算密码</h3>
+     *
+     * @param mac     <span class="en-US">Keyed Mac instance</span>
+     *                <span class="zh-CN">已设置密钥的Mac实例对象</span>
+     * @param counter <span class="en-US">Counter value</span>
+     *                <span class="zh-CN">计数值</span>
+     * @return <span class="en-US">Generated code</span>
+     * <span class="zh-CN">生成的一次性密码</span>
+     */
+    private static int calculate(final Mac mac, final long counter) {
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            mac.update((byte) (counter >>> (i * Byte.SIZE)));
+        }
+        byte[] hash = mac.doFinal();
+        int offset = hash[hash.length - 1] & 0xF;
+        int resultCode = ((hash[offset] & 0x7F) << 24) | ((hash[offset + 1] & 0xFF) << 16)
+                | ((hash[offset + 2] & 0xFF) << 8) | (hash[offset + 3] & 0xFF);
+        return resultCode % CODE_MODULUS;
+    }
+
+    /**
+     * <h3 class="en-US">Convert window index to slot offset, order: 0, -1, 1, -2, 2...</h3>
+     * <h3 class="zh-CN">转换窗口索引为时间槽偏移量，顺序为：0, -1, 1, -2, 2...</h3>
+     *
+     * @param index <span class="en-US">Window index</span>
+     *              <span class="zh-CN">窗口索引</span>
+     * @return <span class="en-US">Slot offset</span>
+     * <span class="zh-CN">时间槽偏移量</span>
+     */
+    private static int windowOffset(final int index) {
+        return ((index & 1) == 1) ? -((index + 1) >> 1) : (index >> 1);
+    }
+
+    /**
+     * <h3 class="en-US">Compare the formatted digits of codes by MessageDigest.isEqual</h3>
+     * <h3 class="zh-CN">使用MessageDigest.isEqual比较格式化后的密码数字</h3>
+     *
+     * @param generateCode <span class="en-US">Generated code</span>
+     *                     <span class="zh-CN">生成的密码</span>
+     * @param authCode     <span class="en-US">Client generated authenticate code</span>
+     *                     <span class="zh-CN">客户端生成的验证码</span>
+     * @return <span class="en-US">Compare result</span>
+     * <span class="zh-CN">比较结果</span>
+     */
+    private static boolean codeEquals(final int generateCode, final int authCode) {
+        if (authCode < Globals.INITIALIZE_INT_VALUE || authCode >= CODE_MODULUS) {
+            return Boolean.FALSE;
+        }
+        return MessageDigest.isEqual(OtpVerifier.digits(generateCode, new byte[CODE_DIGITS]),
+                OtpVerifier.digits(authCode, new byte[CODE_DIGITS]));
+    }
+
+    /**
+     * <h3 class="en-US">Format code to fixed length ASCII digits</h3>
+     * <h3 class="zh-CN">格式化密码为固定长度的ASCII数字</h3>
+     *
+     * @param code        <span class="en-US">Code value</span>
+     *                    <span class="zh-CN">密码值</span>
+     * @param digitsBytes <span class="en-US">Target digits bytes</span>
+     *                    <span class="zh-CN">目标数字字节数组</span>
+     * @return <span class="en-US">Target digits bytes</span>
+     * <span class="zh-CN">目标数字字节数组</span>
+     */
+    private static byte[] digits(final int code, final byte[] digitsBytes) {
+        int current = code;
+        for (int i = digitsBytes.length - 1; i >= 0; i--) {
+            digitsBytes[i] = (byte) ('0' + current % 10);
+            current /= 10;
+        }
+        return digitsBytes;
+    }
+
+    /**
+     * <h2 class="en-US">Holder of thread confined Mac</h2>
+     * <h2 class="zh-CN">线程独占Mac的持有者</h2>
+     */
+    private static final class MacHolder {
+        /**
+         * <span class="en-US">Mac instance</span>
+         * <span class="zh-CN">Mac实例对象</span>
+         */
+        private final Mac mac;
+        /**
+         * <span class="en-US">Identify of verifier which keyed the Mac last time, 0 if not keyed</span>
+         * <span class="zh-CN">上次设置Mac密钥的验证器识别代码，未设置密钥时为0</span>
+         */
+        private long ownerIdentify = Globals.INITIALIZE_INT_VALUE;
+
+        /**
+         * <h3 class="en-US">Constructor for MacHolder</h3>
+         * <h3 class="zh-CN">Mac持有者的构造方法</h3>
+         *
+         * @param mac <span class="en-US">Mac instance</span>
+         *            <span class="zh-CN">Mac实例对象</span>
+         */
+        private MacHolder(final Mac mac) {
+            this.mac = mac;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.tree.bk;
+
+import org.nervousync.commons.Globals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h2 class="en-US">BK-tree of 64 bits hash values</h2>
+ * <p class="en-US">
+ *     Burkhard-Keller tree using Hamming distance (<code>Long.bitCount(a ^ b)</code>) as metric. Each child edge is
+ *     labeled with the distance to its parent, so a range query only descends into edges whose label is within
+ *     [d - k, d + k] by the triangle inequality instead of scanning every hash. The nodes are stored in parallel
+ *     arrays with first-child/next-sibling links. Adding values is not thread safe, a fully built tree can be
+ *     shared by concurrent readers.
+ * </p>
+ * <h2 class="zh-CN">64位哈希值的BK树</h2>
+ * <p class="zh-CN">
+ *     使用汉明距离（<code>Long.bitCount(a ^ b)</code>）作为度量的Burkhard-Keller树。每条子节点边标记与父节点的距离，
+ *     根据三角不等式，范围查询只需要进入标记值在[d - k, d + k]之间的边，无需扫描所有哈希值。节点保存在并行数组中，
+ *     使用首子节点/下一兄弟节点链接。添加数据不是线程安全的，构建完成的树可以被多个线程并发读取。
+ * </p>
+ *
+ * @param <T> <span class="en-US">Value type</span>
+ *            <span class="zh-CN">数据类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 13:25:16 $
+ */
+public final class BKTree<T> {
+
+    /**
+     * <span class="en-US">Default node capacity</span>
+     * <span class="zh-CN">默认节点容量</span>
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * <span class="en-US">Hash values of nodes</span>
+     * <span class="zh-CN">节点的哈希值</span>
+     */
+    private long[] hashes;
+    /**
+     * <span class="en-US">Values of nodes</span>
+     * <span class="zh-CN">节点的数据</span>
+     */
+    private Object[] values;
+    /**
+     * <span class="en-US">Distance between node and its parent</span>
+     * <span class="zh-CN">节点与父节点之间的距离</span>
+     */
+    private byte[] distances;
+    /**
+     * <span class="en-US">Index of first child node, -1 for none</span>
+     * <span class="zh-CN">首个子节点的索引，-1表示没有子节点</span>
+     */
+    private int[] firstChildren;
+    /**
+     * <span class="en-US">Index of next sibling node, -1 for none</span>
+     * <span class="zh-CN">下一个兄弟节点的索引，-1表示没有兄弟节点</span>
+     */
+    private int[] nextSiblings;
+    /**
+     * <span class="en-US">Node count</span>
+     * <span class="zh-CN">节点数量</span>
+     */
+    private int size;
+
+    /**
+     * <h3 class="en-US">Constructor for BKTree</h3>
+     * <h3 class="zh-CN">BKTree的构造方法</h3>
+     */
+    public BKTree() {
+        this.hashes = new long[DEFAULT_CAPACITY];
+        this.values = new Object[DEFAULT_CAPACITY];
+        this.distances = new byte[DEFAULT_CAPACITY];
+        this.firstChildren = new int[DEFAULT_CAPACITY];
+        this.nextSiblings = new int[DEFAULT_CAPACITY];
+        this.size = Globals.INITIALIZE_INT_VALUE;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate Hamming distance between given hash values</h3>
+     * <h3 class="zh-CN">计算给定哈希值之间的汉明距离</h3>
+     *
+     * @param hash   <span class="en-US">Hash value</span>
+     *               <span class="zh-CN">哈希值</span>
+     * @param other  <span class="en-US">Other hash value</span>
+     *               <span class="zh-CN">另一个哈希值</span>
+     * @return <span class="en-US">Count of different bits</span>
+     * <span class="zh-CN">不同位的数量</span>
+     */
+    public static int distance(final long hash, final long other) {
+        return Long.bitCount(hash ^ other);
+    }
+
+    /**
+     * <h3 class="en-US">Add hash value and its value to current tree</h3>
+     * <h3 class="zh-CN">添加哈希值及其数据到当前树</h3>
+     *
+     * @param hash  <span class="en-US">Hash value</span>
+     *              <span class="zh-CN">哈希值</span>
+     * @param value <span class="en-US">Value instance</span>
+     *              <span class="zh-CN">数据实例对象</span>
+     */
+    public void add(final long hash, final T value) {
+        int index = this.allocate(hash, value);
+        if (index == 0) {
+            return;
+        }
+        int current = 0;
+        while (true) {
+            int distance = distance(hash, this.hashes[current]);
+            int child = this.firstChildren[current];
+            while (child != Globals.DEFAULT_VALUE_INT && this.distances[child] != distance) {
+                child = this.nextSiblings[child];
+            }
+            if (child == Globals.DEFAULT_VALUE_INT) {
+                this.distances[index] = (byte) distance;
+                this.nextSiblings[index] = this.firstChildren[current];
+                this.firstChildren[current] = index;
+                return;
+            }
+            current = child;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Search values whose hash is within the given distance</h3>
+     * <h3 class="zh-CN">查找哈希值在给定距离以内的数据</h3>
+     *
+     * @param hash        <span class="en-US">Hash value</span>
+     *                    <span class="zh-CN">哈希值</span>
+     * @param maxDistance <span class="en-US">Maximum Hamming distance (inclusive)</span>
+     *                    <span class="zh-CN">最大汉明距离（包含）</span>
+     * @return <span class="en-US">Matched value list</span>
+     * <span class="zh-CN">匹配的数据列表</span>
+     */
+    public List<T> search(final long hash, final int maxDistance) {
+        List<T> results = new ArrayList<>();
+        this.traverse(hash, maxDistance, results);
+        return results;
+    }
+
+    /**
+     * <h3 class="en-US">Check any value's hash is within the given distance</h3>
+     * <h3 class="zh-CN">检查是否存在哈希值在给定距离以内的数据</h3>
+     *
+     * @param hash        <span class="en-US">Hash value</span>
+     *                    <span class="zh-CN">哈希值</span>
+     * @param maxDistance <span class="en-US">Maximum Hamming distance (inclusive)</span>
+     *                    <span class="zh-CN">最大汉明距离（包含）</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    public boolean contains(final long hash, final int maxDistance) {
+        return this.traverse(hash, maxDistance, null);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve count of added values</h3>
+     * <h3 class="zh-CN">获取已添加的数据数量</h3>
+     *
+     * @return <span class="en-US">Count of added values</span>
+     * <span class="zh-CN">已添加的数据数量</span>
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * <h3 class="en-US">Allocate node for given hash value and value</h3>
+     * <h3 class="zh-CN">为给定的哈希值和数据分配节点</h3>
+     *
+     * @param hash  <span class="en-US">Hash value</span>
+     *              <span class="zh-CN">哈希值</span>
+     * @param value <span class="en-US">Value instance</span>
+     *              <span class="zh-CN">数据实例对象</span>
+     * @return <span class="en-US">Allocated node index</span>
+     * <span class="zh-CN">分配的节点索引</span>
+     */
+    private int allocate(final long hash, final T value) {
+        if (this.size == this.hashes.length) {
+            int capacity = this.size * 2;
+            this.hashes = Arrays.copyOf(this.hashes, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+            this.distances = Arrays.copyOf(this.distances, capacity);
+            this.firstChildren = Arrays.copyOf(this.firstChildren, capacity);
+            this.nextSiblings = Arrays.copyOf(this.nextSiblings, capacity);
+        }
+        int index = this.size++;
+        this.hashes[index] = hash;
+        this.values[index] = value;
+        this.firstChildren[index] = Globals.DEFAULT_VALUE_INT;
+        this.nextSiblings[index] = Globals.DEFAULT_VALUE_INT;
+        return index;
+    }
+
+    /**
+     * <h3 class="en-US">Traverse nodes within the given distance</h3>
+     * <h3 class="zh-CN">遍历给定距离以内的节点</h3>
+     *
+     * @param hash        <span class="en-US">Hash value</span>
+     *                    <span class="zh-CN">哈希值</span>
+     * @param maxDistance <span class="en-US">Maximum Hamming distance (inclusive)</span>
+     *                    <span class="zh-CN">最大汉明距离（包含）</span>
+     * @param results     <span class="en-US">Result list, <code>null</code> for stopping at the first match</span>
+     *                    <span class="zh-CN">结果列表，<code>null</code>表示在第一个匹配处停止</span>
+     * @return <span class="en-US">Any node matched</span>
+     * <span class="zh-CN">是否存在匹配的节点</span>
+     */
+    @SuppressWarnings("unchecked")
+    private boolean traverse(final long hash, final int maxDistance, final List<T> results) {
+        if (this.size == 0 || maxDistance < 0) {
+            return Boolean.FALSE;
+        }
+        boolean matched = Boolean.FALSE;
+        int[] stack = new int[Math.min(this.size, DEFAULT_CAPACITY)];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int current = stack[--top];
+            int distance = distance(hash, this.hashes[current]);
+            if (distance <= maxDistance) {
+                if (results == null) {
+                    return Boolean.TRUE;
+                }
+                results.add((T) this.values[current]);
+                matched = Boolean.TRUE;
+            }
+            for (int child = this.firstChildren[current]; child != Globals.DEFAULT_VALUE_INT;
+                 child = this.nextSiblings[child]) {
+                //  Triangle inequality: only the edges within [distance - k, distance + k] may contain matches
+                if (Math.abs(this.distances[child] - distance) <= maxDistance) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+        return matched;
+    }
+}
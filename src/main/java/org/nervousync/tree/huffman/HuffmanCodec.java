@@ -0,0 +1,817 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.tree.huffman;
+
+import org.nervousync.commons.Globals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Bit-packed Huffman codec</h2>
+ * <p class="en-US">
+ *     The code lengths were calculated by a binary heap and limited to 32 bits, the canonical codes were assigned by
+ *     code length and code point order. The code tables were indexed by code point, the encoded bits were packed into
+ *     byte arrays (most significant bit first), and the decoder resolves up to 11 bits per table lookup.
+ * </p>
+ * <h2 class="zh-CN">位压缩的霍夫曼编解码器</h2>
+ * <p class="zh-CN">
+ *     使用二叉堆计算编码长度并限制在32位以内，按照编码长度和码点顺序分配范式霍夫曼编码。
+ *     编码表以码点为索引，编码结果按位压缩到字节数组中（高位在前），解码器每次查表最多解析11位。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 14:12:36 $
+ */
+public final class HuffmanCodec {
+
+    /**
+     * <span class="en-US">Maximum code length</span>
+     * <span class="zh-CN">最大编码长度</span>
+     */
+    private static final int MAX_CODE_LENGTH = 32;
+    /**
+     * <span class="en-US">Maximum bits of decode lookup table</span>
+     * <span class="zh-CN">解码查找表的最大位数</span>
+     */
+    private static final int TABLE_BITS = 11;
+    /**
+     * <span class="en-US">Code points less than this value were indexed by array</span>
+     * <span class="zh-CN">小于此值的码点使用数组索引</span>
+     */
+    private static final int DENSE_LIMIT = 0x10000;
+    /**
+     * <span class="en-US">Bit count of node index in heap key</span>
+     * <span class="zh-CN">堆键值中节点索引的位数</span>
+     */
+    private static final int INDEX_BITS = 22;
+    /**
+     * <span class="en-US">Buffer size of stream reading/writing</span>
+     * <span class="zh-CN">流读写的缓冲区大小</span>
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * <span class="en-US">Symbol code points</span>
+     * <span class="zh-CN">符号的码点</span>
+     */
+    private final int[] symbols;
+    /**
+     * <span class="en-US">Codes of symbols</span>
+     * <span class="zh-CN">符号的编码</span>
+     */
+    private final int[] codes;
+    /**
+     * <span class="en-US">Code lengths of symbols</span>
+     * <span class="zh-CN">符号的编码长度</span>
+     */
+    private final byte[] lengths;
+    /**
+     * <span class="en-US">Symbol index plus one for BMP code points, zero for not exists</span>
+     * <span class="zh-CN">基本多文种平面码点对应的符号索引加一，不存在时为0</span>
+     */
+    private final int[] denseIndex;
+    /**
+     * <span class="en-US">Symbol index for supplementary code points</span>
+     * <span class="zh-CN">增补平面码点对应的符号索引</span>
+     */
+    private final Map<Integer, Integer> sparseIndex;
+    /**
+     * <span class="en-US">Decode trie, child of node n for bit b is trie[2n + b]. Positive value is node index, negative value is -(symbol index + 1) and zero for not exists</span>
+     * <span class="zh-CN">解码字典树，节点n在位b上的子节点为trie[2n + b]。正值为节点索引，负值为-(符号索引 + 1)，0为不存在</span>
+     */
+    private final int[] trie;
+    /**
+     * <span class="en-US">Bits of decode lookup table</span>
+     * <span class="zh-CN">解码查找表的位数</span>
+     */
+    private final int tableBits;
+    /**
+     * <span class="en-US">Decode lookup table. Positive value is (symbol index &lt;&lt; 6 | code length), negative value is -(trie node index) and zero for invalid code</span>
+     * <span class="zh-CN">解码查找表。正值为(符号索引 &lt;&lt; 6 | 编码长度)，负值为-(字典树节点索引)，0为无效编码</span>
+     */
+    private final int[] decodeTable;
+
+    /**
+     * <h3 class="en-US">Private constructor for HuffmanCodec</h3>
+     * <h3 class="zh-CN">HuffmanCodec的私有构造方法</h3>
+     *
+     * @param symbols <span class="en-US">Symbol code points</span>
+     *                <span class="zh-CN">符号的码点</span>
+     * @param codes   <span class="en-US">Codes of symbols</span>
+     *                <span class="zh-CN">符号的编码</span>
+     * @param lengths <span class="en-US">Code lengths of symbols</span>
+     *                <span class="zh-CN">符号的编码长度</span>
+     */
+    private HuffmanCodec(final int[] symbols, final int[] codes, final byte[] lengths) {
+        this.symbols = symbols;
+        this.codes = codes;
+        this.lengths = lengths;
+
+        int denseSize = 0, maxLength = 1;
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i] < DENSE_LIMIT) {
+                denseSize = Math.max(denseSize, symbols[i] + 1);
+            }
+            maxLength = Math.max(maxLength, lengths[i]);
+        }
+        this.denseIndex = new int[denseSize];
+        this.sparseIndex = new HashMap<>();
+        //  Each code adds at most length internal nodes
+        int[] trie = new int[2 * (symbols.length * 2 + 1)];
+        int nodeCount = 1;
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i] < DENSE_LIMIT) {
+                this.denseIndex[symbols[i]] = i + 1;
+            } else {
+                this.sparseIndex.put(symbols[i], i);
+            }
+            int node = 0;
+            for (int depth = lengths[i] - 1; depth >= 0; depth--) {
+                int slot = 2 * node + ((codes[i] >>> depth) & 1);
+                if (depth == 0) {
+                    if (trie[slot] != 0) {
+                        throw new IllegalArgumentException("Huffman code is not prefix free: " + symbols[i]);
+                    }
+                    trie[slot] = -(i + 1);
+                } else {
+                    if (trie[slot] < 0) {
+                        throw new IllegalArgumentException("Huffman code is not prefix free: " + symbols[i]);
+                    }
+                    if (trie[slot] == 0) {
+                        if (2 * nodeCount + 2 > trie.length) {
+                            trie = Arrays.copyOf(trie, trie.length * 2);
+                        }
+                        trie[slot] = nodeCount++;
+                    }
+                    node = trie[slot];
+                }
+            }
+        }
+        this.trie = trie;
+        this.tableBits = Math.min(maxLength, TABLE_BITS);
+        this.decodeTable = new int[1 << this.tableBits];
+        for (int value = 0; value < this.decodeTable.length; value++) {
+            int node = 0, entry = 0;
+            for (int depth = 1; depth <= this.tableBits; depth++) {
+                int child = this.trie[2 * node + ((value >>> (this.tableBits - depth)) & 1)];
+                if (child == 0) {
+                    break;
+                } else if (child < 0) {
+                    entry = ((-child - 1) << 6) | depth;
+                    break;
+                }
+                node = child;
+                if (depth == this.tableBits) {
+                    entry = -node;
+                }
+            }
+            this.decodeTable[value] = entry;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Build canonical Huffman codec by code point frequencies of given content</h3>
+     * <h3 class="zh-CN">根据给定内容的码点频率构建范式霍夫曼编解码器</h3>
+     *
+     * @param content <span class="en-US">Content string</span>
+     *                <span class="zh-CN">内容字符串</span>
+     * @return <span class="en-US">Huffman codec instance</span>
+     * <span class="zh-CN">霍夫曼编解码器实例对象</span>
+     * @throws IllegalArgumentException <span class="en-US">If content string is empty</span>
+     *                                  <span class="zh-CN">当内容字符串为空时</span>
+     */
+    public static HuffmanCodec build(final CharSequence content) {
+        if (content == null || content.length() == 0) {
+            throw new IllegalArgumentException("Content is empty");
+        }
+        int[] denseFrequencies = new int[256];
+        Map<Integer, int[]> sparseFrequencies = new HashMap<>();
+        int symbolCount = 0, length = content.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(content, i);
+            i += Character.charCount(codePoint);
+            if (codePoint < DENSE_LIMIT) {
+                if (codePoint >= denseFrequencies.length) {
+                    denseFrequencies = Arrays.copyOf(denseFrequencies,
+                            Math.min(DENSE_LIMIT, Math.max(codePoint + 1, denseFrequencies.length * 2)));
+                }
+                if (denseFrequencies[codePoint]++ == 0) {
+                    symbolCount++;
+                }
+            } else {
+                int[] frequency = sparseFrequencies.computeIfAbsent(codePoint, key -> new int[1]);
+                if (frequency[0]++ == 0) {
+                    symbolCount++;
+                }
+            }
+        }
+
+        int[] symbols = new int[symbolCount];
+        long[] frequencies = new long[symbolCount];
+        int index = 0;
+        for (int codePoint = 0; codePoint < denseFrequencies.length; codePoint++) {
+            if (denseFrequencies[codePoint] > 0) {
+                symbols[index] = codePoint;
+                frequencies[index++] = denseFrequencies[codePoint];
+            }
+        }
+        for (Map.Entry<Integer, int[]> entry : sparseFrequencies.entrySet()) {
+            symbols[index] = entry.getKey();
+            frequencies[index++] = entry.getValue()[0];
+        }
+        return canonical(symbols, codeLengths(frequencies));
+    }
+
+    /**
+     * <h3 class="en-US">Create Huffman codec by given code mapping</h3>
+     * <span class="en-US">The code mapping key is the symbol string, and the value is the code string of '0' and '1'</span>
+     * <h3 class="zh-CN">根据给定的编码映射表创建霍夫曼编解码器</h3>
+     * <span class="zh-CN">编码映射表的键为符号字符串，值为由'0'和'1'组成的编码字符串</span>
+     *
+     * @param codeMapping <span class="en-US">Code mapping table</span>
+     *                    <span class="zh-CN">编码映射表</span>
+     * @return <span class="en-US">Huffman codec instance</span>
+     * <span class="zh-CN">霍夫曼编解码器实例对象</span>
+     * @throws IllegalArgumentException <span class="en-US">If code mapping is empty or code mapping is invalid</span>
+     *                                  <span class="zh-CN">当编码映射表为空或编码映射表无效时</span>
+     */
+    public static HuffmanCodec fromCodeMapping(final Map<String, ?> codeMapping) {
+        if (codeMapping == null || codeMapping.isEmpty()) {
+            throw new IllegalArgumentException("Code mapping is empty");
+        }
+        int[] symbols = new int[codeMapping.size()];
+        int[] codes = new int[codeMapping.size()];
+        byte[] lengths = new byte[codeMapping.size()];
+        int index = 0;
+        for (Map.Entry<String, ?> entry : codeMapping.entrySet()) {
+            String keyword = entry.getKey();
+            String codeString = String.valueOf(entry.getValue());
+            if (keyword.isEmpty() || keyword.codePointCount(0, keyword.length()) != 1
+                    || codeString.isEmpty() || codeString.length() > MAX_CODE_LENGTH) {
+                throw new IllegalArgumentException("Invalid code mapping: " + keyword);
+            }
+            int code = 0;
+            for (int i = 0; i < codeString.length(); i++) {
+                char character = codeString.charAt(i);
+                if (character != '0' && character != '1') {
+                    throw new IllegalArgumentException("Invalid code mapping: " + keyword);
+                }
+                code = (code << 1) | (character - '0');
+            }
+            symbols[index] = keyword.codePointAt(0);
+            codes[index] = code;
+            lengths[index++] = (byte) codeString.length();
+        }
+        return new HuffmanCodec(symbols, codes, lengths);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve code mapping of current codec</h3>
+     * <h3 class="zh-CN">获取当前编解码器的编码映射表</h3>
+     *
+     * @return <span class="en-US">Code mapping table, key is the symbol string, value is the code string of '0' and '1'</span>
+     * <span class="zh-CN">编码映射表，键为符号字符串，值为由'0'和'1'组成的编码字符串</span>
+     */
+    public Map<String, String> codeMapping() {
+        Map<String, String> codeMapping = new LinkedHashMap<>(this.symbols.length * 2);
+        for (int i = 0; i < this.symbols.length; i++) {
+            char[] codeChars = new char[this.lengths[i]];
+            for (int j = 0; j < codeChars.length; j++) {
+                codeChars[j] = (char) ('0' + ((this.codes[i] >>> (codeChars.length - j - 1)) & 1));
+            }
+            codeMapping.put(new String(Character.toChars(this.symbols[i])), new String(codeChars));
+        }
+        return codeMapping;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate encoded bit length of given content</h3>
+     * <h3 class="zh-CN">计算给定内容编码后的位长度</h3>
+     *
+     * @param content <span class="en-US">Content string</span>
+     *                <span class="zh-CN">内容字符串</span>
+     * @return <span class="en-US">Encoded bit length</span>
+     * <span class="zh-CN">编码后的位长度</span>
+     * @throws IllegalArgumentException <span class="en-US">If content contains symbol not exists in current codec</span>
+     *                                  <span class="zh-CN">当内容包含当前编解码器中不存在的符号时</span>
+     */
+    public long bitLength(final CharSequence content) {
+        long bitLength = 0L;
+        int length = content.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(content, i);
+            i += Character.charCount(codePoint);
+            bitLength += this.lengths[this.symbolIndex(codePoint)];
+        }
+        return bitLength;
+    }
+
+    /**
+     * <h3 class="en-US">Encode given content to bit-packed byte array</h3>
+     * <span class="en-US">The last byte was padded with zero bits, the bit length can be calculated by method bitLength</span>
+     * <h3 class="zh-CN">将给定内容编码为按位压缩的字节数组</h3>
+     * <span class="zh-CN">最后一个字节使用0位填充，位长度可以通过bitLength方法计算</span>
+     *
+     * @param content <span class="en-US">Content string</span>
+     *                <span class="zh-CN">内容字符串</span>
+     * @return <span class="en-US">Encoded byte array</span>
+     * <span class="zh-CN">编码后的字节数组</span>
+     * @throws IllegalArgumentException <span class="en-US">If content contains symbol not exists in current codec or encoded data is too large</span>
+     *                                  <span class="zh-CN">当内容包含当前编解码器中不存在的符号或编码后的数据过大时</span>
+     */
+    public byte[] encode(final CharSequence content) {
+        long bitLength = this.bitLength(content);
+        if (bitLength > (Integer.MAX_VALUE - 8) * 8L) {
+            throw new IllegalArgumentException("Encoded data is too large: " + bitLength);
+        }
+        byte[] dataBytes = new byte[(int) ((bitLength + 7) >>> 3)];
+        int position = 0, bitCount = 0, length = content.length();
+        long accumulator = 0L;
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(content, i);
+            i += Character.charCount(codePoint);
+            int index = this.symbolIndex(codePoint);
+            accumulator = (accumulator << this.lengths[index]) | (this.codes[index] & 0xFFFFFFFFL);
+            bitCount += this.lengths[index];
+            while (bitCount >= 8) {
+                bitCount -= 8;
+                dataBytes[position++] = (byte) (accumulator >>> bitCount);
+            }
+        }
+        if (bitCount > 0) {
+            dataBytes[position] = (byte) (accumulator << (8 - bitCount));
+        }
+        return dataBytes;
+    }
+
+    /**
+     * <h3 class="en-US">Encode given content and write bit-packed data to given output stream</h3>
+     * <span class="en-US">The last byte was padded with zero bits</span>
+     * <h3 class="zh-CN">编码给定内容并将按位压缩的数据写入给定的输出流</h3>
+     * <span class="zh-CN">最后一个字节使用0位填充</span>
+     *
+     * @param content      <span class="en-US">Content string</span>
+     *                     <span class="zh-CN">内容字符串</span>
+     * @param outputStream <span class="en-US">Target output stream</span>
+     *                     <span class="zh-CN">目标输出流</span>
+     * @return <span class="en-US">Encoded bit length</span>
+     * <span class="zh-CN">编码后的位长度</span>
+     * @throws IOException <span class="en-US">If write to output stream failed</span>
+     *                     <span class="zh-CN">当写入输出流失败时</span>
+     */
+    public long encode(final CharSequence content, final OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int position = 0, bitCount = 0, length = content.length();
+        long accumulator = 0L, bitLength = 0L;
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(content, i);
+            i += Character.charCount(codePoint);
+            int index = this.symbolIndex(codePoint);
+            accumulator = (accumulator << this.lengths[index]) | (this.codes[index] & 0xFFFFFFFFL);
+            bitCount += this.lengths[index];
+            bitLength += this.lengths[index];
+            while (bitCount >= 8) {
+                bitCount -= 8;
+                buffer[position++] = (byte) (accumulator >>> bitCount);
+                if (position == BUFFER_SIZE) {
+                    outputStream.write(buffer, 0, position);
+                    position = 0;
+                }
+            }
+        }
+        if (bitCount > 0) {
+            buffer[position++] = (byte) (accumulator << (8 - bitCount));
+        }
+        if (position > 0) {
+            outputStream.write(buffer, 0, position);
+        }
+        return bitLength;
+    }
+
+    /**
+     * <h3 class="en-US">Decode given bit-packed byte array</h3>
+     * <h3 class="zh-CN">解码给定的按位压缩字节数组</h3>
+     *
+     * @param dataBytes <span class="en-US">Encoded byte array</span>
+     *                  <span class="zh-CN">编码后的字节数组</span>
+     * @param bitLength <span class="en-US">Encoded bit length</span>
+     *                  <span class="zh-CN">编码后的位长度</span>
+     * @return <span class="en-US">Decoded string</span>
+     * <span class="zh-CN">解码后的字符串</span>
+     * @throws IllegalArgumentException <span class="en-US">If encoded data is invalid</span>
+     *                                  <span class="zh-CN">当编码数据无效时</span>
+     */
+    public String decode(final byte[] dataBytes, final long bitLength) {
+        if (bitLength > dataBytes.length * 8L) {
+            throw new IllegalArgumentException("Bit length out of data range: " + bitLength);
+        }
+        try {
+            return this.decode(new BitReader(dataBytes, null), bitLength);
+        } catch (IOException e) {
+            //  Never happens on byte array
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read and decode bit-packed data from given input stream</h3>
+     * <h3 class="zh-CN">从给定的输入流读取并解码按位压缩的数据</h3>
+     *
+     * @param inputStream <span class="en-US">Source input stream</span>
+     *                    <span class="zh-CN">源输入流</span>
+     * @param bitLength   <span class="en-US">Encoded bit length</span>
+     *                    <span class="zh-CN">编码后的位长度</span>
+     * @return <span class="en-US">Decoded string</span>
+     * <span class="zh-CN">解码后的字符串</span>
+     * @throws IOException <span class="en-US">If read from input stream failed</span>
+     *                     <span class="zh-CN">当读取输入流失败时</span>
+     * @throws IllegalArgumentException <span class="en-US">If encoded data is invalid or input stream ended before given bit length</span>
+     *                                  <span class="zh-CN">当编码数据无效或输入流在给定位长度之前结束时</span>
+     */
+    public String decode(final InputStream inputStream, final long bitLength) throws IOException {
+        return this.decode(new BitReader(new byte[BUFFER_SIZE], inputStream), bitLength);
+    }
+
+    /**
+     * <h3 class="en-US">Decode bits from given bit reader</h3>
+     * <h3 class="zh-CN">从给定的位读取器解码数据</h3>
+     *
+     * @param bitReader <span class="en-US">Bit reader instance</span>
+     *                  <span class="zh-CN">位读取器实例对象</span>
+     * @param bitLength <span class="en-US">Encoded bit length</span>
+     *                  <span class="zh-CN">编码后的位长度</span>
+     * @return <span class="en-US">Decoded string</span>
+     * <span class="zh-CN">解码后的字符串</span>
+     * @throws IOException <span class="en-US">If read from input stream failed</span>
+     *                     <span class="zh-CN">当读取输入流失败时</span>
+     */
+    private String decode(final BitReader bitReader, final long bitLength) throws IOException {
+        StringBuilder stringBuilder = new StringBuilder((int) Math.min(bitLength >>> 2, Integer.MAX_VALUE - 8));
+        long remaining = bitLength;
+        int shift = Long.SIZE - this.tableBits;
+        while (remaining > 0L) {
+            bitReader.fill();
+            int entry = this.decodeTable[(int) (bitReader.buffer >>> shift)];
+            int symbolIndex, codeLength;
+            if (entry > 0) {
+                symbolIndex = entry >>> 6;
+                codeLength = entry & 0x3F;
+            } else if (entry < 0) {
+                int node = -entry;
+                codeLength = this.tableBits;
+                symbolIndex = Globals.DEFAULT_VALUE_INT;
+                while (symbolIndex == Globals.DEFAULT_VALUE_INT && codeLength < MAX_CODE_LENGTH) {
+                    int child = this.trie[2 * node + (int) ((bitReader.buffer >>> (Long.SIZE - 1 - codeLength)) & 1L)];
+                    codeLength++;
+                    if (child == 0) {
+                        break;
+                    } else if (child < 0) {
+                        symbolIndex = -child - 1;
+                    } else {
+                        node = child;
+                    }
+                }
+                if (symbolIndex == Globals.DEFAULT_VALUE_INT) {
+                    throw new IllegalArgumentException("Invalid Huffman code at bit: " + (bitLength - remaining));
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid Huffman code at bit: " + (bitLength - remaining));
+            }
+            if (codeLength > remaining) {
+                throw new IllegalArgumentException("Truncated Huffman code at bit: " + (bitLength - remaining));
+            }
+            if (!bitReader.loaded(codeLength)) {
+                //  Input stream reached end before given bit length, the buffer contains zero padding only
+                throw new IllegalArgumentException("Bit length out of data range: " + bitLength);
+            }
+            bitReader.skip(codeLength);
+            remaining -= codeLength;
+            int codePoint = this.symbols[symbolIndex];
+            if (codePoint < DENSE_LIMIT) {
+                stringBuilder.append((char) codePoint);
+            } else {
+                stringBuilder.appendCodePoint(codePoint);
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve symbol index of given code point</h3>
+     * <h3 class="zh-CN">获取给定码点的符号索引</h3>
+     *
+     * @param codePoint <span class="en-US">Code point</span>
+     *                  <span class="zh-CN">码点</span>
+     * @return <span class="en-US">Symbol index</span>
+     * <span class="zh-CN">符号索引</span>
+     * @throws IllegalArgumentException <span class="en-US">If symbol not exists in current codec</span>
+     *                                  <span class="zh-CN">当符号在当前编解码器中不存在时</span>
+     */
+    private int symbolIndex(final int codePoint) {
+        int index;
+        if (codePoint < this.denseIndex.length) {
+            index = this.denseIndex[codePoint] - 1;
+        } else {
+            index = this.sparseIndex.getOrDefault(codePoint, Globals.DEFAULT_VALUE_INT);
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException("Symbol not found in code mapping: " + codePoint);
+        }
+        return index;
+    }
+
+    /**
+     * <h3 class="en-US">Assign canonical codes by code lengths</h3>
+     * <h3 class="zh-CN">根据编码长度分配范式霍夫曼编码</h3>
+     *
+     * @param symbols <span class="en-US">Symbol code points</span>
+     *                <span class="zh-CN">符号的码点</span>
+     * @param lengths <span class="en-US">Code lengths of symbols</span>
+     *                <span class="zh-CN">符号的编码长度</span>
+     * @return <span class="en-US">Huffman codec instance</span>
+     * <span class="zh-CN">霍夫曼编解码器实例对象</span>
+     */
+    private static HuffmanCodec canonical(final int[] symbols, final byte[] lengths) {
+        long[] sortKeys = new long[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            sortKeys[i] = ((long) lengths[i] << 32) | symbols[i];
+        }
+        Arrays.sort(sortKeys);
+        int[] canonicalSymbols = new int[symbols.length];
+        int[] canonicalCodes = new int[symbols.length];
+        byte[] canonicalLengths = new byte[symbols.length];
+        long code = 0L;
+        for (int i = 0; i < sortKeys.length; i++) {
+            canonicalSymbols[i] = (int) sortKeys[i];
+            canonicalLengths[i] = (byte) (sortKeys[i] >>> 32);
+            if (i > 0) {
+                code = (code + 1) << (canonicalLengths[i] - canonicalLengths[i - 1]);
+            }
+            canonicalCodes[i] = (int) code;
+        }
+        return new HuffmanCodec(canonicalSymbols, canonicalCodes, canonicalLengths);
+    }
+
+    /**
+     * <h3 class="en-US">Calculate code lengths by given frequencies</h3>
+     * <span class="en-US">If the longest code exceeds the limit, the frequencies were halved and calculated again</span>
+     * <h3 class="zh-CN">根据给定的频率计算编码长度</h3>
+     * <span class="zh-CN">如果最长的编码超过限制，将频率减半后重新计算</span>
+     *
+     * @param frequencies <span class="en-US">Symbol frequencies</span>
+     *                    <span class="zh-CN">符号的频率</span>
+     * @return <span class="en-US">Code lengths of symbols</span>
+     * <span class="zh-CN">符号的编码长度</span>
+     */
+    private static byte[] codeLengths(final long[] frequencies) {
+        int symbolCount = frequencies.length;
+        byte[] lengths = new byte[symbolCount];
+        if (symbolCount == 1) {
+            lengths[0] = 1;
+            return lengths;
+        }
+        long[] weights = frequencies.clone();
+        int nodeCount = 2 * symbolCount - 1;
+        int[] parents = new int[nodeCount];
+        int[] depths = new int[nodeCount];
+        long[] heap = new long[symbolCount];
+        long indexMask = (1L << INDEX_BITS) - 1;
+        while (true) {
+            int heapSize = 0;
+            for (int i = 0; i < symbolCount; i++) {
+                heapSize = heapPush(heap, heapSize, (weights[i] << INDEX_BITS) | i);
+            }
+            int nextNode = symbolCount;
+            while (heapSize > 1) {
+                long first = heap[0];
+                heapSize = heapPop(heap, heapSize);
+                long second = heap[0];
+                heapSize = heapPop(heap, heapSize);
+                parents[(int) (first & indexMask)] = nextNode;
+                parents[(int) (second & indexMask)] = nextNode;
+                long weight = (first >>> INDEX_BITS) + (second >>> INDEX_BITS);
+                heapSize = heapPush(heap, heapSize, (weight << INDEX_BITS) | nextNode);
+                nextNode++;
+            }
+            //  Parent nodes always have larger index, so the depths can be resolved from root to leaves
+            depths[nodeCount - 1] = 0;
+            int maxDepth = 0;
+            for (int node = nodeCount - 2; node >= 0; node--) {
+                depths[node] = depths[parents[node]] + 1;
+                if (node < symbolCount) {
+                    maxDepth = Math.max(maxDepth, depths[node]);
+                }
+            }
+            if (maxDepth <= MAX_CODE_LENGTH) {
+                for (int i = 0; i < symbolCount; i++) {
+                    lengths[i] = (byte) depths[i];
+                }
+                return lengths;
+            }
+            for (int i = 0; i < symbolCount; i++) {
+                weights[i] = (weights[i] >>> 1) | 1L;
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Push given key into binary min heap</h3>
+     * <h3 class="zh-CN">将给定的键值加入二叉最小堆</h3>
+     *
+     * @param heap     <span class="en-US">Heap array</span>
+     *                 <span class="zh-CN">堆数组</span>
+     * @param heapSize <span class="en-US">Current heap size</span>
+     *                 <span class="zh-CN">当前堆大小</span>
+     * @param key      <span class="en-US">Heap key</span>
+     *                 <span class="zh-CN">堆键值</span>
+     * @return <span class="en-US">New heap size</span>
+     * <span class="zh-CN">新的堆大小</span>
+     */
+    private static int heapPush(final long[] heap, final int heapSize, final long key) {
+        int index = heapSize;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+        return heapSize + 1;
+    }
+
+    /**
+     * <h3 class="en-US">Remove the minimum key from binary min heap</h3>
+     * <h3 class="zh-CN">从二叉最小堆中移除最小的键值</h3>
+     *
+     * @param heap     <span class="en-US">Heap array</span>
+     *                 <span class="zh-CN">堆数组</span>
+     * @param heapSize <span class="en-US">Current heap size</span>
+     *                 <span class="zh-CN">当前堆大小</span>
+     * @return <span class="en-US">New heap size</span>
+     * <span class="zh-CN">新的堆大小</span>
+     */
+    private static int heapPop(final long[] heap, final int heapSize) {
+        int size = heapSize - 1;
+        long key = heap[size];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+        return size;
+    }
+
+    /**
+     * <h2 class="en-US">Bit reader</h2>
+     * <span class="en-US">Keeps at least 57 bits in buffer (most significant bit first), zero bits were filled after end of data</span>
+     * <h2 class="zh-CN">位读取器</h2>
+     * <span class="zh-CN">缓冲区中至少保留57位（高位在前），数据结束后填充0位</span>
+     */
+    private static final class BitReader {
+        /**
+         * <span class="en-US">Data bytes</span>
+         * <span class="zh-CN">数据字节数组</span>
+         */
+        private final byte[] dataBytes;
+        /**
+         * <span class="en-US">Source input stream, null for reading byte array</span>
+         * <span class="zh-CN">源输入流，读取字节数组时为null</span>
+         */
+        private final InputStream inputStream;
+        /**
+         * <span class="en-US">Read position of data bytes</span>
+         * <span class="zh-CN">数据字节数组的读取位置</span>
+         */
+        private int position = 0;
+        /**
+         * <span class="en-US">Limit of data bytes</span>
+         * <span class="zh-CN">数据字节数组的结束位置</span>
+         */
+        private int limit;
+        /**
+         * <span class="en-US">Bit buffer</span>
+         * <span class="zh-CN">位缓冲区</span>
+         */
+        private long buffer = 0L;
+        /**
+         * <span class="en-US">Available bit count in bit buffer</span>
+         * <span class="zh-CN">位缓冲区中的可用位数</span>
+         */
+        private int available = 0;
+        /**
+         * <span class="en-US">Input stream reached end</span>
+         * <span class="zh-CN">输入流已读取完毕</span>
+         */
+        private boolean endOfStream = Boolean.FALSE;
+        /**
+         * <span class="en-US">Count of bits loaded from data, not including zero padding</span>
+         * <span class="zh-CN">从数据中加载的位数，不包含填充的0位</span>
+         */
+        private long loadedBits = 0L;
+        /**
+         * <span class="en-US">Count of consumed bits</span>
+         * <span class="zh-CN">已消耗的位数</span>
+         */
+        private long consumedBits = 0L;
+
+        /**
+         * <h3 class="en-US">Constructor for BitReader</h3>
+         * <h3 class="zh-CN">BitReader的构造方法</h3>
+         *
+         * @param dataBytes   <span class="en-US">Data bytes or read buffer of input stream</span>
+         *                    <span class="zh-CN">数据字节数组或输入流的读取缓冲区</span>
+         * @param inputStream <span class="en-US">Source input stream, null for reading byte array</span>
+         *                    <span class="zh-CN">源输入流，读取字节数组时为null</span>
+         */
+        BitReader(final byte[] dataBytes, final InputStream inputStream) {
+            this.dataBytes = dataBytes;
+            this.inputStream = inputStream;
+            this.limit = (inputStream == null) ? dataBytes.length : 0;
+        }
+
+        /**
+         * <h3 class="en-US">Fill the bit buffer</h3>
+         * <h3 class="zh-CN">填充位缓冲区</h3>
+         *
+         * @throws IOException <span class="en-US">If read from input stream failed</span>
+         *                     <span class="zh-CN">当读取输入流失败时</span>
+         */
+        void fill() throws IOException {
+            while (this.available <= 56) {
+                if (this.position == this.limit && this.inputStream != null && !this.endOfStream) {
+                    int readLength = this.inputStream.read(this.dataBytes);
+                    this.endOfStream = (readLength == Globals.DEFAULT_VALUE_INT);
+                    this.limit = Math.max(readLength, 0);
+                    this.position = 0;
+                }
+                long value = 0L;
+                if (this.position < this.limit) {
+                    value = this.dataBytes[this.position++] & 0xFFL;
+                    this.loadedBits += 8;
+                }
+                this.buffer |= value << (56 - this.available);
+                this.available += 8;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Check given bit count was loaded from data</h3>
+         * <h3 class="zh-CN">检查给定的位数是否已从数据中加载</h3>
+         *
+         * @param bitCount <span class="en-US">Bit count</span>
+         *                 <span class="zh-CN">位数</span>
+         * @return <span class="en-US"><code>true</code> if the next bits are data bits, <code>false</code> if they contain zero padding</span>
+         * <span class="zh-CN">如果后续位均为数据位返回<code>true</code>，如果包含填充的0位返回<code>false</code></span>
+         */
+        boolean loaded(final int bitCount) {
+            return this.consumedBits + bitCount <= this.loadedBits;
+        }
+
+        /**
+         * <h3 class="en-US">Skip given bit count</h3>
+         * <h3 class="zh-CN">跳过给定的位数</h3>
+         *
+         * @param bitCount <span class="en-US">Bit count</span>
+         *                 <span class="zh-CN">位数</span>
+         */
+        void skip(final int bitCount) {
+            this.buffer <<= bitCount;
+            this.available -= bitCount;
+            this.consumedBits += bitCount;
+        }
+    }
+}
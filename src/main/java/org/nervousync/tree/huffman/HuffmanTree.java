@@ -19,28 +19,24 @@ package org.nervousync.tree.huffman;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.StringUtils;
 
+import java.util.Comparator;
 import java.util.Hashtable;
 import java.util.Optional;
+import java.util.PriorityQueue;
 
 /**
  * <h2 class="en-US">Huffman Tree</h2>
  * <h2 class="zh-CN">霍夫曼树</h2>
- * .0
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Nov 3, 2017 16:39:41 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 14:40:19 $
  */
 public final class HuffmanTree {
     /**
-     * <span class="en-US">Node counter</span>
-     * <span class="zh-CN">节点计数器</span>
+     * <span class="en-US">Priority queue of nodes, ordered by frequency</span>
+     * <span class="zh-CN">按照权重排序的节点优先队列</span>
      */
-    private int nodeCount = 0;
-    /**
-     * <span class="en-US">Root node instance</span>
-     * <span class="zh-CN">根节点实例对象</span>
-     */
-    private Node rootNode = null;
+    private final PriorityQueue<Node> nodeQueue = new PriorityQueue<>(Comparator.comparingInt(Node::getFrequency));
     /**
      * <span class="en-US">Code mapping table</span>
      * <span class="zh-CN">编码映射表</span>
@@ -73,33 +69,7 @@ public final class HuffmanTree {
      *                    <span class="zh-CN">即将插入当前霍夫曼树的霍夫曼节点</span>
      */
     public void insertNode(final Node huffmanNode) {
-        if (this.rootNode == null) {
-            this.rootNode = huffmanNode;
-        } else {
-            Node currentNode = this.rootNode;
-            Node previousNode = null;
-
-            while (currentNode.getFrequency() < huffmanNode.getFrequency()) {
-                previousNode = currentNode;
-                if (currentNode.getNextNode() == null) {
-                    currentNode = null;
-                    break;
-                } else {
-                    currentNode = currentNode.getNextNode();
-                }
-            }
-
-            if (previousNode == null) {
-                huffmanNode.setNextNode(this.rootNode);
-                this.rootNode = huffmanNode;
-            } else if (currentNode == null) {
-                previousNode.setNextNode(huffmanNode);
-            } else {
-                previousNode.setNextNode(huffmanNode);
-                huffmanNode.setNextNode(currentNode);
-            }
-        }
-        this.nodeCount++;
+        this.nodeQueue.add(huffmanNode);
     }
 
     /**
@@ -107,10 +77,11 @@ public final class HuffmanTree {
      * <h3 class="zh-CN">构建编码映射表</h3>
      */
     public void build() {
-        while (this.nodeCount > 1) {
+        while (this.nodeQueue.size() > 1) {
             this.mergeNode();
         }
-        this.buildCodeMapping(this.rootNode, Globals.DEFAULT_VALUE_STRING);
+        Optional.ofNullable(this.nodeQueue.peek())
+                .ifPresent(rootNode -> this.buildCodeMapping(rootNode, Globals.DEFAULT_VALUE_STRING));
     }
 
     /**
@@ -145,13 +116,13 @@ public final class HuffmanTree {
             return null;
         }
 
-        String string = content;
-        StringBuilder stringBuilder = new StringBuilder();
-
-        while (!string.isEmpty()) {
-            String keyword = String.valueOf(string.charAt(0));
-            stringBuilder.append(this.codeMapping.get(keyword));
-            string = string.substring(1);
+        StringBuilder stringBuilder = new StringBuilder(content.length() * 4);
+        int length = content.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = content.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            stringBuilder.append(this.codeMapping.get(content.substring(i, i + charCount)));
+            i += charCount;
         }
 
         return new Result(this.codeMapping, stringBuilder.toString());
@@ -180,8 +151,8 @@ public final class HuffmanTree {
      * <h3 class="zh-CN">合并两个权重最低的节点，并将合并后的节点添加到霍夫曼树中</h3>
      */
     private void mergeNode() {
-        Node leftNode = this.pollNode();
-        Node rightNode = this.pollNode();
+        Node leftNode = this.nodeQueue.poll();
+        Node rightNode = this.nodeQueue.poll();
 
         if (leftNode != null && rightNode != null) {
             Node mergeNode = new Node(leftNode.getFrequency() + rightNode.getFrequency());
@@ -191,23 +162,6 @@ public final class HuffmanTree {
         }
     }
 
-    /**
-     * <h3 class="en-US">Retrieves and removes the head of this queue</h3>
-     * <h3 class="zh-CN">取出并移除当前队列的第一个节点</h3>
-     *
-     * @return <span class="en-US">Retrieved node or returns null if this queue is empty.</span>
-     * <span class="zh-CN">取出的节点，如果队列为空则返回null。</span>
-     */
-    private Node pollNode() {
-        if (this.rootNode == null) {
-            return null;
-        }
-        Node removeNode = this.rootNode;
-        this.rootNode = this.rootNode.getNextNode();
-        this.nodeCount--;
-        return removeNode;
-    }
-
     /**
      * <h2 class="en-US">Huffman Node</h2>
      * <h2 class="zh-CN">霍夫曼节点</h2>
@@ -395,7 +349,22 @@ public final class HuffmanTree {
          * <span class="en-US">Result string</span>
          * <span class="zh-CN">编码字符串</span>
          */
-        private final String huffmanValue;
+        private String huffmanValue;
+        /**
+         * <span class="en-US">Huffman codec instance</span>
+         * <span class="zh-CN">霍夫曼编解码器实例对象</span>
+         */
+        private HuffmanCodec huffmanCodec;
+        /**
+         * <span class="en-US">Bit-packed result bytes</span>
+         * <span class="zh-CN">按位压缩的编码结果字节数组</span>
+         */
+        private byte[] encodedBytes;
+        /**
+         * <span class="en-US">Bit length of result</span>
+         * <span class="zh-CN">编码结果的位长度</span>
+         */
+        private final long bitLength;
 
         /**
          * <h3 class="en-US">Constructor method for HuffmanResult</h3>
@@ -411,6 +380,39 @@ public final class HuffmanTree {
                 this.codeMapping.putAll(codeMapping);
             }
             this.huffmanValue = huffmanValue;
+            this.bitLength = (huffmanValue == null) ? 0L : huffmanValue.length();
+        }
+
+        /**
+         * <h3 class="en-US">Constructor method for HuffmanResult</h3>
+         * <h3 class="zh-CN">HuffmanResult构造方法</h3>
+         *
+         * @param huffmanCodec <span class="en-US">Huffman codec instance</span>
+         *                     <span class="zh-CN">霍夫曼编解码器实例对象</span>
+         * @param encodedBytes <span class="en-US">Bit-packed result bytes</span>
+         *                     <span class="zh-CN">按位压缩的编码结果字节数组</span>
+         * @param bitLength    <span class="en-US">Bit length of result</span>
+         *                     <span class="zh-CN">编码结果的位长度</span>
+         */
+        public Result(final HuffmanCodec huffmanCodec, final byte[] encodedBytes, final long bitLength) {
+            this.codeMapping.putAll(huffmanCodec.codeMapping());
+            this.huffmanCodec = huffmanCodec;
+            this.encodedBytes = encodedBytes;
+            this.bitLength = bitLength;
+        }
+
+        /**
+         * <h3 class="en-US">Decode current result to original string</h3>
+         * <h3 class="zh-CN">将当前编码结果解码为原始字符串</h3>
+         *
+         * @return <span class="en-US">Decoded string</span>
+         * <span class="zh-CN">解码后的字符串</span>
+         */
+        public String decode() {
+            if (this.bitLength == 0L) {
+                return Globals.DEFAULT_VALUE_STRING;
+            }
+            return this.getHuffmanCodec().decode(this.getEncodedBytes(), this.bitLength);
         }
 
         /**
@@ -443,7 +445,62 @@ public final class HuffmanTree {
          * <span class="zh-CN">编码字符串</span>
          */
         public String getHuffmanValue() {
-            return huffmanValue;
+            if (this.huffmanValue == null && this.encodedBytes != null) {
+                if (this.bitLength > Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Result string is too large: " + this.bitLength);
+                }
+                char[] valueChars = new char[(int) this.bitLength];
+                for (int i = 0; i < valueChars.length; i++) {
+                    valueChars[i] = (char) ('0' + ((this.encodedBytes[i >>> 3] >>> (7 - (i & 7))) & 1));
+                }
+                this.huffmanValue = new String(valueChars);
+            }
+            return this.huffmanValue;
+        }
+
+        /**
+         * <h3 class="en-US">Getter method for bit-packed result bytes</h3>
+         * <h3 class="zh-CN">按位压缩的编码结果字节数组的Getter方法</h3>
+         *
+         * @return <span class="en-US">Bit-packed result bytes, the last byte was padded with zero bits</span>
+         * <span class="zh-CN">按位压缩的编码结果字节数组，最后一个字节使用0位填充</span>
+         */
+        public byte[] getEncodedBytes() {
+            if (this.encodedBytes == null) {
+                byte[] dataBytes = new byte[(int) ((this.bitLength + 7) >>> 3)];
+                for (int i = 0; i < this.bitLength; i++) {
+                    if (this.huffmanValue.charAt(i) == '1') {
+                        dataBytes[i >>> 3] |= (byte) (0x80 >>> (i & 7));
+                    }
+                }
+                this.encodedBytes = dataBytes;
+            }
+            return this.encodedBytes;
+        }
+
+        /**
+         * <h3 class="en-US">Getter method for bit length of result</h3>
+         * <h3 class="zh-CN">编码结果位长度的Getter方法</h3>
+         *
+         * @return <span class="en-US">Bit length of result</span>
+         * <span class="zh-CN">编码结果的位长度</span>
+         */
+        public long getBitLength() {
+            return this.bitLength;
+        }
+
+        /**
+         * <h3 class="en-US">Getter method for Huffman codec</h3>
+         * <h3 class="zh-CN">霍夫曼编解码器的Getter方法</h3>
+         *
+         * @return <span class="en-US">Huffman codec instance</span>
+         * <span class="zh-CN">霍夫曼编解码器实例对象</span>
+         */
+        public HuffmanCodec getHuffmanCodec() {
+            if (this.huffmanCodec == null) {
+                this.huffmanCodec = HuffmanCodec.fromCodeMapping(this.codeMapping);
+            }
+            return this.huffmanCodec;
         }
     }
 }
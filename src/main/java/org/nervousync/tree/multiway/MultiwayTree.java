@@ -18,19 +18,38 @@
 package org.nervousync.tree.multiway;
 
 import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
 import org.nervousync.enumerations.tree.RecursionType;
 import org.nervousync.utils.ObjectUtils;
 
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <h2 class="en-US">Multi-node Tree</h2>
+ * <span class="en-US">
+ *     Sibling nodes were unique by node value, the child lookup switches to hash index when the child count is large.
+ *     The value to node index of the whole tree is optional, enable it by method enableIndex.
+ *     Subtree size and node depth were maintained on insert and remove, the traversal iterators were evaluated lazily
+ *     without recursion.
+ * </span>
  * <h2 class="zh-CN">多叉树</h2>
+ * <span class="zh-CN">
+ *     同级节点的节点值唯一，子节点数量较多时使用哈希索引查找子节点。整棵树的节点值索引为可选项，通过enableIndex方法启用。
+ *     子树大小和节点深度在插入和删除时维护，遍历迭代器为惰性求值且不使用递归。
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Nov 3, 2017 17:15:52 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 15:08:27 $
  */
-public final class MultiwayTree<T> {
+public final class MultiwayTree<T> implements Iterable<T> {
+
+	/**
+	 * <span class="en-US">Child count to create the child hash index</span>
+	 * <span class="zh-CN">创建子节点哈希索引的子节点数量</span>
+	 */
+	private static final int CHILD_INDEX_THRESHOLD = 8;
 
 	/**
 	 * <span class="en-US">Node value</span>
@@ -43,10 +62,30 @@ public final class MultiwayTree<T> {
 	 */
 	private MultiwayTree<T> parentNode;
 	/**
-	 * <span class="en-US">Child node list</span>
-	 * <span class="zh-CN">子节点列表</span>
+	 * <span class="en-US">Child node list, created when the first child node was added</span>
+	 * <span class="zh-CN">子节点列表，添加第一个子节点时创建</span>
+	 */
+	private List<MultiwayTree<T>> childNodes = null;
+	/**
+	 * <span class="en-US">Child node hash index, created when the child count exceeds threshold</span>
+	 * <span class="zh-CN">子节点哈希索引，子节点数量超过阈值时创建</span>
+	 */
+	private Map<Object, MultiwayTree<T>> childIndex = null;
+	/**
+	 * <span class="en-US">Value to node index of the whole tree, null if index was not enabled</span>
+	 * <span class="zh-CN">整棵树的节点值索引，未启用索引时为null</span>
+	 */
+	private NodeIndex<T> nodeIndex = null;
+	/**
+	 * <span class="en-US">Node count of current subtree, including current node</span>
+	 * <span class="zh-CN">当前子树的节点数量，包含当前节点</span>
 	 */
-	private final List<MultiwayTree<T>> childNodes;
+	private int subtreeSize = 1;
+	/**
+	 * <span class="en-US">Depth of current node, root node is 0</span>
+	 * <span class="zh-CN">当前节点的深度，根节点为0</span>
+	 */
+	private int depth = 0;
 
 	/**
 	 * <h3 class="en-US">Constructor method for multi-node tree</h3>
@@ -61,7 +100,9 @@ public final class MultiwayTree<T> {
 
 	/**
 	 * <h3 class="en-US">Constructor method for multi-node tree</h3>
+	 * <span class="en-US">The new node will be added to the child nodes of given parent node</span>
 	 * <h3 class="zh-CN">多叉树构造方法</h3>
+	 * <span class="zh-CN">新节点将被添加到给定父节点的子节点中</span>
 	 *
 	 * @param nodeValue  <span class="en-US">Node value</span>
 	 *                   <span class="zh-CN">节点值</span>
@@ -70,8 +111,9 @@ public final class MultiwayTree<T> {
 	 */
 	public MultiwayTree(final T nodeValue, final MultiwayTree<T> parentNode) {
 		this.nodeValue = nodeValue;
-		this.parentNode = parentNode;
-		this.childNodes = new ArrayList<>();
+		if (parentNode != null) {
+			parentNode.addChild(this);
+		}
 	}
 
 	/**
@@ -87,13 +129,35 @@ public final class MultiwayTree<T> {
 
 	/**
 	 * <h3 class="en-US">Setter method for node value</h3>
+	 * <span class="en-US">The node value must be unique among the sibling nodes</span>
 	 * <h3 class="zh-CN">节点值的Setter方法</h3>
+	 * <span class="zh-CN">节点值在兄弟节点中必须唯一</span>
 	 *
 	 * @param nodeValue <span class="en-US">Node value</span>
 	 *                  <span class="zh-CN">节点值</span>
+	 * @throws IllegalArgumentException <span class="en-US">If a sibling node already has the given node value</span>
+	 *                                  <span class="zh-CN">当兄弟节点已使用给定的节点值时</span>
 	 */
 	public void setNodeValue(T nodeValue) {
+		if (this.parentNode != null) {
+			MultiwayTree<T> existNode = this.parentNode.child(nodeValue);
+			if (existNode != null && existNode != this) {
+				throw new IllegalArgumentException("Sibling node with the same node value exists");
+			}
+		}
+		if (this.nodeIndex != null) {
+			this.nodeIndex.unregister(this);
+		}
+		if (this.parentNode != null && this.parentNode.childIndex != null) {
+			this.parentNode.childIndex.remove(indexKey(this.nodeValue), this);
+		}
 		this.nodeValue = nodeValue;
+		if (this.parentNode != null && this.parentNode.childIndex != null) {
+			this.parentNode.childIndex.put(indexKey(this.nodeValue), this);
+		}
+		if (this.nodeIndex != null) {
+			this.nodeIndex.register(this);
+		}
 	}
 
 	/**
@@ -109,24 +173,133 @@ public final class MultiwayTree<T> {
 
 	/**
 	 * <h3 class="en-US">Setter method for parent node</h3>
+	 * <span class="en-US">Current node will be moved to the child nodes of given parent node, or detached if parent node is null</span>
 	 * <h3 class="zh-CN">父节点的Setter方法</h3>
+	 * <span class="zh-CN">当前节点将被移动到给定父节点的子节点中，如果父节点为null则从当前树中分离</span>
 	 *
 	 * @param parentNode <span class="en-US">Parent node</span>
 	 *                   <span class="zh-CN">父节点</span>
 	 */
 	public void setParentNode(MultiwayTree<T> parentNode) {
-		this.parentNode = parentNode;
+		if (this.parentNode == parentNode) {
+			return;
+		}
+		if (parentNode == null) {
+			this.parentNode.unlink(this);
+		} else {
+			parentNode.addChild(this);
+		}
 	}
 
 	/**
 	 * <h3 class="en-US">Getter method for child node list</h3>
 	 * <h3 class="zh-CN">子节点列表的Getter方法</h3>
 	 *
-	 * @return <span class="en-US">Child node list</span>
-	 * <span class="zh-CN">子节点列表</span>
+	 * @return <span class="en-US">Unmodifiable child node list</span>
+	 * <span class="zh-CN">不可修改的子节点列表</span>
 	 */
 	public List<MultiwayTree<T>> getChildNodes() {
-		return childNodes;
+		return (this.childNodes == null) ? Collections.emptyList() : Collections.unmodifiableList(this.childNodes);
+	}
+
+	/**
+	 * <h3 class="en-US">Node count of current subtree, including current node</h3>
+	 * <h3 class="zh-CN">当前子树的节点数量，包含当前节点</h3>
+	 *
+	 * @return <span class="en-US">Node count</span>
+	 * <span class="zh-CN">节点数量</span>
+	 */
+	public int size() {
+		return this.subtreeSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Depth of current node, root node is 0</h3>
+	 * <h3 class="zh-CN">当前节点的深度，根节点为0</h3>
+	 *
+	 * @return <span class="en-US">Node depth</span>
+	 * <span class="zh-CN">节点深度</span>
+	 */
+	public int depth() {
+		return this.depth;
+	}
+
+	/**
+	 * <h3 class="en-US">Check the value to node index was enabled</h3>
+	 * <h3 class="zh-CN">检查节点值索引是否已启用</h3>
+	 *
+	 * @return <span class="en-US"><code>true</code> if enabled or <code>false</code> for disabled</span>
+	 * <span class="zh-CN">已启用返回<code>true</code>，未启用返回<code>false</code></span>
+	 */
+	public boolean isIndexed() {
+		return this.nodeIndex != null;
+	}
+
+	/**
+	 * <h3 class="en-US">Enable the value to node index of the whole tree</h3>
+	 * <span class="en-US">If the node value was duplicated in different branches, the earliest indexed node will be found</span>
+	 * <h3 class="zh-CN">启用整棵树的节点值索引</h3>
+	 * <span class="zh-CN">如果不同分支中存在相同的节点值，将查找到最早被索引的节点</span>
+	 */
+	public void enableIndex() {
+		if (this.nodeIndex != null) {
+			return;
+		}
+		MultiwayTree<T> rootNode = this;
+		while (rootNode.parentNode != null) {
+			rootNode = rootNode.parentNode;
+		}
+		NodeIndex<T> treeIndex = new NodeIndex<>();
+		Iterator<MultiwayTree<T>> iterator = new PreOrderIterator<>(rootNode);
+		while (iterator.hasNext()) {
+			MultiwayTree<T> treeNode = iterator.next();
+			treeNode.nodeIndex = treeIndex;
+			treeIndex.register(treeNode);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Find child node by given node value</h3>
+	 * <h3 class="zh-CN">根据给定的节点值查找子节点</h3>
+	 *
+	 * @param nodeValue <span class="en-US">Node value</span>
+	 *                  <span class="zh-CN">节点值</span>
+	 * @return <span class="en-US">Found child node or empty Optional if not found</span>
+	 * <span class="zh-CN">查找到的子节点，未找到时返回空的Optional</span>
+	 */
+	public Optional<MultiwayTree<T>> findChild(final T nodeValue) {
+		return Optional.ofNullable(this.child(nodeValue));
+	}
+
+	/**
+	 * <h3 class="en-US">Find node in current subtree by given node value</h3>
+	 * <span class="en-US">Using the value to node index if enabled, otherwise search in pre-order</span>
+	 * <h3 class="zh-CN">根据给定的节点值在当前子树中查找节点</h3>
+	 * <span class="zh-CN">如果已启用节点值索引则使用索引，否则按先序遍历查找</span>
+	 *
+	 * @param nodeValue <span class="en-US">Node value</span>
+	 *                  <span class="zh-CN">节点值</span>
+	 * @return <span class="en-US">Found node or empty Optional if not found</span>
+	 * <span class="zh-CN">查找到的节点，未找到时返回空的Optional</span>
+	 */
+	public Optional<MultiwayTree<T>> findNode(final T nodeValue) {
+		if (this.nodeIndex != null) {
+			MultiwayTree<T> treeNode = this.nodeIndex.find(nodeValue);
+			if (treeNode == null) {
+				return Optional.empty();
+			}
+			if (this.contains(treeNode)) {
+				return Optional.of(treeNode);
+			}
+		}
+		Iterator<MultiwayTree<T>> iterator = new PreOrderIterator<>(this);
+		while (iterator.hasNext()) {
+			MultiwayTree<T> treeNode = iterator.next();
+			if (ObjectUtils.nullSafeEquals(treeNode.nodeValue, nodeValue)) {
+				return Optional.of(treeNode);
+			}
+		}
+		return Optional.empty();
 	}
 
 	/**
@@ -137,9 +310,8 @@ public final class MultiwayTree<T> {
 	 *                  <span class="zh-CN">节点值</span>
 	 */
 	public void addChild(final T nodeValue) {
-		if (this.childNodes.stream().noneMatch(treeNode ->
-				ObjectUtils.nullSafeEquals(treeNode.getNodeValue(), nodeValue))) {
-			this.childNodes.add(new MultiwayTree<>(nodeValue, this));
+		if (this.child(nodeValue) == null) {
+			this.link(new MultiwayTree<>(nodeValue), Globals.DEFAULT_VALUE_INT);
 		}
 	}
 
@@ -151,35 +323,131 @@ public final class MultiwayTree<T> {
 	 *                    <span class="zh-CN">父节点值</span>
 	 * @param nodeValue   <span class="en-US">Node value</span>
 	 *                    <span class="zh-CN">节点值</span>
+	 * @return <span class="en-US"><code>true</code> if parent node was found or <code>false</code> for not found</span>
+	 * <span class="zh-CN">找到父节点返回<code>true</code>，未找到返回<code>false</code></span>
 	 */
 	public boolean addChild(final T parentValue, final T nodeValue) {
-		if (ObjectUtils.nullSafeEquals(this.nodeValue, parentValue)) {
-			this.addChild(nodeValue);
-			return Boolean.TRUE;
-		}
-		return this.childNodes.stream().anyMatch(treeNode -> treeNode.addChild(parentValue, nodeValue));
+		return this.findNode(parentValue)
+				.map(parentNode -> {
+					parentNode.addChild(nodeValue);
+					return Boolean.TRUE;
+				})
+				.orElse(Boolean.FALSE);
 	}
 
 	/**
 	 * <h3 class="en-US">Add child node</h3>
+	 * <span class="en-US">The child node with same node value will be replaced</span>
 	 * <h3 class="zh-CN">添加子节点</h3>
+	 * <span class="zh-CN">节点值相同的子节点将被替换</span>
 	 *
 	 * @param treeNode <span class="en-US">Child node instance</span>
 	 *                 <span class="zh-CN">子节点</span>
+	 * @throws IllegalArgumentException <span class="en-US">If given node is current node or ancestor of current node</span>
+	 *                                  <span class="zh-CN">当给定节点为当前节点或当前节点的祖先节点时</span>
 	 */
 	public void addChild(@Nonnull final MultiwayTree<T> treeNode) {
-		treeNode.setParentNode(this);
-		if (this.childNodes.stream().noneMatch(existNode ->
-				ObjectUtils.nullSafeEquals(treeNode.getNodeValue(), existNode.getNodeValue()))) {
-			this.childNodes.add(treeNode);
-		} else {
-			this.childNodes.replaceAll(existNode -> {
-				if (ObjectUtils.nullSafeEquals(treeNode.getNodeValue(), existNode.getNodeValue())) {
-					return treeNode;
-				}
-				return existNode;
-			});
+		if (treeNode == this || (treeNode.subtreeSize > 1 && treeNode.contains(this))) {
+			throw new IllegalArgumentException("Child node is current node or ancestor of current node");
+		}
+		MultiwayTree<T> existNode = this.child(treeNode.getNodeValue());
+		if (existNode == treeNode) {
+			return;
+		}
+		if (treeNode.parentNode != null) {
+			treeNode.parentNode.unlink(treeNode);
+		}
+		int position = Globals.DEFAULT_VALUE_INT;
+		if (existNode != null) {
+			position = this.childNodes.indexOf(existNode);
+			this.unlink(existNode);
+		}
+		this.link(treeNode, position);
+	}
+
+	/**
+	 * <h3 class="en-US">Remove child node by given node value</h3>
+	 * <h3 class="zh-CN">根据给定的节点值移除子节点</h3>
+	 *
+	 * @param nodeValue <span class="en-US">Node value</span>
+	 *                  <span class="zh-CN">节点值</span>
+	 * @return <span class="en-US"><code>true</code> if child node was removed or <code>false</code> for not found</span>
+	 * <span class="zh-CN">移除子节点返回<code>true</code>，未找到返回<code>false</code></span>
+	 */
+	public boolean removeChild(final T nodeValue) {
+		MultiwayTree<T> existNode = this.child(nodeValue);
+		if (existNode == null) {
+			return Boolean.FALSE;
 		}
+		this.unlink(existNode);
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h3 class="en-US">Iterator of node values in pre-order</h3>
+	 * <h3 class="zh-CN">先序遍历的节点值迭代器</h3>
+	 *
+	 * @return <span class="en-US">Node value iterator</span>
+	 * <span class="zh-CN">节点值迭代器</span>
+	 */
+	@Nonnull
+	@Override
+	public Iterator<T> iterator() {
+		return this.iterator(RecursionType.Normal);
+	}
+
+	/**
+	 * <h3 class="en-US">Lazily evaluated iterator of node values</h3>
+	 * <h3 class="zh-CN">惰性求值的节点值迭代器</h3>
+	 *
+	 * @param recursionType <span class="en-US">Recursive type enumeration value</span>
+	 *                      <span class="zh-CN">递归类型枚举值</span>
+	 * @return <span class="en-US">Node value iterator</span>
+	 * <span class="zh-CN">节点值迭代器</span>
+	 */
+	public Iterator<T> iterator(final RecursionType recursionType) {
+		Iterator<MultiwayTree<T>> nodeIterator = this.nodeIterator(recursionType);
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return nodeIterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return nodeIterator.next().getNodeValue();
+			}
+		};
+	}
+
+	/**
+	 * <h3 class="en-US">Lazily evaluated iterator of tree nodes</h3>
+	 * <h3 class="zh-CN">惰性求值的树节点迭代器</h3>
+	 *
+	 * @param recursionType <span class="en-US">Recursive type enumeration value</span>
+	 *                      <span class="zh-CN">递归类型枚举值</span>
+	 * @return <span class="en-US">Tree node iterator</span>
+	 * <span class="zh-CN">树节点迭代器</span>
+	 */
+	public Iterator<MultiwayTree<T>> nodeIterator(final RecursionType recursionType) {
+		if (recursionType == RecursionType.Breadth) {
+			return new BreadthIterator<>(this);
+		}
+		return new PreOrderIterator<>(this);
+	}
+
+	/**
+	 * <h3 class="en-US">Sequential stream of node values</h3>
+	 * <h3 class="zh-CN">节点值的顺序流</h3>
+	 *
+	 * @param recursionType <span class="en-US">Recursive type enumeration value</span>
+	 *                      <span class="zh-CN">递归类型枚举值</span>
+	 * @return <span class="en-US">Node value stream</span>
+	 * <span class="zh-CN">节点值流</span>
+	 */
+	public Stream<T> stream(final RecursionType recursionType) {
+		return StreamSupport.stream(Spliterators.spliterator(this.iterator(recursionType), this.subtreeSize,
+				Spliterator.ORDERED | Spliterator.SIZED), Boolean.FALSE);
 	}
 
 	/**
@@ -195,7 +463,9 @@ public final class MultiwayTree<T> {
 
 	/**
 	 * <h3 class="en-US">Recursive traversal</h3>
+	 * <span class="en-US">Normal and Depth are depth-first pre-order traversal, Breadth is level order traversal</span>
 	 * <h3 class="zh-CN">递归遍历</h3>
+	 * <span class="zh-CN">Normal和Depth为深度优先的先序遍历，Breadth为层序遍历</span>
 	 *
 	 * @param recursionType <span class="en-US">Recursive type enumeration value</span>
 	 *                      <span class="zh-CN">递归类型枚举值</span>
@@ -204,71 +474,351 @@ public final class MultiwayTree<T> {
 	 */
 	public Queue<T> recursion(final RecursionType recursionType) {
 		Queue<T> queue = new LinkedList<>();
-		switch (recursionType) {
-			case Breadth:
-				breadth(queue, this);
-				break;
-			case Depth:
-				depth(queue, this);
-				break;
-			default:
-				normal(queue, this);
-				break;
-		}
+		this.iterator(recursionType).forEachRemaining(queue::offer);
 		return queue;
 	}
 
 	/**
-	 * <h3 class="en-US">Recursive traversal</h3>
-	 * <h3 class="zh-CN">递归遍历</h3>
+	 * <h3 class="en-US">Find child node by given node value</h3>
+	 * <h3 class="zh-CN">根据给定的节点值查找子节点</h3>
+	 *
+	 * @param nodeValue <span class="en-US">Node value</span>
+	 *                  <span class="zh-CN">节点值</span>
+	 * @return <span class="en-US">Found child node or null if not found</span>
+	 * <span class="zh-CN">查找到的子节点，未找到时返回null</span>
+	 */
+	private MultiwayTree<T> child(final T nodeValue) {
+		if (this.childIndex != null) {
+			return this.childIndex.get(indexKey(nodeValue));
+		}
+		if (this.childNodes != null) {
+			for (MultiwayTree<T> childNode : this.childNodes) {
+				if (ObjectUtils.nullSafeEquals(childNode.nodeValue, nodeValue)) {
+					return childNode;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <h3 class="en-US">Check given node is current node or in current subtree</h3>
+	 * <h3 class="zh-CN">检查给定节点是否为当前节点或在当前子树中</h3>
 	 *
-	 * @param queue    <span class="en-US">Node value queue</span>
-	 *                 <span class="zh-CN">节点值队列</span>
-	 * @param treeNode <span class="en-US">Current traversal node</span>
-	 *                 <span class="zh-CN">当前遍历节点</span>
+	 * @param treeNode <span class="en-US">Tree node</span>
+	 *                 <span class="zh-CN">树节点</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
 	 */
-	private static <T> void normal(@Nonnull final Queue<T> queue, @Nonnull final MultiwayTree<T> treeNode) {
-		queue.offer(treeNode.getNodeValue());
-		treeNode.getChildNodes().forEach(childNode -> normal(queue, childNode));
+	private boolean contains(final MultiwayTree<T> treeNode) {
+		MultiwayTree<T> currentNode = treeNode;
+		while (currentNode != null && currentNode.depth >= this.depth) {
+			if (currentNode == this) {
+				return Boolean.TRUE;
+			}
+			currentNode = currentNode.parentNode;
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h3 class="en-US">Link given detached node as child node</h3>
+	 * <span class="en-US">Update subtree size of ancestors, depth and tree index of the linked subtree</span>
+	 * <h3 class="zh-CN">将给定的分离节点链接为子节点</h3>
+	 * <span class="zh-CN">更新祖先节点的子树大小，以及链接子树的深度和树索引</span>
+	 *
+	 * @param treeNode <span class="en-US">Detached tree node</span>
+	 *                 <span class="zh-CN">分离的树节点</span>
+	 * @param position <span class="en-US">Insert position, -1 for append</span>
+	 *                 <span class="zh-CN">插入位置，-1为追加到末尾</span>
+	 */
+	private void link(final MultiwayTree<T> treeNode, final int position) {
+		if (this.childNodes == null) {
+			this.childNodes = new ArrayList<>();
+		}
+		if (position < 0) {
+			this.childNodes.add(treeNode);
+		} else {
+			this.childNodes.add(position, treeNode);
+		}
+		if (this.childIndex != null) {
+			this.childIndex.put(indexKey(treeNode.nodeValue), treeNode);
+		} else if (this.childNodes.size() > CHILD_INDEX_THRESHOLD) {
+			this.childIndex = new HashMap<>();
+			this.childNodes.forEach(childNode -> this.childIndex.put(indexKey(childNode.nodeValue), childNode));
+		}
+		treeNode.parentNode = this;
+		for (MultiwayTree<T> currentNode = this; currentNode != null; currentNode = currentNode.parentNode) {
+			currentNode.subtreeSize += treeNode.subtreeSize;
+		}
+		int offset = this.depth + 1 - treeNode.depth;
+		Iterator<MultiwayTree<T>> iterator = new PreOrderIterator<>(treeNode);
+		while (iterator.hasNext()) {
+			MultiwayTree<T> currentNode = iterator.next();
+			currentNode.depth += offset;
+			currentNode.nodeIndex = this.nodeIndex;
+			if (this.nodeIndex != null) {
+				this.nodeIndex.register(currentNode);
+			}
+		}
 	}
 
 	/**
-	 * <h3 class="en-US">Breadth-first recursive traversal</h3>
-	 * <h3 class="zh-CN">广度优先递归遍历</h3>
+	 * <h3 class="en-US">Unlink given child node</h3>
+	 * <span class="en-US">Update subtree size of ancestors, the unlinked subtree become a tree without index</span>
+	 * <h3 class="zh-CN">取消给定子节点的链接</h3>
+	 * <span class="zh-CN">更新祖先节点的子树大小，分离出的子树成为未启用索引的树</span>
 	 *
-	 * @param queue    <span class="en-US">Node value queue</span>
-	 *                 <span class="zh-CN">节点值队列</span>
-	 * @param treeNode <span class="en-US">Current traversal node</span>
-	 *                 <span class="zh-CN">当前遍历节点</span>
+	 * @param treeNode <span class="en-US">Child node</span>
+	 *                 <span class="zh-CN">子节点</span>
 	 */
-	private static <T> void breadth(@Nonnull final Queue<T> queue, @Nonnull final MultiwayTree<T> treeNode) {
-		Deque<MultiwayTree<T>> nodeQueue = new LinkedList<>();
-		nodeQueue.push(treeNode);
-		while (!nodeQueue.isEmpty()) {
-			MultiwayTree<T> node = nodeQueue.pop();
-			queue.offer(node.getNodeValue());
-			nodeQueue.addAll(node.getChildNodes());
+	private void unlink(final MultiwayTree<T> treeNode) {
+		this.childNodes.remove(treeNode);
+		if (this.childIndex != null) {
+			this.childIndex.remove(indexKey(treeNode.nodeValue), treeNode);
+		}
+		treeNode.parentNode = null;
+		for (MultiwayTree<T> currentNode = this; currentNode != null; currentNode = currentNode.parentNode) {
+			currentNode.subtreeSize -= treeNode.subtreeSize;
+		}
+		int offset = treeNode.depth;
+		Iterator<MultiwayTree<T>> iterator = new PreOrderIterator<>(treeNode);
+		while (iterator.hasNext()) {
+			MultiwayTree<T> currentNode = iterator.next();
+			currentNode.depth -= offset;
+			if (currentNode.nodeIndex != null) {
+				currentNode.nodeIndex.unregister(currentNode);
+				currentNode.nodeIndex = null;
+			}
 		}
 	}
 
 	/**
-	 * <h3 class="en-US">Depth-first recursive traversal</h3>
-	 * <h3 class="zh-CN">深度优先递归遍历</h3>
+	 * <h3 class="en-US">Generate hash key of given node value, the array value was wrapped by content</h3>
+	 * <h3 class="zh-CN">生成给定节点值的哈希键，数组值按内容包装</h3>
 	 *
-	 * @param queue    <span class="en-US">Node value queue</span>
-	 *                 <span class="zh-CN">节点值队列</span>
-	 * @param treeNode <span class="en-US">Current traversal node</span>
-	 *                 <span class="zh-CN">当前遍历节点</span>
-	 */
-	private static <T> void depth(@Nonnull final Queue<T> queue, @Nonnull final MultiwayTree<T> treeNode) {
-		Deque<MultiwayTree<T>> nodeQueue = new LinkedList<>();
-		nodeQueue.push(treeNode);
-		while (!nodeQueue.isEmpty()) {
-			MultiwayTree<T> node = nodeQueue.pop();
-			queue.offer(node.getNodeValue());
-			List<MultiwayTree<T>> childNodes = new ArrayList<>(node.getChildNodes());
-			Collections.reverse(childNodes);
-			nodeQueue.addAll(childNodes);
+	 * @param nodeValue <span class="en-US">Node value</span>
+	 *                  <span class="zh-CN">节点值</span>
+	 * @return <span class="en-US">Hash key</span>
+	 * <span class="zh-CN">哈希键</span>
+	 */
+	private static Object indexKey(final Object nodeValue) {
+		if (nodeValue != null && nodeValue.getClass().isArray()) {
+			return new ArrayKey(nodeValue);
+		}
+		return nodeValue;
+	}
+
+	/**
+	 * <h2 class="en-US">Hash key of array node value</h2>
+	 * <h2 class="zh-CN">数组节点值的哈希键</h2>
+	 */
+	private static final class ArrayKey {
+		/**
+		 * <span class="en-US">Array value</span>
+		 * <span class="zh-CN">数组值</span>
+		 */
+		private final Object arrayValue;
+
+		/**
+		 * <h3 class="en-US">Constructor method for ArrayKey</h3>
+		 * <h3 class="zh-CN">ArrayKey构造方法</h3>
+		 *
+		 * @param arrayValue <span class="en-US">Array value</span>
+		 *                   <span class="zh-CN">数组值</span>
+		 */
+		ArrayKey(final Object arrayValue) {
+			this.arrayValue = arrayValue;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			return o instanceof ArrayKey && ObjectUtils.nullSafeEquals(this.arrayValue, ((ArrayKey) o).arrayValue);
+		}
+
+		@Override
+		public int hashCode() {
+			return ObjectUtils.nullSafeHashCode(this.arrayValue);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Value to node index of the whole tree</h2>
+	 * <h2 class="zh-CN">整棵树的节点值索引</h2>
+	 */
+	private static final class NodeIndex<T> {
+		/**
+		 * <span class="en-US">The earliest indexed node of each node value</span>
+		 * <span class="zh-CN">每个节点值最早被索引的节点</span>
+		 */
+		private final Map<Object, MultiwayTree<T>> indexedNodes = new HashMap<>();
+		/**
+		 * <span class="en-US">Other nodes with duplicate node value</span>
+		 * <span class="zh-CN">节点值重复的其他节点</span>
+		 */
+		private final Map<Object, List<MultiwayTree<T>>> duplicateNodes = new HashMap<>();
+
+		/**
+		 * <h3 class="en-US">Register given node</h3>
+		 * <h3 class="zh-CN">注册给定的节点</h3>
+		 *
+		 * @param treeNode <span class="en-US">Tree node</span>
+		 *                 <span class="zh-CN">树节点</span>
+		 */
+		void register(final MultiwayTree<T> treeNode) {
+			Object indexKey = indexKey(treeNode.nodeValue);
+			if (this.indexedNodes.putIfAbsent(indexKey, treeNode) != null) {
+				this.duplicateNodes.computeIfAbsent(indexKey, key -> new ArrayList<>()).add(treeNode);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Unregister given node</h3>
+		 * <h3 class="zh-CN">取消注册给定的节点</h3>
+		 *
+		 * @param treeNode <span class="en-US">Tree node</span>
+		 *                 <span class="zh-CN">树节点</span>
+		 */
+		void unregister(final MultiwayTree<T> treeNode) {
+			Object indexKey = indexKey(treeNode.nodeValue);
+			List<MultiwayTree<T>> duplicates = this.duplicateNodes.get(indexKey);
+			if (this.indexedNodes.get(indexKey) == treeNode) {
+				if (duplicates == null) {
+					this.indexedNodes.remove(indexKey);
+				} else {
+					this.indexedNodes.put(indexKey, duplicates.remove(0));
+				}
+			} else if (duplicates != null) {
+				duplicates.remove(treeNode);
+			}
+			if (duplicates != null && duplicates.isEmpty()) {
+				this.duplicateNodes.remove(indexKey);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Find node by given node value</h3>
+		 * <h3 class="zh-CN">根据给定的节点值查找节点</h3>
+		 *
+		 * @param nodeValue <span class="en-US">Node value</span>
+		 *                  <span class="zh-CN">节点值</span>
+		 * @return <span class="en-US">Found node or null if not found</span>
+		 * <span class="zh-CN">查找到的节点，未找到时返回null</span>
+		 */
+		MultiwayTree<T> find(final Object nodeValue) {
+			return this.indexedNodes.get(indexKey(nodeValue));
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Depth-first pre-order iterator</h2>
+	 * <span class="en-US">Keeps a stack of child iterators, the memory usage is proportional to the tree depth</span>
+	 * <h2 class="zh-CN">深度优先的先序遍历迭代器</h2>
+	 * <span class="zh-CN">保存子节点迭代器的栈，内存占用与树的深度成正比</span>
+	 */
+	private static final class PreOrderIterator<T> implements Iterator<MultiwayTree<T>> {
+		/**
+		 * <span class="en-US">Stack of child iterators</span>
+		 * <span class="zh-CN">子节点迭代器的栈</span>
+		 */
+		private final Deque<Iterator<MultiwayTree<T>>> iteratorStack = new ArrayDeque<>();
+		/**
+		 * <span class="en-US">Next node</span>
+		 * <span class="zh-CN">下一个节点</span>
+		 */
+		private MultiwayTree<T> nextNode;
+
+		/**
+		 * <h3 class="en-US">Constructor method for PreOrderIterator</h3>
+		 * <h3 class="zh-CN">PreOrderIterator构造方法</h3>
+		 *
+		 * @param rootNode <span class="en-US">Root node of traversal</span>
+		 *                 <span class="zh-CN">遍历的根节点</span>
+		 */
+		PreOrderIterator(final MultiwayTree<T> rootNode) {
+			this.nextNode = rootNode;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.nextNode != null;
+		}
+
+		@Override
+		public MultiwayTree<T> next() {
+			MultiwayTree<T> currentNode = this.nextNode;
+			if (currentNode == null) {
+				throw new NoSuchElementException();
+			}
+			if (currentNode.childNodes != null && !currentNode.childNodes.isEmpty()) {
+				this.iteratorStack.push(currentNode.childNodes.iterator());
+			}
+			this.nextNode = null;
+			while (!this.iteratorStack.isEmpty()) {
+				Iterator<MultiwayTree<T>> iterator = this.iteratorStack.peek();
+				if (iterator.hasNext()) {
+					this.nextNode = iterator.next();
+					break;
+				}
+				this.iteratorStack.pop();
+			}
+			return currentNode;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Breadth-first (level order) iterator</h2>
+	 * <span class="en-US">Keeps a queue of child iterators, the children were read when they are visited</span>
+	 * <h2 class="zh-CN">广度优先（层序）遍历迭代器</h2>
+	 * <span class="zh-CN">保存子节点迭代器的队列，子节点在被访问时才读取</span>
+	 */
+	private static final class BreadthIterator<T> implements Iterator<MultiwayTree<T>> {
+		/**
+		 * <span class="en-US">Queue of child iterators</span>
+		 * <span class="zh-CN">子节点迭代器的队列</span>
+		 */
+		private final Deque<Iterator<MultiwayTree<T>>> iteratorQueue = new ArrayDeque<>();
+		/**
+		 * <span class="en-US">Next node</span>
+		 * <span class="zh-CN">下一个节点</span>
+		 */
+		private MultiwayTree<T> nextNode;
+
+		/**
+		 * <h3 class="en-US">Constructor method for BreadthIterator</h3>
+		 * <h3 class="zh-CN">BreadthIterator构造方法</h3>
+		 *
+		 * @param rootNode <span class="en-US">Root node of traversal</span>
+		 *                 <span class="zh-CN">遍历的根节点</span>
+		 */
+		BreadthIterator(final MultiwayTree<T> rootNode) {
+			this.nextNode = rootNode;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.nextNode != null;
+		}
+
+		@Override
+		public MultiwayTree<T> next() {
+			MultiwayTree<T> currentNode = this.nextNode;
+			if (currentNode == null) {
+				throw new NoSuchElementException();
+			}
+			if (currentNode.childNodes != null && !currentNode.childNodes.isEmpty()) {
+				this.iteratorQueue.offer(currentNode.childNodes.iterator());
+			}
+			this.nextNode = null;
+			while (!this.iteratorQueue.isEmpty()) {
+				Iterator<MultiwayTree<T>> iterator = this.iteratorQueue.peek();
+				if (iterator.hasNext()) {
+					this.nextNode = iterator.next();
+					break;
+				}
+				this.iteratorQueue.poll();
+			}
+			return currentNode;
 		}
 	}
 }
@@ -30,8 +30,8 @@ import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
 import org.bouncycastle.operator.ContentSigner;
 import org.bouncycastle.operator.OperatorCreationException;
 import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
-import org.bouncycastle.util.io.pem.PemObject;
 import org.nervousync.commons.Globals;
+import org.nervousync.security.cert.CertificateRegistry;
 
 import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
@@ -69,7 +69,7 @@ import java.util.*;
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Jun 25, 2015 16:26:15 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:36:12 $
  */
 public final class CertificateUtils {
     /**
@@ -77,6 +77,11 @@ public final class CertificateUtils {
      * <span class="zh-CN">日志实例</span>
      */
     private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(CertificateUtils.class);
+    /**
+     * <span class="en-US">Shared certificate registry, caches loaded stores, PEM bundles and verify results</span>
+     * <span class="zh-CN">共享的证书注册表，缓存已加载的密钥库、PEM证书包和验证结果</span>
+     */
+    private static final CertificateRegistry REGISTRY = new CertificateRegistry();
 
     static {
         /* Add Bouncy Castle Provider */
@@ -90,6 +95,19 @@ public final class CertificateUtils {
     private CertificateUtils() {
     }
 
+    /**
+     * <h3 class="en-US">Retrieve shared certificate registry</h3>
+     * <span class="en-US">Call registry's invalidate or clear method to drop cached stores after key rotation</span>
+     * <h3 class="zh-CN">读取共享的证书注册表</h3>
+     * <span class="zh-CN">密钥轮换后可调用注册表的invalidate或clear方法清除缓存的密钥库</span>
+     *
+     * @return <span class="en-US">Shared certificate registry</span>
+     * <span class="zh-CN">共享的证书注册表</span>
+     */
+    public static CertificateRegistry registry() {
+        return REGISTRY;
+    }
+
     /**
      * <h3 class="en-US">Generate KeyPair using given algorithm/secure random algorithm/key size</h3>
      * <h3 class="zh-CN">根据给定的算法、安全随机数算法、密钥长度生成密钥对</h3>
@@ -308,22 +326,7 @@ public final class CertificateUtils {
      */
     public static boolean verify(final X509Certificate x509Certificate, final PublicKey verifyKey,
                                  final boolean checkValidity) {
-        if (x509Certificate == null) {
-            return Boolean.FALSE;
-        }
-        try {
-            if (checkValidity) {
-                x509Certificate.checkValidity();
-            }
-            x509Certificate.verify((verifyKey == null) ? x509Certificate.getPublicKey() : verifyKey, "BC");
-            return Boolean.TRUE;
-        } catch (Exception e) {
-            LOGGER.error("Certificate_Invalid_Error");
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Stack_Message_Error", e);
-            }
-            return Boolean.FALSE;
-        }
+        return REGISTRY.verify(x509Certificate, verifyKey, checkValidity);
     }
 
     /**
@@ -357,11 +360,7 @@ public final class CertificateUtils {
      * <span class="zh-CN">读取的X.509证书， 如果数据非法或未找到别名指定的证书，则返回null</span>
      */
     public static X509Certificate x509(final String storePath, final String certAlias, final String password) {
-        try {
-            return x509(FileUtils.readFileBytes(storePath), certAlias, password);
-        } catch (IOException e) {
-            return null;
-        }
+        return REGISTRY.x509(storePath, certAlias, password);
     }
 
     /**
@@ -383,31 +382,28 @@ public final class CertificateUtils {
      */
     public static X509Certificate x509(final byte[] storeBytes, final String certAlias, final String password,
                                        final PublicKey verifyKey, final boolean checkValidity) {
-        return Optional.ofNullable(loadKeyStore(storeBytes, password))
-                .filter(keyStore -> checkKey(keyStore, certAlias))
-                .map(keyStore -> {
-                    X509Certificate x509Certificate;
-                    try {
-                        x509Certificate = (X509Certificate) keyStore.getCertificate(certAlias);
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debug("Certificate_SN_Debug", x509Certificate.getSerialNumber().toString());
-                        }
-                        if (checkValidity) {
-                            x509Certificate.checkValidity();
-                        }
-                        if (verifyKey != null) {
-                            x509Certificate.verify(verifyKey, "BC");
-                        }
-                    } catch (Exception e) {
-                        LOGGER.error("Certificate_Invalid_Error");
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debug("Stack_Message_Error", e);
-                        }
-                        x509Certificate = null;
-                    }
-                    return x509Certificate;
-                })
-                .orElse(null);
+        X509Certificate x509Certificate = REGISTRY.x509(storeBytes, certAlias, password);
+        if (x509Certificate == null) {
+            return null;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Certificate_SN_Debug", x509Certificate.getSerialNumber().toString());
+        }
+        if (checkValidity) {
+            try {
+                x509Certificate.checkValidity();
+            } catch (CertificateExpiredException | CertificateNotYetValidException e) {
+                LOGGER.error("Certificate_Invalid_Error");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+                return null;
+            }
+        }
+        if (verifyKey != null && !REGISTRY.verify(x509Certificate, verifyKey, Boolean.FALSE)) {
+            return null;
+        }
+        return x509Certificate;
     }
 
     /**
@@ -474,27 +470,7 @@ public final class CertificateUtils {
      * <span class="zh-CN">读取的x509证书，如果文件不存在或二进制数据非法则返回null</span>
      */
     public static X509Certificate x509(final String pemPath, final String domainName) {
-        if (StringUtils.isEmpty(pemPath) || !FileUtils.isExists(pemPath)) {
-            return null;
-        }
-
-        try (FileReader fileReader = new FileReader(pemPath)) {
-            PEMParser pemParser = new PEMParser(fileReader);
-            PemObject readObject;
-            while ((readObject = pemParser.readPemObject()) != null) {
-                X509Certificate x509Certificate = x509(readObject.getContent());
-                if (x509Certificate != null && matchDomain(x509Certificate, domainName)) {
-                    return x509Certificate;
-                }
-            }
-            return null;
-        } catch (IOException e) {
-            LOGGER.error("Data_Read_Key_Error");
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Stack_Message_Error", e);
-            }
-            return null;
-        }
+        return REGISTRY.x509(pemPath, domainName);
     }
 
     /**
@@ -583,11 +559,7 @@ public final class CertificateUtils {
      * <span class="zh-CN">读取的私钥， 如果数据非法、未找到别名指定的证书，则返回null</span>
      */
     public static PrivateKey privateKey(final byte[] storeBytes, final String certAlias, final String password) {
-        KeyStore keyStore = loadKeyStore(storeBytes, password);
-        if (keyStore != null && CertificateUtils.checkKey(keyStore, certAlias)) {
-            return CertificateUtils.privateKey(keyStore, certAlias, password);
-        }
-        return null;
+        return REGISTRY.privateKey(storeBytes, certAlias, password);
     }
 
     /**
@@ -604,11 +576,7 @@ public final class CertificateUtils {
      * <span class="zh-CN">读取的私钥， 如果数据非法或未找到别名指定的证书，则返回null</span>
      */
     public static PrivateKey privateKey(final String storePath, final String certAlias, final String password) {
-        KeyStore keyStore = loadKeyStore(storePath, password);
-        if (keyStore != null && CertificateUtils.checkKey(keyStore, certAlias)) {
-            return CertificateUtils.privateKey(keyStore, certAlias, password);
-        }
-        return null;
+        return REGISTRY.privateKey(storePath, certAlias, password);
     }
 
     /**
@@ -17,6 +17,7 @@
 package org.nervousync.utils;
 
 import org.nervousync.commons.Globals;
+import org.nervousync.commons.codec.TextCodec;
 
 import java.io.*;
 import java.net.URL;
@@ -47,7 +48,7 @@ import java.util.Properties;
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Jan 12, 2010 15:12:05 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 01:12:08 $
  */
 public final class ConvertUtils {
     /**
@@ -76,15 +77,7 @@ public final class ConvertUtils {
         if (dataBytes == null) {
             return Globals.DEFAULT_VALUE_STRING;
         }
-        StringBuilder stringBuilder = new StringBuilder();
-        for (byte b : dataBytes) {
-            String tmp = Integer.toHexString(b & 0xFF);
-            if (tmp.length() == 1) {
-                stringBuilder.append("0");
-            }
-            stringBuilder.append(tmp);
-        }
-        return stringBuilder.toString();
+        return TextCodec.HEX.encode(dataBytes, Boolean.FALSE);
     }
 
     /**
@@ -175,8 +168,8 @@ public final class ConvertUtils {
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
-            outputStream = new ByteArrayOutputStream();
             objectOutputStream.writeObject(object);
+            objectOutputStream.flush();
             return outputStream.toByteArray();
         } catch (Exception e) {
             LOGGER.error("Convert_Object_To_Array_Error");
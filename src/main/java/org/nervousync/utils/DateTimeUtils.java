@@ -17,6 +17,8 @@
 package org.nervousync.utils;
 
 import org.nervousync.commons.Globals;
+import org.nervousync.commons.clock.ClockService;
+import org.nervousync.commons.clock.SystemClock;
 
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -27,16 +29,14 @@ import java.time.format.DateTimeParseException;
 import java.time.format.FormatStyle;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2 class="en-US">Date time utilities</h2>
  * <h2 class="zh-CN">日期时间工具集</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Jan 13, 2010 11:15:20 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:34:16 $
  */
 public final class DateTimeUtils {
 
@@ -73,6 +73,11 @@ public final class DateTimeUtils {
      */
     public static final DateTimeFormatter DEFAULT_SITE_MAP_PATTERN =
             DateTimeFormatter.ofPattern(DEFAULT_DATETIME_PATTERN_ISO8601 + DateTimeUtils.getTimeZone());
+    /**
+     * <span class="en-US">Pattern string of the site map date format</span>
+     * <span class="zh-CN">SiteMap日期格式的格式字符串</span>
+     */
+    private static final String SITE_MAP_PATTERN = DEFAULT_DATETIME_PATTERN_ISO8601 + DateTimeUtils.getTimeZone();
     /**
      * <span class="en-US">Static DateTimeFormatter instance for date format yyyyMMdd</span>
      * <span class="zh-CN">静态DateTimeFormatter实例，使用的日期格式：yyyyMMdd</span>
@@ -89,10 +94,56 @@ public final class DateTimeUtils {
      */
     public static final DateTimeFormatter DEFAULT_LONG_PATTERN = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
     /**
-     * <span class="en-US">Current UTC Clock Instance</span>
-     * <span class="zh-CN">当前UTC时钟实例对象</span>
+     * <span class="en-US">Registered clock service, default is the on-demand system clock</span>
+     * <span class="zh-CN">注册的时钟服务，默认为按需读取的系统时钟</span>
+     */
+    private static volatile ClockService clockService = SystemClock.INSTANCE;
+    /**
+     * <span class="en-US">Maximum count of cached formatters</span>
+     * <span class="zh-CN">缓存的格式化实例对象最大数量</span>
+     */
+    private static final int MAX_CACHED_FORMATTERS = 512;
+    /**
+     * <span class="en-US">Cached DateTimeFormatter instances, key is pattern, locale and zone</span>
+     * <span class="zh-CN">缓存的DateTimeFormatter实例对象，键值为格式、地区和时区</span>
+     */
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Cached DateFormat prototypes, DateFormat is not thread safe, so every caller uses a clone</span>
+     * <span class="zh-CN">缓存的DateFormat原型，由于DateFormat不是线程安全的，每个调用者使用其克隆</span>
+     */
+    private static final Map<String, DateFormat> DATE_FORMATS = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Day names of HTTP date</span>
+     * <span class="zh-CN">HTTP日期的星期名称</span>
+     */
+    private static final String[] HTTP_DAY_NAMES = {"Thu", "Fri", "Sat", "Sun", "Mon", "Tue", "Wed"};
+    /**
+     * <span class="en-US">Month names of HTTP date</span>
+     * <span class="zh-CN">HTTP日期的月份名称</span>
+     */
+    private static final String[] HTTP_MONTH_NAMES =
+            {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    /**
+     * <span class="en-US">Milliseconds of one day</span>
+     * <span class="zh-CN">一天的毫秒数</span>
+     */
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+    /**
+     * <span class="en-US">DateFormat kind: date instance</span>
+     * <span class="zh-CN">DateFormat类型：日期实例</span>
+     */
+    private static final int DATE_FORMAT_DATE = 0;
+    /**
+     * <span class="en-US">DateFormat kind: time instance</span>
+     * <span class="zh-CN">DateFormat类型：时间实例</span>
+     */
+    private static final int DATE_FORMAT_TIME = 1;
+    /**
+     * <span class="en-US">DateFormat kind: date time instance</span>
+     * <span class="zh-CN">DateFormat类型：日期时间实例</span>
      */
-    private static final UTCClock UTC_CLOCK = new UTCClock();
+    private static final int DATE_FORMAT_DATETIME = 2;
 
     /**
      * <h3 class="en-US">Private constructor for DateTimeUtils</h3>
@@ -127,7 +178,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">日期实例对象</span>
      */
     public static Date parseSiteMapDate(final String string) {
-        return parseDate(string, DEFAULT_DATETIME_PATTERN_ISO8601 + DateTimeUtils.getTimeZone());
+        return parseDate(string, SITE_MAP_PATTERN);
     }
 
     /**
@@ -138,8 +189,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串并以字符'Z'结尾</span>
      */
     public static String formatGMTDateForVCard() {
-        return ZonedDateTime.ofInstant(Instant.now(), ZoneId.of("+00:00"))
-                .format(DateTimeFormatter.ofPattern(DEFAULT_DATETIME_PATTERN_ISO8601 + "'Z'"));
+        return DateTimeUtils.iso8601(currentTimeMillis()) + "Z";
     }
 
     /**
@@ -155,7 +205,7 @@ public final class DateTimeUtils {
         if (date == null) {
             return null;
         }
-        return formatDate(date, DEFAULT_ISO8601_PATTERN) + "Z";
+        return DateTimeUtils.formatISO8601(date) + "Z";
     }
 
     /**
@@ -187,7 +237,7 @@ public final class DateTimeUtils {
             return null;
         }
         String datetimeFormat = StringUtils.isEmpty(format) ? DEFAULT_DATE_PATTERN : format;
-        return Date.from(LocalDate.parse(string, DateTimeFormatter.ofPattern(datetimeFormat))
+        return Date.from(LocalDate.parse(string, DateTimeUtils.formatter(datetimeFormat))
                 .atStartOfDay(ZoneId.systemDefault()).toInstant());
     }
 
@@ -210,7 +260,9 @@ public final class DateTimeUtils {
 
     /**
      * <h3 class="en-US">Formats given date according to string with last modify format</h3>
+     * <span class="en-US">The result is the RFC-1123 date in GMT, same as the HTTP date, current time used if date is null</span>
      * <h3 class="zh-CN">使用Last-Modify标准格式化给定的日期实例对象</h3>
+     * <span class="zh-CN">结果为GMT时间的RFC-1123日期，与HTTP日期相同，日期为null时使用当前时间</span>
      *
      * @param date <span class="en-US">date instance</span>
      *             <span class="zh-CN">日期实例对象</span>
@@ -218,12 +270,14 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String lastModified(final Date date) {
-        return formatDate(date, DateTimeFormatter.ofPattern(LAST_MODIFIED_DATETIME_PATTERN));
+        return DateTimeUtils.lastModified((date == null) ? currentTimeMillis() : date.getTime());
     }
 
     /**
      * <h3 class="en-US">Formats given date according to string with last modify format</h3>
+     * <span class="en-US">The result is the RFC-1123 date in GMT, same as the HTTP date</span>
      * <h3 class="zh-CN">使用Last-Modify标准格式化给定的日期实例对象</h3>
+     * <span class="zh-CN">结果为GMT时间的RFC-1123日期，与HTTP日期相同</span>
      *
      * @param timeMilliseconds <span class="en-US">date time milliseconds</span>
      *                         <span class="zh-CN">日期时间的毫秒数</span>
@@ -231,7 +285,106 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String lastModified(final long timeMilliseconds) {
-        return formatDate(new Date(timeMilliseconds), DateTimeFormatter.ofPattern(LAST_MODIFIED_DATETIME_PATTERN));
+        long epochDay = Math.floorDiv(timeMilliseconds, MILLIS_PER_DAY);
+        int dateValue = DateTimeUtils.dateValue(epochDay);
+        if (dateValue < 0) {
+            return DateTimeUtils.formatter(LAST_MODIFIED_DATETIME_PATTERN, Locale.US, ZoneOffset.UTC)
+                    .format(Instant.ofEpochMilli(timeMilliseconds));
+        }
+        char[] chars = new char[29];
+        HTTP_DAY_NAMES[(int) Math.floorMod(epochDay, 7L)].getChars(0, 3, chars, 0);
+        chars[3] = ',';
+        chars[4] = ' ';
+        DateTimeUtils.fillDigits(chars, 5, dateValue % 100, 2);
+        chars[7] = ' ';
+        HTTP_MONTH_NAMES[(dateValue / 100) % 100 - 1].getChars(0, 3, chars, 8);
+        chars[11] = ' ';
+        DateTimeUtils.fillDigits(chars, 12, dateValue / 10000, 4);
+        chars[16] = ' ';
+        DateTimeUtils.fillTime(chars, 17, Math.floorMod(timeMilliseconds, MILLIS_PER_DAY));
+        chars[25] = ' ';
+        chars[26] = 'G';
+        chars[27] = 'M';
+        chars[28] = 'T';
+        return new String(chars);
+    }
+
+    /**
+     * <h3 class="en-US">Formats given date according to string with ISO8601 format in default time zone</h3>
+     * <span class="en-US">Same result as using DEFAULT_ISO8601_PATTERN, current time used if date is null</span>
+     * <h3 class="zh-CN">使用ISO8601标准在默认时区格式化给定的日期实例对象</h3>
+     * <span class="zh-CN">结果与使用DEFAULT_ISO8601_PATTERN相同，日期为null时使用当前时间</span>
+     *
+     * @param date <span class="en-US">date instance</span>
+     *             <span class="zh-CN">日期实例对象</span>
+     * @return <span class="en-US">formatted date time string</span>
+     * <span class="zh-CN">格式化后的日期时间字符串</span>
+     */
+    public static String formatISO8601(final Date date) {
+        long timeMillis = (date == null) ? currentTimeMillis() : date.getTime();
+        return DateTimeUtils.iso8601(timeMillis + DateTimeUtils.zoneOffset(timeMillis));
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cached DateTimeFormatter instance of given pattern</h3>
+     * <h3 class="zh-CN">读取给定格式的缓存DateTimeFormatter实例对象</h3>
+     *
+     * @param pattern <span class="en-US">Pattern string</span>
+     *                <span class="zh-CN">格式字符串</span>
+     * @return <span class="en-US">DateTimeFormatter instance</span>
+     * <span class="zh-CN">DateTimeFormatter实例对象</span>
+     */
+    public static DateTimeFormatter formatter(final String pattern) {
+        return DateTimeUtils.formatter(pattern, null, null);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cached DateTimeFormatter instance of given pattern and locale</h3>
+     * <h3 class="zh-CN">读取给定格式和地区的缓存DateTimeFormatter实例对象</h3>
+     *
+     * @param pattern <span class="en-US">Pattern string</span>
+     *                <span class="zh-CN">格式字符串</span>
+     * @param locale  <span class="en-US">locale instance, default locale used if null</span>
+     *                <span class="zh-CN">地区实例对象，为null时使用默认地区</span>
+     * @return <span class="en-US">DateTimeFormatter instance</span>
+     * <span class="zh-CN">DateTimeFormatter实例对象</span>
+     */
+    public static DateTimeFormatter formatter(final String pattern, final Locale locale) {
+        return DateTimeUtils.formatter(pattern, locale, null);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cached DateTimeFormatter instance of given pattern, locale and zone</h3>
+     * <span class="en-US">
+     *     DateTimeFormatter is immutable and thread safe, the cached instance can be shared by all threads.
+     *     New instances are not cached after the cache is full.
+     * </span>
+     * <h3 class="zh-CN">读取给定格式、地区和时区的缓存DateTimeFormatter实例对象</h3>
+     * <span class="zh-CN">DateTimeFormatter是不可变并且线程安全的，缓存的实例对象可以被所有线程共享。缓存已满后不再缓存新的实例对象。</span>
+     *
+     * @param pattern <span class="en-US">Pattern string</span>
+     *                <span class="zh-CN">格式字符串</span>
+     * @param locale  <span class="en-US">locale instance, default locale used if null</span>
+     *                <span class="zh-CN">地区实例对象，为null时使用默认地区</span>
+     * @param zoneId  <span class="en-US">Override zone, not override if null</span>
+     *                <span class="zh-CN">覆盖的时区，为null时不覆盖</span>
+     * @return <span class="en-US">DateTimeFormatter instance</span>
+     * <span class="zh-CN">DateTimeFormatter实例对象</span>
+     */
+    public static DateTimeFormatter formatter(final String pattern, final Locale locale, final ZoneId zoneId) {
+        Locale useLocale = (locale == null) ? Locale.getDefault(Locale.Category.FORMAT) : locale;
+        String cacheKey = pattern + '\u0000' + useLocale.toLanguageTag() + '\u0000' + zoneId;
+        DateTimeFormatter dateTimeFormatter = FORMATTERS.get(cacheKey);
+        if (dateTimeFormatter == null) {
+            dateTimeFormatter = DateTimeFormatter.ofPattern(pattern, useLocale);
+            if (zoneId != null) {
+                dateTimeFormatter = dateTimeFormatter.withZone(zoneId);
+            }
+            if (FORMATTERS.size() < MAX_CACHED_FORMATTERS) {
+                FORMATTERS.putIfAbsent(cacheKey, dateTimeFormatter);
+            }
+        }
+        return dateTimeFormatter;
     }
 
     /**
@@ -255,7 +408,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间数字格式</span>
      */
     public static int currentDate() {
-        return Integer.parseInt(LocalDate.now().format(DEFAULT_INT_PATTERN));
+        return DateTimeUtils.dateValue(currentTimeMillis(), Boolean.TRUE);
     }
 
     /**
@@ -266,7 +419,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的UTC日期时间数字格式</span>
      */
     public static int currentUTCDate() {
-        return Integer.parseInt(DateTimeUtils.formatDate(new Date(currentUTCTimeMillis()), DEFAULT_INT_PATTERN));
+        return DateTimeUtils.dateValue(currentTimeMillis(), Boolean.FALSE);
     }
 
     /**
@@ -279,8 +432,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化并计算后的日期时间数字格式</span>
      */
     public static int expireDay(final long expireTime) {
-        return Integer.parseInt(DateTimeUtils.formatDate(new Date(currentTimeMillis() + expireTime),
-                DEFAULT_INT_PATTERN));
+        return DateTimeUtils.dateValue(currentTimeMillis() + expireTime, Boolean.TRUE);
     }
 
     /**
@@ -293,8 +445,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化并计算后的UTC日期时间数字格式</span>
      */
     public static int expireUTCDay(long expireTime) {
-        return Integer.parseInt(DateTimeUtils.formatDate(new Date(currentUTCTimeMillis() + expireTime),
-                DEFAULT_INT_PATTERN));
+        return DateTimeUtils.dateValue(currentTimeMillis() + expireTime, Boolean.FALSE);
     }
 
     /**
@@ -331,7 +482,8 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间数字格式</span>
      */
     public static long currentTime() {
-        return Long.parseLong(formatDate(new Date(currentTimeMillis()), DEFAULT_LONG_PATTERN));
+        long currentTime = currentTimeMillis();
+        return DateTimeUtils.timeValue(currentTime + DateTimeUtils.zoneOffset(currentTime));
     }
 
     /**
@@ -342,7 +494,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间数字格式</span>
      */
     public static long currentUTCTime() {
-        return Long.parseLong(formatDate(new Date(currentUTCTimeMillis()), DEFAULT_LONG_PATTERN));
+        return DateTimeUtils.timeValue(currentTimeMillis());
     }
 
     /**
@@ -550,18 +702,45 @@ public final class DateTimeUtils {
      * <span class="zh-CN">读取的值</span>
      */
     public static long currentTimeMillis() {
-        return UTC_CLOCK.currentTimeMillis();
+        return clockService.currentTimeMillis();
     }
 
     /**
      * <h3 class="en-US">Retrieve current UTC time in milliseconds.</h3>
+     * <span class="en-US">The offset of default time zone is calculated for the current instant, including DST</span>
      * <h3 class="zh-CN">读取当前UTC时间与1970-01-01差值的毫秒数</h3>
+     * <span class="zh-CN">默认时区的偏移量根据当前时刻计算，包含夏令时</span>
      *
      * @return <span class="en-US">Read value</span>
      * <span class="zh-CN">读取的值</span>
      */
     public static long currentUTCTimeMillis() {
-        return UTC_CLOCK.currentUTCTimeMillis();
+        long currentTime = clockService.currentTimeMillis();
+        return currentTime - TimeZone.getDefault().getOffset(currentTime);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve registered clock service</h3>
+     * <h3 class="zh-CN">读取注册的时钟服务</h3>
+     *
+     * @return <span class="en-US">Clock service instance</span>
+     * <span class="zh-CN">时钟服务实例对象</span>
+     */
+    public static ClockService clockService() {
+        return DateTimeUtils.clockService;
+    }
+
+    /**
+     * <h3 class="en-US">Register clock service</h3>
+     * <span class="en-US">The replaced clock service is not closed, the caller should close it if necessary</span>
+     * <h3 class="zh-CN">注册时钟服务</h3>
+     * <span class="zh-CN">被替换的时钟服务不会被关闭，如有必要需要由调用者关闭</span>
+     *
+     * @param clockService <span class="en-US">Clock service instance, reset to system clock if null</span>
+     *                     <span class="zh-CN">时钟服务实例对象，为null时重置为系统时钟</span>
+     */
+    public static void clockService(final ClockService clockService) {
+        DateTimeUtils.clockService = (clockService == null) ? SystemClock.INSTANCE : clockService;
     }
 
     /**
@@ -613,7 +792,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String formatDate(final Date date, final Locale locale, final int dateStyle) {
-        return DateFormat.getDateInstance(dateStyle, locale).format(date);
+        return DateTimeUtils.dateFormat(DATE_FORMAT_DATE, dateStyle, Globals.DEFAULT_VALUE_INT, locale).format(date);
     }
 
     /**
@@ -647,7 +826,7 @@ public final class DateTimeUtils {
      *                        <span class="zh-CN">如果给定的字符串无法根据给定的区域设置和样式正确解析</span>
      */
     public static Date parseDate(final String string, final Locale locale, final int dateStyle) throws ParseException {
-        return DateFormat.getDateInstance(dateStyle, locale).parse(string);
+        return DateTimeUtils.dateFormat(DATE_FORMAT_DATE, dateStyle, Globals.DEFAULT_VALUE_INT, locale).parse(string);
     }
 
     /**
@@ -681,7 +860,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String formatTime(final Date time, final Locale locale, final int timeStyle) {
-        DateFormat formatter = DateFormat.getTimeInstance(timeStyle, locale);
+        DateFormat formatter = DateTimeUtils.dateFormat(DATE_FORMAT_TIME, Globals.DEFAULT_VALUE_INT, timeStyle, locale);
         return formatter.format(time);
     }
 
@@ -716,7 +895,7 @@ public final class DateTimeUtils {
      *                        <span class="zh-CN">如果给定的字符串无法根据给定的区域设置和样式正确解析</span>
      */
     public static Date parseTime(final String string, final Locale locale, final int timeStyle) throws ParseException {
-        return DateFormat.getTimeInstance(timeStyle, locale).parse(string);
+        return DateTimeUtils.dateFormat(DATE_FORMAT_TIME, Globals.DEFAULT_VALUE_INT, timeStyle, locale).parse(string);
     }
 
     /**
@@ -752,7 +931,7 @@ public final class DateTimeUtils {
      * <span class="zh-CN">格式化后的日期时间字符串</span>
      */
     public static String formatDateTime(final Date date, final Locale locale, final int dateStyle, final int timeStyle) {
-        return DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale).format(date);
+        return DateTimeUtils.dateFormat(DATE_FORMAT_DATETIME, dateStyle, timeStyle, locale).format(date);
     }
 
     /**
@@ -802,7 +981,7 @@ public final class DateTimeUtils {
      */
     public static Date parseDateTime(final String string, final Locale locale, final int dateStyle, final int timeStyle)
             throws ParseException {
-        return DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale).parse(string);
+        return DateTimeUtils.dateFormat(DATE_FORMAT_DATETIME, dateStyle, timeStyle, locale).parse(string);
     }
 
     /**
@@ -855,8 +1034,8 @@ public final class DateTimeUtils {
                 .map(Date::toInstant)
                 .map(instant -> instant.atZone(ZoneId.systemDefault()))
                 .map(ZonedDateTime::toLocalDateTime)
-                .map(localDateTime -> localDateTime.format(DateTimeFormatter.ofPattern(pattern, locale)))
-                .orElse(LocalDateTime.now().format(DateTimeFormatter.ofPattern(pattern, locale)));
+                .map(localDateTime -> localDateTime.format(DateTimeUtils.formatter(pattern, locale)))
+                .orElseGet(() -> LocalDateTime.now().format(DateTimeUtils.formatter(pattern, locale)));
     }
 
     /**
@@ -879,7 +1058,7 @@ public final class DateTimeUtils {
         if (StringUtils.isEmpty(string)) {
             return null;
         }
-        return Optional.of(LocalDateTime.parse(string, DateTimeFormatter.ofPattern(pattern, locale)))
+        return Optional.of(LocalDateTime.parse(string, DateTimeUtils.formatter(pattern, locale)))
                 .map(localDateTime -> localDateTime.atZone(ZoneId.systemDefault()))
                 .map(ChronoZonedDateTime::toInstant)
                 .map(Date::from)
@@ -921,7 +1100,7 @@ public final class DateTimeUtils {
      */
     public static String getCurrentMonthFirstDay(final String pattern) {
         return LocalDateTime.now().with(TemporalAdjusters.firstDayOfMonth())
-                .format(DateTimeFormatter.ofPattern(pattern));
+                .format(DateTimeUtils.formatter(pattern));
     }
 
     /**
@@ -935,7 +1114,7 @@ public final class DateTimeUtils {
      */
     public static String getCurrentMonthLastDay(final String pattern) {
         return LocalDateTime.now().with(TemporalAdjusters.lastDayOfMonth())
-                .format(DateTimeFormatter.ofPattern(pattern));
+                .format(DateTimeUtils.formatter(pattern));
     }
 
     /**
@@ -958,6 +1137,203 @@ public final class DateTimeUtils {
         return dayCount;
     }
 
+    /**
+     * <h3 class="en-US">Retrieve DateFormat instance from cached prototype</h3>
+     * <span class="en-US">
+     *     Creating DateFormat loads the locale resources, cloning the cached prototype is much cheaper.
+     *     The returned instance belongs to the caller.
+     * </span>
+     * <h3 class="zh-CN">从缓存的原型读取DateFormat实例对象</h3>
+     * <span class="zh-CN">创建DateFormat需要加载地区资源，克隆缓存的原型开销小得多。返回的实例对象归调用者所有。</span>
+     *
+     * @param kind      <span class="en-US">DateFormat kind</span>
+     *                  <span class="zh-CN">DateFormat类型</span>
+     * @param dateStyle <span class="en-US">date style code</span>
+     *                  <span class="zh-CN">日期风格代码</span>
+     * @param timeStyle <span class="en-US">time style code</span>
+     *                  <span class="zh-CN">时间风格代码</span>
+     * @param locale    <span class="en-US">locale instance</span>
+     *                  <span class="zh-CN">地区实例对象</span>
+     * @return <span class="en-US">DateFormat instance</span>
+     * <span class="zh-CN">DateFormat实例对象</span>
+     */
+    private static DateFormat dateFormat(final int kind, final int dateStyle, final int timeStyle,
+                                         final Locale locale) {
+        String cacheKey = kind + "|" + dateStyle + "|" + timeStyle + "|" + locale.toLanguageTag();
+        DateFormat prototype = DATE_FORMATS.get(cacheKey);
+        if (prototype == null) {
+            switch (kind) {
+                case DATE_FORMAT_DATE:
+                    prototype = DateFormat.getDateInstance(dateStyle, locale);
+                    break;
+                case DATE_FORMAT_TIME:
+                    prototype = DateFormat.getTimeInstance(timeStyle, locale);
+                    break;
+                default:
+                    prototype = DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale);
+                    break;
+            }
+            if (DATE_FORMATS.size() < MAX_CACHED_FORMATTERS) {
+                DATE_FORMATS.putIfAbsent(cacheKey, prototype);
+            }
+        }
+        DateFormat dateFormat = (DateFormat) prototype.clone();
+        dateFormat.setTimeZone(TimeZone.getDefault());
+        return dateFormat;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate offset of default time zone at given instant</h3>
+     * <span class="en-US">Using the zone rules, same as the result of java.time, including DST and historical offsets</span>
+     * <h3 class="zh-CN">计算默认时区在给定时刻的偏移量</h3>
+     * <span class="zh-CN">使用时区规则计算，与java.time的结果相同，包含夏令时和历史偏移量</span>
+     *
+     * @param timeMillis <span class="en-US">time milliseconds</span>
+     *                   <span class="zh-CN">时间的毫秒数</span>
+     * @return <span class="en-US">offset milliseconds</span>
+     * <span class="zh-CN">偏移的毫秒数</span>
+     */
+    private static long zoneOffset(final long timeMillis) {
+        return ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochMilli(timeMillis)).getTotalSeconds()
+                * 1000L;
+    }
+
+    /**
+     * <h3 class="en-US">Convert time milliseconds to int with "yyyyMMdd" format</h3>
+     * <span class="en-US">Fall back to DateTimeFormatter if the year is out of range 0-9999</span>
+     * <h3 class="zh-CN">转换时间的毫秒数为"yyyyMMdd"格式的数字</h3>
+     * <span class="zh-CN">如果年份超出0-9999的范围则使用DateTimeFormatter</span>
+     *
+     * @param timeMillis <span class="en-US">time milliseconds</span>
+     *                   <span class="zh-CN">时间的毫秒数</span>
+     * @param localZone  <span class="en-US">convert in default time zone or UTC</span>
+     *                   <span class="zh-CN">使用默认时区或UTC转换</span>
+     * @return <span class="en-US">date int value</span>
+     * <span class="zh-CN">日期数字</span>
+     */
+    private static int dateValue(final long timeMillis, final boolean localZone) {
+        long zoneMillis = localZone ? timeMillis + DateTimeUtils.zoneOffset(timeMillis) : timeMillis;
+        int dateValue = DateTimeUtils.dateValue(Math.floorDiv(zoneMillis, MILLIS_PER_DAY));
+        if (dateValue < 0) {
+            return Integer.parseInt(LocalDateTime.ofEpochSecond(Math.floorDiv(zoneMillis, 1000L), 0, ZoneOffset.UTC)
+                    .format(DEFAULT_INT_PATTERN));
+        }
+        return dateValue;
+    }
+
+    /**
+     * <h3 class="en-US">Convert epoch day to int with "yyyyMMdd" format</h3>
+     * <span class="en-US">Converting by the civil calendar algorithm, no object is allocated</span>
+     * <h3 class="zh-CN">转换纪元日为"yyyyMMdd"格式的数字</h3>
+     * <span class="zh-CN">使用公历算法转换，不分配任何对象</span>
+     *
+     * @param epochDay <span class="en-US">days since 1970-01-01</span>
+     *                 <span class="zh-CN">与1970-01-01差值的天数</span>
+     * @return <span class="en-US">date int value, -1 if the year is out of range 0-9999</span>
+     * <span class="zh-CN">日期数字，如果年份超出0-9999的范围则返回-1</span>
+     */
+    private static int dateValue(final long epochDay) {
+        long days = epochDay + 719468L;
+        long era = Math.floorDiv(days, 146097L);
+        long dayOfEra = days - era * 146097L;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460L + dayOfEra / 36524L - dayOfEra / 146096L) / 365L;
+        long dayOfYear = dayOfEra - (365L * yearOfEra + yearOfEra / 4L - yearOfEra / 100L);
+        long monthIndex = (5L * dayOfYear + 2L) / 153L;
+        long day = dayOfYear - (153L * monthIndex + 2L) / 5L + 1L;
+        long month = monthIndex < 10L ? monthIndex + 3L : monthIndex - 9L;
+        long year = yearOfEra + era * 400L + (month <= 2L ? 1L : 0L);
+        if (year < 0L || year > 9999L) {
+            return Globals.DEFAULT_VALUE_INT;
+        }
+        return (int) (year * 10000L + month * 100L + day);
+    }
+
+    /**
+     * <h3 class="en-US">Convert time milliseconds to long with "yyyyMMddHHmm" format</h3>
+     * <h3 class="zh-CN">转换时间的毫秒数为"yyyyMMddHHmm"格式的数字</h3>
+     *
+     * @param timeMillis <span class="en-US">time milliseconds, already shifted to the target zone</span>
+     *                   <span class="zh-CN">时间的毫秒数，已转换到目标时区</span>
+     * @return <span class="en-US">date time long value</span>
+     * <span class="zh-CN">日期时间数字</span>
+     */
+    private static long timeValue(final long timeMillis) {
+        int dateValue = DateTimeUtils.dateValue(Math.floorDiv(timeMillis, MILLIS_PER_DAY));
+        if (dateValue < 0) {
+            return Long.parseLong(LocalDateTime.ofEpochSecond(Math.floorDiv(timeMillis, 1000L), 0, ZoneOffset.UTC)
+                    .format(DEFAULT_LONG_PATTERN));
+        }
+        long minuteOfDay = Math.floorMod(timeMillis, MILLIS_PER_DAY) / 60_000L;
+        return dateValue * 10000L + (minuteOfDay / 60L) * 100L + minuteOfDay % 60L;
+    }
+
+    /**
+     * <h3 class="en-US">Format time milliseconds with "yyyy-MM-dd'T'HH:mm:ss" format</h3>
+     * <h3 class="zh-CN">使用"yyyy-MM-dd'T'HH:mm:ss"格式化时间的毫秒数</h3>
+     *
+     * @param timeMillis <span class="en-US">time milliseconds, already shifted to the target zone</span>
+     *                   <span class="zh-CN">时间的毫秒数，已转换到目标时区</span>
+     * @return <span class="en-US">formatted date time string</span>
+     * <span class="zh-CN">格式化后的日期时间字符串</span>
+     */
+    private static String iso8601(final long timeMillis) {
+        int dateValue = DateTimeUtils.dateValue(Math.floorDiv(timeMillis, MILLIS_PER_DAY));
+        if (dateValue < 0) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(timeMillis, 1000L), 0, ZoneOffset.UTC)
+                    .format(DEFAULT_ISO8601_PATTERN);
+        }
+        char[] chars = new char[19];
+        DateTimeUtils.fillDigits(chars, 0, dateValue / 10000, 4);
+        chars[4] = '-';
+        DateTimeUtils.fillDigits(chars, 5, (dateValue / 100) % 100, 2);
+        chars[7] = '-';
+        DateTimeUtils.fillDigits(chars, 8, dateValue % 100, 2);
+        chars[10] = 'T';
+        DateTimeUtils.fillTime(chars, 11, Math.floorMod(timeMillis, MILLIS_PER_DAY));
+        return new String(chars);
+    }
+
+    /**
+     * <h3 class="en-US">Fill "HH:mm:ss" of given milliseconds of day into char array</h3>
+     * <h3 class="zh-CN">将给定的当日毫秒数以"HH:mm:ss"格式填充到字符数组</h3>
+     *
+     * @param chars       <span class="en-US">char array</span>
+     *                    <span class="zh-CN">字符数组</span>
+     * @param offset      <span class="en-US">begin offset</span>
+     *                    <span class="zh-CN">起始偏移量</span>
+     * @param millisOfDay <span class="en-US">milliseconds of day</span>
+     *                    <span class="zh-CN">当日的毫秒数</span>
+     */
+    private static void fillTime(final char[] chars, final int offset, final long millisOfDay) {
+        int secondOfDay = (int) (millisOfDay / 1000L);
+        DateTimeUtils.fillDigits(chars, offset, secondOfDay / 3600, 2);
+        chars[offset + 2] = ':';
+        DateTimeUtils.fillDigits(chars, offset + 3, (secondOfDay / 60) % 60, 2);
+        chars[offset + 5] = ':';
+        DateTimeUtils.fillDigits(chars, offset + 6, secondOfDay % 60, 2);
+    }
+
+    /**
+     * <h3 class="en-US">Fill zero padded digits of given value into char array</h3>
+     * <h3 class="zh-CN">将给定数值以补零的数字填充到字符数组</h3>
+     *
+     * @param chars  <span class="en-US">char array</span>
+     *               <span class="zh-CN">字符数组</span>
+     * @param offset <span class="en-US">begin offset</span>
+     *               <span class="zh-CN">起始偏移量</span>
+     * @param value  <span class="en-US">non-negative value</span>
+     *               <span class="zh-CN">非负数值</span>
+     * @param length <span class="en-US">digits length</span>
+     *               <span class="zh-CN">数字长度</span>
+     */
+    private static void fillDigits(final char[] chars, final int offset, final int value, final int length) {
+        int current = value;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + current % 10);
+            current /= 10;
+        }
+    }
+
     /**
      * <h3 class="en-US">Get default time zone string</h3>
      * <h3 class="zh-CN">读取默认的时区并转换为字符串</h3>
@@ -975,71 +1351,4 @@ public final class DateTimeUtils {
         stringBuilder.append(zoneCode < 10 ? "0" : "").append(zoneCode).append(":00");
         return stringBuilder.toString();
     }
-
-    /**
-     * <h2 class="en-US">UTC Clock</h2>
-     * <h2 class="zh-CN">UTC时钟</h2>
-     *
-     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
-     * @version $Revision: 1.0.0 $ $Date: Jan 13, 2010 11:46:19 $
-     */
-    private static final class UTCClock {
-        /**
-         * <span class="en-US">Current local time milliseconds</span>
-         * <span class="zh-CN">当前本地时间的毫秒数</span>
-         */
-        private final AtomicLong currentLocalTime = new AtomicLong(System.currentTimeMillis());
-        /**
-         * <span class="en-US">Current UTC time milliseconds</span>
-         * <span class="zh-CN">当前UTC时间的毫秒数</span>
-         */
-        private final AtomicLong currentUTCTime =
-                new AtomicLong(System.currentTimeMillis() - TimeZone.getDefault().getRawOffset());
-
-        /**
-         * <h3 class="en-US">Constructor method for UTC clock</h3>
-         * <h3 class="zh-CN">UTC时钟的构造方法</h3>
-         */
-        public UTCClock() {
-            ScheduledThreadPoolExecutor threadPoolExecutor =
-                    new ScheduledThreadPoolExecutor(1, r -> {
-                        Thread thread = new Thread(r);
-                        thread.setDaemon(Boolean.TRUE);
-                        return thread;
-                    });
-            threadPoolExecutor.scheduleAtFixedRate(this::readTime, 0L, 1L, TimeUnit.MILLISECONDS);
-        }
-
-        /**
-         * <h3 class="en-US">Read current local time milliseconds</h3>
-         * <h3 class="zh-CN">读取当前本地时间的毫秒数</h3>
-         *
-         * @return <span class="en-US">Current local time milliseconds</span>
-         * <span class="zh-CN">当前本地时间的毫秒数</span>
-         */
-        public long currentTimeMillis() {
-            return this.currentLocalTime.get();
-        }
-
-        /**
-         * <h3 class="en-US">Read current UTC time milliseconds</h3>
-         * <h3 class="zh-CN">读取当前UTC时间的毫秒数</h3>
-         *
-         * @return <span class="en-US">Current UTC time milliseconds</span>
-         * <span class="zh-CN">当前UTC时间的毫秒数</span>
-         */
-        public long currentUTCTimeMillis() {
-            return this.currentUTCTime.get();
-        }
-
-        /**
-         * <h3 class="en-US">Schedule method for read current local time and UTC time</h3>
-         * <h3 class="zh-CN">调度方法用于读取当前本地时间和UTC时间</h3>
-         */
-        private void readTime() {
-            long currentTime = System.currentTimeMillis();
-            this.currentLocalTime.set(currentTime);
-            this.currentUTCTime.set(currentTime - TimeZone.getDefault().getRawOffset());
-        }
-    }
 }
@@ -25,18 +25,25 @@ import jcifs.smb.NtlmPasswordAuthenticator;
 import jcifs.smb.SmbFile;
 import jcifs.smb.SmbFileInputStream;
 import jcifs.smb.SmbFileOutputStream;
+import org.nervousync.beans.files.CopyStatistics;
 import org.nervousync.beans.path.TargetPath;
 import org.nervousync.beans.xml.files.SegmentationBlock;
 import org.nervousync.beans.xml.files.SegmentationInfo;
 import org.nervousync.commons.Globals;
+import org.nervousync.commons.io.CopyListener;
 import org.nervousync.exceptions.zip.ZipException;
 import org.nervousync.zip.ZipFile;
 
 import java.io.*;
 import java.net.*;
-import java.nio.file.Files;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.zip.CRC32;
@@ -46,7 +53,7 @@ import java.util.zip.CRC32;
  * <h2 class="zh-CN">文件操作工具集</h2>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Jan 13, 2010 11:08:14 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 15:24:46 $
  */
 public final class FileUtils {
     /**
@@ -54,6 +61,11 @@ public final class FileUtils {
      * <span class="zh-CN">日志实例</span>
      */
     private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(FileUtils.class);
+    /**
+     * <span class="en-US">Buffer size of stream copy, large buffer reduces the round trips of samba transfer</span>
+     * <span class="zh-CN">流复制的缓冲区大小，较大的缓冲区可以减少samba传输的往返次数</span>
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 1024 * 1024;
 
     /**
      * <span class="en-US">URL prefixes for loading from the class path: "classpath:"</span>
@@ -2368,6 +2380,9 @@ public final class FileUtils {
                         }
                     }
 
+                    if (FileUtils.renameLocal(originalPath, targetPath)) {
+                        return Boolean.TRUE;
+                    }
                     return FileUtils.copy(originalPath, originalContext, targetPath, targetContext, override)
                             && FileUtils.removeFile(originalPath);
                 } catch (Exception e) {
@@ -2500,6 +2515,10 @@ public final class FileUtils {
                 || StringUtils.isEmpty(targetPath)) {
             return Boolean.FALSE;
         }
+        if (!targetPath.startsWith(Globals.SAMBA_PROTOCOL) && !FileUtils.isExists(targetPath)
+                && FileUtils.renameLocal(originalPath, targetPath)) {
+            return Boolean.TRUE;
+        }
         if (FileUtils.copy(originalPath, originalContext, targetPath, targetContext, override)) {
             return FileUtils.removeDir(originalPath, originalContext);
         }
@@ -2877,6 +2896,92 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * <h3 class="en-US">Copy local directory tree to target path in parallel</h3>
+     * <h3 class="zh-CN">并行复制本地文件夹树到目标地址</h3>
+     *
+     * @param originalPath <span class="en-US">Original local folder path</span>
+     *                     <span class="zh-CN">原本地文件夹地址</span>
+     * @param targetPath   <span class="en-US">Target local folder path</span>
+     *                     <span class="zh-CN">目标本地文件夹地址</span>
+     * @param parallelism  <span class="en-US">Maximum number of files copied at the same time</span>
+     *                     <span class="zh-CN">同时复制的最大文件数量</span>
+     * @return <span class="en-US">Copy statistics information, <code>null</code> if the original folder not exists or the paths were not local</span>
+     * <span class="zh-CN">复制统计信息，如果原文件夹不存在或地址不是本地地址则返回<code>null</code></span>
+     */
+    public static CopyStatistics copyDirectory(final String originalPath, final String targetPath,
+                                               final int parallelism) {
+        return FileUtils.copyDirectory(originalPath, targetPath, Boolean.FALSE, Boolean.FALSE, parallelism, null);
+    }
+
+    /**
+     * <h3 class="en-US">Copy local directory tree to target path in parallel</h3>
+     * <p class="en-US">
+     *     The folders were created by the calling thread while walking the tree,
+     *     the files were copied using file channel transfer by a bounded thread pool,
+     *     the calling thread copies the file itself when the task queue was full.
+     *     The attributes of folders were applied after all files were copied.
+     * </p>
+     * <h3 class="zh-CN">并行复制本地文件夹树到目标地址</h3>
+     * <p class="zh-CN">
+     *     遍历文件夹树时由调用线程创建文件夹，文件由有界线程池使用文件通道传输复制，任务队列已满时由调用线程直接复制文件。
+     *     文件夹的属性在所有文件复制完成后设置。
+     * </p>
+     *
+     * @param originalPath       <span class="en-US">Original local folder path</span>
+     *                           <span class="zh-CN">原本地文件夹地址</span>
+     * @param targetPath         <span class="en-US">Target local folder path</span>
+     *                           <span class="zh-CN">目标本地文件夹地址</span>
+     * @param override           <span class="en-US">Override target if exists</span>
+     *                           <span class="zh-CN">覆盖目标文件</span>
+     * @param preserveAttributes <span class="en-US">Copy the last modified time, last access time and permissions</span>
+     *                           <span class="zh-CN">复制最后修改时间、最后访问时间和权限</span>
+     * @param parallelism        <span class="en-US">Maximum number of files copied at the same time</span>
+     *                           <span class="zh-CN">同时复制的最大文件数量</span>
+     * @param copyListener       <span class="en-US">Copy progress listener, <code>null</code> for ignore</span>
+     *                           <span class="zh-CN">复制进度监听器，<code>null</code>为忽略</span>
+     * @return <span class="en-US">Copy statistics information, <code>null</code> if the original folder not exists or the paths were not local</span>
+     * <span class="zh-CN">复制统计信息，如果原文件夹不存在或地址不是本地地址则返回<code>null</code></span>
+     */
+    public static CopyStatistics copyDirectory(final String originalPath, final String targetPath,
+                                               final boolean override, final boolean preserveAttributes,
+                                               final int parallelism, final CopyListener copyListener) {
+        if (StringUtils.isEmpty(originalPath) || StringUtils.isEmpty(targetPath)
+                || originalPath.startsWith(Globals.SAMBA_PROTOCOL) || targetPath.startsWith(Globals.SAMBA_PROTOCOL)) {
+            return null;
+        }
+        final Path originalFolder;
+        final Path targetFolder;
+        try {
+            originalFolder = FileUtils.getFile(originalPath).toPath();
+            targetFolder = FileUtils.getFile(targetPath).toPath();
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+        if (!Files.isDirectory(originalFolder)) {
+            return null;
+        }
+
+        long beginTime = System.currentTimeMillis();
+        DirectoryCopier directoryCopier = new DirectoryCopier(originalFolder, targetFolder, override,
+                preserveAttributes, Math.max(parallelism, 1), copyListener);
+        try {
+            directoryCopier.copy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            directoryCopier.failedFiles.incrementAndGet();
+        } catch (Exception e) {
+            LOGGER.error("Copy_Directory_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            directoryCopier.failedFiles.incrementAndGet();
+        }
+        return new CopyStatistics(directoryCopier.copiedFiles.get(), directoryCopier.skippedFiles.get(),
+                directoryCopier.failedFiles.get(), directoryCopier.copiedBytes.get(),
+                System.currentTimeMillis() - beginTime);
+    }
+
     /**
      * <h3 class="en-US">Remove target directory</h3>
      * <h3 class="zh-CN">删除目标文件夹</h3>
@@ -3731,6 +3836,138 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * <h2 class="en-US">Parallel directory copier</h2>
+     * <h2 class="zh-CN">并行文件夹复制器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 15:41:19 $
+     */
+    private static final class DirectoryCopier extends SimpleFileVisitor<Path> {
+
+        private final Path originalFolder;
+        private final Path targetFolder;
+        private final boolean override;
+        private final boolean preserveAttributes;
+        private final int parallelism;
+        private final CopyListener copyListener;
+        private final List<Path> directories = new ArrayList<>();
+        private final AtomicLong copiedFiles = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+        private final AtomicLong skippedFiles = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+        private final AtomicLong failedFiles = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+        private final AtomicLong copiedBytes = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+        private ThreadPoolExecutor threadPoolExecutor = null;
+
+        DirectoryCopier(final Path originalFolder, final Path targetFolder, final boolean override,
+                        final boolean preserveAttributes, final int parallelism, final CopyListener copyListener) {
+            this.originalFolder = originalFolder;
+            this.targetFolder = targetFolder;
+            this.override = override;
+            this.preserveAttributes = preserveAttributes;
+            this.parallelism = parallelism;
+            this.copyListener = copyListener;
+        }
+
+        void copy() throws IOException, InterruptedException {
+            if (this.parallelism > 1) {
+                this.threadPoolExecutor = new ThreadPoolExecutor(this.parallelism, this.parallelism,
+                        0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(this.parallelism * 16),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "DirectoryCopier");
+                            thread.setDaemon(Boolean.TRUE);
+                            return thread;
+                        }, new ThreadPoolExecutor.CallerRunsPolicy());
+            }
+            try {
+                Files.walkFileTree(this.originalFolder, this);
+            } finally {
+                if (this.threadPoolExecutor != null) {
+                    this.threadPoolExecutor.shutdown();
+                    this.threadPoolExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (this.preserveAttributes) {
+                // Apply in reverse order, the attributes of child folders were applied before their parents
+                for (int i = this.directories.size() - 1; i >= 0; i--) {
+                    Path directory = this.directories.get(i);
+                    this.copyAttributes(directory, this.targetFolder.resolve(this.originalFolder.relativize(directory)));
+                }
+            }
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+            Files.createDirectories(this.targetFolder.resolve(this.originalFolder.relativize(dir)));
+            this.directories.add(dir);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            if (attrs.isRegularFile()) {
+                Path targetFile = this.targetFolder.resolve(this.originalFolder.relativize(file));
+                if (this.threadPoolExecutor == null) {
+                    this.copyFile(file, targetFile);
+                } else {
+                    this.threadPoolExecutor.execute(() -> this.copyFile(file, targetFile));
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            LOGGER.error("Copy_Files_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", exc);
+            }
+            this.failedFiles.incrementAndGet();
+            return FileVisitResult.CONTINUE;
+        }
+
+        private void copyFile(final Path originalFile, final Path targetFile) {
+            if (!this.override && Files.exists(targetFile)) {
+                this.skippedFiles.incrementAndGet();
+                return;
+            }
+            try {
+                long fileSize = FileUtils.transferFile(originalFile, targetFile);
+                if (this.preserveAttributes) {
+                    this.copyAttributes(originalFile, targetFile);
+                }
+                long totalFiles = this.copiedFiles.incrementAndGet();
+                long totalBytes = this.copiedBytes.addAndGet(fileSize);
+                if (this.copyListener != null) {
+                    this.copyListener.copied(originalFile.toString(), targetFile.toString(), fileSize,
+                            totalFiles, totalBytes);
+                }
+            } catch (Exception e) {
+                LOGGER.error("Copy_Files_Error");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+                this.failedFiles.incrementAndGet();
+            }
+        }
+
+        private void copyAttributes(final Path originalPath, final Path targetPath) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(originalPath, BasicFileAttributes.class);
+                Files.getFileAttributeView(targetPath, BasicFileAttributeView.class)
+                        .setTimes(attributes.lastModifiedTime(), attributes.lastAccessTime(), null);
+                PosixFileAttributeView posixView =
+                        Files.getFileAttributeView(originalPath, PosixFileAttributeView.class);
+                if (posixView != null) {
+                    Files.setPosixFilePermissions(targetPath, posixView.readAttributes().permissions());
+                }
+            } catch (IOException | UnsupportedOperationException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+            }
+        }
+    }
+
     /**
      * <h3 class="en-US">Move file from base samba path to target samba path</h3>
      * <h3 class="zh-CN">从原samba文件地址移动到目标samba文件地址</h3>
@@ -3754,47 +3991,94 @@ public final class FileUtils {
                 if (!override && ((SmbFile) targetFile).exists()) {
                     return Boolean.FALSE;
                 }
-                try (InputStream inputStream = (originalFile instanceof SmbFile)
-                        ? new SmbFileInputStream((SmbFile) originalFile) : new FileInputStream((File) originalFile);
-                     OutputStream outputStream = new SmbFileOutputStream((SmbFile) targetFile)) {
-                    int readLength;
-                    byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
-
-                    while ((readLength = inputStream.read(readBuffer)) != -1) {
-                        outputStream.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
-                    }
-                    return Boolean.TRUE;
-                } catch (Exception e) {
-                    LOGGER.error("Copy_Files_Error");
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("Stack_Message_Error", e);
-                    }
-                    return Boolean.FALSE;
-                }
             } else {
                 if (!override && ((File) targetFile).exists()) {
                     return Boolean.FALSE;
                 }
-                try (InputStream inputStream = (originalFile instanceof SmbFile)
-                        ? new SmbFileInputStream((SmbFile) originalFile) : new FileInputStream((File) originalFile);
-                     OutputStream outputStream = new FileOutputStream((File) targetFile)) {
-                    int readLength;
-                    byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
-
-                    while ((readLength = inputStream.read(readBuffer)) != -1) {
-                        outputStream.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
-                    }
+                if (originalFile instanceof File) {
+                    FileUtils.transferFile(((File) originalFile).toPath(), ((File) targetFile).toPath());
                     return Boolean.TRUE;
-                } catch (Exception e) {
-                    LOGGER.error("Copy_Files_Error");
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("Stack_Message_Error", e);
-                    }
-                    return Boolean.FALSE;
                 }
             }
+            try (InputStream inputStream = (originalFile instanceof SmbFile)
+                    ? new SmbFileInputStream((SmbFile) originalFile) : new FileInputStream((File) originalFile);
+                 OutputStream outputStream = (targetFile instanceof SmbFile)
+                         ? new SmbFileOutputStream((SmbFile) targetFile) : new FileOutputStream((File) targetFile)) {
+                int readLength;
+                byte[] readBuffer = new byte[TRANSFER_BUFFER_SIZE];
+
+                while ((readLength = inputStream.read(readBuffer)) != -1) {
+                    outputStream.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
+                }
+                return Boolean.TRUE;
+            }
+        } catch (Exception e) {
+            LOGGER.error("Copy_Files_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Copy local file using file channel transfer</h3>
+     * <p class="en-US">
+     *     The data was transferred by the operating system (e.g. sendfile or copy_file_range),
+     *     without copying to the Java heap, the target file will be created or truncated.
+     * </p>
+     * <h3 class="zh-CN">使用文件通道传输复制本地文件</h3>
+     * <p class="zh-CN">数据由操作系统直接传输（例如sendfile或copy_file_range），不复制到Java堆中，目标文件将被创建或截断</p>
+     *
+     * @param originalPath <span class="en-US">Original file path</span>
+     *                     <span class="zh-CN">原文件路径</span>
+     * @param targetPath   <span class="en-US">Target file path</span>
+     *                     <span class="zh-CN">目标文件路径</span>
+     * @return <span class="en-US">Transferred bytes</span>
+     * <span class="zh-CN">传输的字节数</span>
+     * @throws IOException <span class="en-US">If an I/O error occurs or the file was not fully transferred</span>
+     *                     <span class="zh-CN">如果出现I/O错误或文件未完整传输</span>
+     */
+    private static long transferFile(final Path originalPath, final Path targetPath) throws IOException {
+        try (FileChannel originalChannel = FileChannel.open(originalPath, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(targetPath, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long fileSize = originalChannel.size();
+            long position = Globals.INITIALIZE_INT_VALUE;
+            while (position < fileSize) {
+                long transferred = originalChannel.transferTo(position, fileSize - position, targetChannel);
+                if (transferred <= 0L) {
+                    break;
+                }
+                position += transferred;
+            }
+            if (position < fileSize) {
+                throw new IOException("Transferred " + position + " of " + fileSize + " bytes from " + originalPath);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Move local file or directory using file system rename</h3>
+     * <h3 class="zh-CN">使用文件系统重命名移动本地文件或文件夹</h3>
+     *
+     * @param originalPath <span class="en-US">Original path</span>
+     *                     <span class="zh-CN">原地址</span>
+     * @param targetPath   <span class="en-US">Target path</span>
+     *                     <span class="zh-CN">目标地址</span>
+     * @return <span class="en-US"><code>Boolean.TRUE</code> if moved, <code>Boolean.FALSE</code> if the paths were not local, or the atomic move was not supported (e.g. across file systems)</span>
+     * <span class="zh-CN">移动成功返回<code>Boolean.TRUE</code>，如果路径不是本地路径或不支持原子移动（例如跨文件系统）返回<code>Boolean.FALSE</code></span>
+     */
+    private static boolean renameLocal(final String originalPath, final String targetPath) {
+        if (originalPath.startsWith(Globals.SAMBA_PROTOCOL) || targetPath.startsWith(Globals.SAMBA_PROTOCOL)) {
+            return Boolean.FALSE;
+        }
+        try {
+            Files.move(FileUtils.getFile(originalPath).toPath(), FileUtils.getFile(targetPath).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE);
+            return Boolean.TRUE;
         } catch (Exception e) {
-            LOGGER.error("Move_Files_Error");
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Stack_Message_Error", e);
             }
@@ -17,6 +17,7 @@
 package org.nervousync.utils;
 
 import jakarta.annotation.Nonnull;
+import org.nervousync.beans.ip.IPAddress;
 import org.nervousync.beans.ip.IPRange;
 import org.nervousync.commons.Globals;
 import org.nervousync.commons.RegexGlobals;
@@ -32,6 +33,7 @@ import java.math.BigInteger;
  *     <ul>Convert between netmask address and CIDR value</ul>
  *     <ul>Convert between IPv4 and IPv6</ul>
  *     <ul>Convert between IP address and BigInteger(for support IPv6)</ul>
+ *     <ul>Parse IP address to numeric IPAddress instance without regex</ul>
  *     <ul>Expand the combo IPv6 address</ul>
  * </span>
  * <h2 class="zh-CN">IP地址工具</h2>
@@ -41,11 +43,12 @@ import java.math.BigInteger;
  *     <ul>在子网掩码和CIDR之间转换数据</ul>
  *     <ul>在IPv4和IPv6之间转换数据</ul>
  *     <ul>在IP地址和BigInteger之间转换数据</ul>
+ *     <ul>不使用正则表达式，将IP地址解析为数值型IPAddress实例对象</ul>
  *     <ul>将压缩显示的IPv6地址展开</ul>
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Aug 15, 2022 16:23:13 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:36:52 $
  */
 public final class IPUtils {
     /**
@@ -63,6 +66,16 @@ public final class IPUtils {
      * <span class="zh-CN">IPv6压缩地址的间隔符</span>
      */
     private static final String SPLIT_COMBO_CHARACTER_IPV6 = "::";
+    /**
+     * <span class="en-US">Group count of IPv6 address</span>
+     * <span class="zh-CN">IPv6地址的分组数量</span>
+     */
+    private static final int IPV6_GROUP_COUNT = 8;
+    /**
+     * <span class="en-US">Hex characters used to format IPv6 address</span>
+     * <span class="zh-CN">格式化IPv6地址使用的16进制字符</span>
+     */
+    private static final char[] HEX_CHARACTERS = "0123456789ABCDEF".toCharArray();
 
     /**
      * <h3 class="en-US">Private constructor for IPUtils</h3>
@@ -81,25 +94,40 @@ public final class IPUtils {
      *                  <span class="zh-CN">CIDR值</span>
      * @return <span class="en-US">Calculate result of IPRange instance</span>
      * <span class="zh-CN">根据计算结果生成的IPRange对象</span>
+     * @throws IllegalArgumentException <span class="en-US">If the address or CIDR value is invalid</span>
+     *                                  <span class="zh-CN">如果地址或CIDR值非法</span>
      */
     public static IPRange calcRange(@Nonnull final String ipAddress, final int cidr) {
-        IPRange ipRange = new IPRange();
-        final String beginAddress;
-        final String endAddress;
-        if (ipAddress.contains(SPLIT_CHARACTER_IPV6)) {
-            ipRange.setIpType(IPType.IPv6);
-            beginAddress = beginIPv6(ipAddress, cidr);
-            endAddress = endIPv6(beginAddress, cidr);
+        IPAddress address = IPToAddress(ipAddress);
+        if (address == null && ipAddress.indexOf(':') == Globals.DEFAULT_VALUE_INT) {
+            //  IPv4 segments with leading zeros (e.g. "01.2.3.4") are read as decimal values
+            String trimmed = ipAddress.trim();
+            long addressValue = parseIPv4(trimmed, Globals.INITIALIZE_INT_VALUE, trimmed.length(), Boolean.FALSE);
+            if (addressValue != Globals.DEFAULT_VALUE_LONG) {
+                address = IPAddress.ipv4((int) addressValue);
+            }
+        }
+        if (address == null) {
+            throw new IllegalArgumentException("Invalid IP address: " + ipAddress);
+        }
+        IPAddress beginAddress = address.network(cidr);
+        IPAddress endAddress;
+        if (IPType.IPv4.equals(address.getIpType())) {
+            int beginValue = beginAddress.intValue();
+            if ((address.intValue() & 0xFF) == 0) {
+                //  The network address given by ".0" was never included in the calculated range
+                beginValue++;
+                beginAddress = IPAddress.ipv4(beginValue);
+            }
+            endAddress = IPAddress.ipv4(~beginValue ^ IPv4Mask(cidr));
         } else {
-            ipRange.setIpType(IPType.IPv4);
-            String netmask = CIDRToNetmask(cidr);
-            beginAddress = beginIPv4(ipAddress, netmask);
-            endAddress = endIPv4(beginAddress, netmask);
+            endAddress = address.broadcast(cidr);
         }
 
-        ipRange.setBeginAddress(beginAddress);
-        ipRange.setEndAddress(endAddress);
-
+        IPRange ipRange = new IPRange();
+        ipRange.setIpType(address.getIpType());
+        ipRange.setBeginValue(beginAddress);
+        ipRange.setEndValue(endAddress);
         return ipRange;
     }
 
@@ -113,19 +141,7 @@ public final class IPUtils {
      * <span class="zh-CN">CIDR值</span>
      */
     public static int NetmaskToCIDR(@Nonnull final String netmask) {
-        int result = 0;
-        String[] splitItems = StringUtils.tokenizeToStringArray(netmask, SPLIT_CHARACTER_IPV4);
-
-        for (String splitItem : splitItems) {
-            int number = Integer.parseInt(splitItem);
-            while (number > 0) {
-                if ((number % 2) == 1) {
-                    result++;
-                }
-                number /= 2;
-            }
-        }
-        return result;
+        return Integer.bitCount(IPv4ToInt(netmask));
     }
 
     /**
@@ -138,23 +154,30 @@ public final class IPUtils {
      * <span class="zh-CN">子网掩码字符串</span>
      */
     public static String CIDRToNetmask(final int cidr) {
-        int calcCIDR = cidr;
-        if (calcCIDR >= 0 && calcCIDR <= 32) {
-            StringBuilder stringBuilder = new StringBuilder();
-            int index = 0;
-            while (index < 4) {
-                stringBuilder.append(SPLIT_CHARACTER_IPV4).append(fillBitsFromLeft(calcCIDR));
-                calcCIDR -= 8;
-                if (calcCIDR < 0) {
-                    calcCIDR = 0;
-                }
-                index++;
-            }
-            return stringBuilder.substring(1);
+        if (cidr >= 0 && cidr <= IPAddress.IPV4_BIT_LENGTH) {
+            return AddressToIP(IPAddress.ipv4(IPv4Mask(cidr)));
         }
         return Globals.DEFAULT_VALUE_STRING;
     }
 
+    /**
+     * <h3 class="en-US">Convert CIDR value to IPv4 netmask value</h3>
+     * <h3 class="zh-CN">转换CIDR值为IPv4子网掩码数值</h3>
+     *
+     * @param cidr <span class="en-US">CIDR value</span>
+     *             <span class="zh-CN">CIDR值</span>
+     * @return <span class="en-US">Netmask value</span>
+     * <span class="zh-CN">子网掩码数值</span>
+     * @throws IllegalArgumentException <span class="en-US">If the CIDR value is not between 0 and 32</span>
+     *                                  <span class="zh-CN">如果CIDR值不在0到32之间</span>
+     */
+    public static int IPv4Mask(final int cidr) {
+        if (cidr < 0 || cidr > IPAddress.IPV4_BIT_LENGTH) {
+            throw new IllegalArgumentException("Invalid CIDR value: " + cidr);
+        }
+        return cidr == 0 ? Globals.INITIALIZE_INT_VALUE : -1 << (IPAddress.IPV4_BIT_LENGTH - cidr);
+    }
+
     /**
      * <h3 class="en-US">Check given IP address string is IPv4 address</h3>
      * <h3 class="zh-CN">检查给定的IP地址字符串是合法的IPv4地址</h3>
@@ -165,7 +188,10 @@ public final class IPUtils {
      * <span class="zh-CN">检查结果。<code>true</code>合法地址，<code>false</code>非法地址</span>
      */
     public static boolean isIPv4Address(@Nonnull final String ipAddress) {
-        return StringUtils.matches(ipAddress, RegexGlobals.IPV4_REGEX);
+        if (ipAddress == null) {
+            return Boolean.FALSE;
+        }
+        return parseIPv4(ipAddress, Globals.INITIALIZE_INT_VALUE, ipAddress.length(), Boolean.TRUE) != Globals.DEFAULT_VALUE_LONG;
     }
 
     /**
@@ -178,8 +204,151 @@ public final class IPUtils {
      * <span class="zh-CN">检查结果。<code>true</code>合法地址，<code>false</code>非法地址</span>
      */
     public static boolean isIPv6Address(@Nonnull final String ipAddress) {
-        return StringUtils.matches(ipAddress, RegexGlobals.IPV6_REGEX)
-                || StringUtils.matches(ipAddress, RegexGlobals.IPV6_COMPRESS_REGEX);
+        return StringUtils.matches(ipAddress, RegexGlobals.IPV6_PATTERN)
+                || StringUtils.matches(ipAddress, RegexGlobals.IPV6_COMPRESS_PATTERN);
+    }
+
+    /**
+     * <h3 class="en-US">Convert given IPv4 address string to int value</h3>
+     * <span class="en-US">The address is scanned in place, no intermediate string or array will be created.</span>
+     * <h3 class="zh-CN">转换给定的IPv4地址为int数值</h3>
+     * <span class="zh-CN">直接扫描地址字符，不会创建中间字符串或数组。</span>
+     *
+     * @param ipAddress <span class="en-US">IPv4 address string</span>
+     *                  <span class="zh-CN">IPv4地址字符串</span>
+     * @return <span class="en-US">IPv4 address value</span>
+     * <span class="zh-CN">IPv4地址数值</span>
+     * @throws IllegalArgumentException <span class="en-US">If the given string is not a valid IPv4 address</span>
+     *                                  <span class="zh-CN">如果给定的字符串不是合法的IPv4地址</span>
+     */
+    public static int IPv4ToInt(@Nonnull final CharSequence ipAddress) {
+        long addressValue = parseIPv4(ipAddress, Globals.INITIALIZE_INT_VALUE, ipAddress.length(), Boolean.TRUE);
+        if (addressValue == Globals.DEFAULT_VALUE_LONG) {
+            throw new IllegalArgumentException("Invalid IPv4 address: " + ipAddress);
+        }
+        return (int) addressValue;
+    }
+
+    /**
+     * <h3 class="en-US">Convert given IP address string to numeric IPAddress instance</h3>
+     * <span class="en-US">
+     *     Surrounding whitespace, IPv6 brackets and zone identifiers (e.g. "[fe80::1%eth0]") are ignored,
+     *     so the value returned by RequestUtils.getClientIP can be passed directly.
+     * </span>
+     * <h3 class="zh-CN">转换给定的IP地址为数值型IPAddress实例对象</h3>
+     * <span class="zh-CN">
+     *     忽略首尾空白字符、IPv6方括号和区域标识（例如"[fe80::1%eth0]"），
+     *     可以直接传入RequestUtils.getClientIP的返回值。
+     * </span>
+     *
+     * @param ipAddress <span class="en-US">IP address string</span>
+     *                  <span class="zh-CN">IP地址字符串</span>
+     * @return <span class="en-US">Converted IPAddress instance or <code>null</code> if address is invalid</span>
+     * <span class="zh-CN">转换后的IPAddress实例对象，如果地址非法则返回<code>null</code></span>
+     */
+    public static IPAddress IPToAddress(final CharSequence ipAddress) {
+        if (ipAddress == null) {
+            return null;
+        }
+        int begin = Globals.INITIALIZE_INT_VALUE, end = ipAddress.length();
+        while (begin < end && Character.isWhitespace(ipAddress.charAt(begin))) {
+            begin++;
+        }
+        while (end > begin && Character.isWhitespace(ipAddress.charAt(end - 1))) {
+            end--;
+        }
+        if (end - begin > 1 && ipAddress.charAt(begin) == '[' && ipAddress.charAt(end - 1) == ']') {
+            begin++;
+            end--;
+        }
+        boolean ipv6 = Boolean.FALSE;
+        for (int i = begin; i < end; i++) {
+            char character = ipAddress.charAt(i);
+            if (character == '%') {
+                end = i;
+                break;
+            }
+            if (character == ':') {
+                ipv6 = Boolean.TRUE;
+            }
+        }
+        if (ipv6) {
+            return parseIPv6(ipAddress, begin, end);
+        }
+        long addressValue = parseIPv4(ipAddress, begin, end, Boolean.TRUE);
+        return addressValue == Globals.DEFAULT_VALUE_LONG ? null : IPAddress.ipv4((int) addressValue);
+    }
+
+    /**
+     * <h3 class="en-US">Convert given IPAddress instance to collapsed address string</h3>
+     * <h3 class="zh-CN">转换给定的IPAddress实例对象为简写的地址字符串</h3>
+     *
+     * @param address <span class="en-US">IPAddress instance</span>
+     *                <span class="zh-CN">IPAddress实例对象</span>
+     * @return <span class="en-US">IP address string</span>
+     * <span class="zh-CN">IP地址字符串</span>
+     */
+    public static String AddressToIP(@Nonnull final IPAddress address) {
+        return AddressToIP(address, Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Convert given IPAddress instance to address string</h3>
+     * <h3 class="zh-CN">转换给定的IPAddress实例对象为地址字符串</h3>
+     *
+     * @param address  <span class="en-US">IPAddress instance</span>
+     *                 <span class="zh-CN">IPAddress实例对象</span>
+     * @param collapse <span class="en-US">Collapse IPv6 address, ignored for IPv4 address</span>
+     *                 <span class="zh-CN">是否简写IPv6地址，IPv4地址忽略此参数</span>
+     * @return <span class="en-US">IP address string</span>
+     * <span class="zh-CN">IP地址字符串</span>
+     */
+    public static String AddressToIP(@Nonnull final IPAddress address, final boolean collapse) {
+        if (IPType.IPv4.equals(address.getIpType())) {
+            int addressValue = address.intValue();
+            return (addressValue >>> 24) + SPLIT_CHARACTER_IPV4 + ((addressValue >>> 16) & 0xFF)
+                    + SPLIT_CHARACTER_IPV4 + ((addressValue >>> 8) & 0xFF) + SPLIT_CHARACTER_IPV4 + (addressValue & 0xFF);
+        }
+        StringBuilder stringBuilder = new StringBuilder(39);
+        if (collapse) {
+            //  Find the first longest run of zero groups, only runs longer than one group are collapsed
+            int zeroBegin = Globals.DEFAULT_VALUE_INT, zeroLength = 1, runBegin = Globals.DEFAULT_VALUE_INT;
+            for (int i = 0; i <= IPV6_GROUP_COUNT; i++) {
+                if (i < IPV6_GROUP_COUNT && group(address, i) == 0) {
+                    if (runBegin == Globals.DEFAULT_VALUE_INT) {
+                        runBegin = i;
+                    }
+                } else if (runBegin != Globals.DEFAULT_VALUE_INT) {
+                    if (i - runBegin > zeroLength) {
+                        zeroBegin = runBegin;
+                        zeroLength = i - runBegin;
+                    }
+                    runBegin = Globals.DEFAULT_VALUE_INT;
+                }
+            }
+            for (int i = 0; i < IPV6_GROUP_COUNT; i++) {
+                if (i == zeroBegin) {
+                    stringBuilder.append(SPLIT_COMBO_CHARACTER_IPV6);
+                    i += zeroLength - 1;
+                    continue;
+                }
+                if (i > 0 && i != zeroBegin + zeroLength) {
+                    stringBuilder.append(SPLIT_CHARACTER_IPV6);
+                }
+                stringBuilder.append(Integer.toHexString(group(address, i)).toUpperCase());
+            }
+        } else {
+            for (int i = 0; i < IPV6_GROUP_COUNT; i++) {
+                if (i > 0) {
+                    stringBuilder.append(SPLIT_CHARACTER_IPV6);
+                }
+                int groupValue = group(address, i);
+                for (int shift = 12; shift >= 0; shift -= 4) {
+                    stringBuilder.append(HEX_CHARACTERS[(groupValue >>> shift) & 0xF]);
+                }
+            }
+        }
+        return stringBuilder.toString();
     }
 
     /**
@@ -192,7 +361,7 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的IPv6兼容地址</span>
      */
     public static String IPv4ToCompatibleIPv6(@Nonnull final String ipAddress) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV4_REGEX)) {
+        if (isIPv4Address(ipAddress)) {
             return SPLIT_COMBO_CHARACTER_IPV6 + ipAddress;
         }
         return null;
@@ -223,7 +392,7 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的IPv6地址</span>
      */
     public static String IPv4ToIPv6(@Nonnull final String ipAddress, final boolean collapse) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV4_REGEX)) {
+        if (isIPv4Address(ipAddress)) {
             String[] splitAddress = StringUtils.tokenizeToStringArray(ipAddress, SPLIT_CHARACTER_IPV4);
             StringBuilder stringBuilder;
             if (collapse) {
@@ -255,14 +424,8 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的字节数组</span>
      */
     public static byte[] IPToBytes(@Nonnull final String ipAddress) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV4_REGEX)) {
-            return IPv4ToBytes(ipAddress);
-        } else if (StringUtils.matches(ipAddress, RegexGlobals.IPV6_REGEX)
-                || StringUtils.matches(ipAddress, RegexGlobals.IPV6_COMPRESS_REGEX)) {
-            return IPv6ToBytes(ipAddress);
-        } else {
-            return new byte[0];
-        }
+        IPAddress address = IPToAddress(ipAddress);
+        return address == null ? new byte[0] : AddressToBytes(address);
     }
 
     /**
@@ -275,16 +438,8 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的字节数组</span>
      */
     public static byte[] IPv4ToBytes(@Nonnull final String ipAddress) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV4_REGEX)) {
-            String[] splitAddress = StringUtils.tokenizeToStringArray(ipAddress, SPLIT_CHARACTER_IPV4);
-            byte[] addressBytes = new byte[4];
-
-            addressBytes[0] = (byte) Integer.parseInt(splitAddress[0]);
-            addressBytes[1] = (byte) Integer.parseInt(splitAddress[1]);
-            addressBytes[2] = (byte) Integer.parseInt(splitAddress[2]);
-            addressBytes[3] = (byte) Integer.parseInt(splitAddress[3]);
-
-            return addressBytes;
+        if (isIPv4Address(ipAddress)) {
+            return AddressToBytes(IPAddress.ipv4(IPv4ToInt(ipAddress)));
         }
         return null;
     }
@@ -299,21 +454,28 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的字节数组</span>
      */
     public static byte[] IPv6ToBytes(@Nonnull final String ipAddress) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV6_REGEX)
-                || StringUtils.matches(ipAddress, RegexGlobals.IPV6_COMPRESS_REGEX)) {
-            String ipv6Address = expandIPv6(ipAddress);
-            String[] splitAddress = StringUtils.tokenizeToStringArray(ipv6Address, SPLIT_CHARACTER_IPV6);
-            byte[] addressBytes = new byte[16];
-            int index = 0;
-            for (String address : splitAddress) {
-                int tmp = Integer.parseInt(address, 16);
-                addressBytes[index] = (byte) (tmp >> 8);
-                addressBytes[index + 1] = (byte) tmp;
-                index += 2;
-            }
-            return addressBytes;
+        IPAddress address = parseIPv6(ipAddress, Globals.INITIALIZE_INT_VALUE, ipAddress.length());
+        return address == null ? null : AddressToBytes(address);
+    }
+
+    /**
+     * <h3 class="en-US">Convert given IPAddress instance to byte array in network byte order</h3>
+     * <h3 class="zh-CN">转换给定的IPAddress实例对象为网络字节序的字节数组</h3>
+     *
+     * @param address <span class="en-US">IPAddress instance</span>
+     *                <span class="zh-CN">IPAddress实例对象</span>
+     * @return <span class="en-US">Converted byte array, 4 bytes for IPv4 and 16 bytes for IPv6</span>
+     * <span class="zh-CN">转换后的字节数组，IPv4为4字节，IPv6为16字节</span>
+     */
+    public static byte[] AddressToBytes(@Nonnull final IPAddress address) {
+        byte[] addressBytes = new byte[address.bitLength() / Byte.SIZE];
+        long highBits = address.getHighBits(), lowBits = address.getLowBits();
+        for (int i = addressBytes.length - 1; i >= 0; i--) {
+            addressBytes[i] = (byte) lowBits;
+            lowBits = (lowBits >>> Byte.SIZE) | (highBits << (Long.SIZE - Byte.SIZE));
+            highBits >>>= Byte.SIZE;
         }
-        return null;
+        return addressBytes;
     }
 
     /**
@@ -326,7 +488,7 @@ public final class IPUtils {
      * <span class="zh-CN">展开后的IPv6地址字符串</span>
      */
     public static String expandIPv6(@Nonnull final String ipAddress) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV6_COMPRESS_REGEX)) {
+        if (StringUtils.matches(ipAddress, RegexGlobals.IPV6_COMPRESS_PATTERN)) {
             int sigCount = StringUtils.countOccurrencesOf(ipAddress, SPLIT_CHARACTER_IPV6);
             int expandCount = 8 - sigCount;
             int position = 0;
@@ -363,7 +525,7 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的BigInteger实例对象</span>
      */
     public static BigInteger IPtoBigInteger(@Nonnull final String ipAddress) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV4_REGEX)) {
+        if (isIPv4Address(ipAddress)) {
             return IPv4ToBigInteger(ipAddress);
         } else {
             return IPv6ToBigInteger(ipAddress);
@@ -380,17 +542,8 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的BigInteger实例对象</span>
      */
     public static BigInteger IPv4ToBigInteger(@Nonnull final String ipAddress) {
-        if (StringUtils.matches(ipAddress, RegexGlobals.IPV4_REGEX)) {
-            String[] splitAddress = StringUtils.tokenizeToStringArray(ipAddress, SPLIT_CHARACTER_IPV4);
-            if (splitAddress.length == 4) {
-                long result = 0L;
-                for (int i = 0; i < splitAddress.length; i++) {
-                    result += (Long.parseLong(splitAddress[i]) << 8 * (3 - i));
-                }
-                return BigInteger.valueOf(result);
-            }
-        }
-        return BigInteger.ZERO;
+        long addressValue = parseIPv4(ipAddress, Globals.INITIALIZE_INT_VALUE, ipAddress.length(), Boolean.TRUE);
+        return addressValue == Globals.DEFAULT_VALUE_LONG ? BigInteger.ZERO : BigInteger.valueOf(addressValue);
     }
 
     /**
@@ -403,27 +556,8 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的BigInteger实例对象</span>
      */
     public static BigInteger IPv6ToBigInteger(@Nonnull final String ipAddress) {
-        String fullAddress = expandIgnore(ipAddress);
-        if (StringUtils.matches(fullAddress, RegexGlobals.IPV6_REGEX)) {
-            String[] splitAddress = StringUtils.tokenizeToStringArray(fullAddress, SPLIT_CHARACTER_IPV6);
-            BigInteger bigInteger = BigInteger.ZERO;
-            int index = 0;
-            for (String split : splitAddress) {
-                BigInteger currentInteger;
-                if (StringUtils.matches(split, RegexGlobals.IPV4_REGEX)) {
-                    currentInteger = IPv4ToBigInteger(split);
-                } else {
-                    currentInteger = BigInteger.valueOf(Long.valueOf(split, 16));
-                }
-                if (currentInteger == null) {
-                    return BigInteger.ZERO;
-                }
-                bigInteger = bigInteger.add(currentInteger.shiftLeft(16 * (splitAddress.length - index - 1)));
-                index++;
-            }
-            return bigInteger;
-        }
-        return BigInteger.ZERO;
+        IPAddress address = parseIPv6(ipAddress, Globals.INITIALIZE_INT_VALUE, ipAddress.length());
+        return address == null ? BigInteger.ZERO : new BigInteger(1, AddressToBytes(address));
     }
 
     /**
@@ -436,14 +570,7 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的IPv4地址字符串</span>
      */
     public static String BigIntegerToIPv4(@Nonnull final BigInteger bigInteger) {
-        StringBuilder ipv4Address = new StringBuilder();
-        BigInteger calcInteger = new BigInteger(bigInteger.toByteArray());
-        BigInteger ff = BigInteger.valueOf(0xFFL);
-        for (int i = 0; i < 4; i++) {
-            ipv4Address.insert(0, SPLIT_CHARACTER_IPV4 + calcInteger.and(ff));
-            calcInteger = calcInteger.shiftRight(8);
-        }
-        return ipv4Address.substring(1);
+        return AddressToIP(IPAddress.ipv4(bigInteger.intValue()));
     }
 
     /**
@@ -456,14 +583,7 @@ public final class IPUtils {
      * <span class="zh-CN">转换后的IPv6地址字符串</span>
      */
     public static String BigIntegerToIPv6Address(@Nonnull final BigInteger bigInteger) {
-        StringBuilder ipv6Address = new StringBuilder();
-        BigInteger calcInteger = new BigInteger(bigInteger.toByteArray());
-        BigInteger ff = BigInteger.valueOf(0xFFFFL);
-        for (int i = 0; i < 8; i++) {
-            ipv6Address.insert(0, SPLIT_CHARACTER_IPV6 + calcInteger.and(ff).toString(16));
-            calcInteger = calcInteger.shiftRight(16);
-        }
-        return ipv6Address.substring(1).replaceFirst(RegexGlobals.IPV6_COMPRESS_REGEX, SPLIT_COMBO_CHARACTER_IPV6);
+        return AddressToIP(IPAddress.ipv6(bigInteger.shiftRight(Long.SIZE).longValue(), bigInteger.longValue()));
     }
 
     /**
@@ -502,152 +622,188 @@ public final class IPUtils {
     }
 
     /**
-     * <h3 class="en-US">Calculate the begin IP address by given IP address and netmask string</h3>
-     * <h3 class="zh-CN">根据给定的IP地址和子网掩码字符串计算起始IP地址</h3>
+     * <h3 class="en-US">Parse IPv4 address in given character range</h3>
+     * <h3 class="zh-CN">解析给定字符范围内的IPv4地址</h3>
      *
-     * @param ipAddress <span class="en-US">IP address string</span>
-     *                  <span class="zh-CN">IP地址字符串</span>
-     * @param netmask   <span class="en-US">IP address</span>
-     *                  <span class="zh-CN">IP地址</span>
-     * @return <span class="en-US">Begin IPv4 address string</span>
-     * <span class="zh-CN">起始的IPv4地址字符串</span>
+     * @param ipAddress <span class="en-US">Character sequence</span>
+     *                  <span class="zh-CN">字符序列</span>
+     * @param begin     <span class="en-US">Begin index (inclusive)</span>
+     *                  <span class="zh-CN">起始索引（包含）</span>
+     * @param end       <span class="en-US">End index (exclusive)</span>
+     *                  <span class="zh-CN">终止索引（不包含）</span>
+     * @param strict    <span class="en-US">Reject segments with leading zeros, e.g. "01"</span>
+     *                  <span class="zh-CN">拒绝包含前导零的地址段，例如"01"</span>
+     * @return <span class="en-US">Unsigned address value, or -1 if the address is invalid</span>
+     * <span class="zh-CN">无符号地址数值，如果地址非法则返回-1</span>
      */
-    private static String beginIPv4(@Nonnull final String ipAddress, @Nonnull final String netmask) {
-        String[] addressItems = StringUtils.tokenizeToStringArray(ipAddress, SPLIT_CHARACTER_IPV4);
-        String[] maskItems = StringUtils.tokenizeToStringArray(netmask, SPLIT_CHARACTER_IPV4);
-        StringBuilder stringBuilder = new StringBuilder();
-        for (int i = 0; i < 4; i++) {
-            int itemValue = i < addressItems.length ? Integer.parseInt(addressItems[i])
-                    : Globals.INITIALIZE_INT_VALUE;
-            int beginItem = itemValue & Integer.parseInt(maskItems[i]);
-            if (itemValue == 0 && i == 3) {
-                beginItem++;
+    private static long parseIPv4(@Nonnull final CharSequence ipAddress, final int begin, final int end,
+                                  final boolean strict) {
+        int length = end - begin;
+        if (length < 7 || length > 15) {
+            return Globals.DEFAULT_VALUE_LONG;
+        }
+        long addressValue = 0L;
+        int segmentCount = 0, segmentValue = 0, digitCount = 0;
+        for (int i = begin; i <= end; i++) {
+            char character = (i == end) ? '.' : ipAddress.charAt(i);
+            if (character == '.') {
+                if (digitCount == 0 || segmentValue > 255 || ++segmentCount > 4) {
+                    return Globals.DEFAULT_VALUE_LONG;
+                }
+                addressValue = (addressValue << 8) | segmentValue;
+                segmentValue = 0;
+                digitCount = 0;
+            } else if (character >= '0' && character <= '9') {
+                if (strict && digitCount > 0 && segmentValue == 0) {
+                    //  Leading zero is not allowed
+                    return Globals.DEFAULT_VALUE_LONG;
+                }
+                segmentValue = segmentValue * 10 + (character - '0');
+                digitCount++;
+            } else {
+                return Globals.DEFAULT_VALUE_LONG;
             }
-            stringBuilder.append(SPLIT_CHARACTER_IPV4).append(beginItem);
         }
-        return stringBuilder.substring(1);
+        return segmentCount == 4 ? addressValue : Globals.DEFAULT_VALUE_LONG;
     }
 
     /**
-     * <h3 class="en-US">Calculate the end IP address by given IP address and netmask string</h3>
-     * <h3 class="zh-CN">根据给定的IP地址和子网掩码字符串计算起始IP地址</h3>
+     * <h3 class="en-US">Convert ASCII hexadecimal character to digit value</h3>
+     * <h3 class="zh-CN">将ASCII十六进制字符转换为数值</h3>
      *
-     * @param beginIP <span class="en-US">Begin IP address string</span>
-     *                <span class="zh-CN">起始IP地址字符串</span>
-     * @param netmask <span class="en-US">IP address</span>
-     *                <span class="zh-CN">IP地址</span>
-     * @return <span class="en-US">End IPv4 address string</span>
-     * <span class="zh-CN">终止的IPv4地址字符串</span>
+     * @param character <span class="en-US">Character</span>
+     *                  <span class="zh-CN">字符</span>
+     * @return <span class="en-US">Digit value, or -1 if the character is not in [0-9A-Fa-f]</span>
+     * <span class="zh-CN">数值，如果字符不在[0-9A-Fa-f]范围内则返回-1</span>
      */
-    private static String endIPv4(@Nonnull final String beginIP, @Nonnull final String netmask) {
-        String[] addressItems = StringUtils.tokenizeToStringArray(beginIP, SPLIT_CHARACTER_IPV4);
-        String[] maskItems = StringUtils.tokenizeToStringArray(netmask, SPLIT_CHARACTER_IPV4);
-        StringBuilder stringBuilder = new StringBuilder();
-        for (int i = 0; i < 4; i++) {
-            int endItem = 255 - Integer.parseInt(addressItems[i]) ^ Integer.parseInt(maskItems[i]);
-            stringBuilder.append(SPLIT_CHARACTER_IPV4).append(endItem);
+    private static int hexDigit(final char character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
         }
-        return stringBuilder.substring(1);
-    }
-
-    /**
-     * <h3 class="en-US">Calculate the begin IPv6 address by given IP address and netmask string</h3>
-     * <h3 class="zh-CN">根据给定的IP地址和子网掩码字符串计算起始IP地址</h3>
-     *
-     * @param ipAddress <span class="en-US">IP address string</span>
-     *                  <span class="zh-CN">IP地址字符串</span>
-     * @param cidr      <span class="en-US">CIDR value</span>
-     *                  <span class="zh-CN">CIDR值</span>
-     * @return <span class="en-US">Begin IPv6 address string</span>
-     * <span class="zh-CN">起始的IPv6地址字符串</span>
-     */
-    private static String beginIPv6(@Nonnull final String ipAddress, final int cidr) {
-        if (cidr >= Globals.INITIALIZE_INT_VALUE && cidr <= 128) {
-            String hexAddress = StringUtils.replace(expandIgnore(ipAddress), SPLIT_CHARACTER_IPV6, Globals.DEFAULT_VALUE_STRING);
-            StringBuilder baseIP = new StringBuilder(hexToBin(hexAddress).substring(Globals.INITIALIZE_INT_VALUE, cidr));
-            while (baseIP.length() < 128) {
-                baseIP.append("0");
-            }
-            return binToHex(baseIP.toString());
+        if (character >= 'a' && character <= 'f') {
+            return character - 'a' + 10;
         }
-        return Globals.DEFAULT_VALUE_STRING;
+        if (character >= 'A' && character <= 'F') {
+            return character - 'A' + 10;
+        }
+        return Globals.DEFAULT_VALUE_INT;
     }
 
     /**
-     * <h3 class="en-US">Calculate the end IPv6 address by given begin IPv6 address and netmask string</h3>
-     * <h3 class="zh-CN">根据给定的IP地址和子网掩码字符串计算起始IP地址</h3>
+     * <h3 class="en-US">Parse IPv6 address in given character range</h3>
+     * <span class="en-US">
+     *     Groups before "::" and groups after "::" are accumulated as two 128 bits values,
+     *     the leading part is shifted into place at the end, so no group array is required.
+     *     The trailing embedded IPv4 address (e.g. "::ffff:192.168.1.1") is supported.
+     * </span>
+     * <h3 class="zh-CN">解析给定字符范围内的IPv6地址</h3>
+     * <span class="zh-CN">
+     *     "::"之前和之后的分组分别累加为两个128位数值，最后将前半部分移位到正确位置，无需使用分组数组。
+     *     支持末尾嵌入的IPv4地址（例如"::ffff:192.168.1.1"）。
+     * </span>
      *
-     * @param beginIP <span class="en-US">Begin IPv6 address string</span>
-     *                <span class="zh-CN">起始IPv6地址字符串</span>
-     * @param cidr    <span class="en-US">CIDR value</span>
-     *                <span class="zh-CN">CIDR值</span>
-     * @return <span class="en-US">End IPv6 address string</span>
-     * <span class="zh-CN">终止的IPv6地址字符串</span>
-     */
-    private static String endIPv6(@Nonnull final String beginIP, final int cidr) {
-        if (cidr >= Globals.INITIALIZE_INT_VALUE && cidr <= 128) {
-            String hexAddress = StringUtils.replace(expandIgnore(beginIP), SPLIT_CHARACTER_IPV6, Globals.DEFAULT_VALUE_STRING);
-            StringBuilder baseIP = new StringBuilder(hexToBin(hexAddress).substring(Globals.INITIALIZE_INT_VALUE, cidr));
-            while (baseIP.length() < 128) {
-                baseIP.append("1");
+     * @param ipAddress <span class="en-US">Character sequence</span>
+     *                  <span class="zh-CN">字符序列</span>
+     * @param begin     <span class="en-US">Begin index (inclusive)</span>
+     *                  <span class="zh-CN">起始索引（包含）</span>
+     * @param end       <span class="en-US">End index (exclusive)</span>
+     *                  <span class="zh-CN">终止索引（不包含）</span>
+     * @return <span class="en-US">Parsed IPAddress instance, or <code>null</code> if the address is invalid</span>
+     * <span class="zh-CN">解析后的IPAddress实例对象，如果地址非法则返回<code>null</code></span>
+     */
+    private static IPAddress parseIPv6(@Nonnull final CharSequence ipAddress, final int begin, final int end) {
+        if (end - begin < 2) {
+            return null;
+        }
+        long prefixHigh = 0L, prefixLow = 0L, suffixHigh = 0L, suffixLow = 0L;
+        int prefixCount = 0, suffixCount = 0;
+        boolean compressed = Boolean.FALSE;
+        int position = begin;
+        if (ipAddress.charAt(position) == ':') {
+            if (ipAddress.charAt(position + 1) != ':') {
+                return null;
             }
-            return binToHex(baseIP.toString());
+            compressed = Boolean.TRUE;
+            position += 2;
         }
-        return Globals.DEFAULT_VALUE_STRING;
-    }
-
-    /**
-     * <h3 class="en-US">Convert hex address to binary string</h3>
-     * <h3 class="zh-CN">转换16进制地址为二进制地址字符串</h3>
-     *
-     * @param hexAddress <span class="en-US">Hex address string</span>
-     *                   <span class="zh-CN">16进制地址字符串</span>
-     * @return <span class="en-US">Binary address string</span>
-     * <span class="zh-CN">二进制地址字符串</span>
-     */
-    private static String hexToBin(@Nonnull final String hexAddress) {
-        StringBuilder binBuilder = new StringBuilder();
-        int index = 0;
-        while (index < hexAddress.length()) {
-            int hexInt = Integer.parseInt(hexAddress.substring(index, index + 1), 16);
-            StringBuilder binItem = new StringBuilder(Integer.toString(hexInt, 2));
-            while (binItem.length() < 4) {
-                binItem.insert(0, "0");
+        while (position < end) {
+            int groupBegin = position, groupValue = 0, groupSize = 1;
+            while (position < end && position - groupBegin <= 4) {
+                int digit = hexDigit(ipAddress.charAt(position));
+                if (digit < 0) {
+                    break;
+                }
+                groupValue = (groupValue << 4) | digit;
+                position++;
+            }
+            boolean lastGroup = Boolean.FALSE;
+            if (position < end && ipAddress.charAt(position) == '.') {
+                long addressValue = parseIPv4(ipAddress, groupBegin, end, Boolean.TRUE);
+                if (addressValue == Globals.DEFAULT_VALUE_LONG) {
+                    return null;
+                }
+                groupValue = (int) addressValue;
+                groupSize = 2;
+                position = end;
+                lastGroup = Boolean.TRUE;
+            } else if (position == groupBegin || position - groupBegin > 4) {
+                return null;
+            }
+            int shift = groupSize * 16;
+            if (compressed) {
+                suffixHigh = (suffixHigh << shift) | (suffixLow >>> (Long.SIZE - shift));
+                suffixLow = (suffixLow << shift) | (groupValue & 0xFFFFFFFFL);
+                suffixCount += groupSize;
+            } else {
+                prefixHigh = (prefixHigh << shift) | (prefixLow >>> (Long.SIZE - shift));
+                prefixLow = (prefixLow << shift) | (groupValue & 0xFFFFFFFFL);
+                prefixCount += groupSize;
+            }
+            if (prefixCount + suffixCount > IPV6_GROUP_COUNT || lastGroup || position == end) {
+                break;
+            }
+            if (ipAddress.charAt(position++) != ':' || position == end) {
+                return null;
+            }
+            if (ipAddress.charAt(position) == ':') {
+                if (compressed) {
+                    return null;
+                }
+                compressed = Boolean.TRUE;
+                position++;
             }
-            binBuilder.append(binItem);
-            index++;
         }
-        return binBuilder.toString();
+        int groupCount = prefixCount + suffixCount;
+        if (compressed ? groupCount >= IPV6_GROUP_COUNT : groupCount != IPV6_GROUP_COUNT) {
+            return null;
+        }
+        int shift = (IPV6_GROUP_COUNT - prefixCount) * 16;
+        if (shift >= IPAddress.IPV6_BIT_LENGTH) {
+            prefixHigh = 0L;
+            prefixLow = 0L;
+        } else if (shift >= Long.SIZE) {
+            prefixHigh = prefixLow << (shift - Long.SIZE);
+            prefixLow = 0L;
+        } else if (shift > 0) {
+            prefixHigh = (prefixHigh << shift) | (prefixLow >>> (Long.SIZE - shift));
+            prefixLow <<= shift;
+        }
+        return IPAddress.ipv6(prefixHigh | suffixHigh, prefixLow | suffixLow);
     }
 
     /**
-     * <h3 class="en-US">Convert binary address to hex string</h3>
-     * <h3 class="zh-CN">转换16进制地址为二进制地址字符串</h3>
+     * <h3 class="en-US">Read the 16 bits group value of given IPv6 address</h3>
+     * <h3 class="zh-CN">读取给定IPv6地址的16位分组数值</h3>
      *
-     * @param binAddress <span class="en-US">Binary address string</span>
-     *                   <span class="zh-CN">二进制地址字符串</span>
-     * @return <span class="en-US">Hex address string</span>
-     * <span class="zh-CN">16进制地址字符串</span>
-     */
-    private static String binToHex(@Nonnull final String binAddress) {
-        StringBuilder binBuilder = new StringBuilder();
-        int index = 0;
-        while (index < binAddress.length()) {
-            if (index % 16 == 0) {
-                binBuilder.append(SPLIT_CHARACTER_IPV6);
-            }
-            int binInt = Integer.parseInt(binAddress.substring(index, index + 4), 2);
-            binBuilder.append(Integer.toString(binInt, 16).toUpperCase());
-            index += 4;
-        }
-        return binBuilder.substring(1);
-    }
-
-    private static int fillBitsFromLeft(final int value) {
-        if (value >= 8) {
-            return 255;
-        } else {
-            return 256 - Double.valueOf(Math.pow(2, (8 - value))).intValue();
-        }
+     * @param address <span class="en-US">IPv6 address instance</span>
+     *                <span class="zh-CN">IPv6地址实例对象</span>
+     * @param index   <span class="en-US">Group index, 0 to 7</span>
+     *                <span class="zh-CN">分组索引，0到7</span>
+     * @return <span class="en-US">Group value</span>
+     * <span class="zh-CN">分组数值</span>
+     */
+    private static int group(@Nonnull final IPAddress address, final int index) {
+        long bits = index < 4 ? address.getHighBits() : address.getLowBits();
+        return (int) (bits >>> ((3 - (index & 3)) * 16)) & 0xFFFF;
     }
 }
@@ -20,20 +20,33 @@ import org.nervousync.beans.image.CutOptions;
 import org.nervousync.beans.image.MarkOptions;
 import org.nervousync.commons.Globals;
 
-import javax.imageio.ImageIO;
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.Optional;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
 
 /**
  * <h2 class="en-US">Image Utilities</h2>
+ * <span class="en-US">
+ *     Image dimensions are read from the image header only. Resize and cut operations decode the source with
+ *     ImageReadParam subsampling and source region, so large images are never decoded at full resolution
+ *     when a much smaller result is required.
+ * </span>
  * <h2 class="zh-CN">图片工具集</h2>
+ * <span class="zh-CN">
+ *     图片尺寸仅从图片头信息中读取。调整尺寸和剪切操作使用ImageReadParam的子采样和源区域参数进行解码，
+ *     需要较小的结果时不会以完整分辨率解码大尺寸图片。
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: May 1, 2018 13:49:46 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 12:06:41 $
  */
 public final class ImageUtils {
     /**
@@ -41,6 +54,45 @@ public final class ImageUtils {
      * <span class="zh-CN">日志实例</span>
      */
     private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ImageUtils.class);
+    /**
+     * <span class="en-US">Default output quality of thumbnail images</span>
+     * <span class="zh-CN">缩略图的默认输出质量</span>
+     */
+    public static final float DEFAULT_THUMBNAIL_QUALITY = 0.85f;
+    /**
+     * <span class="en-US">Image width of dHash calculation</span>
+     * <span class="zh-CN">差异值哈希计算的图片宽度</span>
+     */
+    private static final int DHASH_WIDTH = 9;
+    /**
+     * <span class="en-US">Image height of dHash calculation</span>
+     * <span class="zh-CN">差异值哈希计算的图片高度</span>
+     */
+    private static final int DHASH_HEIGHT = 8;
+    /**
+     * <span class="en-US">Image size of DCT in pHash calculation</span>
+     * <span class="zh-CN">感知哈希计算中DCT的图片尺寸</span>
+     */
+    private static final int DCT_SIZE = 32;
+    /**
+     * <span class="en-US">Size of low frequency block used by pHash</span>
+     * <span class="zh-CN">感知哈希使用的低频区块尺寸</span>
+     */
+    private static final int PHASH_SIZE = 8;
+    /**
+     * <span class="en-US">Precomputed DCT-II cosine table, including the normalize factor</span>
+     * <span class="zh-CN">预计算的DCT-II余弦表，包含归一化系数</span>
+     */
+    private static final double[][] DCT_COSINES = new double[PHASH_SIZE][DCT_SIZE];
+
+    static {
+        for (int u = 0; u < PHASH_SIZE; u++) {
+            double factor = Math.sqrt((u == 0 ? 1.0 : 2.0) / DCT_SIZE);
+            for (int x = 0; x < DCT_SIZE; x++) {
+                DCT_COSINES[u][x] = factor * Math.cos((2 * x + 1) * u * Math.PI / (2.0 * DCT_SIZE));
+            }
+        }
+    }
 
     /**
      * <h3 class="en-US">Private constructor for ImageUtils</h3>
@@ -59,18 +111,9 @@ public final class ImageUtils {
      * <span class="zh-CN">图片宽度值</span>
      */
     public static int imageWidth(final String imagePath) {
-        if (FileUtils.isExists(imagePath) && FileUtils.imageFile(imagePath)) {
-            try {
-                BufferedImage srcImage = ImageIO.read(FileUtils.getFile(imagePath));
-                return srcImage.getWidth(null);
-            } catch (Exception e) {
-                LOGGER.error("Read_Image_Error");
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("Stack_Message_Error", e);
-                }
-            }
-        }
-        return Globals.DEFAULT_VALUE_INT;
+        return Optional.ofNullable(ImageUtils.imageSize(imagePath))
+                .map(dimension -> dimension.width)
+                .orElse(Globals.DEFAULT_VALUE_INT);
     }
 
     /**
@@ -83,18 +126,9 @@ public final class ImageUtils {
      * <span class="zh-CN">图片高度值</span>
      */
     public static int imageHeight(final String imagePath) {
-        if (FileUtils.isExists(imagePath) && FileUtils.imageFile(imagePath)) {
-            try {
-                BufferedImage srcImage = ImageIO.read(FileUtils.getFile(imagePath));
-                return srcImage.getHeight(null);
-            } catch (Exception e) {
-                LOGGER.error("Read_Image_Error");
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("Stack_Message_Error", e);
-                }
-            }
-        }
-        return Globals.DEFAULT_VALUE_INT;
+        return Optional.ofNullable(ImageUtils.imageSize(imagePath))
+                .map(dimension -> dimension.height)
+                .orElse(Globals.DEFAULT_VALUE_INT);
     }
 
     /**
@@ -107,19 +141,39 @@ public final class ImageUtils {
      * <span class="zh-CN">图片宽高比</span>
      */
     public static double imageRatio(final String imagePath) {
-        double imageHeight = ImageUtils.imageHeight(imagePath);
-        double imageWidth = ImageUtils.imageHeight(imagePath);
+        return Optional.ofNullable(ImageUtils.imageSize(imagePath))
+                .map(dimension -> dimension.width * 1.0 / dimension.height)
+                .orElse(Globals.DEFAULT_VALUE_DOUBLE);
+    }
 
-        if (imageHeight == Globals.DEFAULT_VALUE_DOUBLE || imageWidth == Globals.DEFAULT_VALUE_DOUBLE) {
-            return Globals.DEFAULT_VALUE_DOUBLE;
+    /**
+     * <h3 class="en-US">Retrieve image size by reading the image header only</h3>
+     * <h3 class="zh-CN">仅读取图片头信息获取图片尺寸</h3>
+     *
+     * @param imagePath <span class="en-US">Image file path</span>
+     *                  <span class="zh-CN">图片地址</span>
+     * @return <span class="en-US">Image size, or <code>null</code> if the image cannot be read</span>
+     * <span class="zh-CN">图片尺寸，如果无法读取图片则返回<code>null</code></span>
+     */
+    public static Dimension imageSize(final String imagePath) {
+        if (FileUtils.isExists(imagePath) && FileUtils.imageFile(imagePath)) {
+            try (ImageCodecs imageCodecs = new ImageCodecs()) {
+                return imageCodecs.imageSize(imagePath);
+            } catch (Exception e) {
+                LOGGER.error("Read_Image_Error");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Stack_Message_Error", e);
+                }
+            }
         }
-
-        return imageWidth / imageHeight;
+        return null;
     }
 
     /**
      * <h3 class="en-US">Cut original image file and save to target path by given cut options</h3>
+     * <span class="en-US">Only the cut region of the original image is decoded</span>
      * <h3 class="zh-CN">根据给定的切割参数对原始图片进行切割并存储到目标地址</h3>
+     * <span class="zh-CN">仅解码原始图片中的切割区域</span>
      *
      * @param origPath   <span class="en-US">original image file path</span>
      *                   <span class="zh-CN">原始图片地址</span>
@@ -132,30 +186,22 @@ public final class ImageUtils {
      */
     public static boolean cutImage(final String origPath, final String targetPath, final CutOptions cutOptions) {
         if (origPath != null && FileUtils.isExists(origPath) && cutOptions != null) {
-            if (cutOptions.getPositionX() + cutOptions.getCutWidth() > ImageUtils.imageWidth(origPath)) {
-                LOGGER.error("Width_Exceeds_Original_Image_Error");
-                return Boolean.FALSE;
-            }
-            if (cutOptions.getPositionY() + cutOptions.getCutHeight() > ImageUtils.imageHeight(origPath)) {
-                LOGGER.error("Height_Exceeds_Original_Image_Error");
-                return Boolean.FALSE;
-            }
-
-            try {
-                BufferedImage srcImage = ImageIO.read(FileUtils.getFile(origPath));
-                BufferedImage bufferedImage =
-                        new BufferedImage(cutOptions.getCutWidth(), cutOptions.getCutHeight(),
-                                BufferedImage.TYPE_INT_RGB);
-
-                for (int i = 0; i < cutOptions.getCutWidth(); i++) {
-                    for (int j = 0; j < cutOptions.getCutHeight(); j++) {
-                        bufferedImage.setRGB(i, j,
-                                srcImage.getRGB(cutOptions.getPositionX() + i, cutOptions.getPositionY() + j));
-                    }
+            try (ImageCodecs imageCodecs = new ImageCodecs()) {
+                Dimension imageSize = imageCodecs.imageSize(origPath);
+                if (cutOptions.getPositionX() + cutOptions.getCutWidth() > imageSize.width) {
+                    LOGGER.error("Width_Exceeds_Original_Image_Error");
+                    return Boolean.FALSE;
+                }
+                if (cutOptions.getPositionY() + cutOptions.getCutHeight() > imageSize.height) {
+                    LOGGER.error("Height_Exceeds_Original_Image_Error");
+                    return Boolean.FALSE;
                 }
 
-                return ImageIO.write(bufferedImage, StringUtils.getFilenameExtension(targetPath),
-                        FileUtils.getFile(targetPath));
+                Rectangle sourceRegion = new Rectangle(cutOptions.getPositionX(), cutOptions.getPositionY(),
+                        cutOptions.getCutWidth(), cutOptions.getCutHeight());
+                BufferedImage bufferedImage = imageCodecs.read(origPath, sourceRegion,
+                        Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT);
+                return imageCodecs.write(bufferedImage, targetPath, Globals.DEFAULT_VALUE_FLOAT);
             } catch (Exception e) {
                 LOGGER.error("Cut_Image_Error");
                 if (LOGGER.isDebugEnabled()) {
@@ -201,18 +247,14 @@ public final class ImageUtils {
     public static boolean resizeByRatio(final String origPath, final String targetPath, final double ratio,
                                         final MarkOptions markOptions) {
         if (FileUtils.isExists(origPath) && FileUtils.imageFile(origPath) && ratio > 0) {
-            try {
-                BufferedImage srcImage = ImageIO.read(FileUtils.getFile(origPath));
-
-                int origWidth = srcImage.getWidth(null);
-                int origHeight = srcImage.getHeight(null);
+            try (ImageCodecs imageCodecs = new ImageCodecs()) {
+                Dimension imageSize = imageCodecs.imageSize(origPath);
 
-                int targetWidth = Double.valueOf(origWidth * ratio).intValue();
-                int targetHeight = Double.valueOf(origHeight * ratio).intValue();
+                int targetWidth = Double.valueOf(imageSize.width * ratio).intValue();
+                int targetHeight = Double.valueOf(imageSize.height * ratio).intValue();
 
-                return ImageIO.write(processImage(srcImage, targetWidth, targetHeight, markOptions),
-                        StringUtils.getFilenameExtension(targetPath),
-                        FileUtils.getFile(targetPath));
+                return imageCodecs.resize(origPath, targetPath, targetWidth, targetHeight, markOptions,
+                        Globals.DEFAULT_VALUE_FLOAT);
             } catch (Exception e) {
                 LOGGER.error("Resize_Image_Error");
                 if (LOGGER.isDebugEnabled()) {
@@ -264,30 +306,9 @@ public final class ImageUtils {
                                    final int targetWidth, final int targetHeight, final MarkOptions markOptions) {
         if (FileUtils.isExists(origPath) && FileUtils.imageFile(origPath)
                 && (targetWidth > 0 || targetHeight > 0)) {
-            try {
-                BufferedImage srcImage = ImageIO.read(FileUtils.getFile(origPath));
-
-                int origWidth = srcImage.getWidth(null);
-                int origHeight = srcImage.getHeight(null);
-
-                int resizeWidth;
-                if (targetWidth == Globals.DEFAULT_VALUE_INT) {
-                    double ratio = targetHeight * 1.0 / origHeight;
-                    resizeWidth = Double.valueOf(ratio * origWidth).intValue();
-                } else {
-                    resizeWidth = targetWidth;
-                }
-
-                int resizeHeight;
-                if (targetHeight == Globals.DEFAULT_VALUE_INT) {
-                    double ratio = targetWidth * 1.0 / origWidth;
-                    resizeHeight = Double.valueOf(ratio * origHeight).intValue();
-                } else {
-                    resizeHeight = targetHeight;
-                }
-
-                return ImageIO.write(processImage(srcImage, resizeWidth, resizeHeight, markOptions),
-                        StringUtils.getFilenameExtension(targetPath), FileUtils.getFile(targetPath));
+            try (ImageCodecs imageCodecs = new ImageCodecs()) {
+                return imageCodecs.resize(origPath, targetPath, targetWidth, targetHeight, markOptions,
+                        Globals.DEFAULT_VALUE_FLOAT);
             } catch (Exception e) {
                 LOGGER.error("Resize_Image_Error");
                 if (LOGGER.isDebugEnabled()) {
@@ -298,6 +319,112 @@ public final class ImageUtils {
         return Boolean.FALSE;
     }
 
+    /**
+     * <h3 class="en-US">Generate thumbnails by using default quality and thread count</h3>
+     * <h3 class="zh-CN">使用默认输出质量和线程数生成缩略图</h3>
+     *
+     * @param imagePaths   <span class="en-US">Mapping of original image file path and target image file path</span>
+     *                     <span class="zh-CN">原始图片地址与目标图片地址的映射</span>
+     * @param targetWidth  <span class="en-US">target width	(if -1 width will auto set by height ratio)</span>
+     *                     <span class="zh-CN">图片调整后的宽度，如果值为-1则自动根据图片宽高比进行调整</span>
+     * @param targetHeight <span class="en-US">target height	(if -1 height will auto set by width ratio)</span>
+     *                     <span class="zh-CN">图片调整后的高度，如果值为-1则自动根据图片宽高比进行调整</span>
+     * @return <span class="en-US">Mapping of original image file path and process result</span>
+     * <span class="zh-CN">原始图片地址与处理结果的映射</span>
+     */
+    public static Map<String, Boolean> thumbnails(final Map<String, String> imagePaths,
+                                                  final int targetWidth, final int targetHeight) {
+        return ImageUtils.thumbnails(imagePaths, targetWidth, targetHeight, DEFAULT_THUMBNAIL_QUALITY,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * <h3 class="en-US">Generate thumbnails on a bounded thread pool</h3>
+     * <span class="en-US">
+     *     Each worker thread keeps its own image readers and writers and reuses them for every image it
+     *     processes, at most <code>threadCount</code> images are decoded at the same time.
+     * </span>
+     * <h3 class="zh-CN">使用有界线程池生成缩略图</h3>
+     * <span class="zh-CN">
+     *     每个工作线程持有自己的图片读取器和写入器，并在处理的所有图片中重复使用，同一时间最多解码<code>threadCount</code>个图片。
+     * </span>
+     *
+     * @param imagePaths   <span class="en-US">Mapping of original image file path and target image file path</span>
+     *                     <span class="zh-CN">原始图片地址与目标图片地址的映射</span>
+     * @param targetWidth  <span class="en-US">target width	(if -1 width will auto set by height ratio)</span>
+     *                     <span class="zh-CN">图片调整后的宽度，如果值为-1则自动根据图片宽高比进行调整</span>
+     * @param targetHeight <span class="en-US">target height	(if -1 height will auto set by width ratio)</span>
+     *                     <span class="zh-CN">图片调整后的高度，如果值为-1则自动根据图片宽高比进行调整</span>
+     * @param quality      <span class="en-US">Output compression quality between 0 and 1, other values use the writer default</span>
+     *                     <span class="zh-CN">输出压缩质量，取值0到1，其他值使用写入器的默认值</span>
+     * @param threadCount  <span class="en-US">Maximum thread count</span>
+     *                     <span class="zh-CN">最大线程数</span>
+     * @return <span class="en-US">Mapping of original image file path and process result</span>
+     * <span class="zh-CN">原始图片地址与处理结果的映射</span>
+     */
+    public static Map<String, Boolean> thumbnails(final Map<String, String> imagePaths, final int targetWidth,
+                                                  final int targetHeight, final float quality, final int threadCount) {
+        Map<String, Boolean> processResults = new ConcurrentHashMap<>();
+        if (imagePaths == null || imagePaths.isEmpty() || (targetWidth <= 0 && targetHeight <= 0)) {
+            return processResults;
+        }
+        Queue<Map.Entry<String, String>> pendingQueue = new ConcurrentLinkedQueue<>(imagePaths.entrySet());
+        int workerCount = Math.max(1, Math.min(threadCount, imagePaths.size()));
+        ExecutorService executorService = Executors.newFixedThreadPool(workerCount);
+        List<Future<?>> futures = new ArrayList<>(workerCount);
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    try (ImageCodecs imageCodecs = new ImageCodecs()) {
+                        Map.Entry<String, String> entry;
+                        while ((entry = pendingQueue.poll()) != null) {
+                            boolean result = Boolean.FALSE;
+                            if (FileUtils.isExists(entry.getKey()) && FileUtils.imageFile(entry.getKey())) {
+                                try {
+                                    result = imageCodecs.resize(entry.getKey(), entry.getValue(),
+                                            targetWidth, targetHeight, null, quality);
+                                } catch (Exception e) {
+                                    LOGGER.error("Resize_Image_Error");
+                                    if (LOGGER.isDebugEnabled()) {
+                                        LOGGER.debug("Stack_Message_Error", e);
+                                    }
+                                }
+                            }
+                            processResults.put(entry.getKey(), result);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Resize_Image_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+        } finally {
+            //  Stop the remaining workers, no image is processed after the method returns
+            pendingQueue.clear();
+            futures.forEach(future -> future.cancel(Boolean.TRUE));
+            executorService.shutdownNow();
+            boolean interrupted = Thread.interrupted();
+            while (!executorService.isTerminated()) {
+                try {
+                    executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = Boolean.TRUE;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return processResults;
+    }
+
     /**
      * <h3 class="en-US">Add mark to original image and save result image to target path</h3>
      * <h3 class="zh-CN">添加水印到原始图片，并将添加好水印的图片保存到目标地址</h3>
@@ -312,13 +439,11 @@ public final class ImageUtils {
      * <span class="zh-CN">添加水印处理结果</span>
      */
     public static boolean markImage(final String origPath, final String targetPath, final MarkOptions markOptions) {
-        int imageWidth = ImageUtils.imageWidth(origPath);
-        int imageHeight = ImageUtils.imageHeight(origPath);
-        try {
-            BufferedImage bufferedImage = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
-            return ImageIO.write(processImage(bufferedImage, imageWidth, imageHeight, markOptions),
-                    StringUtils.getFilenameExtension(targetPath),
-                    FileUtils.getFile(targetPath));
+        try (ImageCodecs imageCodecs = new ImageCodecs()) {
+            BufferedImage srcImage = imageCodecs.read(origPath, null,
+                    Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT);
+            return imageCodecs.write(processImage(srcImage, srcImage.getWidth(), srcImage.getHeight(),
+                    markOptions), targetPath, Globals.DEFAULT_VALUE_FLOAT);
         } catch (Exception e) {
             LOGGER.error("Water_Mark_Image_Error");
             if (LOGGER.isDebugEnabled()) {
@@ -336,17 +461,16 @@ public final class ImageUtils {
      *                   <span class="zh-CN">原始图片地址</span>
      * @param targetPath <span class="en-US">target image file path</span>
      *                   <span class="zh-CN">目标图片地址</span>
-     * @return <span class="en-US">Calculated hamming result</span>
-     * <span class="zh-CN">计算的汉明距离</span>
+     * @return <span class="en-US">Calculated hamming result, -1 if any image cannot be read</span>
+     * <span class="zh-CN">计算的汉明距离，如果任一图片无法读取则返回-1</span>
      */
     public static int dHashHamming(final String origPath, final String targetPath) {
-        String origHash = ImageUtils.dHash(origPath);
-        String destHash = ImageUtils.dHash(targetPath);
-        int diff = 0;
-        for (int j = 0; j < origHash.length(); j++) {
-            diff += (origHash.charAt(j) ^ destHash.charAt(j));
+        OptionalLong origHash = ImageUtils.dHashValue(origPath);
+        OptionalLong destHash = ImageUtils.dHashValue(targetPath);
+        if (origHash.isPresent() && destHash.isPresent()) {
+            return ImageUtils.hamming(origHash.getAsLong(), destHash.getAsLong());
         }
-        return diff;
+        return Globals.DEFAULT_VALUE_INT;
     }
 
     /**
@@ -357,17 +481,31 @@ public final class ImageUtils {
      *                   <span class="zh-CN">原始图片地址</span>
      * @param targetPath <span class="en-US">target image file path</span>
      *                   <span class="zh-CN">目标图片地址</span>
-     * @return <span class="en-US">Calculated hamming result</span>
-     * <span class="zh-CN">计算的汉明距离</span>
+     * @return <span class="en-US">Calculated hamming result, -1 if any image cannot be read</span>
+     * <span class="zh-CN">计算的汉明距离，如果任一图片无法读取则返回-1</span>
      */
     public static int pHashHamming(final String origPath, final String targetPath) {
-        String origHash = ImageUtils.pHash(origPath);
-        String destHash = ImageUtils.pHash(targetPath);
-        int diff = 0;
-        for (int j = 0; j < origHash.length(); j++) {
-            diff += (origHash.charAt(j) ^ destHash.charAt(j));
+        OptionalLong origHash = ImageUtils.pHashValue(origPath);
+        OptionalLong destHash = ImageUtils.pHashValue(targetPath);
+        if (origHash.isPresent() && destHash.isPresent()) {
+            return ImageUtils.hamming(origHash.getAsLong(), destHash.getAsLong());
         }
-        return diff;
+        return Globals.DEFAULT_VALUE_INT;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate hamming distance between two packed hash values</h3>
+     * <h3 class="zh-CN">计算两个压缩哈希值之间的汉明距离</h3>
+     *
+     * @param origHash <span class="en-US">Original hash value</span>
+     *                 <span class="zh-CN">原始哈希值</span>
+     * @param destHash <span class="en-US">Target hash value</span>
+     *                 <span class="zh-CN">目标哈希值</span>
+     * @return <span class="en-US">Calculated hamming result</span>
+     * <span class="zh-CN">计算的汉明距离</span>
+     */
+    public static int hamming(final long origHash, final long destHash) {
+        return Long.bitCount(origHash ^ destHash);
     }
 
     /**
@@ -380,15 +518,7 @@ public final class ImageUtils {
      * <span class="zh-CN">差异值哈希字符串</span>
      */
     public static String dHash(final String filePath) {
-        try {
-            return ImageUtils.dHash(FileUtils.getFile(filePath));
-        } catch (FileNotFoundException e) {
-            LOGGER.error("Not_Found_File_Error", filePath);
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Stack_Message_Error", e);
-            }
-            return Globals.DEFAULT_VALUE_STRING;
-        }
+        return ImageUtils.hashString(ImageUtils.dHashValue(filePath));
     }
 
     /**
@@ -401,15 +531,7 @@ public final class ImageUtils {
      * <span class="zh-CN">差异值哈希字符串</span>
      */
     public static String dHash(final File file) {
-        try {
-            return ImageUtils.dHash(ImageIO.read(file));
-        } catch (IOException e) {
-            LOGGER.error("Read_Files_Error");
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Stack_Message_Error", e);
-            }
-            return Globals.DEFAULT_VALUE_STRING;
-        }
+        return ImageUtils.hashString(ImageUtils.dHashValue(file));
     }
 
     /**
@@ -422,21 +544,75 @@ public final class ImageUtils {
      * <span class="zh-CN">差异值哈希字符串</span>
      */
     public static String dHash(final BufferedImage bufferedImage) {
+        return ImageUtils.hashString(OptionalLong.of(ImageUtils.dHashValue(bufferedImage)));
+    }
+
+    /**
+     * <h3 class="en-US">Calculate packed dHash of given image file</h3>
+     * <h3 class="zh-CN">计算给定图片的压缩差异值哈希</h3>
+     *
+     * @param filePath <span class="en-US">Image file path</span>
+     *                 <span class="zh-CN">图片文件地址</span>
+     * @return <span class="en-US">dHash value, or empty if the image cannot be read</span>
+     * <span class="zh-CN">差异值哈希值，如果无法读取图片则返回空</span>
+     */
+    public static OptionalLong dHashValue(final String filePath) {
+        try {
+            return ImageUtils.dHashValue(FileUtils.getFile(filePath));
+        } catch (FileNotFoundException e) {
+            LOGGER.error("Not_Found_File_Error", filePath);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Calculate packed dHash of given image file</h3>
+     * <span class="en-US">The image is decoded at full resolution, same result as the decoded buffered image</span>
+     * <h3 class="zh-CN">计算给定图片的压缩差异值哈希</h3>
+     * <span class="zh-CN">使用完整分辨率解码图片，计算结果与解码后的缓冲图片一致</span>
+     *
+     * @param file <span class="en-US">Image file instance</span>
+     *             <span class="zh-CN">图片文件实例对象</span>
+     * @return <span class="en-US">dHash value, or empty if the image cannot be read</span>
+     * <span class="zh-CN">差异值哈希值，如果无法读取图片则返回空</span>
+     */
+    public static OptionalLong dHashValue(final File file) {
+        return ImageUtils.hashImage(file)
+                .map(bufferedImage -> OptionalLong.of(ImageUtils.dHashValue(bufferedImage)))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * <h3 class="en-US">Calculate packed dHash of given image</h3>
+     * <span class="en-US">Bit 63 is the first comparison, same order as the dHash string</span>
+     * <h3 class="zh-CN">计算给定图片的压缩差异值哈希</h3>
+     * <span class="zh-CN">第63位为第一次比较的结果，与差异值哈希字符串的顺序一致</span>
+     *
+     * @param bufferedImage <span class="en-US">Buffered image</span>
+     *                      <span class="zh-CN">缓冲图片实例对象</span>
+     * @return <span class="en-US">dHash value</span>
+     * <span class="zh-CN">差异值哈希值</span>
+     */
+    public static long dHashValue(final BufferedImage bufferedImage) {
         BufferedImage prepareImage;
-        if (bufferedImage.getWidth() != 9 || bufferedImage.getHeight() != 8) {
-            prepareImage = ImageUtils.processImage(bufferedImage, 9, 8, null);
+        if (bufferedImage.getWidth() != DHASH_WIDTH || bufferedImage.getHeight() != DHASH_HEIGHT) {
+            prepareImage = ImageUtils.processImage(bufferedImage, DHASH_WIDTH, DHASH_HEIGHT, null);
         } else {
             prepareImage = bufferedImage;
         }
 
-        double[][] grayMatrix = ImageUtils.grayMatrix(prepareImage);
-        StringBuilder dHash = new StringBuilder();
-        for (int x = 0; x < 8; x++) {
-            for (int y = 0; y < 8; y++) {
-                dHash.append((grayMatrix[x][y] > grayMatrix[x][y + 1]) ? "1" : "0");
+        double[] grayValues = ImageUtils.grayValues(prepareImage);
+        long dHash = 0L;
+        for (int y = 0; y < DHASH_HEIGHT; y++) {
+            int offset = y * DHASH_WIDTH;
+            for (int x = 0; x < DHASH_WIDTH - 1; x++) {
+                dHash = (dHash << 1) | (grayValues[offset + x] > grayValues[offset + x + 1] ? 1L : 0L);
             }
         }
-        return dHash.toString();
+        return dHash;
     }
 
     /**
@@ -449,15 +625,7 @@ public final class ImageUtils {
      * <span class="zh-CN">感知哈希字符串</span>
      */
     public static String pHash(final String filePath) {
-        try {
-            return ImageUtils.pHash(FileUtils.getFile(filePath));
-        } catch (FileNotFoundException e) {
-            LOGGER.error("Not_Found_File_Error", filePath);
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Stack_Message_Error", e);
-            }
-            return Globals.DEFAULT_VALUE_STRING;
-        }
+        return ImageUtils.hashString(ImageUtils.pHashValue(filePath));
     }
 
     /**
@@ -470,15 +638,7 @@ public final class ImageUtils {
      * <span class="zh-CN">感知哈希字符串</span>
      */
     public static String pHash(final File file) {
-        try {
-            return ImageUtils.pHash(ImageIO.read(file));
-        } catch (IOException e) {
-            LOGGER.error("Read_Files_Error");
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Stack_Message_Error", e);
-            }
-            return Globals.DEFAULT_VALUE_STRING;
-        }
+        return ImageUtils.hashString(ImageUtils.pHashValue(file));
     }
 
     /**
@@ -491,29 +651,83 @@ public final class ImageUtils {
      * <span class="zh-CN">感知哈希字符串</span>
      */
     public static String pHash(final BufferedImage bufferedImage) {
+        return ImageUtils.hashString(OptionalLong.of(ImageUtils.pHashValue(bufferedImage)));
+    }
+
+    /**
+     * <h3 class="en-US">Calculate packed pHash of given image file</h3>
+     * <h3 class="zh-CN">计算给定图片的压缩感知哈希</h3>
+     *
+     * @param filePath <span class="en-US">Image file path</span>
+     *                 <span class="zh-CN">图片文件地址</span>
+     * @return <span class="en-US">pHash value, or empty if the image cannot be read</span>
+     * <span class="zh-CN">感知哈希值，如果无法读取图片则返回空</span>
+     */
+    public static OptionalLong pHashValue(final String filePath) {
+        try {
+            return ImageUtils.pHashValue(FileUtils.getFile(filePath));
+        } catch (FileNotFoundException e) {
+            LOGGER.error("Not_Found_File_Error", filePath);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Calculate packed pHash of given image file</h3>
+     * <span class="en-US">The image is decoded at full resolution, same result as the decoded buffered image</span>
+     * <h3 class="zh-CN">计算给定图片的压缩感知哈希</h3>
+     * <span class="zh-CN">使用完整分辨率解码图片，计算结果与解码后的缓冲图片一致</span>
+     *
+     * @param file <span class="en-US">Image file instance</span>
+     *             <span class="zh-CN">图片文件实例对象</span>
+     * @return <span class="en-US">pHash value, or empty if the image cannot be read</span>
+     * <span class="zh-CN">感知哈希值，如果无法读取图片则返回空</span>
+     */
+    public static OptionalLong pHashValue(final File file) {
+        return ImageUtils.hashImage(file)
+                .map(bufferedImage -> OptionalLong.of(ImageUtils.pHashValue(bufferedImage)))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * <h3 class="en-US">Calculate packed pHash of given image</h3>
+     * <span class="en-US">
+     *     The image is scaled to 32x32 gray values, the 8x8 low frequency block of the DCT is compared with
+     *     its average value (DC coefficient excluded). Bit 63 is the coefficient (0, 0).
+     * </span>
+     * <h3 class="zh-CN">计算给定图片的压缩感知哈希</h3>
+     * <span class="zh-CN">
+     *     将图片缩放为32x32的灰度值，使用DCT结果左上角8x8的低频系数与其平均值（不含直流系数）比较。第63位为系数(0, 0)。
+     * </span>
+     *
+     * @param bufferedImage <span class="en-US">Buffered image</span>
+     *                      <span class="zh-CN">缓冲图片实例对象</span>
+     * @return <span class="en-US">pHash value</span>
+     * <span class="zh-CN">感知哈希值</span>
+     */
+    public static long pHashValue(final BufferedImage bufferedImage) {
         BufferedImage prepareImage;
-        if (bufferedImage.getWidth() != 8 || bufferedImage.getHeight() != 8) {
-            prepareImage = ImageUtils.processImage(bufferedImage, 8, 8, null);
+        if (bufferedImage.getWidth() != DCT_SIZE || bufferedImage.getHeight() != DCT_SIZE) {
+            prepareImage = ImageUtils.processImage(bufferedImage, DCT_SIZE, DCT_SIZE, null);
         } else {
             prepareImage = bufferedImage;
         }
 
-        double[][] DCT = ImageUtils.applyDCT(prepareImage);
+        double[] coefficients = ImageUtils.applyDCT(ImageUtils.grayValues(prepareImage));
         double total = 0.0;
-        for (int x = 0; x < 8; x++) {
-            for (int y = 0; y < 8; y++) {
-                total += DCT[x][y];
-            }
+        for (double coefficient : coefficients) {
+            total += coefficient;
         }
-        total -= DCT[0][0];
-        double average = total / 63;
-        StringBuilder pHash = new StringBuilder();
-        for (int x = 0; x < 8; x++) {
-            for (int y = 0; y < 8; y++) {
-                pHash.append((DCT[x][y] > average) ? "1" : "0");
-            }
+        total -= coefficients[0];
+        double average = total / (coefficients.length - 1);
+        long pHash = 0L;
+        for (double coefficient : coefficients) {
+            pHash = (pHash << 1) | (coefficient > average ? 1L : 0L);
         }
-        return pHash.toString();
+        return pHash;
     }
 
     /**
@@ -567,7 +781,7 @@ public final class ImageUtils {
 
     /**
      * <h3 class="en-US">Process image by given parameters</h3>
-     * <h3 class="en-US">根据给定的参数处理图片</h3>
+     * <h3 class="zh-CN">根据给定的参数处理图片</h3>
      *
      * @param srcImage     <span class="en-US">Buffered image</span>
      *                     <span class="zh-CN">缓冲图片实例对象</span>
@@ -581,9 +795,36 @@ public final class ImageUtils {
      */
     private static BufferedImage processImage(final BufferedImage srcImage, final int targetWidth,
                                               final int targetHeight, final MarkOptions markOptions) {
+        return processImage(srcImage, targetWidth, targetHeight, markOptions, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Process image by given parameters</h3>
+     * <h3 class="zh-CN">根据给定的参数处理图片</h3>
+     *
+     * @param srcImage     <span class="en-US">Buffered image</span>
+     *                     <span class="zh-CN">缓冲图片实例对象</span>
+     * @param targetWidth  <span class="en-US">target width</span>
+     *                     <span class="zh-CN">图片调整后的宽度</span>
+     * @param targetHeight <span class="en-US">target height</span>
+     *                     <span class="zh-CN">图片调整后的高度</span>
+     * @param markOptions  <span class="en-US">Mark options</span>
+     *                     <span class="zh-CN">水印选项</span>
+     * @param smooth       <span class="en-US">Use bilinear interpolation, hash calculation keeps the default rendering</span>
+     *                     <span class="zh-CN">使用双线性插值，哈希计算保持默认的渲染方式</span>
+     * @return        <code>true</code>success	<code>false</code>failed
+     */
+    private static BufferedImage processImage(final BufferedImage srcImage, final int targetWidth,
+                                              final int targetHeight, final MarkOptions markOptions,
+                                              final boolean smooth) {
         if (srcImage != null && targetWidth > 0 && targetHeight > 0) {
             BufferedImage bufferedImage = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
             Graphics2D graphics = bufferedImage.createGraphics();
+            if (smooth) {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            }
             graphics.drawImage(srcImage, 0, 0, targetWidth, targetHeight, null);
 
             Optional.ofNullable(markOptions)
@@ -595,71 +836,376 @@ public final class ImageUtils {
     }
 
     /**
-     * <h3 class="en-US">Convert bufferedImage to gray matrix</h3>
-     * <h3 class="en-US">转换缓冲图片实例对象为灰度二维数组</h3>
+     * <h3 class="en-US">Calculate source subsampling value</h3>
+     * <span class="en-US">The decoded image keeps at least twice the target size, so the final scaling still has enough pixels to interpolate</span>
+     * <h3 class="zh-CN">计算源图片子采样值</h3>
+     * <span class="zh-CN">解码后的图片至少保留目标尺寸的两倍，保证最终缩放时有足够的像素用于插值</span>
      *
-     * @param bufferedImage <span class="en-US">Buffered image</span>
-     *                      <span class="zh-CN">缓冲图片实例对象</span>
-     * @return <span class="en-US">gray matrix</span>
-     * <span class="zh-CN">灰度二维数组</span>
+     * @param sourceWidth  <span class="en-US">Source width</span>
+     *                     <span class="zh-CN">源图片宽度</span>
+     * @param sourceHeight <span class="en-US">Source height</span>
+     *                     <span class="zh-CN">源图片高度</span>
+     * @param targetWidth  <span class="en-US">target width</span>
+     *                     <span class="zh-CN">图片调整后的宽度</span>
+     * @param targetHeight <span class="en-US">target height</span>
+     *                     <span class="zh-CN">图片调整后的高度</span>
+     * @return <span class="en-US">Subsampling value, 1 means no subsampling</span>
+     * <span class="zh-CN">子采样值，1表示不进行子采样</span>
      */
-    private static double[][] grayMatrix(final BufferedImage bufferedImage) {
-        if (bufferedImage == null) {
-            return new double[0][0];
+    private static int subsampling(final int sourceWidth, final int sourceHeight,
+                                   final int targetWidth, final int targetHeight) {
+        if (targetWidth <= 0 || targetHeight <= 0) {
+            return 1;
         }
-        int width = bufferedImage.getWidth();
-        int height = bufferedImage.getHeight();
-        double[][] grayMatrix = new double[height][width];
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int pixel = bufferedImage.getRGB(x, y);
-                grayMatrix[y][x] = ((pixel & 0xFF0000) >> 16) * 0.3
-                        + ((pixel & 0xFF00) >> 8) * 0.59
-                        + ((pixel & 0xFF) * 0.11);
+        return Math.max(1, Math.min(sourceWidth / (targetWidth * 2), sourceHeight / (targetHeight * 2)));
+    }
+
+    /**
+     * <h2 class="en-US">Image codecs</h2>
+     * <span class="en-US">
+     *     Caches image readers and writers by file extension, the instances are reset after each operation and
+     *     disposed when closed. Instances are not thread safe, each worker thread uses its own instance.
+     * </span>
+     * <h2 class="zh-CN">图片编解码器</h2>
+     * <span class="zh-CN">
+     *     按文件扩展名缓存图片读取器和写入器，每次操作后重置实例，关闭时释放实例。实例不是线程安全的，每个工作线程使用独立的实例。
+     * </span>
+     */
+    private static final class ImageCodecs implements AutoCloseable {
+        /**
+         * <span class="en-US">Cached image readers</span>
+         * <span class="zh-CN">缓存的图片读取器</span>
+         */
+        private final Map<String, ImageReader> imageReaders = new HashMap<>();
+        /**
+         * <span class="en-US">Cached image writers</span>
+         * <span class="zh-CN">缓存的图片写入器</span>
+         */
+        private final Map<String, ImageWriter> imageWriters = new HashMap<>();
+
+        /**
+         * <h3 class="en-US">Read image size from image header</h3>
+         * <h3 class="zh-CN">从图片头信息中读取图片尺寸</h3>
+         *
+         * @param imagePath <span class="en-US">Image file path</span>
+         *                  <span class="zh-CN">图片地址</span>
+         * @return <span class="en-US">Image size</span>
+         * <span class="zh-CN">图片尺寸</span>
+         * @throws IOException <span class="en-US">If the image cannot be read</span>
+         *                     <span class="zh-CN">如果无法读取图片</span>
+         */
+        Dimension imageSize(final String imagePath) throws IOException {
+            try (ImageInputStream inputStream = this.openInput(imagePath)) {
+                ImageReader imageReader = this.imageReader(imagePath, inputStream);
+                try {
+                    return new Dimension(imageReader.getWidth(0), imageReader.getHeight(0));
+                } finally {
+                    imageReader.reset();
+                }
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Read image by using source region and subsampling</h3>
+         * <h3 class="zh-CN">使用源区域和子采样读取图片</h3>
+         *
+         * @param imagePath    <span class="en-US">Image file path</span>
+         *                     <span class="zh-CN">图片地址</span>
+         * @param sourceRegion <span class="en-US">Source region, <code>null</code> for whole image</span>
+         *                     <span class="zh-CN">源区域，<code>null</code>表示整个图片</span>
+         * @param targetWidth  <span class="en-US">target width, -1 for no subsampling</span>
+         *                     <span class="zh-CN">图片调整后的宽度，-1表示不进行子采样</span>
+         * @param targetHeight <span class="en-US">target height, -1 for no subsampling</span>
+         *                     <span class="zh-CN">图片调整后的高度，-1表示不进行子采样</span>
+         * @return <span class="en-US">Decoded image</span>
+         * <span class="zh-CN">解码后的图片</span>
+         * @throws IOException <span class="en-US">If the image cannot be read</span>
+         *                     <span class="zh-CN">如果无法读取图片</span>
+         */
+        BufferedImage read(final String imagePath, final Rectangle sourceRegion,
+                           final int targetWidth, final int targetHeight) throws IOException {
+            try (ImageInputStream inputStream = this.openInput(imagePath)) {
+                ImageReader imageReader = this.imageReader(imagePath, inputStream);
+                try {
+                    ImageReadParam readParam = imageReader.getDefaultReadParam();
+                    int sourceWidth, sourceHeight;
+                    if (sourceRegion == null) {
+                        sourceWidth = imageReader.getWidth(0);
+                        sourceHeight = imageReader.getHeight(0);
+                    } else {
+                        readParam.setSourceRegion(sourceRegion);
+                        sourceWidth = sourceRegion.width;
+                        sourceHeight = sourceRegion.height;
+                    }
+                    int subsampling = subsampling(sourceWidth, sourceHeight, targetWidth, targetHeight);
+                    if (subsampling > 1) {
+                        readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    }
+                    return imageReader.read(0, readParam);
+                } finally {
+                    imageReader.reset();
+                }
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Resize original image file and save to target path</h3>
+         * <h3 class="zh-CN">调整原始图片尺寸并存储到目标地址</h3>
+         *
+         * @param origPath     <span class="en-US">original image file path</span>
+         *                     <span class="zh-CN">原始图片地址</span>
+         * @param targetPath   <span class="en-US">target image file path</span>
+         *                     <span class="zh-CN">目标图片地址</span>
+         * @param targetWidth  <span class="en-US">target width	(if -1 width will auto set by height ratio)</span>
+         *                     <span class="zh-CN">图片调整后的宽度，如果值为-1则自动根据图片宽高比进行调整</span>
+         * @param targetHeight <span class="en-US">target height	(if -1 height will auto set by width ratio)</span>
+         *                     <span class="zh-CN">图片调整后的高度，如果值为-1则自动根据图片宽高比进行调整</span>
+         * @param markOptions  <span class="en-US">Mark options</span>
+         *                     <span class="zh-CN">水印选项</span>
+         * @param quality      <span class="en-US">Output compression quality</span>
+         *                     <span class="zh-CN">输出压缩质量</span>
+         * @return <span class="en-US">Resize process result</span>
+         * <span class="zh-CN">修改尺寸处理结果</span>
+         * @throws IOException <span class="en-US">If the image cannot be read or written</span>
+         *                     <span class="zh-CN">如果无法读取或写入图片</span>
+         */
+        boolean resize(final String origPath, final String targetPath, final int targetWidth,
+                       final int targetHeight, final MarkOptions markOptions, final float quality)
+                throws IOException {
+            Dimension imageSize = this.imageSize(origPath);
+            int resizeWidth = targetWidth, resizeHeight = targetHeight;
+            if (targetWidth == Globals.DEFAULT_VALUE_INT) {
+                resizeWidth = Double.valueOf(targetHeight * 1.0 / imageSize.height * imageSize.width).intValue();
+            }
+            if (targetHeight == Globals.DEFAULT_VALUE_INT) {
+                resizeHeight = Double.valueOf(targetWidth * 1.0 / imageSize.width * imageSize.height).intValue();
+            }
+            BufferedImage srcImage = this.read(origPath, null, resizeWidth, resizeHeight);
+            return this.write(processImage(srcImage, resizeWidth, resizeHeight, markOptions, Boolean.TRUE),
+                    targetPath, quality);
+        }
+
+        /**
+         * <h3 class="en-US">Write image to target path</h3>
+         * <h3 class="zh-CN">写入图片到目标地址</h3>
+         *
+         * @param bufferedImage <span class="en-US">Buffered image</span>
+         *                      <span class="zh-CN">缓冲图片实例对象</span>
+         * @param targetPath    <span class="en-US">target image file path</span>
+         *                      <span class="zh-CN">目标图片地址</span>
+         * @param quality       <span class="en-US">Output compression quality between 0 and 1, other values use the writer default</span>
+         *                      <span class="zh-CN">输出压缩质量，取值0到1，其他值使用写入器的默认值</span>
+         * @return <span class="en-US">Write result, <code>false</code> if no writer supports the target format</span>
+         * <span class="zh-CN">写入结果，如果没有支持目标格式的写入器则返回<code>false</code></span>
+         * @throws IOException <span class="en-US">If the image cannot be written</span>
+         *                     <span class="zh-CN">如果无法写入图片</span>
+         */
+        boolean write(final BufferedImage bufferedImage, final String targetPath, final float quality)
+                throws IOException {
+            String extension = StringUtils.getFilenameExtension(targetPath).toLowerCase();
+            ImageWriter imageWriter = this.imageWriters.get(extension);
+            if (imageWriter == null) {
+                Iterator<ImageWriter> iterator = ImageIO.getImageWritersBySuffix(extension);
+                if (!iterator.hasNext()) {
+                    return Boolean.FALSE;
+                }
+                imageWriter = iterator.next();
+                this.imageWriters.put(extension, imageWriter);
+            }
+            BufferedImage outputImage = bufferedImage;
+            if (!imageWriter.getOriginatingProvider().canEncodeImage(outputImage)) {
+                //  e.g. JPEG writer can not encode the alpha channel
+                outputImage = processImage(bufferedImage, bufferedImage.getWidth(), bufferedImage.getHeight(), null);
+            }
+            ImageWriteParam writeParam = imageWriter.getDefaultWriteParam();
+            if (quality > 0 && quality <= 1 && writeParam.canWriteCompressed()) {
+                writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (writeParam.getCompressionType() == null) {
+                    writeParam.setCompressionType(writeParam.getCompressionTypes()[0]);
+                }
+                writeParam.setCompressionQuality(quality);
+            }
+            File targetFile = FileUtils.getFile(targetPath);
+            if (targetFile.exists() && !targetFile.delete()) {
+                return Boolean.FALSE;
+            }
+            try (ImageOutputStream outputStream = ImageIO.createImageOutputStream(targetFile)) {
+                imageWriter.setOutput(outputStream);
+                imageWriter.write(null, new IIOImage(outputImage, null, null), writeParam);
+                return Boolean.TRUE;
+            } finally {
+                imageWriter.reset();
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Open image input stream of given file path</h3>
+         * <h3 class="zh-CN">打开给定文件地址的图片输入流</h3>
+         *
+         * @param imagePath <span class="en-US">Image file path</span>
+         *                  <span class="zh-CN">图片地址</span>
+         * @return <span class="en-US">Image input stream</span>
+         * <span class="zh-CN">图片输入流</span>
+         * @throws IOException <span class="en-US">If the file cannot be opened</span>
+         *                     <span class="zh-CN">如果无法打开文件</span>
+         */
+        private ImageInputStream openInput(final String imagePath) throws IOException {
+            ImageInputStream inputStream = ImageIO.createImageInputStream(FileUtils.getFile(imagePath));
+            if (inputStream == null) {
+                throw new FileNotFoundException(imagePath);
+            }
+            return inputStream;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve image reader and bind the given input stream</h3>
+         * <span class="en-US">The cached reader is used when it can decode the stream, otherwise a reader is detected from the stream content</span>
+         * <h3 class="zh-CN">获取图片读取器并绑定给定的输入流</h3>
+         * <span class="zh-CN">缓存的读取器可以解码输入流时直接使用，否则根据输入流内容检测读取器</span>
+         *
+         * @param imagePath   <span class="en-US">Image file path</span>
+         *                    <span class="zh-CN">图片地址</span>
+         * @param inputStream <span class="en-US">Image input stream</span>
+         *                    <span class="zh-CN">图片输入流</span>
+         * @return <span class="en-US">Image reader instance</span>
+         * <span class="zh-CN">图片读取器实例对象</span>
+         * @throws IOException <span class="en-US">If no reader can decode the stream</span>
+         *                     <span class="zh-CN">如果没有可以解码输入流的读取器</span>
+         */
+        private ImageReader imageReader(final String imagePath, final ImageInputStream inputStream)
+                throws IOException {
+            String extension = StringUtils.getFilenameExtension(imagePath).toLowerCase();
+            ImageReader imageReader = this.imageReaders.get(extension);
+            if (imageReader == null || !imageReader.getOriginatingProvider().canDecodeInput(inputStream)) {
+                Iterator<ImageReader> iterator = ImageIO.getImageReaders(inputStream);
+                if (!iterator.hasNext()) {
+                    throw new IOException("No image reader found for " + imagePath);
+                }
+                imageReader = iterator.next();
+                Optional.ofNullable(this.imageReaders.put(extension, imageReader)).ifPresent(ImageReader::dispose);
+            }
+            imageReader.setInput(inputStream, Boolean.TRUE, Boolean.TRUE);
+            return imageReader;
+        }
+
+        @Override
+        public void close() {
+            this.imageReaders.values().forEach(ImageReader::dispose);
+            this.imageReaders.clear();
+            this.imageWriters.values().forEach(ImageWriter::dispose);
+            this.imageWriters.clear();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Decode image file for hash calculation</h3>
+     * <span class="en-US">
+     *     The image is decoded without subsampling, subsampled decoding changes the gray values of the scaled image,
+     *     the hash value will not match the hash value of the same buffered image.
+     * </span>
+     * <h3 class="zh-CN">为哈希计算解码图片文件</h3>
+     * <span class="zh-CN">解码时不进行子采样，子采样解码会改变缩放后图片的灰度值，导致哈希值与相同缓冲图片的哈希值不一致</span>
+     *
+     * @param file <span class="en-US">Image file instance</span>
+     *             <span class="zh-CN">图片文件实例对象</span>
+     * @return <span class="en-US">Decoded image, or empty if the image cannot be read</span>
+     * <span class="zh-CN">解码后的图片，如果无法读取图片则返回空</span>
+     */
+    private static Optional<BufferedImage> hashImage(final File file) {
+        try (ImageCodecs imageCodecs = new ImageCodecs()) {
+            return Optional.ofNullable(imageCodecs.read(file.getAbsolutePath(), null,
+                    Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT));
+        } catch (IOException e) {
+            LOGGER.error("Read_Files_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
             }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Convert packed hash value to binary string</h3>
+     * <h3 class="zh-CN">转换压缩哈希值为二进制字符串</h3>
+     *
+     * @param hashValue <span class="en-US">Packed hash value</span>
+     *                  <span class="zh-CN">压缩哈希值</span>
+     * @return <span class="en-US">64 characters binary string, or empty string if hash value is empty</span>
+     * <span class="zh-CN">64个字符的二进制字符串，如果哈希值为空则返回空字符串</span>
+     */
+    private static String hashString(final OptionalLong hashValue) {
+        if (hashValue.isEmpty()) {
+            return Globals.DEFAULT_VALUE_STRING;
         }
-        return grayMatrix;
+        long hash = hashValue.getAsLong();
+        char[] hashChars = new char[Long.SIZE];
+        for (int i = 0; i < Long.SIZE; i++) {
+            hashChars[i] = ((hash >>> (Long.SIZE - 1 - i)) & 1L) == 1L ? '1' : '0';
+        }
+        return new String(hashChars);
     }
 
     /**
-     * <h3 class="en-US">Process Discrete Cosine Transform to bufferedImage</h3>
-     * <h3 class="en-US">对给定的缓冲图片实例对象做离散余弦变换</h3>
+     * <h3 class="en-US">Convert bufferedImage to gray values</h3>
+     * <span class="en-US">The pixels are read into an array by one getRGB call, the result is row-major</span>
+     * <h3 class="zh-CN">转换缓冲图片实例对象为灰度值数组</h3>
+     * <span class="zh-CN">通过一次getRGB调用将像素读入数组，结果按行优先排列</span>
      *
      * @param bufferedImage <span class="en-US">Buffered image</span>
      *                      <span class="zh-CN">缓冲图片实例对象</span>
-     * @return <span class="en-US">Process result</span>
-     * <span class="zh-CN">处理结果</span>
+     * @return <span class="en-US">gray values</span>
+     * <span class="zh-CN">灰度值数组</span>
      */
-    private static double[][] applyDCT(final BufferedImage bufferedImage) {
-        if (bufferedImage == null) {
-            return new double[0][0];
-        }
+    private static double[] grayValues(final BufferedImage bufferedImage) {
         int width = bufferedImage.getWidth();
         int height = bufferedImage.getHeight();
-        int length = Math.max(width, height);
-        double[] uv = new double[length];
-        for (int i = 1; i < length; i++) {
-            uv[i] = 1;
-        }
-        uv[0] = 1 / Math.sqrt(2.0);
-        double[][] DCT = new double[width][height];
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
+        int[] pixels = bufferedImage.getRGB(0, 0, width, height, null, 0, width);
+        double[] grayValues = new double[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            int pixel = pixels[i];
+            grayValues[i] = ((pixel & 0xFF0000) >> 16) * 0.3
+                    + ((pixel & 0xFF00) >> 8) * 0.59
+                    + ((pixel & 0xFF) * 0.11);
+        }
+        return grayValues;
+    }
+
+    /**
+     * <h3 class="en-US">Process Discrete Cosine Transform to gray values</h3>
+     * <span class="en-US">
+     *     Separable DCT-II by using the precomputed cosine table, only the 8x8 low frequency coefficients are
+     *     calculated: one pass over the rows and one pass over the columns.
+     * </span>
+     * <h3 class="zh-CN">对给定的灰度值数组做离散余弦变换</h3>
+     * <span class="zh-CN">使用预计算余弦表的可分离DCT-II变换，仅计算8x8的低频系数：先按行计算，再按列计算。</span>
+     *
+     * @param grayValues <span class="en-US">32x32 gray values, row-major</span>
+     *                   <span class="zh-CN">32x32灰度值数组，按行优先排列</span>
+     * @return <span class="en-US">8x8 low frequency coefficients, row-major</span>
+     * <span class="zh-CN">8x8低频系数，按行优先排列</span>
+     */
+    private static double[] applyDCT(final double[] grayValues) {
+        double[] rowValues = new double[DCT_SIZE * PHASH_SIZE];
+        for (int y = 0; y < DCT_SIZE; y++) {
+            int offset = y * DCT_SIZE;
+            for (int v = 0; v < PHASH_SIZE; v++) {
                 double sum = 0.0;
-                int pixel = bufferedImage.getRGB(x, y);
-                double gray = ((pixel & 0xFF0000) >> 16) * 0.3
-                        + ((pixel & 0xFF00) >> 8) * 0.59
-                        + ((pixel & 0xFF) * 0.11);
-                for (int i = 0; i < width; i++) {
-                    for (int j = 0; j < height; j++) {
-                        sum += Math.cos(((2 * i + 1) / (width * height * 1.0)) * x * Math.PI)
-                                * Math.cos(((2 * j + 1) / (width * height * 1.0)) * y * Math.PI)
-                                * gray;
-                    }
+                for (int x = 0; x < DCT_SIZE; x++) {
+                    sum += DCT_COSINES[v][x] * grayValues[offset + x];
+                }
+                rowValues[y * PHASH_SIZE + v] = sum;
+            }
+        }
+        double[] coefficients = new double[PHASH_SIZE * PHASH_SIZE];
+        for (int u = 0; u < PHASH_SIZE; u++) {
+            for (int v = 0; v < PHASH_SIZE; v++) {
+                double sum = 0.0;
+                for (int y = 0; y < DCT_SIZE; y++) {
+                    sum += DCT_COSINES[u][y] * rowValues[y * PHASH_SIZE + v];
                 }
-                DCT[x][y] = sum * ((uv[x] * uv[y]) / 4.0);
+                coefficients[u * PHASH_SIZE + v] = sum;
             }
         }
-        return DCT;
+        return coefficients;
     }
 }
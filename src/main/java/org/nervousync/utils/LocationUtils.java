@@ -17,24 +17,33 @@
 package org.nervousync.utils;
 
 import org.nervousync.beans.location.GeoPoint;
+import org.nervousync.commons.Globals;
 import org.nervousync.exceptions.location.LocationConvertException;
 
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 /**
  * <h2 class="en-US">Geography Utilities</h2>
  * <span class="en-US">
  * <span>Current utilities implements features:</span>
  *     <ul>Convert GeoPoint at WGS84(GPS)/GCJ02/BD09</ul>
- *     <ul>Calculate distance of two given geography point. (Unit: Kilometers)</ul>
+ *     <ul>Calculate distance of two given geography point. (Unit: Meters)</ul>
+ *     <ul>Convert location arrays in batch, optionally parallel</ul>
+ *     <ul>Spatial grid index for radius and k-nearest queries</ul>
  * </span>
  * <h2 class="zh-CN">地理位置信息工具集</h2>
  * <span class="zh-CN">
  *     <span>此工具集实现以下功能:</span>
  *     <ul>在不同坐标系间转换数据，支持的坐标系：WGS84(GPS)/GCJ02/BD09</ul>
- *     <ul>计算两个物理坐标之间的距离，单位：公里</ul>
+ *     <ul>计算两个物理坐标之间的距离，单位：米</ul>
+ *     <ul>批量转换坐标数组，可选并行处理</ul>
+ *     <ul>支持范围查询和最近邻查询的空间网格索引</ul>
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Dec 19, 2017 13:01:14 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:59:36 $
  */
 public final class LocationUtils {
     /**
@@ -47,6 +56,16 @@ public final class LocationUtils {
      * <span class="zh-CN">地球偏心率平方值</span>
      */
     private static final double EARTH_EE = 0.00669342162296594323;
+    /**
+     * <span class="en-US">Location count of each chunk in parallel conversion</span>
+     * <span class="zh-CN">并行转换时每个分块的坐标数量</span>
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 16384;
+    /**
+     * <span class="en-US">Default grid cell size of spatial index (Unit: Degrees)</span>
+     * <span class="zh-CN">空间索引的默认网格单元大小（单位：度）</span>
+     */
+    private static final double DEFAULT_CELL_SIZE = 0.01;
 
     /**
      * <h3 class="en-US">Private constructor for LocationUtils</h3>
@@ -56,8 +75,10 @@ public final class LocationUtils {
     }
 
     /**
-     * <h3 class="en-US">Calculate distance of two given geography location. (Unit: Kilometers)</h3>
-     * <h3 class="zh-CN">计算两个物理坐标之间的距离，单位：公里</h3>
+     * <h3 class="en-US">Calculate distance of two given geography location. (Unit: Meters)</h3>
+     * <span class="en-US">Using equirectangular approximation after convert both location to GPS location</span>
+     * <h3 class="zh-CN">计算两个物理坐标之间的距离，单位：米</h3>
+     * <span class="zh-CN">将两个坐标转换为GPS坐标后使用等距矩形投影近似计算</span>
      *
      * @param beginPoint <span class="en-US">GroPoint instance of beginning geography location</span>
      *                   <span class="zh-CN">起始位置坐标的GroPoint实例</span>
@@ -70,13 +91,30 @@ public final class LocationUtils {
      */
     public static double calcDistance(final GeoPoint beginPoint, final GeoPoint endPoint)
             throws LocationConvertException {
+        return calcDistance(beginPoint, endPoint, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Calculate distance of two given geography location. (Unit: Meters)</h3>
+     * <h3 class="zh-CN">计算两个物理坐标之间的距离，单位：米</h3>
+     *
+     * @param beginPoint <span class="en-US">GroPoint instance of beginning geography location</span>
+     *                   <span class="zh-CN">起始位置坐标的GroPoint实例</span>
+     * @param endPoint   <span class="en-US">GroPoint instance of end geography location</span>
+     *                   <span class="zh-CN">终止位置坐标的GroPoint实例</span>
+     * @param haversine  <span class="en-US">Using haversine formula instead of equirectangular approximation</span>
+     *                   <span class="zh-CN">使用半正矢公式替代等距矩形投影近似计算</span>
+     * @throws LocationConvertException <span class="en-US">If convert GeoPoint instance to GPS location has error</span>
+     *                                  <span class="zh-CN">当转换GeoPoint为GPS坐标时出现错误</span>
+     * @return    <span class="en-US">Calculated distance value</span>
+     * <span class="zh-CN">计算完成的距离值</span>
+     */
+    public static double calcDistance(final GeoPoint beginPoint, final GeoPoint endPoint, final boolean haversine)
+            throws LocationConvertException {
         GeoPoint beginGPSPoint = anyToGPS(beginPoint);
         GeoPoint endGPSPoint = anyToGPS(endPoint);
-        double tmpX = (endGPSPoint.getLongitude() - beginGPSPoint.getLongitude()) * Math.PI * EARTH_R
-                * Math.cos(((beginGPSPoint.getLatitude() + endGPSPoint.getLatitude()) / 2) * Math.PI / 180) / 180;
-        double tmpY = (endGPSPoint.getLatitude() - beginGPSPoint.getLatitude()) * Math.PI * EARTH_R / 180;
-        return Math.hypot(tmpX, tmpY);
-
+        return distance(beginGPSPoint.getLongitude(), beginGPSPoint.getLatitude(),
+                endGPSPoint.getLongitude(), endGPSPoint.getLatitude(), haversine);
     }
 
     /**
@@ -91,20 +129,7 @@ public final class LocationUtils {
      * <span class="zh-CN">转换后的GeoPoint实例</span>
      */
     public static GeoPoint anyToGPS(final GeoPoint currentPoint) throws LocationConvertException {
-        if (currentPoint == null) {
-            throw new LocationConvertException(0x0000000C0001L, "Null_Point_Location_Error");
-        }
-        switch (currentPoint.getLocationType()) {
-            case GPS:
-                return currentPoint;
-            case GCJ_02:
-                return GCJ02ToGPS(currentPoint.getLongitude(), currentPoint.getLatitude());
-            case BD_09:
-                GeoPoint gcjPoint = BD09ToGCJ02(currentPoint.getLongitude(), currentPoint.getLatitude());
-                return GCJ02ToGPS(gcjPoint.getLongitude(), gcjPoint.getLatitude());
-            default:
-                throw new LocationConvertException(0x0000000C0002L, "Not_Support_Type_Location_Error");
-        }
+        return convertPoint(currentPoint, GeoPoint.LocationType.GPS);
     }
 
     /**
@@ -119,19 +144,7 @@ public final class LocationUtils {
      * <span class="zh-CN">转换后的GeoPoint实例</span>
      */
     public static GeoPoint anyToGCJ02(final GeoPoint currentPoint) throws LocationConvertException {
-        if (currentPoint == null) {
-            throw new LocationConvertException(0x0000000C0001L, "Null_Point_Location_Error");
-        }
-        switch (currentPoint.getLocationType()) {
-            case GPS:
-                return GPSToGCJ02(currentPoint.getLongitude(), currentPoint.getLatitude());
-            case GCJ_02:
-                return currentPoint;
-            case BD_09:
-                return BD09ToGCJ02(currentPoint.getLongitude(), currentPoint.getLatitude());
-            default:
-                throw new LocationConvertException(0x0000000C0002L, "Not_Support_Type_Location_Error");
-        }
+        return convertPoint(currentPoint, GeoPoint.LocationType.GCJ_02);
     }
 
     /**
@@ -146,123 +159,327 @@ public final class LocationUtils {
      * <span class="zh-CN">转换后的GeoPoint实例</span>
      */
     public static GeoPoint anyToBD09(final GeoPoint currentPoint) throws LocationConvertException {
+        return convertPoint(currentPoint, GeoPoint.LocationType.BD_09);
+    }
+
+    /**
+     * <h3 class="en-US">Convert location arrays between location types</h3>
+     * <span class="en-US">
+     *     The values of given arrays were replaced by converted values, no object was allocated for each location.
+     * </span>
+     * <h3 class="zh-CN">在不同坐标系间转换坐标数组</h3>
+     * <span class="zh-CN">给定数组中的值被替换为转换后的值，不会为每个坐标创建对象</span>
+     *
+     * @param fromType   <span class="en-US">Location type of given arrays</span>
+     *                   <span class="zh-CN">给定数组的坐标系</span>
+     * @param toType     <span class="en-US">Target location type</span>
+     *                   <span class="zh-CN">目标坐标系</span>
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @throws LocationConvertException <span class="en-US">If location type not supported or array length not match</span>
+     *                                  <span class="zh-CN">当坐标系不支持或数组长度不一致时</span>
+     */
+    public static void convert(final GeoPoint.LocationType fromType, final GeoPoint.LocationType toType,
+                               final double[] longitudes, final double[] latitudes)
+            throws LocationConvertException {
+        convert(fromType, toType, longitudes, latitudes, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Convert location arrays between location types</h3>
+     * <span class="en-US">
+     *     The values of given arrays were replaced by converted values, no object was allocated for each location.
+     *     When parallel is <code>true</code>, the arrays were split into chunks and converted by common fork join pool.
+     * </span>
+     * <h3 class="zh-CN">在不同坐标系间转换坐标数组</h3>
+     * <span class="zh-CN">
+     *     给定数组中的值被替换为转换后的值，不会为每个坐标创建对象。
+     *     当parallel为<code>true</code>时，数组被拆分为多个分块并使用公共的ForkJoin线程池转换。
+     * </span>
+     *
+     * @param fromType   <span class="en-US">Location type of given arrays</span>
+     *                   <span class="zh-CN">给定数组的坐标系</span>
+     * @param toType     <span class="en-US">Target location type</span>
+     *                   <span class="zh-CN">目标坐标系</span>
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @param parallel   <span class="en-US">Convert chunks in parallel</span>
+     *                   <span class="zh-CN">并行转换分块</span>
+     * @throws LocationConvertException <span class="en-US">If location type not supported or array length not match</span>
+     *                                  <span class="zh-CN">当坐标系不支持或数组长度不一致时</span>
+     */
+    public static void convert(final GeoPoint.LocationType fromType, final GeoPoint.LocationType toType,
+                               final double[] longitudes, final double[] latitudes, final boolean parallel)
+            throws LocationConvertException {
+        if (longitudes == null || latitudes == null || longitudes.length != latitudes.length) {
+            throw new LocationConvertException(0x0000000C0003L, "Length_Mismatch_Location_Error");
+        }
+        if (!supportType(fromType) || !supportType(toType)) {
+            throw new LocationConvertException(0x0000000C0002L, "Not_Support_Type_Location_Error");
+        }
+        if (fromType.equals(toType)) {
+            return;
+        }
+        int length = longitudes.length;
+        if (parallel && length > PARALLEL_CHUNK_SIZE) {
+            IntStream.range(0, (length + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE)
+                    .parallel()
+                    .forEach(chunk -> convertRange(fromType, toType, longitudes, latitudes,
+                            chunk * PARALLEL_CHUNK_SIZE, Math.min(length, (chunk + 1) * PARALLEL_CHUNK_SIZE)));
+        } else {
+            convertRange(fromType, toType, longitudes, latitudes, 0, length);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Create spatial grid index</h3>
+     * <h3 class="zh-CN">创建空间网格索引</h3>
+     *
+     * @param <T>       <span class="en-US">Value type</span>
+     *                  <span class="zh-CN">数据类型</span>
+     * @param cellSize  <span class="en-US">Grid cell size (Unit: Degrees)</span>
+     *                  <span class="zh-CN">网格单元大小（单位：度）</span>
+     * @param haversine <span class="en-US">Using haversine formula instead of equirectangular approximation</span>
+     *                  <span class="zh-CN">使用半正矢公式替代等距矩形投影近似计算</span>
+     * @return <span class="en-US">Spatial grid index instance</span>
+     * <span class="zh-CN">空间网格索引实例对象</span>
+     */
+    public static <T> GeoIndex<T> newIndex(final double cellSize, final boolean haversine) {
+        return new GeoIndex<>(cellSize, haversine);
+    }
+
+    /**
+     * <h3 class="en-US">Check given location type was supported by conversion</h3>
+     * <h3 class="zh-CN">检查给定的坐标系是否支持转换</h3>
+     *
+     * @param locationType <span class="en-US">Location type</span>
+     *                     <span class="zh-CN">坐标系</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    private static boolean supportType(final GeoPoint.LocationType locationType) {
+        return GeoPoint.LocationType.GPS.equals(locationType) || GeoPoint.LocationType.GCJ_02.equals(locationType)
+                || GeoPoint.LocationType.BD_09.equals(locationType);
+    }
+
+    /**
+     * <h3 class="en-US">Convert given GeoPoint instance to target location type</h3>
+     * <h3 class="zh-CN">转换给定的GeoPoint实例为目标坐标系</h3>
+     *
+     * @param currentPoint <span class="en-US">Given GroPoint instance</span>
+     *                     <span class="zh-CN">给定的坐标的GroPoint实例</span>
+     * @param locationType <span class="en-US">Target location type</span>
+     *                     <span class="zh-CN">目标坐标系</span>
+     * @throws LocationConvertException <span class="en-US">If convert GeoPoint instance has error</span>
+     *                                  <span class="zh-CN">当转换GeoPoint时出现错误</span>
+     * @return    <span class="en-US">Converted GeoPoint instance</span>
+     * <span class="zh-CN">转换后的GeoPoint实例</span>
+     */
+    private static GeoPoint convertPoint(final GeoPoint currentPoint, final GeoPoint.LocationType locationType)
+            throws LocationConvertException {
         if (currentPoint == null) {
             throw new LocationConvertException(0x0000000C0001L, "Null_Point_Location_Error");
         }
-        switch (currentPoint.getLocationType()) {
-            case GPS:
-                GeoPoint gcjPoint = GPSToGCJ02(currentPoint.getLongitude(), currentPoint.getLatitude());
-                return GCJ02ToBD09(gcjPoint.getLongitude(), gcjPoint.getLatitude());
+        if (!supportType(currentPoint.getLocationType())) {
+            throw new LocationConvertException(0x0000000C0002L, "Not_Support_Type_Location_Error");
+        }
+        if (currentPoint.getLocationType().equals(locationType)) {
+            return currentPoint;
+        }
+        double[] longitudes = {currentPoint.getLongitude()};
+        double[] latitudes = {currentPoint.getLatitude()};
+        convertRange(currentPoint.getLocationType(), locationType, longitudes, latitudes, 0, 1);
+        switch (locationType) {
             case GCJ_02:
-                return GCJ02ToBD09(currentPoint.getLongitude(), currentPoint.getLatitude());
+                return GeoPoint.gcj02Point(longitudes[0], latitudes[0]);
             case BD_09:
-                return currentPoint;
+                return GeoPoint.bd09Point(longitudes[0], latitudes[0]);
             default:
-                throw new LocationConvertException(0x0000000C0002L, "Not_Support_Type_Location_Error");
+                return GeoPoint.gpsPoint(longitudes[0], latitudes[0]);
         }
     }
 
     /**
-     * <h3 class="en-US">Convert GCJ02 GeoPoint instance to BD09 GeoPoint instance</h3>
-     * <h3 class="zh-CN">转换GCJ02坐标的GeoPoint实例为BD09坐标GeoPoint实例</h3>
+     * <h3 class="en-US">Convert locations in given range of arrays</h3>
+     * <span class="en-US">GPS and BD09 locations were converted by GCJ02 location</span>
+     * <h3 class="zh-CN">转换数组中给定范围的坐标</h3>
+     * <span class="zh-CN">GPS和BD09坐标通过GCJ02坐标转换</span>
      *
-     * @param longitude <span class="en-US">Longitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标经度值</span>
-     * @param latitude  <span class="en-US">Latitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标纬度值</span>
-     * @return    <span class="en-US">Converted GeoPoint instance</span>
-     * <span class="zh-CN">转换后的GeoPoint实例</span>
+     * @param fromType   <span class="en-US">Location type of given arrays</span>
+     *                   <span class="zh-CN">给定数组的坐标系</span>
+     * @param toType     <span class="en-US">Target location type</span>
+     *                   <span class="zh-CN">目标坐标系</span>
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @param begin      <span class="en-US">Begin index (inclusive)</span>
+     *                   <span class="zh-CN">起始索引（包含）</span>
+     * @param end        <span class="en-US">End index (exclusive)</span>
+     *                   <span class="zh-CN">结束索引（不包含）</span>
      */
-    private static GeoPoint GCJ02ToBD09(final double longitude, final double latitude) {
-        double fixValue = Math.sqrt(Math.pow(longitude, 2) + Math.pow(latitude, 2)) + 0.00002 * Math.sin(latitude * Math.PI);
+    private static void convertRange(final GeoPoint.LocationType fromType, final GeoPoint.LocationType toType,
+                                     final double[] longitudes, final double[] latitudes,
+                                     final int begin, final int end) {
+        for (int i = begin; i < end; i++) {
+            if (GeoPoint.LocationType.GPS.equals(fromType)) {
+                GPSToGCJ02(longitudes, latitudes, i);
+            } else if (GeoPoint.LocationType.BD_09.equals(fromType)) {
+                BD09ToGCJ02(longitudes, latitudes, i);
+            }
+            if (GeoPoint.LocationType.GPS.equals(toType)) {
+                GCJ02ToGPS(longitudes, latitudes, i);
+            } else if (GeoPoint.LocationType.BD_09.equals(toType)) {
+                GCJ02ToBD09(longitudes, latitudes, i);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Calculate distance of two given GPS location. (Unit: Meters)</h3>
+     * <h3 class="zh-CN">计算两个GPS坐标之间的距离，单位：米</h3>
+     *
+     * @param beginLongitude <span class="en-US">Longitude value of beginning location</span>
+     *                       <span class="zh-CN">起始坐标经度值</span>
+     * @param beginLatitude  <span class="en-US">Latitude value of beginning location</span>
+     *                       <span class="zh-CN">起始坐标纬度值</span>
+     * @param endLongitude   <span class="en-US">Longitude value of end location</span>
+     *                       <span class="zh-CN">终止坐标经度值</span>
+     * @param endLatitude    <span class="en-US">Latitude value of end location</span>
+     *                       <span class="zh-CN">终止坐标纬度值</span>
+     * @param haversine      <span class="en-US">Using haversine formula instead of equirectangular approximation</span>
+     *                       <span class="zh-CN">使用半正矢公式替代等距矩形投影近似计算</span>
+     * @return    <span class="en-US">Calculated distance value</span>
+     * <span class="zh-CN">计算完成的距离值</span>
+     */
+    private static double distance(final double beginLongitude, final double beginLatitude,
+                                   final double endLongitude, final double endLatitude, final boolean haversine) {
+        if (haversine) {
+            double sinLatitude = Math.sin(Math.toRadians(endLatitude - beginLatitude) / 2);
+            double sinLongitude = Math.sin(Math.toRadians(endLongitude - beginLongitude) / 2);
+            double value = sinLatitude * sinLatitude + Math.cos(Math.toRadians(beginLatitude))
+                    * Math.cos(Math.toRadians(endLatitude)) * sinLongitude * sinLongitude;
+            return 2 * EARTH_R * Math.asin(Math.min(1.0, Math.sqrt(value)));
+        }
+        double tmpX = (endLongitude - beginLongitude) * Math.PI * EARTH_R
+                * Math.cos(((beginLatitude + endLatitude) / 2) * Math.PI / 180) / 180;
+        double tmpY = (endLatitude - beginLatitude) * Math.PI * EARTH_R / 180;
+        return Math.hypot(tmpX, tmpY);
+    }
+
+    /**
+     * <h3 class="en-US">Convert GCJ02 location at given index to BD09 location</h3>
+     * <h3 class="zh-CN">转换给定索引的GCJ02坐标为BD09坐标</h3>
+     *
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @param index      <span class="en-US">Location index</span>
+     *                   <span class="zh-CN">坐标索引</span>
+     */
+    private static void GCJ02ToBD09(final double[] longitudes, final double[] latitudes, final int index) {
+        double longitude = longitudes[index];
+        double latitude = latitudes[index];
+        double fixValue = Math.sqrt(longitude * longitude + latitude * latitude) + 0.00002 * Math.sin(latitude * Math.PI);
         double delta = Math.atan2(latitude, longitude) + 0.000003 * Math.cos(longitude * Math.PI);
-        double bdLat = fixValue * Math.sin(delta) + 0.006;
-        double bdLon = fixValue * Math.cos(delta) + 0.0065;
-        return GeoPoint.bd09Point(bdLon, bdLat);
+        latitudes[index] = fixValue * Math.sin(delta) + 0.006;
+        longitudes[index] = fixValue * Math.cos(delta) + 0.0065;
     }
 
     /**
-     * <h3 class="en-US">Convert BD09 GeoPoint instance to GCJ02 GeoPoint instance</h3>
-     * <h3 class="zh-CN">转换BD09坐标的GeoPoint实例为GCJ02坐标GeoPoint实例</h3>
+     * <h3 class="en-US">Convert BD09 location at given index to GCJ02 location</h3>
+     * <h3 class="zh-CN">转换给定索引的BD09坐标为GCJ02坐标</h3>
      *
-     * @param longitude <span class="en-US">Longitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标经度值</span>
-     * @param latitude  <span class="en-US">Latitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标纬度值</span>
-     * @return    <span class="en-US">Converted GeoPoint instance</span>
-     * <span class="zh-CN">转换后的GeoPoint实例</span>
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @param index      <span class="en-US">Location index</span>
+     *                   <span class="zh-CN">坐标索引</span>
      */
-    private static GeoPoint BD09ToGCJ02(final double longitude, final double latitude) {
-        double fixValue = Math.sqrt(Math.pow(longitude - 0.0065, 2) + Math.pow(latitude - 0.006, 2))
-                - 0.00002 * Math.sin((latitude - 0.006) * Math.PI);
-        double fixTemp = Math.atan2(latitude - 0.006, longitude - 0.0065)
-                - 0.000003 * Math.cos((longitude - 0.0065) * Math.PI);
-        double gcjLat = fixValue * Math.sin(fixTemp);
-        double gcjLon = fixValue * Math.cos(fixTemp);
-        return GeoPoint.gcj02Point(gcjLon, gcjLat);
+    private static void BD09ToGCJ02(final double[] longitudes, final double[] latitudes, final int index) {
+        double longitude = longitudes[index] - 0.0065;
+        double latitude = latitudes[index] - 0.006;
+        double fixValue = Math.sqrt(longitude * longitude + latitude * latitude) - 0.00002 * Math.sin(latitude * Math.PI);
+        double fixTemp = Math.atan2(latitude, longitude) - 0.000003 * Math.cos(longitude * Math.PI);
+        latitudes[index] = fixValue * Math.sin(fixTemp);
+        longitudes[index] = fixValue * Math.cos(fixTemp);
     }
 
     /**
-     * <h3 class="en-US">Convert GCJ02 GeoPoint instance to GPS GeoPoint instance</h3>
-     * <h3 class="zh-CN">转换GCJ02坐标的GeoPoint实例为GPS坐标GeoPoint实例</h3>
+     * <h3 class="en-US">Convert GCJ02 location at given index to GPS location</h3>
+     * <h3 class="zh-CN">转换给定索引的GCJ02坐标为GPS坐标</h3>
      *
-     * @param longitude <span class="en-US">Longitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标经度值</span>
-     * @param latitude  <span class="en-US">Latitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标纬度值</span>
-     * @return    <span class="en-US">Converted GeoPoint instance</span>
-     * <span class="zh-CN">转换后的GeoPoint实例</span>
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @param index      <span class="en-US">Location index</span>
+     *                   <span class="zh-CN">坐标索引</span>
      */
-    private static GeoPoint GCJ02ToGPS(final double longitude, final double latitude) {
+    private static void GCJ02ToGPS(final double[] longitudes, final double[] latitudes, final int index) {
+        double longitude = longitudes[index];
+        double latitude = latitudes[index];
         if ((longitude < 72.004 || longitude > 137.8347) || (latitude < 0.8293 || latitude > 55.8271)) {
-            return GeoPoint.gpsPoint(longitude, latitude);
-        } else {
-            GeoPoint deltaPoint = deltaPoint(longitude, latitude);
-            return GeoPoint.gpsPoint(longitude - deltaPoint.getLongitude(),
-                    latitude - deltaPoint.getLatitude());
+            return;
         }
+        applyDelta(longitudes, latitudes, index, -1.0);
     }
 
     /**
-     * <h3 class="en-US">Convert GPS GeoPoint instance to GCJ02 GeoPoint instance</h3>
-     * <h3 class="zh-CN">转换GPS坐标的GeoPoint实例为GCJ02坐标GeoPoint实例</h3>
+     * <h3 class="en-US">Convert GPS location at given index to GCJ02 location</h3>
+     * <h3 class="zh-CN">转换给定索引的GPS坐标为GCJ02坐标</h3>
      *
-     * @param longitude <span class="en-US">Longitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标经度值</span>
-     * @param latitude  <span class="en-US">Latitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标纬度值</span>
-     * @return    <span class="en-US">Converted GeoPoint instance</span>
-     * <span class="zh-CN">转换后的GeoPoint实例</span>
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @param index      <span class="en-US">Location index</span>
+     *                   <span class="zh-CN">坐标索引</span>
      */
-    private static GeoPoint GPSToGCJ02(final double longitude, final double latitude) {
+    private static void GPSToGCJ02(final double[] longitudes, final double[] latitudes, final int index) {
+        double longitude = longitudes[index];
+        double latitude = latitudes[index];
         if ((longitude < 72.004 || longitude > 137.8347) && (latitude < 0.8293 || latitude > 55.8271)) {
-            return GeoPoint.gcj02Point(longitude, latitude);
+            return;
         }
-        GeoPoint deltaPoint = deltaPoint(longitude, latitude);
-        return GeoPoint.gcj02Point(longitude + deltaPoint.getLongitude(),
-                latitude + deltaPoint.getLatitude());
+        applyDelta(longitudes, latitudes, index, 1.0);
     }
 
     /**
-     * <h3 class="en-US">Calculate delta value of GeoPoint convert</h3>
-     * <h3 class="zh-CN">计算地理坐标的偏移量</h3>
+     * <h3 class="en-US">Calculate delta value of location convert and apply to location at given index</h3>
+     * <span class="en-US">The sine value of latitude was calculated once and shared by both delta values</span>
+     * <h3 class="zh-CN">计算地理坐标的偏移量并应用到给定索引的坐标</h3>
+     * <span class="zh-CN">纬度的正弦值只计算一次，由两个偏移量共用</span>
      *
-     * @param longitude <span class="en-US">Longitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标经度值</span>
-     * @param latitude  <span class="en-US">Latitude value of GeoPoint</span>
-     *                  <span class="zh-CN">地理坐标纬度值</span>
-     * @return    <span class="en-US">Converted GeoPoint instance</span>
-     * <span class="zh-CN">转换后的GeoPoint实例</span>
+     * @param longitudes <span class="en-US">Longitude value array</span>
+     *                   <span class="zh-CN">经度值数组</span>
+     * @param latitudes  <span class="en-US">Latitude value array</span>
+     *                   <span class="zh-CN">纬度值数组</span>
+     * @param index      <span class="en-US">Location index</span>
+     *                   <span class="zh-CN">坐标索引</span>
+     * @param sign       <span class="en-US">1.0 for add delta value, -1.0 for subtract delta value</span>
+     *                   <span class="zh-CN">1.0为加上偏移量，-1.0为减去偏移量</span>
      */
-    private static GeoPoint deltaPoint(final double longitude, final double latitude) {
+    private static void applyDelta(final double[] longitudes, final double[] latitudes,
+                                   final int index, final double sign) {
+        double longitude = longitudes[index];
+        double latitude = latitudes[index];
         double transformLatitude = latitude / 180.0 * Math.PI;
-        double magic = 1 - EARTH_EE * Math.pow(Math.sin(transformLatitude), 2);
+        double sinLatitude = Math.sin(transformLatitude);
+        double magic = 1 - EARTH_EE * sinLatitude * sinLatitude;
         double magicSqrt = Math.sqrt(magic);
         double fixedLatitude = ((transformLatitude(longitude - 105.0, latitude - 35.0) * 180.0)
                 / ((EARTH_R * (1 - EARTH_EE)) / (magic * magicSqrt) * Math.PI));
         double fixedLongitude = ((transformLongitude(longitude - 105.0, latitude - 35.0) * 180.0)
                 / (EARTH_R / magicSqrt * Math.cos(transformLatitude) * Math.PI));
-        return GeoPoint.deltaPoint(fixedLongitude, fixedLatitude);
+        longitudes[index] = longitude + sign * fixedLongitude;
+        latitudes[index] = latitude + sign * fixedLatitude;
     }
 
     /**
@@ -277,7 +494,7 @@ public final class LocationUtils {
      * <span class="zh-CN">转换后的纬度值</span>
      */
     private static double transformLatitude(final double longitude, final double latitude) {
-        double result = -100.0 + 2.0 * longitude + 3.0 * latitude + 0.2 * Math.pow(latitude, 2);
+        double result = -100.0 + 2.0 * longitude + 3.0 * latitude + 0.2 * latitude * latitude;
         result += 0.1 * longitude * latitude + 0.2 * Math.sqrt(Math.abs(longitude));
         result += calculate(longitude, latitude);
         result += (160.0 * Math.sin(latitude / 12.0 * Math.PI) + 320.0 * Math.sin(latitude * Math.PI / 30.0)) * 2.0 / 3.0;
@@ -296,7 +513,7 @@ public final class LocationUtils {
      * <span class="zh-CN">转换后的经度值</span>
      */
     private static double transformLongitude(final double longitude, final double latitude) {
-        double result = 300.0 + longitude + 2.0 * latitude + 0.1 * Math.pow(longitude, 2);
+        double result = 300.0 + longitude + 2.0 * latitude + 0.1 * longitude * longitude;
         result += 0.1 * longitude * latitude + 0.1 * Math.sqrt(Math.abs(longitude));
         result += calculate(longitude, longitude);
         result += (150.0 * Math.sin(longitude / 12.0 * Math.PI) + 300.0 * Math.sin(longitude * Math.PI / 30.0)) * 2.0 / 3.0;
@@ -307,4 +524,528 @@ public final class LocationUtils {
         return ((20.0 * Math.sin(6.0 * value1 * Math.PI) + 20.0 * Math.sin(2.0 * value1 * Math.PI)) * 2.0 / 3.0)
                 + ((20.0 * Math.sin(value2 * Math.PI) + 40.0 * Math.sin(value2 / 3.0 * Math.PI)) * 2.0 / 3.0);
     }
+
+    /**
+     * <h2 class="en-US">Spatial grid index of GPS locations</h2>
+     * <span class="en-US">
+     *     The locations were converted to GPS location and stored in parallel arrays, grouped by grid cells of
+     *     given size. Queries only visit the cells covered by the bounding box of search area, and each location was
+     *     checked by bounding box before calculate distance. The index was not wrapped at the 180th meridian.
+     *     Adding values is not thread safe, a fully built index can be shared by concurrent readers.
+     * </span>
+     * <h2 class="zh-CN">GPS坐标的空间网格索引</h2>
+     * <span class="zh-CN">
+     *     坐标被转换为GPS坐标并保存在并行数组中，按照给定大小的网格单元分组。查询只访问搜索区域外接矩形覆盖的网格单元，
+     *     每个坐标在计算距离之前先使用外接矩形检查。索引不处理180度经线的跨越。添加数据不是线程安全的，
+     *     构建完成的索引可以被多个线程并发读取。
+     * </span>
+     *
+     * @param <T> <span class="en-US">Value type</span>
+     *            <span class="zh-CN">数据类型</span>
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:59:36 $
+     */
+    public static final class GeoIndex<T> {
+        /**
+         * <span class="en-US">Distance of one degree latitude (Unit: Meters)</span>
+         * <span class="zh-CN">一度纬度的距离（单位：米）</span>
+         */
+        private static final double DEGREE_DISTANCE = Math.PI * EARTH_R / 180;
+        /**
+         * <span class="en-US">Grid cell size (Unit: Degrees)</span>
+         * <span class="zh-CN">网格单元大小（单位：度）</span>
+         */
+        private final double cellSize;
+        /**
+         * <span class="en-US">Using haversine formula instead of equirectangular approximation</span>
+         * <span class="zh-CN">使用半正矢公式替代等距矩形投影近似计算</span>
+         */
+        private final boolean haversine;
+        /**
+         * <span class="en-US">Grid cells, key is packed row and column</span>
+         * <span class="zh-CN">网格单元，键值为压缩的行列号</span>
+         */
+        private final Map<Long, GridCell> gridCells = new HashMap<>();
+        /**
+         * <span class="en-US">Longitude values of locations</span>
+         * <span class="zh-CN">坐标的经度值</span>
+         */
+        private double[] longitudes = new double[16];
+        /**
+         * <span class="en-US">Latitude values of locations</span>
+         * <span class="zh-CN">坐标的纬度值</span>
+         */
+        private double[] latitudes = new double[16];
+        /**
+         * <span class="en-US">Values of locations</span>
+         * <span class="zh-CN">坐标的数据</span>
+         */
+        private Object[] values = new Object[16];
+        /**
+         * <span class="en-US">Location count</span>
+         * <span class="zh-CN">坐标数量</span>
+         */
+        private int size = Globals.INITIALIZE_INT_VALUE;
+        /**
+         * <span class="en-US">Grid extents: minimum row, maximum row, minimum column, maximum column</span>
+         * <span class="zh-CN">网格范围：最小行号，最大行号，最小列号，最大列号</span>
+         */
+        private int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE,
+                minColumn = Integer.MAX_VALUE, maxColumn = Integer.MIN_VALUE;
+
+        /**
+         * <h3 class="en-US">Private constructor for GeoIndex</h3>
+         * <h3 class="zh-CN">空间网格索引的私有构造方法</h3>
+         *
+         * @param cellSize  <span class="en-US">Grid cell size (Unit: Degrees)</span>
+         *                  <span class="zh-CN">网格单元大小（单位：度）</span>
+         * @param haversine <span class="en-US">Using haversine formula instead of equirectangular approximation</span>
+         *                  <span class="zh-CN">使用半正矢公式替代等距矩形投影近似计算</span>
+         */
+        private GeoIndex(final double cellSize, final boolean haversine) {
+            this.cellSize = (cellSize > 0d) ? Math.min(cellSize, 90d) : DEFAULT_CELL_SIZE;
+            this.haversine = haversine;
+        }
+
+        /**
+         * <h3 class="en-US">Add location and value to index</h3>
+         * <h3 class="zh-CN">添加坐标和数据到索引</h3>
+         *
+         * @param geoPoint <span class="en-US">Location instance</span>
+         *                 <span class="zh-CN">坐标实例对象</span>
+         * @param value    <span class="en-US">Value instance</span>
+         *                 <span class="zh-CN">数据实例对象</span>
+         * @throws LocationConvertException <span class="en-US">If convert GeoPoint instance to GPS location has error</span>
+         *                                  <span class="zh-CN">当转换GeoPoint为GPS坐标时出现错误</span>
+         */
+        public void add(final GeoPoint geoPoint, final T value) throws LocationConvertException {
+            GeoPoint gpsPoint = anyToGPS(geoPoint);
+            if (this.size == this.longitudes.length) {
+                int capacity = this.size * 2;
+                this.longitudes = Arrays.copyOf(this.longitudes, capacity);
+                this.latitudes = Arrays.copyOf(this.latitudes, capacity);
+                this.values = Arrays.copyOf(this.values, capacity);
+            }
+            this.longitudes[this.size] = gpsPoint.getLongitude();
+            this.latitudes[this.size] = gpsPoint.getLatitude();
+            this.values[this.size] = value;
+            int row = this.row(gpsPoint.getLatitude());
+            int column = this.column(gpsPoint.getLongitude());
+            this.gridCells.computeIfAbsent(cellKey(row, column), key -> new GridCell()).add(this.size);
+            this.minRow = Math.min(this.minRow, row);
+            this.maxRow = Math.max(this.maxRow, row);
+            this.minColumn = Math.min(this.minColumn, column);
+            this.maxColumn = Math.max(this.maxColumn, column);
+            this.size++;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve location count</h3>
+         * <h3 class="zh-CN">获取坐标数量</h3>
+         *
+         * @return <span class="en-US">Location count</span>
+         * <span class="zh-CN">坐标数量</span>
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * <h3 class="en-US">Search values within given distance, sorted by distance</h3>
+         * <h3 class="zh-CN">查找给定距离内的数据，按照距离排序</h3>
+         *
+         * @param geoPoint <span class="en-US">Center location instance</span>
+         *                 <span class="zh-CN">中心坐标实例对象</span>
+         * @param distance <span class="en-US">Search distance (Unit: Meters)</span>
+         *                 <span class="zh-CN">查找距离（单位：米）</span>
+         * @return <span class="en-US">Value list</span>
+         * <span class="zh-CN">数据列表</span>
+         * @throws LocationConvertException <span class="en-US">If convert GeoPoint instance to GPS location has error</span>
+         *                                  <span class="zh-CN">当转换GeoPoint为GPS坐标时出现错误</span>
+         */
+        public List<T> radius(final GeoPoint geoPoint, final double distance) throws LocationConvertException {
+            GeoPoint gpsPoint = anyToGPS(geoPoint);
+            double longitude = gpsPoint.getLongitude(), latitude = gpsPoint.getLatitude();
+            if (this.size == 0 || distance < 0d) {
+                return new ArrayList<>();
+            }
+            double deltaLatitude = distance / DEGREE_DISTANCE;
+            double deltaLongitude = this.deltaLongitude(latitude, deltaLatitude);
+            int beginRow = Math.max(this.minRow, this.row(latitude - deltaLatitude));
+            int endRow = Math.min(this.maxRow, this.row(latitude + deltaLatitude));
+            int[] columnRanges = this.columnRanges(longitude, deltaLongitude);
+
+            int[] indexes = new int[16];
+            double[] distances = new double[16];
+            int count = 0;
+            for (int row = beginRow; row <= endRow; row++) {
+                for (int range = 0; range < columnRanges.length; range += 2) {
+                    int endColumn = Math.min(this.maxColumn, columnRanges[range + 1]);
+                    for (int column = Math.max(this.minColumn, columnRanges[range]); column <= endColumn; column++) {
+                        GridCell gridCell = this.gridCells.get(cellKey(row, column));
+                        if (gridCell == null) {
+                            continue;
+                        }
+                        for (int i = 0; i < gridCell.size; i++) {
+                            int index = gridCell.indexes[i];
+                            if (Math.abs(this.latitudes[index] - latitude) > deltaLatitude
+                                    || this.longitudeOffset(this.longitudes[index], longitude) > deltaLongitude) {
+                                continue;
+                            }
+                            double current = distance(longitude, latitude,
+                                    this.longitudes[index], this.latitudes[index], this.haversine);
+                            if (current <= distance) {
+                                if (count == indexes.length) {
+                                    indexes = Arrays.copyOf(indexes, count * 2);
+                                    distances = Arrays.copyOf(distances, count * 2);
+                                }
+                                indexes[count] = index;
+                                distances[count] = current;
+                                count++;
+                            }
+                        }
+                    }
+                }
+            }
+            final int[] sortIndexes = indexes;
+            final double[] sortDistances = distances;
+            return IntStream.range(0, count)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(i -> sortDistances[i]))
+                    .map(i -> this.value(sortIndexes[i]))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * <h3 class="en-US">Search given count of nearest values, sorted by distance</h3>
+         * <span class="en-US">
+         *     Visit grid cells ring by ring around the center location, stop when the nearest distance of next ring
+         *     is greater than the farthest distance of found values.
+         * </span>
+         * <h3 class="zh-CN">查找给定数量的最近数据，按照距离排序</h3>
+         * <span class="zh-CN">围绕中心坐标逐圈访问网格单元，当下一圈的最近距离大于已找到数据的最远距离时停止</span>
+         *
+         * @param geoPoint <span class="en-US">Center location instance</span>
+         *                 <span class="zh-CN">中心坐标实例对象</span>
+         * @param count    <span class="en-US">Value count</span>
+         *                 <span class="zh-CN">数据数量</span>
+         * @return <span class="en-US">Value list</span>
+         * <span class="zh-CN">数据列表</span>
+         * @throws LocationConvertException <span class="en-US">If convert GeoPoint instance to GPS location has error</span>
+         *                                  <span class="zh-CN">当转换GeoPoint为GPS坐标时出现错误</span>
+         */
+        public List<T> nearest(final GeoPoint geoPoint, final int count) throws LocationConvertException {
+            GeoPoint gpsPoint = anyToGPS(geoPoint);
+            double longitude = gpsPoint.getLongitude(), latitude = gpsPoint.getLatitude();
+            int limit = Math.min(count, this.size);
+            if (limit <= 0) {
+                return new ArrayList<>();
+            }
+            int centerRow = this.row(latitude), centerColumn = this.column(longitude);
+            int maxRing = Math.max(Math.max(centerRow - this.minRow, this.maxRow - centerRow),
+                    Math.max(centerColumn - this.minColumn, this.maxColumn - centerColumn));
+            //  Max heap of found values, the farthest value at the top
+            int[] heapIndexes = new int[limit];
+            double[] heapDistances = new double[limit];
+            int heapSize = 0;
+            for (int ring = 0; ring <= maxRing; ring++) {
+                for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                    if (row < this.minRow || row > this.maxRow) {
+                        continue;
+                    }
+                    boolean edgeRow = (row == centerRow - ring || row == centerRow + ring);
+                    int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                    for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                        GridCell gridCell = (column < this.minColumn || column > this.maxColumn)
+                                ? null
+                                : this.gridCells.get(cellKey(row, column));
+                        if (gridCell == null) {
+                            continue;
+                        }
+                        for (int i = 0; i < gridCell.size; i++) {
+                            int index = gridCell.indexes[i];
+                            double current = distance(longitude, latitude,
+                                    this.longitudes[index], this.latitudes[index], this.haversine);
+                            if (heapSize < limit) {
+                                heapIndexes[heapSize] = index;
+                                heapDistances[heapSize] = current;
+                                siftUp(heapIndexes, heapDistances, heapSize++);
+                            } else if (current < heapDistances[0]) {
+                                heapIndexes[0] = index;
+                                heapDistances[0] = current;
+                                siftDown(heapIndexes, heapDistances, heapSize);
+                            }
+                        }
+                    }
+                }
+                if (heapSize == limit) {
+                    //  Locations out of current ring are at least ring cells away from the center location
+                    if (heapDistances[0] <= this.lowerBound(latitude, ring * this.cellSize)) {
+                        break;
+                    }
+                }
+            }
+            Integer[] positions = new Integer[heapSize];
+            for (int i = 0; i < heapSize; i++) {
+                positions[i] = i;
+            }
+            final double[] sortDistances = heapDistances;
+            Arrays.sort(positions, Comparator.comparingDouble(i -> sortDistances[i]));
+            List<T> resultList = new ArrayList<>(heapSize);
+            for (Integer position : positions) {
+                resultList.add(this.value(heapIndexes[position]));
+            }
+            return resultList;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve value at given index</h3>
+         * <h3 class="zh-CN">获取给定索引的数据</h3>
+         *
+         * @param index <span class="en-US">Location index</span>
+         *              <span class="zh-CN">坐标索引</span>
+         * @return <span class="en-US">Value instance</span>
+         * <span class="zh-CN">数据实例对象</span>
+         */
+        @SuppressWarnings("unchecked")
+        private T value(final int index) {
+            return (T) this.values[index];
+        }
+
+        /**
+         * <h3 class="en-US">Calculate longitude delta degrees which distance is not less than given latitude delta</h3>
+         * <span class="en-US">Only valid for locations which latitude delta is not greater than given value</span>
+         * <h3 class="zh-CN">计算距离不小于给定纬度偏移的经度偏移度数</h3>
+         * <span class="zh-CN">只对纬度偏移不大于给定值的坐标有效</span>
+         *
+         * @param latitude      <span class="en-US">Latitude value of center location</span>
+         *                      <span class="zh-CN">中心坐标纬度值</span>
+         * @param deltaLatitude <span class="en-US">Latitude delta degrees</span>
+         *                      <span class="zh-CN">纬度偏移度数</span>
+         * @return <span class="en-US">Longitude delta degrees</span>
+         * <span class="zh-CN">经度偏移度数</span>
+         */
+        private double deltaLongitude(final double latitude, final double deltaLatitude) {
+            double cosValue = Math.cos(Math.toRadians(Math.min(90d, Math.abs(latitude) + deltaLatitude)));
+            double sinValue = Math.sin(Math.toRadians(Math.min(180d, deltaLatitude)) / 2);
+            if (this.haversine ? (sinValue >= cosValue) : (deltaLatitude >= 360d * cosValue)) {
+                return 360d;
+            }
+            return this.haversine
+                    ? Math.toDegrees(2 * Math.asin(sinValue / cosValue))
+                    : deltaLatitude / cosValue;
+        }
+
+        /**
+         * <h3 class="en-US">Calculate grid column ranges of given longitude range</h3>
+         * <span class="en-US">
+         *     In haversine mode, the range crossing the antimeridian is split into two ranges,
+         *     because the haversine distance wraps at ±180° but the grid columns do not.
+         * </span>
+         * <h3 class="zh-CN">计算给定经度范围的网格列号范围</h3>
+         * <span class="zh-CN">半正矢模式下，跨越180°经线的范围被拆分为两个范围，因为半正矢距离在±180°处循环而网格列号不循环</span>
+         *
+         * @param longitude      <span class="en-US">Longitude value of center location</span>
+         *                       <span class="zh-CN">中心坐标经度值</span>
+         * @param deltaLongitude <span class="en-US">Longitude delta degrees</span>
+         *                       <span class="zh-CN">经度偏移度数</span>
+         * @return <span class="en-US">Pairs of begin and end columns</span>
+         * <span class="zh-CN">起始和终止列号对</span>
+         */
+        private int[] columnRanges(final double longitude, final double deltaLongitude) {
+            double west = longitude - deltaLongitude, east = longitude + deltaLongitude;
+            if (!this.haversine || (west >= -180d && east <= 180d)) {
+                return new int[]{this.column(west), this.column(east)};
+            }
+            if (deltaLongitude >= 180d) {
+                return new int[]{this.minColumn, this.maxColumn};
+            }
+            return (west < -180d)
+                    ? new int[]{this.column(-180d), this.column(east), this.column(west + 360d), this.column(180d)}
+                    : new int[]{this.column(west), this.column(180d), this.column(-180d), this.column(east - 360d)};
+        }
+
+        /**
+         * <h3 class="en-US">Calculate longitude offset degrees, wrapped at the antimeridian in haversine mode</h3>
+         * <h3 class="zh-CN">计算经度偏移度数，半正矢模式下在180°经线处循环</h3>
+         *
+         * @param longitude       <span class="en-US">Longitude value</span>
+         *                        <span class="zh-CN">经度值</span>
+         * @param centerLongitude <span class="en-US">Longitude value of center location</span>
+         *                        <span class="zh-CN">中心坐标经度值</span>
+         * @return <span class="en-US">Longitude offset degrees</span>
+         * <span class="zh-CN">经度偏移度数</span>
+         */
+        private double longitudeOffset(final double longitude, final double centerLongitude) {
+            double offset = Math.abs(longitude - centerLongitude);
+            return (this.haversine && offset > 180d) ? 360d - offset : offset;
+        }
+
+        /**
+         * <h3 class="en-US">Calculate minimum distance of locations which latitude or longitude delta is greater than given degrees</h3>
+         * <h3 class="zh-CN">计算纬度或经度偏移大于给定度数的坐标的最小距离</h3>
+         *
+         * @param latitude <span class="en-US">Latitude value of center location</span>
+         *                 <span class="zh-CN">中心坐标纬度值</span>
+         * @param degrees  <span class="en-US">Delta degrees</span>
+         *                 <span class="zh-CN">偏移度数</span>
+         * @return <span class="en-US">Minimum distance (Unit: Meters)</span>
+         * <span class="zh-CN">最小距离（单位：米）</span>
+         */
+        private double lowerBound(final double latitude, final double degrees) {
+            //  Locations which latitude delta is not greater than given degrees, longitude delta is greater
+            double cosValue = Math.cos(Math.toRadians(Math.min(90d, Math.abs(latitude) + degrees)));
+            double longitudeBound = this.haversine
+                    ? 2 * EARTH_R * Math.asin(Math.min(1d, cosValue * Math.sin(Math.toRadians(Math.min(180d, degrees)) / 2)))
+                    : degrees * DEGREE_DISTANCE * cosValue;
+            return Math.min(degrees * DEGREE_DISTANCE, longitudeBound);
+        }
+
+        /**
+         * <h3 class="en-US">Calculate grid row of given latitude</h3>
+         * <h3 class="zh-CN">计算给定纬度的网格行号</h3>
+         *
+         * @param latitude <span class="en-US">Latitude value</span>
+         *                 <span class="zh-CN">纬度值</span>
+         * @return <span class="en-US">Grid row</span>
+         * <span class="zh-CN">网格行号</span>
+         */
+        private int row(final double latitude) {
+            return (int) Math.floor((latitude + 90d) / this.cellSize);
+        }
+
+        /**
+         * <h3 class="en-US">Calculate grid column of given longitude</h3>
+         * <h3 class="zh-CN">计算给定经度的网格列号</h3>
+         *
+         * @param longitude <span class="en-US">Longitude value</span>
+         *                  <span class="zh-CN">经度值</span>
+         * @return <span class="en-US">Grid column</span>
+         * <span class="zh-CN">网格列号</span>
+         */
+        private int column(final double longitude) {
+            return (int) Math.floor((longitude + 180d) / this.cellSize);
+        }
+
+        /**
+         * <h3 class="en-US">Pack grid row and column to cell key</h3>
+         * <h3 class="zh-CN">压缩网格行列号为网格单元键值</h3>
+         *
+         * @param row    <span class="en-US">Grid row</span>
+         *               <span class="zh-CN">网格行号</span>
+         * @param column <span class="en-US">Grid column</span>
+         *               <span class="zh-CN">网格列号</span>
+         * @return <span class="en-US">Cell key</span>
+         * <span class="zh-CN">网格单元键值</span>
+         */
+        private static long cellKey(final int row, final int column) {
+            return ((long) row << 32) | (column & 0xFFFFFFFFL);
+        }
+
+        /**
+         * <h3 class="en-US">Move heap element at given position up to keep max heap order</h3>
+         * <h3 class="zh-CN">上移给定位置的堆元素以保持最大堆顺序</h3>
+         *
+         * @param indexes   <span class="en-US">Heap location indexes</span>
+         *                  <span class="zh-CN">堆中的坐标索引</span>
+         * @param distances <span class="en-US">Heap distances</span>
+         *                  <span class="zh-CN">堆中的距离</span>
+         * @param position  <span class="en-US">Element position</span>
+         *                  <span class="zh-CN">元素位置</span>
+         */
+        private static void siftUp(final int[] indexes, final double[] distances, final int position) {
+            int current = position;
+            while (current > 0) {
+                int parent = (current - 1) / 2;
+                if (distances[parent] >= distances[current]) {
+                    break;
+                }
+                swap(indexes, distances, parent, current);
+                current = parent;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Move heap top element down to keep max heap order</h3>
+         * <h3 class="zh-CN">下移堆顶元素以保持最大堆顺序</h3>
+         *
+         * @param indexes   <span class="en-US">Heap location indexes</span>
+         *                  <span class="zh-CN">堆中的坐标索引</span>
+         * @param distances <span class="en-US">Heap distances</span>
+         *                  <span class="zh-CN">堆中的距离</span>
+         * @param size      <span class="en-US">Heap size</span>
+         *                  <span class="zh-CN">堆大小</span>
+         */
+        private static void siftDown(final int[] indexes, final double[] distances, final int size) {
+            int current = 0;
+            while (true) {
+                int largest = current;
+                int left = 2 * current + 1, right = left + 1;
+                if (left < size && distances[left] > distances[largest]) {
+                    largest = left;
+                }
+                if (right < size && distances[right] > distances[largest]) {
+                    largest = right;
+                }
+                if (largest == current) {
+                    return;
+                }
+                swap(indexes, distances, current, largest);
+                current = largest;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Swap heap elements</h3>
+         * <h3 class="zh-CN">交换堆元素</h3>
+         *
+         * @param indexes   <span class="en-US">Heap location indexes</span>
+         *                  <span class="zh-CN">堆中的坐标索引</span>
+         * @param distances <span class="en-US">Heap distances</span>
+         *                  <span class="zh-CN">堆中的距离</span>
+         * @param i         <span class="en-US">Element position</span>
+         *                  <span class="zh-CN">元素位置</span>
+         * @param j         <span class="en-US">Other element position</span>
+         *                  <span class="zh-CN">另一个元素位置</span>
+         */
+        private static void swap(final int[] indexes, final double[] distances, final int i, final int j) {
+            int index = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = index;
+            double distance = distances[i];
+            distances[i] = distances[j];
+            distances[j] = distance;
+        }
+
+        /**
+         * <h2 class="en-US">Grid cell, contains location indexes</h2>
+         * <h2 class="zh-CN">网格单元，包含坐标索引</h2>
+         */
+        private static final class GridCell {
+            /**
+             * <span class="en-US">Location indexes</span>
+             * <span class="zh-CN">坐标索引</span>
+             */
+            private int[] indexes = new int[4];
+            /**
+             * <span class="en-US">Location count</span>
+             * <span class="zh-CN">坐标数量</span>
+             */
+            private int size = Globals.INITIALIZE_INT_VALUE;
+
+            /**
+             * <h3 class="en-US">Add location index</h3>
+             * <h3 class="zh-CN">添加坐标索引</h3>
+             *
+             * @param index <span class="en-US">Location index</span>
+             *              <span class="zh-CN">坐标索引</span>
+             */
+            private void add(final int index) {
+                if (this.size == this.indexes.length) {
+                    this.indexes = Arrays.copyOf(this.indexes, this.size * 2);
+                }
+                this.indexes[this.size++] = index;
+            }
+        }
+    }
 }
@@ -253,15 +253,7 @@ public final class LoggerUtils {
          *                    <span class="zh-CN">用于资源信息格式化的参数</span>
          */
         public void trace(final String messageKey, final Throwable throwable, final Object... collections) {
-            this.logger.trace(this.multiAgent.findMessage(messageKey, collections));
-            if (throwable != null) {
-                String message = Globals.DEFAULT_VALUE_STRING;
-                if (throwable instanceof AbstractException) {
-                    message = this.multiAgent.findMessage("Code_Error",
-                            "0x" + Long.toHexString(((AbstractException) throwable).getErrorCode()));
-                }
-                this.logger.trace(message, throwable);
-            }
+            this.log(org.slf4j.event.Level.TRACE, messageKey, throwable, collections);
         }
 
         /**
@@ -321,15 +313,7 @@ public final class LoggerUtils {
          *                    <span class="zh-CN">用于资源信息格式化的参数</span>
          */
         public void debug(final String messageKey, final Throwable throwable, final Object... collections) {
-            this.logger.debug(this.multiAgent.findMessage(messageKey, collections));
-            if (throwable != null) {
-                String message = Globals.DEFAULT_VALUE_STRING;
-                if (throwable instanceof AbstractException) {
-                    message = this.multiAgent.findMessage("Code_Error",
-                            "0x" + Long.toHexString(((AbstractException) throwable).getErrorCode()));
-                }
-                this.logger.debug(message, throwable);
-            }
+            this.log(org.slf4j.event.Level.DEBUG, messageKey, throwable, collections);
         }
 
         /**
@@ -389,15 +373,7 @@ public final class LoggerUtils {
          *                    <span class="zh-CN">用于资源信息格式化的参数</span>
          */
         public void info(final String messageKey, final Throwable throwable, final Object... collections) {
-            this.logger.info(this.multiAgent.findMessage(messageKey, collections));
-            if (throwable != null) {
-                String message = Globals.DEFAULT_VALUE_STRING;
-                if (throwable instanceof AbstractException) {
-                    message = this.multiAgent.findMessage("Code_Error",
-                            "0x" + Long.toHexString(((AbstractException) throwable).getErrorCode()));
-                }
-                this.logger.info(message, throwable);
-            }
+            this.log(org.slf4j.event.Level.INFO, messageKey, throwable, collections);
         }
 
         /**
@@ -457,15 +433,7 @@ public final class LoggerUtils {
          *                    <span class="zh-CN">用于资源信息格式化的参数</span>
          */
         public void warn(final String messageKey, final Throwable throwable, final Object... collections) {
-            this.logger.warn(this.multiAgent.findMessage(messageKey, collections));
-            if (throwable != null) {
-                String message = Globals.DEFAULT_VALUE_STRING;
-                if (throwable instanceof AbstractException) {
-                    message = this.multiAgent.findMessage("Code_Error",
-                            "0x" + Long.toHexString(((AbstractException) throwable).getErrorCode()));
-                }
-                this.logger.warn(message, throwable);
-            }
+            this.log(org.slf4j.event.Level.WARN, messageKey, throwable, collections);
         }
 
         /**
@@ -525,14 +493,40 @@ public final class LoggerUtils {
          *                    <span class="zh-CN">用于资源信息格式化的参数</span>
          */
         public void error(final String messageKey, final Throwable throwable, final Object... collections) {
-            this.logger.error(this.multiAgent.findMessage(messageKey, collections));
+            this.log(org.slf4j.event.Level.ERROR, messageKey, throwable, collections);
+        }
+
+        /**
+         * <h3 class="en-US">Output message in the given level</h3>
+         * <p class="en-US">
+         *     The logger level was checked first, the message and the error code message were resolved
+         *     only if the given level is enabled.
+         * </p>
+         * <h3 class="zh-CN">以给定的级别输出信息</h3>
+         * <p class="zh-CN">首先检查日志级别，仅当给定级别开启时才解析信息和错误代码信息。</p>
+         *
+         * @param level       <span class="en-US">Logger level</span>
+         *                    <span class="zh-CN">日志级别</span>
+         * @param messageKey  <span class="en-US">Message identify key</span>
+         *                    <span class="zh-CN">信息识别键值</span>
+         * @param throwable   <span class="en-US">Throwable exception instance</span>
+         *                    <span class="zh-CN">抛出的异常实例对象</span>
+         * @param collections <span class="en-US">given parameters of information formatter</span>
+         *                    <span class="zh-CN">用于资源信息格式化的参数</span>
+         */
+        private void log(final org.slf4j.event.Level level, final String messageKey, final Throwable throwable,
+                         final Object... collections) {
+            if (!this.logger.isEnabledForLevel(level)) {
+                return;
+            }
+            this.logger.atLevel(level).log(() -> this.multiAgent.findMessage(messageKey, collections));
             if (throwable != null) {
-                String message = Globals.DEFAULT_VALUE_STRING;
-                if (throwable instanceof AbstractException) {
-                    message = this.multiAgent.findMessage("Code_Error",
-                            "0x" + Long.toHexString(((AbstractException) throwable).getErrorCode()));
-                }
-                this.logger.error(message, throwable);
+                this.logger.atLevel(level)
+                        .setCause(throwable)
+                        .log(() -> (throwable instanceof AbstractException)
+                                ? this.multiAgent.findMessage("Code_Error",
+                                "0x" + Long.toHexString(((AbstractException) throwable).getErrorCode()))
+                                : Globals.DEFAULT_VALUE_STRING);
             }
         }
     }
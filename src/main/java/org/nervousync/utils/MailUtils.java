@@ -19,10 +19,10 @@ package org.nervousync.utils;
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
 import jakarta.activation.FileDataSource;
+import jakarta.activation.FileTypeMap;
 import jakarta.annotation.Nonnull;
 import jakarta.mail.*;
 import jakarta.mail.internet.*;
-import jakarta.mail.util.ByteArrayDataSource;
 import org.bouncycastle.asn1.ASN1EncodableVector;
 import org.bouncycastle.asn1.cms.AttributeTable;
 import org.bouncycastle.asn1.smime.SMIMECapabilitiesAttribute;
@@ -60,11 +60,14 @@ import org.nervousync.mail.protocol.impl.SMTPProtocol;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateParsingException;
 import java.security.cert.X509Certificate;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <h2 class="en-US">E-Mail Utilities</h2>
@@ -92,6 +95,27 @@ import java.util.*;
  * @version $Revision: 1.1.5 $ $Date: Jul 31, 2012 20:54:04 $
  */
 public final class MailUtils {
+    /**
+     * <span class="en-US">Default SMTP connection count of bulk send</span>
+     * <span class="zh-CN">批量发送时默认的SMTP连接数</span>
+     */
+    private static final int DEFAULT_SEND_CONNECTIONS = 4;
+    /**
+     * <span class="en-US">File type map of include files, always using binary content type</span>
+     * <span class="zh-CN">内嵌文件的文件类型映射，始终使用二进制内容类型</span>
+     */
+    private static final FileTypeMap BINARY_FILE_TYPE_MAP = new FileTypeMap() {
+        @Override
+        public String getContentType(final File file) {
+            return Globals.DEFAULT_CONTENT_TYPE_BINARY;
+        }
+
+        @Override
+        public String getContentType(final String fileName) {
+            return Globals.DEFAULT_CONTENT_TYPE_BINARY;
+        }
+    };
+
     /**
      * <h3 class="en-US">Private constructor for MailUtils</h3>
      * <h3 class="zh-CN">电子邮件工具集的私有构造方法</h3>
@@ -148,6 +172,11 @@ public final class MailUtils {
          * <span class="zh-CN">电子邮件发送器</span>
          */
         private final SendOperator sendOperator;
+        /**
+         * <span class="en-US">Mail send session, shared by all send operations of current agent</span>
+         * <span class="zh-CN">邮件发送会话，当前代理的所有发送操作共享使用</span>
+         */
+        private final Session sendSession;
         /**
          * <span class="en-US">Mail receive server config</span>
          * <span class="zh-CN">邮件接收服务器配置信息</span>
@@ -169,10 +198,15 @@ public final class MailUtils {
          */
         private final X509Certificate x509Certificate;
         /**
-         * <span class="en-US">private key Using for email signature</span>
-         * <span class="zh-CN">私有密钥用于电子邮件签名</span>
+         * <span class="en-US">Mail signer instance, <code>null</code> if signer certificate or private key not configured</span>
+         * <span class="zh-CN">邮件签名器实例对象，如果未配置签名证书或私有密钥则为<code>null</code></span>
          */
-        private final PrivateKey privateKey;
+        private final MailSigner mailSigner;
+        /**
+         * <span class="en-US">Exception of mail signer initialize, <code>null</code> if initialize succeeded or signer not configured</span>
+         * <span class="zh-CN">邮件签名器初始化异常，如果初始化成功或未配置签名器则为<code>null</code></span>
+         */
+        private final MailException signerException;
 
         /**
          * <h3 class="en-US">Private constructor for E-Mail Agent</h3>
@@ -188,9 +222,17 @@ public final class MailUtils {
                     || !MailProtocol.SMTP.equals(mailConfig.getSendConfig().getProtocolOption())) {
                 this.sendConfig = null;
                 this.sendOperator = null;
+                this.sendSession = null;
             } else {
                 this.sendConfig = mailConfig.getSendConfig();
                 this.sendOperator = new SMTPProtocol(mailConfig.getProxyConfig());
+                Properties properties = this.sendOperator.readConfig(this.sendConfig);
+                if (StringUtils.notBlank(this.userName)) {
+                    properties.setProperty("mail.smtp.from", this.userName);
+                }
+                this.sendSession =
+                        Session.getInstance(properties, new DefaultAuthenticator(this.userName, this.passWord));
+                this.sendSession.setDebug(this.logger.isDebugEnabled());
             }
             if (mailConfig.getReceiveConfig() == null) {
                 this.receiveConfig = null;
@@ -213,9 +255,24 @@ public final class MailUtils {
             this.x509Certificate = StringUtils.notBlank(mailConfig.getCertificate())
                     ? CertificateUtils.x509(StringUtils.base64Decode(mailConfig.getCertificate()))
                     : null;
-            this.privateKey = StringUtils.notBlank(mailConfig.getPrivateKey())
+            PrivateKey privateKey = StringUtils.notBlank(mailConfig.getPrivateKey())
                     ? CertificateUtils.privateKey("RSA", StringUtils.base64Decode(mailConfig.getPrivateKey()))
                     : null;
+            MailSigner mailSigner = null;
+            MailException signerException = null;
+            if (this.x509Certificate != null && privateKey != null) {
+                try {
+                    mailSigner = new MailSigner(this.x509Certificate, privateKey);
+                } catch (MailException e) {
+                    this.logger.error("Signature_Mail_Error");
+                    if (this.logger.isDebugEnabled()) {
+                        this.logger.debug("Stack_Message_Error", e);
+                    }
+                    signerException = e;
+                }
+            }
+            this.mailSigner = mailSigner;
+            this.signerException = signerException;
         }
 
         /**
@@ -233,17 +290,10 @@ public final class MailUtils {
                 return Boolean.FALSE;
             }
             try {
-                Properties properties = this.sendOperator.readConfig(this.sendConfig);
-                if (StringUtils.notBlank(this.userName)) {
-                    properties.setProperty("mail.smtp.from", this.userName);
-                }
-                Session session =
-                        Session.getDefaultInstance(properties, new DefaultAuthenticator(this.userName, this.passWord));
-                session.setDebug(this.logger.isDebugEnabled());
                 if (StringUtils.isEmpty(mailObject.getSendAddress())) {
                     mailObject.setSendAddress(this.userName);
                 }
-                Transport.send(convert(session, mailObject, this.x509Certificate, this.privateKey));
+                Transport.send(this.message(mailObject));
                 return Boolean.TRUE;
             } catch (MessagingException | MailException e) {
                 this.logger.error("Send_Mail_Error");
@@ -254,6 +304,143 @@ public final class MailUtils {
             }
         }
 
+        /**
+         * <h3 class="en-US">Send E-Mail list using default connection count</h3>
+         * <h3 class="zh-CN">使用默认的连接数发送电子邮件列表</h3>
+         *
+         * @param mailObjects <span class="en-US">E-Mail object list</span>
+         *                    <span class="zh-CN">电子邮件信息列表</span>
+         * @return <span class="en-US">Process result list, the index of result is same as the given list</span>
+         * <span class="zh-CN">操作结果列表，结果索引与给定的电子邮件信息列表相同</span>
+         */
+        public List<Boolean> sendMails(final List<MailObject> mailObjects) {
+            return this.sendMails(mailObjects, DEFAULT_SEND_CONNECTIONS);
+        }
+
+        /**
+         * <h3 class="en-US">Send E-Mail list using given connection count</h3>
+         * <p class="en-US">
+         *     Each connection opens one SMTP transport and reuses it for all messages it takes from the queue,
+         *     the connections send messages in parallel.
+         * </p>
+         * <h3 class="zh-CN">使用给定的连接数发送电子邮件列表</h3>
+         * <p class="zh-CN">每个连接打开一个SMTP传输通道并用于发送从队列中获取的所有邮件，多个连接并行发送邮件。</p>
+         *
+         * @param mailObjects <span class="en-US">E-Mail object list</span>
+         *                    <span class="zh-CN">电子邮件信息列表</span>
+         * @param connections <span class="en-US">Maximum SMTP connection count</span>
+         *                    <span class="zh-CN">最大SMTP连接数</span>
+         * @return <span class="en-US">Process result list, the index of result is same as the given list</span>
+         * <span class="zh-CN">操作结果列表，结果索引与给定的电子邮件信息列表相同</span>
+         */
+        public List<Boolean> sendMails(final List<MailObject> mailObjects, final int connections) {
+            if (mailObjects == null || mailObjects.isEmpty()) {
+                return Collections.emptyList();
+            }
+            final Boolean[] sendResults = new Boolean[mailObjects.size()];
+            Arrays.fill(sendResults, Boolean.FALSE);
+            if (this.sendOperator == null) {
+                //	Not config send server
+                return Arrays.asList(sendResults);
+            }
+            final AtomicInteger sendIndex = new AtomicInteger(0);
+            int workerCount = Math.max(1, Math.min(connections, mailObjects.size()));
+            ExecutorService executorService = Executors.newFixedThreadPool(workerCount);
+            try {
+                List<Future<?>> futures = new ArrayList<>(workerCount);
+                for (int i = 0; i < workerCount; i++) {
+                    futures.add(executorService.submit(() -> this.sendQueue(mailObjects, sendIndex, sendResults)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                this.logger.error("Send_Mail_Error");
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Stack_Message_Error", e);
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+            return Arrays.asList(sendResults);
+        }
+
+        /**
+         * <h3 class="en-US">Convert given E-Mail object to signed MIME message</h3>
+         * <span class="en-US">If the mail signer was configured but initialize failed, the mail will not be sent unsigned</span>
+         * <h3 class="zh-CN">转换给定的电子邮件信息为签名的MIME消息</h3>
+         * <span class="zh-CN">如果配置了邮件签名器但初始化失败，邮件不会以未签名的方式发送</span>
+         *
+         * @param mailObject <span class="en-US">E-Mail object</span>
+         *                   <span class="zh-CN">电子邮件信息</span>
+         * @return <span class="en-US">Converted MIME message</span>
+         * <span class="zh-CN">转换后的MIME消息</span>
+         * @throws MessagingException <span class="en-US">If convert message failed</span>
+         *                            <span class="zh-CN">如果转换消息失败</span>
+         * @throws MailException      <span class="en-US">If mail signer initialize failed or sign message failed</span>
+         *                            <span class="zh-CN">如果邮件签名器初始化失败或签名消息失败</span>
+         */
+        private MimeMessage message(final MailObject mailObject) throws MessagingException, MailException {
+            if (this.signerException != null) {
+                throw this.signerException;
+            }
+            return convert(this.sendSession, mailObject, this.mailSigner);
+        }
+
+        /**
+         * <h3 class="en-US">Send the queued e-mails through one reused SMTP transport</h3>
+         * <h3 class="zh-CN">使用一个复用的SMTP传输通道发送队列中的电子邮件</h3>
+         *
+         * @param mailObjects <span class="en-US">E-Mail object list</span>
+         *                    <span class="zh-CN">电子邮件信息列表</span>
+         * @param sendIndex   <span class="en-US">Shared index of next e-mail to send</span>
+         *                    <span class="zh-CN">共享的下一封待发送邮件索引</span>
+         * @param sendResults <span class="en-US">Process result array</span>
+         *                    <span class="zh-CN">操作结果数组</span>
+         */
+        private void sendQueue(final List<MailObject> mailObjects, final AtomicInteger sendIndex,
+                               final Boolean[] sendResults) {
+            Transport transport = null;
+            try {
+                transport = this.sendSession.getTransport();
+                int index;
+                while ((index = sendIndex.getAndIncrement()) < mailObjects.size()) {
+                    MailObject mailObject = mailObjects.get(index);
+                    try {
+                        if (StringUtils.isEmpty(mailObject.getSendAddress())) {
+                            mailObject.setSendAddress(this.userName);
+                        }
+                        MimeMessage mimeMessage = this.message(mailObject);
+                        mimeMessage.saveChanges();
+                        if (!transport.isConnected()) {
+                            transport.connect();
+                        }
+                        transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                        sendResults[index] = Boolean.TRUE;
+                    } catch (MessagingException | MailException e) {
+                        this.logger.error("Send_Mail_Error");
+                        if (this.logger.isDebugEnabled()) {
+                            this.logger.debug("Stack_Message_Error", e);
+                        }
+                    }
+                }
+            } catch (NoSuchProviderException e) {
+                this.logger.error("Send_Mail_Error");
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Stack_Message_Error", e);
+                }
+            } finally {
+                if (transport != null && transport.isConnected()) {
+                    try {
+                        transport.close();
+                    } catch (MessagingException ignored) {
+                    }
+                }
+            }
+        }
+
         /**
          * <h3 class="en-US">Read folder name list from default folder</h3>
          * <h3 class="zh-CN">从默认文件夹中读取包含的文件夹名称列表</h3>
@@ -665,12 +852,14 @@ public final class MailUtils {
         @SuppressWarnings("unchecked")
         private boolean verifyMessage(final MimeMessage mimeMessage) {
             try {
-                MimeMessage signedMessage = new MimeMessage(mimeMessage);
                 SMIMESignedParser signedParser;
-                if (signedMessage.isMimeType("multipart/signed")) {
+                //  Only copy the signed message, the copy constructor will read whole message content to memory
+                if (mimeMessage.isMimeType("multipart/signed")) {
+                    MimeMessage signedMessage = new MimeMessage(mimeMessage);
                     signedParser = new SMIMESignedParser(new JcaDigestCalculatorProviderBuilder().build(),
                             (MimeMultipart) signedMessage.getContent());
-                } else if (signedMessage.isMimeType("application/pkcs7-mime")) {
+                } else if (mimeMessage.isMimeType("application/pkcs7-mime")) {
+                    MimeMessage signedMessage = new MimeMessage(mimeMessage);
                     signedParser = new SMIMESignedParser(new JcaDigestCalculatorProviderBuilder().build(), signedMessage);
                 } else {
                     return Boolean.TRUE;
@@ -838,9 +1027,11 @@ public final class MailUtils {
                         String savePath = this.storagePath + Globals.DEFAULT_PAGE_SEPARATOR
                                 + MimeUtility.decodeText(bodyPart.getFileName());
                         if (!savePath.toLowerCase().endsWith("p7s")) {
-                            boolean saveFile = FileUtils.saveFile(bodyPart.getInputStream(), savePath);
-                            if (saveFile) {
-                                saveFiles.add(savePath);
+                            //  Write the decoded attachment data to storage path directly
+                            try (InputStream inputStream = bodyPart.getInputStream()) {
+                                if (FileUtils.saveFile(inputStream, savePath)) {
+                                    saveFiles.add(savePath);
+                                }
                             }
                         }
                     } else if (bodyPart.isMimeType(Globals.DEFAULT_CONTENT_TYPE_MULTIPART)) {
@@ -856,18 +1047,111 @@ public final class MailUtils {
         }
     }
 
+    /**
+     * <h2 class="en-US">E-Mail signer</h2>
+     * <p class="en-US">
+     *     Signature attributes and certificate store were generated once when signer created,
+     *     the signature was calculated when the message content writing to transport.
+     * </p>
+     * <h2 class="zh-CN">电子邮件签名器</h2>
+     * <p class="zh-CN">签名属性和证书存储在签名器创建时一次性生成，签名数据在邮件内容写入到传输通道时计算。</p>
+     */
+    private static final class MailSigner {
+        /**
+         * <span class="en-US">x509 certificate Using for email signature</span>
+         * <span class="zh-CN">x509证书用于电子邮件签名</span>
+         */
+        private final X509Certificate x509Certificate;
+        /**
+         * <span class="en-US">private key Using for email signature</span>
+         * <span class="zh-CN">私有密钥用于电子邮件签名</span>
+         */
+        private final PrivateKey privateKey;
+        /**
+         * <span class="en-US">Signed attribute table</span>
+         * <span class="zh-CN">签名属性表</span>
+         */
+        private final AttributeTable attributeTable;
+        /**
+         * <span class="en-US">Certificate store</span>
+         * <span class="zh-CN">证书存储</span>
+         */
+        private final JcaCertStore certStore;
+
+        /**
+         * <h3 class="en-US">Constructor for E-Mail signer</h3>
+         * <h3 class="zh-CN">电子邮件签名器的构造方法</h3>
+         *
+         * @param x509Certificate <span class="en-US">x509 certificate</span>
+         *                        <span class="zh-CN">x509证书</span>
+         * @param privateKey      <span class="en-US">private key</span>
+         *                        <span class="zh-CN">私有密钥</span>
+         * @throws MailException <span class="en-US">If an error occurs when generate signature attributes</span>
+         *                       <span class="zh-CN">当生成签名属性时出现异常</span>
+         */
+        MailSigner(final X509Certificate x509Certificate, final PrivateKey privateKey) throws MailException {
+            this.x509Certificate = x509Certificate;
+            this.privateKey = privateKey;
+            try {
+                //  Generate signature attribute
+                ASN1EncodableVector signatureAttribute = new ASN1EncodableVector();
+                SMIMECapabilityVector capabilityVector = new SMIMECapabilityVector();
+                capabilityVector.addCapability(SMIMECapability.aES256_CBC);
+                capabilityVector.addCapability(SMIMECapability.dES_CBC);
+                capabilityVector.addCapability(SMIMECapability.rC2_CBC, 128);
+                signatureAttribute.add(new SMIMECapabilitiesAttribute(capabilityVector));
+                signatureAttribute.add(new SMIMEEncryptionKeyPreferenceAttribute(
+                        SMIMEUtil.createIssuerAndSerialNumberFor(x509Certificate)));
+                this.attributeTable = new AttributeTable(signatureAttribute);
+                this.certStore = new JcaCertStore(Collections.singletonList(x509Certificate));
+            } catch (CertificateEncodingException | CertificateParsingException e) {
+                throw new MailException(0x0000000E0007L, "Signature_Mail_Error", e);
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Sign given multipart content</h3>
+         * <h3 class="zh-CN">签名给定的多部分内容</h3>
+         *
+         * @param mimeMultipart <span class="en-US">Multipart content</span>
+         *                      <span class="zh-CN">多部分内容</span>
+         * @return <span class="en-US">Signed multipart content</span>
+         * <span class="zh-CN">签名后的多部分内容</span>
+         * @throws MailException      <span class="en-US">If an error occurs when generate signature</span>
+         *                            <span class="zh-CN">当生成签名时出现异常</span>
+         * @throws MessagingException <span class="en-US">If an error occurs when process content</span>
+         *                            <span class="zh-CN">当处理内容时出现异常</span>
+         */
+        MimeMultipart sign(final MimeMultipart mimeMultipart) throws MailException, MessagingException {
+            MimeBodyPart contentPart = new MimeBodyPart();
+            contentPart.setContent(mimeMultipart);
+            try {
+                //  Signer information generator contains the stateful content signer, generate for each message
+                SignerInfoGenerator signerInfoGenerator = new JcaSimpleSignerInfoGeneratorBuilder()
+                        .setProvider("BC")
+                        .setSignedAttributeGenerator(this.attributeTable)
+                        .build("SHA1withRSA", this.privateKey, this.x509Certificate);
+
+                SMIMESignedGenerator generator = new SMIMESignedGenerator();
+                generator.addSignerInfoGenerator(signerInfoGenerator);
+                generator.addCertificates(this.certStore);
+                return generator.generate(contentPart);
+            } catch (CertificateEncodingException | OperatorCreationException | SMIMEException e) {
+                throw new MailException(0x0000000E0007L, "Signature_Mail_Error", e);
+            }
+        }
+    }
+
     /**
      * <h3 class="en-US">Add signature to MailObject instance and convert to MimeMessage instance</h3>
      * <h3 class="zh-CN">添加电子签名到电子邮件信息并转换为电子邮件MIME信息实例对象</h3>
      *
-     * @param session         <span class="en-US">Current session</span>
-     *                        <span class="zh-CN">当前的事务链接</span>
-     * @param mailObject      <span class="en-US">Read MailObject instance</span>
-     *                        <span class="zh-CN">读取的电子邮件信息实例对象</span>
-     * @param x509Certificate <span class="en-US">x509 certificate</span>
-     *                        <span class="zh-CN">x509证书</span>
-     * @param privateKey      <span class="en-US">private key</span>
-     *                        <span class="zh-CN">私有密钥</span>
+     * @param session    <span class="en-US">Current session</span>
+     *                   <span class="zh-CN">当前的事务链接</span>
+     * @param mailObject <span class="en-US">Read MailObject instance</span>
+     *                   <span class="zh-CN">读取的电子邮件信息实例对象</span>
+     * @param mailSigner <span class="en-US">Mail signer instance, <code>null</code> for not sign</span>
+     *                   <span class="zh-CN">邮件签名器实例对象，<code>null</code>为不签名</span>
      * @return <span class="en-US">Converted MimeMessage instance</span>
      * <span class="zh-CN">转换后的电子邮件MIME信息实例对象</span>
      * @throws MailException      <span class="en-US">If an error occurs when process convert</span>
@@ -876,7 +1160,7 @@ public final class MailUtils {
      *                            <span class="zh-CN">当转换数据时出现异常</span>
      */
     private static MimeMessage convert(final Session session, final MailObject mailObject,
-                                       final X509Certificate x509Certificate, final PrivateKey privateKey)
+                                       final MailSigner mailSigner)
             throws MailException, MessagingException {
         MimeMessage message = new MimeMessage(session);
 
@@ -915,10 +1199,10 @@ public final class MailUtils {
                     file = FileUtils.getFile(filePath);
                     String fileName = StringUtils.getFilename(filePath);
                     mimeBodyPart = new MimeBodyPart();
-                    DataHandler dataHandler =
-                            new DataHandler(new ByteArrayDataSource(file.toURI().toURL().openStream(),
-                                    Globals.DEFAULT_CONTENT_TYPE_BINARY));
-                    mimeBodyPart.setDataHandler(dataHandler);
+                    //  Read file content when message writing, do not load whole file to memory
+                    FileDataSource dataSource = new FileDataSource(file);
+                    dataSource.setFileTypeMap(BINARY_FILE_TYPE_MAP);
+                    mimeBodyPart.setDataHandler(new DataHandler(dataSource));
 
                     mimeBodyPart.setFileName(fileName);
                     mimeBodyPart.setHeader("Content-ID", fileName);
@@ -937,36 +1221,9 @@ public final class MailUtils {
             mimeMultipart.addBodyPart(mimeBodyPart, mimeMultipart.getCount());
         }
 
-        if (x509Certificate != null && privateKey != null) {
-            message.setContent(mimeMultipart);
-            try {
-                //  Generate signature attribute
-                ASN1EncodableVector signatureAttribute = new ASN1EncodableVector();
-                SMIMECapabilityVector capabilityVector = new SMIMECapabilityVector();
-                capabilityVector.addCapability(SMIMECapability.aES256_CBC);
-                capabilityVector.addCapability(SMIMECapability.dES_CBC);
-                capabilityVector.addCapability(SMIMECapability.rC2_CBC, 128);
-                signatureAttribute.add(new SMIMECapabilitiesAttribute(capabilityVector));
-                signatureAttribute.add(new SMIMEEncryptionKeyPreferenceAttribute(SMIMEUtil.createIssuerAndSerialNumberFor(x509Certificate)));
-
-                List<X509Certificate> certificateList = Collections.singletonList(x509Certificate);
-                JcaCertStore certStore = new JcaCertStore(certificateList);
-
-                SignerInfoGenerator signerInfoGenerator = new JcaSimpleSignerInfoGeneratorBuilder()
-                        .setProvider("BC")
-                        .setSignedAttributeGenerator(new AttributeTable(signatureAttribute))
-                        .build("SHA1withRSA", privateKey, x509Certificate);
-
-                SMIMESignedGenerator generator = new SMIMESignedGenerator();
-                generator.addSignerInfoGenerator(signerInfoGenerator);
-                generator.addCertificates(certStore);
-
-                MimeMultipart signedMimeMultipart = generator.generate(message);
-                message.setContent(signedMimeMultipart, signedMimeMultipart.getContentType());
-            } catch (CertificateEncodingException | CertificateParsingException | OperatorCreationException |
-                     SMIMEException e) {
-                throw new MailException(0x0000000E0007L, "Signature_Mail_Error", e);
-            }
+        if (mailSigner != null) {
+            MimeMultipart signedMimeMultipart = mailSigner.sign(mimeMultipart);
+            message.setContent(signedMimeMultipart, signedMimeMultipart.getContentType());
         } else {
             message.setContent(mimeMultipart, mimeMultipart.getContentType());
         }
@@ -29,6 +29,7 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2 class="en-US">Internationalization Utilities</h2>
@@ -47,23 +48,35 @@ public final class MultilingualUtils {
     private static final String DEFAULT_SPLIT_CHARACTER = "_";
 
     /**
-     * <span class="en-US">Registered resources map</span>
-     * <span class="zh-CN">已注册的资源信息映射表</span>
+     * <span class="en-US">Registered resources map, immutable and replaced as a whole when bundles change</span>
+     * <span class="zh-CN">已注册的资源信息映射表，不可变，在资源变更时整体替换</span>
      */
-    private static final Map<String, MessageResource> REGISTERED_RESOURCES = new HashMap<>();
-    private static final Map<String, String> IDENTIFY_KEY_MAP = new HashMap<>();
+    private static volatile Map<String, MessageResource> REGISTERED_RESOURCES = Map.of();
+    /**
+     * <span class="en-US">Identify key of each code source path, written while registering bundles and read without lock</span>
+     * <span class="zh-CN">每个代码源路径的识别代码，在注册资源时写入，读取时不加锁</span>
+     */
+    private static final Map<String, String> IDENTIFY_KEY_MAP = new ConcurrentHashMap<>();
     /**
      * <span class="en-US">Default locale instance, usually value is default locale for this instance of the Java Virtual Machine.</span>
      * <span class="zh-CN">默认区域设置实例，通常值是 Java 虚拟机实例的默认区域设置。</span>
      */
-    private static String DEFAULT_LANGUAGE_CODE = toLanguageCode(Globals.DEFAULT_LOCALE);
+    private static volatile String DEFAULT_LANGUAGE_CODE = toLanguageCode(Globals.DEFAULT_LOCALE);
     /**
      * <span class="en-US">XML Schema file mapping resource path</span>
      * <span class="zh-CN">XML约束文档的资源映射文件</span>
      */
     public static final String BUNDLE_RESOURCE_PATH = "META-INF/nervousync.i18n";
-    private static final Map<String, String> REGISTERED_LANGUAGES = new HashMap<>();
-    private static final List<String> ENABLED_LANGUAGES = new ArrayList<>();
+    /**
+     * <span class="en-US">Registered language code and language name, written while registering bundles and read without lock</span>
+     * <span class="zh-CN">已注册的语言代码与语言名称，在注册资源时写入，读取时不加锁</span>
+     */
+    private static final Map<String, String> REGISTERED_LANGUAGES = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Enabled language codes, immutable and replaced as a whole when enabled languages change</span>
+     * <span class="zh-CN">开启的语言代码，不可变，在开启的语言变更时整体替换</span>
+     */
+    private static volatile Set<String> ENABLED_LANGUAGES = Set.of();
 
     static {
         try {
@@ -147,7 +160,7 @@ public final class MultilingualUtils {
      * <span class="zh-CN">语言名称</span>
      */
     public static String languageName(final String languageCode) {
-        return REGISTERED_LANGUAGES.get(languageCode);
+        return (languageCode == null) ? null : REGISTERED_LANGUAGES.get(languageCode);
     }
 
     /**
@@ -188,18 +201,17 @@ public final class MultilingualUtils {
      * @param languageCodes <span class="en-US">Array of language codes that need to be enabled</span>
      *                      <span class="zh-CN">需要开启的语言代码数组</span>
      */
-    public static void enableLanguages(@Nonnull final String... languageCodes) {
-        ENABLED_LANGUAGES.clear();
+    public static synchronized void enableLanguages(@Nonnull final String... languageCodes) {
+        Set<String> enabledLanguages = new HashSet<>();
         if (CollectionUtils.isEmpty(languageCodes)) {
-            ENABLED_LANGUAGES.addAll(REGISTERED_LANGUAGES.keySet());
+            enabledLanguages.addAll(REGISTERED_LANGUAGES.keySet());
         } else {
             Arrays.stream(languageCodes)
                     .filter(languageCode -> !CollectionUtils.contains(REGISTERED_LANGUAGES.keySet(), languageCode))
-                    .forEach(ENABLED_LANGUAGES::add);
-        }
-        if (!CollectionUtils.contains(ENABLED_LANGUAGES, DEFAULT_LANGUAGE_CODE)) {
-            ENABLED_LANGUAGES.add(DEFAULT_LANGUAGE_CODE);
+                    .forEach(enabledLanguages::add);
         }
+        enabledLanguages.add(DEFAULT_LANGUAGE_CODE);
+        ENABLED_LANGUAGES = Set.copyOf(enabledLanguages);
     }
 
     /**
@@ -209,9 +221,11 @@ public final class MultilingualUtils {
      * @param languageCode <span class="en-US">Resource language code</span>
      *                     <span class="zh-CN">资源语言代码</span>
      */
-    public static void disableLanguage(@Nonnull final String languageCode) {
-        if (StringUtils.notBlank(languageCode) && CollectionUtils.contains(ENABLED_LANGUAGES, languageCode)) {
-            ENABLED_LANGUAGES.remove(languageCode);
+    public static synchronized void disableLanguage(@Nonnull final String languageCode) {
+        if (StringUtils.notBlank(languageCode) && ENABLED_LANGUAGES.contains(languageCode)) {
+            Set<String> enabledLanguages = new HashSet<>(ENABLED_LANGUAGES);
+            enabledLanguages.remove(languageCode);
+            ENABLED_LANGUAGES = Set.copyOf(enabledLanguages);
         }
     }
 
@@ -224,9 +238,14 @@ public final class MultilingualUtils {
      * @param bundle  <span class="en-US">Resource bundle</span>
      *                <span class="zh-CN">资源的标识</span>
      */
-    public static void removeBundle(@Nonnull final String groupId, @Nonnull final String bundle) {
+    public static synchronized void removeBundle(@Nonnull final String groupId, @Nonnull final String bundle) {
         if (StringUtils.notBlank(groupId) && StringUtils.notBlank(bundle)) {
-            REGISTERED_RESOURCES.remove(groupId + ":" + bundle);
+            String identifyKey = groupId + ":" + bundle;
+            if (REGISTERED_RESOURCES.containsKey(identifyKey)) {
+                Map<String, MessageResource> registeredResources = new HashMap<>(REGISTERED_RESOURCES);
+                registeredResources.remove(identifyKey);
+                REGISTERED_RESOURCES = Map.copyOf(registeredResources);
+            }
         }
     }
 
@@ -247,15 +266,17 @@ public final class MultilingualUtils {
      */
     private static String findMessage(final String identifyKey, final long errorCode, final String languageCode,
                                       final Object... collections) {
-        if (!CollectionUtils.contains(ENABLED_LANGUAGES, languageCode)
-                && !CollectionUtils.contains(ENABLED_LANGUAGES, DEFAULT_LANGUAGE_CODE)) {
+        final Set<String> enabledLanguages = ENABLED_LANGUAGES;
+        final String defaultLanguage = DEFAULT_LANGUAGE_CODE;
+        if ((languageCode == null || !enabledLanguages.contains(languageCode))
+                && !enabledLanguages.contains(defaultLanguage)) {
             return identifyKey(Long.toString(errorCode), languageCode);
         }
         if (StringUtils.notBlank(identifyKey) && StringUtils.notBlank(languageCode)) {
-            return Optional.ofNullable(REGISTERED_RESOURCES.get(identifyKey))
-                    .map(messageResource ->
-                            messageResource.findMessage(errorCode, languageCode, DEFAULT_LANGUAGE_CODE, collections))
-                    .orElse(identifyKey(Long.toString(errorCode), languageCode));
+            MessageResource messageResource = REGISTERED_RESOURCES.get(identifyKey);
+            return (messageResource == null)
+                    ? identifyKey(Long.toString(errorCode), languageCode)
+                    : messageResource.findMessage(errorCode, languageCode, defaultLanguage, collections);
         }
         return Globals.DEFAULT_VALUE_STRING;
     }
@@ -277,16 +298,18 @@ public final class MultilingualUtils {
      */
     private static String findMessage(final String identifyKey, final String messageKey, final String languageCode,
                                       final Object... collections) {
-        if (!CollectionUtils.contains(ENABLED_LANGUAGES, languageCode)
-                && !CollectionUtils.contains(ENABLED_LANGUAGES, DEFAULT_LANGUAGE_CODE)) {
+        final Set<String> enabledLanguages = ENABLED_LANGUAGES;
+        final String defaultLanguage = DEFAULT_LANGUAGE_CODE;
+        if ((languageCode == null || !enabledLanguages.contains(languageCode))
+                && !enabledLanguages.contains(defaultLanguage)) {
             return identifyKey(messageKey, languageCode);
         }
         if (StringUtils.notBlank(identifyKey) && StringUtils.notBlank(languageCode)) {
-            return Optional.ofNullable(REGISTERED_RESOURCES.get(identifyKey))
-                    .map(messageResource ->
-                            messageResource.findMessage(messageKey, languageCode, DEFAULT_LANGUAGE_CODE, collections))
-                    .filter(StringUtils::notBlank)
-                    .orElse(identifyKey(messageKey, languageCode));
+            MessageResource messageResource = REGISTERED_RESOURCES.get(identifyKey);
+            String message = (messageResource == null)
+                    ? null
+                    : messageResource.findMessage(messageKey, languageCode, defaultLanguage, collections);
+            return StringUtils.notBlank(message) ? message : identifyKey(messageKey, languageCode);
         }
         return messageKey;
     }
@@ -324,7 +347,7 @@ public final class MultilingualUtils {
      * @param url <span class="en-US">Internationalization resource data URL instance</span>
      *            <span class="zh-CN">资源数据URL对象</span>
      */
-    private static void registerBundle(final URL url) {
+    private static synchronized void registerBundle(final URL url) {
         try {
             BundleResource bundleResource = StringUtils.streamToObject(url.openStream(), BundleResource.class);
             if (bundleResource == null) {
@@ -335,7 +358,11 @@ public final class MultilingualUtils {
             MessageResource messageResource =
                     REGISTERED_RESOURCES.getOrDefault(identifyKey, new MessageResource());
             messageResource.updateResource(bundleResource.getBundleErrors(), bundleResource.getBundleLanguages());
-            REGISTERED_RESOURCES.put(identifyKey, messageResource);
+            if (!REGISTERED_RESOURCES.containsKey(identifyKey)) {
+                Map<String, MessageResource> registeredResources = new HashMap<>(REGISTERED_RESOURCES);
+                registeredResources.put(identifyKey, messageResource);
+                REGISTERED_RESOURCES = Map.copyOf(registeredResources);
+            }
             String basePath = url.getPath().substring(0, url.getPath().length() - BUNDLE_RESOURCE_PATH.length());
             if (basePath.startsWith(FileUtils.FILE_URL_PREFIX)) {
                 basePath = basePath.substring(FileUtils.FILE_URL_PREFIX.length());
@@ -350,8 +377,8 @@ public final class MultilingualUtils {
             }
             messageResource.getRegisteredLanguages()
                     .forEach((languageCode, languageName) -> {
-                        if (!REGISTERED_LANGUAGES.containsKey(languageCode)) {
-                            REGISTERED_LANGUAGES.put(languageCode, languageName);
+                        if (languageCode != null && languageName != null) {
+                            REGISTERED_LANGUAGES.putIfAbsent(languageCode, languageName);
                         }
                     });
         } catch (IOException e) {
@@ -17,10 +17,11 @@
 package org.nervousync.utils;
 
 import org.nervousync.commons.Globals;
-import org.nervousync.exceptions.utils.DataInvalidException;
+import org.nervousync.security.otp.OtpVerifier;
 
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Optional;
 
 /**
  * <h2 class="en-US">OTP(One-time Password Algorithm) Utilities</h2>
@@ -41,7 +42,7 @@ import java.security.SecureRandom;
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.1.2 $ $Date: Jun 04, 2019 10:47:28 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:55:32 $
  */
 public final class OTPUtils {
     /**
@@ -50,19 +51,6 @@ public final class OTPUtils {
      */
     private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(OTPUtils.class);
 
-    //  Unit: Second
-    /**
-     * <span class="en-US">Time Step, Unit: Second</span>
-     * <span class="zh-CN">时间步长，单位：秒</span>
-     */
-    private static final int DEFAULT_SYNC_COUNT = 30;
-
-    //  Default 3, Maximum 17 (From Google Docs)
-    /**
-     * <span class="en-US">Default window size</span>
-     * <span class="zh-CN">默认的最多可偏移时间</span>
-     */
-    private static final int DEFAULT_WINDOW_SIZE = 3;
     /**
      * <span class="en-US">Default secret size</span>
      * <span class="zh-CN">默认的密钥长度</span>
@@ -152,13 +140,12 @@ public final class OTPUtils {
      */
     public static long calculateFixedTime(final CalcType calcType, final String secret,
                                           final int authCode, final int syncCount) {
-        for (int i = -12; i <= 12; i++) {
-            long fixedTime = i * 60 * 60 * 1000L;
-            if (validateTOTPCode(authCode, calcType, secret, fixedTime, syncCount, Globals.INITIALIZE_INT_VALUE)) {
-                return fixedTime;
-            }
+        if (authCode <= Globals.INITIALIZE_INT_VALUE) {
+            return Globals.DEFAULT_VALUE_INT;
         }
-        return Globals.DEFAULT_VALUE_INT;
+        return OTPUtils.verifier(calcType, secret, syncCount, Globals.INITIALIZE_INT_VALUE)
+                .map(otpVerifier -> otpVerifier.calculateFixedTime(authCode))
+                .orElse((long) Globals.DEFAULT_VALUE_INT);
     }
 
     /**
@@ -240,8 +227,9 @@ public final class OTPUtils {
      */
     public static String generateTOTPCode(final CalcType calcType, final String secret,
                                           final long fixedTime, final int syncCount) {
-        int authCode = OTPUtils.generateTOTPCode(calcType, secret,
-                fixedTime, syncCount, Globals.INITIALIZE_INT_VALUE);
+        int authCode = OTPUtils.verifier(calcType, secret, syncCount, Globals.INITIALIZE_INT_VALUE)
+                .map(otpVerifier -> otpVerifier.generateTOTP(fixedTime))
+                .orElse(Globals.DEFAULT_VALUE_INT);
         if (authCode == Globals.DEFAULT_VALUE_INT) {
             return Globals.DEFAULT_VALUE_STRING;
         }
@@ -312,14 +300,9 @@ public final class OTPUtils {
     public static boolean validateTOTPCode(final int authCode, final CalcType calcType, final String secret,
                                            final long fixedTime, final int syncCount, final int fixWindow) {
         if (authCode > Globals.INITIALIZE_INT_VALUE) {
-            int minWindow = fixWindow < 0 ? (-1 * DEFAULT_WINDOW_SIZE) : (-1 * fixWindow);
-            int maxWindow = fixWindow < 0 ? DEFAULT_WINDOW_SIZE : fixWindow;
-            for (int i = minWindow; i <= maxWindow; i++) {
-                int generateCode = generateTOTPCode(calcType, secret, fixedTime, syncCount, i);
-                if (generateCode == authCode) {
-                    return true;
-                }
-            }
+            return OTPUtils.verifier(calcType, secret, syncCount, fixWindow)
+                    .map(otpVerifier -> otpVerifier.validateTOTP(authCode, fixedTime))
+                    .orElse(Boolean.FALSE);
         }
         return Boolean.FALSE;
     }
@@ -456,82 +439,50 @@ public final class OTPUtils {
     }
 
     /**
-     * <h3 class="en-US">Generate TOTP(Time-based One-time Password) code</h3>
+     * <h3 class="en-US">Generate OTP(One-time Password) code</h3>
      * <h3 class="zh-CN">生成基于时间的一次性密码</h3>
      *
-     * @param calcType  <span class="en-US">Calculate type</span>
-     *                  <span class="zh-CN">密码算法类型</span>
-     * @param secret    <span class="en-US">Secret key string</span>
-     *                  <span class="zh-CN">随机密钥字符串</span>
-     * @param fixedTime <span class="en-US">Client fixed time</span>
-     *                  <span class="zh-CN">客户端的修正时间</span>
-     * @param syncCount <span class="en-US">Time Step, Unit: Second</span>
-     *                  <span class="zh-CN">时间步长，单位：秒</span>
-     * @param fixWindow <span class="en-US">Fix window size</span>
-     *                  <span class="zh-CN">最多可偏移时间</span>
+     * @param calcType   <span class="en-US">Calculate type</span>
+     *                   <span class="zh-CN">密码算法类型</span>
+     * @param secret     <span class="en-US">Secret key string</span>
+     *                   <span class="zh-CN">随机密钥字符串</span>
+     * @param randomCode <span class="en-US">Random number</span>
+     *                   <span class="zh-CN">随机数</span>
      * @return <span class="en-US">Generated code</span>
      * <span class="zh-CN">生成的一次性密码</span>
      */
-    private static int generateTOTPCode(final CalcType calcType, final String secret, final long fixedTime,
-                                        final int syncCount, final int fixWindow) {
-        long currentTime = DateTimeUtils.currentTimeMillis();
-        long calcTime = (currentTime + fixedTime) / 1000L;
-        if (syncCount > 0) {
-            calcTime /= syncCount;
-        } else {
-            calcTime /= DEFAULT_SYNC_COUNT;
-        }
-        calcTime += fixWindow;
-        return generateCode(calcType, secret, calcTime);
+    private static int generateCode(final CalcType calcType, final String secret, long randomCode) {
+        return OTPUtils.verifier(calcType, secret, Globals.DEFAULT_VALUE_INT, Globals.INITIALIZE_INT_VALUE)
+                .map(otpVerifier -> otpVerifier.generateHOTP(randomCode))
+                .orElse(Globals.DEFAULT_VALUE_INT);
     }
 
     /**
-     * <h3 class="en-US">Generate OTP(One-time Password) code</h3>
-     * <h3 class="zh-CN">生成基于时间的一次性密码</h3>
+     * <h3 class="en-US">Create OTP verifier</h3>
+     * <h3 class="zh-CN">创建一次性密码验证器</h3>
      *
      * @param calcType   <span class="en-US">Calculate type</span>
      *                   <span class="zh-CN">密码算法类型</span>
      * @param secret     <span class="en-US">Secret key string</span>
      *                   <span class="zh-CN">随机密钥字符串</span>
-     * @param randomCode <span class="en-US">Random number</span>
-     *                   <span class="zh-CN">随机数</span>
-     * @return <span class="en-US">Generated code</span>
-     * <span class="zh-CN">生成的一次性密码</span>
+     * @param syncCount  <span class="en-US">Time Step, Unit: Second</span>
+     *                   <span class="zh-CN">时间步长，单位：秒</span>
+     * @param windowSize <span class="en-US">Fix window size</span>
+     *                   <span class="zh-CN">最多可偏移时间</span>
+     * @return <span class="en-US">Created verifier, or empty if the secret is invalid</span>
+     * <span class="zh-CN">创建的验证器，如果密钥无效则返回空</span>
      */
-    private static int generateCode(final CalcType calcType, final String secret, long randomCode) {
-        byte[] signData = new byte[8];
+    private static Optional<OtpVerifier> verifier(final CalcType calcType, final String secret,
+                                                  final int syncCount, final int windowSize) {
         try {
-            RawUtils.writeLong(signData, randomCode);
-        } catch (DataInvalidException e) {
+            return Optional.of(new OtpVerifier(calcType, secret, syncCount, windowSize));
+        } catch (IllegalArgumentException e) {
             LOGGER.error("Process_Signature_Data_OTP_Error");
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Stack_Message_Error", e);
             }
-            return Globals.DEFAULT_VALUE_INT;
-        }
-        byte[] secretBytes = StringUtils.base32Decode(secret);
-        byte[] hash;
-        switch (calcType) {
-            case HmacSHA1:
-                hash = SecurityUtils.HmacSHA1(secretBytes, signData);
-                break;
-            case HmacSHA256:
-                hash = SecurityUtils.HmacSHA256(secretBytes, signData);
-                break;
-            case HmacSHA512:
-                hash = SecurityUtils.HmacSHA512(secretBytes, signData);
-                break;
-            default:
-                return Globals.DEFAULT_VALUE_INT;
-        }
-        int offset = hash[hash.length - 1] & 0xF;
-        long resultCode = 0L;
-        for (int i = 0; i < 4; ++i) {
-            resultCode = (resultCode << 8) | (hash[offset + i] & 0xFF);
+            return Optional.empty();
         }
-        resultCode &= 0x7FFFFFFF;
-        resultCode %= 1000000;
-        return (int) resultCode;
     }
 
     /**
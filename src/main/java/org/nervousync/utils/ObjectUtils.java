@@ -18,16 +18,34 @@ package org.nervousync.utils;
 
 import org.nervousync.commons.Globals;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2 class="en-US">Object Operate Utilities</h2>
+ * <span class="en-US">
+ *     The constructors resolved by <code>newInstance</code> were cached as method handles for each class and
+ *     parameter types, the constructors of proxy classes were cached for each class and interface classes.
+ *     The caches were stored by <code>ClassValue</code> of the target class, the parameter types or interface classes
+ *     which loaded by class loader not the class loader of target class or its ancestors will not be cached,
+ *     so the caches will not retain the class loaders except the class loader of target class.
+ * </span>
  * <h2 class="zh-CN">对象操作工具集</h2>
+ * <span class="zh-CN">
+ *     <code>newInstance</code>解析的构造方法按照类和参数类型缓存为方法句柄，代理类的构造方法按照类和接口类缓存。
+ *     缓存使用目标类的<code>ClassValue</code>保存，由目标类的类加载器及其祖先类加载器以外的类加载器加载的参数类型或接口类不会被缓存，
+ *     所以除目标类的类加载器外，缓存不会持有其他类加载器。
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.1.4 $ $Date: Jan 13, 2010 16:26:58 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 00:16:42 $
  */
 public final class ObjectUtils {
 	/**
@@ -50,6 +68,21 @@ public final class ObjectUtils {
 	 * <span class="zh-CN">数组元素分割字符常量值</span>
 	 */
 	private static final String ARRAY_ELEMENT_SEPARATOR = ", ";
+	/**
+	 * <span class="en-US">Empty parameter values</span>
+	 * <span class="zh-CN">空参数值</span>
+	 */
+	private static final Object[] EMPTY_PARAMETERS = new Object[0];
+	/**
+	 * <span class="en-US">Resolved constructor method handles of each class</span>
+	 * <span class="zh-CN">每个类已解析的构造方法句柄</span>
+	 */
+	private static final ClassValue<InstanceFactory> INSTANCE_FACTORIES = new ClassValue<>() {
+		@Override
+		protected InstanceFactory computeValue(final Class<?> type) {
+			return new InstanceFactory(type);
+		}
+	};
 
 	/**
 	 * <h3 class="en-US">Private constructor for ObjectUtils</h3>
@@ -90,27 +123,13 @@ public final class ObjectUtils {
 		if (clazz == null) {
 			return null;
 		}
-		Constructor<T> constructor;
+		Object[] parameters = (paramValues == null) ? EMPTY_PARAMETERS : paramValues;
 		try {
-			if (paramValues == null || paramValues.length == 0) {
-				constructor = ReflectionUtils.findConstructor(clazz);
-				if (!Modifier.isPublic(clazz.getModifiers()) || !ReflectionUtils.publicMember(constructor)) {
-					ReflectionUtils.makeAccessible(constructor);
-				}
-				return constructor.newInstance();
-			} else {
-				Class<?>[] paramTypes = new Class[paramValues.length];
-				for (int i = 0; i < paramValues.length; i++) {
-					paramTypes[i] = paramValues[i].getClass();
-				}
-				constructor = ReflectionUtils.findConstructor(clazz, paramTypes);
-				if (!Modifier.isPublic(clazz.getModifiers()) || !ReflectionUtils.publicMember(constructor)) {
-					ReflectionUtils.makeAccessible(constructor);
-				}
-				return constructor.newInstance(paramValues);
-			}
-		} catch (SecurityException | NoSuchMethodException | InstantiationException
-		         | IllegalAccessException | InvocationTargetException e) {
+			MethodHandle methodHandle = INSTANCE_FACTORIES.get(clazz).constructorHandle(parameters);
+			return clazz.cast((Object) methodHandle.invokeExact(parameters));
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			LOGGER.error("Create_Instance_Object_Error");
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Stack_Message_Error", e);
@@ -162,7 +181,18 @@ public final class ObjectUtils {
 		} else {
 			interfaces = interfaceClasses;
 		}
-		return clazz.cast(Proxy.newProxyInstance(clazz.getClassLoader(), interfaces, invocationHandler));
+		try {
+			MethodHandle methodHandle = INSTANCE_FACTORIES.get(clazz).proxyHandle(interfaces);
+			return clazz.cast((Object) methodHandle.invokeExact(invocationHandler));
+		} catch (IllegalArgumentException | ClassCastException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			LOGGER.error("Create_Instance_Object_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -1707,4 +1737,234 @@ public final class ObjectUtils {
 		stringBuilder.insert(ARRAY_ELEMENT_SEPARATOR.length(), ARRAY_START).append(ARRAY_END);
 		return stringBuilder.substring(ARRAY_ELEMENT_SEPARATOR.length());
 	}
+
+	/**
+	 * <h2 class="en-US">Instance factory of class</h2>
+	 * <span class="en-US">
+	 *     Resolve constructor by the runtime types of parameter values, the constructor which parameter types equals
+	 *     the runtime types is preferred, otherwise the most specific constructor which parameter types assignable
+	 *     from the parameter values is used. Resolved constructor was cached as method handle accepts an object array.
+	 * </span>
+	 * <h2 class="zh-CN">类的实例工厂</h2>
+	 * <span class="zh-CN">
+	 *     根据参数值的运行时类型解析构造方法，优先使用参数类型与运行时类型相同的构造方法，否则使用参数类型可以接受参数值的最具体的构造方法。
+	 *     解析的构造方法被缓存为接受对象数组的方法句柄。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 00:16:42 $
+	 */
+	private static final class InstanceFactory {
+		/**
+		 * <span class="en-US">Invocation handler used for generate proxy class</span>
+		 * <span class="zh-CN">用于生成代理类的调用处理器</span>
+		 */
+		private static final InvocationHandler GENERATE_HANDLER = (proxy, method, args) -> null;
+		/**
+		 * <span class="en-US">Target class</span>
+		 * <span class="zh-CN">目标类</span>
+		 */
+		private final Class<?> clazz;
+		/**
+		 * <span class="en-US">Method handle of non-args constructor</span>
+		 * <span class="zh-CN">无参构造方法的方法句柄</span>
+		 */
+		private volatile MethodHandle defaultHandle = null;
+		/**
+		 * <span class="en-US">Method handles of constructors, key is the runtime types of parameter values</span>
+		 * <span class="zh-CN">构造方法的方法句柄，键值为参数值的运行时类型</span>
+		 */
+		private final Map<List<Class<?>>, MethodHandle> constructorHandles = new ConcurrentHashMap<>();
+		/**
+		 * <span class="en-US">Method handles of proxy class constructors, key is the interface classes</span>
+		 * <span class="zh-CN">代理类构造方法的方法句柄，键值为接口类</span>
+		 */
+		private final Map<List<Class<?>>, MethodHandle> proxyHandles = new ConcurrentHashMap<>();
+
+		/**
+		 * <h3 class="en-US">Private constructor for InstanceFactory</h3>
+		 * <h3 class="zh-CN">类的实例工厂的私有构造方法</h3>
+		 *
+		 * @param clazz <span class="en-US">Target class</span>
+		 *              <span class="zh-CN">目标类</span>
+		 */
+		private InstanceFactory(final Class<?> clazz) {
+			this.clazz = clazz;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve constructor method handle matches given parameter values</h3>
+		 * <h3 class="zh-CN">获取与给定参数值匹配的构造方法句柄</h3>
+		 *
+		 * @param paramValues <span class="en-US">Parameter values</span>
+		 *                    <span class="zh-CN">参数值</span>
+		 * @return <span class="en-US">Method handle, type is (Object[])Object</span>
+		 * <span class="zh-CN">方法句柄，类型为(Object[])Object</span>
+		 * @throws ReflectiveOperationException <span class="en-US">If no constructor matched or constructor not accessible</span>
+		 *                                      <span class="zh-CN">如果没有匹配的构造方法或构造方法无法访问</span>
+		 */
+		private MethodHandle constructorHandle(final Object[] paramValues) throws ReflectiveOperationException {
+			if (paramValues.length == 0) {
+				MethodHandle methodHandle = this.defaultHandle;
+				if (methodHandle == null) {
+					methodHandle = this.unreflect(ReflectionUtils.findConstructor(this.clazz));
+					this.defaultHandle = methodHandle;
+				}
+				return methodHandle;
+			}
+			Class<?>[] paramTypes = new Class[paramValues.length];
+			for (int i = 0; i < paramValues.length; i++) {
+				paramTypes[i] = (paramValues[i] == null) ? null : paramValues[i].getClass();
+			}
+			List<Class<?>> cacheKey = Arrays.asList(paramTypes);
+			MethodHandle methodHandle = this.constructorHandles.get(cacheKey);
+			if (methodHandle == null) {
+				methodHandle = this.unreflect(this.matchConstructor(paramTypes));
+				if (this.cacheable(paramTypes)) {
+					this.constructorHandles.putIfAbsent(cacheKey, methodHandle);
+				}
+			}
+			return methodHandle;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve proxy class constructor method handle of given interface classes</h3>
+		 * <h3 class="zh-CN">获取给定接口类的代理类构造方法句柄</h3>
+		 *
+		 * @param interfaces <span class="en-US">Interface class array</span>
+		 *                   <span class="zh-CN">接口类数组</span>
+		 * @return <span class="en-US">Method handle, type is (InvocationHandler)Object</span>
+		 * <span class="zh-CN">方法句柄，类型为(InvocationHandler)Object</span>
+		 * @throws ReflectiveOperationException <span class="en-US">If proxy class constructor not accessible</span>
+		 *                                      <span class="zh-CN">如果代理类构造方法无法访问</span>
+		 */
+		private MethodHandle proxyHandle(final Class<?>[] interfaces) throws ReflectiveOperationException {
+			List<Class<?>> cacheKey = Arrays.asList(interfaces.clone());
+			MethodHandle methodHandle = this.proxyHandles.get(cacheKey);
+			if (methodHandle == null) {
+				Class<?> proxyClass =
+						Proxy.newProxyInstance(this.clazz.getClassLoader(), interfaces, GENERATE_HANDLER).getClass();
+				Constructor<?> constructor = proxyClass.getConstructor(InvocationHandler.class);
+				ReflectionUtils.makeAccessible(constructor);
+				methodHandle = MethodHandles.lookup().unreflectConstructor(constructor)
+						.asType(MethodType.methodType(Object.class, InvocationHandler.class));
+				if (this.cacheable(interfaces)) {
+					this.proxyHandles.putIfAbsent(cacheKey, methodHandle);
+				}
+			}
+			return methodHandle;
+		}
+
+		/**
+		 * <h3 class="en-US">Check given classes can be used as cache key</h3>
+		 * <span class="en-US">
+		 *     The cache is retained by target class, classes loaded by the class loader of target class or its
+		 *     ancestors are cacheable, otherwise the cache will retain the child class loader.
+		 * </span>
+		 * <h3 class="zh-CN">检查给定的类是否可以作为缓存键值</h3>
+		 * <span class="zh-CN">缓存由目标类持有，由目标类的类加载器或其祖先类加载器加载的类可以缓存，否则缓存将会持有子类加载器</span>
+		 *
+		 * @param classes <span class="en-US">Class array, <code>null</code> element for null value</span>
+		 *                <span class="zh-CN">类数组，空值为<code>null</code>元素</span>
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 */
+		private boolean cacheable(final Class<?>[] classes) {
+			ClassLoader classLoader = this.clazz.getClassLoader();
+			for (Class<?> clazz : classes) {
+				if (clazz == null || clazz.getClassLoader() == null) {
+					continue;
+				}
+				ClassLoader currentLoader = classLoader;
+				while (currentLoader != null && currentLoader != clazz.getClassLoader()) {
+					currentLoader = currentLoader.getParent();
+				}
+				if (currentLoader == null) {
+					return Boolean.FALSE;
+				}
+			}
+			return Boolean.TRUE;
+		}
+
+		/**
+		 * <h3 class="en-US">Find constructor matches given parameter types</h3>
+		 * <h3 class="zh-CN">查找与给定参数类型匹配的构造方法</h3>
+		 *
+		 * @param paramTypes <span class="en-US">Runtime types of parameter values, <code>null</code> for null value</span>
+		 *                   <span class="zh-CN">参数值的运行时类型，空值为<code>null</code></span>
+		 * @return <span class="en-US">Matched constructor</span>
+		 * <span class="zh-CN">匹配的构造方法</span>
+		 * @throws NoSuchMethodException <span class="en-US">If no constructor matched</span>
+		 *                               <span class="zh-CN">如果没有匹配的构造方法</span>
+		 */
+		private Constructor<?> matchConstructor(final Class<?>[] paramTypes) throws NoSuchMethodException {
+			Constructor<?> matchConstructor = null;
+			for (Constructor<?> constructor : this.clazz.getDeclaredConstructors()) {
+				Class<?>[] parameterTypes = constructor.getParameterTypes();
+				if (Arrays.equals(parameterTypes, paramTypes)) {
+					return constructor;
+				}
+				if (assignable(parameterTypes, paramTypes)
+						&& (matchConstructor == null
+						|| assignable(matchConstructor.getParameterTypes(), parameterTypes))) {
+					matchConstructor = constructor;
+				}
+			}
+			if (matchConstructor == null) {
+				throw new NoSuchMethodException(this.clazz.getName() + ".<init>" + Arrays.toString(paramTypes));
+			}
+			return matchConstructor;
+		}
+
+		/**
+		 * <h3 class="en-US">Convert constructor to method handle</h3>
+		 * <h3 class="zh-CN">转换构造方法为方法句柄</h3>
+		 *
+		 * @param constructor <span class="en-US">Constructor instance</span>
+		 *                    <span class="zh-CN">构造方法实例对象</span>
+		 * @return <span class="en-US">Method handle, type is (Object[])Object</span>
+		 * <span class="zh-CN">方法句柄，类型为(Object[])Object</span>
+		 * @throws IllegalAccessException <span class="en-US">If constructor not accessible</span>
+		 *                                <span class="zh-CN">如果构造方法无法访问</span>
+		 * @throws InstantiationException <span class="en-US">If target class is abstract</span>
+		 *                                <span class="zh-CN">如果目标类是抽象类</span>
+		 */
+		private MethodHandle unreflect(final Constructor<?> constructor)
+				throws IllegalAccessException, InstantiationException {
+			if (Modifier.isAbstract(this.clazz.getModifiers())) {
+				throw new InstantiationException(this.clazz.getName());
+			}
+			if (!Modifier.isPublic(this.clazz.getModifiers()) || !ReflectionUtils.publicMember(constructor)) {
+				ReflectionUtils.makeAccessible(constructor);
+			}
+			return MethodHandles.lookup().unreflectConstructor(constructor)
+					.asSpreader(Object[].class, constructor.getParameterCount())
+					.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+
+		/**
+		 * <h3 class="en-US">Check given value types can be assigned to given parameter types</h3>
+		 * <h3 class="zh-CN">检查给定的值类型是否可以赋值给给定的参数类型</h3>
+		 *
+		 * @param parameterTypes <span class="en-US">Parameter types</span>
+		 *                       <span class="zh-CN">参数类型</span>
+		 * @param valueTypes     <span class="en-US">Value types, <code>null</code> for null value</span>
+		 *                       <span class="zh-CN">值类型，空值为<code>null</code></span>
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 */
+		private static boolean assignable(final Class<?>[] parameterTypes, final Class<?>[] valueTypes) {
+			if (parameterTypes.length != valueTypes.length) {
+				return Boolean.FALSE;
+			}
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (valueTypes[i] == null
+						? parameterTypes[i].isPrimitive()
+						: !ClassUtils.isAssignable(parameterTypes[i], valueTypes[i])) {
+					return Boolean.FALSE;
+				}
+			}
+			return Boolean.TRUE;
+		}
+	}
 }
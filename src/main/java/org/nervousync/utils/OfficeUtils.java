@@ -26,9 +26,11 @@ import org.nervousync.commons.Globals;
 import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.office.excel.ExcelReader;
 import org.nervousync.office.excel.ExcelWriter;
+import org.nervousync.office.excel.RowHandler;
 import org.nervousync.office.excel.impl.EventModelReaderImpl;
 import org.nervousync.office.excel.impl.ExcelWriterImpl;
 import org.nervousync.office.excel.impl.UserModelReaderImpl;
+import org.nervousync.office.excel.impl.XmlExcelWriterImpl;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -54,7 +56,7 @@ import java.util.Map;
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Nov 13, 2023 15:13:37 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 14:25:16 $
  */
 public final class OfficeUtils {
 
@@ -203,6 +205,73 @@ public final class OfficeUtils {
         }
     }
 
+    /**
+     * <h3 class="en-US">Process each row of given file path and data sheet name by given row handler</h3>
+     * <p class="en-US">The rows were processed when parsed, the data of the whole data sheet was not cached</p>
+     * <h3 class="zh-CN">使用给定的行处理器处理给定文件地址和数据表名称的每一个数据行</h3>
+     * <p class="zh-CN">数据行解析后立即处理，不缓存整个数据表的数据</p>
+     *
+     * @param filePath   <span class="en-US">File storage path</span>
+     *                   <span class="zh-CN">文件存储路径</span>
+     * @param sheetName  <span class="en-US">Data sheet name</span>
+     *                   <span class="zh-CN">数据表名称</span>
+     * @param rowHandler <span class="en-US">Row handler instance</span>
+     *                   <span class="zh-CN">数据行处理器实例对象</span>
+     * @return <span class="en-US">Process result</span>
+     * <span class="zh-CN">处理结果</span>
+     */
+    public static boolean readExcel(final String filePath, final String sheetName, final RowHandler rowHandler) {
+        try (ExcelReader excelReader = newReader(filePath)) {
+            if (!excelReader.checkExists(sheetName)) {
+                return Boolean.FALSE;
+            }
+            excelReader.stream(sheetName, rowHandler);
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Process each row of given file path and data sheets by the mapped row handlers</h3>
+     * <p class="en-US">
+     *     The document was opened once and the data sheets were processed in parallel up to the given parallelism,
+     *     the rows of the same data sheet were processed in order.
+     * </p>
+     * <h3 class="zh-CN">使用映射的行处理器处理给定文件地址和数据表的每一个数据行</h3>
+     * <p class="zh-CN">文档仅打开一次，数据表按给定的并行度并行处理，同一数据表的数据行按顺序处理</p>
+     *
+     * @param filePath    <span class="en-US">File storage path</span>
+     *                    <span class="zh-CN">文件存储路径</span>
+     * @param rowHandlers <span class="en-US">Mapping table of data sheet name and row handler instance</span>
+     *                    <span class="zh-CN">数据表名称与数据行处理器实例对象的映射表</span>
+     * @param parallelism <span class="en-US">Maximum number of data sheets processed at the same time</span>
+     *                    <span class="zh-CN">同时处理的最大数据表数量</span>
+     * @return <span class="en-US">Process result</span>
+     * <span class="zh-CN">处理结果</span>
+     */
+    public static boolean readExcel(final String filePath, final Map<String, RowHandler> rowHandlers,
+                                    final int parallelism) {
+        if (rowHandlers == null || rowHandlers.isEmpty()) {
+            return Boolean.FALSE;
+        }
+        try (ExcelReader excelReader = newReader(filePath)) {
+            if (!excelReader.checkExists(rowHandlers.keySet().toArray(new String[0]))) {
+                return Boolean.FALSE;
+            }
+            excelReader.stream(rowHandlers, parallelism);
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return Boolean.FALSE;
+        }
+    }
+
     /**
      * <h3 class="en-US">Generate an Excel workbook writer instance object based on the given file address</h3>
      * <h3 class="zh-CN">根据给定文件地址生成Excel工作簿写入器实例对象</h3>
@@ -218,6 +287,53 @@ public final class OfficeUtils {
         return new ExcelWriterImpl(filePath);
     }
 
+    /**
+     * <h3 class="en-US">Generate an Excel workbook writer instance object based on the given file address and row access window</h3>
+     * <h3 class="zh-CN">根据给定文件地址和行访问窗口生成Excel工作簿写入器实例对象</h3>
+     *
+     * @param filePath            <span class="en-US">File storage path</span>
+     *                            <span class="zh-CN">文件存储路径</span>
+     * @param rowAccessWindowSize <span class="en-US">Number of rows kept in memory when creating Excel 2007 file</span>
+     *                            <span class="zh-CN">创建Excel 2007文件时在内存中保留的行数</span>
+     * @param compressTempFiles   <span class="en-US">Compress the temporary files when creating Excel 2007 file</span>
+     *                            <span class="zh-CN">创建Excel 2007文件时压缩临时文件</span>
+     * @return <span class="en-US">Excel writer instance object</span>
+     * <span class="zh-CN">Excel写入器实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If the file format is incorrect</span>
+     *                              <span class="zh-CN">如果文件格式不正确</span>
+     */
+    public static ExcelWriter newWriter(final String filePath, final int rowAccessWindowSize,
+                                        final boolean compressTempFiles) throws DataInvalidException {
+        return new ExcelWriterImpl(filePath, rowAccessWindowSize, compressTempFiles);
+    }
+
+    /**
+     * <h3 class="en-US">Generate an Excel workbook writer instance object which emits the sheet XML directly</h3>
+     * <p class="en-US">
+     *     The writer does not build any workbook object model, using for very large exports.
+     *     Only support the Excel 2007 file format, and rows of each sheet must be written in ascending order.
+     * </p>
+     * <h3 class="zh-CN">生成直接输出数据表XML的Excel工作簿写入器实例对象</h3>
+     * <p class="zh-CN">写入器不构建工作簿对象模型，用于超大数据量的导出。仅支持Excel 2007文件格式，每个数据表的数据行必须按照升序写入。</p>
+     *
+     * @param filePath          <span class="en-US">File storage path</span>
+     *                          <span class="zh-CN">文件存储路径</span>
+     * @param compressTempFiles <span class="en-US">Compress the temporary files</span>
+     *                          <span class="zh-CN">压缩临时文件</span>
+     * @return <span class="en-US">Excel writer instance object</span>
+     * <span class="zh-CN">Excel写入器实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If the file format is incorrect</span>
+     *                              <span class="zh-CN">如果文件格式不正确</span>
+     */
+    public static ExcelWriter newXmlWriter(final String filePath, final boolean compressTempFiles)
+            throws DataInvalidException {
+        String fileExtName = StringUtils.getFilenameExtension(filePath).toLowerCase();
+        if (!EXCEL_FILE_EXT_NAME_2007.equals(fileExtName)) {
+            throw new DataInvalidException(0x000000AE0001L, "Office_Ext_Name_Invalid", fileExtName);
+        }
+        return new XmlExcelWriterImpl(filePath, compressTempFiles);
+    }
+
     /**
      * <h3 class="en-US">Open the Excel workbook at the given address</h3>
      * <h3 class="zh-CN">打开给定地址的Excel工作簿</h3>
@@ -262,12 +378,34 @@ public final class OfficeUtils {
      *                              <span class="zh-CN">如果文件格式不正确</span>
      */
     public static Workbook createWorkbook(final String filePath) throws DataInvalidException {
+        return createWorkbook(filePath, DEFAULT_ROW_ACCESS_WINDOW_SIZE, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Create a new Excel workbook using the given row access window</h3>
+     * <h3 class="zh-CN">使用给定的行访问窗口创建新的Excel工作簿</h3>
+     *
+     * @param filePath            <span class="en-US">File storage path</span>
+     *                            <span class="zh-CN">文件存储路径</span>
+     * @param rowAccessWindowSize <span class="en-US">Number of rows kept in memory when creating Excel 2007 file</span>
+     *                            <span class="zh-CN">创建Excel 2007文件时在内存中保留的行数</span>
+     * @param compressTempFiles   <span class="en-US">Compress the temporary files when creating Excel 2007 file</span>
+     *                            <span class="zh-CN">创建Excel 2007文件时压缩临时文件</span>
+     * @return <span class="en-US">Workbook instance object</span>
+     * <span class="zh-CN">工作簿实例对象</span>
+     * @throws DataInvalidException <span class="en-US">If the file format is incorrect</span>
+     *                              <span class="zh-CN">如果文件格式不正确</span>
+     */
+    public static Workbook createWorkbook(final String filePath, final int rowAccessWindowSize,
+                                          final boolean compressTempFiles) throws DataInvalidException {
         String fileExtName = StringUtils.getFilenameExtension(filePath).toLowerCase();
         switch (fileExtName) {
             case EXCEL_FILE_EXT_NAME_2003:
                 return new HSSFWorkbook();
             case EXCEL_FILE_EXT_NAME_2007:
-                return new SXSSFWorkbook(DEFAULT_ROW_ACCESS_WINDOW_SIZE);
+                return new SXSSFWorkbook(null,
+                        (rowAccessWindowSize > 0) ? rowAccessWindowSize : DEFAULT_ROW_ACCESS_WINDOW_SIZE,
+                        compressTempFiles);
             default:
                 throw new DataInvalidException(0x000000AE0001L, "Office_Ext_Name_Invalid", fileExtName);
         }
@@ -288,7 +426,7 @@ public final class OfficeUtils {
      * @throws DataInvalidException   <span class="en-US">If the file format is incorrect</span>
      *                                <span class="zh-CN">如果文件格式不正确</span>
      */
-    private static ExcelReader newReader(final String filePath)
+    public static ExcelReader newReader(final String filePath)
             throws IOException, InvalidFormatException, DataInvalidException {
         String fileExtName = StringUtils.getFilenameExtension(filePath).toLowerCase();
         switch (fileExtName) {
@@ -20,10 +20,16 @@ import org.nervousync.commons.Globals;
 import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.exceptions.zip.ZipException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * <h2 class="en-US">Raw data process utilities</h2>
@@ -33,6 +39,7 @@ import java.util.Arrays;
  *     <ul>Write boolean/short/int/long/String into binary data bytes</ul>
  *     <ul>Convert char array to binary data bytes</ul>
  *     <ul>Convert bit array to byte</ul>
+ *     <ul>Cursor reader/writer for sequential field decoding/encoding, support varint/zigzag encoding</ul>
  * </span>
  * <h2 class="zh-CN">二进制数据处理工具集</h2>
  * <span class="zh-CN">
@@ -41,10 +48,11 @@ import java.util.Arrays;
  *     <ul>向二进制数组中写入boolean/short/int/long/String类型的数据</ul>
  *     <ul>转换字节数组为二进制数组</ul>
  *     <ul>转换位数组为字节</ul>
+ *     <ul>用于顺序解码/编码字段的游标读取器/写入器，支持变长整数/ZigZag编码</ul>
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Nov 28, 2017 17:34:55 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:19:52 $
  */
 public final class RawUtils {
     /**
@@ -52,6 +60,47 @@ public final class RawUtils {
      * <span class="zh-CN">默认的数组起始下标</span>
      */
     private static final int DEFAULT_INDEX = 0;
+    /**
+     * <span class="en-US">Default initialize capacity of growable writer</span>
+     * <span class="zh-CN">可扩容写入器的默认初始容量</span>
+     */
+    private static final int DEFAULT_WRITER_CAPACITY = 64;
+    /**
+     * <span class="en-US">Big endian short view handle of byte array</span>
+     * <span class="zh-CN">字节数组的大端short视图句柄</span>
+     */
+    private static final VarHandle SHORT_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">Little endian short view handle of byte array</span>
+     * <span class="zh-CN">字节数组的小端short视图句柄</span>
+     */
+    private static final VarHandle SHORT_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * <span class="en-US">Big endian int view handle of byte array</span>
+     * <span class="zh-CN">字节数组的大端int视图句柄</span>
+     */
+    private static final VarHandle INT_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">Little endian int view handle of byte array</span>
+     * <span class="zh-CN">字节数组的小端int视图句柄</span>
+     */
+    private static final VarHandle INT_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * <span class="en-US">Big endian long view handle of byte array</span>
+     * <span class="zh-CN">字节数组的大端long视图句柄</span>
+     */
+    private static final VarHandle LONG_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    /**
+     * <span class="en-US">Little endian long view handle of byte array</span>
+     * <span class="zh-CN">字节数组的小端long视图句柄</span>
+     */
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
 
     /**
      * <h3 class="en-US">Private constructor for RawUtils</h3>
@@ -197,7 +246,8 @@ public final class RawUtils {
      */
     public static short readShort(final byte[] dataBytes, final int position, final ByteOrder byteOrder)
             throws DataInvalidException {
-        return (short) readNumber(dataBytes, position, byteOrder, 2);
+        checkIndex(dataBytes, position, Short.BYTES);
+        return readShortValue(dataBytes, position, ByteOrder.BIG_ENDIAN.equals(byteOrder));
     }
 
     /**
@@ -268,7 +318,8 @@ public final class RawUtils {
      */
     public static void writeShort(final byte[] dataBytes, final int position,
                                   final ByteOrder byteOrder, final short value) throws DataInvalidException {
-        writeNumber(dataBytes, position, Short.SIZE, byteOrder, value);
+        checkIndex(dataBytes, position, Short.BYTES);
+        writeShortValue(dataBytes, position, ByteOrder.BIG_ENDIAN.equals(byteOrder), value);
     }
 
     /**
@@ -337,7 +388,8 @@ public final class RawUtils {
      */
     public static int readInt(final byte[] dataBytes, final int position, final ByteOrder byteOrder)
             throws DataInvalidException {
-        return (int) readNumber(dataBytes, position, byteOrder, 4);
+        checkIndex(dataBytes, position, Integer.BYTES);
+        return readIntValue(dataBytes, position, ByteOrder.BIG_ENDIAN.equals(byteOrder));
     }
 
     /**
@@ -408,7 +460,8 @@ public final class RawUtils {
      */
     public static void writeInt(final byte[] dataBytes, final int position,
                                 final ByteOrder byteOrder, final int value) throws DataInvalidException {
-        writeNumber(dataBytes, position, Integer.SIZE, byteOrder, value);
+        checkIndex(dataBytes, position, Integer.BYTES);
+        writeIntValue(dataBytes, position, ByteOrder.BIG_ENDIAN.equals(byteOrder), value);
     }
 
     /**
@@ -477,7 +530,8 @@ public final class RawUtils {
      */
     public static long readLong(final byte[] dataBytes, final int position, final ByteOrder byteOrder)
             throws DataInvalidException {
-        return (long) readNumber(dataBytes, position, byteOrder, 8);
+        checkIndex(dataBytes, position, Long.BYTES);
+        return readLongValue(dataBytes, position, ByteOrder.BIG_ENDIAN.equals(byteOrder));
     }
 
     /**
@@ -548,7 +602,8 @@ public final class RawUtils {
      */
     public static void writeLong(final byte[] dataBytes, final int position,
                                  final ByteOrder byteOrder, final long value) throws DataInvalidException {
-        writeNumber(dataBytes, position, Long.SIZE, byteOrder, value);
+        checkIndex(dataBytes, position, Long.BYTES);
+        writeLongValue(dataBytes, position, ByteOrder.BIG_ENDIAN.equals(byteOrder), value);
     }
 
     /**
@@ -738,9 +793,7 @@ public final class RawUtils {
             throw new DataInvalidException(0x000000130002L, "Length_Not_Enough_Raw_Error");
         }
         try {
-            byte[] readBytes = new byte[readLength];
-            initBuffer(dataBytes, position, readLength, byteOrder).get(readBytes);
-            return new String(readBytes, encoding);
+            return new String(dataBytes, position, readLength, encoding);
         } catch (UnsupportedEncodingException e) {
             throw new DataInvalidException(0x000000FF0002L, "Not_Support_Encoding_Error", e);
         }
@@ -892,7 +945,7 @@ public final class RawUtils {
             return;
         }
         try {
-            byte[] valueBytes = initBuffer(value.getBytes(encoding), byteOrder).array();
+            byte[] valueBytes = value.getBytes(encoding);
             if ((position + valueBytes.length) <= dataBytes.length) {
                 System.arraycopy(valueBytes, 0, dataBytes, position, valueBytes.length);
             } else {
@@ -959,125 +1012,1037 @@ public final class RawUtils {
     }
 
     /**
-     * <h3 class="en-US">Initialize ByteBuffer by given data bytes and byte order type</h3>
-     * <h3 class="zh-CN">使用给定的字节数组和排序类型初始化ByteBuffer实例对象</h3>
+     * <h3 class="en-US">Encode signed int value by ZigZag encoding</h3>
+     * <span class="en-US">Small negative values are mapped to small positive values, so they can be written as short varint</span>
+     * <h3 class="zh-CN">使用ZigZag编码转换有符号int数值</h3>
+     * <span class="zh-CN">将绝对值较小的负数映射为较小的正数，以便写入为较短的变长整数</span>
+     *
+     * @param value <span class="en-US">Signed value</span>
+     *              <span class="zh-CN">有符号数值</span>
+     * @return <span class="en-US">Encoded value</span>
+     * <span class="zh-CN">编码后的数值</span>
+     */
+    public static int encodeZigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * <h3 class="en-US">Decode ZigZag encoded int value</h3>
+     * <h3 class="zh-CN">解码ZigZag编码的int数值</h3>
+     *
+     * @param value <span class="en-US">Encoded value</span>
+     *              <span class="zh-CN">编码后的数值</span>
+     * @return <span class="en-US">Signed value</span>
+     * <span class="zh-CN">有符号数值</span>
+     */
+    public static int decodeZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * <h3 class="en-US">Encode signed long value by ZigZag encoding</h3>
+     * <h3 class="zh-CN">使用ZigZag编码转换有符号long数值</h3>
+     *
+     * @param value <span class="en-US">Signed value</span>
+     *              <span class="zh-CN">有符号数值</span>
+     * @return <span class="en-US">Encoded value</span>
+     * <span class="zh-CN">编码后的数值</span>
+     */
+    public static long encodeZigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * <h3 class="en-US">Decode ZigZag encoded long value</h3>
+     * <h3 class="zh-CN">解码ZigZag编码的long数值</h3>
+     *
+     * @param value <span class="en-US">Encoded value</span>
+     *              <span class="zh-CN">编码后的数值</span>
+     * @return <span class="en-US">Signed value</span>
+     * <span class="zh-CN">有符号数值</span>
+     */
+    public static long decodeZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /**
+     * <h3 class="en-US">Calculate the bytes length of unsigned varint encoded value</h3>
+     * <h3 class="zh-CN">计算无符号变长整数编码后的字节长度</h3>
+     *
+     * @param value <span class="en-US">Value, treated as unsigned</span>
+     *              <span class="zh-CN">数值，按无符号数处理</span>
+     * @return <span class="en-US">Encoded bytes length, between 1 and 10</span>
+     * <span class="zh-CN">编码后的字节长度，范围为1至10</span>
+     */
+    public static int varIntLength(final long value) {
+        return 1 + (Long.SIZE - 1 - Long.numberOfLeadingZeros(value | 1L)) / 7;
+    }
+
+    /**
+     * <h3 class="en-US">Create cursor reader for given data bytes, using big endian byte order</h3>
+     * <h3 class="zh-CN">为给定的字节数组创建游标读取器，使用大端字节序</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @return <span class="en-US">Reader instance</span>
+     * <span class="zh-CN">读取器实例对象</span>
+     */
+    public static Reader reader(final byte[] dataBytes) {
+        return reader(dataBytes, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * <h3 class="en-US">Create cursor reader for given data bytes and byte order</h3>
+     * <h3 class="zh-CN">为给定的字节数组和字节序创建游标读取器</h3>
      *
      * @param dataBytes <span class="en-US">Binary data bytes</span>
      *                  <span class="zh-CN">二进制字节数组</span>
      * @param byteOrder <span class="en-US">Byte order type</span>
      *                  <span class="zh-CN">大端/小端</span>
-     * @return <span class="en-US">Initialized ByteBuffer instance</span>
-     * <span class="zh-CN">初始化的ByteBuffer实例对象</span>
-     * @throws DataInvalidException <span class="en-US">If array index out of bounds</span>
-     *                              <span class="zh-CN">如果数组下标越界</span>
+     * @return <span class="en-US">Reader instance</span>
+     * <span class="zh-CN">读取器实例对象</span>
      */
-    private static ByteBuffer initBuffer(final byte[] dataBytes, final ByteOrder byteOrder)
-            throws DataInvalidException {
-        return initBuffer(dataBytes, 0, dataBytes.length, byteOrder);
+    public static Reader reader(final byte[] dataBytes, final ByteOrder byteOrder) {
+        return reader(dataBytes, DEFAULT_INDEX, dataBytes.length, byteOrder);
     }
 
     /**
-     * <h3 class="en-US">Initialize ByteBuffer by given data bytes and byte order type</h3>
-     * <h3 class="zh-CN">使用给定的字节数组和排序类型初始化ByteBuffer实例对象</h3>
+     * <h3 class="en-US">Create cursor reader for given range of data bytes and byte order</h3>
+     * <span class="en-US">The data bytes was not copied, reader positions are relative to the given offset</span>
+     * <h3 class="zh-CN">为给定的字节数组区间和字节序创建游标读取器</h3>
+     * <span class="zh-CN">不会复制字节数组，读取器的位置相对于给定的起始偏移量</span>
      *
      * @param dataBytes <span class="en-US">Binary data bytes</span>
      *                  <span class="zh-CN">二进制字节数组</span>
-     * @param position  <span class="en-US">Begin position of data bytes</span>
-     *                  <span class="zh-CN">字节数组的起始下标</span>
-     * @param length    <span class="en-US">Read data bytes length</span>
-     *                  <span class="zh-CN">读取的二进制字节长度</span>
+     * @param offset    <span class="en-US">Begin offset of data bytes</span>
+     *                  <span class="zh-CN">字节数组的起始偏移量</span>
+     * @param length    <span class="en-US">Readable data length</span>
+     *                  <span class="zh-CN">可读取的数据长度</span>
      * @param byteOrder <span class="en-US">Byte order type</span>
      *                  <span class="zh-CN">大端/小端</span>
-     * @return <span class="en-US">Initialized ByteBuffer instance</span>
-     * <span class="zh-CN">初始化的ByteBuffer实例对象</span>
-     * @throws DataInvalidException <span class="en-US">If array index out of bounds</span>
-     *                              <span class="zh-CN">如果数组下标越界</span>
+     * @return <span class="en-US">Reader instance</span>
+     * <span class="zh-CN">读取器实例对象</span>
+     * @throws IndexOutOfBoundsException <span class="en-US">If given range is out of data bytes</span>
+     *                                   <span class="zh-CN">如果给定的区间超出字节数组范围</span>
      */
-    private static ByteBuffer initBuffer(final byte[] dataBytes, final int position, final int length,
-                                         final ByteOrder byteOrder) throws DataInvalidException {
-        if (dataBytes.length < (position + length)) {
-            throw new DataInvalidException(0x000000130001L, "Out_Of_Index_Raw_Error",
-                    dataBytes.length, position, length);
+    public static Reader reader(final byte[] dataBytes, final int offset, final int length,
+                                final ByteOrder byteOrder) {
+        Objects.checkFromIndexSize(offset, length, dataBytes.length);
+        return new Reader(dataBytes, offset, offset + length, byteOrder);
+    }
+
+    /**
+     * <h3 class="en-US">Create cursor reader for remaining data of given byte buffer</h3>
+     * <span class="en-US">
+     *     Using byte order of the byte buffer, the position of byte buffer was not changed.
+     *     Heap buffer was read without copy, direct buffer was copied once.
+     * </span>
+     * <h3 class="zh-CN">为给定的字节缓冲区中的剩余数据创建游标读取器</h3>
+     * <span class="zh-CN">使用字节缓冲区的字节序，不会改变字节缓冲区的位置。堆内缓冲区不复制数据，直接缓冲区会复制一次数据</span>
+     *
+     * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+     *                   <span class="zh-CN">字节缓冲区实例对象</span>
+     * @return <span class="en-US">Reader instance</span>
+     * <span class="zh-CN">读取器实例对象</span>
+     */
+    public static Reader reader(final ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            return new Reader(byteBuffer.array(), offset, offset + byteBuffer.remaining(), byteBuffer.order());
         }
-        return ByteBuffer.wrap(dataBytes, position, length).order(byteOrder);
+        byte[] dataBytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(dataBytes);
+        return new Reader(dataBytes, DEFAULT_INDEX, dataBytes.length, byteBuffer.order());
+    }
+
+    /**
+     * <h3 class="en-US">Create growable cursor writer, using big endian byte order</h3>
+     * <h3 class="zh-CN">创建可扩容的游标写入器，使用大端字节序</h3>
+     *
+     * @return <span class="en-US">Writer instance</span>
+     * <span class="zh-CN">写入器实例对象</span>
+     */
+    public static Writer writer() {
+        return writer(ByteOrder.BIG_ENDIAN);
     }
 
     /**
-     * <h3 class="en-US">Write number into binary data bytes</h3>
-     * <h3 class="zh-CN">向二进制数组中写入数值类型的数据</h3>
+     * <h3 class="en-US">Create growable cursor writer for given byte order</h3>
+     * <h3 class="zh-CN">为给定的字节序创建可扩容的游标写入器</h3>
+     *
+     * @param byteOrder <span class="en-US">Byte order type</span>
+     *                  <span class="zh-CN">大端/小端</span>
+     * @return <span class="en-US">Writer instance</span>
+     * <span class="zh-CN">写入器实例对象</span>
+     */
+    public static Writer writer(final ByteOrder byteOrder) {
+        return writer(DEFAULT_WRITER_CAPACITY, byteOrder);
+    }
+
+    /**
+     * <h3 class="en-US">Create growable cursor writer for given initialize capacity and byte order</h3>
+     * <h3 class="zh-CN">为给定的初始容量和字节序创建可扩容的游标写入器</h3>
+     *
+     * @param initCapacity <span class="en-US">Initialize capacity</span>
+     *                     <span class="zh-CN">初始容量</span>
+     * @param byteOrder    <span class="en-US">Byte order type</span>
+     *                     <span class="zh-CN">大端/小端</span>
+     * @return <span class="en-US">Writer instance</span>
+     * <span class="zh-CN">写入器实例对象</span>
+     */
+    public static Writer writer(final int initCapacity, final ByteOrder byteOrder) {
+        return new Writer(new byte[Math.max(initCapacity, Long.BYTES)], Boolean.TRUE, byteOrder);
+    }
+
+    /**
+     * <h3 class="en-US">Create fixed size cursor writer over given data bytes</h3>
+     * <h3 class="zh-CN">在给定的字节数组上创建固定长度的游标写入器</h3>
      *
      * @param dataBytes <span class="en-US">Binary data bytes</span>
      *                  <span class="zh-CN">二进制字节数组</span>
-     * @param position  <span class="en-US">Begin position of data bytes</span>
-     *                  <span class="zh-CN">字节数组的起始下标</span>
-     * @param dataSize  <span class="en-US">Data bytes length</span>
-     *                  <span class="zh-CN">写入的数据长度</span>
      * @param byteOrder <span class="en-US">Byte order type</span>
      *                  <span class="zh-CN">大端/小端</span>
-     * @param value     <span class="en-US">Write value</span>
-     *                  <span class="zh-CN">写入的数据</span>
-     * @throws DataInvalidException <span class="en-US">If array index out of bounds</span>
-     *                              <span class="zh-CN">如果数组下标越界</span>
+     * @return <span class="en-US">Writer instance</span>
+     * <span class="zh-CN">写入器实例对象</span>
      */
-    private static void writeNumber(final byte[] dataBytes, final int position, final int dataSize,
-                                    final ByteOrder byteOrder, final Object value) throws DataInvalidException {
-        if (dataSize % Byte.SIZE != 0) {
-            throw new DataInvalidException(0x000000130005L, "Data_Size_Invalid_Raw_Error");
-        }
-        int dataLength = dataSize / Byte.SIZE;
-        if (dataBytes.length < (position + dataLength)) {
-            throw new DataInvalidException(0x000000130001L, "Out_Of_Index_Raw_Error",
-                    dataBytes.length, position, dataLength);
-        }
-        final ByteBuffer byteBuffer = initBuffer(dataBytes, position, dataLength, byteOrder);
-        switch (dataSize) {
-            case Short.SIZE:
-                byteBuffer.putShort((short) value);
-                break;
-            case Integer.SIZE:
-                byteBuffer.putInt((int) value);
-                break;
-            case Long.SIZE:
-                byteBuffer.putLong((long) value);
-                break;
-            default:
-                throw new DataInvalidException(0x000000130006L, "Data_Size_Unknown_Raw_Error");
-        }
+    public static Writer writer(final byte[] dataBytes, final ByteOrder byteOrder) {
+        return new Writer(dataBytes, Boolean.FALSE, byteOrder);
     }
 
     /**
-     * <h3 class="en-US">Read number from binary data bytes</h3>
-     * <h3 class="zh-CN">从二进制数组中读取数值类型的数据</h3>
+     * <h3 class="en-US">Check the data bytes contains given range</h3>
+     * <h3 class="zh-CN">检查字节数组是否包含给定的区间</h3>
      *
      * @param dataBytes  <span class="en-US">Binary data bytes</span>
      *                   <span class="zh-CN">二进制字节数组</span>
      * @param position   <span class="en-US">Begin position of data bytes</span>
      *                   <span class="zh-CN">字节数组的起始下标</span>
-     * @param byteOrder  <span class="en-US">Byte order type</span>
-     *                   <span class="zh-CN">大端/小端</span>
      * @param dataLength <span class="en-US">Data bytes length</span>
-     *                   <span class="zh-CN">读取的数据长度</span>
-     * @return <span class="en-US">Read value</span>
-     * <span class="zh-CN">读取的数值</span>
+     *                   <span class="zh-CN">数据长度</span>
      * @throws DataInvalidException <span class="en-US">If array index out of bounds</span>
      *                              <span class="zh-CN">如果数组下标越界</span>
      */
-    private static Object readNumber(final byte[] dataBytes, final int position, final ByteOrder byteOrder,
-                                     final int dataLength) throws DataInvalidException {
-        if (dataBytes.length < (position + dataLength)) {
+    private static void checkIndex(final byte[] dataBytes, final int position, final int dataLength)
+            throws DataInvalidException {
+        if (dataBytes == null || position < 0) {
+            throw new DataInvalidException(0x000000FF0001L, "Parameter_Invalid_Error");
+        }
+        if (dataBytes.length - dataLength < position) {
             throw new DataInvalidException(0x000000130001L, "Out_Of_Index_Raw_Error",
-                    dataBytes.length, position, 8);
+                    dataBytes.length, position, dataLength);
         }
-        final ByteBuffer byteBuffer = initBuffer(dataBytes, position, dataLength, byteOrder);
-        switch (dataLength) {
-            case 2:
-                return byteBuffer.getShort();
-            case 4:
-                return byteBuffer.getInt();
-            case 8:
-                return byteBuffer.getLong();
-            default:
-                throw new DataInvalidException(0x000000130006L, "Data_Size_Unknown_Raw_Error");
+    }
+
+    /**
+     * <h3 class="en-US">Read short value by array view handle, without bounds check wrapping</h3>
+     * <h3 class="zh-CN">使用数组视图句柄读取short数值，不进行额外的越界检查封装</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @param position  <span class="en-US">Begin position of data bytes</span>
+     *                  <span class="zh-CN">字节数组的起始下标</span>
+     * @param bigEndian <span class="en-US">Big endian byte order</span>
+     *                  <span class="zh-CN">是否为大端字节序</span>
+     * @return <span class="en-US">Read value</span>
+     * <span class="zh-CN">读取的数值</span>
+     */
+    private static short readShortValue(final byte[] dataBytes, final int position, final boolean bigEndian) {
+        return bigEndian ? (short) SHORT_BIG_ENDIAN.get(dataBytes, position)
+                : (short) SHORT_LITTLE_ENDIAN.get(dataBytes, position);
+    }
+
+    /**
+     * <h3 class="en-US">Read int value by array view handle</h3>
+     * <h3 class="zh-CN">使用数组视图句柄读取int数值</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @param position  <span class="en-US">Begin position of data bytes</span>
+     *                  <span class="zh-CN">字节数组的起始下标</span>
+     * @param bigEndian <span class="en-US">Big endian byte order</span>
+     *                  <span class="zh-CN">是否为大端字节序</span>
+     * @return <span class="en-US">Read value</span>
+     * <span class="zh-CN">读取的数值</span>
+     */
+    private static int readIntValue(final byte[] dataBytes, final int position, final boolean bigEndian) {
+        return bigEndian ? (int) INT_BIG_ENDIAN.get(dataBytes, position)
+                : (int) INT_LITTLE_ENDIAN.get(dataBytes, position);
+    }
+
+    /**
+     * <h3 class="en-US">Read long value by array view handle</h3>
+     * <h3 class="zh-CN">使用数组视图句柄读取long数值</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @param position  <span class="en-US">Begin position of data bytes</span>
+     *                  <span class="zh-CN">字节数组的起始下标</span>
+     * @param bigEndian <span class="en-US">Big endian byte order</span>
+     *                  <span class="zh-CN">是否为大端字节序</span>
+     * @return <span class="en-US">Read value</span>
+     * <span class="zh-CN">读取的数值</span>
+     */
+    private static long readLongValue(final byte[] dataBytes, final int position, final boolean bigEndian) {
+        return bigEndian ? (long) LONG_BIG_ENDIAN.get(dataBytes, position)
+                : (long) LONG_LITTLE_ENDIAN.get(dataBytes, position);
+    }
+
+    /**
+     * <h3 class="en-US">Write short value by array view handle</h3>
+     * <h3 class="zh-CN">使用数组视图句柄写入short数值</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @param position  <span class="en-US">Begin position of data bytes</span>
+     *                  <span class="zh-CN">字节数组的起始下标</span>
+     * @param bigEndian <span class="en-US">Big endian byte order</span>
+     *                  <span class="zh-CN">是否为大端字节序</span>
+     * @param value     <span class="en-US">Write value</span>
+     *                  <span class="zh-CN">写入的数据</span>
+     */
+    private static void writeShortValue(final byte[] dataBytes, final int position, final boolean bigEndian,
+                                        final short value) {
+        if (bigEndian) {
+            SHORT_BIG_ENDIAN.set(dataBytes, position, value);
+        } else {
+            SHORT_LITTLE_ENDIAN.set(dataBytes, position, value);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write int value by array view handle</h3>
+     * <h3 class="zh-CN">使用数组视图句柄写入int数值</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @param position  <span class="en-US">Begin position of data bytes</span>
+     *                  <span class="zh-CN">字节数组的起始下标</span>
+     * @param bigEndian <span class="en-US">Big endian byte order</span>
+     *                  <span class="zh-CN">是否为大端字节序</span>
+     * @param value     <span class="en-US">Write value</span>
+     *                  <span class="zh-CN">写入的数据</span>
+     */
+    private static void writeIntValue(final byte[] dataBytes, final int position, final boolean bigEndian,
+                                      final int value) {
+        if (bigEndian) {
+            INT_BIG_ENDIAN.set(dataBytes, position, value);
+        } else {
+            INT_LITTLE_ENDIAN.set(dataBytes, position, value);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write long value by array view handle</h3>
+     * <h3 class="zh-CN">使用数组视图句柄写入long数值</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary data bytes</span>
+     *                  <span class="zh-CN">二进制字节数组</span>
+     * @param position  <span class="en-US">Begin position of data bytes</span>
+     *                  <span class="zh-CN">字节数组的起始下标</span>
+     * @param bigEndian <span class="en-US">Big endian byte order</span>
+     *                  <span class="zh-CN">是否为大端字节序</span>
+     * @param value     <span class="en-US">Write value</span>
+     *                  <span class="zh-CN">写入的数据</span>
+     */
+    private static void writeLongValue(final byte[] dataBytes, final int position, final boolean bigEndian,
+                                       final long value) {
+        if (bigEndian) {
+            LONG_BIG_ENDIAN.set(dataBytes, position, value);
+        } else {
+            LONG_LITTLE_ENDIAN.set(dataBytes, position, value);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Cursor reader</h2>
+     * <span class="en-US">
+     *     Sequential field reader over binary data bytes, reading values from current position and moving forward.
+     *     Reader does not allocate on primitive reads, read out of range will throw IndexOutOfBoundsException.
+     *     Reader instance is not thread safe.
+     * </span>
+     * <h2 class="zh-CN">游标读取器</h2>
+     * <span class="zh-CN">
+     *     在二进制字节数组上顺序读取字段，从当前位置读取数据并向后移动。
+     *     读取基本类型时不会分配对象，越界读取时抛出IndexOutOfBoundsException。读取器实例非线程安全。
+     * </span>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:26:41 $
+     */
+    public static final class Reader {
+        /**
+         * <span class="en-US">Binary data bytes</span>
+         * <span class="zh-CN">二进制字节数组</span>
+         */
+        private final byte[] dataBytes;
+        /**
+         * <span class="en-US">Begin offset of data bytes</span>
+         * <span class="zh-CN">字节数组的起始偏移量</span>
+         */
+        private final int offset;
+        /**
+         * <span class="en-US">End offset of data bytes (exclusive)</span>
+         * <span class="zh-CN">字节数组的结束偏移量（不包含）</span>
+         */
+        private final int limit;
+        /**
+         * <span class="en-US">Current absolute index</span>
+         * <span class="zh-CN">当前的绝对下标</span>
+         */
+        private int index;
+        /**
+         * <span class="en-US">Big endian byte order</span>
+         * <span class="zh-CN">是否为大端字节序</span>
+         */
+        private boolean bigEndian;
+
+        /**
+         * <h3 class="en-US">Private constructor for Reader</h3>
+         * <h3 class="zh-CN">游标读取器的私有构造方法</h3>
+         *
+         * @param dataBytes <span class="en-US">Binary data bytes</span>
+         *                  <span class="zh-CN">二进制字节数组</span>
+         * @param offset    <span class="en-US">Begin offset of data bytes</span>
+         *                  <span class="zh-CN">字节数组的起始偏移量</span>
+         * @param limit     <span class="en-US">End offset of data bytes (exclusive)</span>
+         *                  <span class="zh-CN">字节数组的结束偏移量（不包含）</span>
+         * @param byteOrder <span class="en-US">Byte order type</span>
+         *                  <span class="zh-CN">大端/小端</span>
+         */
+        private Reader(final byte[] dataBytes, final int offset, final int limit, final ByteOrder byteOrder) {
+            this.dataBytes = dataBytes;
+            this.offset = offset;
+            this.limit = limit;
+            this.index = offset;
+            this.bigEndian = ByteOrder.BIG_ENDIAN.equals(byteOrder);
+        }
+
+        /**
+         * <h3 class="en-US">Change byte order for following reads</h3>
+         * <h3 class="zh-CN">修改后续读取使用的字节序</h3>
+         *
+         * @param byteOrder <span class="en-US">Byte order type</span>
+         *                  <span class="zh-CN">大端/小端</span>
+         * @return <span class="en-US">Current reader instance</span>
+         * <span class="zh-CN">当前读取器实例对象</span>
+         */
+        public Reader order(final ByteOrder byteOrder) {
+            this.bigEndian = ByteOrder.BIG_ENDIAN.equals(byteOrder);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve current position</h3>
+         * <h3 class="zh-CN">获取当前位置</h3>
+         *
+         * @return <span class="en-US">Current position, relative to begin offset</span>
+         * <span class="zh-CN">相对于起始偏移量的当前位置</span>
+         */
+        public int position() {
+            return this.index - this.offset;
+        }
+
+        /**
+         * <h3 class="en-US">Move to given position</h3>
+         * <h3 class="zh-CN">移动到给定的位置</h3>
+         *
+         * @param position <span class="en-US">New position, relative to begin offset</span>
+         *                 <span class="zh-CN">相对于起始偏移量的新位置</span>
+         * @return <span class="en-US">Current reader instance</span>
+         * <span class="zh-CN">当前读取器实例对象</span>
+         * @throws IndexOutOfBoundsException <span class="en-US">If position is out of range</span>
+         *                                   <span class="zh-CN">如果位置超出范围</span>
+         */
+        public Reader position(final int position) {
+            this.index = this.offset + Objects.checkIndex(position, this.limit - this.offset + 1);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve remaining data length</h3>
+         * <h3 class="zh-CN">获取剩余的数据长度</h3>
+         *
+         * @return <span class="en-US">Remaining data length</span>
+         * <span class="zh-CN">剩余的数据长度</span>
+         */
+        public int remaining() {
+            return this.limit - this.index;
+        }
+
+        /**
+         * <h3 class="en-US">Skip given length of data</h3>
+         * <h3 class="zh-CN">跳过给定长度的数据</h3>
+         *
+         * @param length <span class="en-US">Skip length</span>
+         *               <span class="zh-CN">跳过的长度</span>
+         * @return <span class="en-US">Current reader instance</span>
+         * <span class="zh-CN">当前读取器实例对象</span>
+         * @throws IndexOutOfBoundsException <span class="en-US">If not enough data remaining</span>
+         *                                   <span class="zh-CN">如果剩余数据不足</span>
+         */
+        public Reader skip(final int length) {
+            this.index = this.next(length) + length;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Read byte value</h3>
+         * <h3 class="zh-CN">读取byte数值</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public byte readByte() {
+            int current = this.next(Byte.BYTES);
+            this.index = current + Byte.BYTES;
+            return this.dataBytes[current];
+        }
+
+        /**
+         * <h3 class="en-US">Read unsigned byte value</h3>
+         * <h3 class="zh-CN">读取无符号byte数值</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public int readUnsignedByte() {
+            return this.readByte() & 0xFF;
+        }
+
+        /**
+         * <h3 class="en-US">Read boolean value</h3>
+         * <h3 class="zh-CN">读取boolean数值</h3>
+         *
+         * @return <span class="en-US"><code>true</code> If value is 1 or <code>false</code> for otherwise</span>
+         * <span class="zh-CN">如果读取的数据为数字1则返回<code>true</code>，其他情况返回<code>false</code></span>
+         */
+        public boolean readBoolean() {
+            return this.readByte() == Globals.DEFAULT_STATUS_TRUE;
+        }
+
+        /**
+         * <h3 class="en-US">Read short value</h3>
+         * <h3 class="zh-CN">读取short数值</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public short readShort() {
+            int current = this.next(Short.BYTES);
+            this.index = current + Short.BYTES;
+            return readShortValue(this.dataBytes, current, this.bigEndian);
+        }
+
+        /**
+         * <h3 class="en-US">Read unsigned short value</h3>
+         * <h3 class="zh-CN">读取无符号short数值</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public int readUnsignedShort() {
+            return Short.toUnsignedInt(this.readShort());
+        }
+
+        /**
+         * <h3 class="en-US">Read int value</h3>
+         * <h3 class="zh-CN">读取int数值</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public int readInt() {
+            int current = this.next(Integer.BYTES);
+            this.index = current + Integer.BYTES;
+            return readIntValue(this.dataBytes, current, this.bigEndian);
+        }
+
+        /**
+         * <h3 class="en-US">Read unsigned int value</h3>
+         * <h3 class="zh-CN">读取无符号int数值</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public long readUnsignedInt() {
+            return Integer.toUnsignedLong(this.readInt());
+        }
+
+        /**
+         * <h3 class="en-US">Read long value</h3>
+         * <h3 class="zh-CN">读取long数值</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public long readLong() {
+            int current = this.next(Long.BYTES);
+            this.index = current + Long.BYTES;
+            return readLongValue(this.dataBytes, current, this.bigEndian);
+        }
+
+        /**
+         * <h3 class="en-US">Read unsigned varint value (LEB128), at most 10 bytes</h3>
+         * <h3 class="zh-CN">读取无符号变长整数（LEB128），最多10个字节</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         * @throws IllegalArgumentException <span class="en-US">If varint data is malformed</span>
+         *                                  <span class="zh-CN">如果变长整数数据格式错误</span>
+         */
+        public long readVarLong() {
+            long value = 0L;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte current = this.readByte();
+                value |= (long) (current & 0x7F) << shift;
+                if (current >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint data at position: " + this.position());
+        }
+
+        /**
+         * <h3 class="en-US">Read unsigned varint value (LEB128) as int</h3>
+         * <h3 class="zh-CN">以int类型读取无符号变长整数（LEB128）</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         * @throws IllegalArgumentException <span class="en-US">If varint data is malformed or overflow int</span>
+         *                                  <span class="zh-CN">如果变长整数数据格式错误或超出int范围</span>
+         */
+        public int readVarInt() {
+            long value = this.readVarLong();
+            if ((value >>> Integer.SIZE) != 0L) {
+                throw new IllegalArgumentException("Varint value overflow int at position: " + this.position());
+            }
+            return (int) value;
+        }
+
+        /**
+         * <h3 class="en-US">Read ZigZag encoded signed varint value as int</h3>
+         * <h3 class="zh-CN">以int类型读取ZigZag编码的有符号变长整数</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public int readZigZagInt() {
+            return decodeZigZag(this.readVarInt());
+        }
+
+        /**
+         * <h3 class="en-US">Read ZigZag encoded signed varint value as long</h3>
+         * <h3 class="zh-CN">以long类型读取ZigZag编码的有符号变长整数</h3>
+         *
+         * @return <span class="en-US">Read value</span>
+         * <span class="zh-CN">读取的数值</span>
+         */
+        public long readZigZagLong() {
+            return decodeZigZag(this.readVarLong());
+        }
+
+        /**
+         * <h3 class="en-US">Read given length of data bytes</h3>
+         * <h3 class="zh-CN">读取给定长度的字节数组</h3>
+         *
+         * @param length <span class="en-US">Read length</span>
+         *               <span class="zh-CN">读取的长度</span>
+         * @return <span class="en-US">Read data bytes</span>
+         * <span class="zh-CN">读取的字节数组</span>
+         */
+        public byte[] readBytes(final int length) {
+            //  Check remaining data before allocating, the length may come from untrusted data
+            int current = this.next(length);
+            byte[] readBytes = new byte[length];
+            System.arraycopy(this.dataBytes, current, readBytes, DEFAULT_INDEX, length);
+            this.index = current + length;
+            return readBytes;
+        }
+
+        /**
+         * <h3 class="en-US">Read data bytes into given array</h3>
+         * <h3 class="zh-CN">读取数据到给定的字节数组</h3>
+         *
+         * @param targetBytes <span class="en-US">Target data bytes</span>
+         *                    <span class="zh-CN">目标字节数组</span>
+         * @param position    <span class="en-US">Begin position of target data bytes</span>
+         *                    <span class="zh-CN">目标字节数组的起始下标</span>
+         * @param length      <span class="en-US">Read length</span>
+         *                    <span class="zh-CN">读取的长度</span>
+         */
+        public void readBytes(final byte[] targetBytes, final int position, final int length) {
+            int current = this.next(length);
+            System.arraycopy(this.dataBytes, current, targetBytes, position, length);
+            this.index = current + length;
+        }
+
+        /**
+         * <h3 class="en-US">Read string by given length and charset</h3>
+         * <h3 class="zh-CN">使用给定的长度和字符集读取字符串</h3>
+         *
+         * @param length  <span class="en-US">Read length</span>
+         *                <span class="zh-CN">读取的长度</span>
+         * @param charset <span class="en-US">Charset instance</span>
+         *                <span class="zh-CN">字符集实例对象</span>
+         * @return <span class="en-US">Read string</span>
+         * <span class="zh-CN">读取的字符串</span>
+         */
+        public String readString(final int length, final Charset charset) {
+            int current = this.next(length);
+            this.index = current + length;
+            return new String(this.dataBytes, current, length, charset);
+        }
+
+        /**
+         * <h3 class="en-US">Check remaining data is enough and return current index</h3>
+         * <h3 class="zh-CN">检查剩余数据是否足够并返回当前下标</h3>
+         *
+         * @param length <span class="en-US">Required length</span>
+         *               <span class="zh-CN">需要的长度</span>
+         * @return <span class="en-US">Current absolute index</span>
+         * <span class="zh-CN">当前的绝对下标</span>
+         */
+        private int next(final int length) {
+            Objects.checkFromIndexSize(this.index, length, this.limit);
+            return this.index;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Cursor writer</h2>
+     * <span class="en-US">
+     *     Sequential field writer, writing values at current position and moving forward.
+     *     Growable writer expands the internal data bytes when necessary,
+     *     fixed writer will throw IndexOutOfBoundsException when data bytes is full.
+     *     Writer instance is not thread safe.
+     * </span>
+     * <h2 class="zh-CN">游标写入器</h2>
+     * <span class="zh-CN">
+     *     顺序写入字段，在当前位置写入数据并向后移动。可扩容写入器在需要时扩展内部字节数组，
+     *     固定长度写入器在字节数组写满时抛出IndexOutOfBoundsException。写入器实例非线程安全。
+     * </span>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:31:17 $
+     */
+    public static final class Writer {
+        /**
+         * <span class="en-US">Binary data bytes</span>
+         * <span class="zh-CN">二进制字节数组</span>
+         */
+        private byte[] dataBytes;
+        /**
+         * <span class="en-US">Data bytes can expand</span>
+         * <span class="zh-CN">字节数组是否可以扩容</span>
+         */
+        private final boolean growable;
+        /**
+         * <span class="en-US">Current position</span>
+         * <span class="zh-CN">当前位置</span>
+         */
+        private int index;
+        /**
+         * <span class="en-US">Big endian byte order</span>
+         * <span class="zh-CN">是否为大端字节序</span>
+         */
+        private boolean bigEndian;
+
+        /**
+         * <h3 class="en-US">Private constructor for Writer</h3>
+         * <h3 class="zh-CN">游标写入器的私有构造方法</h3>
+         *
+         * @param dataBytes <span class="en-US">Binary data bytes</span>
+         *                  <span class="zh-CN">二进制字节数组</span>
+         * @param growable  <span class="en-US">Data bytes can expand</span>
+         *                  <span class="zh-CN">字节数组是否可以扩容</span>
+         * @param byteOrder <span class="en-US">Byte order type</span>
+         *                  <span class="zh-CN">大端/小端</span>
+         */
+        private Writer(final byte[] dataBytes, final boolean growable, final ByteOrder byteOrder) {
+            this.dataBytes = dataBytes;
+            this.growable = growable;
+            this.index = DEFAULT_INDEX;
+            this.bigEndian = ByteOrder.BIG_ENDIAN.equals(byteOrder);
+        }
+
+        /**
+         * <h3 class="en-US">Change byte order for following writes</h3>
+         * <h3 class="zh-CN">修改后续写入使用的字节序</h3>
+         *
+         * @param byteOrder <span class="en-US">Byte order type</span>
+         *                  <span class="zh-CN">大端/小端</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer order(final ByteOrder byteOrder) {
+            this.bigEndian = ByteOrder.BIG_ENDIAN.equals(byteOrder);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve written data length</h3>
+         * <h3 class="zh-CN">获取已写入的数据长度</h3>
+         *
+         * @return <span class="en-US">Written data length</span>
+         * <span class="zh-CN">已写入的数据长度</span>
+         */
+        public int size() {
+            return this.index;
+        }
+
+        /**
+         * <h3 class="en-US">Reset writer position, the data bytes will be reused</h3>
+         * <h3 class="zh-CN">重置写入器位置，字节数组将被重用</h3>
+         *
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer reset() {
+            this.index = DEFAULT_INDEX;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Write byte value</h3>
+         * <h3 class="zh-CN">写入byte数值</h3>
+         *
+         * @param value <span class="en-US">Write value</span>
+         *              <span class="zh-CN">写入的数据</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeByte(final int value) {
+            int current = this.next(Byte.BYTES);
+            this.dataBytes[current] = (byte) value;
+            this.index = current + Byte.BYTES;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Write boolean value</h3>
+         * <h3 class="zh-CN">写入boolean数值</h3>
+         *
+         * @param value <span class="en-US">Write value</span>
+         *              <span class="zh-CN">写入的数据</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeBoolean(final boolean value) {
+            return this.writeByte(value ? Globals.DEFAULT_STATUS_TRUE : Globals.DEFAULT_STATUS_FALSE);
+        }
+
+        /**
+         * <h3 class="en-US">Write short value, only the lowest 16 bits was written</h3>
+         * <h3 class="zh-CN">写入short数值，仅写入最低的16位</h3>
+         *
+         * @param value <span class="en-US">Write value</span>
+         *              <span class="zh-CN">写入的数据</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeShort(final int value) {
+            int current = this.next(Short.BYTES);
+            writeShortValue(this.dataBytes, current, this.bigEndian, (short) value);
+            this.index = current + Short.BYTES;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Write int value</h3>
+         * <h3 class="zh-CN">写入int数值</h3>
+         *
+         * @param value <span class="en-US">Write value</span>
+         *              <span class="zh-CN">写入的数据</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeInt(final int value) {
+            int current = this.next(Integer.BYTES);
+            writeIntValue(this.dataBytes, current, this.bigEndian, value);
+            this.index = current + Integer.BYTES;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Write long value</h3>
+         * <h3 class="zh-CN">写入long数值</h3>
+         *
+         * @param value <span class="en-US">Write value</span>
+         *              <span class="zh-CN">写入的数据</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeLong(final long value) {
+            int current = this.next(Long.BYTES);
+            writeLongValue(this.dataBytes, current, this.bigEndian, value);
+            this.index = current + Long.BYTES;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Write unsigned varint value (LEB128)</h3>
+         * <h3 class="zh-CN">写入无符号变长整数（LEB128）</h3>
+         *
+         * @param value <span class="en-US">Write value, treated as unsigned</span>
+         *              <span class="zh-CN">写入的数据，按无符号数处理</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeVarLong(final long value) {
+            int current = this.next(varIntLength(value));
+            long remain = value;
+            while ((remain & ~0x7FL) != 0L) {
+                this.dataBytes[current++] = (byte) ((remain & 0x7F) | 0x80);
+                remain >>>= 7;
+            }
+            this.dataBytes[current++] = (byte) remain;
+            this.index = current;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Write unsigned varint value (LEB128)</h3>
+         * <h3 class="zh-CN">写入无符号变长整数（LEB128）</h3>
+         *
+         * @param value <span class="en-US">Write value, treated as unsigned</span>
+         *              <span class="zh-CN">写入的数据，按无符号数处理</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeVarInt(final int value) {
+            return this.writeVarLong(Integer.toUnsignedLong(value));
+        }
+
+        /**
+         * <h3 class="en-US">Write signed int value as ZigZag encoded varint</h3>
+         * <h3 class="zh-CN">以ZigZag编码的变长整数写入有符号int数值</h3>
+         *
+         * @param value <span class="en-US">Write value</span>
+         *              <span class="zh-CN">写入的数据</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeZigZagInt(final int value) {
+            return this.writeVarInt(encodeZigZag(value));
+        }
+
+        /**
+         * <h3 class="en-US">Write signed long value as ZigZag encoded varint</h3>
+         * <h3 class="zh-CN">以ZigZag编码的变长整数写入有符号long数值</h3>
+         *
+         * @param value <span class="en-US">Write value</span>
+         *              <span class="zh-CN">写入的数据</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeZigZagLong(final long value) {
+            return this.writeVarLong(encodeZigZag(value));
+        }
+
+        /**
+         * <h3 class="en-US">Write data bytes</h3>
+         * <h3 class="zh-CN">写入字节数组</h3>
+         *
+         * @param bytes <span class="en-US">Write data bytes</span>
+         *              <span class="zh-CN">写入的字节数组</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeBytes(final byte[] bytes) {
+            return this.writeBytes(bytes, DEFAULT_INDEX, bytes.length);
+        }
+
+        /**
+         * <h3 class="en-US">Write given range of data bytes</h3>
+         * <h3 class="zh-CN">写入给定区间的字节数组</h3>
+         *
+         * @param bytes    <span class="en-US">Write data bytes</span>
+         *                 <span class="zh-CN">写入的字节数组</span>
+         * @param position <span class="en-US">Begin position of write data bytes</span>
+         *                 <span class="zh-CN">写入字节数组的起始下标</span>
+         * @param length   <span class="en-US">Write length</span>
+         *                 <span class="zh-CN">写入的长度</span>
+         * @return <span class="en-US">Current writer instance</span>
+         * <span class="zh-CN">当前写入器实例对象</span>
+         */
+        public Writer writeBytes(final byte[] bytes, final int position, final int length) {
+            int current = this.next(length);
+            System.arraycopy(bytes, position, this.dataBytes, current, length);
+            this.index = current + length;
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Copy written data bytes</h3>
+         * <h3 class="zh-CN">复制已写入的字节数组</h3>
+         *
+         * @return <span class="en-US">Written data bytes</span>
+         * <span class="zh-CN">已写入的字节数组</span>
+         */
+        public byte[] toByteArray() {
+            return Arrays.copyOf(this.dataBytes, this.index);
+        }
+
+        /**
+         * <h3 class="en-US">Write written data bytes to given output stream</h3>
+         * <h3 class="zh-CN">将已写入的字节数组写入给定的输出流</h3>
+         *
+         * @param outputStream <span class="en-US">Output stream instance</span>
+         *                     <span class="zh-CN">输出流实例对象</span>
+         * @return <span class="en-US">Written data length</span>
+         * <span class="zh-CN">写入的数据长度</span>
+         * @throws IOException <span class="en-US">If an I/O error occurs</span>
+         *                     <span class="zh-CN">如果出现I/O错误</span>
+         */
+        public int writeTo(final OutputStream outputStream) throws IOException {
+            outputStream.write(this.dataBytes, DEFAULT_INDEX, this.index);
+            return this.index;
+        }
+
+        /**
+         * <h3 class="en-US">Append written data bytes to given writer</h3>
+         * <h3 class="zh-CN">将已写入的字节数组追加到给定的写入器</h3>
+         *
+         * @param writer <span class="en-US">Target writer instance</span>
+         *               <span class="zh-CN">目标写入器实例对象</span>
+         * @return <span class="en-US">Written data length</span>
+         * <span class="zh-CN">写入的数据长度</span>
+         */
+        public int writeTo(final Writer writer) {
+            writer.writeBytes(this.dataBytes, DEFAULT_INDEX, this.index);
+            return this.index;
+        }
+
+        /**
+         * <h3 class="en-US">Put written data bytes to given byte buffer</h3>
+         * <h3 class="zh-CN">将已写入的字节数组放入给定的字节缓冲区</h3>
+         *
+         * @param byteBuffer <span class="en-US">Byte buffer instance</span>
+         *                   <span class="zh-CN">字节缓冲区实例对象</span>
+         * @return <span class="en-US">Written data length</span>
+         * <span class="zh-CN">写入的数据长度</span>
+         */
+        public int writeTo(final ByteBuffer byteBuffer) {
+            byteBuffer.put(this.dataBytes, DEFAULT_INDEX, this.index);
+            return this.index;
+        }
+
+        /**
+         * <h3 class="en-US">Ensure capacity for given length and return current position</h3>
+         * <h3 class="zh-CN">确保给定长度的容量并返回当前位置</h3>
+         *
+         * @param length <span class="en-US">Required length</span>
+         *               <span class="zh-CN">需要的长度</span>
+         * @return <span class="en-US">Current position</span>
+         * <span class="zh-CN">当前位置</span>
+         */
+        private int next(final int length) {
+            if (this.dataBytes.length - this.index < length && this.growable) {
+                int capacity = Math.max(this.dataBytes.length << 1, this.index + length);
+                this.dataBytes = Arrays.copyOf(this.dataBytes, capacity);
+            }
+            Objects.checkFromIndexSize(this.index, length, this.dataBytes.length);
+            return this.index;
         }
     }
 }
@@ -20,6 +20,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.ws.rs.*;
+import org.nervousync.beans.ip.IPAddress;
 import org.nervousync.beans.servlet.request.RequestAttribute;
 import org.nervousync.beans.servlet.request.RequestInfo;
 import org.nervousync.beans.servlet.response.ResponseInfo;
@@ -71,7 +72,7 @@ import java.util.function.Supplier;
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.1.4 $ $Date: May 13, 2014 15:36:52 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 11:12:08 $
  */
 public final class RequestUtils {
     /**
@@ -835,13 +836,28 @@ public final class RequestUtils {
         int index = clientIP.indexOf(',');
 
         if (index == -1) {
-            return clientIP;
+            return clientIP.trim();
         } else {
             //	使用了多级反向代理服务器
-            return clientIP.substring(0, index);
+            return clientIP.substring(0, index).trim();
         }
     }
 
+    /**
+     * <h3 class="en-US">Retrieve numeric client IP address from given request instance</h3>
+     * <span class="en-US">The result can be checked by CidrSet or IPRange without any string comparison</span>
+     * <h3 class="zh-CN">从请求实例对象中获取数值型客户端IP地址</h3>
+     * <span class="zh-CN">返回结果可以直接使用CidrSet或IPRange检查，无需进行字符串比较</span>
+     *
+     * @param request <span class="en-US">Request instance</span>
+     *                <span class="zh-CN">请求实例对象</span>
+     * @return <span class="en-US">Client IPAddress instance, or <code>null</code> if the client address is invalid</span>
+     * <span class="zh-CN">客户端IPAddress实例对象，如果客户端地址非法则返回<code>null</code></span>
+     */
+    public static IPAddress getClientAddress(final HttpServletRequest request) {
+        return IPUtils.IPToAddress(getClientIP(request));
+    }
+
     /**
      * <h3 class="en-US">Retrieve request uri string from request instance</h3>
      * <h3 class="zh-CN">从请求实例对象中获取uri字符串</h3>
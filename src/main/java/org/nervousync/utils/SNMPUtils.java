@@ -26,6 +26,7 @@ import org.nervousync.enumerations.snmp.auth.SNMPAuthProtocol;
 import org.nervousync.exceptions.snmp.ProcessorConfigException;
 import org.snmp4j.*;
 import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
 import org.snmp4j.mp.MPv3;
 import org.snmp4j.mp.SnmpConstants;
 import org.snmp4j.security.*;
@@ -34,19 +35,27 @@ import org.snmp4j.transport.DefaultTcpTransportMapping;
 import org.snmp4j.transport.DefaultUdpTransportMapping;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * <h2 class="en-US">SNMP utilities</h2>
+ * <span class="en-US">
+ *     Synchronous mode using one thread for each target host and blocking until response received.
+ *     Asynchronous mode send all requests by response listener, many requests in flight are multiplexed
+ *     over one transport, the collected data was dispatched to SNMPDataOperator in batches.
+ * </span>
  * <h2 class="zh-CN">SNMP工具集</h2>
+ * <span class="zh-CN">
+ *     同步模式为每个目标主机使用一个线程并阻塞等待响应。
+ *     异步模式通过响应监听器发送所有请求，多个进行中的请求复用同一个传输通道，采集的数据批量分发给SNMPDataOperator。
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Oct 25, 2017 20:50:34 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 23:58:14 $
  */
 public final class SNMPUtils {
     /**
@@ -69,11 +78,51 @@ public final class SNMPUtils {
      * <span class="zh-CN">TCP协议前缀</span>
      */
     private static final String PROTOCOL_TCP = "tcp:";
+    /**
+     * <span class="en-US">Thread count of schedule processor in asynchronous mode</span>
+     * <span class="zh-CN">异步模式下调度处理器的线程数</span>
+     */
+    private static final int ASYNC_THREAD_COUNT = 2;
+    /**
+     * <span class="en-US">Maximum requests in flight for each target host in asynchronous mode</span>
+     * <span class="zh-CN">异步模式下每个目标主机允许的最大进行中请求数</span>
+     */
+    private static final int MAX_TARGET_REQUESTS = 2;
+    /**
+     * <span class="en-US">Max repetitions of GETBULK request which converted from GETNEXT request</span>
+     * <span class="zh-CN">由GETNEXT请求转换的GETBULK请求的最大重复次数</span>
+     */
+    private static final int BULK_REPETITIONS = 10;
+    /**
+     * <span class="en-US">Maximum size of data list dispatched to SNMPDataOperator</span>
+     * <span class="zh-CN">分发给SNMPDataOperator的数据列表最大长度</span>
+     */
+    private static final int DISPATCH_BATCH_SIZE = 100;
+    /**
+     * <span class="en-US">Dispatch period time of collected data (Unit: milliseconds)</span>
+     * <span class="zh-CN">采集数据的分发间隔时间（单位：毫秒）</span>
+     */
+    private static final long DISPATCH_PERIOD = 100L;
+    /**
+     * <span class="en-US">Minimum value of adaptive timeout (Unit: milliseconds)</span>
+     * <span class="zh-CN">自适应超时时间的最小值（单位：毫秒）</span>
+     */
+    private static final long MIN_TIMEOUT = 100L;
     /**
      * <span class="en-US">Schedule process period time (Unit: milliseconds)</span>
      * <span class="zh-CN">调度处理的间隔时间（单位：毫秒）</span>
      */
     private final long period;
+    /**
+     * <span class="en-US">Asynchronous polling mode</span>
+     * <span class="zh-CN">异步轮询模式</span>
+     */
+    private final boolean asyncMode;
+    /**
+     * <span class="en-US">Collected data waiting for dispatch in asynchronous mode</span>
+     * <span class="zh-CN">异步模式下等待分发的采集数据</span>
+     */
+    private final Queue<PollingResult> pollingResults;
     /**
      * <span class="en-US">Registered target host list</span>
      * <span class="zh-CN">注册的目标主机列表</span>
@@ -103,13 +152,23 @@ public final class SNMPUtils {
      *                    <span class="zh-CN">允许注册目标主机的最大值</span>
      * @param period      <span class="en-US">Schedule process period time (Unit: milliseconds)</span>
      *                    <span class="zh-CN">调度处理的间隔时间（单位：毫秒）</span>
+     * @param asyncMode   <span class="en-US">Asynchronous polling mode</span>
+     *                    <span class="zh-CN">异步轮询模式</span>
      * @throws IOException <span class="en-US">If an error occurs when generate agent</span>
      *                     <span class="zh-CN">当创建客户端时出现异常</span>
      */
-    private SNMPUtils(final int serverCount, final long period) throws IOException {
+    private SNMPUtils(final int serverCount, final long period, final boolean asyncMode) throws IOException {
         this.period = Math.max(period, 1000L);
+        this.asyncMode = asyncMode;
+        this.pollingResults = new ConcurrentLinkedQueue<>();
         this.existsHosts = new ArrayList<>(serverCount);
-        this.scheduledExecutorService = Executors.newScheduledThreadPool(serverCount);
+        if (this.asyncMode) {
+            this.scheduledExecutorService = Executors.newScheduledThreadPool(ASYNC_THREAD_COUNT);
+            this.scheduledExecutorService.scheduleWithFixedDelay(this::dispatch,
+                    DISPATCH_PERIOD, DISPATCH_PERIOD, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduledExecutorService = Executors.newScheduledThreadPool(serverCount);
+        }
         this.udpAgent = new Snmp(new DefaultUdpTransportMapping());
         this.udpAgent.listen();
         this.tcpAgent = new Snmp(new DefaultTcpTransportMapping());
@@ -141,13 +200,39 @@ public final class SNMPUtils {
      * <span class="zh-CN">初始化结果</span>
      */
     public static boolean initialize(final int serverCount, final long period) {
+        return SNMPUtils.initialize(serverCount, period, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Initialize SNMP Utilities</h3>
+     * <span class="en-US">
+     *     Asynchronous mode using fixed thread count for any size of target host list,
+     *     the GETNEXT requests will be sent as GETBULK requests when SNMP version is v2c or v3,
+     *     the data of GETBULK response out of request OID subtree will be ignored.
+     * </span>
+     * <h3 class="zh-CN">初始化SNMP工具集</h3>
+     * <span class="zh-CN">
+     *     异步模式对于任意数量的目标主机都使用固定的线程数，当SNMP版本为v2c或v3时GETNEXT请求会以GETBULK请求发送，
+     *     GETBULK响应中超出请求OID子树的数据会被忽略。
+     * </span>
+     *
+     * @param serverCount <span class="en-US">Maximum size of registered server list</span>
+     *                    <span class="zh-CN">允许注册目标主机的最大值</span>
+     * @param period      <span class="en-US">Schedule process period time (Unit: milliseconds)</span>
+     *                    <span class="zh-CN">调度处理的间隔时间（单位：毫秒）</span>
+     * @param asyncMode   <span class="en-US">Asynchronous polling mode</span>
+     *                    <span class="zh-CN">异步轮询模式</span>
+     * @return <span class="en-US">Initialize result</span>
+     * <span class="zh-CN">初始化结果</span>
+     */
+    public static boolean initialize(final int serverCount, final long period, final boolean asyncMode) {
         if (SNMPUtils.INSTANCE != null) {
             return Boolean.TRUE;
         }
         try {
             synchronized (SNMPUtils.class) {
                 if (SNMPUtils.INSTANCE == null) {
-                    SNMPUtils.INSTANCE = new SNMPUtils(serverCount, period);
+                    SNMPUtils.INSTANCE = new SNMPUtils(serverCount, period, asyncMode);
                 }
             }
             return Boolean.TRUE;
@@ -193,10 +278,11 @@ public final class SNMPUtils {
         }
 
         try {
+            Runnable processor = this.asyncMode
+                    ? new PollingSession(identifiedKey, targetHost, snmpDataOperator, pduArray)
+                    : new SNMPProcessor(identifiedKey, targetHost, snmpDataOperator, pduArray);
             this.existsHosts.add(targetHost);
-            this.scheduledExecutorService.scheduleAtFixedRate(
-                    new SNMPProcessor(identifiedKey, targetHost, snmpDataOperator, pduArray),
-                    0L, this.period, TimeUnit.MILLISECONDS);
+            this.scheduledExecutorService.scheduleAtFixedRate(processor, 0L, this.period, TimeUnit.MILLISECONDS);
             return Boolean.TRUE;
         } catch (ProcessorConfigException e) {
             LOGGER.error("Add_Target_SNMP_Error");
@@ -217,6 +303,7 @@ public final class SNMPUtils {
     public static void destroy() throws IOException {
         if (INSTANCE != null) {
             INSTANCE.scheduledExecutorService.shutdownNow();
+            INSTANCE.dispatch();
             INSTANCE.tcpAgent.close();
             INSTANCE.tcpAgent = null;
             INSTANCE.udpAgent.close();
@@ -346,6 +433,356 @@ public final class SNMPUtils {
         }
     }
 
+    /**
+     * <h3 class="en-US">Dispatch collected data to SNMPDataOperator in batches</h3>
+     * <h3 class="zh-CN">批量分发采集数据到SNMPDataOperator</h3>
+     */
+    private void dispatch() {
+        Map<SNMPDataOperator, List<SNMPData>> dataMap = new LinkedHashMap<>();
+        PollingResult pollingResult;
+        while ((pollingResult = this.pollingResults.poll()) != null) {
+            dataMap.computeIfAbsent(pollingResult.snmpDataOperator, key -> new ArrayList<>())
+                    .add(pollingResult.snmpData);
+        }
+        dataMap.forEach((snmpDataOperator, dataList) -> {
+            for (int i = 0; i < dataList.size(); i += DISPATCH_BATCH_SIZE) {
+                try {
+                    snmpDataOperator.operateBatch(
+                            dataList.subList(i, Math.min(i + DISPATCH_BATCH_SIZE, dataList.size())));
+                } catch (Exception e) {
+                    LOGGER.error("Dispatch_Data_SNMP_Error");
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Stack_Message_Error", e);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * <h2 class="en-US">Collected data of asynchronous polling</h2>
+     * <h2 class="zh-CN">异步轮询的采集数据</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:58:14 $
+     */
+    private static final class PollingResult {
+        /**
+         * <span class="en-US">SNMP data operator instance</span>
+         * <span class="zh-CN">SNMP数据操作器实例对象</span>
+         */
+        private final SNMPDataOperator snmpDataOperator;
+        /**
+         * <span class="en-US">Collected data instance</span>
+         * <span class="zh-CN">采集数据实例对象</span>
+         */
+        private final SNMPData snmpData;
+
+        /**
+         * <h3 class="en-US">Private constructor for PollingResult</h3>
+         * <h3 class="zh-CN">异步轮询的采集数据的私有构造方法</h3>
+         *
+         * @param snmpDataOperator <span class="en-US">SNMP data operator instance</span>
+         *                         <span class="zh-CN">SNMP数据操作器实例对象</span>
+         * @param snmpData         <span class="en-US">Collected data instance</span>
+         *                         <span class="zh-CN">采集数据实例对象</span>
+         */
+        private PollingResult(final SNMPDataOperator snmpDataOperator, final SNMPData snmpData) {
+            this.snmpDataOperator = snmpDataOperator;
+            this.snmpData = snmpData;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Asynchronous SNMP polling session</h2>
+     * <span class="en-US">
+     *     The polling round is skipped if the previous round of current target host was not finished,
+     *     so an unreachable target host never stall the schedule processor.
+     *     The request timeout was adapted by smoothed round trip time, and doubled when request timed out,
+     *     the maximum value is the timeout of target host.
+     * </span>
+     * <h2 class="zh-CN">异步SNMP轮询会话</h2>
+     * <span class="zh-CN">
+     *     如果当前目标主机的上一轮轮询未完成，则跳过本轮轮询，所以无法访问的目标主机不会阻塞调度处理器。
+     *     请求超时时间根据平滑往返时间调整，请求超时时加倍，最大值为目标主机的超时时间。
+     * </span>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:58:14 $
+     */
+    private final class PollingSession implements Runnable, ResponseListener {
+        /**
+         * <span class="en-US">Identify key of target host</span>
+         * <span class="zh-CN">目标主机的唯一标识字符串</span>
+         */
+        private final String identifiedKey;
+        /**
+         * <span class="en-US">SNMP agent of target host protocol</span>
+         * <span class="zh-CN">目标主机协议对应的SNMP客户端</span>
+         */
+        private final Snmp agent;
+        /**
+         * <span class="en-US">Target host instance</span>
+         * <span class="zh-CN">目标主机实例对象</span>
+         */
+        private final Target<Address> target;
+        /**
+         * <span class="en-US">Merged PDU instance array</span>
+         * <span class="zh-CN">合并后的协议数据单元实例对象数组</span>
+         */
+        private final PDU[] pduArray;
+        /**
+         * <span class="en-US">SNMP data operator instance</span>
+         * <span class="zh-CN">SNMP数据操作器实例对象</span>
+         */
+        private final SNMPDataOperator snmpDataOperator;
+        /**
+         * <span class="en-US">Maximum timeout (Unit: milliseconds)</span>
+         * <span class="zh-CN">最大超时时间（单位：毫秒）</span>
+         */
+        private final long maxTimeout;
+        /**
+         * <span class="en-US">Current polling round is not finished</span>
+         * <span class="zh-CN">当前轮询未完成</span>
+         */
+        private boolean polling = Boolean.FALSE;
+        /**
+         * <span class="en-US">Index of next PDU to send</span>
+         * <span class="zh-CN">下一个待发送协议数据单元的索引</span>
+         */
+        private int nextIndex = Globals.INITIALIZE_INT_VALUE;
+        /**
+         * <span class="en-US">Count of requests in flight</span>
+         * <span class="zh-CN">进行中的请求数</span>
+         */
+        private int requestCount = Globals.INITIALIZE_INT_VALUE;
+        /**
+         * <span class="en-US">Collected data of current polling round</span>
+         * <span class="zh-CN">当前轮询的采集数据</span>
+         */
+        private SNMPData snmpData = null;
+        /**
+         * <span class="en-US">Smoothed round trip time (Unit: milliseconds)</span>
+         * <span class="zh-CN">平滑往返时间（单位：毫秒）</span>
+         */
+        private long smoothedTime = Globals.DEFAULT_VALUE_LONG;
+        /**
+         * <span class="en-US">Round trip time variation (Unit: milliseconds)</span>
+         * <span class="zh-CN">往返时间偏差（单位：毫秒）</span>
+         */
+        private long timeVariation = Globals.INITIALIZE_INT_VALUE;
+        /**
+         * <span class="en-US">Current adaptive timeout (Unit: milliseconds)</span>
+         * <span class="zh-CN">当前自适应超时时间（单位：毫秒）</span>
+         */
+        private long timeout;
+
+        /**
+         * <h3 class="en-US">Private constructor for PollingSession</h3>
+         * <h3 class="zh-CN">异步SNMP轮询会话的私有构造方法</h3>
+         *
+         * @param identifiedKey    <span class="en-US">Identify key of target host</span>
+         *                         <span class="zh-CN">目标主机的唯一标识字符串</span>
+         * @param targetHost       <span class="en-US">Target host instance</span>
+         *                         <span class="zh-CN">目标主机实例对象</span>
+         * @param snmpDataOperator <span class="en-US">SNMP data operator instance</span>
+         *                         <span class="zh-CN">SNMP数据操作器实例对象</span>
+         * @param pduArray         <span class="en-US">PDU instance array</span>
+         *                         <span class="zh-CN">协议数据单元实例对象数组</span>
+         * @throws ProcessorConfigException the processor config exception
+         */
+        private PollingSession(final String identifiedKey, final TargetHost targetHost,
+                               final SNMPDataOperator snmpDataOperator, final PDU... pduArray)
+                throws ProcessorConfigException {
+            if (identifiedKey == null || targetHost == null || pduArray == null
+                    || pduArray.length == 0 || snmpDataOperator == null) {
+                throw new ProcessorConfigException(0x000000FF0001L, "Parameter_Invalid_Error");
+            }
+            this.identifiedKey = identifiedKey;
+            this.agent = IPProtocol.TCP.equals(targetHost.getProtocol()) ? tcpAgent : udpAgent;
+            this.target = generateTarget(targetHost);
+            this.pduArray = mergePDU(targetHost.getVersion(), pduArray);
+            this.snmpDataOperator = snmpDataOperator;
+            this.maxTimeout = Math.max(targetHost.getTimeOut(), MIN_TIMEOUT);
+            this.timeout = this.maxTimeout;
+        }
+
+        /**
+         * (Non-Javadoc)
+         *
+         * @see Runnable#run()
+         */
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (this.polling) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Polling_Skip_SNMP_Debug", this.identifiedKey);
+                    }
+                    return;
+                }
+                this.polling = Boolean.TRUE;
+                this.nextIndex = Globals.INITIALIZE_INT_VALUE;
+                this.requestCount = Globals.INITIALIZE_INT_VALUE;
+                this.snmpData = new SNMPData();
+                this.snmpData.setIdentifiedKey(this.identifiedKey);
+                this.sendRequests();
+            }
+        }
+
+        /**
+         * (Non-Javadoc)
+         *
+         * @see ResponseListener#onResponse(ResponseEvent)
+         */
+        @Override
+        public <A extends Address> void onResponse(final ResponseEvent<A> responseEvent) {
+            //  Cancel the pending request, otherwise the request will be retried
+            ((Snmp) responseEvent.getSource()).cancel(responseEvent.getRequest(), this);
+            synchronized (this) {
+                this.requestCount--;
+                PDU response = responseEvent.getResponse();
+                if (response == null) {
+                    this.timeout = Math.min(this.timeout * 2, this.maxTimeout);
+                } else {
+                    this.sample(TimeUnit.NANOSECONDS.toMillis(
+                            System.nanoTime() - (Long) responseEvent.getUserObject()));
+                    if (response.getErrorIndex() == PDU.noError && response.getErrorStatus() == PDU.noError) {
+                        this.collect(responseEvent.getRequest(), response);
+                    }
+                }
+                this.sendRequests();
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Send PDU requests until reach the maximum requests in flight</h3>
+         * <span class="en-US">Collected data was submitted to dispatch queue when all requests were finished</span>
+         * <h3 class="zh-CN">发送协议数据单元请求直到达到最大进行中请求数</h3>
+         * <span class="zh-CN">所有请求完成后采集数据被提交到分发队列</span>
+         */
+        private void sendRequests() {
+            while (this.requestCount < MAX_TARGET_REQUESTS && this.nextIndex < this.pduArray.length) {
+                //  Send copied PDU, so the request identify was generated for each request
+                PDU request = (PDU) this.pduArray[this.nextIndex++].clone();
+                this.requestCount++;
+                this.target.setTimeout(this.timeout);
+                try {
+                    this.agent.send(request, this.target, System.nanoTime(), this);
+                } catch (IOException e) {
+                    this.requestCount--;
+                    LOGGER.error("Retrieve_Data_SNMP_Error");
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Stack_Message_Error", e);
+                    }
+                }
+            }
+            if (this.polling && this.requestCount == 0 && this.nextIndex >= this.pduArray.length) {
+                pollingResults.add(new PollingResult(this.snmpDataOperator, this.snmpData));
+                this.snmpData = null;
+                this.polling = Boolean.FALSE;
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Update adaptive timeout by round trip time</h3>
+         * <h3 class="zh-CN">根据往返时间更新自适应超时时间</h3>
+         *
+         * @param roundTripTime <span class="en-US">Round trip time (Unit: milliseconds)</span>
+         *                      <span class="zh-CN">往返时间（单位：毫秒）</span>
+         */
+        private void sample(final long roundTripTime) {
+            if (this.smoothedTime < 0L) {
+                this.smoothedTime = roundTripTime;
+                this.timeVariation = roundTripTime / 2;
+            } else {
+                this.timeVariation = (3 * this.timeVariation + Math.abs(this.smoothedTime - roundTripTime)) / 4;
+                this.smoothedTime = (7 * this.smoothedTime + roundTripTime) / 8;
+            }
+            this.timeout = Math.min(Math.max(this.smoothedTime + 4 * this.timeVariation, MIN_TIMEOUT),
+                    this.maxTimeout);
+        }
+
+        /**
+         * <h3 class="en-US">Collect variable bindings of response</h3>
+         * <span class="en-US">
+         *     For GETBULK response, the first repetition was always collected as the GETNEXT result,
+         *     the following repetitions were collected only if the bindings were in the subtree of request OID
+         * </span>
+         * <h3 class="zh-CN">收集响应中的变量绑定</h3>
+         * <span class="zh-CN">对于GETBULK响应，第一次重复作为GETNEXT结果总是被收集，后续重复仅收集请求OID子树中的变量绑定</span>
+         *
+         * @param request  <span class="en-US">Request PDU instance</span>
+         *                 <span class="zh-CN">请求协议数据单元实例对象</span>
+         * @param response <span class="en-US">Response PDU instance</span>
+         *                 <span class="zh-CN">响应协议数据单元实例对象</span>
+         */
+        private void collect(final PDU request, final PDU response) {
+            if (request.getType() != PDU.GETBULK) {
+                response.getVariableBindings().forEach(this.snmpData::addData);
+                return;
+            }
+            List<? extends VariableBinding> requestBindings = request.getVariableBindings();
+            List<? extends VariableBinding> responseBindings = response.getVariableBindings();
+            for (int i = 0; i < responseBindings.size(); i++) {
+                VariableBinding variableBinding = responseBindings.get(i);
+                //  The first repetition is the GETNEXT result, it may leave the subtree of request OID
+                if (i < requestBindings.size()
+                        || (!variableBinding.isException() && variableBinding.getOid()
+                        .startsWith(requestBindings.get(i % requestBindings.size()).getOid()))) {
+                    this.snmpData.addData(variableBinding);
+                }
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Merge PDU instance array for asynchronous polling</h3>
+     * <span class="en-US">
+     *     When SNMP version is v2c or v3, all GET requests were merged into one request,
+     *     and GETNEXT requests were converted to GETBULK requests.
+     * </span>
+     * <h3 class="zh-CN">为异步轮询合并协议数据单元实例对象数组</h3>
+     * <span class="zh-CN">当SNMP版本为v2c或v3时，所有GET请求合并为一个请求，GETNEXT请求转换为GETBULK请求</span>
+     *
+     * @param version  <span class="en-US">SNMP version</span>
+     *                 <span class="zh-CN">SNMP版本</span>
+     * @param pduArray <span class="en-US">PDU instance array</span>
+     *                 <span class="zh-CN">协议数据单元实例对象数组</span>
+     * @return <span class="en-US">Merged PDU instance array</span>
+     * <span class="zh-CN">合并后的协议数据单元实例对象数组</span>
+     */
+    private static PDU[] mergePDU(final SNMPVersion version, final PDU... pduArray) {
+        if (SNMPVersion.VERSION1.equals(version)) {
+            return pduArray;
+        }
+        List<PDU> pduList = new ArrayList<>();
+        PDU getPDU = null;
+        for (PDU pdu : pduArray) {
+            switch (pdu.getType()) {
+                case PDU.GET:
+                    if (getPDU == null) {
+                        getPDU = (PDU) pdu.clone();
+                        pduList.add(getPDU);
+                    } else {
+                        getPDU.addAll(pdu.getVariableBindings());
+                    }
+                    break;
+                case PDU.GETNEXT:
+                    PDU bulkPDU = (PDU) pdu.clone();
+                    bulkPDU.setType(PDU.GETBULK);
+                    bulkPDU.setNonRepeaters(0);
+                    bulkPDU.setMaxRepetitions(BULK_REPETITIONS);
+                    pduList.add(bulkPDU);
+                    break;
+                default:
+                    pduList.add(pdu);
+                    break;
+            }
+        }
+        return pduList.toArray(new PDU[0]);
+    }
+
     /**
      * <h3 class="en-US">Retrieve authenticate protocol OID instance</h3>
      * <h3 class="zh-CN">SNMP处理器线程的私有构造方法</h3>
@@ -33,9 +33,13 @@ import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import jakarta.xml.bind.Unmarshaller;
 import org.nervousync.annotations.beans.OutputConfig;
+import org.nervousync.beans.core.BinaryCodec;
 import org.nervousync.beans.transfer.cdata.CDataAdapter;
 import org.nervousync.commons.Globals;
 import org.nervousync.commons.RegexGlobals;
+import org.nervousync.commons.codec.TextCodec;
+import org.nervousync.exceptions.utils.DataInvalidException;
+import org.nervousync.tree.huffman.HuffmanCodec;
 import org.nervousync.tree.huffman.HuffmanTree;
 import org.w3c.dom.Document;
 import org.w3c.dom.ls.LSInput;
@@ -67,8 +71,11 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">String utilities</h2>
@@ -99,7 +106,7 @@ import java.util.regex.Pattern;
  * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.2.0 $ $Date: Jan 13, 2010 15:53:41 $
+ * @version $Revision: 1.2.1 $ $Date: Oct 19, 2026 01:12:08 $
  */
 public final class StringUtils {
     /**
@@ -117,26 +124,6 @@ public final class StringUtils {
      * <span class="zh-CN">当前目录路径</span>
      */
     private static final String CURRENT_PATH = ".";
-    /**
-     * <span class="en-US">Mask bytes using for convert number to unsigned number</span>
-     * <span class="zh-CN">掩码字节用于转换数字为无符号整形</span>
-     */
-    private static final int MASK_BYTE_UNSIGNED = 0xFF;
-    /**
-     * <span class="en-US">Padding byte of Base32/Base64</span>
-     * <span class="zh-CN">Base32/Base64的填充字节</span>
-     */
-    private static final int PADDING = '=';
-    /**
-     * <span class="en-US">Character string for Base32</span>
-     * <span class="zh-CN">Base32用到的字符</span>
-     */
-    private static final String BASE32 = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
-    /**
-     * <span class="en-US">Character string for Base64</span>
-     * <span class="zh-CN">Base64用到的字符</span>
-     */
-    private static final String BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
     /**
      * <span class="en-US">Character string for authenticate code</span>
      * <span class="zh-CN">验证码用到的字符</span>
@@ -167,6 +154,16 @@ public final class StringUtils {
      * <span class="zh-CN">注册的约束文档与资源文件的映射</span>
      */
     private static final Map<String, String> SCHEMA_MAPPING = new HashMap<>();
+    /**
+     * <span class="en-US">Maximum count of compiled regular expressions kept in cache</span>
+     * <span class="zh-CN">缓存中保留的已编译正则表达式的最大数量</span>
+     */
+    private static final int PATTERN_CACHE_SIZE = 512;
+    /**
+     * <span class="en-US">Cache of compiled regular expressions</span>
+     * <span class="zh-CN">已编译正则表达式的缓存</span>
+     */
+    private static final PatternCache PATTERN_CACHE = new PatternCache(PATTERN_CACHE_SIZE);
 
     static {
         try {
@@ -232,41 +229,7 @@ public final class StringUtils {
         if (bytes == null) {
             return Globals.DEFAULT_VALUE_STRING;
         }
-        StringBuilder stringBuilder = new StringBuilder();
-
-        int i = 0, index = 0;
-        int currentByte, nextByte, digit;
-
-        while (i < bytes.length) {
-            currentByte = bytes[i] >= 0 ? bytes[i] : bytes[i] + 256;
-
-            if (index > 3) {
-                if ((i + 1) < bytes.length) {
-                    nextByte = bytes[i + 1] >= 0 ? bytes[i + 1] : bytes[i + 1] + 256;
-                } else {
-                    nextByte = 0;
-                }
-
-                digit = currentByte & (MASK_BYTE_UNSIGNED >> index);
-                index = (index + 5) % 8;
-                digit = (digit << index) | nextByte >> (8 - index);
-                i++;
-            } else {
-                digit = (currentByte >> (8 - (index + 5))) & 0x1F;
-                index = (index + 5) % 8;
-                if (index == 0) {
-                    i++;
-                }
-            }
-            stringBuilder.append(BASE32.charAt(digit));
-        }
-
-        if (padding) {
-            while (stringBuilder.length() % 5 > 0) {
-                stringBuilder.append((char) PADDING);
-            }
-        }
-        return stringBuilder.toString();
+        return TextCodec.BASE32.encode(bytes, padding);
     }
 
     /**
@@ -287,41 +250,11 @@ public final class StringUtils {
      * @return <span class="en-US">Decoded byte array</span>
      * <span class="zh-CN">解码后的二进制字节数组</span>
      */
-    public static byte[] base32Decode(String string) {
+    public static byte[] base32Decode(final String string) {
         if (string == null || string.isEmpty()) {
             return new byte[0];
         }
-
-        while (string.charAt(string.length() - 1) == PADDING) {
-            string = string.substring(0, string.length() - 1);
-        }
-
-        byte[] bytes = new byte[string.length() * 5 / 8];
-        int index = 0;
-        StringBuilder stringBuilder = new StringBuilder(8);
-        StringBuilder temp;
-        for (String c : string.split("")) {
-            if (BASE32.contains(c)) {
-                int current = BASE32.indexOf(c);
-                temp = new StringBuilder(5);
-                for (int i = 0; i < 5; i++) {
-                    temp.append(current & 1);
-                    current >>>= 1;
-                }
-                temp.reverse();
-                if (stringBuilder.length() >= 3) {
-                    int currentLength = 8 - stringBuilder.length();
-                    stringBuilder.append(temp.substring(0, currentLength));
-                    bytes[index] = (byte) Integer.valueOf(stringBuilder.toString(), 2).intValue();
-                    index++;
-                    stringBuilder = new StringBuilder(8);
-                    stringBuilder.append(temp.substring(currentLength));
-                } else {
-                    stringBuilder.append(temp);
-                }
-            }
-        }
-        return bytes;
+        return TextCodec.BASE32.decode(string);
     }
 
     /**
@@ -346,41 +279,7 @@ public final class StringUtils {
         if (bytes == null || bytes.length == 0) {
             return Globals.DEFAULT_VALUE_STRING;
         }
-        int length = bytes.length;
-        byte[] tempBytes;
-        if (length % 3 == 0) {
-            tempBytes = bytes;
-        } else {
-            while (length % 3 != 0) {
-                length++;
-            }
-            tempBytes = new byte[length];
-            System.arraycopy(bytes, 0, tempBytes, 0, bytes.length);
-            for (int i = bytes.length; i < length; i++) {
-                tempBytes[i] = 0;
-            }
-        }
-
-        StringBuilder stringBuilder = new StringBuilder();
-        int index = 0;
-        while ((index * 3) < length) {
-            stringBuilder.append(BASE64.charAt((tempBytes[index * 3] >> 2) & 0x3F));
-            stringBuilder.append(BASE64.charAt(((tempBytes[index * 3] << 4)
-                    | ((tempBytes[index * 3 + 1] & MASK_BYTE_UNSIGNED) >> 4)) & 0x3F));
-            if (index * 3 + 1 < bytes.length) {
-                stringBuilder.append(BASE64.charAt(((tempBytes[index * 3 + 1] << 2)
-                        | ((tempBytes[index * 3 + 2] & MASK_BYTE_UNSIGNED) >> 6)) & 0x3F));
-            }
-            if (index * 3 + 2 < bytes.length) {
-                stringBuilder.append(BASE64.charAt(tempBytes[index * 3 + 2] & 0x3F));
-            }
-            index++;
-        }
-
-        while (stringBuilder.length() % 3 > 0) {
-            stringBuilder.append((char) PADDING);
-        }
-        return stringBuilder.toString();
+        return TextCodec.BASE64.encode(bytes, Boolean.TRUE);
     }
 
     /**
@@ -405,32 +304,7 @@ public final class StringUtils {
         if (StringUtils.isEmpty(string)) {
             return new byte[0];
         }
-        String origString = string;
-        while (origString.charAt(origString.length() - 1) == PADDING) {
-            origString = origString.substring(0, origString.length() - 1);
-        }
-
-        byte[] bytes = new byte[origString.length() * 3 / 4];
-
-        int index = 0;
-        for (int i = 0; i < origString.length(); i += 4) {
-            int index1 = BASE64.indexOf(origString.charAt(i + 1));
-            bytes[index * 3] = (byte) (((BASE64.indexOf(origString.charAt(i)) << 2) | (index1 >> 4)) & MASK_BYTE_UNSIGNED);
-            if (index * 3 + 1 >= bytes.length) {
-                break;
-            }
-
-            int index2 = BASE64.indexOf(origString.charAt(i + 2));
-            bytes[index * 3 + 1] = (byte) (((index1 << 4) | (index2 >> 2)) & MASK_BYTE_UNSIGNED);
-            if (index * 3 + 2 >= bytes.length) {
-                break;
-            }
-
-            bytes[index * 3 + 2] = (byte) (((index2 << 6) | BASE64.indexOf(origString.charAt(i + 3))) & MASK_BYTE_UNSIGNED);
-            index++;
-        }
-
-        return bytes;
+        return TextCodec.BASE64.decode(string);
     }
 
     /**
@@ -458,23 +332,45 @@ public final class StringUtils {
      * <span class="zh-CN">生成的霍夫曼结果实例对象，当内容字符串为空字符串时返回null</span>
      */
     public static HuffmanTree.Result encodeWithHuffman(final String content) {
-        HuffmanTree huffmanTree = new HuffmanTree();
-
-        String temp = content;
-        List<String> checkedStrings = new ArrayList<>();
+        if (StringUtils.isEmpty(content)) {
+            return null;
+        }
+        HuffmanCodec huffmanCodec = HuffmanCodec.build(content);
+        return new HuffmanTree.Result(huffmanCodec, huffmanCodec.encode(content), huffmanCodec.bitLength(content));
+    }
 
-        while (!temp.isEmpty()) {
-            String keyword = temp.substring(0, 1);
-            if (!checkedStrings.contains(keyword)) {
-                huffmanTree.insertNode(new HuffmanTree.Node(keyword,
-                        StringUtils.countOccurrencesOf(content, keyword)));
-                checkedStrings.add(keyword);
-            }
-            temp = temp.substring(1);
+    /**
+     * <h3 class="en-US">Decode given Huffman Tree string using given code mapping</h3>
+     * <h3 class="zh-CN">使用给定的编码映射表解码给定的霍夫曼树结果字符串</h3>
+     *
+     * @param codeMapping  <span class="en-US">Code mapping table</span>
+     *                     <span class="zh-CN">编码映射表</span>
+     * @param huffmanValue <span class="en-US">Huffman tree result string</span>
+     *                     <span class="zh-CN">霍夫曼树结果字符串</span>
+     * @return <span class="en-US">Decoded string or zero length string if result string is empty</span>
+     * <span class="zh-CN">解码后的字符串，当结果字符串为空字符串时返回长度为0的空字符串</span>
+     */
+    public static String decodeWithHuffman(final Hashtable<String, Object> codeMapping, final String huffmanValue) {
+        if (StringUtils.isEmpty(huffmanValue)) {
+            return Globals.DEFAULT_VALUE_STRING;
         }
+        return new HuffmanTree.Result(codeMapping, huffmanValue).decode();
+    }
 
-        huffmanTree.build();
-        return huffmanTree.encodeString(content);
+    /**
+     * <h3 class="en-US">Decode given Huffman Tree result instance</h3>
+     * <h3 class="zh-CN">解码给定的霍夫曼树结果实例对象</h3>
+     *
+     * @param result <span class="en-US">Huffman tree result instance</span>
+     *               <span class="zh-CN">霍夫曼树结果实例对象</span>
+     * @return <span class="en-US">Decoded string or zero length string if result instance is null</span>
+     * <span class="zh-CN">解码后的字符串，当结果实例对象为null时返回长度为0的空字符串</span>
+     */
+    public static String decodeWithHuffman(final HuffmanTree.Result result) {
+        if (result == null) {
+            return Globals.DEFAULT_VALUE_STRING;
+        }
+        return result.decode();
     }
 
     /**
@@ -488,7 +384,7 @@ public final class StringUtils {
      */
     @Deprecated
     public static boolean isMD5(final String string) {
-        return StringUtils.notBlank(string) && StringUtils.matches(string.toLowerCase(), RegexGlobals.MD5_VALUE);
+        return string != null && string.length() == 32 && StringUtils.hexCharacters(string, 0, 32);
     }
 
     /**
@@ -501,7 +397,21 @@ public final class StringUtils {
      * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
      */
     public static boolean isUUID(final String string) {
-        return StringUtils.notBlank(string) && StringUtils.matches(string.toLowerCase(), RegexGlobals.UUID);
+        if (string == null) {
+            return Boolean.FALSE;
+        }
+        switch (string.length()) {
+            case 32:
+                return StringUtils.hexCharacters(string, 0, 32);
+            case 36:
+                return string.charAt(8) == '-' && string.charAt(13) == '-'
+                        && string.charAt(18) == '-' && string.charAt(23) == '-'
+                        && StringUtils.hexCharacters(string, 0, 8) && StringUtils.hexCharacters(string, 9, 13)
+                        && StringUtils.hexCharacters(string, 14, 18) && StringUtils.hexCharacters(string, 19, 23)
+                        && StringUtils.hexCharacters(string, 24, 36);
+            default:
+                return Boolean.FALSE;
+        }
     }
 
     /**
@@ -514,7 +424,7 @@ public final class StringUtils {
      * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
      */
     public static boolean isXML(final String string) {
-        return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.XML);
+        return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.XML_PATTERN);
     }
 
     /**
@@ -568,7 +478,7 @@ public final class StringUtils {
      * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
      */
     public static boolean isPhoneNumber(final String string) {
-        return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.PHONE_NUMBER);
+        return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.PHONE_NUMBER_PATTERN);
     }
 
     /**
@@ -581,7 +491,7 @@ public final class StringUtils {
      * <span class="zh-CN">检查匹配返回<code>true</code>，不匹配返回<code>false</code></span>
      */
     public static boolean isEMail(final String string) {
-        return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.EMAIL_ADDRESS);
+        return StringUtils.notBlank(string) && StringUtils.matches(string, RegexGlobals.EMAIL_ADDRESS_PATTERN);
     }
 
     /**
@@ -2168,6 +2078,17 @@ public final class StringUtils {
                         .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
                 break;
             case SERIALIZABLE:
+                if (BinaryCodec.supported(object.getClass())) {
+                    try {
+                        return StringUtils.base64Encode(BinaryCodec.encode(object));
+                    } catch (DataInvalidException e) {
+                        LOGGER.error("Convert_String_Error");
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug("Stack_Message_Error", e);
+                        }
+                        return Globals.DEFAULT_VALUE_STRING;
+                    }
+                }
                 return StringUtils.base64Encode(ConvertUtils.toByteArray(object));
             default:
                 return Globals.DEFAULT_VALUE_STRING;
@@ -2259,7 +2180,7 @@ public final class StringUtils {
                 return stringToObject(string, StringType.JSON, encoding, beanClass, schemaPaths);
             default:
                 return stringToObject(string,
-                        StringUtils.matches(string, RegexGlobals.BASE64) ? StringType.SERIALIZABLE : StringType.YAML,
+                        StringUtils.matches(string, RegexGlobals.BASE64_PATTERN) ? StringType.SERIALIZABLE : StringType.YAML,
                         encoding, beanClass, schemaPaths);
         }
     }
@@ -2459,8 +2380,19 @@ public final class StringUtils {
             case SIMPLE:
                 return ClassUtils.parseSimpleData(IOUtils.readContent(inputStream), beanClass);
             case SERIALIZABLE:
-                return Optional.of(IOUtils.readContent(inputStream))
-                        .map(StringUtils::base64Decode)
+                byte[] dataBytes = StringUtils.base64Decode(IOUtils.readContent(inputStream));
+                if (BinaryCodec.encoded(dataBytes)) {
+                    try {
+                        return BinaryCodec.decode(dataBytes, beanClass);
+                    } catch (DataInvalidException e) {
+                        LOGGER.error("Parse_File_Error");
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug("Stack_Message_Error", e);
+                        }
+                        return null;
+                    }
+                }
+                return Optional.of(dataBytes)
                         .map(ConvertUtils::toObject)
                         .filter(object -> ClassUtils.isAssignable(object.getClass(), beanClass))
                         .map(beanClass::cast)
@@ -2605,7 +2537,40 @@ public final class StringUtils {
         if (StringUtils.isEmpty(str) || StringUtils.isEmpty(regex)) {
             return Boolean.FALSE;
         }
-        return str.matches(regex);
+        return StringUtils.matches(str, PATTERN_CACHE.compile(regex));
+    }
+
+    /**
+     * <h3 class="en-US">Match given string with compiled pattern</h3>
+     * <h3 class="zh-CN">将给定的字符串与给定的已编译正则表达式做匹配</h3>
+     *
+     * @param str     <span class="en-US">The string will match</span>
+     *                <span class="zh-CN">要匹配的字符串</span>
+     * @param pattern <span class="en-US">Compiled pattern instance</span>
+     *                <span class="zh-CN">已编译的正则表达式实例对象</span>
+     * @return <span class="en-US">Match result</span>
+     * <span class="zh-CN">匹配结果</span>
+     */
+    public static boolean matches(final String str, final Pattern pattern) {
+        if (StringUtils.isEmpty(str) || pattern == null) {
+            return Boolean.FALSE;
+        }
+        return pattern.matcher(str).matches();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve compiled pattern of given regex string</h3>
+     * <span class="en-US">Compiled patterns were cached, the least recently used pattern will be evicted when cache was full</span>
+     * <h3 class="zh-CN">获取给定正则表达式字符串的已编译实例对象</h3>
+     * <span class="zh-CN">已编译的正则表达式会被缓存，缓存已满时移除最近最少使用的实例对象</span>
+     *
+     * @param regex <span class="en-US">regex string</span>
+     *              <span class="zh-CN">正则表达式字符串</span>
+     * @return <span class="en-US">Compiled pattern instance</span>
+     * <span class="zh-CN">已编译的正则表达式实例对象</span>
+     */
+    public static Pattern compilePattern(final String regex) {
+        return PATTERN_CACHE.compile(regex);
     }
 
     /**
@@ -2642,12 +2607,17 @@ public final class StringUtils {
      */
     public static String replaceWithRegex(final String str, final String regex, final String template,
                                           final String substringPrefix) {
-        if (!matches(str, regex)) {
+        if (StringUtils.isEmpty(str) || StringUtils.isEmpty(regex)) {
+            return null;
+        }
+
+        Matcher matcher = PATTERN_CACHE.compile(regex).matcher(str);
+        if (!matcher.matches()) {
             return null;
         }
 
         String matchResult = template;
-        Matcher matcher = Pattern.compile(regex).matcher(str);
+        matcher.reset();
         if (matcher.find()) {
             for (int i = 0; i < matcher.groupCount(); i++) {
                 int index = i + 1;
@@ -2800,6 +2770,30 @@ public final class StringUtils {
                 || unicodeBlock == UnicodeBlock.KATAKANA_PHONETIC_EXTENSIONS);
     }
 
+    /**
+     * <h3 class="en-US">Check the characters of given string in given range are all hex characters</h3>
+     * <h3 class="zh-CN">检查给定字符串在给定范围内的字符是否均为十六进制字符</h3>
+     *
+     * @param string     <span class="en-US">The given string will check</span>
+     *                   <span class="zh-CN">将要检查的字符串</span>
+     * @param beginIndex <span class="en-US">the beginning index, inclusive</span>
+     *                   <span class="zh-CN">起始索引（包含）</span>
+     * @param endIndex   <span class="en-US">the ending index, exclusive</span>
+     *                   <span class="zh-CN">结束索引（不包含）</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    private static boolean hexCharacters(final String string, final int beginIndex, final int endIndex) {
+        for (int i = beginIndex; i < endIndex; i++) {
+            char character = string.charAt(i);
+            if ((character < '0' || character > '9') && (character < 'a' || character > 'f')
+                    && (character < 'A' || character > 'F')) {
+                return Boolean.FALSE;
+            }
+        }
+        return Boolean.TRUE;
+    }
+
     /**
      * <h3 class="en-US">Check given code string is valid of given code type</h3>
      * <h3 class="zh-CN">检查给定代码字符穿是否符合指定代码类型的算法</h3>
@@ -2818,7 +2812,7 @@ public final class StringUtils {
         switch (codeType) {
             case CHN_ID_Code:
                 String cardCode = code.toUpperCase();
-                if (StringUtils.matches(cardCode, RegexGlobals.CHN_ID_Card)) {
+                if (StringUtils.matches(cardCode, RegexGlobals.CHN_ID_CARD_PATTERN)) {
                     int validateCode = CHN_ID_CARD_CODE.indexOf(cardCode.charAt(17));
                     if (validateCode != -1) {
                         int sigma = 0;
@@ -2831,7 +2825,7 @@ public final class StringUtils {
                 break;
             case CHN_Social_Code:
                 String creditCode = code.toUpperCase();
-                if (StringUtils.matches(creditCode, RegexGlobals.CHN_Social_Credit)) {
+                if (StringUtils.matches(creditCode, RegexGlobals.CHN_SOCIAL_CREDIT_PATTERN)) {
                     int validateCode = CHN_SOCIAL_CREDIT_CODE.indexOf(creditCode.charAt(17));
                     if (validateCode != -1) {
                         int sigma = 0;
@@ -2845,21 +2839,21 @@ public final class StringUtils {
                 }
                 break;
             case Luhn:
-                if (StringUtils.matches(code, RegexGlobals.LUHN)) {
-                    int result = 0, length = code.length();
-                    for (int i = 0; i < length; i++) {
-                        int currentCode = Character.getNumericValue(code.charAt(length - i - 1));
-                        if (i % 2 == 1) {
-                            currentCode *= 2;
-                            if (currentCode > 9) {
-                                currentCode -= 9;
-                            }
+                int result = 0, length = code.length();
+                for (int i = 0; i < length; i++) {
+                    int currentCode = code.charAt(length - i - 1) - '0';
+                    if (currentCode < 0 || currentCode > 9) {
+                        return Boolean.FALSE;
+                    }
+                    if (i % 2 == 1) {
+                        currentCode *= 2;
+                        if (currentCode > 9) {
+                            currentCode -= 9;
                         }
-                        result += currentCode;
                     }
-                    return result % 10 == 0;
+                    result += currentCode;
                 }
-                break;
+                return result % 10 == 0;
         }
         return Boolean.FALSE;
     }
@@ -3040,6 +3034,115 @@ public final class StringUtils {
         }
     }
 
+    /**
+     * <h2 class="en-US">Bounded cache of compiled regular expressions</h2>
+     * <span class="en-US">
+     * Lookups are lock-free, each entry records the eviction epoch of its last access.
+     * When the cache exceeds its capacity, the entries with the oldest epoch are evicted.
+     * </span>
+     * <h2 class="zh-CN">有容量限制的已编译正则表达式缓存</h2>
+     * <span class="zh-CN">查找操作无锁，每个缓存项记录最后一次访问时的淘汰周期，缓存超出容量时淘汰周期最早的缓存项</span>
+     */
+    private static final class PatternCache {
+        /**
+         * <span class="en-US">Maximum count of cached patterns</span>
+         * <span class="zh-CN">缓存的最大数量</span>
+         */
+        private final int capacity;
+        /**
+         * <span class="en-US">Current access epoch, increased when new pattern was compiled</span>
+         * <span class="zh-CN">当前访问周期，编译新的正则表达式时增加</span>
+         */
+        private final AtomicLong epoch = new AtomicLong(0L);
+        /**
+         * <span class="en-US">Cached patterns, mapping key is regex string</span>
+         * <span class="zh-CN">缓存的正则表达式，映射键为正则表达式字符串</span>
+         */
+        private final ConcurrentHashMap<String, CachedPattern> patterns = new ConcurrentHashMap<>();
+
+        /**
+         * <h3 class="en-US">Constructor for PatternCache</h3>
+         * <h3 class="zh-CN">PatternCache的构造方法</h3>
+         *
+         * @param capacity <span class="en-US">Maximum count of cached patterns</span>
+         *                 <span class="zh-CN">缓存的最大数量</span>
+         */
+        PatternCache(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * <h3 class="en-US">Retrieve compiled pattern of given regex string</h3>
+         * <h3 class="zh-CN">获取给定正则表达式字符串的已编译实例对象</h3>
+         *
+         * @param regex <span class="en-US">regex string</span>
+         *              <span class="zh-CN">正则表达式字符串</span>
+         * @return <span class="en-US">Compiled pattern instance</span>
+         * <span class="zh-CN">已编译的正则表达式实例对象</span>
+         */
+        Pattern compile(final String regex) {
+            CachedPattern cachedPattern = this.patterns.get(regex);
+            if (cachedPattern == null) {
+                this.epoch.incrementAndGet();
+                cachedPattern = this.patterns.computeIfAbsent(regex, key -> new CachedPattern(Pattern.compile(key)));
+                if (this.patterns.size() > this.capacity) {
+                    this.evict();
+                }
+            }
+            long current = this.epoch.get();
+            if (cachedPattern.lastAccess != current) {
+                cachedPattern.lastAccess = current;
+            }
+            return cachedPattern.pattern;
+        }
+
+        /**
+         * <h3 class="en-US">Evict the least recently used patterns, one eighth of capacity each time</h3>
+         * <h3 class="zh-CN">淘汰最近最少使用的正则表达式，每次淘汰容量的八分之一</h3>
+         */
+        private synchronized void evict() {
+            int evictCount = this.patterns.size() - this.capacity;
+            if (evictCount <= 0) {
+                return;
+            }
+            evictCount += Math.max(1, this.capacity / 8);
+            this.patterns.entrySet()
+                    .stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .limit(evictCount)
+                    .collect(Collectors.toList())
+                    .forEach(entry -> this.patterns.remove(entry.getKey(), entry.getValue()));
+        }
+
+        /**
+         * <h2 class="en-US">Cached pattern entry</h2>
+         * <h2 class="zh-CN">缓存的正则表达式项</h2>
+         */
+        private static final class CachedPattern {
+            /**
+             * <span class="en-US">Compiled pattern instance</span>
+             * <span class="zh-CN">已编译的正则表达式实例对象</span>
+             */
+            private final Pattern pattern;
+            /**
+             * <span class="en-US">Epoch of last access</span>
+             * <span class="zh-CN">最后一次访问的周期</span>
+             */
+            private volatile long lastAccess;
+
+            /**
+             * <h3 class="en-US">Constructor for CachedPattern</h3>
+             * <h3 class="zh-CN">CachedPattern的构造方法</h3>
+             *
+             * @param pattern <span class="en-US">Compiled pattern instance</span>
+             *                <span class="zh-CN">已编译的正则表达式实例对象</span>
+             */
+            CachedPattern(final Pattern pattern) {
+                this.pattern = pattern;
+            }
+        }
+    }
+
     /**
      * <h2 class="en-US">Implement class for LSInput</h2>
      * <h2 class="zh-CN">LSInput的实现类</h2>
@@ -44,6 +44,7 @@ import org.nervousync.zip.options.ZipOptions;
 
 import java.io.*;
 import java.nio.ByteOrder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -866,9 +867,9 @@ public final class ZipFile implements Cloneable {
 
         long offsetCentralDirectory = this.endCentralDirectoryRecord.getOffsetOfStartOfCentralDirectory();
 
-        List<String> headerBytesList = new ArrayList<>();
+        RawUtils.Writer headerWriter = HeaderOperator.headerWriter();
 
-        int sizeOfCentralDirectory = this.writeCentralDirectory(outputStream, headerBytesList);
+        int sizeOfCentralDirectory = this.writeCentralDirectory(outputStream, headerWriter);
 
         if (this.zip64Format) {
             this.checkZip64Format();
@@ -886,12 +887,12 @@ public final class ZipFile implements Cloneable {
             }
 
             this.writeZip64EndOfCentralDirectoryRecord(outputStream, sizeOfCentralDirectory,
-                    offsetCentralDirectory, headerBytesList);
-            this.writeZip64EndOfCentralDirectoryLocator(outputStream, headerBytesList);
+                    offsetCentralDirectory, headerWriter);
+            this.writeZip64EndOfCentralDirectoryLocator(outputStream, headerWriter);
         }
 
-        this.writeEndOfCentralDirectoryRecord(sizeOfCentralDirectory, offsetCentralDirectory, headerBytesList);
-        this.writeZipHeaderBytes(outputStream, HeaderOperator.convertByteArrayListToByteArray(headerBytesList));
+        this.writeEndOfCentralDirectoryRecord(sizeOfCentralDirectory, offsetCentralDirectory, headerWriter);
+        this.writeZipHeaderBytes(outputStream, headerWriter.toByteArray());
     }
 
     /**
@@ -1188,24 +1189,23 @@ public final class ZipFile implements Cloneable {
         }
 
         try {
-            List<String> headerBytesList = new ArrayList<>();
+            RawUtils.Writer headerWriter = HeaderOperator.headerWriter();
 
             long offsetCentralDirectory = this.endCentralDirectoryRecord.getOffsetOfStartOfCentralDirectory();
 
-            int sizeOfCentralDirectory = this.writeCentralDirectory(outputStream, headerBytesList);
+            int sizeOfCentralDirectory = this.writeCentralDirectory(outputStream, headerWriter);
 
             if (this.zip64Format) {
                 this.checkZip64Format();
                 this.zip64EndCentralDirectoryLocator
                         .setOffsetZip64EndOfCentralDirectoryRecord(offsetCentralDirectory + sizeOfCentralDirectory);
                 this.writeZip64EndOfCentralDirectoryRecord(outputStream, sizeOfCentralDirectory,
-                        offsetCentralDirectory, headerBytesList);
-                this.writeZip64EndOfCentralDirectoryLocator(outputStream, headerBytesList);
+                        offsetCentralDirectory, headerWriter);
+                this.writeZip64EndOfCentralDirectoryLocator(outputStream, headerWriter);
             }
 
-            this.writeEndOfCentralDirectoryRecord(sizeOfCentralDirectory, offsetCentralDirectory,
-                    headerBytesList);
-            this.writeZipHeaderBytes(outputStream, HeaderOperator.convertByteArrayListToByteArray(headerBytesList));
+            this.writeEndOfCentralDirectoryRecord(sizeOfCentralDirectory, offsetCentralDirectory, headerWriter);
+            this.writeZipHeaderBytes(outputStream, headerWriter.toByteArray());
         } catch (Exception e) {
             if (e instanceof ZipException) {
                 throw (ZipException) e;
@@ -2064,54 +2064,33 @@ public final class ZipFile implements Cloneable {
         }
         try {
             long localHeaderOffset = this.headerOffset(generalFileHeader);
-            input.seek(localHeaderOffset + 26);
-
-            byte[] tempBuffer = new byte[4];
-            if (input.read(tempBuffer) == Globals.DEFAULT_VALUE_INT) {
-                throw new ZipException(0x0000001B001DL, "Invalid_Offset_Local_Header_Zip_Error");
-            }
-
-            byte[] shortBuffer = new byte[2];
-            System.arraycopy(tempBuffer, 0, shortBuffer, 0, 2);
-            int fileNameLength = RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN);
-            System.arraycopy(tempBuffer, 2, shortBuffer, 0, 2);
-            int extraFieldLength = RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN);
-
             input.seek(localHeaderOffset);
 
-            int length = 0;
-            LocalFileHeader localFileHeader = new LocalFileHeader();
-
-            byte[] readBuffer = new byte[30 + fileNameLength + extraFieldLength];
-
+            byte[] readBuffer = new byte[Globals.LOCHDR];
             if (input.read(readBuffer) == Globals.DEFAULT_VALUE_INT) {
                 throw new ZipException(0x0000001B001DL, "Invalid_Offset_Local_Header_Zip_Error");
             }
 
-            byte[] intBuffer = new byte[4];
+            RawUtils.Reader headerReader = RawUtils.reader(readBuffer, ByteOrder.LITTLE_ENDIAN);
+            LocalFileHeader localFileHeader = new LocalFileHeader();
 
             // Signature
-            System.arraycopy(readBuffer, 0, intBuffer, 0, 4);
-            int signature = RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN);
+            int signature = headerReader.readInt();
             if (signature != Globals.LOCSIG) {
                 throw new ZipException("invalid local header signature for file: " + generalFileHeader.getEntryPath());
             }
             localFileHeader.setSignature(signature);
-            length += 4;
 
             // Extract needed
-            System.arraycopy(readBuffer, 4, shortBuffer, 0, 2);
-            localFileHeader.setExtractNeeded(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-            length += 2;
+            localFileHeader.setExtractNeeded(headerReader.readUnsignedShort());
 
             // General purpose bit flag
-            System.arraycopy(readBuffer, 6, shortBuffer, 0, 2);
+            byte[] generalPurposeFlag = headerReader.readBytes(2);
             localFileHeader.setFileNameUTF8Encoded(
-                    (RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN) & Globals.UFT8_NAMES_FLAG) != 0);
-            localFileHeader.setGeneralPurposeFlag(shortBuffer.clone());
-            length += 2;
+                    ((generalPurposeFlag[0] & 0xFF | generalPurposeFlag[1] << 8) & Globals.UFT8_NAMES_FLAG) != 0);
+            localFileHeader.setGeneralPurposeFlag(generalPurposeFlag);
 
-            int firstByte = shortBuffer[0];
+            int firstByte = generalPurposeFlag[0];
 
             // Check if data descriptor exists for local file header
             String binaryData = Integer.toBinaryString(firstByte);
@@ -2120,45 +2099,38 @@ public final class ZipFile implements Cloneable {
             }
 
             // Compression method
-            System.arraycopy(readBuffer, 8, shortBuffer, 0, 2);
-            localFileHeader.setCompressionMethod(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-            length += 2;
+            localFileHeader.setCompressionMethod(headerReader.readUnsignedShort());
 
             // Lase modify time
-            System.arraycopy(readBuffer, 10, intBuffer, 0, 4);
-            localFileHeader.setLastModFileTime(RawUtils.readShort(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-            length += 4;
+            localFileHeader.setLastModFileTime(headerReader.readInt());
 
             // CRC
-            System.arraycopy(readBuffer, 14, intBuffer, 0, 4);
-            localFileHeader.setCrc32(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-            localFileHeader.setCrcBuffer(intBuffer.clone());
-            length += 4;
+            byte[] crcBuffer = headerReader.readBytes(4);
+            localFileHeader.setCrc32(RawUtils.reader(crcBuffer, ByteOrder.LITTLE_ENDIAN).readUnsignedInt());
+            localFileHeader.setCrcBuffer(crcBuffer);
 
             // Compressed size
-            System.arraycopy(readBuffer, 18, intBuffer, 0, 4);
-            localFileHeader.setCompressedSize(RawUtils.readLong(readLongByteFromIntByte(intBuffer), 0, ByteOrder.LITTLE_ENDIAN));
-            length += 4;
+            localFileHeader.setCompressedSize(headerReader.readUnsignedInt());
 
             // Original size
-            System.arraycopy(readBuffer, 22, intBuffer, 0, 4);
-            localFileHeader.setOriginalSize(RawUtils.readLong(readLongByteFromIntByte(intBuffer), 0, ByteOrder.LITTLE_ENDIAN));
-            length += 4;
+            localFileHeader.setOriginalSize(headerReader.readUnsignedInt());
 
             // File name length
+            int fileNameLength = headerReader.readUnsignedShort();
             localFileHeader.setFileNameLength(fileNameLength);
-            length += 2;
 
             // Extra field length
+            int extraFieldLength = headerReader.readUnsignedShort();
             localFileHeader.setExtraFieldLength(extraFieldLength);
-            length += 2;
+
+            byte[] variableBuffer = new byte[fileNameLength + extraFieldLength];
+            if (variableBuffer.length > 0 && input.read(variableBuffer) == Globals.DEFAULT_VALUE_INT) {
+                throw new ZipException(0x0000001B001DL, "Invalid_Offset_Local_Header_Zip_Error");
+            }
 
             // File name
             if (fileNameLength > 0) {
-                byte[] fileNameBuffer = new byte[fileNameLength];
-                System.arraycopy(readBuffer, 30, fileNameBuffer, 0, fileNameLength);
-
-                String entryPath = new String(fileNameBuffer, this.charsetEncoding);
+                String entryPath = new String(variableBuffer, 0, fileNameLength, this.charsetEncoding);
 
                 if (entryPath.contains(Globals.DEFAULT_ZIP_ENTRY_SEPARATOR)) {
                     entryPath = entryPath.substring(entryPath.indexOf(Globals.DEFAULT_ZIP_ENTRY_SEPARATOR)
@@ -2166,20 +2138,17 @@ public final class ZipFile implements Cloneable {
                 }
 
                 localFileHeader.setEntryPath(entryPath);
-                length += fileNameLength;
             } else {
                 localFileHeader.setEntryPath(null);
             }
 
             // Extra field
-            if (localFileHeader.getExtraFieldLength() > 0) {
-                byte[] extraFieldBuffer = new byte[extraFieldLength];
-                System.arraycopy(readBuffer, 30 + fileNameLength, extraFieldBuffer, 0, extraFieldLength);
-                localFileHeader.setExtraDataRecords(readExtraDataRecords(extraFieldBuffer, extraFieldLength));
+            if (extraFieldLength > 0) {
+                localFileHeader.setExtraDataRecords(
+                        readExtraDataRecords(variableBuffer, fileNameLength, extraFieldLength));
             }
-            length += extraFieldLength;
 
-            localFileHeader.setOffsetStartOfData(localHeaderOffset + length);
+            localFileHeader.setOffsetStartOfData(localHeaderOffset + Globals.LOCHDR + variableBuffer.length);
 
             // Copy password
             localFileHeader.setPassword(generalFileHeader.getPassword());
@@ -2209,7 +2178,7 @@ public final class ZipFile implements Cloneable {
             }
 
             return localFileHeader;
-        } catch (IOException | DataInvalidException e) {
+        } catch (IOException | IndexOutOfBoundsException e) {
             throw new ZipException("Read local file header error! ", e);
         }
     }
@@ -2238,7 +2207,7 @@ public final class ZipFile implements Cloneable {
         }
     }
 
-    private int writeCentralDirectory(final OutputStream outputStream, final List<String> headerBytesList)
+    private int writeCentralDirectory(final OutputStream outputStream, final RawUtils.Writer headerWriter)
             throws ZipException {
         if (outputStream == null) {
             throw new ZipException("output parameters is null, cannot write central directory");
@@ -2252,87 +2221,49 @@ public final class ZipFile implements Cloneable {
         int sizeOfCentralDirectory = Globals.INITIALIZE_INT_VALUE;
 
         for (GeneralFileHeader generalFileHeader : this.centralDirectory.getFileHeaders()) {
-            sizeOfCentralDirectory += writeFileHeader(generalFileHeader, outputStream, headerBytesList);
+            sizeOfCentralDirectory += writeFileHeader(generalFileHeader, outputStream, headerWriter);
         }
         return sizeOfCentralDirectory;
     }
 
     private int writeFileHeader(GeneralFileHeader generalFileHeader,
-                                OutputStream outputStream, List<String> headerBytesList) throws ZipException {
+                                OutputStream outputStream, RawUtils.Writer headerWriter) throws ZipException {
         if (generalFileHeader == null || outputStream == null) {
             throw new ZipException("input parameters is null, cannot write local file header");
         }
 
         try {
-            int sizeOfFileHeader = 0;
-
-            byte[] shortBuffer = new byte[2];
-            byte[] intBuffer = new byte[4];
-            byte[] longBuffer = new byte[8];
+            int beginPosition = headerWriter.size();
 
             boolean writeZip64FileSize = false;
             boolean writeZip64OffsetLocalHeader = false;
 
-            HeaderOperator.appendIntToArrayList(generalFileHeader.getSignature(), headerBytesList);
-            sizeOfFileHeader += 4;
-
-            HeaderOperator.appendShortToArrayList((short) generalFileHeader.getMadeVersion(), headerBytesList);
-            sizeOfFileHeader += 2;
-
-            HeaderOperator.appendShortToArrayList((short) generalFileHeader.getExtractNeeded(), headerBytesList);
-            sizeOfFileHeader += 2;
-
-            HeaderOperator.copyByteArrayToList(generalFileHeader.getGeneralPurposeFlag(), headerBytesList);
-            sizeOfFileHeader += 2;
-
-            HeaderOperator.appendShortToArrayList((short) generalFileHeader.getCompressionMethod(), headerBytesList);
-            sizeOfFileHeader += 2;
-
-            HeaderOperator.appendIntToArrayList(generalFileHeader.getLastModFileTime(), headerBytesList);
-            sizeOfFileHeader += 4;
-
-            HeaderOperator.appendIntToArrayList((int) (generalFileHeader.getCrc32()), headerBytesList);
-            sizeOfFileHeader += 4;
+            headerWriter.writeInt(generalFileHeader.getSignature())
+                    .writeShort(generalFileHeader.getMadeVersion())
+                    .writeShort(generalFileHeader.getExtractNeeded())
+                    .writeBytes(generalFileHeader.getGeneralPurposeFlag())
+                    .writeShort(generalFileHeader.getCompressionMethod())
+                    .writeInt(generalFileHeader.getLastModFileTime())
+                    .writeInt((int) generalFileHeader.getCrc32());
 
             if (generalFileHeader.getOriginalSize() + Globals.ZIP64_EXTRA_BUFFER_SIZE >= Globals.ZIP_64_LIMIT
                     || generalFileHeader.getCompressedSize() >= Globals.ZIP_64_LIMIT) {
-                RawUtils.writeLong(longBuffer, 0, Globals.ZIP_64_LIMIT);
-                System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
-
-                HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-                sizeOfFileHeader += 4;
-
-                HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-                sizeOfFileHeader += 4;
-
+                headerWriter.writeInt((int) Globals.ZIP_64_LIMIT)
+                        .writeInt((int) Globals.ZIP_64_LIMIT);
                 writeZip64FileSize = true;
             } else {
-                RawUtils.writeLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN, generalFileHeader.getCompressedSize());
-                System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
-                HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-                sizeOfFileHeader += 4;
-
-                RawUtils.writeLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN, generalFileHeader.getOriginalSize());
-                System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
-                HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-                sizeOfFileHeader += 4;
+                headerWriter.writeInt((int) generalFileHeader.getCompressedSize())
+                        .writeInt((int) generalFileHeader.getOriginalSize());
             }
 
-            RawUtils.writeShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN, (short) generalFileHeader.getFileNameLength());
-            HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
-            sizeOfFileHeader += 2;
+            headerWriter.writeShort(generalFileHeader.getFileNameLength());
 
-            // Compute offset bytes before extra field is written for Zip64
-            // compatibility
+            // Compute offset before extra field is written for Zip64 compatibility
             // NOTE: this data is not written now, but written at a later point
-            byte[] offsetLocalHeaderBytes = new byte[4];
-            if (generalFileHeader.getOffsetLocalHeader() > Globals.ZIP_64_LIMIT) {
-                RawUtils.writeLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN, Globals.ZIP_64_LIMIT);
-                System.arraycopy(longBuffer, 0, offsetLocalHeaderBytes, 0, 4);
+            long offsetLocalHeader = generalFileHeader.getOffsetLocalHeader();
+            if (offsetLocalHeader > Globals.ZIP_64_LIMIT) {
+                offsetLocalHeader = Globals.ZIP_64_LIMIT;
                 writeZip64OffsetLocalHeader = true;
-            } else {
-                RawUtils.writeLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN, generalFileHeader.getOffsetLocalHeader());
-                System.arraycopy(longBuffer, 0, offsetLocalHeaderBytes, 0, 4);
             }
 
             // extra field length
@@ -2347,44 +2278,35 @@ public final class ZipFile implements Cloneable {
             if (generalFileHeader.getAesExtraDataRecord() != null) {
                 extraFieldLength += 11;
             }
-            HeaderOperator.appendShortToArrayList((short) extraFieldLength, headerBytesList);
-            sizeOfFileHeader += 2;
+            headerWriter.writeShort(extraFieldLength);
 
             // Skip file comment length for now
-            HeaderOperator.copyByteArrayToList(EMPTY_SHORT_BUFFER, headerBytesList);
-            sizeOfFileHeader += 2;
+            headerWriter.writeBytes(EMPTY_SHORT_BUFFER);
 
             // Skip disk number start for now
-            HeaderOperator.appendShortToArrayList((short) generalFileHeader.getDiskNumberStart(), headerBytesList);
-            sizeOfFileHeader += 2;
+            headerWriter.writeShort(generalFileHeader.getDiskNumberStart());
 
             // Skip internal file attributes for now
-            HeaderOperator.copyByteArrayToList(EMPTY_SHORT_BUFFER, headerBytesList);
-            sizeOfFileHeader += 2;
+            headerWriter.writeBytes(EMPTY_SHORT_BUFFER);
 
             // External file attributes
             if (generalFileHeader.getExternalFileAttr() != null) {
-                HeaderOperator.copyByteArrayToList(generalFileHeader.getExternalFileAttr(), headerBytesList);
+                headerWriter.writeBytes(generalFileHeader.getExternalFileAttr());
             } else {
-                HeaderOperator.copyByteArrayToList(EMPTY_INT_BUFFER, headerBytesList);
+                headerWriter.writeBytes(EMPTY_INT_BUFFER);
             }
-            sizeOfFileHeader += 4;
 
             // offset local header
             // this data is computed above
-            HeaderOperator.copyByteArrayToList(offsetLocalHeaderBytes, headerBytesList);
-            sizeOfFileHeader += 4;
+            headerWriter.writeInt((int) offsetLocalHeader);
 
-            byte[] fileNameBytes = generalFileHeader.getEntryPath().getBytes(this.charsetEncoding);
-            HeaderOperator.copyByteArrayToList(fileNameBytes, headerBytesList);
-            sizeOfFileHeader += fileNameBytes.length;
+            headerWriter.writeBytes(generalFileHeader.getEntryPath().getBytes(this.charsetEncoding));
 
             if (writeZip64FileSize || writeZip64OffsetLocalHeader) {
                 this.zip64Format = true;
 
                 // Zip64 header
-                HeaderOperator.appendShortToArrayList((short) Globals.EXTRAFIELDZIP64LENGTH, headerBytesList);
-                sizeOfFileHeader += 2;
+                headerWriter.writeShort(Globals.EXTRAFIELDZIP64LENGTH);
 
                 // Zip64 extra data record size
                 int dataSize = 0;
@@ -2396,217 +2318,152 @@ public final class ZipFile implements Cloneable {
                     dataSize += 8;
                 }
 
-                HeaderOperator.appendShortToArrayList((short) dataSize, headerBytesList);
-                sizeOfFileHeader += 2;
+                headerWriter.writeShort(dataSize);
 
                 if (writeZip64FileSize) {
-                    HeaderOperator.appendLongToArrayList(generalFileHeader.getOriginalSize(), headerBytesList);
-                    sizeOfFileHeader += 8;
-
-                    HeaderOperator.appendLongToArrayList(generalFileHeader.getCompressedSize(), headerBytesList);
-                    sizeOfFileHeader += 8;
+                    headerWriter.writeLong(generalFileHeader.getOriginalSize())
+                            .writeLong(generalFileHeader.getCompressedSize());
                 }
 
                 if (writeZip64OffsetLocalHeader) {
-                    HeaderOperator.appendLongToArrayList(generalFileHeader.getOffsetLocalHeader(), headerBytesList);
-                    sizeOfFileHeader += 8;
+                    headerWriter.writeLong(generalFileHeader.getOffsetLocalHeader());
                 }
             }
 
             if (generalFileHeader.getAesExtraDataRecord() != null) {
-                AESEngine.processHeader(generalFileHeader.getAesExtraDataRecord(), headerBytesList);
-                sizeOfFileHeader += 11;
+                AESEngine.processHeader(generalFileHeader.getAesExtraDataRecord(), headerWriter);
             }
 
-            return sizeOfFileHeader;
+            return headerWriter.size() - beginPosition;
         } catch (Exception e) {
             throw new ZipException("Write file header error! ", e);
         }
     }
 
-    private void writeZip64EndOfCentralDirectoryRecord(OutputStream outputStream,
-                                                       int sizeOfCentralDirectory, long offsetCentralDirectory, List<String> headerBytesList) throws ZipException {
+    private void writeZip64EndOfCentralDirectoryRecord(OutputStream outputStream, int sizeOfCentralDirectory,
+                                                       long offsetCentralDirectory, RawUtils.Writer headerWriter)
+            throws ZipException {
         if (outputStream == null) {
             throw new ZipException("Output stream is null, cannot write zip64 end of central directory record");
         }
 
-        try {
-//			byte[] shortBuffer = new byte[2];
-            byte[] intBuffer = new byte[4];
-//			byte[] longBuffer = new byte[8];
-
-            final byte[] EMPTY_SHORT_BUFFER = {0, 0};
-
-            // zip64 end of central dir signature
-            HeaderOperator.appendIntToArrayList((int) Globals.ZIP64ENDCENDIRREC, headerBytesList);
+        // zip64 end of central dir signature
+        headerWriter.writeInt((int) Globals.ZIP64ENDCENDIRREC);
 
-            // size zip64 end of central directory record
-            HeaderOperator.appendLongToArrayList(44L, headerBytesList);
+        // size zip64 end of central directory record
+        headerWriter.writeLong(44L);
 
-            // version made by
-            // version needed to extract
-            if (this.centralDirectory != null && this.centralDirectory.getFileHeaders() != null
-                    && !this.centralDirectory.getFileHeaders().isEmpty()) {
-                HeaderOperator.appendShortToArrayList((short) this.centralDirectory.getFileHeaders().get(0).getMadeVersion(), headerBytesList);
-                HeaderOperator.appendShortToArrayList((short) this.centralDirectory.getFileHeaders().get(0).getExtractNeeded(), headerBytesList);
-            } else {
-                HeaderOperator.copyByteArrayToList(EMPTY_SHORT_BUFFER, headerBytesList);
-                HeaderOperator.copyByteArrayToList(EMPTY_SHORT_BUFFER, headerBytesList);
-            }
+        // version made by
+        // version needed to extract
+        if (this.centralDirectory != null && this.centralDirectory.getFileHeaders() != null
+                && !this.centralDirectory.getFileHeaders().isEmpty()) {
+            headerWriter.writeShort(this.centralDirectory.getFileHeaders().get(0).getMadeVersion())
+                    .writeShort(this.centralDirectory.getFileHeaders().get(0).getExtractNeeded());
+        } else {
+            headerWriter.writeBytes(EMPTY_SHORT_BUFFER)
+                    .writeBytes(EMPTY_SHORT_BUFFER);
+        }
 
-            // number of these disks
-            RawUtils.writeInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN,
-                    this.endCentralDirectoryRecord.getIndexOfThisDisk());
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
+        // number of these disks
+        headerWriter.writeInt(this.endCentralDirectoryRecord.getIndexOfThisDisk());
 
-            // number of the disks with start of central directory
-            RawUtils.writeInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN,
-                    this.endCentralDirectoryRecord.getIndexOfThisDiskStartOfCentralDirectory());
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
+        // number of the disks with start of central directory
+        headerWriter.writeInt(this.endCentralDirectoryRecord.getIndexOfThisDiskStartOfCentralDirectory());
 
-            // total number of entries in the central directory on this disk
-            int numEntries;
-            int numEntriesOnThisDisk = 0;
-            if (this.centralDirectory == null || this.centralDirectory.getFileHeaders() == null) {
-                throw new ZipException("invalid central directory/file headers, cannot write end of central directory record");
+        // total number of entries in the central directory on this disk
+        int numEntries;
+        int numEntriesOnThisDisk = 0;
+        if (this.centralDirectory == null || this.centralDirectory.getFileHeaders() == null) {
+            throw new ZipException("invalid central directory/file headers, cannot write end of central directory record");
+        } else {
+            numEntries = this.centralDirectory.getFileHeaders().size();
+            if (this.splitArchive) {
+                countNumberOfFileHeaderEntriesOnDisk(this.centralDirectory.getFileHeaders(),
+                        this.endCentralDirectoryRecord.getIndexOfThisDisk());
             } else {
-                numEntries = this.centralDirectory.getFileHeaders().size();
-                if (this.splitArchive) {
-                    countNumberOfFileHeaderEntriesOnDisk(this.centralDirectory.getFileHeaders(),
-                            this.endCentralDirectoryRecord.getIndexOfThisDisk());
-                } else {
-                    numEntriesOnThisDisk = numEntries;
-                }
+                numEntriesOnThisDisk = numEntries;
             }
+        }
 
-            HeaderOperator.appendLongToArrayList(numEntriesOnThisDisk, headerBytesList);
+        headerWriter.writeLong(numEntriesOnThisDisk);
 
-            // Total number of entries in central directory
-            HeaderOperator.appendLongToArrayList(numEntries, headerBytesList);
+        // Total number of entries in central directory
+        headerWriter.writeLong(numEntries);
 
-            // Size of central directory
-            HeaderOperator.appendLongToArrayList(sizeOfCentralDirectory, headerBytesList);
+        // Size of central directory
+        headerWriter.writeLong(sizeOfCentralDirectory);
 
-            // offset start of central directory with respect to the starting disk number
-            HeaderOperator.appendLongToArrayList(offsetCentralDirectory, headerBytesList);
-        } catch (Exception e) {
-            if (e instanceof ZipException) {
-                throw (ZipException) e;
-            } else {
-                throw new ZipException("Write zip64 header data error! ", e);
-            }
-        }
+        // offset start of central directory with respect to the starting disk number
+        headerWriter.writeLong(offsetCentralDirectory);
     }
 
     private void writeZip64EndOfCentralDirectoryLocator(OutputStream outputStream,
-                                                        List<String> headerBytesList) throws ZipException {
+                                                        RawUtils.Writer headerWriter) throws ZipException {
         if (outputStream == null) {
             throw new ZipException("Output stream is null, cannot write zip64 end of central directory locator");
         }
 
-        try {
-            byte[] intBuffer = new byte[4];
-            byte[] longBuffer = new byte[8];
-
-            // zip64 end of central dir locator signature
-            RawUtils.writeInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN, (int) Globals.ZIP64ENDCENDIRLOC);
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-
-            // number of the disks with the zip64 end of central directory
-            RawUtils.writeInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN,
-                    this.zip64EndCentralDirectoryLocator.getIndexOfZip64EndOfCentralDirectoryRecord());
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-
-            // relative offset of the zip64 end of central directory record
-            RawUtils.writeLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN,
-                    this.zip64EndCentralDirectoryLocator.getOffsetZip64EndOfCentralDirectoryRecord());
-            HeaderOperator.copyByteArrayToList(longBuffer, headerBytesList);
-
-            // total number of disks
-            RawUtils.writeInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN,
-                    this.zip64EndCentralDirectoryLocator.getTotalNumberOfDiscs());
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-        } catch (Exception e) {
-            if (e instanceof ZipException) {
-                throw (ZipException) e;
-            } else {
-                throw new ZipException("Write zip64 End Of Central Directory Locator error! ", e);
-            }
-        }
+        // zip64 end of central dir locator signature
+        headerWriter.writeInt((int) Globals.ZIP64ENDCENDIRLOC);
+
+        // number of the disks with the zip64 end of central directory
+        headerWriter.writeInt(this.zip64EndCentralDirectoryLocator.getIndexOfZip64EndOfCentralDirectoryRecord());
+
+        // relative offset of the zip64 end of central directory record
+        headerWriter.writeLong(this.zip64EndCentralDirectoryLocator.getOffsetZip64EndOfCentralDirectoryRecord());
+
+        // total number of disks
+        headerWriter.writeInt(this.zip64EndCentralDirectoryLocator.getTotalNumberOfDiscs());
     }
 
     private void writeEndOfCentralDirectoryRecord(final int sizeOfCentralDirectory, final long offsetCentralDirectory,
-                                                  final List<String> headerBytesList) throws ZipException {
+                                                  final RawUtils.Writer headerWriter) throws ZipException {
+        // End of central directory signature
+        headerWriter.writeInt((int) this.endCentralDirectoryRecord.getSignature());
 
-        try {
-            byte[] shortBuffer = new byte[2];
-            byte[] intBuffer = new byte[4];
-            byte[] longBuffer = new byte[8];
-
-            // End of central directory signature
-            RawUtils.writeInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN, (int) this.endCentralDirectoryRecord.getSignature());
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-
-            // number of these disks
-            RawUtils.writeShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN,
-                    (short) (this.endCentralDirectoryRecord.getIndexOfThisDisk()));
-            HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
-
-            // number of the disks with start of central directory
-            RawUtils.writeShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN,
-                    (short) (this.endCentralDirectoryRecord.getIndexOfThisDiskStartOfCentralDirectory()));
-            HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
-
-            // Total number of entries in the central directory on this disk
-            int numEntries;
-            int numEntriesOnThisDisk;
-            if (this.centralDirectory == null || this.centralDirectory.getFileHeaders() == null) {
-                throw new ZipException(
-                        "invalid central directory/file headers, " + "cannot write end of central directory record");
+        // number of these disks
+        headerWriter.writeShort(this.endCentralDirectoryRecord.getIndexOfThisDisk());
+
+        // number of the disks with start of central directory
+        headerWriter.writeShort(this.endCentralDirectoryRecord.getIndexOfThisDiskStartOfCentralDirectory());
+
+        // Total number of entries in the central directory on this disk
+        int numEntries;
+        int numEntriesOnThisDisk;
+        if (this.centralDirectory == null || this.centralDirectory.getFileHeaders() == null) {
+            throw new ZipException(
+                    "invalid central directory/file headers, " + "cannot write end of central directory record");
+        } else {
+            numEntries = this.centralDirectory.getFileHeaders().size();
+            if (this.splitArchive) {
+                numEntriesOnThisDisk = countNumberOfFileHeaderEntriesOnDisk(
+                        this.centralDirectory.getFileHeaders(),
+                        this.endCentralDirectoryRecord.getIndexOfThisDisk());
             } else {
-                numEntries = this.centralDirectory.getFileHeaders().size();
-                if (this.splitArchive) {
-                    numEntriesOnThisDisk = countNumberOfFileHeaderEntriesOnDisk(
-                            this.centralDirectory.getFileHeaders(),
-                            this.endCentralDirectoryRecord.getIndexOfThisDisk());
-                } else {
-                    numEntriesOnThisDisk = numEntries;
-                }
+                numEntriesOnThisDisk = numEntries;
             }
-            RawUtils.writeShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN, (short) numEntriesOnThisDisk);
-            HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
+        }
+        headerWriter.writeShort(numEntriesOnThisDisk);
 
-            // Total number of entries in central directory
-            RawUtils.writeShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN, (short) numEntries);
-            HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
+        // Total number of entries in central directory
+        headerWriter.writeShort(numEntries);
 
-            // Size of central directory
-            RawUtils.writeInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN, sizeOfCentralDirectory);
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
+        // Size of central directory
+        headerWriter.writeInt(sizeOfCentralDirectory);
 
-            // Offset central directory
-            RawUtils.writeLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN, Math.min(offsetCentralDirectory, Globals.ZIP_64_LIMIT));
-            System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
-            HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
+        // Offset central directory
+        headerWriter.writeInt((int) Math.min(offsetCentralDirectory, Globals.ZIP_64_LIMIT));
 
-            // Zip File comment length
-            int commentLength = 0;
-            if (this.endCentralDirectoryRecord.getCommentBytes() != null) {
-                commentLength = this.endCentralDirectoryRecord.getCommentLength();
-            }
-            RawUtils.writeShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN, (short) commentLength);
-            HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
+        // Zip File comment length
+        int commentLength = 0;
+        if (this.endCentralDirectoryRecord.getCommentBytes() != null) {
+            commentLength = this.endCentralDirectoryRecord.getCommentLength();
+        }
+        headerWriter.writeShort(commentLength);
 
-            // Comment
-            if (commentLength > 0) {
-                HeaderOperator.copyByteArrayToList(this.endCentralDirectoryRecord.getCommentBytes(), headerBytesList);
-            }
-        } catch (Exception e) {
-            if (e instanceof ZipException) {
-                throw (ZipException) e;
-            } else {
-                throw new ZipException("write End Of Central Directory Record error", e);
-            }
+        // Comment
+        if (commentLength > 0) {
+            headerWriter.writeBytes(this.endCentralDirectoryRecord.getCommentBytes());
         }
     }
 
@@ -2652,13 +2509,13 @@ public final class ZipFile implements Cloneable {
             this.endCentralDirectoryRecord = new EndCentralDirectoryRecord();
 
             int count = 0;
+            int endsig;
             do {
                 input.seek(position--);
                 count++;
-            } while ((readIntFromDataInput(input, buffer) != Globals.ENDSIG)
+            } while (((endsig = readIntFromDataInput(input, buffer)) != Globals.ENDSIG)
                     && count <= 3000);
 
-            int endsig = RawUtils.readInt(buffer, 0, ByteOrder.LITTLE_ENDIAN);
             if (endsig != Globals.ENDSIG) {
                 throw new ZipException("zip headers not found. probably not a zip file");
             }
@@ -2669,35 +2526,17 @@ public final class ZipFile implements Cloneable {
                 return;
             }
 
-            byte[] intBuffer = new byte[4];
-            byte[] shortBuffer = new byte[2];
+            RawUtils.Reader recordReader = RawUtils.reader(readBuffer, ByteOrder.LITTLE_ENDIAN);
 
             this.endCentralDirectoryRecord.setSignature(Globals.ENDSIG);
-
-            System.arraycopy(readBuffer, 0, shortBuffer, 0, 2);
-            this.endCentralDirectoryRecord.setIndexOfThisDisk(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 2, shortBuffer, 0, 2);
-            this.endCentralDirectoryRecord
-                    .setIndexOfThisDiskStartOfCentralDirectory(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 4, shortBuffer, 0, 2);
+            this.endCentralDirectoryRecord.setIndexOfThisDisk(recordReader.readUnsignedShort());
+            this.endCentralDirectoryRecord.setIndexOfThisDiskStartOfCentralDirectory(recordReader.readUnsignedShort());
             this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectoryOnThisDisk(
-                    RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 6, shortBuffer, 0, 2);
-            this.endCentralDirectoryRecord
-                    .setTotalOfEntriesInCentralDirectory(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 8, intBuffer, 0, 4);
-            this.endCentralDirectoryRecord.setSizeOfCentralDirectory(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 12, intBuffer, 0, 4);
-            this.endCentralDirectoryRecord.setOffsetOfStartOfCentralDirectory(
-                    RawUtils.readLong(readLongByteFromIntByte(intBuffer), 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 16, shortBuffer, 0, 2);
-            this.endCentralDirectoryRecord.setCommentLength(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                    recordReader.readUnsignedShort());
+            this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectory(recordReader.readUnsignedShort());
+            this.endCentralDirectoryRecord.setSizeOfCentralDirectory(recordReader.readInt());
+            this.endCentralDirectoryRecord.setOffsetOfStartOfCentralDirectory(recordReader.readUnsignedInt());
+            this.endCentralDirectoryRecord.setCommentLength(recordReader.readUnsignedShort());
 
             if (this.endCentralDirectoryRecord.getCommentLength() > 0) {
                 byte[] commentBuffer = new byte[this.endCentralDirectoryRecord.getCommentLength()];
@@ -2706,7 +2545,7 @@ public final class ZipFile implements Cloneable {
             }
 
             this.splitArchive |= (this.endCentralDirectoryRecord.getIndexOfThisDisk() > 0);
-        } catch (IOException | DataInvalidException e) {
+        } catch (IOException e) {
             throw new ZipException("read End Of Central Directory Record error! ", e);
         }
     }
@@ -2749,10 +2588,9 @@ public final class ZipFile implements Cloneable {
                 return;
             }
 
-            byte[] intBuffer = new byte[4];
-            byte[] longBuffer = new byte[8];
+            RawUtils.Reader locatorReader = RawUtils.reader(readBuffer, ByteOrder.LITTLE_ENDIAN);
 
-            int signature = this.readSignature(readBuffer);
+            int signature = locatorReader.readInt();
             if (signature == Globals.ZIP64ENDCENDIRLOC) {
                 this.zip64Format = true;
                 this.zip64EndCentralDirectoryLocator.setSignature(signature);
@@ -2761,31 +2599,14 @@ public final class ZipFile implements Cloneable {
                 return;
             }
 
-            System.arraycopy(readBuffer, 4, intBuffer, 0, 4);
-            this.zip64EndCentralDirectoryLocator
-                    .setIndexOfZip64EndOfCentralDirectoryRecord(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 8, longBuffer, 0, 8);
-            this.zip64EndCentralDirectoryLocator
-                    .setOffsetZip64EndOfCentralDirectoryRecord(RawUtils.readInt(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-
-            System.arraycopy(readBuffer, 16, intBuffer, 0, 4);
-            this.zip64EndCentralDirectoryLocator.setTotalNumberOfDiscs(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryLocator.setIndexOfZip64EndOfCentralDirectoryRecord(locatorReader.readInt());
+            this.zip64EndCentralDirectoryLocator.setOffsetZip64EndOfCentralDirectoryRecord(locatorReader.readLong());
+            this.zip64EndCentralDirectoryLocator.setTotalNumberOfDiscs(locatorReader.readInt());
         } catch (Exception e) {
             throw new ZipException("read Zip64 End Central Directory Locator error! ", e);
         }
     }
 
-    private int readSignature(byte[] dataBytes) {
-        byte[] intBuffer = new byte[4];
-        System.arraycopy(dataBytes, 0, intBuffer, 0, 4);
-        try {
-            return RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN);
-        } catch (DataInvalidException ignore) {
-            return Globals.DEFAULT_VALUE_INT;
-        }
-    }
-
     private void readCentralDirectory(StandardFile input)
             throws ZipException {
         if (this.endCentralDirectoryRecord == null) {
@@ -2815,15 +2636,13 @@ public final class ZipFile implements Cloneable {
                 return;
             }
 
-            byte[] shortBuffer = new byte[2];
-            byte[] intBuffer = new byte[4];
+            RawUtils.Reader headerReader = RawUtils.reader(readBuffer, ByteOrder.LITTLE_ENDIAN);
+            Charset charset = Charset.forName(this.charsetEncoding);
 
-            int pos = 0;
             for (int i = 0; i < centralDirectoryEntryCount; i++) {
                 GeneralFileHeader fileHeader = new GeneralFileHeader();
 
-                System.arraycopy(readBuffer, pos, intBuffer, 0, 4);
-                int signature = RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN);
+                int signature = headerReader.readInt();
                 if (signature != Globals.CENSIG) {
                     throw new ZipException("Expected central directory entry not found! Index: " + i);
                 }
@@ -2831,76 +2650,59 @@ public final class ZipFile implements Cloneable {
                 fileHeader.setSignature(signature);
 
                 // Made version
-                System.arraycopy(readBuffer, pos + 4, shortBuffer, 0, 2);
-                fileHeader.setMadeVersion(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setMadeVersion(headerReader.readUnsignedShort());
 
                 // Extract needed
-                System.arraycopy(readBuffer, pos + 6, shortBuffer, 0, 2);
-                fileHeader.setExtractNeeded(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setExtractNeeded(headerReader.readUnsignedShort());
 
                 // Purpose bit flag
-                System.arraycopy(readBuffer, pos + 8, shortBuffer, 0, 2);
+                byte[] generalPurposeFlag = headerReader.readBytes(2);
                 fileHeader.setFileNameUTF8Encoded(
-                        (RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN) & Globals.UFT8_NAMES_FLAG) != 0);
-                int firstByte = shortBuffer[0];
-                fileHeader.setGeneralPurposeFlag(shortBuffer.clone());
+                        ((generalPurposeFlag[0] & 0xFF | generalPurposeFlag[1] << 8) & Globals.UFT8_NAMES_FLAG) != 0);
+                int firstByte = generalPurposeFlag[0];
+                fileHeader.setGeneralPurposeFlag(generalPurposeFlag);
                 fileHeader.setDataDescriptorExists((firstByte >> 3) == 1);
 
                 // Compression method
-                System.arraycopy(readBuffer, pos + 10, shortBuffer, 0, 2);
-                fileHeader.setCompressionMethod(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setCompressionMethod(headerReader.readUnsignedShort());
 
                 // Last modify file time
-                System.arraycopy(readBuffer, pos + 12, intBuffer, 0, 4);
-                fileHeader.setLastModFileTime(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setLastModFileTime(headerReader.readInt());
 
                 // Crc32
-                System.arraycopy(readBuffer, pos + 16, intBuffer, 0, 4);
-                fileHeader.setCrc32(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-                fileHeader.setCrcBuffer(intBuffer.clone());
+                byte[] crcBuffer = headerReader.readBytes(4);
+                fileHeader.setCrc32(RawUtils.reader(crcBuffer, ByteOrder.LITTLE_ENDIAN).readUnsignedInt());
+                fileHeader.setCrcBuffer(crcBuffer);
 
                 // Compressed size
-                System.arraycopy(readBuffer, pos + 20, intBuffer, 0, 4);
-                fileHeader.setCompressedSize(RawUtils.readLong(readLongByteFromIntByte(intBuffer), 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setCompressedSize(headerReader.readUnsignedInt());
 
                 // Original size
-                System.arraycopy(readBuffer, pos + 24, intBuffer, 0, 4);
-                fileHeader.setOriginalSize(RawUtils.readLong(readLongByteFromIntByte(intBuffer), 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setOriginalSize(headerReader.readUnsignedInt());
 
                 // File name length
-                System.arraycopy(readBuffer, pos + 28, shortBuffer, 0, 2);
-                fileHeader.setFileNameLength(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setFileNameLength(headerReader.readUnsignedShort());
 
                 // Extra field length
-                System.arraycopy(readBuffer, pos + 30, shortBuffer, 0, 2);
-                fileHeader.setExtraFieldLength(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setExtraFieldLength(headerReader.readUnsignedShort());
 
                 // Comment length
-                System.arraycopy(readBuffer, pos + 32, shortBuffer, 0, 2);
-                fileHeader.setFileCommentLength(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setFileCommentLength(headerReader.readUnsignedShort());
 
                 // Disk number of start
-                System.arraycopy(readBuffer, pos + 34, shortBuffer, 0, 2);
-                fileHeader.setDiskNumberStart(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                fileHeader.setDiskNumberStart(headerReader.readUnsignedShort());
 
                 // Internal file attributes
-                System.arraycopy(readBuffer, pos + 36, shortBuffer, 0, 2);
-                fileHeader.setInternalFileAttr(shortBuffer.clone());
+                fileHeader.setInternalFileAttr(headerReader.readBytes(2));
 
                 // External file attributes
-                System.arraycopy(readBuffer, pos + 38, intBuffer, 0, 4);
-                fileHeader.setExternalFileAttr(intBuffer.clone());
+                fileHeader.setExternalFileAttr(headerReader.readBytes(4));
 
                 // Relative offset of local header
-                System.arraycopy(readBuffer, pos + 42, intBuffer, 0, 4);
-                fileHeader.setOffsetLocalHeader(
-                        RawUtils.readLong(readLongByteFromIntByte(intBuffer), 0, ByteOrder.LITTLE_ENDIAN) & 0xFFFFFFFFL);
+                fileHeader.setOffsetLocalHeader(headerReader.readUnsignedInt());
 
                 if (fileHeader.getFileNameLength() > 0) {
-                    byte[] fileNameBuffer = new byte[fileHeader.getFileNameLength()];
-                    System.arraycopy(readBuffer, pos + 46, fileNameBuffer, 0, fileHeader.getFileNameLength());
-
-                    String entryPath = new String(fileNameBuffer, this.charsetEncoding);
+                    String entryPath = headerReader.readString(fileHeader.getFileNameLength(), charset);
 
                     if (entryPath.contains(Globals.DEFAULT_ZIP_ENTRY_SEPARATOR)) {
                         entryPath = entryPath.substring(entryPath.indexOf(Globals.DEFAULT_ZIP_ENTRY_SEPARATOR)
@@ -2920,9 +2722,9 @@ public final class ZipFile implements Cloneable {
 
                 // Extra field
                 if (fileHeader.getExtraFieldLength() > 0) {
-                    byte[] extraFieldBuffer = new byte[fileHeader.getExtraFieldLength()];
-                    System.arraycopy(readBuffer, pos + 46 + fileHeader.getFileNameLength(), extraFieldBuffer, 0, fileHeader.getExtraFieldLength());
-                    fileHeader.setExtraDataRecords(readExtraDataRecords(extraFieldBuffer, fileHeader.getExtraFieldLength()));
+                    fileHeader.setExtraDataRecords(readExtraDataRecords(readBuffer,
+                            headerReader.position(), fileHeader.getExtraFieldLength()));
+                    headerReader.skip(fileHeader.getExtraFieldLength());
                 }
 
                 // Read zip64 extra data record if exists
@@ -2932,40 +2734,33 @@ public final class ZipFile implements Cloneable {
                 readAndSaveAESExtraDataRecord(fileHeader);
 
                 if (fileHeader.getFileCommentLength() > 0) {
-                    byte[] commentBuffer = new byte[fileHeader.getFileCommentLength()];
-                    System.arraycopy(readBuffer,
-                            pos + 46 + fileHeader.getFileNameLength() + fileHeader.getExtraFieldLength(),
-                            commentBuffer, 0, fileHeader.getFileCommentLength());
-                    fileHeader.setFileComment(new String(commentBuffer, this.charsetEncoding));
+                    fileHeader.setFileComment(
+                            headerReader.readString(fileHeader.getFileCommentLength(), charset));
                 }
                 fileHeaderList.add(fileHeader);
-                pos += (46 + fileHeader.getFileNameLength() + fileHeader.getExtraFieldLength() + fileHeader.getFileCommentLength());
             }
 
             this.centralDirectory = new CentralDirectory();
 
             this.centralDirectory.setFileHeaders(fileHeaderList);
 
-            System.arraycopy(readBuffer, pos, intBuffer, 0, 4);
-            int signature = RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN);
-            if (signature == Globals.DIGSIG) {
-                DigitalSignature digitalSignature = new DigitalSignature();
+            if (headerReader.remaining() >= 6) {
+                int signature = headerReader.readInt();
+                if (signature == Globals.DIGSIG) {
+                    DigitalSignature digitalSignature = new DigitalSignature();
 
-                digitalSignature.setSignature(signature);
+                    digitalSignature.setSignature(signature);
+                    digitalSignature.setDataSize(headerReader.readUnsignedShort());
 
-                System.arraycopy(readBuffer, pos + 4, shortBuffer, 0, 2);
-                digitalSignature.setDataSize(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                    if (digitalSignature.getDataSize() > 0) {
+                        digitalSignature.setSignatureData(
+                                headerReader.readString(digitalSignature.getDataSize(), charset));
+                    }
 
-                if (digitalSignature.getDataSize() > 0) {
-                    byte[] signatureDataBuffer = new byte[digitalSignature.getDataSize()];
-                    System.arraycopy(readBuffer, pos + 6, signatureDataBuffer,
-                            0, digitalSignature.getDataSize());
-                    digitalSignature.setSignatureData(new String(signatureDataBuffer, this.charsetEncoding));
+                    this.centralDirectory.setDigitalSignature(digitalSignature);
                 }
-
-                this.centralDirectory.setDigitalSignature(digitalSignature);
             }
-        } catch (IOException | DataInvalidException e) {
+        } catch (IOException | IndexOutOfBoundsException e) {
             throw new ZipException("read Central Directory error! ", e);
         }
     }
@@ -2993,57 +2788,41 @@ public final class ZipFile implements Cloneable {
                 return;
             }
 
-            byte[] shortBuffer = new byte[2];
-            byte[] intBuffer = new byte[4];
-            byte[] longBuffer = new byte[8];
+            RawUtils.Reader recordReader = RawUtils.reader(readBuffer, ByteOrder.LITTLE_ENDIAN);
 
-            int signature = this.readSignature(readBuffer);
+            int signature = recordReader.readInt();
             if (signature != Globals.ZIP64ENDCENDIRREC) {
                 throw new ZipException("Invalid signature for zip64 end of central directory record");
             }
             this.zip64EndCentralDirectoryRecord.setSignature(signature);
 
             // Read the size of zip64 end of central directory record
-            System.arraycopy(readBuffer, 4, longBuffer, 0, 8);
-            this.zip64EndCentralDirectoryRecord.setRecordSize(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setRecordSize(recordReader.readLong());
 
             // Made version
-            System.arraycopy(readBuffer, 12, shortBuffer, 0, 2);
-            this.zip64EndCentralDirectoryRecord.setMadeVersion(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setMadeVersion(recordReader.readUnsignedShort());
 
             // Extract needed
-            System.arraycopy(readBuffer, 14, shortBuffer, 0, 2);
-            this.zip64EndCentralDirectoryRecord.setExtractNeeded(RawUtils.readShort(shortBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setExtractNeeded(recordReader.readUnsignedShort());
 
             // Number of these disks
-            System.arraycopy(readBuffer, 16, intBuffer, 0, 4);
-            this.zip64EndCentralDirectoryRecord.setIndex(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setIndex(recordReader.readInt());
 
             // Start of central directory
-            System.arraycopy(readBuffer, 20, intBuffer, 0, 4);
-            this.zip64EndCentralDirectoryRecord
-                    .setStartOfCentralDirectory(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setStartOfCentralDirectory(recordReader.readInt());
 
             // Total of entries in the central directory on this disk
-            System.arraycopy(readBuffer, 24, longBuffer, 0, 8);
-            this.zip64EndCentralDirectoryRecord
-                    .setTotalEntriesInCentralDirectoryOnThisDisk(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setTotalEntriesInCentralDirectoryOnThisDisk(recordReader.readLong());
 
             // Total of entries in the central directory
-            System.arraycopy(readBuffer, 32, longBuffer, 0, 8);
-            this.zip64EndCentralDirectoryRecord
-                    .setTotalEntriesInCentralDirectory(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setTotalEntriesInCentralDirectory(recordReader.readLong());
 
             // Size of the central directory
-            System.arraycopy(readBuffer, 40, longBuffer, 0, 8);
-            this.zip64EndCentralDirectoryRecord
-                    .setSizeOfCentralDirectory(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setSizeOfCentralDirectory(recordReader.readLong());
 
             // Offset start of central directory with respect to the starting
             // disk number
-            System.arraycopy(readBuffer, 48, longBuffer, 0, 8);
-            this.zip64EndCentralDirectoryRecord
-                    .setOffsetStartCenDirWRTStartDiskNo(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+            this.zip64EndCentralDirectoryRecord.setOffsetStartCenDirWRTStartDiskNo(recordReader.readLong());
 
             // Zip64 extensible data sector
             long extDataSize = zip64EndCentralDirectoryRecord.getRecordSize() - 44L;
@@ -3055,7 +2834,7 @@ public final class ZipFile implements Cloneable {
             }
 
             this.splitArchive |= (this.zip64EndCentralDirectoryRecord.getIndex() > 0);
-        } catch (IOException | DataInvalidException e) {
+        } catch (IOException e) {
             throw new ZipException("read Zip64 End Central Directory Record error! ", e);
         }
     }
@@ -3079,15 +2858,13 @@ public final class ZipFile implements Cloneable {
                         aesExtraDataRecord.setDataSize(extraDataRecord.getDataSize());
 
                         try {
-                            byte[] aesData = extraDataRecord.getDataContent();
-                            aesExtraDataRecord.setVersionNumber(RawUtils.readShort(aesData, 0, ByteOrder.LITTLE_ENDIAN));
-
-                            byte[] vendorIDBuffer = new byte[2];
-                            System.arraycopy(aesData, 2, vendorIDBuffer, 0, 2);
-                            aesExtraDataRecord.setVendorID(new String(vendorIDBuffer, StandardCharsets.UTF_8));
-                            aesExtraDataRecord.setAesStrength((aesData[4] & 0xFF));
-                            aesExtraDataRecord.setCompressionMethod(RawUtils.readShort(aesData, 5, ByteOrder.LITTLE_ENDIAN));
-                        } catch (DataInvalidException e) {
+                            RawUtils.Reader aesReader =
+                                    RawUtils.reader(extraDataRecord.getDataContent(), ByteOrder.LITTLE_ENDIAN);
+                            aesExtraDataRecord.setVersionNumber(aesReader.readShort());
+                            aesExtraDataRecord.setVendorID(aesReader.readString(2, StandardCharsets.UTF_8));
+                            aesExtraDataRecord.setAesStrength(aesReader.readUnsignedByte());
+                            aesExtraDataRecord.setCompressionMethod(aesReader.readShort());
+                        } catch (IndexOutOfBoundsException e) {
                             throw new ZipException("read And Save AES Extra Data Record error", e);
                         }
                         fileHeader.setAesExtraDataRecord(aesExtraDataRecord);
@@ -3107,41 +2884,36 @@ public final class ZipFile implements Cloneable {
                     break;
                 }
 
-                byte[] intBuffer = new byte[4];
-                byte[] longBuffer = new byte[8];
-                int count = 0;
                 boolean addValue = Boolean.FALSE;
 
                 Zip64ExtendInfo zip64ExtendInfo = new Zip64ExtendInfo();
 
                 try {
+                    RawUtils.Reader extendReader =
+                            RawUtils.reader(extraDataRecord.getDataContent(), ByteOrder.LITTLE_ENDIAN);
                     if ((originalSize & 0xFFFF) == 0xFFFF) {
-                        System.arraycopy(extraDataRecord.getDataContent(), count, longBuffer, 0, 8);
-                        zip64ExtendInfo.setOriginalSize(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-                        count += 8;
+                        zip64ExtendInfo.setOriginalSize(extendReader.readLong());
                         addValue = Boolean.TRUE;
                     }
 
-                    if (((compressedSize & 0xFFFF) == 0xFFFF) && count < extraDataRecord.getDataSize()) {
-                        System.arraycopy(extraDataRecord.getDataContent(), count, longBuffer, 0, 8);
-                        zip64ExtendInfo.setCompressedSize(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-                        count += 8;
+                    if (((compressedSize & 0xFFFF) == 0xFFFF)
+                            && extendReader.position() < extraDataRecord.getDataSize()) {
+                        zip64ExtendInfo.setCompressedSize(extendReader.readLong());
                         addValue = Boolean.TRUE;
                     }
 
-                    if (((offsetLocalHeader & 0xFFFF) == 0xFFFF) && count < extraDataRecord.getDataSize()) {
-                        System.arraycopy(extraDataRecord.getDataContent(), count, longBuffer, 0, 8);
-                        zip64ExtendInfo.setOffsetLocalHeader(RawUtils.readLong(longBuffer, 0, ByteOrder.LITTLE_ENDIAN));
-                        count += 8;
+                    if (((offsetLocalHeader & 0xFFFF) == 0xFFFF)
+                            && extendReader.position() < extraDataRecord.getDataSize()) {
+                        zip64ExtendInfo.setOffsetLocalHeader(extendReader.readLong());
                         addValue = Boolean.TRUE;
                     }
 
-                    if (((diskNumberStart & 0xFFFF) == 0xFFFF) && count < extraDataRecord.getDataSize()) {
-                        System.arraycopy(extraDataRecord.getDataContent(), count, intBuffer, 0, 4);
-                        zip64ExtendInfo.setDiskNumberStart(RawUtils.readInt(intBuffer, 0, ByteOrder.LITTLE_ENDIAN));
+                    if (((diskNumberStart & 0xFFFF) == 0xFFFF)
+                            && extendReader.position() < extraDataRecord.getDataSize()) {
+                        zip64ExtendInfo.setDiskNumberStart(extendReader.readInt());
                         addValue = Boolean.TRUE;
                     }
-                } catch (DataInvalidException e) {
+                } catch (IndexOutOfBoundsException e) {
                     throw new ZipException("read Zip64 Extend Info error! ", e);
                 }
 
@@ -3203,40 +2975,34 @@ public final class ZipFile implements Cloneable {
         }
     }
 
-    private static List<ExtraDataRecord> readExtraDataRecords(byte[] extraFieldBuffer, int extraFieldLength)
+    private static List<ExtraDataRecord> readExtraDataRecords(byte[] dataBytes, int offset, int extraFieldLength)
             throws ZipException {
-        int count = 0;
         List<ExtraDataRecord> extraDataRecords = new ArrayList<>();
 
-        while (count < extraFieldLength) {
-            ExtraDataRecord extraDataRecord = new ExtraDataRecord();
-            try {
-                extraDataRecord.setHeader(RawUtils.readShort(extraFieldBuffer, count, ByteOrder.LITTLE_ENDIAN));
-
-                count += 2;
+        try {
+            RawUtils.Reader extraReader = RawUtils.reader(dataBytes, offset, extraFieldLength, ByteOrder.LITTLE_ENDIAN);
+            while (extraReader.remaining() >= 4) {
+                ExtraDataRecord extraDataRecord = new ExtraDataRecord();
+                extraDataRecord.setHeader(extraReader.readShort());
 
-                int dataSize = RawUtils.readShort(extraFieldBuffer, count, ByteOrder.LITTLE_ENDIAN);
+                int dataSize = extraReader.readShort();
 
                 if ((dataSize + 2) > extraFieldLength) {
-                    dataSize = RawUtils.readShort(extraFieldBuffer, count, ByteOrder.BIG_ENDIAN);
+                    dataSize = Short.reverseBytes((short) dataSize);
                     if ((dataSize + 2) > extraFieldLength) {
                         break;
                     }
                 }
                 extraDataRecord.setDataSize(dataSize);
-                count += 2;
 
                 if (dataSize > 0) {
-                    byte[] dataContent = new byte[dataSize];
-                    System.arraycopy(extraFieldBuffer, count, dataContent, 0, dataSize);
-                    extraDataRecord.setDataContent(dataContent);
+                    extraDataRecord.setDataContent(extraReader.readBytes(dataSize));
                 }
 
-                count += dataSize;
-            } catch (DataInvalidException e) {
-                throw new ZipException("read Extra Data Records error! ", e);
+                extraDataRecords.add(extraDataRecord);
             }
-            extraDataRecords.add(extraDataRecord);
+        } catch (IndexOutOfBoundsException e) {
+            throw new ZipException("read Extra Data Records error! ", e);
         }
 
         if (!extraDataRecords.isEmpty()) {
@@ -3261,18 +3027,6 @@ public final class ZipFile implements Cloneable {
         return noEntries;
     }
 
-    private static byte[] readLongByteFromIntByte(byte[] intByte) throws ZipException {
-        if (intByte == null) {
-            throw new ZipException("int bytes is null");
-        }
-
-        if (intByte.length != 4) {
-            throw new ZipException("Invalid byte length");
-        }
-
-        return new byte[]{intByte[0], intByte[1], intByte[2], intByte[3], 0, 0, 0, 0};
-    }
-
     private static int readIntFromDataInput(StandardFile input, byte[] bytes) throws ZipException {
         try {
             if (input.read(bytes, 0, 4) == 4) {
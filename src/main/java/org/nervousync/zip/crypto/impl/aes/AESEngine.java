@@ -16,19 +16,17 @@
  */
 package org.nervousync.zip.crypto.impl.aes;
 
-import org.nervousync.exceptions.utils.DataInvalidException;
+import org.nervousync.utils.RawUtils;
 import org.nervousync.zip.models.AESExtraDataRecord;
-import org.nervousync.zip.models.header.utils.HeaderOperator;
 import org.nervousync.exceptions.zip.ZipException;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
 /**
  * AES Engine
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Nov 30, 2017 2:55:56 PM $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:52:26 $
  */
 public final class AESEngine {
 
@@ -75,20 +73,15 @@ public final class AESEngine {
 	 * Process header.
 	 *
 	 * @param aesExtraDataRecord the aes extra data record
-	 * @param headerBytesList    the header bytes list
+	 * @param headerWriter       the header writer
 	 */
-	public static void processHeader(AESExtraDataRecord aesExtraDataRecord, List<String> headerBytesList)
-			throws ZipException, DataInvalidException {
-		HeaderOperator.appendShortToArrayList((short) aesExtraDataRecord.getSignature(), headerBytesList);
-		HeaderOperator.appendShortToArrayList((short) aesExtraDataRecord.getDataSize(), headerBytesList);
-		HeaderOperator.appendShortToArrayList((short) aesExtraDataRecord.getVersionNumber(), headerBytesList);
-		HeaderOperator.copyByteArrayToList(aesExtraDataRecord.getVendorID().getBytes(StandardCharsets.UTF_8), headerBytesList);
-
-		byte[] aesStrengthBytes = new byte[1];
-		aesStrengthBytes[0] = (byte) aesExtraDataRecord.getAesStrength();
-		HeaderOperator.copyByteArrayToList(aesStrengthBytes, headerBytesList);
-
-		HeaderOperator.appendShortToArrayList((short) aesExtraDataRecord.getCompressionMethod(), headerBytesList);
+	public static void processHeader(AESExtraDataRecord aesExtraDataRecord, RawUtils.Writer headerWriter) {
+		headerWriter.writeShort((int) aesExtraDataRecord.getSignature())
+				.writeShort(aesExtraDataRecord.getDataSize())
+				.writeShort(aesExtraDataRecord.getVersionNumber())
+				.writeBytes(aesExtraDataRecord.getVendorID().getBytes(StandardCharsets.UTF_8))
+				.writeByte(aesExtraDataRecord.getAesStrength())
+				.writeShort(aesExtraDataRecord.getCompressionMethod());
 	}
 
 	private void stateIn(byte[] bytes) {
@@ -49,7 +49,7 @@ import org.nervousync.utils.StringUtils;
  * The type Cipher output stream.
  *
  * @author Steven Wee <a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Nov 29, 2017 2:39:25 PM $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:57:08 $
  */
 public class CipherOutputStream extends OutputStream {
 
@@ -293,12 +293,7 @@ public class CipherOutputStream extends OutputStream {
 		this.zipFile.getLocalFileHeaderList().add(this.localFileHeader);
 		this.zipFile.getCentralDirectory().getFileHeaders().add(this.generalFileHeader);
 
-		try {
-			this.totalWriteBytes +=
-					HeaderOperator.writeExtendedLocalHeader(this.localFileHeader, this.outputStream);
-		} catch (DataInvalidException e) {
-			throw new IOException(e);
-		}
+		this.totalWriteBytes += HeaderOperator.writeExtendedLocalHeader(this.localFileHeader, this.outputStream);
 
 		this.crc.reset();
 		this.bytesWrittenForThisFile = 0L;
@@ -609,55 +604,30 @@ public class CipherOutputStream extends OutputStream {
 			throw new ZipException(0x0000001B000EL, "Null_Local_File_Header_Zip_Error");
 		}
 		try {
-			List<String> headerBytesList = new ArrayList<>();
-
-			byte[] shortBuffer = new byte[2];
-			byte[] intBuffer = new byte[4];
-			byte[] longBuffer = new byte[8];
-			byte[] emptyLongBuffer = { 0, 0, 0, 0, 0, 0, 0, 0 };
-
-			RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, localFileHeader.getSignature());
-			HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-
-			RawUtils.writeShort(shortBuffer, ByteOrder.LITTLE_ENDIAN, (short) localFileHeader.getExtractNeeded());
-			HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
-
-			HeaderOperator.copyByteArrayToList(localFileHeader.getGeneralPurposeFlag(), headerBytesList);
-
-			RawUtils.writeShort(shortBuffer, ByteOrder.LITTLE_ENDIAN, (short) localFileHeader.getCompressionMethod());
-			HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
+			RawUtils.Writer headerWriter = HeaderOperator.headerWriter();
 
-			RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, localFileHeader.getLastModFileTime());
-			HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-
-			RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, (int) localFileHeader.getCrc32());
-			HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
+			headerWriter.writeInt(localFileHeader.getSignature())
+					.writeShort(localFileHeader.getExtractNeeded())
+					.writeBytes(localFileHeader.getGeneralPurposeFlag())
+					.writeShort(localFileHeader.getCompressionMethod())
+					.writeInt(localFileHeader.getLastModFileTime())
+					.writeInt((int) localFileHeader.getCrc32());
 
 			boolean writingZip64Record = Boolean.FALSE;
 
 			long originalSize = localFileHeader.getOriginalSize();
 			if (originalSize + Globals.ZIP64_EXTRA_BUFFER_SIZE >= Globals.ZIP_64_LIMIT) {
-				RawUtils.writeLong(longBuffer, ByteOrder.LITTLE_ENDIAN, Globals.ZIP_64_LIMIT);
-				System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
-
-				HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-				HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
+				headerWriter.writeInt((int) Globals.ZIP_64_LIMIT)
+						.writeInt((int) Globals.ZIP_64_LIMIT);
 				writingZip64Record = true;
 				localFileHeader.setWriteCompressSizeInZip64ExtraRecord(true);
 			} else {
-				RawUtils.writeLong(longBuffer, ByteOrder.LITTLE_ENDIAN, localFileHeader.getCompressedSize());
-				System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
-				HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-
-				RawUtils.writeLong(longBuffer, ByteOrder.LITTLE_ENDIAN, localFileHeader.getOriginalSize());
-				System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
-				HeaderOperator.copyByteArrayToList(intBuffer, headerBytesList);
-
+				headerWriter.writeInt((int) localFileHeader.getCompressedSize())
+						.writeInt((int) localFileHeader.getOriginalSize());
 				localFileHeader.setWriteCompressSizeInZip64ExtraRecord(Boolean.FALSE);
 			}
 
-			RawUtils.writeShort(shortBuffer, ByteOrder.LITTLE_ENDIAN, (short) localFileHeader.getFileNameLength());
-			HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
+			headerWriter.writeShort(localFileHeader.getFileNameLength());
 
 			int extraFieldLength = 0;
 			if (writingZip64Record) {
@@ -668,38 +638,29 @@ public class CipherOutputStream extends OutputStream {
 				extraFieldLength += 11;
 			}
 
-			RawUtils.writeShort(shortBuffer, ByteOrder.LITTLE_ENDIAN, (short) extraFieldLength);
-			HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
+			headerWriter.writeShort(extraFieldLength);
 
 			if (StringUtils.notBlank(this.zipFile.getCharsetEncoding())) {
-				byte[] fileNameBytes = localFileHeader.getEntryPath().getBytes(this.zipFile.getCharsetEncoding());
-				HeaderOperator.copyByteArrayToList(fileNameBytes, headerBytesList);
+				headerWriter.writeBytes(localFileHeader.getEntryPath().getBytes(this.zipFile.getCharsetEncoding()));
 			} else {
-				HeaderOperator.copyByteArrayToList(localFileHeader.getEntryPath(), headerBytesList);
+				HeaderOperator.writeEntryPath(localFileHeader.getEntryPath(), headerWriter);
 			}
 
 			if (writingZip64Record) {
-				RawUtils.writeShort(shortBuffer, ByteOrder.LITTLE_ENDIAN, (short) Globals.EXTRAFIELDZIP64LENGTH);
-				HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
-
-				RawUtils.writeShort(shortBuffer, ByteOrder.LITTLE_ENDIAN, (short) 16);
-				HeaderOperator.copyByteArrayToList(shortBuffer, headerBytesList);
-
-				RawUtils.writeLong(longBuffer, ByteOrder.LITTLE_ENDIAN, localFileHeader.getOriginalSize());
-				HeaderOperator.copyByteArrayToList(longBuffer, headerBytesList);
-
-				HeaderOperator.copyByteArrayToList(emptyLongBuffer, headerBytesList);
+				headerWriter.writeShort(Globals.EXTRAFIELDZIP64LENGTH)
+						.writeShort(16)
+						.writeLong(localFileHeader.getOriginalSize())
+						.writeLong(0L);
 			}
 
 			if (localFileHeader.getAesExtraDataRecord() != null) {
-				AESEngine.processHeader(localFileHeader.getAesExtraDataRecord(), headerBytesList);
+				AESEngine.processHeader(localFileHeader.getAesExtraDataRecord(), headerWriter);
 			}
 
-			byte[] bytes = HeaderOperator.convertByteArrayListToByteArray(headerBytesList);
-			outputStream.write(bytes);
+			int writeLength = headerWriter.writeTo(outputStream);
 			outputStream.flush();
 
-			return bytes.length;
+			return writeLength;
 		} catch (Exception e) {
 			throw new ZipException(0x0000001B0017L, "Write_Local_File_Header_Zip_Error", e);
 		}
@@ -37,11 +37,8 @@ import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 
 import org.nervousync.commons.Globals;
-import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.utils.StringUtils;
 import org.nervousync.zip.models.header.LocalFileHeader;
 import org.nervousync.exceptions.zip.ZipException;
@@ -51,10 +48,15 @@ import org.nervousync.utils.RawUtils;
  * The type Header operator.
  *
  * @author Steven Wee   <a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
- * @version $Revision: 1.0.0 $ $Date: Dec 2, 2017 6:07:27 PM $
+ * @version $Revision: 1.2.1 $ $Date: Oct 18, 2026 10:48:03 $
  */
 public final class HeaderOperator {
 
+	/**
+	 * Initialize capacity of header writer
+	 */
+	private static final int HEADER_BUFFER_SIZE = 512;
+
 	/**
 	 * Retrieve salt length int.
 	 *
@@ -90,136 +92,49 @@ public final class HeaderOperator {
 	 * @throws IOException  the io exception
 	 */
 	public static int writeExtendedLocalHeader(LocalFileHeader localFileHeader, OutputStream outputStream)
-			throws ZipException, DataInvalidException, IOException {
+			throws ZipException, IOException {
 		if (localFileHeader == null || outputStream == null) {
 			throw new ZipException("input parameters is null, cannot write extended local header");
 		}
 
-		List<String> byteArrayList = new ArrayList<>();
-		byte[] intBuffer = new byte[4];
+		RawUtils.Writer headerWriter = RawUtils.writer(16, ByteOrder.LITTLE_ENDIAN);
 
 		// Extended local file header signature
-		RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, (int) Globals.EXTSIG);
-		copyByteArrayToList(intBuffer, byteArrayList);
+		headerWriter.writeInt((int) Globals.EXTSIG);
 
 		// CRC
-		RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, (int) localFileHeader.getCrc32());
-		copyByteArrayToList(intBuffer, byteArrayList);
+		headerWriter.writeInt((int) localFileHeader.getCrc32());
 
 		// Compressed size
-		long compressedSize = localFileHeader.getCompressedSize();
-		if (compressedSize > Integer.MAX_VALUE) {
-			compressedSize = Integer.MAX_VALUE;
-		}
-		RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, (int) compressedSize);
-		copyByteArrayToList(intBuffer, byteArrayList);
+		headerWriter.writeInt((int) Math.min(localFileHeader.getCompressedSize(), Integer.MAX_VALUE));
 
 		// Original size
-		long originalSize = localFileHeader.getOriginalSize();
-		if (originalSize > Integer.MAX_VALUE) {
-			originalSize = Integer.MAX_VALUE;
-		}
-		RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, (int) originalSize);
-		copyByteArrayToList(intBuffer, byteArrayList);
-
-		byte[] extendLocationHdrBytes = convertByteArrayListToByteArray(byteArrayList);
-		outputStream.write(extendLocationHdrBytes);
-		return extendLocationHdrBytes.length;
-	}
-
-	/**
-	 * Convert the byte array list to byte array byte [ ].
-	 *
-	 * @param arrayList the array list
-	 * @return the byte [ ]
-	 * @throws ZipException the zip exception
-	 */
-	public static byte[] convertByteArrayListToByteArray(List<String> arrayList) throws ZipException {
-		if (arrayList == null) {
-			throw new ZipException("input byte array list is null, cannot convert to byte array");
-		}
-
-		if (!arrayList.isEmpty()) {
-			byte[] returnBytes = new byte[arrayList.size()];
-
-			for (int i = 0; i < arrayList.size(); i++) {
-				returnBytes[i] = Byte.parseByte(arrayList.get(i));
-			}
-
-			return returnBytes;
-		}
-
-		return new byte[0];
-	}
-
-	/**
-	 * Append short to the array list.
-	 *
-	 * @param value     the value
-	 * @param arrayList the array list
-	 * @throws ZipException the zip exception
-	 */
-	public static void appendShortToArrayList(short value, List<String> arrayList)
-			throws ZipException, DataInvalidException {
-		byte[] shortBuffer = new byte[2];
-		RawUtils.writeShort(shortBuffer, ByteOrder.LITTLE_ENDIAN, value);
-		HeaderOperator.copyByteArrayToList(shortBuffer, arrayList);
-	}
+		headerWriter.writeInt((int) Math.min(localFileHeader.getOriginalSize(), Integer.MAX_VALUE));
 
-	/**
-	 * Append int to the array list.
-	 *
-	 * @param value     the value
-	 * @param arrayList the array list
-	 * @throws ZipException the zip exception
-	 */
-	public static void appendIntToArrayList(int value, List<String> arrayList)
-			throws ZipException, DataInvalidException {
-		byte[] intBuffer = new byte[4];
-		RawUtils.writeInt(intBuffer, ByteOrder.LITTLE_ENDIAN, value);
-		HeaderOperator.copyByteArrayToList(intBuffer, arrayList);
+		return headerWriter.writeTo(outputStream);
 	}
 
 	/**
-	 * Append long to the array list.
+	 * Create little endian header writer.
 	 *
-	 * @param value     the value
-	 * @param arrayList the array list
-	 * @throws ZipException the zip exception
+	 * @return the header writer
 	 */
-	public static void appendLongToArrayList(long value, List<String> arrayList)
-			throws ZipException, DataInvalidException {
-		byte[] longBuffer = new byte[8];
-		RawUtils.writeLong(longBuffer, ByteOrder.LITTLE_ENDIAN, value);
-		HeaderOperator.copyByteArrayToList(longBuffer, arrayList);
+	public static RawUtils.Writer headerWriter() {
+		return RawUtils.writer(HEADER_BUFFER_SIZE, ByteOrder.LITTLE_ENDIAN);
 	}
 
 	/**
-	 * Copy byte arrays to list.
+	 * Write entry path bytes to the header writer.
 	 *
-	 * @param byteArray the byte array
-	 * @param arrayList the array list
+	 * @param entryPath    the entry path
+	 * @param headerWriter the header writer
 	 * @throws ZipException the zip exception
 	 */
-	public static void copyByteArrayToList(byte[] byteArray, List<String> arrayList) throws ZipException {
-		if (arrayList == null || byteArray == null) {
-			throw new ZipException("one of the input parameters is null, cannot copy byte array to array list");
+	public static void writeEntryPath(String entryPath, RawUtils.Writer headerWriter) throws ZipException {
+		if (entryPath == null || headerWriter == null) {
+			throw new ZipException("one of the input parameters is null, cannot write entry path");
 		}
-
-		for (byte b : byteArray) {
-			arrayList.add(Byte.toString(b));
-		}
-	}
-
-	/**
-	 * Copy entry byte arrays to list.
-	 *
-	 * @param entryPath the entry path
-	 * @param arrayList the array list
-	 * @throws ZipException the zip exception
-	 */
-	public static void copyByteArrayToList(String entryPath, List<String> arrayList) throws ZipException {
-		copyByteArrayToList(convertCharset(entryPath), arrayList);
+		headerWriter.writeBytes(convertCharset(entryPath));
 	}
 
 	/**
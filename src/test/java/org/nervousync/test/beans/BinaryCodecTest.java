@@ -0,0 +1,369 @@
+package org.nervousync.test.beans;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.annotations.beans.BinaryTag;
+import org.nervousync.beans.core.BeanObject;
+import org.nervousync.beans.core.BinaryCodec;
+import org.nervousync.exceptions.utils.DataInvalidException;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.ConvertUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+public final class BinaryCodecTest extends BaseTest {
+
+    private static final int ROUND_COUNT = 5_000;
+
+    @Test
+    @Order(0)
+    public void roundTrip() throws DataInvalidException, IllegalAccessException {
+        FullBean fullBean = generateFullBean();
+        byte[] dataBytes = fullBean.toBinary();
+        Assertions.assertTrue(BinaryCodec.encoded(dataBytes));
+        assertFields(fullBean, BinaryCodec.decode(dataBytes, FullBean.class));
+        //  Default values were not written
+        FullBean emptyBean = BinaryCodec.decode(new FullBean().toBinary(), FullBean.class);
+        assertFields(new FullBean(), emptyBean);
+        Assertions.assertEquals(4, new FullBean().toBinary().length);
+
+        Assertions.assertThrows(DataInvalidException.class,
+                () -> BinaryCodec.decode("Not binary data".getBytes(StandardCharsets.UTF_8), FullBean.class));
+        Assertions.assertThrows(DataInvalidException.class,
+                () -> BinaryCodec.decode(Arrays.copyOf(dataBytes, dataBytes.length - 3), FullBean.class));
+        Assertions.assertThrows(DataInvalidException.class, () -> BinaryCodec.encode(new NoDefaultBean("name")));
+        //  Length varint overflows to negative value
+        byte[] overflowBytes = Arrays.copyOf(dataBytes, 8);
+        overflowBytes[3] = (byte) 0xFF;
+        overflowBytes[4] = (byte) 0xFF;
+        overflowBytes[5] = (byte) 0xFF;
+        overflowBytes[6] = (byte) 0xFF;
+        overflowBytes[7] = (byte) 0x0F;
+        Assertions.assertThrows(DataInvalidException.class,
+                () -> BinaryCodec.decode(new ByteArrayInputStream(overflowBytes), FullBean.class));
+        //  Serialized field length larger than remaining data
+        byte[] oversizedBytes = Arrays.copyOf(dataBytes, 10);
+        oversizedBytes[3] = 6;
+        oversizedBytes[4] = (1 << 3) | 3;
+        oversizedBytes[5] = (byte) 0xEF;
+        oversizedBytes[6] = (byte) 0xFF;
+        oversizedBytes[7] = (byte) 0xFF;
+        oversizedBytes[8] = (byte) 0xFF;
+        oversizedBytes[9] = (byte) 0x07;
+        Assertions.assertThrows(DataInvalidException.class, () -> BinaryCodec.decode(oversizedBytes, FullBean.class));
+        Assertions.assertFalse(BinaryCodec.supported(NoDefaultBean.class));
+        Assertions.assertFalse(BinaryCodec.supported(DuplicateBean.class));
+    }
+
+    @Test
+    @Order(10)
+    public void schemaEvolution() throws DataInvalidException {
+        VersionOne versionOne = new VersionOne();
+        versionOne.name = "Evolution";
+        versionOne.count = -1024;
+        versionOne.removed = "Removed field";
+        versionOne.tags = List.of("tag1", "tag2");
+
+        VersionTwo versionTwo = BinaryCodec.decode(versionOne.toBinary(), VersionTwo.class);
+        Assertions.assertEquals("Evolution", versionTwo.name);
+        Assertions.assertEquals(-1024L, versionTwo.count);
+        Assertions.assertEquals("Default", versionTwo.added);
+        Assertions.assertEquals(versionOne.tags, versionTwo.tags);
+
+        versionTwo.added = "Added field";
+        versionTwo.count = 2048L;
+        VersionOne parsed = BinaryCodec.decode(versionTwo.toBinary(), VersionOne.class);
+        Assertions.assertEquals("Evolution", parsed.name);
+        Assertions.assertEquals(2048, parsed.count);
+        Assertions.assertNull(parsed.removed);
+        Assertions.assertEquals(versionOne.tags, parsed.tags);
+    }
+
+    @Test
+    @Order(20)
+    public void serializableString() throws DataInvalidException, IOException, IllegalAccessException {
+        FullBean fullBean = generateFullBean();
+        String string = fullBean.toString(StringUtils.StringType.SERIALIZABLE, Boolean.FALSE);
+        Assertions.assertTrue(BinaryCodec.encoded(StringUtils.base64Decode(string)));
+        assertFields(fullBean, StringUtils.stringToObject(string, StringUtils.StringType.SERIALIZABLE,
+                FullBean.class));
+
+        //  Data serialized by Java serialization still can be parsed
+        String serialized = StringUtils.base64Encode(ConvertUtils.toByteArray(fullBean));
+        assertFields(fullBean, StringUtils.stringToObject(serialized, StringUtils.StringType.SERIALIZABLE,
+                FullBean.class));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        List<OrderBean> orderBeans = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            OrderBean orderBean = generateOrderBean(i);
+            orderBean.writeBinary(outputStream);
+            orderBeans.add(orderBean);
+        }
+        List<OrderBean> parsedBeans = new ArrayList<>();
+        try (InputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray())) {
+            OrderBean orderBean;
+            while ((orderBean = BinaryCodec.decode(inputStream, OrderBean.class)) != null) {
+                parsedBeans.add(orderBean);
+            }
+        }
+        Assertions.assertEquals(orderBeans, parsedBeans);
+    }
+
+    @Test
+    @Order(30)
+    public void codecCost() throws Exception {
+        OrderBean orderBean = generateOrderBean(1);
+        this.roundTrip("Binary", () -> {
+            byte[] dataBytes = BinaryCodec.encode(orderBean);
+            Assertions.assertNotNull(BinaryCodec.decode(dataBytes, OrderBean.class));
+            return dataBytes.length;
+        });
+        this.roundTrip("Java serialization", () -> {
+            byte[] dataBytes = ConvertUtils.toByteArray(orderBean);
+            Assertions.assertNotNull(ConvertUtils.toObject(dataBytes));
+            return dataBytes.length;
+        });
+        this.roundTrip("JSON", () -> {
+            String string = orderBean.toJson();
+            Assertions.assertNotNull(StringUtils.stringToObject(string, StringUtils.StringType.JSON, OrderBean.class));
+            return string.getBytes(StandardCharsets.UTF_8).length;
+        });
+        this.roundTrip("XML", () -> {
+            String string = orderBean.toXML();
+            Assertions.assertNotNull(StringUtils.stringToObject(string, StringUtils.StringType.XML, OrderBean.class));
+            return string.getBytes(StandardCharsets.UTF_8).length;
+        });
+        Assertions.assertTrue(BinaryCodec.encode(orderBean).length < ConvertUtils.toByteArray(orderBean).length);
+    }
+
+    private void roundTrip(final String format, final Callable<Integer> callable) throws Exception {
+        for (int i = 0; i < ROUND_COUNT; i++) {
+            callable.call();
+        }
+        int dataSize = 0;
+        long beginTime = System.nanoTime();
+        for (int i = 0; i < ROUND_COUNT; i++) {
+            dataSize = callable.call();
+        }
+        this.logger.info("Binary_Codec_Cost", ROUND_COUNT, format,
+                (System.nanoTime() - beginTime) / 1_000_000L, dataSize);
+    }
+
+    private static void assertFields(final Object expected, final Object actual) throws IllegalAccessException {
+        Assertions.assertNotNull(actual);
+        Assertions.assertEquals(expected.getClass(), actual.getClass());
+        for (Field field : expected.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(Boolean.TRUE);
+            Assertions.assertTrue(Objects.deepEquals(field.get(expected), field.get(actual)), field.getName());
+        }
+    }
+
+    private static FullBean generateFullBean() {
+        FullBean fullBean = new FullBean();
+        fullBean.testBoolean = Boolean.TRUE;
+        fullBean.testByte = -12;
+        fullBean.testShort = 1024;
+        fullBean.testChar = '中';
+        fullBean.testInt = Integer.MIN_VALUE;
+        fullBean.testLong = Long.MAX_VALUE;
+        fullBean.testFloat = 3.14F;
+        fullBean.testDouble = -2.718281828D;
+        fullBean.wrapperInteger = 0;
+        fullBean.wrapperDouble = Double.NaN;
+        fullBean.testString = "Binary codec 二进制编码";
+        fullBean.bigDecimal = new BigDecimal("12345678901234567890.0987654321");
+        fullBean.bigInteger = BigInteger.TWO.pow(100);
+        fullBean.dataBytes = new byte[]{1, 2, 3, -1};
+        fullBean.intArray = new int[]{1, -1, Integer.MAX_VALUE};
+        fullBean.stringArray = new String[]{"a", null, "c"};
+        fullBean.createDate = new Date();
+        fullBean.status = OrderStatus.SHIPPED;
+        fullBean.stringList = new ArrayList<>(Arrays.asList("one", null, "three"));
+        fullBean.integerSet = new LinkedHashSet<>(List.of(3, 1, 2));
+        fullBean.itemMap = new HashMap<>();
+        fullBean.itemMap.put("item", new ItemBean("Item", 1, 9.9D));
+        fullBean.itemMap.put("null", null);
+        fullBean.sortedMap = new TreeMap<>(Map.of("b", 2L, "a", 1L));
+        fullBean.itemBean = new ItemBean("Nested", 2, 19.9D);
+        fullBean.subclassItem = new ExtItemBean("Subclass", 3, 29.9D, "Extra data");
+        fullBean.itemList = new ArrayList<>(List.of(new ItemBean("First", 1, 1.1D),
+                new ExtItemBean("Second", 2, 2.2D, "Extra")));
+        fullBean.anyObject = UUID.randomUUID();
+        fullBean.wildcardList = new ArrayList<>(List.of(1, "two", 3.0D));
+        return fullBean;
+    }
+
+    private static OrderBean generateOrderBean(final int index) {
+        OrderBean orderBean = new OrderBean();
+        orderBean.orderId = 10_000_000L + index;
+        orderBean.customer = "Customer " + index;
+        orderBean.quantity = 3;
+        orderBean.amount = 299.97D;
+        orderBean.paid = Boolean.TRUE;
+        orderBean.createTime = new Date(1_700_000_000_000L);
+        orderBean.status = OrderStatus.CREATED;
+        orderBean.items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            orderBean.items.add(new ItemBean("ITEM-" + i, i + 1, 99.99D));
+        }
+        return orderBean;
+    }
+
+    public enum OrderStatus {
+        CREATED, SHIPPED
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    public static class ItemBean extends BeanObject {
+
+        private static final long serialVersionUID = 1375208393725043271L;
+        private String code;
+        private int count;
+        private double price;
+
+        public ItemBean() {
+        }
+
+        public ItemBean(String code, int count, double price) {
+            this.code = code;
+            this.count = count;
+            this.price = price;
+        }
+    }
+
+    public static final class ExtItemBean extends ItemBean {
+
+        private static final long serialVersionUID = -4590512776004412617L;
+        private String extra;
+
+        public ExtItemBean() {
+        }
+
+        public ExtItemBean(String code, int count, double price, String extra) {
+            super(code, count, price);
+            this.extra = extra;
+        }
+    }
+
+    @XmlRootElement(name = "order_bean")
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    public static final class OrderBean extends BeanObject {
+
+        private static final long serialVersionUID = -5324040427005541458L;
+        @BinaryTag(1)
+        private long orderId;
+        @BinaryTag(2)
+        private String customer;
+        @BinaryTag(3)
+        private int quantity;
+        @BinaryTag(4)
+        private double amount;
+        @BinaryTag(5)
+        private boolean paid;
+        @BinaryTag(6)
+        private Date createTime;
+        @BinaryTag(7)
+        private OrderStatus status;
+        @BinaryTag(8)
+        private List<ItemBean> items;
+    }
+
+    public static final class FullBean extends BeanObject {
+
+        private static final long serialVersionUID = 2829738209498017564L;
+        private boolean testBoolean;
+        private byte testByte;
+        private short testShort;
+        private char testChar;
+        private int testInt;
+        private long testLong;
+        private float testFloat;
+        private double testDouble;
+        private Integer wrapperInteger;
+        private Double wrapperDouble;
+        private String testString;
+        private BigDecimal bigDecimal;
+        private BigInteger bigInteger;
+        private byte[] dataBytes;
+        private int[] intArray;
+        private String[] stringArray;
+        private Date createDate;
+        private OrderStatus status;
+        private List<String> stringList;
+        private Set<Integer> integerSet;
+        private Map<String, ItemBean> itemMap;
+        private SortedMap<String, Long> sortedMap;
+        private ItemBean itemBean;
+        private ItemBean subclassItem;
+        private List<ItemBean> itemList;
+        private Object anyObject;
+        private List<?> wildcardList;
+    }
+
+    public static final class VersionOne extends BeanObject {
+
+        private static final long serialVersionUID = 6094578937498721377L;
+        @BinaryTag(1)
+        private String name;
+        @BinaryTag(2)
+        private int count;
+        @BinaryTag(3)
+        private String removed;
+        @BinaryTag(5)
+        private List<String> tags;
+    }
+
+    public static final class VersionTwo extends BeanObject {
+
+        private static final long serialVersionUID = -2374896317329014472L;
+        @BinaryTag(1)
+        private String name;
+        @BinaryTag(2)
+        private long count;
+        @BinaryTag(4)
+        private String added = "Default";
+        @BinaryTag(5)
+        private List<String> tags;
+    }
+
+    public static final class NoDefaultBean extends BeanObject {
+
+        private static final long serialVersionUID = 5460224936152407683L;
+        private final String name;
+
+        public NoDefaultBean(String name) {
+            this.name = name;
+        }
+    }
+
+    public static final class DuplicateBean extends BeanObject {
+
+        private static final long serialVersionUID = -6853094711924370165L;
+        @BinaryTag(1)
+        private String first;
+        @BinaryTag(1)
+        private String second;
+    }
+}
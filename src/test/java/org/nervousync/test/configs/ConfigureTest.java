@@ -0,0 +1,107 @@
+package org.nervousync.test.configs;
+
+import jakarta.xml.bind.annotation.XmlRootElement;
+import org.junit.jupiter.api.*;
+import org.nervousync.commons.Globals;
+import org.nervousync.configs.ConfigureManager;
+import org.nervousync.configs.ConfigureSnapshot;
+import org.nervousync.security.config.FactoryConfig;
+import org.nervousync.security.factory.SecureFactory;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.FileUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public final class ConfigureTest extends BaseTest {
+
+    private static final String BASE_PATH =
+            System.getProperty("java.io.tmpdir") + Globals.DEFAULT_PAGE_SEPARATOR + "configure_test";
+    private static final String FILE_PATH = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "secure_factory.xml";
+    private static final int READ_COUNT = 200;
+
+    private static ConfigureManager CONFIGURE_MANAGER = null;
+
+    @BeforeAll
+    public static void initialize() {
+        FileUtils.removeDir(BASE_PATH);
+        ConfigureManager.initialize(BASE_PATH);
+        CONFIGURE_MANAGER = ConfigureManager.getInstance();
+    }
+
+    @AfterAll
+    public static void clear() {
+        FileUtils.removeDir(BASE_PATH);
+        ConfigureManager.initialize();
+    }
+
+    @Test
+    @Order(0)
+    public void snapshot() {
+        Assertions.assertNotNull(CONFIGURE_MANAGER);
+        Assertions.assertNull(CONFIGURE_MANAGER.snapshot(FactoryConfig.class));
+        Assertions.assertTrue(CONFIGURE_MANAGER.saveConfigure(factoryConfig("FirstKey")));
+        ConfigureSnapshot<FactoryConfig> snapshot = CONFIGURE_MANAGER.snapshot(FactoryConfig.class);
+        Assertions.assertNotNull(snapshot);
+        Assertions.assertEquals("FirstKey", snapshot.getConfig().getSecureKey());
+        Assertions.assertSame(snapshot, CONFIGURE_MANAGER.snapshot(FactoryConfig.class));
+
+        FactoryConfig readConfig = CONFIGURE_MANAGER.readConfigure(FactoryConfig.class);
+        Assertions.assertNotNull(readConfig);
+        Assertions.assertNotSame(snapshot.getConfig(), readConfig);
+        Assertions.assertEquals("FirstKey", readConfig.getSecureKey());
+        readConfig.setSecureKey("ModifiedKey");
+        Assertions.assertEquals("FirstKey", CONFIGURE_MANAGER.snapshot(FactoryConfig.class).getConfig().getSecureKey());
+    }
+
+    @Test
+    @Order(10)
+    public void reload() throws InterruptedException {
+        BlockingQueue<ConfigureSnapshot<FactoryConfig>> changedQueue = new LinkedBlockingQueue<>();
+        ConfigureSnapshot<FactoryConfig> previous = CONFIGURE_MANAGER.snapshot(FactoryConfig.class);
+        CONFIGURE_MANAGER.addListener(FactoryConfig.class, Globals.DEFAULT_VALUE_STRING,
+                (oldSnapshot, newSnapshot) -> {
+                    Assertions.assertSame(previous, oldSnapshot);
+                    changedQueue.offer(newSnapshot);
+                });
+        //  Modify the configure file directly, reload is triggered by the watch service
+        Assertions.assertTrue(FileUtils.saveFile(FILE_PATH, factoryConfig("SecondKey").toString()));
+        ConfigureSnapshot<FactoryConfig> current = changedQueue.poll(10, TimeUnit.SECONDS);
+        Assertions.assertNotNull(current);
+        Assertions.assertEquals("SecondKey", current.getConfig().getSecureKey());
+        Assertions.assertSame(current, CONFIGURE_MANAGER.snapshot(FactoryConfig.class));
+        this.logger.info("Configure_Reload", current.getFilePath(), current.getConfig().getSecureKey());
+    }
+
+    @Test
+    @Order(20)
+    public void readCost() {
+        String schemaPath = FactoryConfig.class.getAnnotation(XmlRootElement.class).namespace();
+        long beginTime = System.nanoTime();
+        for (int i = 0; i < READ_COUNT; i++) {
+            Assertions.assertNotNull(StringUtils.fileToObject(FILE_PATH, FactoryConfig.class, schemaPath));
+        }
+        long fileCost = System.nanoTime() - beginTime;
+        beginTime = System.nanoTime();
+        for (int i = 0; i < READ_COUNT; i++) {
+            Assertions.assertNotNull(CONFIGURE_MANAGER.readConfigure(FactoryConfig.class));
+        }
+        long readCost = System.nanoTime() - beginTime;
+        beginTime = System.nanoTime();
+        for (int i = 0; i < READ_COUNT; i++) {
+            Assertions.assertNotNull(CONFIGURE_MANAGER.snapshot(FactoryConfig.class).getConfig());
+        }
+        long snapshotCost = System.nanoTime() - beginTime;
+        this.logger.info("Configure_Read_Cost", READ_COUNT,
+                fileCost / 1000000L, readCost / 1000000L, snapshotCost / 1000L);
+    }
+
+    private static FactoryConfig factoryConfig(final String secureKey) {
+        FactoryConfig factoryConfig = new FactoryConfig();
+        factoryConfig.setSecureAlgorithm(SecureFactory.SecureAlgorithm.AES256);
+        factoryConfig.setSecureKey(secureKey);
+        return factoryConfig;
+    }
+}
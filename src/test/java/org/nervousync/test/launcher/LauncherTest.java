@@ -0,0 +1,196 @@
+package org.nervousync.test.launcher;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.annotations.launcher.Launcher;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.beans.launcher.LauncherStatistics;
+import org.nervousync.commons.Globals;
+import org.nervousync.configs.ConfigureManager;
+import org.nervousync.enumerations.launcher.LauncherState;
+import org.nervousync.enumerations.launcher.StartupType;
+import org.nervousync.launcher.StartupLauncher;
+import org.nervousync.launcher.StartupManager;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.FileUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class LauncherTest extends BaseTest {
+
+    private static final String BASE_PATH =
+            System.getProperty("java.io.tmpdir") + Globals.DEFAULT_PAGE_SEPARATOR + "launcher_test";
+    private static final long STARTUP_COST = 300L;
+    private static final List<String> STOPPED_LAUNCHERS = new CopyOnWriteArrayList<>();
+
+    private static StartupManager STARTUP_MANAGER = null;
+
+    @BeforeAll
+    public static void initialize() {
+        FileUtils.removeDir(BASE_PATH);
+        ConfigureManager.initialize(BASE_PATH);
+        STARTUP_MANAGER = StartupManager.getInstance();
+    }
+
+    @AfterAll
+    public static void clear() {
+        FileUtils.removeDir(BASE_PATH);
+        ConfigureManager.initialize();
+    }
+
+    @Test
+    @Order(0)
+    public void startup() {
+        Assertions.assertNotNull(STARTUP_MANAGER);
+        Map<String, LauncherStatistics> statistics = this.statistics();
+        LauncherStatistics database = statistics.get(DatabaseLauncher.class.getName());
+        LauncherStatistics cache = statistics.get(CacheLauncher.class.getName());
+        LauncherStatistics scheduler = statistics.get(SchedulerLauncher.class.getName());
+        LauncherStatistics web = statistics.get(WebLauncher.class.getName());
+        for (LauncherStatistics launcherStatistics : List.of(database, cache, scheduler, web)) {
+            Assertions.assertNotNull(launcherStatistics);
+            Assertions.assertEquals(LauncherState.RUNNING, launcherStatistics.getLauncherState());
+            Assertions.assertTrue(launcherStatistics.getStartupCost() >= STARTUP_COST);
+        }
+        Assertions.assertFalse(statistics.containsKey(TimeoutLauncher.class.getName()));
+        Assertions.assertTrue(cache.getStartTime() >= database.getStartTime() + database.getStartupCost());
+        Assertions.assertTrue(web.getStartTime() >= cache.getStartTime() + cache.getStartupCost());
+        Assertions.assertTrue(web.getStartTime() >= scheduler.getStartTime() + scheduler.getStartupCost());
+        long startupCost = web.getStartTime() + web.getStartupCost() - Math.min(database.getStartTime(), scheduler.getStartTime());
+        this.logger.info("Launcher_Startup_Cost", startupCost,
+                database.getStartupCost() + cache.getStartupCost() + scheduler.getStartupCost() + web.getStartupCost());
+    }
+
+    @Test
+    @Order(10)
+    public void timeout() {
+        STARTUP_MANAGER.startup(TimeoutLauncher.class.getName());
+        LauncherStatistics launcherStatistics = this.statistics().get(TimeoutLauncher.class.getName());
+        Assertions.assertNotNull(launcherStatistics);
+        Assertions.assertEquals(LauncherState.TIMEOUT, launcherStatistics.getLauncherState());
+    }
+
+    @Test
+    @Order(20)
+    public void stopDependents() {
+        STOPPED_LAUNCHERS.clear();
+        STARTUP_MANAGER.stop(DatabaseLauncher.class.getName());
+        Assertions.assertEquals(List.of(WebLauncher.class.getName(), CacheLauncher.class.getName(),
+                DatabaseLauncher.class.getName()), STOPPED_LAUNCHERS);
+        Map<String, LauncherStatistics> statistics = this.statistics();
+        Assertions.assertEquals(LauncherState.STOPPED, statistics.get(DatabaseLauncher.class.getName()).getLauncherState());
+        Assertions.assertEquals(LauncherState.RUNNING, statistics.get(SchedulerLauncher.class.getName()).getLauncherState());
+
+        STARTUP_MANAGER.startup(WebLauncher.class.getName());
+        statistics = this.statistics();
+        Assertions.assertEquals(LauncherState.RUNNING, statistics.get(DatabaseLauncher.class.getName()).getLauncherState());
+        Assertions.assertEquals(LauncherState.RUNNING, statistics.get(WebLauncher.class.getName()).getLauncherState());
+    }
+
+    @Test
+    @Order(30)
+    public void dependencyFailed() {
+        STARTUP_MANAGER.startup(FailedDependentLauncher.class.getName());
+        STARTUP_MANAGER.startup(TimeoutDependentLauncher.class.getName());
+        Map<String, LauncherStatistics> statistics = this.statistics();
+        Assertions.assertEquals(LauncherState.FAILED,
+                statistics.get(FailedLauncher.class.getName()).getLauncherState());
+        Assertions.assertEquals(LauncherState.TIMEOUT,
+                statistics.get(TimeoutLauncher.class.getName()).getLauncherState());
+
+        LauncherStatistics failedDependent = statistics.get(FailedDependentLauncher.class.getName());
+        Assertions.assertNotNull(failedDependent);
+        Assertions.assertEquals(LauncherState.FAILED, failedDependent.getLauncherState());
+        Assertions.assertEquals("Dependency failed: " + FailedLauncher.class.getName(), failedDependent.getMessage());
+
+        LauncherStatistics timeoutDependent = statistics.get(TimeoutDependentLauncher.class.getName());
+        Assertions.assertNotNull(timeoutDependent);
+        Assertions.assertEquals(LauncherState.FAILED, timeoutDependent.getLauncherState());
+        Assertions.assertEquals("Dependency failed: " + TimeoutLauncher.class.getName(), timeoutDependent.getMessage());
+    }
+
+    private Map<String, LauncherStatistics> statistics() {
+        return STARTUP_MANAGER.statistics()
+                .stream()
+                .collect(Collectors.toMap(LauncherStatistics::getClassName, Function.identity()));
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public abstract static class TestLauncher implements StartupLauncher {
+
+        @Override
+        public void startup() {
+            sleep(STARTUP_COST);
+        }
+
+        @Override
+        public void stop() {
+            STOPPED_LAUNCHERS.add(this.getClass().getName());
+        }
+
+        @Override
+        public void destroy() {
+            this.stop();
+        }
+    }
+
+    @Provider(name = "DatabaseLauncher", titleKey = "database.launcher.name")
+    @Launcher(StartupType.AUTO)
+    public static final class DatabaseLauncher extends TestLauncher {
+    }
+
+    @Provider(name = "CacheLauncher", titleKey = "cache.launcher.name")
+    @Launcher(value = StartupType.AUTO, dependencies = {DatabaseLauncher.class})
+    public static final class CacheLauncher extends TestLauncher {
+    }
+
+    @Provider(name = "SchedulerLauncher", titleKey = "scheduler.launcher.name")
+    @Launcher(StartupType.AUTO)
+    public static final class SchedulerLauncher extends TestLauncher {
+    }
+
+    @Provider(name = "WebLauncher", titleKey = "web.launcher.name")
+    @Launcher(value = StartupType.AUTO, dependencies = {CacheLauncher.class, SchedulerLauncher.class})
+    public static final class WebLauncher extends TestLauncher {
+    }
+
+    @Provider(name = "TimeoutLauncher", titleKey = "timeout.launcher.name")
+    @Launcher(value = StartupType.MANUAL, timeout = 100L)
+    public static final class TimeoutLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            sleep(STARTUP_COST * 2);
+        }
+    }
+
+    @Provider(name = "FailedLauncher", titleKey = "failed.launcher.name")
+    @Launcher(StartupType.MANUAL)
+    public static final class FailedLauncher extends TestLauncher {
+
+        @Override
+        public void startup() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    @Provider(name = "FailedDependentLauncher", titleKey = "failed.dependent.launcher.name")
+    @Launcher(value = StartupType.MANUAL, dependencies = {FailedLauncher.class})
+    public static final class FailedDependentLauncher extends TestLauncher {
+    }
+
+    @Provider(name = "TimeoutDependentLauncher", titleKey = "timeout.dependent.launcher.name")
+    @Launcher(value = StartupType.MANUAL, dependencies = {TimeoutLauncher.class})
+    public static final class TimeoutDependentLauncher extends TestLauncher {
+    }
+}
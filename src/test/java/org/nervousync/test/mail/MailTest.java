@@ -1,5 +1,26 @@
 package org.nervousync.test.mail;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.ContentType;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.cms.AttributeTable;
+import org.bouncycastle.asn1.smime.SMIMEAttributes;
+import org.bouncycastle.asn1.smime.SMIMECapabilitiesAttribute;
+import org.bouncycastle.asn1.smime.SMIMECapability;
+import org.bouncycastle.asn1.smime.SMIMECapabilityVector;
+import org.bouncycastle.asn1.smime.SMIMEEncryptionKeyPreferenceAttribute;
+import org.bouncycastle.cert.jcajce.JcaCertStore;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoGeneratorBuilder;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
+import org.bouncycastle.mail.smime.SMIMESigned;
+import org.bouncycastle.mail.smime.SMIMESignedGenerator;
+import org.bouncycastle.mail.smime.SMIMEUtil;
 import org.junit.jupiter.api.*;
 import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
@@ -12,13 +33,13 @@ import org.nervousync.security.factory.SecureFactory;
 import org.nervousync.test.BaseTest;
 import org.nervousync.utils.*;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.net.Proxy;
 import java.security.KeyPair;
+import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
-import java.util.Arrays;
-import java.util.Date;
-import java.util.Optional;
-import java.util.Properties;
+import java.util.*;
 
 public final class MailTest extends BaseTest {
 
@@ -118,26 +139,31 @@ public final class MailTest extends BaseTest {
                     MailUtils.Agent mailAgent = MailUtils.mailAgent(mailCOnfig);
                     Assertions.assertNotNull(mailAgent);
                     this.logger.info("Mail_Count", mailAgent.mailCount());
-                    MailObject mailObject = new MailObject();
-                    Optional.ofNullable(PROPERTIES.getProperty("mail.sender")).ifPresent(mailObject::setSendAddress);
-                    Optional.ofNullable(PROPERTIES.getProperty("mail.receiver"))
-                            .flatMap(receiver -> Optional.of(StringUtils.tokenizeToStringArray(receiver, "|")))
-                            .ifPresent(receiveAddress -> mailObject.setReceiveAddress(Arrays.asList(receiveAddress)));
-                    Optional.ofNullable(PROPERTIES.getProperty("mail.cc"))
-                            .flatMap(receiver -> Optional.of(StringUtils.tokenizeToStringArray(receiver, "|")))
-                            .ifPresent(receiveAddress -> mailObject.setCcAddress(Arrays.asList(receiveAddress)));
-                    Optional.ofNullable(PROPERTIES.getProperty("mail.bcc"))
-                            .flatMap(receiver -> Optional.of(StringUtils.tokenizeToStringArray(receiver, "|")))
-                            .ifPresent(receiveAddress -> mailObject.setBccAddress(Arrays.asList(receiveAddress)));
-                    Optional.ofNullable(PROPERTIES.getProperty("mail.replies"))
-                            .flatMap(replies -> Optional.of(StringUtils.tokenizeToStringArray(replies, "|")))
-                            .ifPresent(replyAddress -> mailObject.setReplyAddress(Arrays.asList(replyAddress)));
-                    Optional.ofNullable(PROPERTIES.getProperty("mail.attaches"))
-                            .flatMap(attaches -> Optional.of(StringUtils.tokenizeToStringArray(attaches, "|")))
-                            .ifPresent(attacheFiles -> mailObject.setAttachFiles(Arrays.asList(attacheFiles)));
-                    mailObject.setSubject(MAIL_SUBJECT);
-                    mailObject.setContent(MAIL_CONTENT);
-                    this.logger.info("Mail_Sent_Result", mailAgent.sendMail(mailObject));
+                    this.logger.info("Mail_Sent_Result", mailAgent.sendMail(mailObject()));
+                });
+    }
+
+    @Test
+    @Order(25)
+    public void sendMails() {
+        if (SKIP_TEST) {
+            return;
+        }
+        Optional.ofNullable(CONFIGURE_MANAGER)
+                .map(manager -> manager.readConfigure(MailConfig.class))
+                .ifPresent(mailCOnfig -> {
+                    MailUtils.Agent mailAgent = MailUtils.mailAgent(mailCOnfig);
+                    Assertions.assertNotNull(mailAgent);
+                    //  The second mail has no receive address, only the second mail should fail
+                    MailObject invalidObject = mailObject();
+                    invalidObject.setReceiveAddress(new ArrayList<>());
+                    List<MailObject> mailObjects = Arrays.asList(mailObject(), invalidObject, mailObject());
+                    List<Boolean> sendResults = mailAgent.sendMails(mailObjects, 2);
+                    Assertions.assertEquals(mailObjects.size(), sendResults.size());
+                    Assertions.assertFalse(sendResults.get(1));
+                    for (int i = 0; i < sendResults.size(); i++) {
+                        this.logger.info("Mail_Sent_Index_Result", i, sendResults.get(i));
+                    }
                 });
     }
 
@@ -277,4 +303,108 @@ public final class MailTest extends BaseTest {
                     this.logger.info("Trash_Count: {}", mailAgent.mailCount(Globals.DEFAULT_EMAIL_FOLDER_TRASH));
                 });
     }
+
+    @Test
+    @Order(80)
+    public void signer() throws Exception {
+        long currentTime = DateTimeUtils.currentUTCTimeMillis();
+        KeyPair keyPair = SecurityUtils.RSAKeyPair(1024);
+        X509Certificate x509Certificate = CertificateUtils.x509(keyPair.getPublic(), IDUtils.snowflake(),
+                new Date(currentTime), new Date(currentTime + 365 * 24 * 60 * 60 * 1000L), "TestCert", keyPair.getPrivate(), "SHA1withRSA");
+
+        Constructor<?> constructor = Class.forName(MailUtils.class.getName() + "$MailSigner")
+                .getDeclaredConstructor(X509Certificate.class, PrivateKey.class);
+        constructor.setAccessible(Boolean.TRUE);
+        Object mailSigner = constructor.newInstance(x509Certificate, keyPair.getPrivate());
+        Method signMethod = mailSigner.getClass().getDeclaredMethod("sign", MimeMultipart.class);
+        signMethod.setAccessible(Boolean.TRUE);
+        MimeMultipart signedMultipart = (MimeMultipart) signMethod.invoke(mailSigner, mimeMultipart());
+
+        //  Signing path before the signer was introduced
+        MimeMessage mimeMessage = new MimeMessage(Session.getInstance(new Properties()));
+        mimeMessage.setContent(mimeMultipart());
+        ASN1EncodableVector signatureAttribute = new ASN1EncodableVector();
+        SMIMECapabilityVector capabilityVector = new SMIMECapabilityVector();
+        capabilityVector.addCapability(SMIMECapability.aES256_CBC);
+        capabilityVector.addCapability(SMIMECapability.dES_CBC);
+        capabilityVector.addCapability(SMIMECapability.rC2_CBC, 128);
+        signatureAttribute.add(new SMIMECapabilitiesAttribute(capabilityVector));
+        signatureAttribute.add(new SMIMEEncryptionKeyPreferenceAttribute(SMIMEUtil.createIssuerAndSerialNumberFor(x509Certificate)));
+        SMIMESignedGenerator generator = new SMIMESignedGenerator();
+        generator.addSignerInfoGenerator(new JcaSimpleSignerInfoGeneratorBuilder()
+                .setProvider("BC")
+                .setSignedAttributeGenerator(new AttributeTable(signatureAttribute))
+                .build("SHA1withRSA", keyPair.getPrivate(), x509Certificate));
+        generator.addCertificates(new JcaCertStore(Collections.singletonList(x509Certificate)));
+        MimeMultipart baselineMultipart = generator.generate(mimeMessage);
+
+        Assertions.assertEquals(new ContentType(baselineMultipart.getContentType()).getBaseType(),
+                new ContentType(signedMultipart.getContentType()).getBaseType());
+        Assertions.assertEquals(new ContentType(baselineMultipart.getContentType()).getParameter("micalg"),
+                new ContentType(signedMultipart.getContentType()).getParameter("micalg"));
+        SMIMESigned baselineSigned = new SMIMESigned(baselineMultipart);
+        SMIMESigned signedContent = new SMIMESigned(signedMultipart);
+        SignerInformation baselineSigner = this.verifySigner(baselineSigned, x509Certificate);
+        SignerInformation signerInformation = this.verifySigner(signedContent, x509Certificate);
+        Assertions.assertEquals(baselineSigner.getDigestAlgOID(), signerInformation.getDigestAlgOID());
+        Assertions.assertEquals(baselineSigner.getEncryptionAlgOID(), signerInformation.getEncryptionAlgOID());
+        for (ASN1ObjectIdentifier attributeType : new ASN1ObjectIdentifier[]{
+                SMIMEAttributes.smimeCapabilities, SMIMEAttributes.encrypKeyPref}) {
+            Assertions.assertEquals(baselineSigner.getSignedAttributes().get(attributeType),
+                    signerInformation.getSignedAttributes().get(attributeType));
+        }
+
+        MimeMultipart baselineContent = (MimeMultipart) baselineSigned.getContent().getContent();
+        MimeMultipart signerContent = (MimeMultipart) signedContent.getContent().getContent();
+        Assertions.assertEquals(baselineContent.getCount(), signerContent.getCount());
+        for (int i = 0; i < baselineContent.getCount(); i++) {
+            Assertions.assertEquals(baselineContent.getBodyPart(i).getContent(),
+                    signerContent.getBodyPart(i).getContent());
+        }
+    }
+
+    private SignerInformation verifySigner(final SMIMESigned smimeSigned, final X509Certificate x509Certificate)
+            throws Exception {
+        Collection<SignerInformation> signers = smimeSigned.getSignerInfos().getSigners();
+        Assertions.assertEquals(1, signers.size());
+        SignerInformation signerInformation = signers.iterator().next();
+        Assertions.assertTrue(signerInformation.verify(
+                new JcaSimpleSignerInfoVerifierBuilder().setProvider("BC").build(x509Certificate)));
+        return signerInformation;
+    }
+
+    private static MimeMultipart mimeMultipart() throws MessagingException {
+        MimeMultipart mimeMultipart = new MimeMultipart();
+        MimeBodyPart attachPart = new MimeBodyPart();
+        attachPart.setFileName("attach.txt");
+        attachPart.setText(MAIL_SUBJECT, Globals.DEFAULT_ENCODING);
+        mimeMultipart.addBodyPart(attachPart);
+        MimeBodyPart contentPart = new MimeBodyPart();
+        contentPart.setContent(MAIL_CONTENT, "text/html; charset=" + Globals.DEFAULT_ENCODING);
+        mimeMultipart.addBodyPart(contentPart);
+        return mimeMultipart;
+    }
+
+    private static MailObject mailObject() {
+        MailObject mailObject = new MailObject();
+        Optional.ofNullable(PROPERTIES.getProperty("mail.sender")).ifPresent(mailObject::setSendAddress);
+        Optional.ofNullable(PROPERTIES.getProperty("mail.receiver"))
+                .flatMap(receiver -> Optional.of(StringUtils.tokenizeToStringArray(receiver, "|")))
+                .ifPresent(receiveAddress -> mailObject.setReceiveAddress(Arrays.asList(receiveAddress)));
+        Optional.ofNullable(PROPERTIES.getProperty("mail.cc"))
+                .flatMap(receiver -> Optional.of(StringUtils.tokenizeToStringArray(receiver, "|")))
+                .ifPresent(receiveAddress -> mailObject.setCcAddress(Arrays.asList(receiveAddress)));
+        Optional.ofNullable(PROPERTIES.getProperty("mail.bcc"))
+                .flatMap(receiver -> Optional.of(StringUtils.tokenizeToStringArray(receiver, "|")))
+                .ifPresent(receiveAddress -> mailObject.setBccAddress(Arrays.asList(receiveAddress)));
+        Optional.ofNullable(PROPERTIES.getProperty("mail.replies"))
+                .flatMap(replies -> Optional.of(StringUtils.tokenizeToStringArray(replies, "|")))
+                .ifPresent(replyAddress -> mailObject.setReplyAddress(Arrays.asList(replyAddress)));
+        Optional.ofNullable(PROPERTIES.getProperty("mail.attaches"))
+                .flatMap(attaches -> Optional.of(StringUtils.tokenizeToStringArray(attaches, "|")))
+                .ifPresent(attacheFiles -> mailObject.setAttachFiles(Arrays.asList(attacheFiles)));
+        mailObject.setSubject(MAIL_SUBJECT);
+        mailObject.setContent(MAIL_CONTENT);
+        return mailObject;
+    }
 }
@@ -4,13 +4,22 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.commons.Globals;
+import org.nervousync.commons.clock.TestClock;
+import org.nervousync.security.otp.OtpVerifier;
 import org.nervousync.test.BaseTest;
+import org.nervousync.utils.DateTimeUtils;
 import org.nervousync.utils.OTPUtils;
+import org.nervousync.utils.SecurityUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class OTPTest extends BaseTest {
 
 	private static String RANDOM_KEY = Globals.DEFAULT_VALUE_STRING;
+	//	Base32 of ASCII string "12345678901234567890", the secret of RFC 4226 and RFC 6238 test vectors
+	private static final String RFC_SECRET = "GEZDGNBVGY3TQOJQGEZDGNBVGY3TQOJQ";
 
 	@Test
 	@Order(0)
@@ -81,4 +90,83 @@ public final class OTPTest extends BaseTest {
 		this.logger.info("Generate_Result_TOTP_Fix_Time", generateCode, "HmacSHA512", fixTime);
 		Assertions.assertFalse(OTPUtils.validateTOTPCode(Integer.parseInt(generateCode), OTPUtils.CalcType.HmacSHA256, RANDOM_KEY, fixTime, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT));
 	}
+
+	@Test
+	@Order(30)
+	public void verifier() {
+		OtpVerifier otpVerifier = new OtpVerifier(RFC_SECRET);
+		int[] hotpCodes = {755224, 287082, 359152, 969429, 338314, 254676, 287922, 162583, 399871, 520489};
+		for (int i = 0; i < hotpCodes.length; i++) {
+			Assertions.assertEquals(hotpCodes[i], otpVerifier.generateHOTP(i));
+			Assertions.assertEquals(hotpCodes[i], OTPUtils.generateHOTPCode(RFC_SECRET, i));
+			Assertions.assertTrue(otpVerifier.validateHOTP(hotpCodes[i], i));
+		}
+
+		TestClock testClock = new TestClock(1111111109000L);
+		DateTimeUtils.clockService(testClock);
+		try {
+			Assertions.assertEquals(81804, otpVerifier.generateTOTP(0L));
+			Assertions.assertTrue(otpVerifier.validateTOTP(81804, 0L));
+			Assertions.assertTrue(otpVerifier.validateTOTP("081804", 0L));
+			Assertions.assertFalse(otpVerifier.validateTOTP("81804", 0L));
+			Assertions.assertFalse(otpVerifier.validateTOTP("08180x", 0L));
+			Assertions.assertEquals("081804", OTPUtils.generateTOTPCode(RFC_SECRET));
+			//	Still valid 3 steps later, but not 4 steps later
+			testClock.advance(90_000L);
+			Assertions.assertTrue(otpVerifier.validateTOTP(81804, 0L));
+			testClock.advance(30_000L);
+			Assertions.assertFalse(otpVerifier.validateTOTP(81804, 0L));
+			Assertions.assertTrue(new OtpVerifier(OTPUtils.CalcType.HmacSHA1, RFC_SECRET, 30, 5)
+					.validateTOTP(81804, 0L));
+			testClock.setTime(1111111109000L - 2 * 60 * 60 * 1000L);
+			Assertions.assertEquals(2 * 60 * 60 * 1000L, otpVerifier.calculateFixedTime(81804));
+			Assertions.assertEquals(2 * 60 * 60 * 1000L, OTPUtils.calculateFixedTime(RFC_SECRET, 81804));
+		} finally {
+			DateTimeUtils.clockService(null);
+		}
+	}
+
+	@Test
+	@Order(40)
+	public void batchValidate() {
+		final int userCount = 2_000;
+		List<String> secrets = new ArrayList<>(userCount);
+		List<OtpVerifier> verifiers = new ArrayList<>(userCount);
+		int[] authCodes = new int[userCount];
+		for (int i = 0; i < userCount; i++) {
+			String secret = OTPUtils.generateRandomKey(20);
+			secrets.add(secret);
+			verifiers.add(new OtpVerifier(secret));
+			authCodes[i] = (i % 10 == 0) ? 1 : Integer.parseInt(OTPUtils.generateTOTPCode(secret));
+		}
+
+		//	Legacy flow: decode secret, read clock and key the HMAC again for every slot of the window
+		long beginTime = System.nanoTime();
+		boolean[] legacyResults = new boolean[userCount];
+		for (int i = 0; i < userCount; i++) {
+			for (int window = -3; window <= 3 && !legacyResults[i]; window++) {
+				long counter = DateTimeUtils.currentTimeMillis() / 1000L / 30L + window;
+				byte[] signData = new byte[8];
+				for (int j = 0; j < 8; j++) {
+					signData[j] = (byte) (counter >>> (56 - j * 8));
+				}
+				byte[] hash = SecurityUtils.HmacSHA1(StringUtils.base32Decode(secrets.get(i)), signData);
+				int offset = hash[hash.length - 1] & 0xF;
+				int code = (((hash[offset] & 0x7F) << 24) | ((hash[offset + 1] & 0xFF) << 16)
+						| ((hash[offset + 2] & 0xFF) << 8) | (hash[offset + 3] & 0xFF)) % 1000000;
+				legacyResults[i] = (code == authCodes[i]);
+			}
+		}
+		long legacyTime = System.nanoTime() - beginTime;
+
+		beginTime = System.nanoTime();
+		boolean[] results = OtpVerifier.validateTOTP(verifiers, authCodes, null);
+		long verifierTime = System.nanoTime() - beginTime;
+
+		for (int i = 0; i < userCount; i++) {
+			Assertions.assertEquals(legacyResults[i], results[i]);
+			Assertions.assertEquals(i % 10 != 0, results[i]);
+		}
+		this.logger.info("OTP_Batch_Validate_Cost", userCount, legacyTime / 1_000_000, verifierTime / 1_000_000);
+	}
 }
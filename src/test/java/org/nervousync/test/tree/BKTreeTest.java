@@ -0,0 +1,84 @@
+package org.nervousync.test.tree;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.test.BaseTest;
+import org.nervousync.tree.bk.BKTree;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+public final class BKTreeTest extends BaseTest {
+
+    @Test
+    @Order(10)
+    public void search() {
+        BKTree<String> bkTree = new BKTree<>();
+        bkTree.add(0L, "zero");
+        bkTree.add(1L, "one");
+        bkTree.add(3L, "three");
+        bkTree.add(0xFFL, "byte");
+        bkTree.add(-1L, "full");
+        Assertions.assertEquals(5, bkTree.size());
+        Assertions.assertEquals(2, BKTree.distance(0L, 3L));
+        Assertions.assertEquals(new HashSet<>(List.of("zero", "one")), new HashSet<>(bkTree.search(0L, 1)));
+        Assertions.assertEquals(new HashSet<>(List.of("zero", "one", "three")),
+                new HashSet<>(bkTree.search(0L, 2)));
+        Assertions.assertEquals(List.of("full"), bkTree.search(-2L, 1));
+        Assertions.assertTrue(bkTree.contains(0x7FL, 1));
+        Assertions.assertFalse(bkTree.contains(0xF0F0L, 3));
+    }
+
+    @Test
+    @Order(20)
+    public void linearScan() {
+        final int hashCount = 100_000;
+        final int queryCount = 200;
+        final int maxDistance = 6;
+        Random random = new Random(20261018L);
+        long[] hashes = new long[hashCount];
+        BKTree<Integer> bkTree = new BKTree<>();
+        for (int i = 0; i < hashCount; i++) {
+            hashes[i] = random.nextLong();
+            bkTree.add(hashes[i], i);
+        }
+
+        long[] queries = new long[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            long query = hashes[random.nextInt(hashCount)];
+            for (int j = 0; j < 3; j++) {
+                query ^= 1L << random.nextInt(Long.SIZE);
+            }
+            queries[i] = query;
+        }
+
+        long beginTime = System.nanoTime();
+        List<List<Integer>> linearResults = new ArrayList<>(queryCount);
+        for (long query : queries) {
+            List<Integer> matched = new ArrayList<>();
+            for (int i = 0; i < hashCount; i++) {
+                if (BKTree.distance(hashes[i], query) <= maxDistance) {
+                    matched.add(i);
+                }
+            }
+            linearResults.add(matched);
+        }
+        long linearTime = System.nanoTime() - beginTime;
+
+        beginTime = System.nanoTime();
+        List<List<Integer>> treeResults = new ArrayList<>(queryCount);
+        for (long query : queries) {
+            treeResults.add(bkTree.search(query, maxDistance));
+        }
+        long treeTime = System.nanoTime() - beginTime;
+
+        for (int i = 0; i < queryCount; i++) {
+            Assertions.assertFalse(linearResults.get(i).isEmpty());
+            Assertions.assertEquals(new HashSet<>(linearResults.get(i)), new HashSet<>(treeResults.get(i)));
+        }
+        this.logger.info("BK_Tree_Search_Cost", hashCount, queryCount, linearTime / 1_000_000, treeTime / 1_000_000);
+    }
+}
@@ -0,0 +1,110 @@
+package org.nervousync.test.tree;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.enumerations.tree.RecursionType;
+import org.nervousync.test.BaseTest;
+import org.nervousync.tree.multiway.MultiwayTree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class MultiwayTreeTest extends BaseTest {
+
+    @Test
+    @Order(10)
+    public void traversal() {
+        MultiwayTree<String> multiwayTree = new MultiwayTree<>("root");
+        multiwayTree.addChild("A");
+        multiwayTree.addChild("B");
+        Assertions.assertTrue(multiwayTree.addChild("A", "A1"));
+        Assertions.assertTrue(multiwayTree.addChild("A", "A2"));
+        Assertions.assertTrue(multiwayTree.addChild("B", "B1"));
+        Assertions.assertTrue(multiwayTree.addChild("A1", "A11"));
+        Assertions.assertFalse(multiwayTree.addChild("C", "C1"));
+        multiwayTree.addChild("A");
+
+        Assertions.assertEquals(List.of("root", "A", "A1", "A11", "A2", "B", "B1"),
+                new ArrayList<>(multiwayTree.recursion()));
+        Assertions.assertEquals(List.of("root", "A", "A1", "A11", "A2", "B", "B1"),
+                new ArrayList<>(multiwayTree.recursion(RecursionType.Depth)));
+        Assertions.assertEquals(List.of("root", "A", "B", "A1", "A2", "B1", "A11"),
+                new ArrayList<>(multiwayTree.recursion(RecursionType.Breadth)));
+        Assertions.assertEquals(7, multiwayTree.size());
+        Assertions.assertEquals(3, multiwayTree.findNode("A11").map(MultiwayTree::depth).orElse(-1));
+
+        MultiwayTree<String> nodeA = multiwayTree.findNode("A").orElseThrow();
+        MultiwayTree<String> nodeB = multiwayTree.findNode("B").orElseThrow();
+        nodeA.findChild("A1").orElseThrow().setParentNode(nodeB);
+        Assertions.assertEquals(2, nodeA.size());
+        Assertions.assertEquals(4, nodeB.size());
+        Assertions.assertEquals(3, multiwayTree.findNode("A11").map(MultiwayTree::depth).orElse(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> nodeB.addChild(multiwayTree));
+        Assertions.assertTrue(nodeB.removeChild("A1"));
+        Assertions.assertEquals(5, multiwayTree.size());
+        Assertions.assertTrue(multiwayTree.findNode("A11").isEmpty());
+    }
+
+    @Test
+    @Order(20)
+    public void largeTree() {
+        final int nodeCount = 500_000;
+        MultiwayTree<Integer> multiwayTree = new MultiwayTree<>(0);
+        multiwayTree.enableIndex();
+        long beginTime = System.nanoTime();
+        for (int i = 1; i < nodeCount; i++) {
+            Assertions.assertTrue(multiwayTree.addChild((i - 1) / 16, i));
+        }
+        long buildTime = System.nanoTime() - beginTime;
+        Assertions.assertEquals(nodeCount, multiwayTree.size());
+        Assertions.assertEquals(nodeCount, multiwayTree.stream(RecursionType.Breadth).count());
+        Assertions.assertTrue(multiwayTree.findNode(nodeCount - 1).isPresent());
+
+        MultiwayTree<Integer> chainTree = new MultiwayTree<>(0);
+        MultiwayTree<Integer> currentNode = chainTree;
+        for (int i = 1; i < 10_000; i++) {
+            currentNode = new MultiwayTree<>(i, currentNode);
+        }
+        Assertions.assertEquals(9_999, currentNode.depth());
+        Assertions.assertEquals(10_000, chainTree.recursion().size());
+        this.logger.info("Tree_Build_Cost", nodeCount, buildTime / 1_000_000L);
+    }
+
+    @Test
+    @Order(30)
+    public void nullValue() {
+        MultiwayTree<String> multiwayTree = new MultiwayTree<>("root");
+        multiwayTree.addChild("A");
+        multiwayTree.addChild((String) null);
+        Assertions.assertTrue(multiwayTree.addChild("A", null));
+        Assertions.assertEquals(Arrays.asList("root", "A", null, null),
+                new ArrayList<>(multiwayTree.recursion()));
+        Assertions.assertEquals(Arrays.asList("root", "A", null, null),
+                new ArrayList<>(multiwayTree.recursion(RecursionType.Breadth)));
+        Assertions.assertTrue(multiwayTree.findChild(null).isPresent());
+    }
+
+    @Test
+    @Order(40)
+    public void siblingValue() {
+        MultiwayTree<String> multiwayTree = new MultiwayTree<>("root");
+        for (int i = 0; i < 10; i++) {
+            multiwayTree.addChild("c" + i);
+        }
+        MultiwayTree<String> childNode = multiwayTree.findChild("c1").orElseThrow();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> childNode.setNodeValue("c2"));
+        Assertions.assertEquals("c1", childNode.getNodeValue());
+        childNode.setNodeValue("c1");
+        childNode.setNodeValue("c10");
+        Assertions.assertTrue(multiwayTree.findChild("c1").isEmpty());
+        Assertions.assertSame(childNode, multiwayTree.findChild("c10").orElseThrow());
+        Assertions.assertTrue(multiwayTree.removeChild("c2"));
+        Assertions.assertEquals(9, multiwayTree.size() - 1);
+        Assertions.assertTrue(multiwayTree.findChild("c2").isEmpty());
+        Assertions.assertTrue(multiwayTree.removeChild("c10"));
+        Assertions.assertTrue(multiwayTree.findChild("c10").isEmpty());
+        Assertions.assertEquals(8, multiwayTree.size() - 1);
+    }
+}
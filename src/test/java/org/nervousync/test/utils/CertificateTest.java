@@ -1,24 +1,35 @@
 package org.nervousync.test.utils;
 
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.commons.Globals;
 import org.nervousync.test.BaseTest;
 import org.nervousync.utils.*;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPrivateKey;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 public final class CertificateTest extends BaseTest {
 
     private static final String STORE_PATH = Globals.DEFAULT_PAGE_SEPARATOR + "store";
+    private static final String BUNDLE_PATH = Globals.DEFAULT_PAGE_SEPARATOR + "bundle.pem";
 
 	private static final String BASE_PATH;
     private static final PublicKey VERIFY_KEY;
@@ -34,6 +45,7 @@ public final class CertificateTest extends BaseTest {
     @AfterAll
     public static void clearFile() {
         FileUtils.removeFile(BASE_PATH + STORE_PATH);
+        FileUtils.removeFile(BASE_PATH + BUNDLE_PATH);
     }
 
     @Test
@@ -108,6 +120,132 @@ public final class CertificateTest extends BaseTest {
         this.logger.info("Certificate_Read_PEM_Certificate", StringUtils.base64Encode(x509Certificate.getEncoded()));
     }
 
+    @Test
+    @Order(40)
+    public void registryCache() {
+        String storePath = BASE_PATH + STORE_PATH;
+        X509Certificate x509Certificate = CertificateUtils.x509(storePath, "CERT", "changeit");
+        Assertions.assertNotNull(x509Certificate);
+        Assertions.assertSame(x509Certificate, CertificateUtils.x509(storePath, "CERT", "changeit"));
+        Assertions.assertNull(CertificateUtils.x509(storePath, "CERT", "wrongPassword"));
+
+        KeyPair keyPair = SecurityUtils.RSAKeyPair();
+        long currentTime = DateTimeUtils.currentUTCTimeMillis();
+        byte[] pkcs12Bytes = CertificateUtils.PKCS12(keyPair, IDUtils.snowflake(),
+                new Date(currentTime), new Date(currentTime + 30 * 24 * 60 * 60 * 1000L),
+                "CERT", "CERT", "changeit", SIGN_KEY, "SHA256withRSA");
+        File storeFile = new File(storePath);
+        long lastModified = storeFile.lastModified();
+        FileUtils.saveFile(pkcs12Bytes, storePath);
+        Assertions.assertTrue(storeFile.setLastModified(lastModified + 2000L));
+        X509Certificate reloadCertificate = CertificateUtils.x509(storePath, "CERT", "changeit");
+        Assertions.assertNotNull(reloadCertificate);
+        Assertions.assertNotSame(x509Certificate, reloadCertificate);
+        Assertions.assertEquals(keyPair.getPublic(), reloadCertificate.getPublicKey());
+        Assertions.assertTrue(CertificateUtils.verify(reloadCertificate, VERIFY_KEY));
+        Assertions.assertFalse(CertificateUtils.verify(reloadCertificate, keyPair.getPublic()));
+    }
+
+    @Test
+    @Order(45)
+    public void registryResourceLocation() throws IOException, URISyntaxException {
+        KeyPair keyPair = SecurityUtils.RSAKeyPair();
+        long currentTime = DateTimeUtils.currentUTCTimeMillis();
+        byte[] pkcs12Bytes = CertificateUtils.PKCS12(keyPair, IDUtils.snowflake(),
+                new Date(currentTime), new Date(currentTime + 30 * 24 * 60 * 60 * 1000L),
+                "CERT", "CERT", "changeit", SIGN_KEY, "SHA256withRSA");
+        File classPathStore =
+                new File(new File(CertificateTest.class.getResource("/").toURI()), "registry_store.p12");
+        File jarFile = new File(BASE_PATH, "registry_store.jar");
+        try {
+            FileUtils.saveFile(pkcs12Bytes, classPathStore.getAbsolutePath());
+            X509Certificate x509Certificate =
+                    CertificateUtils.x509("classpath:registry_store.p12", "CERT", "changeit");
+            Assertions.assertNotNull(x509Certificate);
+            Assertions.assertEquals(keyPair.getPublic(), x509Certificate.getPublicKey());
+            Assertions.assertNotNull(CertificateUtils.x509(classPathStore.toURI().toString(), "CERT", "changeit"));
+
+            try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jarFile))) {
+                jarOutputStream.putNextEntry(new JarEntry("store.p12"));
+                jarOutputStream.write(pkcs12Bytes);
+                jarOutputStream.closeEntry();
+            }
+            X509Certificate jarCertificate = CertificateUtils.x509(
+                    jarFile.getAbsolutePath() + FileUtils.JAR_URL_SEPARATOR + "store.p12", "CERT", "changeit");
+            Assertions.assertNotNull(jarCertificate);
+            Assertions.assertEquals(keyPair.getPublic(), jarCertificate.getPublicKey());
+        } finally {
+            FileUtils.removeFile(classPathStore.getAbsolutePath());
+            FileUtils.removeFile(jarFile.getAbsolutePath());
+        }
+    }
+
+    @Test
+    @Order(50)
+    public void domainIndex() {
+        KeyPair keyPair = SecurityUtils.RSAKeyPair();
+        long currentTime = DateTimeUtils.currentUTCTimeMillis();
+        List<X509Certificate> certificates = new ArrayList<>();
+        certificates.add(CertificateUtils.x509(keyPair.getPublic(), IDUtils.snowflake(),
+                new Date(currentTime - 2 * 24 * 60 * 60 * 1000L), new Date(currentTime - 24 * 60 * 60 * 1000L),
+                "host0.example.com", SIGN_KEY, "SHA256withRSA"));
+        for (int i = 0; i < 300; i++) {
+            String commonName = (i % 3 == 0) ? "*.zone" + i + ".example.com" : "host" + i + ".example.com";
+            certificates.add(CertificateUtils.x509(keyPair.getPublic(), IDUtils.snowflake(),
+                    new Date(currentTime), new Date(currentTime + 24 * 60 * 60 * 1000L),
+                    commonName, SIGN_KEY, "SHA256withRSA"));
+        }
+        certificates.add(CertificateUtils.x509(keyPair.getPublic(), IDUtils.snowflake(),
+                new Date(currentTime), new Date(currentTime + 24 * 60 * 60 * 1000L),
+                "*.example.com", SIGN_KEY, "SHA256withRSA"));
+        StringBuilder stringBuilder = new StringBuilder();
+        Base64.Encoder encoder = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.UTF_8));
+        for (X509Certificate x509Certificate : certificates) {
+            try {
+                stringBuilder.append("-----BEGIN CERTIFICATE-----\n")
+                        .append(encoder.encodeToString(x509Certificate.getEncoded()))
+                        .append("\n-----END CERTIFICATE-----\n");
+            } catch (CertificateEncodingException e) {
+                Assertions.fail(e);
+            }
+        }
+        String bundlePath = BASE_PATH + BUNDLE_PATH;
+        FileUtils.saveFile(stringBuilder.toString().getBytes(StandardCharsets.UTF_8), bundlePath);
+
+        List<String> domainNames = new ArrayList<>();
+        for (int i = 0; i < 300; i += 7) {
+            domainNames.add("host" + i + ".example.com");
+            domainNames.add("www.zone" + i + ".example.com");
+            domainNames.add("a.b.zone" + i + ".example.com");
+        }
+        domainNames.add("HOST1.EXAMPLE.COM");
+        domainNames.add("other.net");
+        for (String domainName : domainNames) {
+            X509Certificate expected = certificates.stream()
+                    .filter(x509Certificate -> CertificateUtils.matchDomain(x509Certificate, domainName))
+                    .findFirst()
+                    .orElse(null);
+            Assertions.assertEquals(expected, CertificateUtils.x509(bundlePath, domainName), domainName);
+        }
+        Assertions.assertEquals(certificates.get(certificates.size() - 1),
+                CertificateUtils.x509(bundlePath, "host0.example.com"));
+
+        long beginTime = System.nanoTime();
+        for (String domainName : domainNames) {
+            certificates.stream()
+                    .filter(x509Certificate -> CertificateUtils.matchDomain(x509Certificate, domainName))
+                    .findFirst();
+        }
+        long scanCost = System.nanoTime() - beginTime;
+        beginTime = System.nanoTime();
+        for (String domainName : domainNames) {
+            CertificateUtils.x509(bundlePath, domainName);
+        }
+        long indexCost = System.nanoTime() - beginTime;
+        this.logger.info("Certificate_Domain_Lookup_Cost", domainNames.size(),
+                scanCost / 1000L, indexCost / 1000L);
+    }
+
     private static X509Certificate generateCertificate(final KeyPair keyPair) {
         long currentTime = DateTimeUtils.currentUTCTimeMillis();
         return CertificateUtils.x509(keyPair.getPublic(), IDUtils.snowflake(),
@@ -0,0 +1,65 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.commons.clock.CoarseClock;
+import org.nervousync.commons.clock.MonotonicClock;
+import org.nervousync.commons.clock.SystemClock;
+import org.nervousync.commons.clock.TestClock;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.DateTimeUtils;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+public final class ClockTest extends BaseTest {
+
+    @Test
+    @Order(10)
+    public void zoneOffset() {
+        TimeZone defaultZone = TimeZone.getDefault();
+        TestClock testClock = new TestClock(
+                ZonedDateTime.of(2026, 1, 15, 12, 0, 0, 0, ZoneId.of("UTC")).toInstant().toEpochMilli());
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            DateTimeUtils.clockService(testClock);
+            Assertions.assertSame(testClock, DateTimeUtils.clockService());
+            Assertions.assertEquals(testClock.currentTimeMillis(), DateTimeUtils.currentTimeMillis());
+            Assertions.assertEquals(testClock.currentTimeMillis() + 5 * 3600_000L,
+                    DateTimeUtils.currentUTCTimeMillis());
+            testClock.setTime(
+                    ZonedDateTime.of(2026, 7, 15, 12, 0, 0, 0, ZoneId.of("UTC")).toInstant().toEpochMilli());
+            Assertions.assertEquals(testClock.currentTimeMillis() + 4 * 3600_000L,
+                    DateTimeUtils.currentUTCTimeMillis());
+            long currentTime = testClock.currentTimeMillis();
+            Assertions.assertEquals(currentTime + 1000L, testClock.advance(1000L));
+            Assertions.assertEquals(currentTime + 1000L, DateTimeUtils.currentTimeMillis());
+        } finally {
+            DateTimeUtils.clockService(null);
+            TimeZone.setDefault(defaultZone);
+        }
+        Assertions.assertSame(SystemClock.INSTANCE, DateTimeUtils.clockService());
+    }
+
+    @Test
+    @Order(20)
+    public void clocks() throws InterruptedException {
+        MonotonicClock monotonicClock = new MonotonicClock();
+        long previous = monotonicClock.currentTimeMillis();
+        Assertions.assertTrue(Math.abs(previous - System.currentTimeMillis()) < 1000L);
+        for (int i = 0; i < 100_000; i++) {
+            long current = monotonicClock.currentTimeMillis();
+            Assertions.assertTrue(current >= previous);
+            previous = current;
+        }
+
+        try (CoarseClock coarseClock = new CoarseClock(5L)) {
+            long beginTime = coarseClock.currentTimeMillis();
+            Thread.sleep(100L);
+            Assertions.assertTrue(coarseClock.currentTimeMillis() > beginTime);
+            Assertions.assertTrue(System.currentTimeMillis() - coarseClock.currentTimeMillis() < 1000L);
+        }
+    }
+}
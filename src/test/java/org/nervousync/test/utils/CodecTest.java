@@ -0,0 +1,93 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.commons.codec.TextCodec;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.ConvertUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+public final class CodecTest extends BaseTest {
+
+    private static final byte[] HELLO_WORLD = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @Order(10)
+    public void encode() {
+        Assertions.assertEquals("JBSWY3DPEBLW64TMMQ", StringUtils.base32Encode(HELLO_WORLD));
+        Assertions.assertEquals("JBSWY3DPEBLW64TMMQ==", StringUtils.base32Encode(HELLO_WORLD, Boolean.TRUE));
+        Assertions.assertEquals("SGVsbG8gV29ybGQ", StringUtils.base64Encode(HELLO_WORLD));
+        Assertions.assertEquals("QQ=", StringUtils.base64Encode(new byte[]{65}));
+        Assertions.assertEquals("48656c6c6f20576f726c64", ConvertUtils.toHex(HELLO_WORLD));
+        Assertions.assertArrayEquals(HELLO_WORLD, StringUtils.base32Decode("JBSWY3DPEBLW64TMMQ=="));
+        Assertions.assertArrayEquals(HELLO_WORLD, StringUtils.base64Decode("SGVsbG8gV29ybGQ="));
+        Assertions.assertArrayEquals(HELLO_WORLD, TextCodec.HEX.decode("48656c6c6f20576f726c64"));
+    }
+
+    @Test
+    @Order(20)
+    public void roundTrip() throws Exception {
+        Random random = new Random();
+        for (int i = 0; i < 1000; i++) {
+            byte[] dataBytes = new byte[random.nextInt(128)];
+            random.nextBytes(dataBytes);
+            String encoded = StringUtils.base64Encode(dataBytes);
+            Assertions.assertEquals(Base64.getEncoder().withoutPadding().encodeToString(dataBytes),
+                    encoded.replace("=", ""));
+            Assertions.assertArrayEquals(dataBytes, StringUtils.base64Decode(encoded));
+            Assertions.assertArrayEquals(dataBytes, StringUtils.base32Decode(StringUtils.base32Encode(dataBytes)));
+
+            ByteBuffer byteBuffer = ByteBuffer.allocateDirect(dataBytes.length);
+            byteBuffer.put(dataBytes).flip();
+            Assertions.assertEquals(encoded, TextCodec.BASE64.encode(byteBuffer, Boolean.TRUE));
+            byteBuffer.clear();
+            Assertions.assertEquals(dataBytes.length, TextCodec.BASE64.decode(encoded, byteBuffer));
+
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            try (OutputStream outputStream = TextCodec.BASE32.encoder(byteArrayOutputStream, Boolean.TRUE)) {
+                outputStream.write(dataBytes);
+            }
+            Assertions.assertEquals(StringUtils.base32Encode(dataBytes, Boolean.TRUE),
+                    byteArrayOutputStream.toString(StandardCharsets.US_ASCII));
+            try (InputStream inputStream =
+                         TextCodec.BASE32.decoder(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+                Assertions.assertArrayEquals(dataBytes, inputStream.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    @Order(30)
+    public void performance() {
+        final int loopCount = 20_000;
+        byte[] dataBytes = new byte[4096];
+        new Random().nextBytes(dataBytes);
+        String encoded = StringUtils.base64Encode(dataBytes);
+        long codecTime = Long.MAX_VALUE, jdkTime = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long beginTime = System.nanoTime();
+            for (int i = 0; i < loopCount; i++) {
+                StringUtils.base64Decode(StringUtils.base64Encode(dataBytes));
+            }
+            codecTime = Math.min(codecTime, System.nanoTime() - beginTime);
+            beginTime = System.nanoTime();
+            for (int i = 0; i < loopCount; i++) {
+                Base64.getDecoder().decode(Base64.getEncoder().encodeToString(dataBytes));
+            }
+            jdkTime = Math.min(jdkTime, System.nanoTime() - beginTime);
+        }
+        Assertions.assertTrue(Arrays.equals(dataBytes, StringUtils.base64Decode(encoded)));
+        this.logger.info("Codec_Round_Trip_Cost", dataBytes.length, codecTime / loopCount, jdkTime / loopCount);
+    }
+}
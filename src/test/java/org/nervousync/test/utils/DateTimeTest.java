@@ -0,0 +1,122 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.beans.transfer.basic.DateTimeAdapter;
+import org.nervousync.commons.clock.TestClock;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.DateTimeUtils;
+
+import java.text.DateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+public final class DateTimeTest extends BaseTest {
+
+    private static final int COUNT = 100_000;
+
+    @Test
+    @Order(10)
+    public void fastPaths() {
+        DateTimeFormatter httpFormatter = DateTimeFormatter.ofPattern(DateTimeUtils.LAST_MODIFIED_DATETIME_PATTERN,
+                Locale.US).withZone(ZoneOffset.UTC);
+        TimeZone defaultZone = TimeZone.getDefault();
+        Random random = new Random(20261018L);
+        try {
+            for (String zoneId : new String[]{"UTC", "Asia/Shanghai", "America/New_York", "Australia/Lord_Howe"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zoneId));
+                for (int i = 0; i < 10_000; i++) {
+                    long timeMillis = random.nextLong() % 4_000_000_000_000L;
+                    Date date = new Date(timeMillis);
+                    Assertions.assertEquals(httpFormatter.format(Instant.ofEpochMilli(timeMillis)),
+                            DateTimeUtils.lastModified(timeMillis));
+                    Assertions.assertEquals(DateTimeUtils.formatDate(date, DateTimeUtils.DEFAULT_ISO8601_PATTERN),
+                            DateTimeUtils.formatISO8601(date));
+                }
+                TestClock testClock = new TestClock(random.nextLong() % 4_000_000_000_000L);
+                DateTimeUtils.clockService(testClock);
+                Date current = new Date(testClock.currentTimeMillis());
+                Assertions.assertEquals(
+                        Integer.parseInt(DateTimeUtils.formatDate(current, DateTimeUtils.DEFAULT_INT_PATTERN)),
+                        DateTimeUtils.currentDate());
+                Assertions.assertEquals(
+                        Long.parseLong(DateTimeUtils.formatDate(current, DateTimeUtils.DEFAULT_LONG_PATTERN)),
+                        DateTimeUtils.currentTime());
+                Assertions.assertEquals(
+                        Integer.parseInt(DateTimeUtils.formatDate(current, DateTimeUtils.DEFAULT_INT_PATTERN,
+                                TimeZone.getTimeZone("UTC"))),
+                        DateTimeUtils.currentUTCDate());
+                Assertions.assertEquals(DateTimeUtils.formatISO8601(current) + "Z",
+                        DateTimeUtils.formatDateForVCard(current));
+                Assertions.assertEquals(
+                        DateTimeUtils.formatDate(current, DateTimeUtils.DEFAULT_ISO8601_PATTERN,
+                                TimeZone.getTimeZone("UTC")) + "Z",
+                        DateTimeUtils.formatGMTDateForVCard());
+            }
+        } finally {
+            DateTimeUtils.clockService(null);
+            TimeZone.setDefault(defaultZone);
+        }
+        Assertions.assertEquals("Thu, 01 Jan 1970 00:00:00 GMT", DateTimeUtils.lastModified(0L));
+        Assertions.assertSame(DateTimeUtils.formatter("yyyy/MM/dd HH:mm"),
+                DateTimeUtils.formatter("yyyy/MM/dd HH:mm"));
+        Assertions.assertNotSame(DateTimeUtils.formatter("yyyy/MM/dd HH:mm", Locale.US),
+                DateTimeUtils.formatter("yyyy/MM/dd HH:mm", Locale.US, ZoneId.of("UTC")));
+    }
+
+    @Test
+    @Order(20)
+    public void formatCost() throws Exception {
+        Date date = new Date(1_790_000_000_000L);
+        DateTimeAdapter dateTimeAdapter = new DateTimeAdapter();
+        Assertions.assertEquals(DateTimeUtils.formatDate(date, DateTimeUtils.DEFAULT_ISO8601_PATTERN),
+                dateTimeAdapter.marshal(date));
+        Assertions.assertEquals(DateFormat.getDateInstance(DateFormat.LONG, Locale.US).format(date),
+                DateTimeUtils.formatDate(date, Locale.US, DateFormat.LONG));
+
+        long beginTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            DateTimeUtils.formatDate(date,
+                    DateTimeFormatter.ofPattern(DateTimeUtils.LAST_MODIFIED_DATETIME_PATTERN, Locale.US));
+        }
+        long patternTime = System.nanoTime() - beginTime;
+        beginTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            DateTimeUtils.lastModified(date);
+        }
+        long httpTime = System.nanoTime() - beginTime;
+        this.logger.info("Date_Format_Cost", "Last-Modified", COUNT, patternTime / 1_000_000, httpTime / 1_000_000);
+
+        beginTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            DateTimeUtils.formatDate(date,
+                    DateTimeFormatter.ofPattern(DateTimeUtils.DEFAULT_DATETIME_PATTERN_ISO8601));
+        }
+        patternTime = System.nanoTime() - beginTime;
+        beginTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            dateTimeAdapter.marshal(date);
+        }
+        long adapterTime = System.nanoTime() - beginTime;
+        this.logger.info("Date_Format_Cost", "ISO8601", COUNT, patternTime / 1_000_000, adapterTime / 1_000_000);
+
+        beginTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            DateFormat.getDateInstance(DateFormat.LONG, Locale.US).format(date);
+        }
+        patternTime = System.nanoTime() - beginTime;
+        beginTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            DateTimeUtils.formatDate(date, Locale.US, DateFormat.LONG);
+        }
+        long cachedTime = System.nanoTime() - beginTime;
+        this.logger.info("Date_Format_Cost", "DateFormat", COUNT, patternTime / 1_000_000, cachedTime / 1_000_000);
+    }
+}
@@ -0,0 +1,185 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.beans.files.CopyStatistics;
+import org.nervousync.commons.Globals;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.FileUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class FileTest extends BaseTest {
+
+    private static final int SMALL_FILE_COUNT = 2000;
+    private static final int SMALL_FILE_SIZE = 4 * 1024;
+    private static final int HUGE_FILE_COUNT = 3;
+    private static final int HUGE_FILE_SIZE = 32 * 1024 * 1024;
+    private static final String BASE_PATH;
+
+    static {
+        String tmpDir = System.getProperty("java.io.tmpdir");
+        BASE_PATH = (tmpDir.endsWith(Globals.DEFAULT_PAGE_SEPARATOR)
+                ? tmpDir.substring(0, tmpDir.length() - 1)
+                : tmpDir) + Globals.DEFAULT_PAGE_SEPARATOR + "FileTest";
+    }
+
+    @BeforeAll
+    public static void prepare() throws IOException {
+        FileUtils.removeDir(BASE_PATH);
+        Random random = new Random(20261019L);
+        byte[] smallData = new byte[SMALL_FILE_SIZE];
+        for (int i = 0; i < SMALL_FILE_COUNT; i++) {
+            String filePath = BASE_PATH + "/small/folder_" + (i % 20) + "/file_" + i + ".dat";
+            random.nextBytes(smallData);
+            Assertions.assertTrue(FileUtils.saveFile(smallData, filePath));
+        }
+        byte[] hugeData = new byte[HUGE_FILE_SIZE];
+        random.nextBytes(hugeData);
+        for (int i = 0; i < HUGE_FILE_COUNT; i++) {
+            hugeData[i] = (byte) i;
+            Assertions.assertTrue(FileUtils.saveFile(hugeData, BASE_PATH + "/huge/file_" + i + ".dat"));
+        }
+    }
+
+    @AfterAll
+    public static void clean() {
+        FileUtils.removeDir(BASE_PATH);
+    }
+
+    @Test
+    @Order(0)
+    public void copyDirectory() {
+        for (String folderName : new String[]{"small", "huge"}) {
+            String originalPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + folderName;
+            int fileCount = "small".equals(folderName) ? SMALL_FILE_COUNT : HUGE_FILE_COUNT;
+            long totalBytes = "small".equals(folderName)
+                    ? (long) SMALL_FILE_COUNT * SMALL_FILE_SIZE
+                    : (long) HUGE_FILE_COUNT * HUGE_FILE_SIZE;
+
+            String targetPath = BASE_PATH + "/stream_" + folderName;
+            long beginTime = System.currentTimeMillis();
+            Assertions.assertEquals(totalBytes, streamCopy(new File(originalPath), new File(targetPath)));
+            this.logCost("Stream", folderName, fileCount, totalBytes, System.currentTimeMillis() - beginTime);
+
+            targetPath = BASE_PATH + "/copy_" + folderName;
+            beginTime = System.currentTimeMillis();
+            Assertions.assertTrue(FileUtils.copy(originalPath, targetPath));
+            this.logCost("Transfer", folderName, fileCount, totalBytes, System.currentTimeMillis() - beginTime);
+            this.verify(originalPath, targetPath);
+
+            targetPath = BASE_PATH + "/parallel_" + folderName;
+            final AtomicLong listenerBytes = new AtomicLong(0L);
+            CopyStatistics copyStatistics = FileUtils.copyDirectory(originalPath, targetPath, Boolean.FALSE,
+                    Boolean.FALSE, 4, (originalFile, targetFile, fileSize, copiedFiles, copiedBytes) ->
+                            listenerBytes.addAndGet(fileSize));
+            Assertions.assertNotNull(copyStatistics);
+            Assertions.assertTrue(copyStatistics.isSuccess());
+            Assertions.assertEquals(fileCount, copyStatistics.getCopiedFiles());
+            Assertions.assertEquals(totalBytes, copyStatistics.getCopiedBytes());
+            Assertions.assertEquals(totalBytes, listenerBytes.get());
+            this.logCost("Parallel", folderName, fileCount, totalBytes, copyStatistics.getUsedTime());
+            this.verify(originalPath, targetPath);
+        }
+    }
+
+    @Test
+    @Order(10)
+    public void copyOptions() throws IOException {
+        String originalPath = BASE_PATH + "/small";
+        String targetPath = BASE_PATH + "/options";
+        Path originalFile = Path.of(originalPath, "folder_0", "file_0.dat");
+        Files.setLastModifiedTime(originalFile, FileTime.fromMillis(1_000_000_000_000L));
+
+        CopyStatistics copyStatistics = FileUtils.copyDirectory(originalPath, targetPath, Boolean.FALSE,
+                Boolean.TRUE, 4, null);
+        Assertions.assertNotNull(copyStatistics);
+        Assertions.assertTrue(copyStatistics.isSuccess());
+        Assertions.assertEquals(Files.getLastModifiedTime(originalFile),
+                Files.getLastModifiedTime(Path.of(targetPath, "folder_0", "file_0.dat")));
+
+        copyStatistics = FileUtils.copyDirectory(originalPath, targetPath, 4);
+        Assertions.assertNotNull(copyStatistics);
+        Assertions.assertFalse(copyStatistics.isSuccess());
+        Assertions.assertEquals(SMALL_FILE_COUNT, copyStatistics.getSkippedFiles());
+
+        copyStatistics = FileUtils.copyDirectory(originalPath, targetPath, Boolean.TRUE, Boolean.FALSE, 4, null);
+        Assertions.assertNotNull(copyStatistics);
+        Assertions.assertEquals(SMALL_FILE_COUNT, copyStatistics.getCopiedFiles());
+
+        Assertions.assertNull(FileUtils.copyDirectory(BASE_PATH + "/notExists", targetPath, 4));
+    }
+
+    @Test
+    @Order(20)
+    public void move() {
+        String originalPath = BASE_PATH + "/parallel_huge/file_0.dat";
+        String targetPath = BASE_PATH + "/parallel_huge/moved.dat";
+        long crcValue = FileUtils.calcFileCRC(originalPath);
+        Assertions.assertTrue(FileUtils.moveFile(originalPath, targetPath));
+        Assertions.assertFalse(FileUtils.isExists(originalPath));
+        Assertions.assertEquals(crcValue, FileUtils.calcFileCRC(targetPath));
+
+        originalPath = BASE_PATH + "/parallel_small";
+        targetPath = BASE_PATH + "/moved_small";
+        Assertions.assertTrue(FileUtils.moveDir(originalPath, null, targetPath, null, Boolean.FALSE));
+        Assertions.assertFalse(FileUtils.isExists(originalPath));
+        this.verify(BASE_PATH + "/small", targetPath);
+    }
+
+    private void verify(final String originalPath, final String targetPath) {
+        try {
+            List<String> fileList = FileUtils.listFiles(originalPath);
+            Assertions.assertEquals(fileList.size(), FileUtils.listFiles(targetPath).size());
+            for (int i = 0; i < fileList.size(); i += Math.max(fileList.size() / 10, 1)) {
+                String filePath = fileList.get(i);
+                Assertions.assertEquals(FileUtils.calcFileCRC(filePath),
+                        FileUtils.calcFileCRC(targetPath + filePath.substring(originalPath.length())));
+            }
+        } catch (FileNotFoundException e) {
+            Assertions.fail(e);
+        }
+    }
+
+    private void logCost(final String mode, final String folderName, final int fileCount,
+                         final long totalBytes, final long usedTime) {
+        this.logger.info("File_Copy_Cost", mode, folderName, fileCount, totalBytes, usedTime,
+                totalBytes * 1000L / Math.max(usedTime, 1L) / (1024L * 1024L));
+    }
+
+    private static long streamCopy(final File originalFile, final File targetFile) {
+        if (originalFile.isDirectory()) {
+            long totalBytes = 0L;
+            Assertions.assertTrue(targetFile.exists() || targetFile.mkdirs());
+            File[] childFiles = originalFile.listFiles();
+            if (childFiles != null) {
+                for (File childFile : childFiles) {
+                    totalBytes += streamCopy(childFile, new File(targetFile, childFile.getName()));
+                }
+            }
+            return totalBytes;
+        }
+        long totalBytes = 0L;
+        try (InputStream inputStream = new FileInputStream(originalFile);
+             OutputStream outputStream = new FileOutputStream(targetFile)) {
+            int readLength;
+            byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
+            while ((readLength = inputStream.read(readBuffer)) != -1) {
+                outputStream.write(readBuffer, 0, readLength);
+                totalBytes += readLength;
+            }
+        } catch (IOException e) {
+            Assertions.fail(e);
+        }
+        return totalBytes;
+    }
+}
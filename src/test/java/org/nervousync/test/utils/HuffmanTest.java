@@ -0,0 +1,94 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.test.BaseTest;
+import org.nervousync.tree.huffman.HuffmanCodec;
+import org.nervousync.tree.huffman.HuffmanTree;
+import org.nervousync.utils.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+public final class HuffmanTest extends BaseTest {
+
+    private static final String CONTENT = "Nervousync Java Utils 霍夫曼编码测试 😀 abracadabra";
+
+    @Test
+    @Order(10)
+    public void roundTrip() throws Exception {
+        HuffmanTree.Result result = StringUtils.encodeWithHuffman(CONTENT);
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(CONTENT, StringUtils.decodeWithHuffman(result));
+        Assertions.assertEquals(result.getBitLength(), result.getHuffmanValue().length());
+        Assertions.assertEquals(result.getHuffmanValue(),
+                StringUtils.encodeWithHuffman(result.getCodeMapping(), CONTENT));
+        Assertions.assertEquals(CONTENT,
+                StringUtils.decodeWithHuffman(result.getCodeMapping(), result.getHuffmanValue()));
+        Assertions.assertEquals("aaaa", StringUtils.decodeWithHuffman(StringUtils.encodeWithHuffman("aaaa")));
+
+        HuffmanCodec huffmanCodec = result.getHuffmanCodec();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        long bitLength = huffmanCodec.encode(CONTENT, byteArrayOutputStream);
+        Assertions.assertArrayEquals(result.getEncodedBytes(), byteArrayOutputStream.toByteArray());
+        Assertions.assertEquals(CONTENT,
+                huffmanCodec.decode(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()), bitLength));
+
+        HuffmanTree huffmanTree = new HuffmanTree();
+        huffmanTree.insertNode(new HuffmanTree.Node("a", 5));
+        huffmanTree.insertNode(new HuffmanTree.Node("b", 2));
+        huffmanTree.insertNode(new HuffmanTree.Node("c", 1));
+        huffmanTree.insertNode(new HuffmanTree.Node("d", 1));
+        huffmanTree.build();
+        HuffmanTree.Result treeResult = huffmanTree.encodeString("abacabad");
+        Assertions.assertEquals(14, treeResult.getHuffmanValue().length());
+        Assertions.assertEquals("abacabad", StringUtils.decodeWithHuffman(treeResult));
+    }
+
+    @Test
+    @Order(15)
+    public void truncatedStream() throws Exception {
+        HuffmanTree.Result result = StringUtils.encodeWithHuffman("aaaaaaaabaaaaaaaacaaaaaaaad");
+        Assertions.assertNotNull(result);
+        HuffmanCodec huffmanCodec = result.getHuffmanCodec();
+        byte[] encodedBytes = result.getEncodedBytes();
+        long bitLength = result.getBitLength();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> huffmanCodec.decode(encodedBytes, bitLength + 64));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> huffmanCodec.decode(new ByteArrayInputStream(encodedBytes), bitLength + 64));
+        byte[] truncatedBytes = Arrays.copyOf(encodedBytes, encodedBytes.length - 1);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> huffmanCodec.decode(new ByteArrayInputStream(truncatedBytes), bitLength));
+        Assertions.assertEquals("aaaaaaaabaaaaaaaacaaaaaaaad",
+                huffmanCodec.decode(new ByteArrayInputStream(encodedBytes), bitLength));
+    }
+
+    @Test
+    @Order(20)
+    public void performance() {
+        Random random = new Random();
+        StringBuilder stringBuilder = new StringBuilder();
+        String[] words = {"Nervousync", "utilities", "Huffman", "codec", "编码", "测试", "the", "of", "and"};
+        while (stringBuilder.length() < 4 * 1024 * 1024) {
+            stringBuilder.append(words[Math.abs((int) (random.nextGaussian() * 3)) % words.length]).append(' ');
+        }
+        String content = stringBuilder.toString();
+        long encodeTime = Long.MAX_VALUE, decodeTime = Long.MAX_VALUE;
+        HuffmanTree.Result result = null;
+        for (int round = 0; round < 3; round++) {
+            long beginTime = System.nanoTime();
+            result = StringUtils.encodeWithHuffman(content);
+            encodeTime = Math.min(encodeTime, System.nanoTime() - beginTime);
+            beginTime = System.nanoTime();
+            Assertions.assertEquals(content, StringUtils.decodeWithHuffman(result));
+            decodeTime = Math.min(decodeTime, System.nanoTime() - beginTime);
+        }
+        Assertions.assertNotNull(result);
+        this.logger.info("Huffman_Throughput", content.length(), result.getEncodedBytes().length,
+                content.length() * 1000L / Math.max(1L, encodeTime), content.length() * 1000L / Math.max(1L, decodeTime));
+    }
+}
@@ -0,0 +1,192 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.beans.ip.CidrSet;
+import org.nervousync.beans.ip.IPAddress;
+import org.nervousync.beans.ip.IPRange;
+import org.nervousync.enumerations.ip.IPType;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.IPUtils;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class IPTest extends BaseTest {
+
+    @Test
+    @Order(10)
+    public void calcRange() {
+        IPRange ipRange = IPUtils.calcRange("192.168.1.5", 24);
+        Assertions.assertEquals(IPType.IPv4, ipRange.getIpType());
+        Assertions.assertEquals("192.168.1.0", ipRange.getBeginAddress());
+        Assertions.assertEquals("192.168.1.255", ipRange.getEndAddress());
+        Assertions.assertTrue(ipRange.contains("192.168.1.200"));
+        Assertions.assertFalse(ipRange.contains("192.168.2.1"));
+        Assertions.assertFalse(ipRange.contains("::1"));
+
+        ipRange = IPUtils.calcRange("10.0.0.0", 8);
+        Assertions.assertEquals("10.0.0.1", ipRange.getBeginAddress());
+        Assertions.assertEquals("10.255.255.254", ipRange.getEndAddress());
+        Assertions.assertEquals(IPUtils.IPv4ToInt("10.0.0.1"), ipRange.getBeginValue().intValue());
+
+        ipRange = IPUtils.calcRange("172.16.5.4", 12);
+        Assertions.assertEquals("172.16.0.0", ipRange.getBeginAddress());
+        Assertions.assertEquals("172.31.255.255", ipRange.getEndAddress());
+
+        ipRange = IPUtils.calcRange("2001:db8:85a3::8a2e:370:7334", 64);
+        Assertions.assertEquals(IPType.IPv6, ipRange.getIpType());
+        Assertions.assertEquals("2001:0DB8:85A3:0000:0000:0000:0000:0000", ipRange.getBeginAddress());
+        Assertions.assertEquals("2001:0DB8:85A3:0000:FFFF:FFFF:FFFF:FFFF", ipRange.getEndAddress());
+        Assertions.assertTrue(ipRange.contains("2001:db8:85a3::1"));
+        Assertions.assertFalse(ipRange.contains("2001:db8:85a4::1"));
+
+        ipRange = IPUtils.calcRange("fe80::", 10);
+        Assertions.assertEquals("FEBF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF", ipRange.getEndAddress());
+
+        Assertions.assertEquals("255.255.240.0", IPUtils.CIDRToNetmask(20));
+        Assertions.assertEquals(20, IPUtils.NetmaskToCIDR("255.255.240.0"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IPUtils.calcRange("10.0.0.1", 33));
+
+        //  Leading zeros are read as decimal values, same as before
+        ipRange = IPUtils.calcRange("01.2.3.4", 24);
+        Assertions.assertEquals("1.2.3.0", ipRange.getBeginAddress());
+        Assertions.assertEquals("1.2.3.255", ipRange.getEndAddress());
+        ipRange = IPUtils.calcRange("192.168.001.010", 24);
+        Assertions.assertEquals("192.168.1.0", ipRange.getBeginAddress());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IPUtils.calcRange("01.2.3", 24));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IPUtils.calcRange("1.2.3.256", 24));
+    }
+
+    @Test
+    @Order(20)
+    public void parseAddress() throws Exception {
+        Random random = new Random();
+        for (int i = 0; i < 10_000; i++) {
+            byte[] addressBytes = new byte[(i % 2 == 0) ? 4 : 16];
+            if (i % 3 == 0 && addressBytes.length == 16) {
+                //  Leave zero groups to cover "::" compression
+                random.nextBytes(addressBytes);
+                for (int j = 4; j < 4 + random.nextInt(12); j++) {
+                    addressBytes[j] = 0;
+                }
+            } else {
+                random.nextBytes(addressBytes);
+            }
+            InetAddress inetAddress = InetAddress.getByAddress(addressBytes);
+            String hostAddress = inetAddress.getHostAddress();
+            IPAddress address = IPUtils.IPToAddress(hostAddress);
+            Assertions.assertNotNull(address, hostAddress);
+            Assertions.assertArrayEquals(addressBytes, IPUtils.AddressToBytes(address), hostAddress);
+            Assertions.assertEquals(address, IPUtils.IPToAddress(IPUtils.AddressToIP(address)), hostAddress);
+            Assertions.assertEquals(address, IPUtils.IPToAddress(IPUtils.AddressToIP(address, Boolean.FALSE)));
+            Assertions.assertEquals(new BigInteger(1, addressBytes), IPUtils.IPtoBigInteger(hostAddress));
+        }
+        Assertions.assertEquals("2001:DB8::1", IPUtils.AddressToIP(IPUtils.IPToAddress("2001:0db8:0:0:0:0:0:1")));
+        Assertions.assertEquals("2001:DB8:0:1:1:1:1:1", IPUtils.AddressToIP(IPUtils.IPToAddress("2001:db8:0:1:1:1:1:1")));
+        Assertions.assertEquals("::", IPUtils.AddressToIP(IPUtils.IPToAddress("::")));
+        Assertions.assertEquals(IPUtils.IPToAddress("::ffff:c0a8:101"), IPUtils.IPToAddress("::ffff:192.168.1.1"));
+        Assertions.assertEquals(IPUtils.IPToAddress("fe80::1"), IPUtils.IPToAddress(" [fe80::1%eth0] "));
+        for (String invalid : new String[]{"", ":", ":::", "1::2::3", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9",
+                "12345::", "1:", ":1", "g::1", "::1.2.3", "1.2.3.4::", "01.2.3.4", "1.2.3.256",
+                "\uFF12001:db8::1", "2001:db8::\u0661", "\uFF41::1"}) {
+            Assertions.assertNull(IPUtils.IPToAddress(invalid), invalid);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IPUtils.IPv4ToInt("1.2.3"));
+    }
+
+    @Test
+    @Order(30)
+    public void cidrSet() {
+        CidrSet cidrSet = new CidrSet();
+        Assertions.assertTrue(cidrSet.isEmpty());
+        Assertions.assertTrue(cidrSet.add("10.0.0.0/8"));
+        Assertions.assertTrue(cidrSet.add("192.168.1.0/24"));
+        Assertions.assertTrue(cidrSet.add("203.0.113.7"));
+        Assertions.assertTrue(cidrSet.add("2001:db8::/32"));
+        Assertions.assertFalse(cidrSet.add("10.1.0.0/16"));
+        Assertions.assertEquals(4, cidrSet.size());
+
+        Assertions.assertTrue(cidrSet.contains("10.255.0.1"));
+        Assertions.assertTrue(cidrSet.contains("192.168.1.77"));
+        Assertions.assertFalse(cidrSet.contains("192.168.2.77"));
+        Assertions.assertTrue(cidrSet.contains("203.0.113.7"));
+        Assertions.assertFalse(cidrSet.contains("203.0.113.8"));
+        Assertions.assertTrue(cidrSet.contains("2001:db8:ffff::1"));
+        Assertions.assertFalse(cidrSet.contains("2001:db9::1"));
+        Assertions.assertTrue(cidrSet.contains("::ffff:10.0.0.1"));
+        Assertions.assertTrue(cidrSet.contains("::ffff:cb00:7107"));
+        Assertions.assertFalse(cidrSet.contains("::ffff:192.168.2.77"));
+        Assertions.assertFalse(cidrSet.contains("::10.0.0.1"));
+        Assertions.assertFalse(cidrSet.contains("unknown"));
+        Assertions.assertTrue(cidrSet.contains(IPUtils.IPv4ToInt("10.9.8.7")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cidrSet.add("10.0.0.0/33"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cidrSet.add("10.0.0/8"));
+
+        cidrSet.add("0.0.0.0/0");
+        Assertions.assertTrue(cidrSet.contains("8.8.8.8"));
+        Assertions.assertFalse(cidrSet.contains("2001:db9::1"));
+    }
+
+    @Test
+    @Order(40)
+    public void cidrCost() {
+        Random random = new Random(2026L);
+        CidrSet cidrSet = new CidrSet();
+        List<IPRange> ipRanges = new ArrayList<>();
+        while (cidrSet.size() < 1_000) {
+            String address = random.nextInt(224) + "." + random.nextInt(256) + "."
+                    + random.nextInt(256) + "." + random.nextInt(256);
+            int cidr = 16 + random.nextInt(17);
+            if (cidrSet.add(address + "/" + cidr)) {
+                ipRanges.add(IPUtils.calcRange(address, cidr));
+            }
+        }
+        String[] addresses = new String[5_000];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = random.nextInt(224) + "." + random.nextInt(256) + "."
+                    + random.nextInt(256) + "." + random.nextInt(256);
+        }
+
+        long beginTime = System.nanoTime();
+        int stringMatched = 0;
+        for (String address : addresses) {
+            byte[] addressBytes = IPUtils.IPToBytes(address);
+            for (IPRange ipRange : ipRanges) {
+                if (compareBytes(addressBytes, IPUtils.IPToBytes(ipRange.getBeginAddress())) >= 0
+                        && compareBytes(addressBytes, IPUtils.IPToBytes(ipRange.getEndAddress())) <= 0) {
+                    stringMatched++;
+                    break;
+                }
+            }
+        }
+        long stringTime = System.nanoTime() - beginTime;
+
+        beginTime = System.nanoTime();
+        int trieMatched = 0;
+        for (String address : addresses) {
+            if (cidrSet.contains(IPUtils.IPv4ToInt(address))) {
+                trieMatched++;
+            }
+        }
+        long trieTime = System.nanoTime() - beginTime;
+        Assertions.assertTrue(trieMatched > 0);
+        Assertions.assertTrue(trieMatched >= stringMatched);
+        this.logger.info("IP_Cidr_Cost", addresses.length, cidrSet.size(),
+                stringTime / 1_000_000L, trieTime / 1_000_000L);
+    }
+
+    private static int compareBytes(final byte[] left, final byte[] right) {
+        for (int i = 0; i < left.length; i++) {
+            int result = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,165 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.beans.image.CutOptions;
+import org.nervousync.commons.Globals;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.FileUtils;
+import org.nervousync.utils.ImageUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public final class ImageTest extends BaseTest {
+
+    private static final String BASE_PATH;
+    private static final int IMAGE_COUNT = 8;
+
+    static {
+        String tmpDir = System.getProperty("java.io.tmpdir");
+        BASE_PATH = (tmpDir.endsWith(Globals.DEFAULT_PAGE_SEPARATOR)
+                ? tmpDir.substring(0, tmpDir.length() - 1)
+                : tmpDir) + Globals.DEFAULT_PAGE_SEPARATOR + "TestImage";
+    }
+
+    @BeforeAll
+    public static void createImages() throws IOException {
+        FileUtils.makeDir(BASE_PATH);
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            BufferedImage bufferedImage = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = bufferedImage.createGraphics();
+            graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, 4000, 3000, new Color(i * 30, 200, 40)));
+            graphics.fillRect(0, 0, 4000, 3000);
+            graphics.dispose();
+            ImageIO.write(bufferedImage, "jpg", new File(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + i + ".jpg"));
+        }
+        BufferedImage alphaImage = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = alphaImage.createGraphics();
+        graphics.setColor(new Color(255, 0, 0, 128));
+        graphics.fillRect(0, 0, 200, 300);
+        graphics.dispose();
+        ImageIO.write(alphaImage, "png", new File(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "alpha.png"));
+        Random random = new Random(38L);
+        BufferedImage detailImage = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        graphics = detailImage.createGraphics();
+        for (int i = 0; i < 2000; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillRect(random.nextInt(1600), random.nextInt(1200), random.nextInt(40) + 1, random.nextInt(40) + 1);
+        }
+        graphics.dispose();
+        ImageIO.write(detailImage, "jpg", new File(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "detail.jpg"));
+    }
+
+    @AfterAll
+    public static void removeImages() {
+        FileUtils.removeDir(BASE_PATH);
+    }
+
+    @Test
+    @Order(10)
+    public void imageSize() {
+        String imagePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "0.jpg";
+        Assertions.assertEquals(new Dimension(4000, 3000), ImageUtils.imageSize(imagePath));
+        Assertions.assertEquals(4000, ImageUtils.imageWidth(imagePath));
+        Assertions.assertEquals(3000, ImageUtils.imageHeight(imagePath));
+        Assertions.assertEquals(4 / 3.0, ImageUtils.imageRatio(imagePath), 0.0001);
+        Assertions.assertEquals(Globals.DEFAULT_VALUE_INT,
+                ImageUtils.imageWidth(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "none.jpg"));
+    }
+
+    @Test
+    @Order(20)
+    public void resizeAndCut() {
+        String imagePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "0.jpg";
+        String resizePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "resize.jpg";
+        Assertions.assertTrue(ImageUtils.resizeTo(imagePath, resizePath, 400, Globals.DEFAULT_VALUE_INT));
+        Assertions.assertEquals(new Dimension(400, 300), ImageUtils.imageSize(resizePath));
+        Assertions.assertTrue(ImageUtils.resizeByRatio(imagePath, resizePath, 0.05));
+        Assertions.assertEquals(new Dimension(200, 150), ImageUtils.imageSize(resizePath));
+
+        String cutPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "cut.jpg";
+        Assertions.assertTrue(ImageUtils.cutImage(imagePath, cutPath, CutOptions.newInstance(100, 100, 320, 240)));
+        Assertions.assertEquals(new Dimension(320, 240), ImageUtils.imageSize(cutPath));
+        Assertions.assertFalse(ImageUtils.cutImage(imagePath, cutPath, CutOptions.newInstance(3900, 0, 320, 240)));
+
+        String alphaPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "alpha.png";
+        Assertions.assertTrue(ImageUtils.cutImage(alphaPath, cutPath, CutOptions.newInstance(0, 0, 100, 100)));
+        Assertions.assertEquals(new Dimension(100, 100), ImageUtils.imageSize(cutPath));
+    }
+
+    @Test
+    @Order(30)
+    public void thumbnails() {
+        Map<String, String> imagePaths = new HashMap<>();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            imagePaths.put(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + i + ".jpg",
+                    BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "thumbnail_" + i + ".jpg");
+        }
+        imagePaths.put(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "none.jpg",
+                BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "thumbnail_none.jpg");
+
+        long beginTime = System.currentTimeMillis();
+        Map<String, Boolean> results = ImageUtils.thumbnails(imagePaths, 160, 120, 0.7f, 4);
+        long thumbnailTime = System.currentTimeMillis() - beginTime;
+        Assertions.assertEquals(imagePaths.size(), results.size());
+        Assertions.assertFalse(results.get(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "none.jpg"));
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            Assertions.assertTrue(results.get(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + i + ".jpg"));
+            Assertions.assertEquals(new Dimension(160, 120),
+                    ImageUtils.imageSize(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "thumbnail_" + i + ".jpg"));
+        }
+
+        beginTime = System.currentTimeMillis();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            Assertions.assertTrue(ImageUtils.resizeTo(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + i + ".jpg",
+                    BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "resize_" + i + ".jpg", 160, 120));
+        }
+        long resizeTime = System.currentTimeMillis() - beginTime;
+        this.logger.info("Image_Thumbnail_Cost", IMAGE_COUNT, thumbnailTime, resizeTime);
+    }
+
+    @Test
+    @Order(40)
+    public void hash() {
+        String imagePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "1.jpg";
+        String resizePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "hash_resize.jpg";
+        Assertions.assertTrue(ImageUtils.resizeTo(imagePath, resizePath, 800, 600));
+
+        long dHash = ImageUtils.dHashValue(imagePath).orElseThrow();
+        long pHash = ImageUtils.pHashValue(imagePath).orElseThrow();
+        Assertions.assertEquals(Long.SIZE, ImageUtils.dHash(imagePath).length());
+        Assertions.assertEquals(dHash, Long.parseUnsignedLong(ImageUtils.dHash(imagePath), 2));
+        Assertions.assertEquals(pHash, Long.parseUnsignedLong(ImageUtils.pHash(imagePath), 2));
+        Assertions.assertTrue(ImageUtils.dHashHamming(imagePath, resizePath) <= 4);
+        Assertions.assertTrue(ImageUtils.pHashHamming(imagePath, resizePath) <= 4);
+        Assertions.assertEquals(Globals.DEFAULT_VALUE_INT,
+                ImageUtils.pHashHamming(imagePath, BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "none.jpg"));
+        Assertions.assertTrue(ImageUtils.pHashValue(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "none.jpg").isEmpty());
+    }
+
+    @Test
+    @Order(50)
+    public void hashConsistency() throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            fileNames.add(i + ".jpg");
+        }
+        fileNames.add("alpha.png");
+        fileNames.add("detail.jpg");
+        for (String fileName : fileNames) {
+            File imageFile = new File(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + fileName);
+            BufferedImage bufferedImage = ImageIO.read(imageFile);
+            Assertions.assertEquals(ImageUtils.dHashValue(bufferedImage), ImageUtils.dHashValue(imageFile).orElseThrow());
+            Assertions.assertEquals(ImageUtils.pHashValue(bufferedImage), ImageUtils.pHashValue(imageFile).orElseThrow());
+            Assertions.assertEquals(ImageUtils.dHash(bufferedImage), ImageUtils.dHash(imageFile.getAbsolutePath()));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.beans.location.GeoPoint;
+import org.nervousync.exceptions.location.LocationConvertException;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.LocationUtils;
+
+import java.util.*;
+
+public final class LocationTest extends BaseTest {
+
+    private static final double DELTA = 1e-9;
+    private static final int CONVERT_COUNT = 1_000_000;
+    private static final int STORE_COUNT = 20_000;
+    private static final int QUERY_COUNT = 300;
+    //  GPS longitude, GPS latitude, GCJ02 longitude, GCJ02 latitude, BD09 longitude, BD09 latitude,
+    //  GPS longitude and latitude of BD09 input, GPS longitude and latitude of GCJ02 input
+    private static final double[][] REFERENCE_VALUES = {
+            {121.473701, 31.230416, 121.47822405739267, 31.22847374224698, 121.4847177215929, 31.234445555239827,
+                    121.4626607787087, 31.226384514896065, 121.46917794260735, 31.232358257753024},
+            {116.407526, 39.90403, 116.41376818747571, 39.905433308303465, 116.42023061248847, 39.911524868059836,
+                    116.39482602418855, 39.89652167258651, 116.4012838125243, 39.90262669169653},
+            {113.264385, 23.129112, 113.26971458288735, 23.126435336538538, 113.27625293014214, 23.132208840498834,
+                    113.25251891362748, 23.126029520883943, 113.25905541711266, 23.13178866346146},
+            {104.066541, 30.572269, 104.06904597951714, 30.569814587450697, 104.0754751482509, 30.576124980025437,
+                    104.05762038732577, 30.568423418516197, 104.06403602048286, 30.5747234125493},
+            {87.617733, 43.792818, 87.62058226041898, 43.79404257315041, 87.62702288759174, 43.80013439566843,
+                    87.60844596241803, 43.785510253285786, 87.61488373958102, 43.79159342684958},
+            {-122.419416, 37.774929, -122.35840328967579, 37.77062262617767, -122.35193943935428, 37.77646077654528,
+                    -122.4259025528207, 37.769017625103494, -122.419416, 37.774929},
+            {2.352222, 48.856614, 2.368841230753783, 48.855092460325416, 2.3752829592405087, 48.861104089602875,
+                    2.3457898481642028, 48.850601686159216, 2.352222, 48.856614}
+    };
+
+    @Test
+    @Order(0)
+    public void singlePoint() throws LocationConvertException {
+        for (double[] values : REFERENCE_VALUES) {
+            GeoPoint gpsPoint = GeoPoint.gpsPoint(values[0], values[1]);
+            assertPoint(LocationUtils.anyToGCJ02(gpsPoint), values[2], values[3]);
+            assertPoint(LocationUtils.anyToBD09(gpsPoint), values[4], values[5]);
+            assertPoint(LocationUtils.anyToGPS(GeoPoint.bd09Point(values[0], values[1])), values[6], values[7]);
+            assertPoint(LocationUtils.anyToGPS(GeoPoint.gcj02Point(values[0], values[1])), values[8], values[9]);
+        }
+        Assertions.assertEquals(764.6022928128187,
+                LocationUtils.calcDistance(GeoPoint.gpsPoint(121.473701, 31.230416), GeoPoint.bd09Point(121.48, 31.24)),
+                DELTA);
+        Assertions.assertEquals(764.6022928128187,
+                LocationUtils.calcDistance(GeoPoint.gpsPoint(121.473701, 31.230416), GeoPoint.bd09Point(121.48, 31.24),
+                        Boolean.TRUE), 0.1);
+    }
+
+    @Test
+    @Order(10)
+    public void batchConvert() throws LocationConvertException {
+        double[] longitudes = new double[REFERENCE_VALUES.length];
+        double[] latitudes = new double[REFERENCE_VALUES.length];
+        for (int i = 0; i < REFERENCE_VALUES.length; i++) {
+            longitudes[i] = REFERENCE_VALUES[i][0];
+            latitudes[i] = REFERENCE_VALUES[i][1];
+        }
+        double[] bdLongitudes = longitudes.clone();
+        double[] bdLatitudes = latitudes.clone();
+        LocationUtils.convert(GeoPoint.LocationType.GPS, GeoPoint.LocationType.BD_09, bdLongitudes, bdLatitudes);
+        LocationUtils.convert(GeoPoint.LocationType.BD_09, GeoPoint.LocationType.GPS, longitudes, latitudes);
+        for (int i = 0; i < REFERENCE_VALUES.length; i++) {
+            Assertions.assertEquals(REFERENCE_VALUES[i][4], bdLongitudes[i], DELTA);
+            Assertions.assertEquals(REFERENCE_VALUES[i][5], bdLatitudes[i], DELTA);
+            Assertions.assertEquals(REFERENCE_VALUES[i][6], longitudes[i], DELTA);
+            Assertions.assertEquals(REFERENCE_VALUES[i][7], latitudes[i], DELTA);
+        }
+        Assertions.assertThrows(LocationConvertException.class,
+                () -> LocationUtils.convert(GeoPoint.LocationType.GPS, GeoPoint.LocationType.BD_09,
+                        new double[1], new double[2]));
+    }
+
+    @Test
+    @Order(20)
+    public void convertCost() throws LocationConvertException {
+        Random random = new Random(20261019L);
+        double[] longitudes = new double[CONVERT_COUNT];
+        double[] latitudes = new double[CONVERT_COUNT];
+        for (int i = 0; i < CONVERT_COUNT; i++) {
+            longitudes[i] = 73 + random.nextDouble() * 62;
+            latitudes[i] = 18 + random.nextDouble() * 35;
+        }
+        long beginTime = System.currentTimeMillis();
+        double[] singleLongitudes = new double[CONVERT_COUNT];
+        double[] singleLatitudes = new double[CONVERT_COUNT];
+        for (int i = 0; i < CONVERT_COUNT; i++) {
+            GeoPoint geoPoint = LocationUtils.anyToBD09(GeoPoint.gpsPoint(longitudes[i], latitudes[i]));
+            singleLongitudes[i] = geoPoint.getLongitude();
+            singleLatitudes[i] = geoPoint.getLatitude();
+        }
+        long singleCost = System.currentTimeMillis() - beginTime;
+
+        double[] batchLongitudes = longitudes.clone();
+        double[] batchLatitudes = latitudes.clone();
+        beginTime = System.currentTimeMillis();
+        LocationUtils.convert(GeoPoint.LocationType.GPS, GeoPoint.LocationType.BD_09, batchLongitudes, batchLatitudes);
+        long batchCost = System.currentTimeMillis() - beginTime;
+
+        double[] parallelLongitudes = longitudes.clone();
+        double[] parallelLatitudes = latitudes.clone();
+        beginTime = System.currentTimeMillis();
+        LocationUtils.convert(GeoPoint.LocationType.GPS, GeoPoint.LocationType.BD_09,
+                parallelLongitudes, parallelLatitudes, Boolean.TRUE);
+        long parallelCost = System.currentTimeMillis() - beginTime;
+
+        Assertions.assertArrayEquals(singleLongitudes, batchLongitudes);
+        Assertions.assertArrayEquals(singleLatitudes, batchLatitudes);
+        Assertions.assertArrayEquals(batchLongitudes, parallelLongitudes);
+        Assertions.assertArrayEquals(batchLatitudes, parallelLatitudes);
+        this.logger.info("Location_Convert_Cost", CONVERT_COUNT, singleCost, batchCost, parallelCost);
+    }
+
+    @Test
+    @Order(30)
+    public void spatialIndex() throws LocationConvertException {
+        for (boolean haversine : new boolean[]{Boolean.FALSE, Boolean.TRUE}) {
+            Random random = new Random(20261019L);
+            LocationUtils.GeoIndex<Integer> geoIndex = LocationUtils.newIndex(0.01, haversine);
+            List<GeoPoint> stores = new ArrayList<>(STORE_COUNT);
+            for (int i = 0; i < STORE_COUNT; i++) {
+                GeoPoint geoPoint = GeoPoint.gpsPoint(120.85 + random.nextDouble() * 1.1, 30.7 + random.nextDouble());
+                stores.add(geoPoint);
+                geoIndex.add(geoPoint, i);
+            }
+            Assertions.assertEquals(STORE_COUNT, geoIndex.size());
+            List<GeoPoint> queries = new ArrayList<>(QUERY_COUNT);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                queries.add(GeoPoint.gpsPoint(120.8 + random.nextDouble() * 1.2, 30.65 + random.nextDouble() * 1.1));
+            }
+
+            long beginTime = System.currentTimeMillis();
+            List<List<Integer>> scanResults = new ArrayList<>(QUERY_COUNT);
+            for (GeoPoint query : queries) {
+                double[] distances = new double[STORE_COUNT];
+                for (int i = 0; i < STORE_COUNT; i++) {
+                    distances[i] = LocationUtils.calcDistance(query, stores.get(i), haversine);
+                }
+                List<Integer> resultList = new ArrayList<>();
+                for (int i = 0; i < STORE_COUNT; i++) {
+                    resultList.add(i);
+                }
+                resultList.sort(Comparator.comparingDouble(i -> distances[i]));
+                scanResults.add(resultList.subList(0, 5));
+            }
+            long scanCost = System.currentTimeMillis() - beginTime;
+
+            beginTime = System.currentTimeMillis();
+            List<List<Integer>> indexResults = new ArrayList<>(QUERY_COUNT);
+            for (GeoPoint query : queries) {
+                indexResults.add(geoIndex.nearest(query, 5));
+            }
+            long indexCost = System.currentTimeMillis() - beginTime;
+            Assertions.assertEquals(scanResults, indexResults);
+
+            for (int i = 0; i < 50; i++) {
+                GeoPoint query = queries.get(i);
+                List<Integer> radiusList = geoIndex.radius(query, 1500d);
+                for (int j = 0; j < STORE_COUNT; j++) {
+                    Assertions.assertEquals(LocationUtils.calcDistance(query, stores.get(j), haversine) <= 1500d,
+                            radiusList.contains(j));
+                }
+            }
+            this.logger.info("Location_Index_Cost", haversine, STORE_COUNT, QUERY_COUNT, scanCost, indexCost);
+        }
+    }
+
+    @Test
+    @Order(40)
+    public void antimeridian() throws LocationConvertException {
+        LocationUtils.GeoIndex<Integer> geoIndex = LocationUtils.newIndex(0.01, Boolean.TRUE);
+        geoIndex.add(GeoPoint.gpsPoint(179.995, -16.5), 0);
+        geoIndex.add(GeoPoint.gpsPoint(-179.995, -16.5), 1);
+        geoIndex.add(GeoPoint.gpsPoint(-179.9, -16.5), 2);
+        geoIndex.add(GeoPoint.gpsPoint(0d, -16.5), 3);
+
+        //  About 1.07 km between the points on both sides of the 180° line
+        Assertions.assertEquals(List.of(0, 1), geoIndex.radius(GeoPoint.gpsPoint(179.998, -16.5), 2000d));
+        Assertions.assertEquals(List.of(1, 0), geoIndex.radius(GeoPoint.gpsPoint(-179.998, -16.5), 2000d));
+        Assertions.assertEquals(List.of(1, 0, 2), geoIndex.radius(GeoPoint.gpsPoint(-179.998, -16.5), 12000d));
+    }
+
+    private static void assertPoint(final GeoPoint geoPoint, final double longitude, final double latitude) {
+        Assertions.assertEquals(longitude, geoPoint.getLongitude(), DELTA);
+        Assertions.assertEquals(latitude, geoPoint.getLatitude(), DELTA);
+    }
+}
@@ -1,11 +1,19 @@
 package org.nervousync.test.utils;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
+import org.nervousync.commons.Globals;
 import org.nervousync.test.BaseTest;
 import org.nervousync.utils.MultilingualUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MultilingualTest extends BaseTest {
 
@@ -18,6 +26,74 @@ public final class MultilingualTest extends BaseTest {
         this.logger.info(this.multiAgent.findMessage("Out_Of_Index_Raw_Error", Locale.CHINA, 10, 8, 3));
     }
 
+    @Test
+    @Order(12)
+    public void concurrentFormat() throws Exception {
+        final MultilingualUtils.Agent agent = MultilingualUtils.newAgent("org.nervousync", "utils");
+        final String expected = agent.findMessage("Office_Excel_Rows_Count", "Sheet", 8);
+        Assertions.assertNotEquals(agent.findMessage("Office_Excel_Rows_Count", "Sheet", 9), expected);
+        Assertions.assertEquals(agent.findMessage("Stack_Message_Error"),
+                agent.findMessage("Stack_Message_Error", 1, 2));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        if (!expected.equals(agent.findMessage("Office_Excel_Rows_Count", "Sheet", 8))) {
+                            return Boolean.FALSE;
+                        }
+                    }
+                    return Boolean.TRUE;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                Assertions.assertTrue(future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    @Order(15)
+    public void disabledLevel() {
+        final MultilingualUtils.Agent agent = MultilingualUtils.newAgent("org.nervousync", "utils");
+        Assertions.assertFalse(this.logger.isTraceEnabled());
+        //  The argument is only formatted when the message was resolved
+        final AtomicInteger formatCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                formatCount.incrementAndGet();
+                return "Argument";
+            }
+        };
+        this.logger.trace("Out_Of_Index_Raw_Error", 10, argument, 3);
+        this.logger.trace("Out_Of_Index_Raw_Error", new Exception(), 10, argument, 3);
+        Assertions.assertEquals(0, formatCount.get());
+        agent.findMessage("Out_Of_Index_Raw_Error", 10, argument, 3);
+        Assertions.assertEquals(1, formatCount.get());
+
+        final int loopCount = 1_000_000;
+        long disabledTime = Long.MAX_VALUE, resolveTime = Long.MAX_VALUE;
+        //  Repeat the measurement and keep the minimum value to exclude the JIT warm up
+        for (int round = 0; round < 5; round++) {
+            long beginTime = System.nanoTime();
+            for (int i = 0; i < loopCount; i++) {
+                this.logger.trace("Out_Of_Index_Raw_Error", 10, i, 3);
+            }
+            disabledTime = Math.min(disabledTime, System.nanoTime() - beginTime);
+            beginTime = System.nanoTime();
+            for (int i = 0; i < loopCount; i++) {
+                agent.findMessage("Out_Of_Index_Raw_Error", 10, i, 3);
+            }
+            resolveTime = Math.min(resolveTime, System.nanoTime() - beginTime);
+        }
+        this.logger.info("Logger_Disabled_Level_Cost", loopCount,
+                disabledTime / loopCount, resolveTime / loopCount);
+    }
+
     @Test
     @Order(20)
     public void destroy() {
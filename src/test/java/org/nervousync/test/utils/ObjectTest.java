@@ -0,0 +1,142 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.ObjectUtils;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public final class ObjectTest extends BaseTest {
+
+    private static final int CREATE_COUNT = 1_000_000;
+
+    @Test
+    @Order(0)
+    public void newInstance() {
+        Assertions.assertNotNull(ObjectUtils.newInstance(ArrayList.class));
+        TestBean testBean = ObjectUtils.newInstance(TestBean.class, new Object[]{"Name", 18});
+        Assertions.assertNotNull(testBean);
+        Assertions.assertEquals("Name", testBean.getName());
+        Assertions.assertEquals(18, testBean.getAge());
+        //  Subtype of parameter type and null value
+        testBean = ObjectUtils.newInstance(TestBean.class, new Object[]{new ArrayList<>(List.of("a", "b"))});
+        Assertions.assertNotNull(testBean);
+        Assertions.assertEquals(2, testBean.getAge());
+        testBean = ObjectUtils.newInstance(TestBean.class, new Object[]{null, 20});
+        Assertions.assertNotNull(testBean);
+        Assertions.assertNull(testBean.getName());
+        //  Most specific constructor
+        testBean = ObjectUtils.newInstance(TestBean.class, new Object[]{"Name"});
+        Assertions.assertNotNull(testBean);
+        Assertions.assertEquals(-1, testBean.getAge());
+        //  Private class and constructor
+        Assertions.assertNotNull(ObjectUtils.newInstance(PrivateBean.class));
+        //  Not matched constructor
+        Assertions.assertNull(ObjectUtils.newInstance(TestBean.class, new Object[]{1L, 2L, 3L}));
+        Assertions.assertNull(ObjectUtils.newInstance(AbstractBean.class));
+        //  Exception of constructor returns null, error was propagated
+        Assertions.assertNull(ObjectUtils.newInstance(FailedBean.class, new Object[]{Boolean.FALSE}));
+        Assertions.assertThrows(AssertionError.class,
+                () -> ObjectUtils.newInstance(FailedBean.class, new Object[]{Boolean.TRUE}));
+    }
+
+    @Test
+    @Order(10)
+    public void newProxy() {
+        InvocationHandler invocationHandler = (proxy, method, args) -> "Proxy";
+        @SuppressWarnings("unchecked")
+        Supplier<String> supplier = ObjectUtils.newInstance(Supplier.class, invocationHandler);
+        Assertions.assertNotNull(supplier);
+        Assertions.assertEquals("Proxy", supplier.get());
+        @SuppressWarnings("unchecked")
+        Supplier<String> other = ObjectUtils.newInstance(Supplier.class, (proxy, method, args) -> "Other");
+        Assertions.assertSame(supplier.getClass(), other.getClass());
+        Assertions.assertEquals("Other", other.get());
+        Object multiple = ObjectUtils.newInstance(Supplier.class,
+                new Class[]{Supplier.class, Serializable.class}, invocationHandler);
+        Assertions.assertInstanceOf(Serializable.class, multiple);
+    }
+
+    @Test
+    @Order(20)
+    public void createCost() throws Exception {
+        long checksum = 0L;
+        long beginTime = System.nanoTime();
+        for (int i = 0; i < CREATE_COUNT; i++) {
+            checksum += new TestBean("Name", i).getAge();
+        }
+        long directTime = System.nanoTime() - beginTime;
+
+        beginTime = System.nanoTime();
+        for (int i = 0; i < CREATE_COUNT; i++) {
+            Constructor<TestBean> constructor = TestBean.class.getDeclaredConstructor(String.class, int.class);
+            checksum += constructor.newInstance("Name", i).getAge();
+        }
+        long reflectTime = System.nanoTime() - beginTime;
+
+        beginTime = System.nanoTime();
+        for (int i = 0; i < CREATE_COUNT; i++) {
+            checksum += ObjectUtils.newInstance(TestBean.class, new Object[]{"Name", i}).getAge();
+        }
+        long cacheTime = System.nanoTime() - beginTime;
+        this.logger.info("Object_Create_Cost", CREATE_COUNT, directTime / 1_000_000L,
+                reflectTime / 1_000_000L, cacheTime / 1_000_000L, checksum);
+    }
+
+    public static final class TestBean {
+
+        private final String name;
+        private final int age;
+
+        public TestBean(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public TestBean(List<String> names) {
+            this(String.join(",", names), names.size());
+        }
+
+        public TestBean(Object name) {
+            this(String.valueOf(name), -2);
+        }
+
+        public TestBean(CharSequence name) {
+            this(name.toString(), -1);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+
+    private static final class PrivateBean {
+
+        private PrivateBean() {
+        }
+    }
+
+    public abstract static class AbstractBean {
+    }
+
+    public static final class FailedBean {
+
+        public FailedBean(final Boolean error) {
+            if (error) {
+                throw new AssertionError("Constructor error");
+            }
+            throw new IllegalStateException("Constructor exception");
+        }
+    }
+}
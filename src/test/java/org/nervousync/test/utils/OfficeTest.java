@@ -18,18 +18,24 @@
 package org.nervousync.test.utils;
 
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.commons.Globals;
+import org.nervousync.office.excel.CellValue;
+import org.nervousync.office.excel.ExcelReader;
 import org.nervousync.office.excel.ExcelWriter;
+import org.nervousync.office.excel.RowHandler;
+import org.nervousync.office.excel.SheetRow;
 import org.nervousync.office.excel.SheetWriter;
 import org.nervousync.test.BaseTest;
 import org.nervousync.utils.FileUtils;
 import org.nervousync.utils.OfficeUtils;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class OfficeTest extends BaseTest {
     private static final String FILE_PATH = "src/test/resources/test.xlsx";
@@ -46,6 +52,10 @@ public class OfficeTest extends BaseTest {
     public static void clean() {
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "test.xls");
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "test.xlsx");
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "stream.xlsx");
+        Arrays.asList("writeData.xlsx", "appendRows.xlsx", "xmlWriter.xlsx", "multiSheet.xlsx",
+                "nullSheet.xlsx", "nullXml.xlsx", "emptyXml.xlsx")
+                .forEach(fileName -> FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + fileName));
     }
 
     @Test
@@ -126,4 +136,222 @@ public class OfficeTest extends BaseTest {
                                     this.logger.info("Office_Excel_Rows_Count", sheetName, rowsData.size()));
                 });
     }
+
+    @Test
+    @Order(80)
+    public void streamRows() throws Exception {
+        String filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "stream.xlsx";
+        FileUtils.removeFile(filePath);
+        Date currentDate = new Date();
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(filePath)) {
+            SheetWriter sheetWriter = excelWriter.sheetWriter("Stream");
+            for (int i = 0; i < 1000; i++) {
+                sheetWriter.writeData(i, Arrays.asList("Row_" + i, (double) i, i % 2 == 0, currentDate));
+            }
+            excelWriter.write();
+        }
+        Assertions.assertEquals(1000, OfficeUtils.excelRowsCount(filePath, "Stream"));
+        final AtomicInteger rowCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+        Assertions.assertTrue(OfficeUtils.readExcel(filePath, "Stream", sheetRow -> {
+            int rowIndex = rowCount.getAndIncrement();
+            Assertions.assertEquals(rowIndex, sheetRow.getRowIndex());
+            Assertions.assertEquals("Row_" + rowIndex, sheetRow.cellValue(0).map(CellValue::getValue).orElse(null));
+            Assertions.assertEquals((double) rowIndex, sheetRow.cellValue(1).map(CellValue::numberValue).orElse(null));
+            Assertions.assertEquals(rowIndex % 2 == 0, sheetRow.cellValue(2).map(CellValue::booleanValue).orElse(null));
+            Assertions.assertNotNull(sheetRow.cellValue(3).map(CellValue::dateValue).orElse(null));
+        }));
+        Assertions.assertEquals(1000, rowCount.get());
+        try (ExcelReader excelReader = OfficeUtils.newReader(filePath);
+             Stream<SheetRow> rowStream = excelReader.stream("Stream")) {
+            Assertions.assertEquals(10, rowStream.limit(10).count());
+        }
+    }
+
+    @Test
+    @Order(90)
+    public void bulkWrite() throws Exception {
+        final int rowCount = 20000;
+        final Date currentDate = new Date();
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[]{"Row_" + i, (double) i, i % 2 == 0, currentDate});
+        }
+        String filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "writeData.xlsx";
+        long beginTime = System.nanoTime();
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(filePath)) {
+            SheetWriter sheetWriter = excelWriter.sheetWriter("Bulk");
+            for (int i = 0; i < rowCount; i++) {
+                sheetWriter.writeData(i, Arrays.asList(rows.get(i)));
+            }
+            excelWriter.write();
+        }
+        this.logRowsPerSecond("writeData", rowCount, beginTime);
+        Assertions.assertEquals(rowCount, OfficeUtils.excelRowsCount(filePath, "Bulk"));
+
+        filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "appendRows.xlsx";
+        beginTime = System.nanoTime();
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(filePath, 1000, Boolean.TRUE)) {
+            excelWriter.sheetWriter("Bulk").appendRows(rows);
+            excelWriter.write();
+        }
+        this.logRowsPerSecond("appendRows", rowCount, beginTime);
+        Assertions.assertEquals(rowCount, OfficeUtils.excelRowsCount(filePath, "Bulk"));
+
+        filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "xmlWriter.xlsx";
+        beginTime = System.nanoTime();
+        try (ExcelWriter excelWriter = OfficeUtils.newXmlWriter(filePath, Boolean.TRUE)) {
+            SheetWriter sheetWriter = excelWriter.sheetWriter("Bulk");
+            sheetWriter.appendRows(rows.subList(0, rowCount / 2));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> sheetWriter.writeData(0, Arrays.asList(rows.get(0))));
+            sheetWriter.appendRows(rows.subList(rowCount / 2, rowCount));
+            excelWriter.sheetWriter("Empty & <Blank>");
+            excelWriter.write();
+        }
+        this.logRowsPerSecond("xmlWriter", rowCount, beginTime);
+        Assertions.assertTrue(OfficeUtils.sheetExists(filePath, "Bulk", "Empty & <Blank>"));
+        Assertions.assertEquals(rowCount, OfficeUtils.excelRowsCount(filePath, "Bulk"));
+        final AtomicInteger readCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+        Assertions.assertTrue(OfficeUtils.readExcel(filePath, "Bulk", sheetRow -> {
+            int rowIndex = readCount.getAndIncrement();
+            Assertions.assertEquals(rowIndex, sheetRow.getRowIndex());
+            Assertions.assertEquals("Row_" + rowIndex, sheetRow.cellValue(0).map(CellValue::getValue).orElse(null));
+            Assertions.assertEquals((double) rowIndex, sheetRow.cellValue(1).map(CellValue::numberValue).orElse(null));
+            Assertions.assertEquals(rowIndex % 2 == 0, sheetRow.cellValue(2).map(CellValue::booleanValue).orElse(null));
+            Assertions.assertNotNull(sheetRow.cellValue(3).map(CellValue::dateValue).orElse(null));
+        }));
+        Assertions.assertEquals(rowCount, readCount.get());
+
+        List<Object[]> nullRows = Collections.singletonList(new Object[]{"First", null, "Last"});
+        String sheetPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "nullSheet.xlsx";
+        FileUtils.removeFile(sheetPath);
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(sheetPath)) {
+            excelWriter.sheetWriter("Null").appendRows(nullRows);
+            excelWriter.write();
+        }
+        String xmlPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "nullXml.xlsx";
+        FileUtils.removeFile(xmlPath);
+        try (ExcelWriter excelWriter = OfficeUtils.newXmlWriter(xmlPath, Boolean.TRUE)) {
+            excelWriter.sheetWriter("Null").appendRows(nullRows);
+            excelWriter.write();
+        }
+        Assertions.assertEquals(this.cellValues(sheetPath, "Null"), this.cellValues(xmlPath, "Null"));
+
+        String emptyPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "emptyXml.xlsx";
+        FileUtils.removeFile(emptyPath);
+        try (ExcelWriter excelWriter = OfficeUtils.newXmlWriter(emptyPath, Boolean.TRUE)) {
+            excelWriter.write();
+        }
+        Assertions.assertTrue(OfficeUtils.sheetExists(emptyPath, "Sheet1"));
+        Assertions.assertEquals(0, OfficeUtils.excelRowsCount(emptyPath, "Sheet1"));
+    }
+
+    private List<Object> cellValues(final String filePath, final String sheetName) {
+        List<Object> cellValues = new ArrayList<>();
+        Assertions.assertTrue(OfficeUtils.readExcel(filePath, sheetName, sheetRow -> {
+            for (int i = 0; i < 3; i++) {
+                cellValues.add(sheetRow.cellValue(i).map(CellValue::getValue).orElse(null));
+            }
+        }));
+        return cellValues;
+    }
+
+    @Test
+    @Order(100)
+    public void parallelRead() throws Exception {
+        final int sheetCount = 8;
+        final int rowCount = 5000;
+        String filePath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "multiSheet.xlsx";
+        try (ExcelWriter excelWriter = OfficeUtils.newWriter(filePath)) {
+            for (int i = 0; i < sheetCount; i++) {
+                SheetWriter sheetWriter = excelWriter.sheetWriter("Sheet_" + i);
+                for (int j = 0; j < rowCount; j++) {
+                    sheetWriter.writeData(j, Arrays.asList("Row_" + (j % 100), (double) j, j % 2 == 0));
+                }
+            }
+            excelWriter.write();
+        }
+
+        Map<String, Long> sequentialResult = new ConcurrentHashMap<>();
+        long beginTime = System.nanoTime();
+        for (int i = 0; i < sheetCount; i++) {
+            String sheetName = "Sheet_" + i;
+            Assertions.assertTrue(OfficeUtils.readExcel(filePath, sheetName,
+                    this.checksumHandler(sheetName, sequentialResult)));
+        }
+        long sequentialTime = (System.nanoTime() - beginTime) / 1_000_000L;
+
+        final int parallelism = 4;
+        Map<String, Long> parallelResult = new ConcurrentHashMap<>();
+        Map<String, RowHandler> rowHandlers = new HashMap<>();
+        for (int i = 0; i < sheetCount; i++) {
+            String sheetName = "Sheet_" + i;
+            rowHandlers.put(sheetName, this.checksumHandler(sheetName, parallelResult));
+        }
+        beginTime = System.nanoTime();
+        Assertions.assertTrue(OfficeUtils.readExcel(filePath, rowHandlers, parallelism));
+        long parallelTime = (System.nanoTime() - beginTime) / 1_000_000L;
+
+        Assertions.assertEquals(sheetCount, parallelResult.size());
+        Assertions.assertEquals(sequentialResult, parallelResult);
+        this.logger.info("Office_Parallel_Read_Cost", sheetCount, rowCount, sequentialTime,
+                parallelism, parallelTime);
+
+        try (ExcelReader excelReader = OfficeUtils.newReader(filePath)) {
+            Map<String, RowHandler> failedHandlers = new HashMap<>();
+            failedHandlers.put("Sheet_0", sheetRow -> {
+                throw new IllegalArgumentException("Row " + sheetRow.getRowIndex());
+            });
+            final AtomicInteger runningCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+            final AtomicInteger handledCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+            failedHandlers.put("Sheet_1", sheetRow -> {
+                runningCount.incrementAndGet();
+                handledCount.incrementAndGet();
+                runningCount.decrementAndGet();
+            });
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> excelReader.stream(failedHandlers, parallelism));
+            int handledRows = handledCount.get();
+            Assertions.assertEquals(0, runningCount.get());
+            Thread.sleep(100L);
+            Assertions.assertEquals(handledRows, handledCount.get());
+            Assertions.assertEquals(rowCount, excelReader.read("Sheet_1").size());
+
+            Map<String, RowHandler> orderedHandlers = new LinkedHashMap<>();
+            final AtomicInteger slowCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+            orderedHandlers.put("Sheet_2", sheetRow -> {
+                slowCount.incrementAndGet();
+                try {
+                    Thread.sleep(1L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            orderedHandlers.put("Sheet_3", sheetRow -> {
+                throw new IllegalArgumentException("Row " + sheetRow.getRowIndex());
+            });
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> excelReader.stream(orderedHandlers, parallelism));
+            Assertions.assertTrue(slowCount.get() < rowCount);
+        }
+    }
+
+    private RowHandler checksumHandler(final String sheetName, final Map<String, Long> resultMap) {
+        final AtomicInteger rowIndex = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+        return sheetRow -> {
+            int currentIndex = rowIndex.getAndIncrement();
+            Assertions.assertEquals(currentIndex, sheetRow.getRowIndex());
+            Assertions.assertEquals("Row_" + (currentIndex % 100),
+                    sheetRow.cellValue(0).map(CellValue::getValue).orElse(null));
+            long checksum = sheetRow.cellValue(0).map(CellValue::getValue).map(Object::hashCode).orElse(0)
+                    + sheetRow.cellValue(1).map(CellValue::numberValue).map(Number::longValue).orElse(0L);
+            resultMap.merge(sheetName, checksum, Long::sum);
+        };
+    }
+
+    private void logRowsPerSecond(final String writerName, final int rowCount, final long beginTime) {
+        long usedTime = Math.max(System.nanoTime() - beginTime, 1L);
+        this.logger.info("Office_Write_Rows_Per_Second", writerName, rowCount, usedTime / 1_000_000L,
+                rowCount * 1_000_000_000L / usedTime);
+    }
 }
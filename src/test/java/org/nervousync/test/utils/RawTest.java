@@ -7,7 +7,9 @@ import org.nervousync.utils.ConvertUtils;
 import org.nervousync.utils.RawUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 
 public class RawTest extends BaseTest {
 
@@ -151,4 +153,101 @@ public class RawTest extends BaseTest {
         RawUtils.writeString(this.dataBytes, randomString);
         Assertions.assertEquals(RawUtils.readString(this.dataBytes), randomString);
     }
+
+    @Test
+    @Order(150)
+    public void testCursor() {
+        RawUtils.Writer writer = RawUtils.writer(ByteOrder.LITTLE_ENDIAN);
+        writer.writeInt(0x04034b50).writeShort(0xFFFE).writeLong(Long.MIN_VALUE).writeBoolean(Boolean.TRUE)
+                .writeBytes("Nervousync".getBytes(StandardCharsets.UTF_8));
+        writer.order(ByteOrder.BIG_ENDIAN).writeInt(Integer.MIN_VALUE);
+        Assertions.assertEquals(29, writer.size());
+
+        byte[] dataBytes = writer.toByteArray();
+        RawUtils.Reader reader = RawUtils.reader(dataBytes, ByteOrder.LITTLE_ENDIAN);
+        Assertions.assertEquals(0x04034b50, reader.readInt());
+        Assertions.assertEquals(0xFFFE, reader.readUnsignedShort());
+        Assertions.assertEquals(Long.MIN_VALUE, reader.readLong());
+        Assertions.assertTrue(reader.readBoolean());
+        Assertions.assertEquals("Nervousync", reader.readString(10, StandardCharsets.UTF_8));
+        Assertions.assertEquals(Integer.toUnsignedLong(Integer.MIN_VALUE), reader.order(ByteOrder.BIG_ENDIAN).readUnsignedInt());
+        Assertions.assertEquals(0, reader.remaining());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, reader::readByte);
+
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(dataBytes.length).order(ByteOrder.LITTLE_ENDIAN);
+        byteBuffer.put(dataBytes).flip();
+        Assertions.assertEquals(0x04034b50, RawUtils.reader(byteBuffer).readInt());
+        Assertions.assertEquals(0, byteBuffer.position());
+
+        RawUtils.Writer fixedWriter = RawUtils.writer(new byte[4], ByteOrder.BIG_ENDIAN);
+        fixedWriter.writeInt(1);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fixedWriter.writeByte(1));
+    }
+
+    @Test
+    @Order(151)
+    public void testVarInt() {
+        long[] values = {0L, 1L, -1L, 63L, -64L, 127L, 128L, 300L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Long.MAX_VALUE, Long.MIN_VALUE};
+        RawUtils.Writer writer = RawUtils.writer();
+        for (long value : values) {
+            writer.writeZigZagLong(value).writeVarLong(value);
+        }
+        writer.writeZigZagInt(-2).writeVarInt(Integer.MIN_VALUE);
+        RawUtils.Reader reader = RawUtils.reader(writer.toByteArray());
+        for (long value : values) {
+            Assertions.assertEquals(value, reader.readZigZagLong());
+            Assertions.assertEquals(value, reader.readVarLong());
+        }
+        Assertions.assertEquals(-2, reader.readZigZagInt());
+        Assertions.assertEquals(Integer.MIN_VALUE, reader.readVarInt());
+        Assertions.assertEquals(0, reader.remaining());
+
+        Assertions.assertEquals(1, RawUtils.varIntLength(127L));
+        Assertions.assertEquals(2, RawUtils.varIntLength(128L));
+        Assertions.assertEquals(10, RawUtils.varIntLength(-1L));
+        Assertions.assertEquals(1, RawUtils.encodeZigZag(-1));
+        Assertions.assertEquals(Long.MIN_VALUE, RawUtils.decodeZigZag(RawUtils.encodeZigZag(Long.MIN_VALUE)));
+
+        byte[] malformed = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RawUtils.reader(malformed).readVarLong());
+        //  Length was checked before allocating
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> RawUtils.reader(new byte[4]).readBytes(Integer.MAX_VALUE - 16));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> RawUtils.reader(new byte[4]).readBytes(5));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> RawUtils.reader(new byte[4]).readBytes(-1));
+    }
+
+    @Test
+    @Order(152)
+    public void testCursorCost() throws DataInvalidException {
+        int fieldCount = 1 << 20;
+        byte[] dataBytes = new byte[fieldCount * Long.BYTES];
+        long checksum = 0L;
+        long utilsTime = Long.MAX_VALUE, cursorTime = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long beginTime = System.nanoTime();
+            for (int i = 0; i < fieldCount; i++) {
+                RawUtils.writeLong(dataBytes, i * Long.BYTES, ByteOrder.LITTLE_ENDIAN, i);
+            }
+            for (int i = 0; i < fieldCount; i++) {
+                checksum += RawUtils.readLong(dataBytes, i * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+            }
+            utilsTime = Math.min(utilsTime, System.nanoTime() - beginTime);
+
+            beginTime = System.nanoTime();
+            RawUtils.Writer writer = RawUtils.writer(dataBytes, ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < fieldCount; i++) {
+                writer.writeLong(i);
+            }
+            RawUtils.Reader reader = RawUtils.reader(dataBytes, ByteOrder.LITTLE_ENDIAN);
+            while (reader.remaining() > 0) {
+                checksum -= reader.readLong();
+            }
+            cursorTime = Math.min(cursorTime, System.nanoTime() - beginTime);
+        }
+        Assertions.assertEquals(0L, checksum);
+        this.logger.info("Raw_Cursor_Cost", fieldCount, utilsTime / 1_000_000L, cursorTime / 1_000_000L);
+    }
 }
@@ -0,0 +1,95 @@
+package org.nervousync.test.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.commons.RegexGlobals;
+import org.nervousync.test.BaseTest;
+import org.nervousync.utils.IPUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.util.Random;
+import java.util.UUID;
+
+public final class RegexTest extends BaseTest {
+
+    private static final String[] IPV4_ADDRESSES = {
+            "0.0.0.0", "127.0.0.1", "255.255.255.255", "192.168.1.10", "256.1.1.1", "1.1.1", "1.1.1.1.1",
+            "01.1.1.1", "1..1.1", ".1.1.1", "1.1.1.1.", "a.b.c.d", "10.0.0.00", "300.300.300.300", "1.2.3.-4"
+    };
+
+    @Test
+    @Order(10)
+    public void validators() {
+        for (String ipAddress : IPV4_ADDRESSES) {
+            Assertions.assertEquals(ipAddress.matches(RegexGlobals.IPV4_REGEX), IPUtils.isIPv4Address(ipAddress),
+                    ipAddress);
+        }
+        Random random = new Random();
+        for (int i = 0; i < 10_000; i++) {
+            String ipAddress = random.nextInt(300) + "." + random.nextInt(300) + "."
+                    + random.nextInt(300) + "." + random.nextInt(300);
+            Assertions.assertEquals(ipAddress.matches(RegexGlobals.IPV4_REGEX), IPUtils.isIPv4Address(ipAddress));
+
+            String uuid = UUID.randomUUID().toString();
+            Assertions.assertTrue(StringUtils.isUUID(uuid));
+            Assertions.assertTrue(StringUtils.isUUID(uuid.toUpperCase().replace("-", "")));
+            String invalid = uuid.substring(0, 35) + "g";
+            Assertions.assertEquals(invalid.matches(RegexGlobals.UUID), StringUtils.isUUID(invalid));
+            Assertions.assertTrue(StringUtils.isMD5(uuid.replace("-", "")));
+            Assertions.assertFalse(StringUtils.isMD5(uuid));
+
+            String code = Long.toString(random.nextLong() & Long.MAX_VALUE);
+            int sum = 0;
+            for (int j = 0; j < code.length(); j++) {
+                int digit = code.charAt(code.length() - j - 1) - '0';
+                sum += (j % 2 == 1) ? (digit * 2 > 9 ? digit * 2 - 9 : digit * 2) : digit;
+            }
+            Assertions.assertEquals(sum % 10 == 0, StringUtils.isLuhn(code));
+        }
+        Assertions.assertTrue(StringUtils.isLuhn("79927398713"));
+        Assertions.assertFalse(StringUtils.isLuhn("7992739871a"));
+        Assertions.assertTrue(StringUtils.isEMail("test@nervousync.org"));
+        Assertions.assertTrue(StringUtils.isPhoneNumber("+8613800138000"));
+    }
+
+    @Test
+    @Order(20)
+    public void patternCache() {
+        Assertions.assertSame(StringUtils.compilePattern("^/user/(\\d+)$"),
+                StringUtils.compilePattern("^/user/(\\d+)$"));
+        Assertions.assertEquals("/profile?id=10",
+                StringUtils.replaceWithRegex("/user/10", "^/user/(\\d+)$", "/profile?id=$1"));
+        Assertions.assertNull(StringUtils.replaceWithRegex("/user/abc", "^/user/(\\d+)$", "/profile?id=$1"));
+        for (int i = 0; i < 2048; i++) {
+            Assertions.assertTrue(StringUtils.matches("value" + i, "^value" + i + "$"));
+        }
+        Assertions.assertTrue(StringUtils.matches("/user/10", "^/user/(\\d+)$"));
+    }
+
+    @Test
+    @Order(30)
+    public void performance() {
+        final int loopCount = 200_000;
+        long validatorTime = Long.MAX_VALUE, regexTime = Long.MAX_VALUE;
+        int matchCount = 0;
+        for (int round = 0; round < 3; round++) {
+            long beginTime = System.nanoTime();
+            for (int i = 0; i < loopCount; i++) {
+                if (IPUtils.isIPv4Address(IPV4_ADDRESSES[i % IPV4_ADDRESSES.length])) {
+                    matchCount++;
+                }
+            }
+            validatorTime = Math.min(validatorTime, System.nanoTime() - beginTime);
+            beginTime = System.nanoTime();
+            for (int i = 0; i < loopCount; i++) {
+                if (IPV4_ADDRESSES[i % IPV4_ADDRESSES.length].matches(RegexGlobals.IPV4_REGEX)) {
+                    matchCount--;
+                }
+            }
+            regexTime = Math.min(regexTime, System.nanoTime() - beginTime);
+        }
+        Assertions.assertEquals(0, matchCount);
+        this.logger.info("Regex_Validate_Cost", validatorTime / loopCount, regexTime / loopCount);
+    }
+}
@@ -1,5 +1,6 @@
 package org.nervousync.test.utils;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.beans.snmp.SNMPData;
@@ -11,15 +12,31 @@ import org.nervousync.utils.DateTimeUtils;
 import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.SNMPUtils;
 import org.nervousync.utils.StringUtils;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
 import org.snmp4j.PDU;
-import org.snmp4j.smi.OID;
-import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.*;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class SNMPTest extends BaseTest {
 
+	private static final int HOST_COUNT = 200;
+	private static final int SYNC_THREADS = 8;
+	private static final long AGENT_LATENCY = 50L;
+	private static final long POLLING_TIME = 3000L;
+	private static final OID SYS_DESCR = new OID(".1.3.6.1.2.1.1.1.0");
+	private static final OID SYS_OBJECT_ID = new OID(".1.3.6.1.2.1.1.2.0");
+
 	@Test
     @Order(0)
 	public void initialize() {
@@ -62,6 +79,165 @@ public final class SNMPTest extends BaseTest {
 		SNMPUtils.destroy();
 	}
 
+	@Test
+	@Order(40)
+	public void pollingCost() throws IOException, InterruptedException {
+		try (LocalAgent localAgent = new LocalAgent()) {
+			CountOperator syncOperator = new CountOperator();
+			long syncCost = this.polling(localAgent.port, Boolean.FALSE, syncOperator);
+			CountOperator asyncOperator = new CountOperator();
+			long asyncCost = this.polling(localAgent.port, Boolean.TRUE, asyncOperator);
+			Assertions.assertTrue(asyncOperator.dataCount.get() >= HOST_COUNT);
+			Assertions.assertTrue(asyncOperator.batchCount.get() < asyncOperator.dataCount.get());
+			Assertions.assertEquals(2 + 4 * 10, asyncOperator.lastSize.get());
+			this.logger.info("SNMP_Polling_Cost", HOST_COUNT, AGENT_LATENCY,
+					syncOperator.dataCount.get() * 1000L / syncCost, SYNC_THREADS,
+					asyncOperator.dataCount.get() * 1000L / asyncCost, asyncOperator.batchCount.get());
+		}
+	}
+
+	@Test
+	@Order(50)
+	public void instanceGetNext() throws IOException, InterruptedException {
+		try (LocalAgent localAgent = new LocalAgent()) {
+			Set<String> syncKeys = this.getNext(localAgent.port, Boolean.FALSE);
+			Set<String> asyncKeys = this.getNext(localAgent.port, Boolean.TRUE);
+			Assertions.assertEquals(Collections.singleton(SYS_OBJECT_ID.toString()), syncKeys);
+			Assertions.assertEquals(syncKeys, asyncKeys);
+		}
+	}
+
+	private Set<String> getNext(final int port, final boolean asyncMode)
+			throws IOException, InterruptedException {
+		SNMPUtils.initialize(1, 1000L, asyncMode);
+		PDU walkPDU = new PDU();
+		walkPDU.setType(PDU.GETNEXT);
+		walkPDU.addOID(new VariableBinding(SYS_DESCR));
+		Set<String> dataKeys = Collections.synchronizedSet(new HashSet<>());
+		Assertions.assertTrue(SNMPUtils.getInstance().addMonitor(StringUtils.randomString(16),
+				TargetHost.local(IPProtocol.UDP, "public", port, 0, 1000L), snmpData -> {
+					Iterator<Map.Entry<String, String>> iterator = snmpData.iterator();
+					while (iterator.hasNext()) {
+						dataKeys.add(iterator.next().getKey());
+					}
+				}, walkPDU));
+		Thread.sleep(2000L);
+		SNMPUtils.destroy();
+		return dataKeys;
+	}
+
+	private long polling(final int port, final boolean asyncMode, final CountOperator countOperator)
+			throws IOException, InterruptedException {
+		SNMPUtils.initialize(asyncMode ? HOST_COUNT : SYNC_THREADS, 1000L, asyncMode);
+		PDU getPDU = new PDU();
+		getPDU.setType(PDU.GET);
+		getPDU.addOID(new VariableBinding(new OID(".1.3.6.1.2.1.1.1.0")));
+		getPDU.addOID(new VariableBinding(new OID(".1.3.6.1.2.1.1.5.0")));
+		PDU walkPDU = new PDU();
+		walkPDU.setType(PDU.GETNEXT);
+		walkPDU.addOID(new VariableBinding(new OID(".1.3.6.1.2.1.25.4.2.1.2")));
+		walkPDU.addOID(new VariableBinding(new OID(".1.3.6.1.2.1.2.2.1.3")));
+		walkPDU.addOID(new VariableBinding(new OID(".1.3.6.1.2.1.25.3.3.1.2")));
+		walkPDU.addOID(new VariableBinding(new OID(".1.3.6.1.4.1.2021.9.1.6")));
+		long beginTime = System.currentTimeMillis();
+		for (int i = 0; i < HOST_COUNT; i++) {
+			Assertions.assertTrue(SNMPUtils.getInstance().addMonitor(StringUtils.randomString(16),
+					TargetHost.local(IPProtocol.UDP, "public", port, 0, 1000L), countOperator, getPDU, walkPDU));
+		}
+		Thread.sleep(POLLING_TIME);
+		SNMPUtils.destroy();
+		return System.currentTimeMillis() - beginTime;
+	}
+
+	private static final class CountOperator implements SNMPDataOperator {
+
+		private final AtomicInteger dataCount = new AtomicInteger(0);
+		private final AtomicInteger batchCount = new AtomicInteger(0);
+		private final AtomicInteger lastSize = new AtomicInteger(0);
+
+		@Override
+		public void operateData(SNMPData snmpData) {
+			int size = 0;
+			Iterator<Map.Entry<String, String>> iterator = snmpData.iterator();
+			while (iterator.hasNext()) {
+				iterator.next();
+				size++;
+			}
+			this.lastSize.set(size);
+			this.dataCount.incrementAndGet();
+		}
+
+		@Override
+		public void operateBatch(List<SNMPData> dataList) {
+			this.batchCount.incrementAndGet();
+			SNMPDataOperator.super.operateBatch(dataList);
+		}
+	}
+
+	private static final class LocalAgent implements CommandResponder, AutoCloseable {
+
+		private final Snmp snmp;
+		private final int port;
+		private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+
+		LocalAgent() throws IOException {
+			DefaultUdpTransportMapping transportMapping = new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/0"));
+			this.snmp = new Snmp(transportMapping);
+			this.snmp.addCommandResponder(this);
+			this.snmp.listen();
+			this.port = transportMapping.getListenAddress().getPort();
+		}
+
+		@Override
+		public <A extends Address> void processPdu(CommandResponderEvent<A> event) {
+			PDU request = event.getPDU();
+			if (request == null) {
+				return;
+			}
+			event.setProcessed(Boolean.TRUE);
+			PDU response = new PDU();
+			response.setType(PDU.RESPONSE);
+			response.setRequestID(request.getRequestID());
+			if (request.getType() == PDU.GETBULK) {
+				for (int i = 1; i <= request.getMaxRepetitions(); i++) {
+					for (VariableBinding variableBinding : request.getVariableBindings()) {
+						response.add(new VariableBinding(next(variableBinding.getOid(), i), new Integer32(i)));
+					}
+				}
+			} else if (request.getType() == PDU.GETNEXT) {
+				request.getVariableBindings().forEach(variableBinding ->
+						response.add(new VariableBinding(next(variableBinding.getOid(), 1), new Integer32(1))));
+			} else {
+				request.getVariableBindings().forEach(variableBinding ->
+						response.add(new VariableBinding(variableBinding.getOid(), new OctetString("Value"))));
+			}
+			this.executorService.schedule(() -> {
+				try {
+					event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(),
+							event.getSecurityModel(), event.getSecurityName(), event.getSecurityLevel(), response,
+							event.getMaxSizeResponsePDU(), event.getStateReference(), new StatusInformation());
+				} catch (MessageException ignored) {
+				}
+			}, AGENT_LATENCY, TimeUnit.MILLISECONDS);
+		}
+
+		private static OID next(final OID oid, final int repetition) {
+			if (SYS_DESCR.equals(oid)) {
+				//  Next OID of an instance OID is outside its subtree
+				return new OID(".1.3.6.1.2.1.1." + (repetition + 1) + ".0");
+			}
+			OID nextOID = new OID(oid);
+			nextOID.append(repetition);
+			return nextOID;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.executorService.shutdownNow();
+			this.snmp.close();
+		}
+	}
+
 	private static final class OutputOperator implements SNMPDataOperator {
 
 		private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());